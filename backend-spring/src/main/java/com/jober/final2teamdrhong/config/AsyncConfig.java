@@ -1,18 +1,25 @@
 package com.jober.final2teamdrhong.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.concurrent.Executor;
 
 @Configuration
 @EnableAsync
 @Slf4j
-public class AsyncConfig implements AsyncConfigurer {
+public class AsyncConfig implements AsyncConfigurer, WebMvcConfigurer {
+
+    // CSV 내보내기 등 스트리밍 응답의 비동기 요청 타임아웃 (밀리초, 0 이하이면 제한 없음)
+    @Value("${streaming-response.request-timeout-ms:1800000}")
+    private long streamingRequestTimeoutMs;
 
     /**
      * @Async 메서드에서 사용할 기본 Executor 설정
@@ -29,6 +36,14 @@ public class AsyncConfig implements AsyncConfigurer {
         return new DelegatingSecurityContextAsyncTaskExecutor(executor);
     }
 
+    /**
+     * 스트리밍 응답은 spring.mvc.async.request-timeout 대신 전용 타임아웃을 사용하도록 인터셉터 등록
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new StreamingResponseTimeoutInterceptor(streamingRequestTimeoutMs));
+    }
+
     /**
      * 비동기 실행 중 발생한 예외를 처리할 핸들러
      */
@@ -42,6 +42,11 @@ public class AuthProperties {
      */
     private OAuth2 oauth2 = new OAuth2();
 
+    /**
+     * 인증 코드 생성 설정
+     */
+    private VerificationCode verificationCode = new VerificationCode();
+
     @Getter
     @Setter
     public static class Security {
@@ -186,4 +191,18 @@ public class AuthProperties {
          */
         private String tempKeyPrefix = "oauth2_temp:";
     }
-}
\ No newline at end of file
+
+    @Getter
+    @Setter
+    public static class VerificationCode {
+        /**
+         * 인증 코드 길이 - 요청 DTO의 검증 규칙(6자리 숫자)과 일치해야 함
+         */
+        private int length = 6;
+
+        /**
+         * 인증 코드에 사용할 문자 집합
+         */
+        private String alphabet = "0123456789";
+    }
+}
@@ -1,20 +1,32 @@
 package com.jober.final2teamdrhong.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateResponse;
+import com.jober.final2teamdrhong.service.catalogue.PublicTemplateCatalogueCache;
+import com.jober.final2teamdrhong.service.catalogue.PublicTemplateCataloguePage;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Map;
 
 /**
  * 캐시 설정
@@ -24,15 +36,18 @@ import java.time.Duration;
  */
 @Configuration
 @EnableCaching
-public class CacheConfig {
+public class CacheConfig implements CachingConfigurer {
 
     /**
      * Redis 캐시 매니저 (Redis 연결 가능 시)
+     * 공용 템플릿 카탈로그 캐시는 별도 TTL을 사용하고, Java 시간 타입을 포함하므로 애플리케이션 ObjectMapper로 직렬화한다.
      */
     @Bean
     @Primary
     @ConditionalOnMissingBean(name = "fallbackCacheManager")
-    public CacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public CacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory,
+                                          ObjectMapper objectMapper,
+                                          @Value("${public-template.catalogue.cache.ttl-seconds:300}") long catalogueTtlSeconds) {
         RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(30)) // 30분 TTL
                 .serializeKeysWith(RedisSerializationContext.SerializationPair
@@ -40,8 +55,20 @@ public class CacheConfig {
                 .serializeValuesWith(RedisSerializationContext.SerializationPair
                         .fromSerializer(new GenericJackson2JsonRedisSerializer()));
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        Duration catalogueTtl = Duration.ofSeconds(catalogueTtlSeconds);
+        Map<String, RedisCacheConfiguration> catalogueConfigurations = Map.of(
+                PublicTemplateCatalogueCache.PAGE_CACHE, cacheConfiguration.entryTtl(catalogueTtl)
+                        .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                                new Jackson2JsonRedisSerializer<>(objectMapper, PublicTemplateCataloguePage.class))),
+                PublicTemplateCatalogueCache.DETAIL_CACHE, cacheConfiguration.entryTtl(catalogueTtl)
+                        .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                                new Jackson2JsonRedisSerializer<>(objectMapper, PublicTemplateResponse.class))));
+
+        // 전체 비우기(allEntries)가 KEYS 대신 SCAN으로 키를 찾도록 설정
+        return RedisCacheManager.builder(RedisCacheWriter.nonLockingRedisCacheWriter(
+                        redisConnectionFactory, BatchStrategies.scan(1000)))
                 .cacheDefaults(cacheConfiguration)
+                .withInitialCacheConfigurations(catalogueConfigurations)
                 .transactionAware()
                 .build();
     }
@@ -52,6 +79,15 @@ public class CacheConfig {
     @Bean
     @ConditionalOnMissingBean(RedisConnectionFactory.class)
     public CacheManager fallbackCacheManager() {
-        return new ConcurrentMapCacheManager("userInfo");
+        return new ConcurrentMapCacheManager(
+                "userInfo", PublicTemplateCatalogueCache.PAGE_CACHE, PublicTemplateCatalogueCache.DETAIL_CACHE);
+    }
+
+    /**
+     * 캐시 조회/저장 실패(Redis 장애 등)는 로그만 남기고 캐시 없이 처리한다.
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler();
     }
-}
\ No newline at end of file
+}
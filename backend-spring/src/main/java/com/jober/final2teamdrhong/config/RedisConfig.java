@@ -1,5 +1,6 @@
 package com.jober.final2teamdrhong.config;
 
+import com.jober.final2teamdrhong.service.validator.WorkspaceAccessCache;
 import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
 import io.lettuce.core.RedisClient;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +16,8 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -58,6 +61,19 @@ public class RedisConfig {
         return redisTemplate;
     }
     
+    /**
+     * 인스턴스 간 캐시 무효화 메시지 구독
+     * 워크스페이스 변경이 커밋된 인스턴스가 발행하면 모든 인스턴스의 워크스페이스 접근 캐시에서 소유자의 항목을 제거한다.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                        WorkspaceAccessCache workspaceAccessCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(workspaceAccessCache, new ChannelTopic(WorkspaceAccessCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+    
     @Bean
     public LettuceBasedProxyManager<byte[]> lettuceBasedProxyManager() {
         try {
@@ -0,0 +1,13 @@
+package com.jober.final2teamdrhong.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화 설정
+ * (공용 템플릿 카운터 주기 반영 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
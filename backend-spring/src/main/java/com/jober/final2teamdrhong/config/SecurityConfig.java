@@ -1,6 +1,7 @@
 package com.jober.final2teamdrhong.config;
 
 import com.jober.final2teamdrhong.filter.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -162,6 +163,8 @@ public class SecurityConfig implements WebMvcConfigurer {
                     });
                 })
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(CompletableFuture)의 재디스패치는 최초 요청에서 이미 인가되었으므로 허용
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(PERMIT_ALL_URLS).permitAll() // 인증 없이 접근 가능한 공개 엔드포인트들
                         .requestMatchers("/admin/**").hasRole("ADMIN") // 관리자 권한 필요
                         .anyRequest().authenticated() // 나머지 API는 인증된 사용자만 접근 가능
@@ -0,0 +1,48 @@
+package com.jober.final2teamdrhong.config;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 스트리밍 응답({@link StreamingResponseBody})의 비동기 요청 타임아웃을 따로 지정하는 인터셉터
+ * - {@code spring.mvc.async.request-timeout}은 결과를 기다리는 API(CompletableFuture 등) 기준이라,
+ *   수십만 행을 내보내는 CSV 스트리밍은 그 시간 안에 끝나지 않으면 중간에 잘린다
+ * - 핸들러의 반환 타입이 {@code StreamingResponseBody} 또는 {@code ResponseEntity<StreamingResponseBody>}이면
+ *   스트리밍을 시작하기 전에 타임아웃을 내보내기 전용 값으로 바꾼다 (0 이하이면 제한 없음)
+ */
+public class StreamingResponseTimeoutInterceptor implements CallableProcessingInterceptor {
+
+    private final long timeoutMs;
+
+    public StreamingResponseTimeoutInterceptor(long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request instanceof AsyncWebRequest asyncWebRequest && isStreamingHandler(request)) {
+            asyncWebRequest.setTimeout(timeoutMs);
+        }
+    }
+
+    private static boolean isStreamingHandler(NativeWebRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return false;
+        }
+        ResolvableType returnType = ResolvableType.forMethodReturnType(handlerMethod.getMethod());
+        Class<?> bodyType = ResponseEntity.class.isAssignableFrom(returnType.toClass())
+                ? returnType.getGeneric(0).toClass()
+                : returnType.toClass();
+        return StreamingResponseBody.class.isAssignableFrom(bodyType);
+    }
+}
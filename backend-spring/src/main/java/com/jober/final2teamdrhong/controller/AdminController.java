@@ -3,11 +3,13 @@ package com.jober.final2teamdrhong.controller;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.jober.final2teamdrhong.service.PublicTemplateService;
+import com.jober.final2teamdrhong.service.validator.WorkspaceAccessCache;
 import com.jober.final2teamdrhong.exception.ErrorResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,7 +24,7 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * 관리자용 컨트롤러.
- * ADMIN 권한을 가진 사용자만 접근 가능하며, 현재는 공용 템플릿 삭제 기능을 제공한다.
+ * ADMIN 권한을 가진 사용자만 접근 가능하며, 공용 템플릿 삭제와 워크스페이스 접근 캐시 통계 조회 기능을 제공한다.
  */
 @RestController
 @RequestMapping("/admin")
@@ -31,6 +33,7 @@ import lombok.RequiredArgsConstructor;
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminController {
     private final PublicTemplateService publicTemplateService;
+    private final WorkspaceAccessCache workspaceAccessCache;
 
     /**
      * ADMIN 권한을 가진 사용자만 공용 템플릿을 삭제할 수 있습니다.
@@ -87,4 +90,31 @@ public class AdminController {
         publicTemplateService.deletePublicTemplate(publicTemplateId);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 워크스페이스 접근 캐시의 적중/미스 횟수와 적중률을 조회합니다.
+     * 값은 인스턴스별이며 애플리케이션 기동 이후 누적값입니다.
+     *
+     * @return 200 OK와 캐시 통계
+     */
+    @Operation(
+            summary = "워크스페이스 접근 캐시 통계 조회",
+            description = "이 인스턴스의 워크스페이스 접근 캐시 적중/미스 횟수, 적중률, 캐시된 사용자 수를 조회합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "권한 부족 - ADMIN 권한이 없음",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/workspace-access-cache/stats")
+    public ResponseEntity<WorkspaceAccessCache.Stats> getWorkspaceAccessCacheStats() {
+        return ResponseEntity.ok(workspaceAccessCache.stats());
+    }
+}
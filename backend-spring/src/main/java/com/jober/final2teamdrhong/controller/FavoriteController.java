@@ -2,6 +2,7 @@ package com.jober.final2teamdrhong.controller;
 
 import com.jober.final2teamdrhong.dto.favorite.FavoritePageRequest;
 import com.jober.final2teamdrhong.dto.favorite.FavoriteResponse;
+import com.jober.final2teamdrhong.dto.favorite.FavoriteSummaryResponse;
 import com.jober.final2teamdrhong.dto.favorite.IndividualTemplateFavoriteRequest;
 import com.jober.final2teamdrhong.dto.favorite.PublicTemplateFavoriteRequest;
 import com.jober.final2teamdrhong.dto.jwtClaims.JwtClaims;
@@ -90,13 +91,13 @@ public class FavoriteController {
                             schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/workspace/{workspaceId}/favorites")
-    public ResponseEntity<Page<FavoriteResponse>> getFavoritesByWorkspace(
+    public ResponseEntity<Page<FavoriteSummaryResponse>> getFavoritesByWorkspace(
             @AuthenticationPrincipal JwtClaims jwtClaims,
             @PathVariable("workspaceId") Integer workspaceId,
             @RequestParam(value = "templateType", required = false) TemplateType templateType,
             @Valid @ModelAttribute FavoritePageRequest favoritePageRequest) {
         Integer userId = jwtClaims.getUserId();
-        Page<FavoriteResponse> favorites = favoriteService.getFavoritesByWorkspace(workspaceId, templateType, favoritePageRequest, userId);
+        Page<FavoriteSummaryResponse> favorites = favoriteService.getFavoritesByWorkspace(workspaceId, templateType, favoritePageRequest, userId);
         return ResponseEntity.ok(favorites);
     }
 
@@ -1,7 +1,9 @@
 package com.jober.final2teamdrhong.controller;
 
+import com.jober.final2teamdrhong.dto.common.CursorPageResponse;
 import com.jober.final2teamdrhong.dto.individualtemplate.*;
 import com.jober.final2teamdrhong.dto.jwtClaims.JwtClaims;
+import com.jober.final2teamdrhong.service.IndividualTemplateDetailService;
 import com.jober.final2teamdrhong.service.IndividualTemplateService;
 import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,8 +21,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -30,6 +31,7 @@ import java.util.List;
 public class IndividualTemplateController {
 
     private final IndividualTemplateService individualTemplateService;
+    private final IndividualTemplateDetailService individualTemplateDetailService;
     private final WorkspaceValidator workspaceValidator;
 
     /**
@@ -60,6 +62,7 @@ public class IndividualTemplateController {
 
     /**
      * 비동기 빈 템플릿 생성 API
+     * 서블릿 스레드는 CompletableFuture를 반환하고 바로 반납되며, 생성이 끝나면 응답이 전송됩니다.
      */
     @PostMapping("/templates/{workspaceId}/async")
     @Operation(
@@ -68,11 +71,11 @@ public class IndividualTemplateController {
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "202", description = "요청 접수됨"),
+            @ApiResponse(responseCode = "200", description = "템플릿 생성 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
             @ApiResponse(responseCode = "500", description = "서버 오류 발생")
     })
-    public ResponseEntity<IndividualTemplateResponse> createEmptyTemplateAsync(
+    public CompletableFuture<ResponseEntity<IndividualTemplateResponse>> createEmptyTemplateAsync(
             @Parameter(description = "Workspace ID", example = "1")
             @PathVariable Integer workspaceId,
             @AuthenticationPrincipal JwtClaims claims) {
@@ -80,11 +83,8 @@ public class IndividualTemplateController {
         Integer userId = claims.getUserId();
         workspaceValidator.validateAndGetWorkspace(workspaceId,userId);
 
-        // 비동기 호출 (여기서는 join()으로 결과를 가져옴 → 403 안나옴)
-        IndividualTemplateResponse response =
-                individualTemplateService.createTemplateAsync(workspaceId, userId).join();
-
-        return ResponseEntity.status(200).body(response);
+        return individualTemplateService.createTemplateAsync(workspaceId, userId)
+                .thenApply(ResponseEntity::ok);
     }
 
     /**
@@ -127,12 +127,12 @@ public class IndividualTemplateController {
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "202", description = "요청 접수됨"),
+            @ApiResponse(responseCode = "200", description = "개인 템플릿 생성 성공"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
             @ApiResponse(responseCode = "403", description = "워크스페이스 접근 권한 없음"),
             @ApiResponse(responseCode = "500", description = "서버 오류 발생")
     })
-    public ResponseEntity<IndividualTemplateResponse> createFromPublicTemplateAsync(
+    public CompletableFuture<ResponseEntity<IndividualTemplateResponse>> createFromPublicTemplateAsync(
             @Parameter(description = "공용 템플릿 ID", example = "5")
             @PathVariable Integer publicTemplateId,
             @Parameter(description = "개인 템플릿을 생성할 워크스페이스 ID", example = "1")
@@ -141,21 +141,19 @@ public class IndividualTemplateController {
     ) {
         Integer userId = claims.getUserId();
 
-        // 비동기 호출 후 join()으로 결과 가져오기 → 403 방지
-        IndividualTemplateResponse response =
-                individualTemplateService.createIndividualTemplateFromPublicAsync(publicTemplateId, workspaceId, userId).join();
-        return ResponseEntity.status(200).body(response);
+        return individualTemplateService.createIndividualTemplateFromPublicAsync(publicTemplateId, workspaceId, userId)
+                .thenApply(ResponseEntity::ok);
     }
 
     // 전체 조회 (동기)
     @Operation(
             summary = "워크스페이스 별 개인 템플릿 목록 전체 조회",
-            description = "페이지네이션 및 정렬 조건 지원",
+            description = "페이지네이션 및 정렬 조건 지원. 본문은 미리보기(contentPreview)만 포함합니다.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses({ @ApiResponse(responseCode = "200", description = "개별 템플릿 조회 성공") })
     @GetMapping("/{workspaceId}/templates")
-    public ResponseEntity<Page<IndividualTemplateResponse>> getAllTemplates(
+    public ResponseEntity<Page<IndividualTemplateSummaryResponse>> getAllTemplates(
             @Parameter(description = "워크스페이스 ID", example = "1")
             @PathVariable Integer workspaceId,
             @Valid @ParameterObject IndividualTemplatePageableRequest individualTemplatePageableRequest,
@@ -163,7 +161,7 @@ public class IndividualTemplateController {
         Integer userId = claims.getUserId();
         workspaceValidator.validateAndGetWorkspace(workspaceId,userId);
 
-        Page<IndividualTemplateResponse> page = individualTemplateService.getAllTemplates(
+        Page<IndividualTemplateSummaryResponse> page = individualTemplateService.getAllTemplates(
                 workspaceId,
                 userId,
                 individualTemplatePageableRequest);
@@ -176,19 +174,43 @@ public class IndividualTemplateController {
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @GetMapping("/{workspaceId}/templates/async")
-    public ResponseEntity<Page<IndividualTemplateResponse>> getAllTemplatesAsync(
+    public CompletableFuture<ResponseEntity<Page<IndividualTemplateSummaryResponse>>> getAllTemplatesAsync(
             @Parameter(description = "워크스페이스 ID", example = "1")
             @PathVariable Integer workspaceId,
             @Valid @ParameterObject IndividualTemplatePageableRequest individualTemplatePageableRequest,
             @AuthenticationPrincipal JwtClaims claims) {
         Integer userId = claims.getUserId();
 
-        Page<IndividualTemplateResponse> page = individualTemplateService.getAllTemplatesAsync(
+        return individualTemplateService.getAllTemplatesAsync(
                 workspaceId,
                 userId,
                 individualTemplatePageableRequest
-        ).join();
-        return ResponseEntity.status(200).body(page);
+        ).thenApply(ResponseEntity::ok);
+    }
+
+    // 전체 조회 (커서 기반)
+    @Operation(
+            summary = "워크스페이스 별 개인 템플릿 목록 커서 기반 조회",
+            description = "이전 응답의 nextCursor를 전달하면 다음 페이지를 조회합니다. 전체 개수는 제공하지 않습니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "개별 템플릿 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 유효하지 않은 커서")
+    })
+    @GetMapping("/{workspaceId}/templates/cursor")
+    public ResponseEntity<CursorPageResponse<IndividualTemplateSummaryResponse>> getTemplatesByCursor(
+            @Parameter(description = "워크스페이스 ID", example = "1")
+            @PathVariable Integer workspaceId,
+            @Valid @ParameterObject IndividualTemplateCursorRequest individualTemplateCursorRequest,
+            @AuthenticationPrincipal JwtClaims claims) {
+        Integer userId = claims.getUserId();
+
+        CursorPageResponse<IndividualTemplateSummaryResponse> response = individualTemplateService.getTemplatesByCursor(
+                workspaceId,
+                userId,
+                individualTemplateCursorRequest);
+        return ResponseEntity.ok(response);
     }
 
     // 단일 조회 (동기)
@@ -219,7 +241,7 @@ public class IndividualTemplateController {
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @GetMapping("/{workspaceId}/templates/{individualTemplateId}/async")
-    public ResponseEntity<IndividualTemplateResponse> getTemplateAsync(
+    public CompletableFuture<ResponseEntity<IndividualTemplateResponse>> getTemplateAsync(
             @Parameter(description = "워크스페이스 ID", example = "1")
             @PathVariable Integer workspaceId,
             @Parameter(description = "개인 템플릿 ID", example = "2")
@@ -227,12 +249,31 @@ public class IndividualTemplateController {
             @AuthenticationPrincipal JwtClaims claims) {
         Integer userId = claims.getUserId();
 
-        // 비동기 실행 후 join()으로 결과 획득
-        IndividualTemplateResponse response = individualTemplateService
+        return individualTemplateService
                 .getIndividualTemplateAsync(workspaceId, userId, individualTemplateId)
-                .join();
+                .thenApply(ResponseEntity::ok);
+    }
 
-        return ResponseEntity.status(200).body(response);
+    // 상세 화면 조회 (템플릿 + 최근 이력 + 즐겨찾기 여부 + 원본 공용 템플릿 통계)
+    @Operation(
+            summary = "템플릿 상세 화면 조회",
+            description = "템플릿, 최근 수정 이력 요약, 즐겨찾기 여부, 원본 공용 템플릿 통계를 병렬로 조회해 한 번에 반환합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "워크스페이스 접근 권한 없음 또는 템플릿 없음")
+    })
+    @GetMapping("/{workspaceId}/templates/{individualTemplateId}/detail")
+    public ResponseEntity<IndividualTemplateDetailResponse> getTemplateDetail(
+            @Parameter(description = "워크스페이스 ID", example = "1")
+            @PathVariable Integer workspaceId,
+            @Parameter(description = "개인 템플릿 ID", example = "2")
+            @PathVariable Integer individualTemplateId,
+            @AuthenticationPrincipal JwtClaims claims) {
+        Integer userId = claims.getUserId();
+
+        return ResponseEntity.ok(individualTemplateDetailService.getTemplateDetail(workspaceId, userId, individualTemplateId));
     }
 
     // 템플릿 삭제 (Soft Delete)
@@ -313,9 +354,59 @@ public class IndividualTemplateController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "개인 템플릿 수정 이력 요약 조회(커서 기반)",
+            description = "수정 이력을 최신순으로 조회합니다. 본문/채팅 대신 글자 수만 반환하며, 내용은 이력 상세 조회로 가져옵니다. " +
+                    "이전 응답의 nextCursor를 전달하면 다음 페이지를 조회합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청, 유효하지 않은 커서 또는 템플릿 없음")
+    })
+    @GetMapping("/{workspaceId}/templates/{individualTemplateId}/histories/cursor")
+    public ResponseEntity<CursorPageResponse<HistorySummaryResponse>> getTemplateHistoriesByCursor(
+            @Parameter(description = "워크스페이스 ID", example = "1")
+            @PathVariable Integer workspaceId,
+            @Parameter(description = "개인 템플릿 ID", example = "2")
+            @PathVariable Integer individualTemplateId,
+            @Valid @ParameterObject HistoryCursorRequest historyCursorRequest,
+            @AuthenticationPrincipal JwtClaims claims
+    ) {
+        Integer userId = claims.getUserId();
+        CursorPageResponse<HistorySummaryResponse> response = individualTemplateService.getTemplateHistoriesByCursor(
+                workspaceId, individualTemplateId, userId, historyCursorRequest);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "개인 템플릿 수정 이력 상세 조회",
+            description = "수정 이력 한 건의 본문과 채팅 기록을 조회합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "템플릿 또는 수정 이력 없음")
+    })
+    @GetMapping("/{workspaceId}/templates/{individualTemplateId}/histories/{historyId}")
+    public ResponseEntity<HistoryResponse> getTemplateHistory(
+            @Parameter(description = "워크스페이스 ID", example = "1")
+            @PathVariable Integer workspaceId,
+            @Parameter(description = "개인 템플릿 ID", example = "2")
+            @PathVariable Integer individualTemplateId,
+            @Parameter(description = "수정 이력 ID", example = "15")
+            @PathVariable Integer historyId,
+            @AuthenticationPrincipal JwtClaims claims
+    ) {
+        Integer userId = claims.getUserId();
+        HistoryResponse response = individualTemplateService.getTemplateModifiedHistory(
+                workspaceId, individualTemplateId, historyId, userId);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
             summary = "개인 템플릿 수정 이력 조회",
-            description = "특정 개인 템플릿의 모든 수정 이력을 최신순으로 조회합니다.",
+            description = "특정 개인 템플릿의 수정 이력을 최신순으로 페이징하여 조회합니다.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses({
@@ -324,15 +415,17 @@ public class IndividualTemplateController {
             @ApiResponse(responseCode = "404", description = "템플릿 또는 워크스페이스 없음")
     })
     @GetMapping("/{workspaceId}/templates/{individualTemplateId}/histories")
-    public ResponseEntity<List<HistoryResponse>> getTemplateHistories(
+    public ResponseEntity<Page<HistoryResponse>> getTemplateHistories(
             @Parameter(description = "워크스페이스 ID", example = "1")
             @PathVariable Integer workspaceId,
             @Parameter(description = "개인 템플릿 ID", example = "2")
             @PathVariable Integer individualTemplateId,
+            @Valid @ParameterObject HistoryPageableRequest historyPageableRequest,
             @AuthenticationPrincipal JwtClaims claims
     ) {
         Integer userId = claims.getUserId();
-        List<HistoryResponse> histories = individualTemplateService.getTemplateModifiedHistories(workspaceId, individualTemplateId, userId);
+        Page<HistoryResponse> histories = individualTemplateService.getTemplateModifiedHistories(
+                workspaceId, individualTemplateId, userId, historyPageableRequest.toPageable());
         return ResponseEntity.ok(histories);
     }
 
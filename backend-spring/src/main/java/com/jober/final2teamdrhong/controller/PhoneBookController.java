@@ -1,11 +1,15 @@
 package com.jober.final2teamdrhong.controller;
 
+import com.jober.final2teamdrhong.dto.common.CursorPageResponse;
 import com.jober.final2teamdrhong.dto.jwtClaims.JwtClaims;
+import com.jober.final2teamdrhong.dto.phonebook.PhoneBookMemberCursorRequest;
 import com.jober.final2teamdrhong.dto.phonebook.PhoneBookRequest;
 import com.jober.final2teamdrhong.dto.phonebook.PhoneBookResponse;
 import com.jober.final2teamdrhong.dto.recipient.RecipientResponse;
 import com.jober.final2teamdrhong.exception.ErrorResponse;
 import com.jober.final2teamdrhong.service.PhoneBookService;
+import com.jober.final2teamdrhong.service.phonebook.PhoneBookBulkAddJobService;
+import com.jober.final2teamdrhong.service.recipient.RecipientExportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,15 +19,21 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -36,6 +46,8 @@ import java.util.List;
 public class PhoneBookController {
 
     private final PhoneBookService phoneBookService;
+    private final PhoneBookBulkAddJobService phoneBookBulkAddJobService;
+    private final RecipientExportService recipientExportService;
 
     /**
      * 특정 워크스페이스에 새로운 주소록을 생성하는 API
@@ -82,12 +94,12 @@ public class PhoneBookController {
      * @param jwtClaims {@link AuthenticationPrincipal}을 통해 SecurityContext에서 직접 주입받는 현재 로그인된 사용자의 JWT 정보 객체
      * @return 상태 코드 200 (OK)와 함께, 실제로 추가된 수신자 정보를 담은 ResponseEntity
      */
-    @Operation(summary = "주소록에 수신자 일괄 추가", description = "특정 주소록에 한 명 이상의 수신자를 일괄 추가합니다. 요청된 수신자 중 이미 추가된 멤버는 자동으로 제외됩니다.")
+    @Operation(summary = "주소록에 수신자 일괄 추가", description = "특정 주소록에 한 명 이상의 수신자를 일괄 추가합니다. 요청된 수신자 중 이미 추가된 멤버는 자동으로 제외됩니다. 한도를 넘는 대량 추가는 비동기 추가 작업을 사용합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "수신자 추가 성공",
                     content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = PhoneBookResponse.ModifiedRecipientsDTO.class))),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청: 요청 데이터 유효성 검사 실패, 존재하지 않는 ID(워크스페이스, 주소록, 수신자) 포함, 또는 기타 비즈니스 규칙 위배",
+            @ApiResponse(responseCode = "400", description = "잘못된 요청: 요청 데이터 유효성 검사 실패, 존재하지 않는 ID(워크스페이스, 주소록, 수신자) 포함, 동기 추가 한도 초과, 또는 기타 비즈니스 규칙 위배",
                     content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "401", description = "인증 실패 (로그인 필요)",
@@ -106,6 +118,75 @@ public class PhoneBookController {
         return ResponseEntity.status(HttpStatus.OK).body(addedRecipients);
     }
 
+    /**
+     * 특정 주소록에 대량의 수신자를 비동기로 추가하는 작업을 접수하는 API
+     * <p>
+     * 동기 추가 API의 한도를 넘는 수신자 목록을 작업으로 접수하고 작업 ID를 즉시 반환합니다.
+     * 수신자는 백그라운드에서 청크 단위로 추가되며, 진행 상황은 작업 조회 API로 확인할 수 있습니다.
+     *
+     * @param recipientIdListDTO 클라이언트로부터 받은 추가할 수신자 ID 목록을 담은 DTO
+     * @param workspaceId      주소록이 속한 워크스페이스의 ID
+     * @param phoneBookId      수신자를 추가할 주소록의 ID
+     * @param jwtClaims {@link AuthenticationPrincipal}을 통해 SecurityContext에서 직접 주입받는 현재 로그인된 사용자의 JWT 정보 객체
+     * @return 상태 코드 202 (Accepted)와 함께, 접수된 작업의 ID와 초기 상태를 담은 ResponseEntity
+     */
+    @Operation(summary = "주소록에 수신자 비동기 일괄 추가", description = "대량의 수신자를 주소록에 추가하는 작업을 접수하고 작업 ID를 반환합니다. 워크스페이스에 없는 수신자와 이미 추가된 멤버는 건너뜁니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "작업 접수 성공",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = PhoneBookResponse.BulkAddJobDTO.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청: 빈 수신자 목록, 존재하지 않는 ID(워크스페이스, 주소록) 또는 접근 권한 없음",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패 (로그인 필요)",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/{phoneBookId}/recipients/jobs")
+    public ResponseEntity<PhoneBookResponse.BulkAddJobDTO> startAddRecipientsJob(@RequestBody PhoneBookRequest.RecipientIdListDTO recipientIdListDTO,
+                                                                                 @PathVariable Integer workspaceId,
+                                                                                 @PathVariable Integer phoneBookId,
+                                                                                 @AuthenticationPrincipal JwtClaims jwtClaims) {
+        Integer currentUserId = jwtClaims.getUserId();
+        PhoneBookResponse.BulkAddJobDTO job = phoneBookBulkAddJobService.startJob(recipientIdListDTO, workspaceId, phoneBookId, currentUserId);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * 주소록 수신자 비동기 추가 작업의 진행 상황을 조회하는 API
+     *
+     * @param workspaceId 주소록이 속한 워크스페이스의 ID
+     * @param phoneBookId 수신자를 추가 중인 주소록의 ID
+     * @param jobId       작업 접수 시 받은 작업 ID
+     * @param jwtClaims {@link AuthenticationPrincipal}을 통해 SecurityContext에서 직접 주입받는 현재 로그인된 사용자의 JWT 정보 객체
+     * @return 상태 코드 200 (OK)와 함께, 작업의 상태와 처리/추가 건수를 담은 ResponseEntity
+     */
+    @Operation(summary = "주소록 수신자 비동기 추가 작업 조회", description = "비동기 추가 작업의 상태와 처리된 수신자 수, 추가된 수신자 수를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "작업 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = PhoneBookResponse.BulkAddJobDTO.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청: 존재하지 않거나 만료된 작업",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패 (로그인 필요)",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/{phoneBookId}/recipients/jobs/{jobId}")
+    public ResponseEntity<PhoneBookResponse.BulkAddJobDTO> getAddRecipientsJob(@PathVariable Integer workspaceId,
+                                                                               @PathVariable Integer phoneBookId,
+                                                                               @PathVariable String jobId,
+                                                                               @AuthenticationPrincipal JwtClaims jwtClaims) {
+        Integer currentUserId = jwtClaims.getUserId();
+        PhoneBookResponse.BulkAddJobDTO job = phoneBookBulkAddJobService.getJob(workspaceId, phoneBookId, currentUserId, jobId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(job);
+    }
+
     /**
      * 특정 워크스페이스에 속한 모든 주소록 목록을 조회하는 API
      * <p>
@@ -173,6 +254,89 @@ public class PhoneBookController {
         return ResponseEntity.status(HttpStatus.OK).body(recipientsInPhoneBookPage);
     }
 
+    /**
+     * 특정 주소록에 포함된 수신자 목록을 커서 기반으로 조회하는 API
+     * <p>
+     * 요청한 사용자가 해당 워크스페이스와 주소록에 대한 접근 권한이 있는지 확인 후,
+     * 수신자의 생성 시간(createdAt) 내림차순으로 정렬된 수신자 목록을 반환합니다.
+     * 전체 개수를 세지 않고 이전 응답의 nextCursor 이후만 조회하므로, 큰 주소록에서도 페이지마다 응답 시간이 일정합니다.
+     *
+     * @param workspaceId   주소록이 속한 워크스페이스의 ID
+     * @param phoneBookId   수신자 목록을 조회할 주소록의 ID
+     * @param cursorRequest 이전 응답의 nextCursor(첫 페이지는 생략)와 페이지 크기(기본값 50)
+     * @param jwtClaims {@link AuthenticationPrincipal}을 통해 SecurityContext에서 직접 주입받는 현재 로그인된 사용자의 JWT 정보 객체
+     * @return 상태 코드 200 (OK)와 함께 수신자 정보 목록과 다음 페이지 커서를 담은 ResponseEntity
+     */
+    @Operation(summary = "주소록별 수신자 목록 커서 조회", description = "특정 주소록에 포함된 수신자 목록을 수신자 생성 시간 내림차순으로 조회합니다. " +
+            "이전 응답의 nextCursor를 전달하면 다음 페이지를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "수신자 목록 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = CursorPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청: 존재하지 않는 ID(워크스페이스, 주소록), 접근 권한 없음 또는 유효하지 않은 커서",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패 (로그인 필요)",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/{phoneBookId}/recipients/cursor")
+    public ResponseEntity<CursorPageResponse<RecipientResponse.SimpleDTO>> readRecipientsInPhoneBookByCursor(@PathVariable Integer workspaceId,
+                                                                                                         @PathVariable Integer phoneBookId,
+                                                                                                         @Valid @ParameterObject PhoneBookMemberCursorRequest cursorRequest,
+                                                                                                         @AuthenticationPrincipal JwtClaims jwtClaims) {
+        Integer currentUserId = jwtClaims.getUserId();
+        CursorPageResponse<RecipientResponse.SimpleDTO> response = phoneBookService.readRecipientsInPhoneBookByCursor(workspaceId, phoneBookId, currentUserId, cursorRequest);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * 특정 주소록에 포함된 수신자를 CSV 파일로 내보내는 API
+     * <p>
+     * 요청한 사용자가 해당 워크스페이스와 주소록에 대한 접근 권한이 있는지 확인 후,
+     * 주소록의 수신자를 DB 커서로 한 행씩 읽어 응답에 바로 기록합니다. 주소록 크기와 관계없이 서버 메모리 사용량이 일정합니다.
+     * 요청의 Accept-Encoding 헤더가 gzip을 허용하면 gzip으로 압축하여 응답합니다.
+     *
+     * @param workspaceId    주소록이 속한 워크스페이스의 ID
+     * @param phoneBookId    수신자를 내보낼 주소록의 ID
+     * @param acceptEncoding 요청의 Accept-Encoding 헤더 값 (gzip 압축 여부 결정)
+     * @param jwtClaims {@link AuthenticationPrincipal}을 통해 SecurityContext에서 직접 주입받는 현재 로그인된 사용자의 JWT 정보 객체
+     * @return 상태 코드 200 (OK)와 함께 '이름, 전화번호, 메모, 생성일시' 열의 CSV(UTF-8)를 스트리밍하는 ResponseEntity
+     */
+    @Operation(summary = "주소록 수신자 CSV 내보내기", description = "특정 주소록에 포함된 수신자를 주소록에 추가된 순서대로 CSV 파일로 내보냅니다. " +
+            "Accept-Encoding에 gzip이 있으면 압축하여 응답합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "수신자 내보내기 성공",
+                    content = @Content(mediaType = "text/csv")),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청: 존재하지 않는 ID(워크스페이스, 주소록) 또는 접근 권한 없음",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패 (로그인 필요)",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/{phoneBookId}/recipients/export")
+    public ResponseEntity<StreamingResponseBody> exportRecipientsInPhoneBook(@PathVariable Integer workspaceId,
+                                                                             @PathVariable Integer phoneBookId,
+                                                                             @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                                             @AuthenticationPrincipal JwtClaims jwtClaims) {
+        Integer currentUserId = jwtClaims.getUserId();
+        boolean gzip = RecipientExportService.acceptsGzip(acceptEncoding);
+        StreamingResponseBody body = recipientExportService.exportRecipientsInPhoneBook(workspaceId, phoneBookId, currentUserId, gzip);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(new MediaType("text", "csv", StandardCharsets.UTF_8));
+        headers.setContentDisposition(ContentDisposition.attachment().filename("phonebook-" + phoneBookId + "-recipients.csv").build());
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return ResponseEntity.status(HttpStatus.OK).headers(headers).body(body);
+    }
+
     /**
      * 특정 주소록의 정보를 수정하는 API
      * <p>
@@ -260,7 +424,7 @@ public class PhoneBookController {
             @ApiResponse(responseCode = "200", description = "수신자 삭제 성공",
                     content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = PhoneBookResponse.ModifiedRecipientsDTO.class))),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청: 요청 데이터 유효성 검사 실패, 존재하지 않는 ID(워크스페이스, 주소록, 수신자) 포함, 또는 기타 비즈니스 규칙 위배",
+            @ApiResponse(responseCode = "400", description = "잘못된 요청: 요청 데이터 유효성 검사 실패, 존재하지 않는 ID(워크스페이스, 주소록, 수신자) 포함, 동기 추가 한도 초과, 또는 기타 비즈니스 규칙 위배",
                     content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "401", description = "인증 실패 (로그인 필요)",
@@ -10,6 +10,7 @@ import com.jober.final2teamdrhong.dto.jwtClaims.JwtClaims;
 import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateCreateRequest;
 import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplatePageableRequest;
 import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateResponse;
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateSummaryResponse;
 import com.jober.final2teamdrhong.exception.ErrorResponse;
 import com.jober.final2teamdrhong.service.PublicTemplateService;
 
@@ -67,7 +68,7 @@ public class PublicTemplateController {
                 schema = @Schema(
                     type = "object",
                     description = "페이징된 공용 템플릿 목록",
-                    example = "{\"content\":[{\"publicTemplateId\":1,\"publicTemplateTitle\":\"회의 안내 템플릿\",\"publicTemplateContent\":\"안녕하세요. 회의 일정을 안내드립니다...\",\"buttonTitle\":\"회의 참석하기\"}],\"pageable\":{\"sort\":{\"sorted\":true,\"unsorted\":false},\"pageNumber\":0,\"pageSize\":10},\"totalElements\":1,\"totalPages\":1,\"size\":10,\"number\":0,\"numberOfElements\":1,\"first\":true,\"last\":true,\"empty\":false}"
+                    example = "{\"content\":[{\"publicTemplateId\":1,\"publicTemplateTitle\":\"회의 안내 템플릿\",\"contentPreview\":\"안녕하세요. 회의 일정을 안내드립니다...\",\"buttonTitle\":\"회의 참석하기\",\"viewCount\":10,\"shareCount\":3,\"createdAt\":\"2025-01-01T10:00:00\"}],\"pageable\":{\"sort\":{\"sorted\":true,\"unsorted\":false},\"pageNumber\":0,\"pageSize\":10},\"totalElements\":1,\"totalPages\":1,\"size\":10,\"number\":0,\"numberOfElements\":1,\"first\":true,\"last\":true,\"empty\":false}"
                 )
             )
         ),
@@ -97,12 +98,56 @@ public class PublicTemplateController {
         )
     })
     @GetMapping
-    public Page<PublicTemplateResponse> getPublicTemplates(
+    public Page<PublicTemplateSummaryResponse> getPublicTemplates(
         @ParameterObject @Valid PublicTemplatePageableRequest request
     ) {
         return publicTemplateService.getTemplates(request);
     }
 
+    /**
+     * 공용 템플릿 단건을 조회합니다.
+     * 조회 시 조회수가 1 증가하며, 목록의 조회수에는 일정 주기마다 반영됩니다.
+     *
+     * @param publicTemplateId 조회할 공용 템플릿 ID
+     * @return 공용 템플릿 정보 {@link PublicTemplateResponse}
+     */
+    @Operation(
+        summary = "공용 템플릿 단건 조회",
+        description = "공용 템플릿의 제목, 내용, 버튼 제목을 조회합니다. " +
+                    "조회수는 요청마다 누적되며 목록 조회 결과에는 일정 주기(기본 5초)마다 반영됩니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "공용 템플릿 조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = PublicTemplateResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "잘못된 요청 - 존재하지 않거나 삭제된 공용 템플릿 ID",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 실패 - 유효하지 않은 JWT 토큰",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @GetMapping("/{publicTemplateId}")
+    public PublicTemplateResponse getPublicTemplate(@PathVariable Integer publicTemplateId) {
+        return publicTemplateService.getTemplate(publicTemplateId);
+    }
+
     /**
      * 개인 템플릿을 기반으로 새로운 공용 템플릿을 생성합니다.
      * 생성된 공용 템플릿은 수정할 수 없으며, 요청 시점의 개인 템플릿 데이터를 그대로 복사합니다.
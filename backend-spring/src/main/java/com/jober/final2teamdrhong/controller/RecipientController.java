@@ -3,8 +3,11 @@ package com.jober.final2teamdrhong.controller;
 import com.jober.final2teamdrhong.dto.jwtClaims.JwtClaims;
 import com.jober.final2teamdrhong.dto.recipient.RecipientRequest;
 import com.jober.final2teamdrhong.dto.recipient.RecipientResponse;
+import com.jober.final2teamdrhong.dto.recipient.RecipientSearchRequest;
 import com.jober.final2teamdrhong.exception.ErrorResponse;
 import com.jober.final2teamdrhong.service.RecipientService;
+import com.jober.final2teamdrhong.service.recipient.RecipientExportService;
+import com.jober.final2teamdrhong.service.recipient.RecipientImportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,14 +17,23 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 /**
  * 수신자(Recipient) 관련 HTTP 요청을 처리하는 컨트롤러입니다.
@@ -33,6 +45,8 @@ import org.springframework.web.bind.annotation.*;
 public class RecipientController {
 
     private final RecipientService recipientService;
+    private final RecipientImportService recipientImportService;
+    private final RecipientExportService recipientExportService;
 
     /**
      * 특정 워크스페이스에 새로운 수신자를 생성하는 API
@@ -68,6 +82,111 @@ public class RecipientController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdRecipient);
     }
 
+    /**
+     * CSV/XLSX 파일로 수신자를 일괄 가져오는 작업을 접수하는 API
+     * <p>
+     * 파일을 임시 파일로 옮긴 뒤 작업 ID를 바로 반환하고, 가져오기는 백그라운드에서 청크 단위로 진행됩니다.
+     * 같은 이름과 전화번호의 수신자는 한 번만 생성하며, 잘못된 행은 건너뛰고 행 번호와 사유를 결과에 담습니다.
+     * 결과는 작업 조회 API로 확인합니다.
+     *
+     * @param file        첫 행에 '이름', '전화번호'(, '메모') 헤더가 있는 CSV(UTF-8 또는 MS949) 또는 XLSX 파일
+     * @param workspaceId 수신자를 가져올 워크스페이스의 ID
+     * @param phoneBookId 가져온 수신자를 추가할 주소록의 ID (선택)
+     * @param jwtClaims {@link AuthenticationPrincipal}을 통해 SecurityContext에서 직접 주입받는 현재 로그인된 사용자의 JWT 정보 객체
+     * @return 상태 코드 202 (Accepted)와 함께 작업 ID와 초기 상태를 담은 ResponseEntity
+     */
+    @Operation(summary = "수신자 파일 가져오기 작업 접수", description = "CSV 또는 XLSX 파일의 수신자를 워크스페이스에 일괄 생성하는 작업을 접수합니다. " +
+            "전화번호는 010-1234-5678 형식으로 정규화되며, phoneBookId를 지정하면 가져온 수신자를 주소록에도 추가합니다. " +
+            "CSV는 BOM이 없고 UTF-8이 아니면 MS949(엑셀 한글 저장 형식)로 읽습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "작업 접수 성공",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = RecipientResponse.ImportJobDTO.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청: 빈 파일, 지원하지 않는 형식 또는 권한 없는 워크스페이스/주소록",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패 (로그인 필요)",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<RecipientResponse.ImportJobDTO> importRecipients(@RequestPart("file") MultipartFile file,
+                                                                           @RequestParam(required = false) Integer phoneBookId,
+                                                                           @PathVariable Integer workspaceId,
+                                                                           @AuthenticationPrincipal JwtClaims jwtClaims) {
+        Integer currentUserId = jwtClaims.getUserId();
+        RecipientResponse.ImportJobDTO job = recipientImportService.startImport(file, workspaceId, phoneBookId, currentUserId);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * 수신자 파일 가져오기 작업의 진행 상황과 결과를 조회하는 API
+     *
+     * @param workspaceId 수신자를 가져오는 워크스페이스의 ID
+     * @param jobId       작업 접수 시 받은 작업 ID
+     * @param jwtClaims {@link AuthenticationPrincipal}을 통해 SecurityContext에서 직접 주입받는 현재 로그인된 사용자의 JWT 정보 객체
+     * @return 상태 코드 200 (OK)와 함께, 작업 상태와 (완료 시) 생성/중복/오류 건수와 행별 오류 목록을 담은 ResponseEntity
+     */
+    @Operation(summary = "수신자 파일 가져오기 작업 조회", description = "가져오기 작업의 상태와 읽은 행 수를 조회합니다. 작업이 끝나면 가져오기 결과가 함께 반환됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "작업 조회 성공 (실패한 작업은 errorMessage 포함)",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = RecipientResponse.ImportJobDTO.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청: 존재하지 않거나 만료된 작업",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패 (로그인 필요)",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/import/jobs/{jobId}")
+    public ResponseEntity<RecipientResponse.ImportJobDTO> getImportJob(@PathVariable Integer workspaceId,
+                                                                       @PathVariable String jobId,
+                                                                       @AuthenticationPrincipal JwtClaims jwtClaims) {
+        Integer currentUserId = jwtClaims.getUserId();
+        RecipientResponse.ImportJobDTO job = recipientImportService.getImportJob(workspaceId, currentUserId, jobId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(job);
+    }
+
+    /**
+     * 여러 전화번호가 워크스페이스에 이미 수신자로 등록되어 있는지 한 번에 확인하는 API
+     * <p>
+     * 전화번호를 E.164 형식으로 정규화하여 비교하므로 010-1234-5678과 01012345678을 같은 번호로 판단합니다.
+     * 최대 5000개의 번호를 한 번의 조회로 확인합니다.
+     *
+     * @param checkDTO    중복 확인할 전화번호 목록 (JSON, @Valid로 검증됨)
+     * @param workspaceId 중복을 확인할 워크스페이스의 ID
+     * @param jwtClaims {@link AuthenticationPrincipal}을 통해 SecurityContext에서 직접 주입받는 현재 로그인된 사용자의 JWT 정보 객체
+     * @return 상태 코드 200 (OK)와 함께 이미 등록된 번호와 해당 수신자, 형식이 잘못된 번호를 담은 ResponseEntity
+     */
+    @Operation(summary = "전화번호 일괄 중복 확인", description = "여러 전화번호가 워크스페이스에 이미 수신자로 등록되어 있는지 한 번에 확인합니다. " +
+            "표기가 달라도 같은 번호면 중복으로 판단하며, 최대 5000개까지 요청할 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "중복 확인 성공",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = RecipientResponse.DuplicateCheckResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청: 빈 목록, 5000개 초과 또는 존재하지 않거나 권한 없는 워크스페이스 접근",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패 (로그인 필요)",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/duplicates")
+    public ResponseEntity<RecipientResponse.DuplicateCheckResultDTO> checkDuplicatePhoneNumbers(@Valid @RequestBody RecipientRequest.DuplicateCheckDTO checkDTO,
+                                                                                                @PathVariable Integer workspaceId,
+                                                                                                @AuthenticationPrincipal JwtClaims jwtClaims) {
+        Integer currentUserId = jwtClaims.getUserId();
+        RecipientResponse.DuplicateCheckResultDTO result = recipientService.checkDuplicatePhoneNumbers(checkDTO, workspaceId, currentUserId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+
     /**
      * 특정 워크스페이스에 속한 모든 수신자 목록을 페이징하여 조회하는 API
      * <p>
@@ -105,6 +224,83 @@ public class RecipientController {
         return ResponseEntity.status(HttpStatus.OK).body(recipientPage);
     }
 
+    /**
+     * 이름 앞부분, 전화번호 뒷자리, 메모 키워드로 워크스페이스의 수신자를 검색하는 API
+     * <p>
+     * 입력 중 자동완성에 쓰도록 전체 개수 없이 최대 size개의 수신자만 반환합니다.
+     *
+     * @param workspaceId 수신자를 검색할 워크스페이스의 ID
+     * @param search      이름 앞부분, 전화번호 뒷자리, 메모 키워드와 최대 조회 개수
+     * @param jwtClaims {@link AuthenticationPrincipal}을 통해 SecurityContext에서 직접 주입받는 현재 로그인된 사용자의 JWT 정보 객체
+     * @return 상태 코드 200 (OK)와 함께 검색된 수신자 목록을 담은 ResponseEntity
+     */
+    @Operation(summary = "수신자 검색", description = "이름 앞부분(name), 전화번호 뒷자리(phoneSuffix), 메모 키워드(memo)로 수신자를 검색합니다. " +
+            "입력한 조건을 모두 만족하는 수신자를 최대 size개까지 반환하며, 조건은 하나 이상 입력해야 합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "수신자 검색 성공",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = RecipientResponse.SimpleDTO.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청: 검색 조건 누락, 형식 오류 또는 존재하지 않거나 권한 없는 워크스페이스 접근",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패 (로그인 필요)",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/search")
+    public ResponseEntity<List<RecipientResponse.SimpleDTO>> searchRecipients(@PathVariable Integer workspaceId,
+                                                                              @Valid @ParameterObject RecipientSearchRequest search,
+                                                                              @AuthenticationPrincipal JwtClaims jwtClaims) {
+        Integer currentUserId = jwtClaims.getUserId();
+        List<RecipientResponse.SimpleDTO> recipients = recipientService.searchRecipients(workspaceId, currentUserId, search);
+
+        return ResponseEntity.status(HttpStatus.OK).body(recipients);
+    }
+
+    /**
+     * 특정 워크스페이스에 속한 모든 수신자를 CSV 파일로 내보내는 API
+     * <p>
+     * 요청한 사용자가 해당 워크스페이스에 대한 접근 권한이 있는지 확인 후,
+     * 수신자를 DB 커서로 한 행씩 읽어 응답에 바로 기록합니다. 수신자 수와 관계없이 서버 메모리 사용량이 일정합니다.
+     * 요청의 Accept-Encoding 헤더가 gzip을 허용하면 gzip으로 압축하여 응답합니다.
+     *
+     * @param workspaceId    수신자를 내보낼 워크스페이스의 ID
+     * @param acceptEncoding 요청의 Accept-Encoding 헤더 값 (gzip 압축 여부 결정)
+     * @param jwtClaims {@link AuthenticationPrincipal}을 통해 SecurityContext에서 직접 주입받는 현재 로그인된 사용자의 JWT 정보 객체
+     * @return 상태 코드 200 (OK)와 함께 '이름, 전화번호, 메모, 생성일시' 열의 CSV(UTF-8)를 스트리밍하는 ResponseEntity
+     */
+    @Operation(summary = "수신자 CSV 내보내기", description = "특정 워크스페이스에 속한 모든 수신자를 CSV 파일로 내보냅니다. " +
+            "내보낸 파일은 수신자 파일 가져오기에 그대로 사용할 수 있으며, Accept-Encoding에 gzip이 있으면 압축하여 응답합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "수신자 내보내기 성공",
+                    content = @Content(mediaType = "text/csv")),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청: 존재하지 않거나 권한 없는 워크스페이스 접근",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패 (로그인 필요)",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRecipients(@PathVariable Integer workspaceId,
+                                                                  @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                                  @AuthenticationPrincipal JwtClaims jwtClaims) {
+        Integer currentUserId = jwtClaims.getUserId();
+        boolean gzip = RecipientExportService.acceptsGzip(acceptEncoding);
+        StreamingResponseBody body = recipientExportService.exportRecipients(workspaceId, currentUserId, gzip);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(new MediaType("text", "csv", StandardCharsets.UTF_8));
+        headers.setContentDisposition(ContentDisposition.attachment().filename("recipients-" + workspaceId + ".csv").build());
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return ResponseEntity.status(HttpStatus.OK).headers(headers).body(body);
+    }
+
     /**
      * 특정 워크스페이스에 속한 수신자 정보를 수정하는 API
      * <p>
@@ -0,0 +1,27 @@
+package com.jober.final2teamdrhong.dto.common;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 목록 조회에서 TEXT 본문 대신 내려주는 미리보기 정책
+ * 미리보기는 SQL(SUBSTRING)에서 잘라내므로 전체 본문이 애플리케이션으로 전송되지 않는다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ContentPreview {
+
+    /**
+     * 미리보기 최대 글자 수 (JPQL/Criteria 쿼리에서 상수로 사용)
+     */
+    public static final int LENGTH = 200;
+
+    /**
+     * 메모리에 있는 본문을 SQL의 SUBSTRING과 같은 기준(글자 수)으로 잘라낸다.
+     */
+    public static String of(String content) {
+        if (content == null || content.codePointCount(0, content.length()) <= LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, LENGTH));
+    }
+}
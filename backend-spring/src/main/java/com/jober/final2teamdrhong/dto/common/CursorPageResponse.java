@@ -0,0 +1,40 @@
+package com.jober.final2teamdrhong.dto.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Schema(name = "CursorPageResponse", description = "커서 기반 페이지 응답 (전체 개수는 제공하지 않음)")
+public record CursorPageResponse<T>(
+    @Schema(description = "현재 페이지 항목")
+    List<T> content,
+
+    @Schema(description = "다음 페이지 조회에 사용할 커서. 마지막 페이지면 null", example = "bGF0ZXN0fDEyfDIwMjUtMDEtMDFUMTA6MDA6MDA", nullable = true)
+    String nextCursor,
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    boolean hasNext,
+
+    @Schema(description = "요청한 페이지 크기", example = "20")
+    int size
+) {
+    /**
+     * size + 1개로 조회한 결과에서 다음 페이지 존재 여부를 판단하고 응답으로 변환하는 정적 팩토리 메소드.
+     *
+     * @param fetched size + 1개까지 조회된 엔티티 목록
+     * @param size 요청한 페이지 크기
+     * @param mapper 엔티티를 응답 DTO로 변환하는 함수
+     * @param cursorOf 마지막 항목으로부터 다음 커서를 만드는 함수
+     * @return 변환된 CursorPageResponse
+     */
+    public static <E, T> CursorPageResponse<T> of(List<E> fetched,
+                                                  int size,
+                                                  Function<E, T> mapper,
+                                                  Function<E, String> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<E> rows = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(rows.get(rows.size() - 1)) : null;
+        return new CursorPageResponse<>(rows.stream().map(mapper).toList(), nextCursor, hasNext, size);
+    }
+}
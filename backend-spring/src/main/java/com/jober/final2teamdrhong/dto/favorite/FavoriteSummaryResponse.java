@@ -0,0 +1,35 @@
+package com.jober.final2teamdrhong.dto.favorite;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 즐겨찾기 목록 조회 응답
+ * 공용/개인 템플릿을 LEFT JOIN 하여 필요한 컬럼만 한 번에 조회하며, 본문은 미리보기만 포함한다.
+ */
+@Schema(name = "FavoriteSummaryResponse", description = "즐겨찾기 목록 항목")
+public record FavoriteSummaryResponse(
+    @Schema(description = "즐겨찾기 ID", example = "1")
+    Integer favoriteId,
+
+    @Schema(description = "템플릿 유형", example = "PUBLIC", allowableValues = {"PUBLIC", "INDIVIDUAL"})
+    String templateType,
+
+    @Schema(description = "템플릿 ID", example = "5")
+    Integer templateId,
+
+    @Schema(description = "템플릿 제목", example = "회의 안내 템플릿")
+    String templateTitle,
+
+    @Schema(description = "본문 미리보기(최대 200자)", example = "안녕하세요. 회의 일정을 안내드립니다...")
+    String contentPreview,
+
+    @Schema(description = "버튼 제목", example = "회의 참석하기")
+    String buttonTitle,
+
+    @Schema(description = "조회수 (공용 템플릿만)", example = "10", nullable = true)
+    Integer viewCount,
+
+    @Schema(description = "공유수 (공용 템플릿만)", example = "3", nullable = true)
+    Integer shareCount
+) {
+}
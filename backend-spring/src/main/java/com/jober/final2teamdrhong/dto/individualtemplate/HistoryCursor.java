@@ -0,0 +1,36 @@
+package com.jober.final2teamdrhong.dto.individualtemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 개인 템플릿 수정 이력 목록의 커서(마지막으로 본 행의 (createdAt, historyId))
+ * 클라이언트에는 Base64URL로 인코딩된 불투명 문자열로만 노출된다.
+ */
+public record HistoryCursor(LocalDateTime createdAt, Integer historyId) {
+
+    private static final String DELIMITER = "|";
+
+    public static HistoryCursor of(HistorySummaryResponse row) {
+        return new HistoryCursor(row.createdAt(), row.historyId());
+    }
+
+    /**
+     * 커서 문자열 형식: {historyId}|{createdAt}
+     */
+    public String encode() {
+        String raw = historyId + DELIMITER + createdAt;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static HistoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            return new HistoryCursor(LocalDateTime.parse(parts[1]), Integer.valueOf(parts[0]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
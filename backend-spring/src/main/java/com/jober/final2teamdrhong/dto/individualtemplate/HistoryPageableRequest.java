@@ -0,0 +1,30 @@
+package com.jober.final2teamdrhong.dto.individualtemplate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+@Getter
+@Setter
+public class HistoryPageableRequest {
+
+    @Schema(description = "페이지(0부터 시작)", example = "0")
+    @Min(0)
+    private Integer page = 0;
+
+    @Schema(description = "페이지 당 개수(1~100)", example = "20")
+    @Min(1) @Max(100)
+    private Integer size = 20;
+
+    /**
+     * 수정 이력은 최신순으로만 조회한다. (같은 시각은 이력 ID 역순)
+     */
+    public Pageable toPageable() {
+        return PageRequest.of(page, size, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("historyId")));
+    }
+}
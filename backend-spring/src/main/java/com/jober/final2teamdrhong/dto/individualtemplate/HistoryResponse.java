@@ -19,13 +19,17 @@ public class HistoryResponse {
     private final String buttonTitle;
     private final LocalDateTime createdAt;
 
-    public static HistoryResponse fromEntity(TemplateModifiedHistory history) {
+    /**
+     * 이력 엔티티와 복원된 본문/채팅으로 응답을 만든다.
+     * (본문은 델타, 채팅은 압축으로 저장될 수 있으므로 엔티티 필드를 그대로 쓰지 않음)
+     */
+    public static HistoryResponse of(TemplateModifiedHistory history, String content, String chatUser, String chatAi) {
         return new HistoryResponse(
                 history.getHistoryId(),
-                history.getChatUser(),
-                history.getChatAi(),
+                chatUser,
+                chatAi,
                 history.getHistoryTitle(),
-                history.getHistoryContent(),
+                content,
                 history.getButtonTitle(),
                 history.getCreatedAt()
         );
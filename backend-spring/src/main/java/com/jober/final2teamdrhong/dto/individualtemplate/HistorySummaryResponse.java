@@ -0,0 +1,41 @@
+package com.jober.final2teamdrhong.dto.individualtemplate;
+
+import com.jober.final2teamdrhong.entity.IndividualTemplate;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * 개인 템플릿 수정 이력 목록 항목
+ * 리포지토리의 JPQL 생성자 표현식으로 조회하며, 본문/채팅(TEXT, 델타, 압축 컬럼)은 읽지 않고 글자 수만 포함한다.
+ */
+@Schema(name = "HistorySummaryResponse", description = "개인 템플릿 수정 이력 목록 항목")
+public record HistorySummaryResponse(
+    @Schema(description = "수정 이력 ID", example = "15")
+    Integer historyId,
+
+    @Schema(description = "수정 당시 템플릿 제목", example = "회의 안내", nullable = true)
+    String individualTemplateTitle,
+
+    @Schema(description = "수정 당시 버튼 제목", example = "참석하기", nullable = true)
+    String buttonTitle,
+
+    @Schema(description = "수정 당시 템플릿 상태", example = "DRAFT")
+    IndividualTemplate.Status status,
+
+    @Schema(description = "생성 일시")
+    LocalDateTime createdAt,
+
+    @Schema(description = "수정 일시")
+    LocalDateTime updatedAt,
+
+    @Schema(description = "본문 글자 수", example = "320", nullable = true)
+    Integer contentLength,
+
+    @Schema(description = "AI 채팅 글자 수", example = "1200", nullable = true)
+    Integer chatAiLength,
+
+    @Schema(description = "사용자 채팅 글자 수", example = "40", nullable = true)
+    Integer chatUserLength
+) {
+}
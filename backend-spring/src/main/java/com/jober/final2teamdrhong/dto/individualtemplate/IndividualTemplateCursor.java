@@ -0,0 +1,75 @@
+package com.jober.final2teamdrhong.dto.individualtemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 개인 템플릿 목록의 커서(마지막으로 본 행의 정렬 키)
+ * - latest -> (updatedAt, individualTemplateId)
+ * - title  -> (제목 NULL 여부, individualTemplateTitle, individualTemplateId)
+ * 클라이언트에는 Base64URL로 인코딩된 불투명 문자열로만 노출된다.
+ */
+public record IndividualTemplateCursor(
+        String sortType,
+        Integer individualTemplateId,
+        LocalDateTime updatedAt,
+        String individualTemplateTitle,
+        boolean titleNull
+) {
+    private static final String LATEST = "latest";
+    private static final String TITLE = "title";
+    private static final String DELIMITER = "|";
+
+    public static IndividualTemplateCursor of(IndividualTemplateSummaryResponse row, String sortType) {
+        boolean titleSort = TITLE.equalsIgnoreCase(sortType);
+        return new IndividualTemplateCursor(
+                titleSort ? TITLE : LATEST,
+                row.individualTemplateId(),
+                titleSort ? null : row.updatedAt(),
+                titleSort ? row.individualTemplateTitle() : null,
+                titleSort && row.individualTemplateTitle() == null
+        );
+    }
+
+    /**
+     * 커서 문자열 형식
+     * - latest|{id}|{updatedAt}
+     * - title|{id}          (제목이 NULL인 구간)
+     * - title|{id}|{title}  (제목은 구분자를 포함할 수 있으므로 마지막에 둔다)
+     */
+    public String encode() {
+        String raw;
+        if (LATEST.equals(sortType)) {
+            raw = String.join(DELIMITER, LATEST, String.valueOf(individualTemplateId), updatedAt.toString());
+        } else if (titleNull) {
+            raw = String.join(DELIMITER, TITLE, String.valueOf(individualTemplateId));
+        } else {
+            raw = String.join(DELIMITER, TITLE, String.valueOf(individualTemplateId), individualTemplateTitle);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석한다. 요청한 정렬 타입과 커서의 정렬 타입이 다르면 예외를 던진다.
+     */
+    public static IndividualTemplateCursor decode(String cursor, String sortType) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            Integer id = Integer.valueOf(parts[1]);
+
+            if (LATEST.equals(parts[0]) && LATEST.equalsIgnoreCase(sortType) && parts.length == 3) {
+                return new IndividualTemplateCursor(LATEST, id, LocalDateTime.parse(parts[2]), null, false);
+            }
+            if (TITLE.equals(parts[0]) && TITLE.equalsIgnoreCase(sortType)) {
+                return parts.length == 3
+                        ? new IndividualTemplateCursor(TITLE, id, null, parts[2], false)
+                        : new IndividualTemplateCursor(TITLE, id, null, null, true);
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+        throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+    }
+}
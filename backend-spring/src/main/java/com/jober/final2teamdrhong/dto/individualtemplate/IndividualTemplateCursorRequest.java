@@ -0,0 +1,28 @@
+package com.jober.final2teamdrhong.dto.individualtemplate;
+
+import com.jober.final2teamdrhong.entity.IndividualTemplate;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class IndividualTemplateCursorRequest {
+
+    @Schema(description = "이전 응답의 nextCursor. 첫 페이지는 생략", nullable = true)
+    private String cursor;
+
+    @Schema(description = "페이지 당 개수(1~100)", example = "20")
+    @Min(1) @Max(100)
+    private Integer size = 20;
+
+    @Schema(description = "정렬 타입", example = "latest", allowableValues = {"latest", "title"})
+    @Pattern(regexp = "(?i)latest|title", message = "sortType은 latest 또는 title 이어야 합니다.")
+    private String sortType = "latest";
+
+    @Schema(description = "상태 필터(선택). 미지정 시 전체 조회", example = "DRAFT", nullable = true)
+    private IndividualTemplate.Status status;
+}
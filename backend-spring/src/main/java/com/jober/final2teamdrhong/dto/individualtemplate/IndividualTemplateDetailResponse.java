@@ -0,0 +1,25 @@
+package com.jober.final2teamdrhong.dto.individualtemplate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 개인 템플릿 상세 화면 응답
+ * 템플릿, 최근 수정 이력 요약, 즐겨찾기 여부, 원본 공용 템플릿 통계를 한 번에 반환한다.
+ */
+@Schema(name = "IndividualTemplateDetailResponse", description = "개인 템플릿 상세 화면 응답")
+public record IndividualTemplateDetailResponse(
+    @Schema(description = "개인 템플릿")
+    IndividualTemplateResponse template,
+
+    @Schema(description = "최근 수정 이력 요약 (최신순)")
+    List<HistorySummaryResponse> recentHistories,
+
+    @Schema(description = "현재 워크스페이스의 즐겨찾기 여부", example = "true")
+    boolean favorite,
+
+    @Schema(description = "원본 공용 템플릿 통계 (공용 템플릿에서 복사하지 않았으면 null)", nullable = true)
+    SourcePublicTemplateStats sourcePublicTemplate
+) {
+}
@@ -0,0 +1,38 @@
+package com.jober.final2teamdrhong.dto.individualtemplate;
+
+import com.jober.final2teamdrhong.entity.IndividualTemplate;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * 개인 템플릿 목록 조회 응답
+ * 리포지토리의 JPQL 생성자 표현식으로 필요한 컬럼만 조회하며, 본문은 미리보기만 포함한다.
+ */
+@Schema(name = "IndividualTemplateSummaryResponse", description = "개인 템플릿 목록 항목")
+public record IndividualTemplateSummaryResponse(
+    @Schema(description = "개인 템플릿 ID", example = "1")
+    Integer individualTemplateId,
+
+    @Schema(description = "템플릿 제목", example = "회의 안내", nullable = true)
+    String individualTemplateTitle,
+
+    @Schema(description = "본문 미리보기(최대 200자)", example = "안녕하세요. 회의 일정을 안내드립니다...", nullable = true)
+    String contentPreview,
+
+    @Schema(description = "버튼 제목", example = "참석하기", nullable = true)
+    String buttonTitle,
+
+    @Schema(description = "워크스페이스 ID", example = "1")
+    Integer workspaceId,
+
+    @Schema(description = "생성 일시")
+    LocalDateTime createdAt,
+
+    @Schema(description = "수정 일시")
+    LocalDateTime updatedAt,
+
+    @Schema(description = "템플릿 상태", example = "DRAFT")
+    IndividualTemplate.Status status
+) {
+}
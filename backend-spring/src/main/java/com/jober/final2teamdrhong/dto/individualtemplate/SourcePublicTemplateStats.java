@@ -0,0 +1,24 @@
+package com.jober.final2teamdrhong.dto.individualtemplate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 개인 템플릿의 원본 공용 템플릿 통계
+ * 리포지토리의 JPQL 생성자 표현식으로 조회한다.
+ * 조회수/공유수는 주기적으로 반영되므로 최근 몇 초의 증가분은 포함되지 않을 수 있다.
+ */
+@Schema(name = "SourcePublicTemplateStats", description = "원본 공용 템플릿 통계")
+public record SourcePublicTemplateStats(
+    @Schema(description = "공용 템플릿 ID", example = "5")
+    Integer publicTemplateId,
+
+    @Schema(description = "공용 템플릿 제목", example = "회의 안내")
+    String publicTemplateTitle,
+
+    @Schema(description = "조회수", example = "120")
+    Integer viewCount,
+
+    @Schema(description = "공유수", example = "8")
+    Integer shareCount
+) {
+}
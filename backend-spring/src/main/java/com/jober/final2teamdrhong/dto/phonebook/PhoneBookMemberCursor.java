@@ -0,0 +1,38 @@
+package com.jober.final2teamdrhong.dto.phonebook;
+
+import com.jober.final2teamdrhong.dto.recipient.RecipientResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 주소록 수신자 목록의 커서(마지막으로 본 수신자의 (createdAt, recipientId))
+ * 클라이언트에는 Base64URL로 인코딩된 불투명 문자열로만 노출된다.
+ */
+public record PhoneBookMemberCursor(LocalDateTime createdAt, Integer recipientId) {
+
+    private static final String DELIMITER = "|";
+
+    public static PhoneBookMemberCursor of(RecipientResponse.SimpleDTO row) {
+        return new PhoneBookMemberCursor(row.createdAt(), row.recipientId());
+    }
+
+    /**
+     * 커서 문자열 형식: {recipientId}|{createdAt}
+     */
+    public String encode() {
+        String raw = recipientId + DELIMITER + createdAt;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PhoneBookMemberCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            return new PhoneBookMemberCursor(LocalDateTime.parse(parts[1]), Integer.valueOf(parts[0]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
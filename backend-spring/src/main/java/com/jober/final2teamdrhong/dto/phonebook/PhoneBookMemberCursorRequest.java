@@ -0,0 +1,19 @@
+package com.jober.final2teamdrhong.dto.phonebook;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class PhoneBookMemberCursorRequest {
+
+    @Schema(description = "이전 응답의 nextCursor. 첫 페이지는 생략", nullable = true)
+    private String cursor;
+
+    @Schema(description = "페이지 당 개수(1~100)", example = "50")
+    @Min(1) @Max(100)
+    private Integer size = 50;
+}
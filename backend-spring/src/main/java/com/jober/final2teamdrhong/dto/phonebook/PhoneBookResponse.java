@@ -3,14 +3,11 @@ package com.jober.final2teamdrhong.dto.phonebook;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.jober.final2teamdrhong.dto.recipient.RecipientResponse;
-import com.jober.final2teamdrhong.entity.GroupMapping;
 import com.jober.final2teamdrhong.entity.PhoneBook;
 import com.jober.final2teamdrhong.entity.Recipient;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.List;
 
 /**
@@ -31,23 +28,36 @@ public class PhoneBookResponse {
         @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
         LocalDateTime updatedAt,
         @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
-        LocalDateTime deletedAt
+        LocalDateTime deletedAt,
+        @Schema(description = "주소록에 속한 수신자 수 (집계하지 않은 응답에서는 null)")
+        Long recipientCount
     ) {
         /**
-         * PhoneBook 엔티티를 SimpleDTO로 변환하는 생성자입니다.
+         * PhoneBook 엔티티와 수신자 수로 SimpleDTO를 생성하는 생성자입니다.
          *
-         * @param phoneBook 변환할 PhoneBook 엔티티 객체
+         * @param phoneBook      변환할 PhoneBook 엔티티 객체
+         * @param recipientCount 주소록에 속한 수신자 수
          */
-        public SimpleDTO(PhoneBook phoneBook) {
+        public SimpleDTO(PhoneBook phoneBook, Long recipientCount) {
             this(
                 phoneBook.getPhoneBookId(),
                 phoneBook.getPhoneBookName(),
                 phoneBook.getPhoneBookMemo(),
                 phoneBook.getCreatedAt(),
                 phoneBook.getUpdatedAt(),
-                phoneBook.getDeletedAt()
+                phoneBook.getDeletedAt(),
+                recipientCount
             );
         }
+
+        /**
+         * PhoneBook 엔티티를 수신자 수 없이 SimpleDTO로 변환하는 생성자입니다.
+         *
+         * @param phoneBook 변환할 PhoneBook 엔티티 객체
+         */
+        public SimpleDTO(PhoneBook phoneBook) {
+            this(phoneBook, null);
+        }
     }
 
     /**
@@ -81,55 +91,70 @@ public class PhoneBookResponse {
                                                         LocalDateTime createdAt,
                                                         LocalDateTime updatedAt,
                                                         LocalDateTime deletedAt,
-                                                        List<Recipient> modifiedRecipients) {
+                                                        List<RecipientResponse.SimpleDTO> modifiedRecipients) {
             return new ModifiedRecipientsDTO(
                 phoneBook.getPhoneBookId(),
                 phoneBook.getPhoneBookName(),
                 createdAt,
                 updatedAt,
                 deletedAt,
-                modifiedRecipients.stream()
-                        .map(RecipientResponse.SimpleDTO::new)
-                        .toList()
+                modifiedRecipients
             );
         }
 
         /**
          * '수신자 추가' 이벤트에 대한 DTO를 생성합니다.
-         * createdAt과 updatedAt은 DB에 저장된 GroupMapping의 생성 시간을 사용합니다.
+         * createdAt과 updatedAt은 벌크 INSERT에 사용한 생성 시간을 사용합니다.
          *
-         * @param phoneBook     작업 대상 주소록 엔티티
-         * @param savedMappings DB에 저장된 후의 GroupMapping 엔티티 리스트 (createdAt 포함)
+         * @param phoneBook         작업 대상 주소록 엔티티
+         * @param addedRecipients   주소록에 새로 추가된 수신자 엔티티 리스트
+         * @param addedAt           GroupMapping의 생성 시간으로 DB에 기록한 시간
          * @return '추가' 이벤트의 정보가 채워진 ModifiedRecipientsDTO 객체
          */
-        public static ModifiedRecipientsDTO ofAddition(PhoneBook phoneBook, List<GroupMapping> savedMappings) {
-            LocalDateTime timestamp =
-                    savedMappings.isEmpty() ? ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDateTime() : savedMappings.getFirst().getCreatedAt();
-
-            List<Recipient> addedRecipients = savedMappings.stream()
-                    .map(GroupMapping::getRecipient)
-                    .toList();
-
-            return from(phoneBook, timestamp, timestamp, null, addedRecipients);
+        public static ModifiedRecipientsDTO ofAddition(PhoneBook phoneBook, List<Recipient> addedRecipients, LocalDateTime addedAt) {
+            return from(phoneBook, addedAt, addedAt, null, addedRecipients.stream()
+                    .map(RecipientResponse.SimpleDTO::new)
+                    .toList());
         }
 
         /**
          * '수신자 삭제' 이벤트에 대한 DTO를 생성합니다.
-         * updatedAt과 deletedAt은 서비스 계층에서 재조회한, DB에 실제로 기록된 GroupMapping의 삭제 시간을 사용합니다.
+         * updatedAt과 deletedAt은 벌크 UPDATE에 사용한 삭제 시간을 사용합니다.
          *
-         * @param phoneBook       작업 대상 주소록 엔티티
-         * @param deletedMappings DB에서 재조회한, 소프트 딜리트 처리된 GroupMapping 엔티티 리스트
+         * @param phoneBook         작업 대상 주소록 엔티티
+         * @param removedRecipients 주소록에서 실제로 제거된 수신자 DTO 리스트
+         * @param deletedAt         GroupMapping의 삭제 시간으로 DB에 기록한 시간
          * @return '삭제' 이벤트의 정보가 채워진 ModifiedRecipientsDTO 객체
          */
-        public static ModifiedRecipientsDTO ofDeletion(PhoneBook phoneBook, List<GroupMapping> deletedMappings) {
-            LocalDateTime timestamp =
-                    deletedMappings.isEmpty() ? ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDateTime() : deletedMappings.getFirst().getDeletedAt();
+        public static ModifiedRecipientsDTO ofDeletion(PhoneBook phoneBook, List<RecipientResponse.SimpleDTO> removedRecipients, LocalDateTime deletedAt) {
+            return from(phoneBook, null, deletedAt, deletedAt, removedRecipients);
+        }
+    }
 
-            List<Recipient> removedRecipients = deletedMappings.stream()
-                    .map(GroupMapping::getRecipient)
-                    .toList();
+    /**
+     * 주소록 수신자 비동기 추가 작업의 진행 상황 응답을 위한 DTO
+     */
+    @Schema(name = "PhoneBookBulkAddJobDTO")
+    public record BulkAddJobDTO(
+        String jobId,
+        Integer phoneBookId,
+        BulkAddJobStatus status,
+        int totalCount,
+        int processedCount,
+        int addedCount,
+        int alreadyMemberCount,
+        int invalidCount,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime startedAt,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime finishedAt,
+        String errorMessage
+    ) {}
 
-            return from(phoneBook, null, timestamp, timestamp, removedRecipients);
-        }
+    /**
+     * 주소록 수신자 비동기 추가 작업의 상태
+     */
+    public enum BulkAddJobStatus {
+        RUNNING, COMPLETED, FAILED
     }
 }
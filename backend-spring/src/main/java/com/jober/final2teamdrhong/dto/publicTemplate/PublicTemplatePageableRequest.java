@@ -22,6 +22,11 @@ import lombok.Setter;
 @Setter
 @Schema(description = "공용 템플릿 페이징 요청 DTO")
 public class PublicTemplatePageableRequest {
+
+    /**
+     * 검색 관련도 순 정렬 필드 (FULLTEXT 검색에서만 의미가 있음)
+     */
+    public static final String RELEVANCE_SORT = "relevance";
     
     @Schema(description = "페이지 번호 (0부터 시작)", example = "0", defaultValue = "0")
     @Min(value = 0, message = "페이지 번호는 0 이상이어야 합니다")
@@ -33,15 +38,15 @@ public class PublicTemplatePageableRequest {
     private int size = 10;
     
     @Schema(
-        description = "정렬 필드", 
+        description = "정렬 필드 (relevance는 키워드 검색 시 관련도 순, 키워드가 없으면 최신순으로 대체)", 
         example = "createdAt", 
         defaultValue = "createdAt",
-        allowableValues = {"createdAt", "shareCount", "viewCount", "publicTemplateTitle"}
+        allowableValues = {"createdAt", "shareCount", "viewCount", "publicTemplateTitle", "relevance"}
     )
     @NotNull(message = "정렬 필드는 필수입니다")
     @Pattern(
-        regexp = "^(createdAt|shareCount|viewCount|publicTemplateTitle)$",
-        message = "정렬 필드는 createdAt, shareCount, viewCount, publicTemplateTitle 중 하나여야 합니다"
+        regexp = "^(createdAt|shareCount|viewCount|publicTemplateTitle|relevance)$",
+        message = "정렬 필드는 createdAt, shareCount, viewCount, publicTemplateTitle, relevance 중 하나여야 합니다"
     )
     private String sort = "createdAt";
     
@@ -65,4 +70,17 @@ public class PublicTemplatePageableRequest {
         Sort.Direction sortDirection = Sort.Direction.fromString(direction);
         return PageRequest.of(page, size, Sort.by(sortDirection, sort));
     }
+
+    /**
+     * 관련도 점수를 계산할 수 없는 조회(LIKE 검색, 키워드 없음)용 Pageable 객체로 변환한다.
+     * 정렬 필드가 relevance면 최신순으로 대체한다.
+     *
+     * @return Pageable 객체
+     */
+    public Pageable toPageableWithoutRelevance() {
+        if (!RELEVANCE_SORT.equals(sort)) {
+            return toPageable();
+        }
+        return PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
 }
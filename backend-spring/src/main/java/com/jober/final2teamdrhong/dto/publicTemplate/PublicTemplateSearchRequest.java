@@ -19,4 +19,11 @@ public class PublicTemplateSearchRequest {
         TITLE, CONTENT, ALL
     }
 
+    /**
+     * 검색 키워드가 입력되었는지 여부
+     */
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.isBlank();
+    }
+
 }
@@ -0,0 +1,34 @@
+package com.jober.final2teamdrhong.dto.publicTemplate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공용 템플릿 목록 조회 응답
+ * Criteria 생성자 선택(construct)으로 필요한 컬럼만 조회하며, 본문은 미리보기만 포함한다.
+ */
+@Schema(name = "PublicTemplateSummaryResponse", description = "공용 템플릿 목록 항목")
+public record PublicTemplateSummaryResponse(
+    @Schema(description = "공용 템플릿 ID", example = "123")
+    Integer publicTemplateId,
+
+    @Schema(description = "템플릿 제목", example = "회의 안내 템플릿")
+    String publicTemplateTitle,
+
+    @Schema(description = "본문 미리보기(최대 200자)", example = "안녕하세요. 회의 일정을 안내드립니다...")
+    String contentPreview,
+
+    @Schema(description = "버튼 제목", example = "회의 참석하기")
+    String buttonTitle,
+
+    @Schema(description = "조회수", example = "10")
+    Integer viewCount,
+
+    @Schema(description = "공유수", example = "3")
+    Integer shareCount,
+
+    @Schema(description = "생성 일시")
+    LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,20 @@
+package com.jober.final2teamdrhong.dto.recipient;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 수신자의 ID와 중복 판단에 쓰이는 이름, 전화번호만 담은 조회 결과
+ * 리포지토리의 JPQL 생성자 표현식으로 조회한다.
+ *
+ * @param recipientId          수신자 ID
+ * @param recipientName        수신자 이름
+ * @param recipientPhoneNumber 수신자 전화번호 (저장된 표기)
+ * @param recipientPhoneE164   중복 판단에 쓰이는 E.164 형식의 전화번호
+ */
+@Schema(name = "RecipientContactDTO")
+public record RecipientContact(
+    Integer recipientId,
+    String recipientName,
+    String recipientPhoneNumber,
+    String recipientPhoneE164
+) {}
@@ -0,0 +1,19 @@
+package com.jober.final2teamdrhong.dto.recipient;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수신자 내보내기(CSV)의 한 행에 해당하는 조회 결과
+ * 리포지토리의 JPQL 생성자 표현식으로 조회하므로 영속성 컨텍스트에 엔티티가 쌓이지 않는다.
+ *
+ * @param recipientName        수신자 이름
+ * @param recipientPhoneNumber 수신자 전화번호
+ * @param recipientMemo        수신자 메모
+ * @param createdAt            수신자 생성 시간
+ */
+public record RecipientExportRow(
+    String recipientName,
+    String recipientPhoneNumber,
+    String recipientMemo,
+    LocalDateTime createdAt
+) {}
@@ -2,8 +2,12 @@ package com.jober.final2teamdrhong.dto.recipient;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import org.hibernate.validator.constraints.Length;
 
+import java.util.List;
+
 /**
  * 수신자(Recipient) 관련 요청 DTO들을 모아두는 클래스입니다.
  */
@@ -36,4 +40,14 @@ public class RecipientRequest {
         @Length(max = 1000, message = "메모는 1000자 이하로 입력해주세요.")
         String newRecipientMemo
     ) {}
+
+    /**
+     * 전화번호 일괄 중복 확인을 위한 요청 DTO 입니다.
+     */
+    @Schema(name = "RecipientDuplicateCheckDTO")
+    public record DuplicateCheckDTO(
+        @NotEmpty(message = "중복 확인할 전화번호는 1개 이상 입력해주세요.")
+        @Size(max = 5000, message = "전화번호는 한 번에 5000개까지 확인할 수 있습니다.")
+        List<String> phoneNumbers
+    ) {}
 }
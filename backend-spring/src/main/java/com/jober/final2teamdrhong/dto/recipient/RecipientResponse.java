@@ -5,6 +5,7 @@ import com.jober.final2teamdrhong.entity.Recipient;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 수신자(Recipient) 관련 응답 DTO들을 모아두는 클래스입니다.
@@ -44,4 +45,79 @@ public class RecipientResponse {
             );
         }
     }
+
+    /**
+     * 수신자 파일 가져오기 결과 응답을 위한 DTO
+     */
+    @Schema(name = "RecipientImportResultDTO")
+    public record ImportResultDTO(
+        int totalRows,
+        int importedCount,
+        int duplicateCount,
+        int addedToPhoneBookCount,
+        int errorCount,
+        List<RowErrorDTO> errors
+    ) {}
+
+    /**
+     * 수신자 파일 가져오기 작업 응답을 위한 DTO
+     * 작업이 끝나기 전에는 result가 비어 있고, processedRows로 진행 상황을 알 수 있습니다.
+     */
+    @Schema(name = "RecipientImportJobDTO")
+    public record ImportJobDTO(
+        String jobId,
+        String fileName,
+        ImportJobStatus status,
+        @Schema(description = "지금까지 읽은 데이터 행 수 (헤더 제외)")
+        int processedRows,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime startedAt,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime finishedAt,
+        @Schema(description = "가져오기 결과 (작업이 완료된 경우에만)")
+        ImportResultDTO result,
+        String errorMessage
+    ) {}
+
+    /**
+     * 수신자 파일 가져오기 작업의 상태
+     */
+    public enum ImportJobStatus {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * 가져오지 못한 행의 오류 정보 DTO
+     */
+    @Schema(name = "RecipientImportRowErrorDTO")
+    public record RowErrorDTO(
+        int rowNumber,
+        String message
+    ) {}
+
+    /**
+     * 전화번호 일괄 중복 확인 결과 응답을 위한 DTO
+     */
+    @Schema(name = "RecipientDuplicateCheckResultDTO")
+    public record DuplicateCheckResultDTO(
+        @Schema(description = "요청한 전화번호 수")
+        int requestedCount,
+        @Schema(description = "워크스페이스에 이미 수신자가 있는 전화번호 목록 (요청 순서)")
+        List<DuplicateDTO> duplicates,
+        @Schema(description = "전화번호로 볼 수 없어 확인하지 않은 값 목록")
+        List<String> invalidPhoneNumbers
+    ) {}
+
+    /**
+     * 이미 수신자가 있는 전화번호와 해당 수신자 목록 DTO
+     */
+    @Schema(name = "RecipientDuplicateDTO")
+    public record DuplicateDTO(
+        @Schema(description = "요청한 전화번호 (입력 그대로)")
+        String phoneNumber,
+        @Schema(description = "E.164 형식으로 정규화한 전화번호", example = "+821012345678")
+        String normalizedPhoneNumber,
+        @Schema(description = "같은 번호를 가진 기존 수신자 목록")
+        List<RecipientContact> recipients
+    ) {}
 }
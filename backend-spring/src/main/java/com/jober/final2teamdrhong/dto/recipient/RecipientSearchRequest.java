@@ -0,0 +1,50 @@
+package com.jober.final2teamdrhong.dto.recipient;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.validator.constraints.Length;
+
+@Getter
+@Setter
+@Schema(description = "수신자 검색 조건 DTO")
+public class RecipientSearchRequest {
+
+    @Schema(description = "이름 앞부분", example = "홍길", nullable = true)
+    @Length(max = 10, message = "이름은 10자 이하로 입력해주세요.")
+    private String name;
+
+    @Schema(description = "전화번호 뒷자리 숫자", example = "5678", nullable = true)
+    @Pattern(regexp = "^[0-9]{1,11}$", message = "전화번호 뒷자리는 숫자 1~11자리로 입력해주세요.")
+    private String phoneSuffix;
+
+    @Schema(description = "메모 키워드", example = "VIP", nullable = true)
+    @Length(max = 100, message = "메모 키워드는 100자 이하로 입력해주세요.")
+    private String memo;
+
+    @Schema(description = "최대 조회 개수(1~50)", example = "20")
+    @Min(1) @Max(50)
+    private Integer size = 20;
+
+    public boolean hasName() {
+        return name != null && !name.isBlank();
+    }
+
+    public boolean hasPhoneSuffix() {
+        return phoneSuffix != null && !phoneSuffix.isBlank();
+    }
+
+    public boolean hasMemo() {
+        return memo != null && !memo.isBlank();
+    }
+
+    /**
+     * 검색 조건이 하나 이상 입력되었는지 여부
+     */
+    public boolean hasCondition() {
+        return hasName() || hasPhoneSuffix() || hasMemo();
+    }
+}
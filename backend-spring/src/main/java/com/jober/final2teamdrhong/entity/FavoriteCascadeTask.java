@@ -0,0 +1,42 @@
+package com.jober.final2teamdrhong.entity;
+
+import com.jober.final2teamdrhong.entity.Favorite.TemplateType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.SQLRestriction;
+
+/**
+ * 템플릿 삭제 후 남은 즐겨찾기를 정리하는 연쇄 삭제 작업 (아웃박스)
+ * - 템플릿을 소프트 딜리트하는 트랜잭션 안에서 함께 저장되므로, 템플릿 삭제가 커밋되면 작업도 반드시 남음
+ * - 작업이 끝나면 이 행을 소프트 딜리트하며, 삭제되지 않은 행이 처리 대기 중인 작업임
+ */
+@Getter
+@Entity
+@Table(name = "favorite_cascade_task", indexes = {
+    // 처리 대기 중인 작업 재개 조회 (삭제되지 않은 작업을 생성 시간 기준으로)
+    @Index(name = "idx_favorite_cascade_task_pending", columnList = "is_deleted, created_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SuperBuilder
+@SQLRestriction("is_deleted = false")
+public class FavoriteCascadeTask extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "task_id", nullable = false) // PK
+    private Integer taskId;
+
+    @NonNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "template_type", nullable = false, length = 20)
+    private TemplateType templateType;
+
+    // 삭제된 개인 또는 공용 템플릿의 ID
+    @NonNull
+    @Column(name = "template_id", nullable = false)
+    private Integer templateId;
+}
@@ -6,7 +6,13 @@ import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.SQLRestriction;
 
 @Entity
-@Table(name = "group_mapping")
+@Table(name = "group_mapping", uniqueConstraints = {
+    // 삭제되지 않은 매핑 기준으로 (주소록, 수신자)가 유일하도록 보장 (삭제된 매핑은 live_flag가 NULL이라 제외됨)
+    @UniqueConstraint(name = "uk_group_mapping_live", columnNames = {"phone_book_id", "recipient_id", "live_flag"})
+}, indexes = {
+    // 주소록 수신자 목록 조회 (주소록의 삭제되지 않은 매핑만 읽고, 수신자 ID까지 포함해 테이블 접근 없이 조인)
+    @Index(name = "idx_group_mapping_pb_deleted", columnList = "phone_book_id, is_deleted, recipient_id")
+})
 @Getter
 @Setter
 @ToString(exclude = {"phoneBook", "recipient"})
@@ -27,4 +33,13 @@ public class GroupMapping extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "recipient_id", nullable = false) // FK
     private Recipient recipient;
+
+    // 삭제되지 않은 매핑이면 1, 소프트 딜리트된 매핑이면 NULL인 생성 컬럼 (유니크 제약 전용)
+    @Column(name = "live_flag", insertable = false, updatable = false,
+            columnDefinition = "TINYINT GENERATED ALWAYS AS (CASE WHEN is_deleted THEN NULL ELSE 1 END)")
+    private Integer liveFlag;
+
+    // 벌크 INSERT 요청 식별자 (동시에 같은 수신자를 추가한 요청과 구분해, 이번 요청이 실제로 추가한 매핑을 가려내는 용도)
+    @Column(name = "insert_token", length = 36, updatable = false)
+    private String insertToken;
 }
@@ -3,17 +3,32 @@ package com.jober.final2teamdrhong.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLRestriction;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "individual_template")
+@Table(name = "individual_template", indexes = {
+    // 커서 기반 목록 조회(최신순/제목순, 상태 필터 유무)용 복합 인덱스
+    // 최신순은 (updated_at DESC, id DESC)를 인덱스 역방향 스캔으로 처리
+    @Index(name = "idx_individual_template_ws_updated",
+            columnList = "workspace_id, is_deleted, updated_at, individual_template_id"),
+    @Index(name = "idx_individual_template_ws_status_updated",
+            columnList = "workspace_id, is_deleted, status, updated_at, individual_template_id"),
+    // 제목순은 (title ASC, id DESC) 혼합 방향이라 id를 내림차순 인덱스로 두어 정방향 스캔으로 처리
+    // 제목 NULL 구간도 title = NULL 등치 뒤의 id DESC 순서로 같은 인덱스를 사용
+    @Index(name = "idx_individual_template_ws_title_seek",
+            columnList = "workspace_id, is_deleted, individual_template_title, individual_template_id DESC"),
+    @Index(name = "idx_individual_template_ws_status_title_seek",
+            columnList = "workspace_id, is_deleted, status, individual_template_title, individual_template_id DESC")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 기본 생성자를 생성
 @SuperBuilder
 @SQLRestriction("is_deleted = false")
+// 변경된 컬럼만 UPDATE하여, 자동 저장(제목/본문/버튼)과 상태 변경이 서로의 컬럼을 덮어쓰지 않도록 한다
+@DynamicUpdate
 public class IndividualTemplate extends BaseEntity {
 
     public enum Status {
@@ -43,6 +58,10 @@ public class IndividualTemplate extends BaseEntity {
     @JoinColumn(name = "workspace_id")
     private Workspace workspace;
 
+    // 공용 템플릿을 복사해 만든 경우 원본 공용 템플릿 ID (직접 만든 템플릿은 null)
+    @Column(name = "source_public_template_id")
+    private Integer sourcePublicTemplateId;
+
     @OneToMany(mappedBy = "individualTemplate")
     private List<TemplateModifiedHistory> histories;
 
@@ -60,14 +79,21 @@ public class IndividualTemplate extends BaseEntity {
         this.status = status; // 항상 DRAFT
     }
 
+    /**
+     * 제목/본문/버튼만 변경한다. 상태는 건드리지 않는다. (자동 저장 반영용)
+     */
+    public void updateContent(String individualTemplateTitle,
+                              String individualTemplateContent,
+                              String buttonTitle) {
+        this.individualTemplateTitle = individualTemplateTitle;
+        this.individualTemplateContent = individualTemplateContent;
+        this.buttonTitle = buttonTitle;
+    }
+
     public void updateStatus(Status newStatus) {
         if (newStatus == null) {
             throw new IllegalArgumentException("Status cannot be null");
         }
         this.status = newStatus;
     }
-
-    public void deleteFavorites() {
-        this.favorites = new ArrayList<>();
-    }
 }
\ No newline at end of file
@@ -8,7 +8,6 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.SQLRestriction;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Entity(name = "public_template")
@@ -35,31 +34,13 @@ public class PublicTemplate extends BaseEntity {
     @OneToMany(mappedBy = "publicTemplate", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Favorite> favorites;
 
+    // 조회수/공유수는 PublicTemplateCounter가 증가분만 UPDATE로 반영하므로
+    // 엔티티 변경 감지로 오래된 값이 덮어써지지 않도록 updatable = false
     @Builder.Default
-    @Column(name = "share_count", nullable = false)
+    @Column(name = "share_count", nullable = false, updatable = false)
     private Integer shareCount = 0;
 
     @Builder.Default
-    @Column(name = "view_count", nullable = false)
+    @Column(name = "view_count", nullable = false, updatable = false)
     private Integer viewCount = 0;
-
-    /**
-     * 조회수를 1 증가시킨다.
-     * 템플릿이 조회될 때마다 호출되어야 한다.
-     */
-    public void increaseViewCount() {
-        this.viewCount++;
-    }
-    
-    /**
-     * 공유수를 1 증가시킨다.
-     * 템플릿이 '가져오기'될 때마다 호출되어야 한다.
-     */
-    public void increaseShareCount() {
-        this.shareCount++;
-    }
-
-    public void deleteFavorites() {
-        this.favorites = new ArrayList<>();
-    }
 }
@@ -1,5 +1,6 @@
 package com.jober.final2teamdrhong.entity;
 
+import com.jober.final2teamdrhong.util.PhoneNumberNormalizer;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -7,9 +8,22 @@ import org.hibernate.annotations.SQLRestriction;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
-@Table(name = "recipient")
+@Table(name = "recipient", uniqueConstraints = {
+    // 삭제되지 않은 수신자 기준으로 워크스페이스 안에서 (정규화된 전화번호, 이름)이 유일하도록 보장
+    // 선행 컬럼 (workspace_id, recipient_phone_e164)은 가져오기와 중복 확인 API의 전화번호 IN 조회에도 사용됨
+    @UniqueConstraint(name = "uk_recipient_ws_phone_e164_live",
+            columnNames = {"workspace_id", "recipient_phone_e164", "recipient_name", "live_flag"})
+}, indexes = {
+    // 수신자 목록의 최신순 정렬과 커서 조회 ((created_at, recipient_id) < 커서)
+    @Index(name = "idx_recipient_ws_created", columnList = "workspace_id, created_at, recipient_id"),
+    // 수신자 검색의 이름 접두사 조회 (recipient_name LIKE '홍%' 범위 스캔, 이름순 정렬을 인덱스 순서로 처리)
+    @Index(name = "idx_recipient_ws_name", columnList = "workspace_id, is_deleted, recipient_name"),
+    // 수신자 검색의 전화번호 뒷자리 조회 (뒤집은 번호의 접두사 범위 스캔)
+    @Index(name = "idx_recipient_ws_phone_reversed", columnList = "workspace_id, is_deleted, recipient_phone_reversed")
+})
 @Getter
 @Setter
 @ToString(exclude = {"workspace", "groupMappings"})
@@ -31,6 +45,16 @@ public class Recipient extends BaseEntity {
     @Column(name = "recipient_phone_number", nullable = false)
     private String recipientPhoneNumber;
 
+    // 중복 판단용 E.164 형식 전화번호 (recipientPhoneNumber에서 저장 직전에 계산, 전화번호로 볼 수 없으면 NULL)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "recipient_phone_e164", length = 16)
+    private String recipientPhoneE164;
+
+    // 뒷자리 검색용으로 전화번호의 숫자를 뒤집은 값 (010-1234-5678 → 87654321010, 저장 직전에 계산)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "recipient_phone_reversed", length = 20)
+    private String recipientPhoneReversed;
+
     @Column(name = "recipient_memo", length = 1000)
     private String recipientMemo;
 
@@ -39,6 +63,11 @@ public class Recipient extends BaseEntity {
     @JoinColumn(name = "workspace_id", nullable = false) // FK
     private Workspace workspace;
 
+    // 삭제되지 않은 수신자면 1, 소프트 딜리트된 수신자면 NULL인 생성 컬럼 (유니크 제약 전용)
+    @Column(name = "live_flag", insertable = false, updatable = false,
+            columnDefinition = "TINYINT GENERATED ALWAYS AS (CASE WHEN is_deleted THEN NULL ELSE 1 END)")
+    private Integer liveFlag;
+
     @Builder.Default
     @OneToMany(mappedBy = "recipient", fetch = FetchType.LAZY)
     private List<GroupMapping> groupMappings = new ArrayList<>();
@@ -51,4 +80,23 @@ public class Recipient extends BaseEntity {
         this.groupMappings.add(groupMapping);
         groupMapping.setRecipient(this);
     }
+
+    /**
+     * 주어진 전화번호가 저장된 전화번호와 같은지 확인합니다.
+     * @param phoneNumber 비교할 전화번호
+     * @return 저장된 값과 같으면 true
+     */
+    public boolean hasPhoneNumber(String phoneNumber) {
+        return Objects.equals(this.recipientPhoneNumber, phoneNumber);
+    }
+
+    /**
+     * 저장 또는 수정 직전에 전화번호에서 파생되는 E.164 형식과 뒤집은 번호를 다시 계산합니다.
+     */
+    @PrePersist
+    @PreUpdate
+    protected void syncPhoneColumns() {
+        this.recipientPhoneE164 = PhoneNumberNormalizer.toE164(recipientPhoneNumber);
+        this.recipientPhoneReversed = PhoneNumberNormalizer.toReversedDigits(recipientPhoneNumber);
+    }
 }
@@ -9,12 +9,26 @@ import org.hibernate.annotations.SQLRestriction;
 
 @Getter
 @Entity
-@Table(name = "template_modified_history")
+@Table(name = "template_modified_history", indexes = {
+        @Index(name = "idx_history_template_storage", columnList = "individual_template_id, storage_type, history_id"),
+        @Index(name = "idx_history_template_created", columnList = "individual_template_id, created_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SuperBuilder
 @SQLRestriction("is_deleted = false")
 public class TemplateModifiedHistory extends BaseEntity {
 
+    /**
+     * 본문 저장 방식
+     * - SNAPSHOT: historyContent에 본문 전체를 저장
+     * - DELTA: baseHistoryId 스냅샷 대비 압축된 델타를 contentDelta에 저장
+     * storageType이 null인 행은 이전 방식으로 저장된 행이며 스냅샷과 같이 취급한다.
+     */
+    public enum StorageType {
+        SNAPSHOT,
+        DELTA
+    }
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "history_id")
@@ -29,12 +43,42 @@ public class TemplateModifiedHistory extends BaseEntity {
     @Column(name = "button_title", length = 50)
     private String buttonTitle;
 
+    // 이전 방식으로 저장된 행의 채팅 원문 (새 행은 압축 컬럼에 저장)
     @Column(name = "chat_ai", columnDefinition = "TEXT")
     private String chatAi;
 
     @Column(name = "chat_user", columnDefinition = "TEXT")
     private String chatUser;
 
+    @Lob
+    @Column(name = "chat_ai_compressed", length = 16_777_215)
+    private byte[] chatAiCompressed;
+
+    @Lob
+    @Column(name = "chat_user_compressed", length = 16_777_215)
+    private byte[] chatUserCompressed;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "storage_type", length = 10)
+    private StorageType storageType;
+
+    @Column(name = "base_history_id")
+    private Integer baseHistoryId;
+
+    @Lob
+    @Column(name = "content_delta", length = 16_777_215)
+    private byte[] contentDelta;
+
+    // 목록에서 본문/채팅을 읽지 않고 크기를 보여주기 위한 원문 글자 수 (이전 방식 행은 null)
+    @Column(name = "content_length")
+    private Integer contentLength;
+
+    @Column(name = "chat_ai_length")
+    private Integer chatAiLength;
+
+    @Column(name = "chat_user_length")
+    private Integer chatUserLength;
+
     @Column(name = "status", nullable = false, length = 20)
     @Enumerated(EnumType.STRING)
     private IndividualTemplate.Status status;
@@ -44,4 +88,7 @@ public class TemplateModifiedHistory extends BaseEntity {
     @JoinColumn(name = "individual_template_id", nullable = false)
     private IndividualTemplate individualTemplate;
 
+    public boolean isDelta() {
+        return storageType == StorageType.DELTA;
+    }
 }
@@ -0,0 +1,47 @@
+package com.jober.final2teamdrhong.repository;
+
+import com.jober.final2teamdrhong.entity.FavoriteCascadeTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface FavoriteCascadeTaskRepository extends JpaRepository<FavoriteCascadeTask, Integer> {
+
+    /**
+     * 주어진 시간 이전에 생성되어 아직 끝나지 않은 즐겨찾기 연쇄 삭제 작업의 ID를 오래된 순으로 조회합니다.
+     * <p>
+     * 커밋 직후의 비동기 처리가 서버 재시작이나 오류로 끝나지 못한 작업을 재개하는 데 사용됩니다.
+     *
+     * @param before   이 시간 이전에 생성된 작업만 조회
+     * @param pageable 조회할 최대 개수
+     * @return 처리 대기 중인 작업 ID 목록
+     */
+    @Query("""
+            SELECT t.taskId
+            FROM FavoriteCascadeTask t
+            WHERE t.createdAt < :before
+            ORDER BY t.taskId""")
+    List<Integer> findPendingTaskIds(@Param("before") LocalDateTime before, Pageable pageable);
+
+    /**
+     * 즐겨찾기 연쇄 삭제 작업을 완료 처리(소프트 딜리트)합니다.
+     * 이미 완료된 작업은 갱신하지 않으므로 여러 번 호출해도 안전합니다.
+     *
+     * @param taskId 완료할 작업의 ID
+     * @param now    완료 시간으로 기록할 현재 시간
+     * @return 완료 처리된 작업 수 (0 또는 1)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE FavoriteCascadeTask t
+            SET t.isDeleted = true, t.deletedAt = :now, t.updatedAt = :now
+            WHERE t.taskId = :taskId AND t.isDeleted = false""")
+    int markCompleted(@Param("taskId") Integer taskId, @Param("now") LocalDateTime now);
+}
@@ -1,11 +1,13 @@
 package com.jober.final2teamdrhong.repository;
 
+import com.jober.final2teamdrhong.dto.favorite.FavoriteSummaryResponse;
 import com.jober.final2teamdrhong.entity.Favorite;
 import com.jober.final2teamdrhong.entity.Favorite.TemplateType;
 import com.jober.final2teamdrhong.entity.IndividualTemplate;
 import com.jober.final2teamdrhong.entity.PublicTemplate;
 import com.jober.final2teamdrhong.entity.Workspace;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,12 +16,14 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface FavoriteRepository extends JpaRepository<Favorite, Integer>, JpaSpecificationExecutor<Favorite> {
+public interface FavoriteRepository extends JpaRepository<Favorite, Integer>, JpaSpecificationExecutor<Favorite>,
+        FavoriteRepositoryCustom {
 
     /**
      * 특정 워크스페이스와 개인 템플릿으로 즐겨찾기 정보를 조회합니다.
@@ -29,6 +33,14 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Integer>, Jp
      */
     Optional<Favorite> findByWorkspaceAndIndividualTemplate(Workspace workspace, IndividualTemplate individualTemplate);
 
+    /**
+     * 특정 워크스페이스에서 개인 템플릿이 즐겨찾기되어 있는지 확인합니다.
+     * @param workspaceId 확인할 워크스페이스 ID
+     * @param individualTemplateId 확인할 개인 템플릿 ID
+     * @return 즐겨찾기되어 있으면 true
+     */
+    boolean existsByWorkspace_WorkspaceIdAndIndividualTemplate_IndividualTemplateId(Integer workspaceId, Integer individualTemplateId);
+
     /**
      * 특정 워크스페이스와 공용 템플릿으로 즐겨찾기 정보를 조회합니다.
      * @param workspace 조회할 워크스페이스 엔티티
@@ -54,18 +66,19 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Integer>, Jp
 
     /**
      * 특정 워크스페이스에 속한 즐겨찾기 목록을 동적 조건에 따라 페이징하여 조회합니다.
+     * 템플릿 본문(TEXT)은 미리보기만 조회합니다.
      * @param workspace 조회할 워크스페이스 엔티티
      * @param templateType 템플릿의 유형(PUBLIC 또는 INDIVIDUAL). null일 경우 모든 유형을 조회
      * @param pageable 페이징 및 정렬 정보
-     * @return 주어진 조건에 맞는 Favorite 엔티티를 담은 Page 객체
+     * @return 주어진 조건에 맞는 FavoriteSummaryResponse를 담은 Page 객체
      */
-    default Page<Favorite> findFavorites(Workspace workspace, TemplateType templateType, Pageable pageable) {
+    default Page<FavoriteSummaryResponse> findFavoriteSummaries(Workspace workspace, TemplateType templateType, Pageable pageable) {
         Specification<Favorite> spec = hasWorkspace(workspace);
 
         if (templateType != null) {
             spec = spec.and(isTemplateType(templateType));
         }
-        return findAll(spec, pageable);
+        return findSummaries(spec, pageable);
     }
 
     private static Specification<Favorite> hasWorkspace(Workspace workspace) {
@@ -84,7 +97,86 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Integer>, Jp
                 .orElseThrow(() -> new IllegalArgumentException("해당 즐겨찾기를 찾을 수 없거나, 권한이 없습니다."));
     }
 
-    List<Favorite> findAllByIndividualTemplate_individualTemplateId(Integer individualTemplateId);
+    long countByIndividualTemplate_individualTemplateId(Integer individualTemplateId);
 
-    List<Favorite> findAllByPublicTemplate_publicTemplateId(Integer publicTemplateId);
+    long countByPublicTemplate_publicTemplateId(Integer publicTemplateId);
+
+    /**
+     * 템플릿에 연결된 (삭제되지 않은) 즐겨찾기 수를 조회합니다.
+     * @param templateType 템플릿 유형
+     * @param templateId 템플릿 ID
+     * @return 즐겨찾기 수
+     */
+    default long countByTemplate(TemplateType templateType, Integer templateId) {
+        return templateType == TemplateType.PUBLIC
+                ? countByPublicTemplate_publicTemplateId(templateId)
+                : countByIndividualTemplate_individualTemplateId(templateId);
+    }
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            "UPDATE Favorite f " +
+            "SET f.isDeleted = true, f.deletedAt = CURRENT_TIMESTAMP, f.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE f.individualTemplate.individualTemplateId = :individualTemplateId AND f.isDeleted = false"
+    )
+    int softDeleteAllByIndividualTemplateId(@Param("individualTemplateId") Integer individualTemplateId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            "UPDATE Favorite f " +
+            "SET f.isDeleted = true, f.deletedAt = CURRENT_TIMESTAMP, f.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE f.publicTemplate.publicTemplateId = :publicTemplateId AND f.isDeleted = false"
+    )
+    int softDeleteAllByPublicTemplateId(@Param("publicTemplateId") Integer publicTemplateId);
+
+    /**
+     * 템플릿에 연결된 즐겨찾기를 한 번의 UPDATE 문으로 소프트 삭제합니다.
+     * 행마다 조회/삭제하지 않으므로 즐겨찾기 수와 관계없이 실행되는 SQL은 1개입니다.
+     * 실행 전 영속성 컨텍스트의 변경 사항을 flush하고, 실행 후 영속성 컨텍스트를 비웁니다.
+     * @param templateType 템플릿 유형
+     * @param templateId 템플릿 ID
+     * @return 소프트 삭제된 즐겨찾기 수
+     */
+    default int softDeleteAllByTemplate(TemplateType templateType, Integer templateId) {
+        return templateType == TemplateType.PUBLIC
+                ? softDeleteAllByPublicTemplateId(templateId)
+                : softDeleteAllByIndividualTemplateId(templateId);
+    }
+
+    @Query("SELECT f.favoriteId FROM Favorite f " +
+            "WHERE f.individualTemplate.individualTemplateId = :individualTemplateId ORDER BY f.favoriteId")
+    List<Integer> findIdsByIndividualTemplateId(@Param("individualTemplateId") Integer individualTemplateId, Pageable pageable);
+
+    @Query("SELECT f.favoriteId FROM Favorite f " +
+            "WHERE f.publicTemplate.publicTemplateId = :publicTemplateId ORDER BY f.favoriteId")
+    List<Integer> findIdsByPublicTemplateId(@Param("publicTemplateId") Integer publicTemplateId, Pageable pageable);
+
+    /**
+     * 템플릿에 연결된 (삭제되지 않은) 즐겨찾기 ID를 오름차순으로 최대 chunkSize개 조회합니다.
+     * @param templateType 템플릿 유형
+     * @param templateId 템플릿 ID
+     * @param chunkSize 조회할 최대 개수
+     * @return 즐겨찾기 ID 목록
+     */
+    default List<Integer> findIdsByTemplate(TemplateType templateType, Integer templateId, int chunkSize) {
+        Pageable pageable = PageRequest.of(0, chunkSize);
+        return templateType == TemplateType.PUBLIC
+                ? findIdsByPublicTemplateId(templateId, pageable)
+                : findIdsByIndividualTemplateId(templateId, pageable);
+    }
+
+    /**
+     * 주어진 ID의 즐겨찾기를 한 번의 UPDATE 문으로 소프트 삭제합니다.
+     * 비동기 삭제 작업에서 청크 단위로 호출하며, 청크마다 별도의 트랜잭션으로 커밋됩니다.
+     * @param favoriteIds 삭제할 즐겨찾기 ID 목록
+     * @return 소프트 삭제된 즐겨찾기 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(
+            "UPDATE Favorite f " +
+            "SET f.isDeleted = true, f.deletedAt = CURRENT_TIMESTAMP, f.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE f.favoriteId IN :favoriteIds AND f.isDeleted = false"
+    )
+    int softDeleteAllByIdIn(@Param("favoriteIds") List<Integer> favoriteIds);
 }
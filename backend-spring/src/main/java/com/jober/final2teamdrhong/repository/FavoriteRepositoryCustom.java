@@ -0,0 +1,19 @@
+package com.jober.final2teamdrhong.repository;
+
+import com.jober.final2teamdrhong.dto.favorite.FavoriteSummaryResponse;
+import com.jober.final2teamdrhong.entity.Favorite;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface FavoriteRepositoryCustom {
+
+    /**
+     * 조건에 맞는 즐겨찾기 목록을 공용/개인 템플릿과 LEFT JOIN 하여 미리보기 프로젝션으로 페이징 조회합니다.
+     * 즐겨찾기마다 템플릿을 지연 로딩하지 않고 한 번의 쿼리로 필요한 컬럼만 가져옵니다.
+     * @param spec 즐겨찾기 조회 조건
+     * @param pageable 페이징 및 정렬 정보
+     * @return 주어진 조건에 맞는 FavoriteSummaryResponse 페이지
+     */
+    Page<FavoriteSummaryResponse> findSummaries(Specification<Favorite> spec, Pageable pageable);
+}
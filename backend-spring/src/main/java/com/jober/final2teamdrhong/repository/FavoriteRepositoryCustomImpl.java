@@ -0,0 +1,50 @@
+package com.jober.final2teamdrhong.repository;
+
+import com.jober.final2teamdrhong.dto.common.ContentPreview;
+import com.jober.final2teamdrhong.dto.favorite.FavoriteSummaryResponse;
+import com.jober.final2teamdrhong.entity.Favorite;
+import com.jober.final2teamdrhong.entity.IndividualTemplate;
+import com.jober.final2teamdrhong.entity.PublicTemplate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+@RequiredArgsConstructor
+public class FavoriteRepositoryCustomImpl implements FavoriteRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<FavoriteSummaryResponse> findSummaries(Specification<Favorite> spec, Pageable pageable) {
+        return SpecificationProjectionQuery.findPage(
+                entityManager,
+                Favorite.class,
+                FavoriteSummaryResponse.class,
+                spec,
+                pageable,
+                (root, cb) -> {
+                    Join<Favorite, PublicTemplate> pt = root.join("publicTemplate", JoinType.LEFT);
+                    Join<Favorite, IndividualTemplate> it = root.join("individualTemplate", JoinType.LEFT);
+
+                    return new Selection<?>[]{
+                            root.get("favoriteId"),
+                            cb.<String>selectCase()
+                                    .when(cb.isNotNull(root.get("publicTemplate")), Favorite.TemplateType.PUBLIC.name())
+                                    .otherwise(Favorite.TemplateType.INDIVIDUAL.name()),
+                            cb.coalesce(pt.<Integer>get("publicTemplateId"), it.<Integer>get("individualTemplateId")),
+                            cb.coalesce(pt.<String>get("publicTemplateTitle"), it.<String>get("individualTemplateTitle")),
+                            cb.substring(
+                                    cb.coalesce(pt.<String>get("publicTemplateContent"), it.<String>get("individualTemplateContent")),
+                                    1, ContentPreview.LENGTH),
+                            cb.coalesce(pt.<String>get("buttonTitle"), it.<String>get("buttonTitle")),
+                            pt.get("viewCount"),
+                            pt.get("shareCount")
+                    };
+                });
+    }
+}
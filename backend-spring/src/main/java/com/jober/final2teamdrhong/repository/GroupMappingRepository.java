@@ -1,8 +1,11 @@
 package com.jober.final2teamdrhong.repository;
 
+import com.jober.final2teamdrhong.dto.recipient.RecipientResponse;
 import com.jober.final2teamdrhong.entity.GroupMapping;
+import com.jober.final2teamdrhong.entity.GroupMappingCascadeTask;
 import com.jober.final2teamdrhong.entity.PhoneBook;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -11,10 +14,11 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface GroupMappingRepository extends JpaRepository<GroupMapping, Integer> {
+public interface GroupMappingRepository extends JpaRepository<GroupMapping, Integer>, GroupMappingRepositoryCustom {
 
     /**
      * 특정 주소록에 이미 매핑된 모든 수신자들의 ID 목록을 조회합니다.
@@ -31,12 +35,57 @@ public interface GroupMappingRepository extends JpaRepository<GroupMapping, Inte
             WHERE gm.phoneBook = :phoneBook""")
     List<Integer> findRecipientIdsByPhoneBook(@Param("phoneBook") PhoneBook phoneBook);
 
+    /**
+     * 주어진 수신자 ID 중 특정 주소록에 이미 매핑된 수신자들의 ID만 조회합니다.
+     * <p>
+     * 주소록 전체 멤버가 아닌 요청된 수신자만 확인하므로,
+     * 조회 비용이 주소록 크기가 아닌 요청 크기에 비례합니다.
+     *
+     * @param phoneBookId  조회할 주소록의 ID
+     * @param recipientIds 확인할 수신자 ID 목록
+     * @return 주어진 수신자 중 해당 주소록에 이미 속한 수신자들의 ID 리스트
+     */
+    @Query("""
+            SELECT gm.recipient.recipientId
+            FROM GroupMapping gm
+            WHERE gm.phoneBook.phoneBookId = :phoneBookId
+            AND gm.recipient.recipientId IN :recipientIds""")
+    List<Integer> findRecipientIdsInPhoneBook(@Param("phoneBookId") Integer phoneBookId,
+                                              @Param("recipientIds") Collection<Integer> recipientIds);
+
+    /**
+     * 주어진 수신자 ID 중 특정 주소록에 속한(삭제되지 않은) 매핑의 수신자 ID를 조회하면서 해당 매핑 행에 쓰기 락을 겁니다.
+     * <p>
+     * 잠금 읽기(SELECT ... FOR UPDATE)는 스냅샷이 아닌 최신 커밋 값을 읽으므로, REPEATABLE READ에서도
+     * 같은 매핑을 먼저 삭제한 다른 트랜잭션이 커밋되면 그 매핑은 결과에서 빠집니다.
+     * 트랜잭션 안에서 호출해야 하며, 락은 트랜잭션이 끝날 때까지 유지됩니다.
+     *
+     * @param phoneBookId  조회할 주소록의 ID
+     * @param recipientIds 확인할 수신자 ID 목록
+     * @return 주어진 수신자 중 해당 주소록에 속한 수신자들의 ID 리스트
+     */
+    @Query(value = """
+                    SELECT recipient_id
+                    FROM group_mapping
+                    WHERE phone_book_id = :phoneBookId
+                    AND recipient_id IN :recipientIds
+                    AND is_deleted = false
+                    FOR UPDATE""",
+                    nativeQuery = true)
+    List<Integer> lockRecipientIdsInPhoneBook(@Param("phoneBookId") Integer phoneBookId,
+                                              @Param("recipientIds") Collection<Integer> recipientIds);
+
     /**
      * 여러 수신자를 특정 주소록에 일괄 추가합니다 (벌크 INSERT).
      * <p>
      * 네이티브 쿼리를 사용하여 단일 INSERT 쿼리로 여러 매핑을 한 번에 생성합니다.
      * 모든 매핑에 동일한 생성 시간이 적용되어 시간 일관성을 보장합니다.
      * <p>
+     * 이미 주소록에 속한(삭제되지 않은) 수신자는 NOT EXISTS 조건으로 건너뛰므로,
+     * 동시에 같은 수신자를 추가하는 요청이 있어도 중복 매핑이 생기지 않습니다.
+     * 최종적으로는 {@code uk_group_mapping_live} 유니크 제약이 중복을 막습니다.
+     * 삭제된 주소록에는 매핑을 추가하지 않습니다.
+     * <p>
      * 생성되는 필드들:
      * <ul>
      *     <li>phone_book_id: 파라미터로 전달받은 주소록 ID</li>
@@ -45,22 +94,37 @@ public interface GroupMappingRepository extends JpaRepository<GroupMapping, Inte
      *     <li>updated_at: 파라미터로 전달받은 현재 시간</li>
      *     <li>is_deleted: false (기본값)</li>
      *     <li>deleted_at: null (기본값)</li>
+     *     <li>insert_token: 파라미터로 전달받은 요청 식별자 (없으면 null)</li>
      * </ul>
      *
      * @param phoneBookId  매핑을 추가할 주소록의 ID
      * @param recipientIds 매핑을 추가할 수신자 ID 목록
      * @param now          생성 시간으로 사용할 현재 시간
+     * @param insertToken  이번 요청이 추가한 매핑을 나중에 가려내기 위한 요청 식별자 (필요 없으면 null)
+     * @return 실제로 추가된 매핑 수
      */
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query(value = """
-                    INSERT INTO group_mapping (phone_book_id, recipient_id, created_at, updated_at, deleted_at, is_deleted)
-                    SELECT :phoneBookId, r.recipient_id, :now, :now, null, false 
+                    INSERT INTO group_mapping (phone_book_id, recipient_id, created_at, updated_at, deleted_at, is_deleted, insert_token)
+                    SELECT :phoneBookId, r.recipient_id, :now, :now, null, false, :insertToken
                     FROM recipient r
-                    WHERE r.recipient_id IN :recipientIds""",
+                    WHERE r.recipient_id IN :recipientIds
+                    AND EXISTS (
+                        SELECT 1
+                        FROM phone_book pb
+                        WHERE pb.phone_book_id = :phoneBookId
+                        AND pb.is_deleted = false)
+                    AND NOT EXISTS (
+                        SELECT 1
+                        FROM group_mapping gm
+                        WHERE gm.phone_book_id = :phoneBookId
+                        AND gm.recipient_id = r.recipient_id
+                        AND gm.is_deleted = false)""",
                     nativeQuery = true)
-    void bulkInsertMappings(@Param("phoneBookId") Integer phoneBookId,
+    int bulkInsertMappings(@Param("phoneBookId") Integer phoneBookId,
                             @Param("recipientIds") List<Integer> recipientIds,
-                            @Param("now") LocalDateTime now);
+                            @Param("now") LocalDateTime now,
+                            @Param("insertToken") String insertToken);
 
     /**
      * 특정 주소록과 수신자 ID 목록에 해당하는 GroupMapping들을 조회합니다.
@@ -79,72 +143,141 @@ public interface GroupMappingRepository extends JpaRepository<GroupMapping, Inte
     List<GroupMapping> findAllByPhoneBook_PhoneBookIdAndRecipient_RecipientIdIn(Integer phoneBookId, List<Integer> recipientIds);
 
     /**
-     * 특정 주소록에 속한 GroupMapping 목록을 페이징하여 조회합니다.
+     * 주어진 수신자 중 특정 요청의 벌크 INSERT로 주소록에 추가된 수신자들의 ID만 조회합니다.
      * <p>
-     * 수신자의 생성 시간(createdAt) 내림차순으로 정렬되어 반환됩니다.
-     * 이를 통해 최신에 생성된 수신자가 먼저 표시됩니다.
+     * 벌크 INSERT가 요청보다 적은 매핑을 추가했을 때(그 사이 다른 요청이 먼저 추가한 경우),
+     * 이번 INSERT에서 실제로 추가된 수신자를 가려내는 용도로 사용됩니다.
+     * 생성 시간은 초 단위라 같은 초에 추가한 다른 요청과 구분되지 않으므로 요청 식별자로 구분합니다.
      *
-     * @param phoneBook 조회할 주소록 엔티티
-     * @param pageable  페이징 및 정렬 정보 (정렬 조건은 무시되고 수신자 생성 시간 기준으로 정렬됨)
-     * @return 페이징된 GroupMapping 엔티티 목록 (Page<GroupMapping>)
+     * @param phoneBookId  조회할 주소록의 ID
+     * @param recipientIds 확인할 수신자 ID 목록
+     * @param insertToken  벌크 INSERT에 사용한 요청 식별자
+     * @return 주어진 요청으로 추가된 수신자들의 ID 리스트
+     */
+    @Query("""
+            SELECT gm.recipient.recipientId
+            FROM GroupMapping gm
+            WHERE gm.phoneBook.phoneBookId = :phoneBookId
+            AND gm.recipient.recipientId IN :recipientIds
+            AND gm.insertToken = :insertToken""")
+    List<Integer> findRecipientIdsInsertedBy(@Param("phoneBookId") Integer phoneBookId,
+                                             @Param("recipientIds") Collection<Integer> recipientIds,
+                                             @Param("insertToken") String insertToken);
+
+    /*
+     * 주소록 수신자 목록 조회 (매핑과 수신자를 조인해 수신자 컬럼만 프로젝션, 수신자를 지연 로딩하지 않음)
+     * 정렬은 쿼리에 고정하며 (workspace_id, created_at, recipient_id) 인덱스로 커서 이후 범위만 읽는다.
+     * Pageable은 OFFSET/LIMIT 용도로만 사용한다.
      */
-    Page<GroupMapping> findByPhoneBookOrderByRecipient_CreatedAtDescRecipient_RecipientIdDesc(PhoneBook phoneBook, Pageable pageable);
+
+    // 주소록 수신자 목록 조회용 프로젝션
+    String MEMBER_SELECT = "SELECT new com.jober.final2teamdrhong.dto.recipient.RecipientResponse$SimpleDTO(" +
+            "r.recipientId, r.recipientName, r.recipientPhoneNumber, r.recipientMemo, r.createdAt, r.updatedAt, r.deletedAt) " +
+            "FROM GroupMapping gm JOIN gm.recipient r " +
+            "WHERE gm.phoneBook.phoneBookId = :phoneBookId " +
+            "AND r.workspace.workspaceId = :workspaceId " +
+            "AND r.isDeleted = false ";
+
+    String MEMBER_ORDER = "ORDER BY r.createdAt DESC, r.recipientId DESC";
+
+    // 오프셋 페이지 (전체 개수 포함)
+    @Query(value = MEMBER_SELECT + MEMBER_ORDER,
+            countQuery = "SELECT COUNT(gm) FROM GroupMapping gm JOIN gm.recipient r " +
+                    "WHERE gm.phoneBook.phoneBookId = :phoneBookId " +
+                    "AND r.workspace.workspaceId = :workspaceId " +
+                    "AND r.isDeleted = false")
+    Page<RecipientResponse.SimpleDTO> findMemberPage(@Param("workspaceId") Integer workspaceId,
+                                                     @Param("phoneBookId") Integer phoneBookId,
+                                                     Pageable pageable);
+
+    // 주소록 수신자 수 (삭제된 수신자 제외)
+    @Query("SELECT COUNT(gm) FROM GroupMapping gm JOIN gm.recipient r " +
+            "WHERE gm.phoneBook.phoneBookId = :phoneBookId " +
+            "AND r.isDeleted = false")
+    long countMembers(@Param("phoneBookId") Integer phoneBookId);
+
+    // 커서 기반 첫 페이지 (COUNT 쿼리 없음)
+    @Query(MEMBER_SELECT + MEMBER_ORDER)
+    List<RecipientResponse.SimpleDTO> findMemberFirstPage(@Param("workspaceId") Integer workspaceId,
+                                                          @Param("phoneBookId") Integer phoneBookId,
+                                                          Pageable pageable);
+
+    // 커서 기반 다음 페이지: (createdAt, recipientId) < (커서)
+    @Query(MEMBER_SELECT +
+            "AND (r.createdAt < :cursorCreatedAt " +
+            "     OR (r.createdAt = :cursorCreatedAt AND r.recipientId < :cursorId)) " +
+            MEMBER_ORDER)
+    List<RecipientResponse.SimpleDTO> findMembersAfter(@Param("workspaceId") Integer workspaceId,
+                                                       @Param("phoneBookId") Integer phoneBookId,
+                                                       @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                       @Param("cursorId") Integer cursorId,
+                                                       Pageable pageable);
 
     /**
-     * 전달된 GroupMapping 엔티티 목록을 Bulk Update를 통해 일괄 소프트 딜리트 처리합니다.
-     * isDeleted 플래그, updatedAt, deletedAt을 모두 파라미터로 전달받은 시간으로 명시적으로 업데이트합니다.
+     * 특정 주소록에서 여러 수신자의 매핑을 일괄 소프트 딜리트합니다 (벌크 UPDATE).
      * <p>
-     * JPQL을 사용하여 단일 UPDATE 쿼리를 실행하므로 성능이 우수합니다.
-     * 각 엔티티를 개별적으로 수정하는 방식과 달리, N+1 문제를 방지할 수 있습니다.
+     * 매핑 엔티티를 로딩하지 않고 (주소록 ID, 수신자 ID 목록) 조건으로 단일 UPDATE 쿼리를 실행합니다.
+     * 이미 삭제된 매핑은 {@code is_deleted = false} 조건으로 건너뛰므로, 같은 요청을 반복해도 삭제 시간이 바뀌지 않습니다.
      * <p>
-     * 소프트 삭제 시 다음 필드들이 업데이트됩니다:
+     * 갱신되는 필드들:
      * <ul>
-     *     <li>isDeleted: true로 설정하여 삭제 상태 표시</li>
-     *     <li>updatedAt: 현재 시간으로 설정하여 수정 시점 기록</li>
-     *     <li>deletedAt: 현재 시간으로 설정하여 삭제 시점 기록</li>
+     *     <li>is_deleted: true</li>
+     *     <li>updated_at: 파라미터로 전달받은 삭제 시간</li>
+     *     <li>deleted_at: 파라미터로 전달받은 삭제 시간</li>
      * </ul>
-     * <p>
-     * 실행 후 영속성 컨텍스트는 자동으로 클리어되므로, 이후 조회 시 DB의 최신 상태가 반영됩니다.
      *
-     * @param mappings 소프트 딜리트할 GroupMapping 엔티티 목록
-     * @param now      삭제 시점으로 기록할 현재 시간 (LocalDateTime)
+     * @param phoneBookId  매핑을 삭제할 주소록의 ID
+     * @param recipientIds 주소록에서 제거할 수신자 ID 목록
+     * @param now          삭제 시간으로 기록할 현재 시간
+     * @return 실제로 삭제 처리된 매핑 수
      */
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("""
-            UPDATE GroupMapping gm SET gm.updatedAt = :now, gm.deletedAt = :now, gm.isDeleted = true 
-            WHERE gm IN :mappings""")
-    void softDeleteAllInBatch(@Param("mappings") List<GroupMapping> mappings,
-                              @Param("now") LocalDateTime now);
+    @Query(value = """
+                    UPDATE group_mapping
+                    SET is_deleted = true, updated_at = :now, deleted_at = :now
+                    WHERE phone_book_id = :phoneBookId
+                    AND recipient_id IN :recipientIds
+                    AND is_deleted = false""",
+                    nativeQuery = true)
+    int bulkSoftDeleteMappings(@Param("phoneBookId") Integer phoneBookId,
+                               @Param("recipientIds") List<Integer> recipientIds,
+                               @Param("now") LocalDateTime now);
+
+    @Query("SELECT gm.groupMappingId FROM GroupMapping gm " +
+            "WHERE gm.phoneBook.phoneBookId = :phoneBookId ORDER BY gm.groupMappingId")
+    List<Integer> findIdsByPhoneBookId(@Param("phoneBookId") Integer phoneBookId, Pageable pageable);
+
+    @Query("SELECT gm.groupMappingId FROM GroupMapping gm " +
+            "WHERE gm.recipient.recipientId = :recipientId ORDER BY gm.groupMappingId")
+    List<Integer> findIdsByRecipientId(@Param("recipientId") Integer recipientId, Pageable pageable);
 
     /**
-     * ID 목록으로 GroupMapping 조회 (소프트 삭제된 엔티티 포함)
-     * <p>
-     * 이 메서드는 {@link GroupMapping} 엔티티에 적용된
-     * {@code @SQLRestriction("is_deleted = false")} 제약 조건을 우회하기 위해 네이티브 SQL 쿼리를 사용합니다.
-     * 따라서 소프트 딜리트 처리된 매핑을 포함하여 모든 상태의 매핑을 조회할 수 있습니다.
-     * <p>
-     * 삭제 작업 후 정확한 DB 시간 정보가 담긴 DTO 반환을 위해 사용됩니다.
+     * 삭제된 주소록 또는 수신자에 남아 있는 (삭제되지 않은) 매핑 ID를 오름차순으로 최대 chunkSize개 조회합니다.
+     * 연쇄 삭제 작업에서 청크 단위로 호출합니다.
      *
-     * @param mappingIds 조회할 GroupMapping ID 목록
-     * @return 소프트 삭제된 것을 포함한 GroupMapping 목록
+     * @param targetType 삭제된 부모의 유형 (주소록 또는 수신자)
+     * @param targetId   삭제된 부모의 ID
+     * @param chunkSize  조회할 최대 개수
+     * @return 매핑 ID 목록
      */
-    @Query(value = """
-                    SELECT * 
-                    FROM group_mapping 
-                    WHERE group_mapping_id IN :mappingIds""",
-                    nativeQuery = true)
-    List<GroupMapping> findAllByIdIncludingDeleted(@Param("mappingIds") List<Integer> mappingIds);
+    default List<Integer> findIdsByTarget(GroupMappingCascadeTask.TargetType targetType, Integer targetId, int chunkSize) {
+        Pageable pageable = PageRequest.of(0, chunkSize);
+        return targetType == GroupMappingCascadeTask.TargetType.PHONE_BOOK
+                ? findIdsByPhoneBookId(targetId, pageable)
+                : findIdsByRecipientId(targetId, pageable);
+    }
 
     /**
-     * 특정 주소록과 수신자 ID 목록에 해당하는 GroupMapping 엔티티들을 조회합니다.
-     * <p>
-     * 이 메소드는 주소록에서 특정 수신자들을 삭제하기 전,
-     * 실제로 삭제 가능한 매핑 관계를 찾기 위한 목적으로 사용됩니다.
-     * 요청된 수신자 ID 중 해당 주소록에 실제로 존재하는 매핑만 반환됩니다.
+     * 주어진 ID의 매핑을 한 번의 UPDATE 문으로 소프트 딜리트합니다.
+     * 이미 삭제된 매핑은 건너뛰므로, 같은 청크를 다시 처리해도 삭제 시간이 바뀌지 않습니다.
      *
-     * @param phoneBook   대상 주소록 엔티티
-     * @param recipientIds 조회할 수신자 ID 목록
-     * @return 조건에 일치하는 GroupMapping 엔티티 목록
+     * @param mappingIds 삭제할 매핑 ID 목록
+     * @param now        삭제 시간으로 기록할 현재 시간
+     * @return 소프트 딜리트된 매핑 수
      */
-    List<GroupMapping> findAllByPhoneBookAndRecipient_RecipientIdIn(PhoneBook phoneBook, List<Integer> recipientIds);
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE GroupMapping gm SET gm.isDeleted = true, gm.deletedAt = :now, gm.updatedAt = :now
+            WHERE gm.groupMappingId IN :mappingIds AND gm.isDeleted = false""")
+    int softDeleteAllByIdIn(@Param("mappingIds") List<Integer> mappingIds, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,20 @@
+package com.jober.final2teamdrhong.repository;
+
+import com.jober.final2teamdrhong.dto.recipient.RecipientExportRow;
+
+import java.util.stream.Stream;
+
+public interface GroupMappingRepositoryCustom {
+
+    /**
+     * 특정 주소록에 속한 수신자들을 내보내기용 행으로 스트리밍 조회합니다.
+     * <p>
+     * {@code recipient.export.fetch-size}로 읽으므로 주소록 크기와 관계없이 메모리 사용량이 일정합니다.
+     * 매핑 ID 순으로 읽어 주소록 ID 인덱스만으로 정렬 없이 조회합니다.
+     * 반환된 Stream은 트랜잭션 안에서 소비한 뒤 반드시 닫아야 하며, 닫기 전까지 같은 커넥션으로 다른 조회를 실행할 수 없습니다.
+     *
+     * @param phoneBookId 수신자를 내보낼 주소록의 ID
+     * @return 주소록에 추가된 순서로 정렬된 내보내기 행 스트림
+     */
+    Stream<RecipientExportRow> streamExportRowsByPhoneBook(Integer phoneBookId);
+}
@@ -0,0 +1,34 @@
+package com.jober.final2teamdrhong.repository;
+
+import com.jober.final2teamdrhong.dto.recipient.RecipientExportRow;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.stream.Stream;
+
+public class GroupMappingRepositoryCustomImpl implements GroupMappingRepositoryCustom {
+
+    private final EntityManager entityManager;
+    private final int exportFetchSize;
+
+    public GroupMappingRepositoryCustomImpl(EntityManager entityManager,
+                                            @Value("${recipient.export.fetch-size:1000}") int exportFetchSize) {
+        this.entityManager = entityManager;
+        this.exportFetchSize = exportFetchSize;
+    }
+
+    @Override
+    public Stream<RecipientExportRow> streamExportRowsByPhoneBook(Integer phoneBookId) {
+        return entityManager.createQuery("""
+                        SELECT new com.jober.final2teamdrhong.dto.recipient.RecipientExportRow(
+                            r.recipientName, r.recipientPhoneNumber, r.recipientMemo, r.createdAt)
+                        FROM GroupMapping gm JOIN gm.recipient r
+                        WHERE gm.phoneBook.phoneBookId = :phoneBookId
+                        AND r.isDeleted = false
+                        ORDER BY gm.groupMappingId""", RecipientExportRow.class)
+                .setParameter("phoneBookId", phoneBookId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+                .getResultStream();
+    }
+}
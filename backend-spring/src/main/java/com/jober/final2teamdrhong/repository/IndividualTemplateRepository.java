@@ -1,52 +1,261 @@
 package com.jober.final2teamdrhong.repository;
 
+import com.jober.final2teamdrhong.dto.common.ContentPreview;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateSummaryResponse;
 import com.jober.final2teamdrhong.entity.IndividualTemplate;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface IndividualTemplateRepository extends JpaRepository<IndividualTemplate, Integer> {
+
+    // 목록 조회용 프로젝션: TEXT 본문 대신 SQL에서 자른 미리보기만 조회
+    String SUMMARY_SELECT = "SELECT new com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateSummaryResponse(" +
+            "i.individualTemplateId, i.individualTemplateTitle, " +
+            "SUBSTRING(i.individualTemplateContent, 1, " + ContentPreview.LENGTH + "), " +
+            "i.buttonTitle, i.workspace.workspaceId, i.createdAt, i.updatedAt, i.status) " +
+            "FROM IndividualTemplate i ";
+
     default IndividualTemplate findByIdOrThrow(Integer templateId) {
         return findById(templateId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 개인 템플릿을 찾을 수 없습니다."));
     }
 
     // 개인 템플릿 목록 전체 조회
-    Page<IndividualTemplate> findByWorkspace_WorkspaceId(Integer workspaceId, Pageable pageable);
+    @Query(value = SUMMARY_SELECT +
+            "WHERE i.workspace.workspaceId = :workspaceId AND i.isDeleted = false",
+            countQuery = "SELECT COUNT(i) FROM IndividualTemplate i " +
+                    "WHERE i.workspace.workspaceId = :workspaceId AND i.isDeleted = false")
+    Page<IndividualTemplateSummaryResponse> findByWorkspace_WorkspaceId(
+            @Param("workspaceId") Integer workspaceId,
+            Pageable pageable);
 
     // 개인 템플릿 목록 상태별 조회
-    Page<IndividualTemplate> findByWorkspace_WorkspaceIdAndStatus(
-            Integer workspaceId,
-            IndividualTemplate.Status status,
+    @Query(value = SUMMARY_SELECT +
+            "WHERE i.workspace.workspaceId = :workspaceId AND i.status = :status AND i.isDeleted = false",
+            countQuery = "SELECT COUNT(i) FROM IndividualTemplate i " +
+                    "WHERE i.workspace.workspaceId = :workspaceId AND i.status = :status AND i.isDeleted = false")
+    Page<IndividualTemplateSummaryResponse> findByWorkspace_WorkspaceIdAndStatus(
+            @Param("workspaceId") Integer workspaceId,
+            @Param("status") IndividualTemplate.Status status,
             Pageable pageable
     );
 
     // 개인 템플릿 단일 조회
     Optional<IndividualTemplate> findByIndividualTemplateIdAndWorkspace_WorkspaceId(Integer individualTemplateId, Integer workspaceId);
 
+    // 개인 템플릿 단일 조회 + 워크스페이스 소유자 검증 (한 번의 조인 쿼리)
+    @Query("SELECT i FROM IndividualTemplate i JOIN FETCH i.workspace w " +
+            "WHERE i.individualTemplateId = :individualTemplateId " +
+            "AND w.workspaceId = :workspaceId AND w.user.userId = :userId")
+    Optional<IndividualTemplate> findAccessibleTemplate(
+            @Param("individualTemplateId") Integer individualTemplateId,
+            @Param("workspaceId") Integer workspaceId,
+            @Param("userId") Integer userId
+    );
+
     // 제목별 전체 조회 (가나다순)
-    @Query("SELECT i FROM IndividualTemplate i " +
+    @Query(value = SUMMARY_SELECT +
             "WHERE i.workspace.workspaceId = :workspaceId AND i.isDeleted = false " +
             "ORDER BY CASE WHEN i.individualTemplateTitle IS NULL THEN 1 ELSE 0 END, " +
-            "         i.individualTemplateTitle ASC")
-    Page<IndividualTemplate> findAllByWorkspaceOrderByTitleAsc(
+            "         i.individualTemplateTitle ASC",
+            countQuery = "SELECT COUNT(i) FROM IndividualTemplate i " +
+                    "WHERE i.workspace.workspaceId = :workspaceId AND i.isDeleted = false")
+    Page<IndividualTemplateSummaryResponse> findAllByWorkspaceOrderByTitleAsc(
             @Param("workspaceId") Integer workspaceId,
             Pageable pageable);
 
     // 제목 + 상태 조회 (가나다순)
-    @Query("SELECT i FROM IndividualTemplate i " +
+    @Query(value = SUMMARY_SELECT +
             "WHERE i.workspace.workspaceId = :workspaceId " +
             "AND i.status = :status AND i.isDeleted = false " +
             "ORDER BY CASE WHEN i.individualTemplateTitle IS NULL THEN 1 ELSE 0 END, " +
-            "         i.individualTemplateTitle ASC")
-    Page<IndividualTemplate> findAllByWorkspaceAndStatusOrderByTitleAsc(
+            "         i.individualTemplateTitle ASC",
+            countQuery = "SELECT COUNT(i) FROM IndividualTemplate i " +
+                    "WHERE i.workspace.workspaceId = :workspaceId " +
+                    "AND i.status = :status AND i.isDeleted = false")
+    Page<IndividualTemplateSummaryResponse> findAllByWorkspaceAndStatusOrderByTitleAsc(
+            @Param("workspaceId") Integer workspaceId,
+            @Param("status") IndividualTemplate.Status status,
+            Pageable pageable);
+
+    /*
+     * 커서 기반 조회 (COUNT 쿼리 없음)
+     * Pageable은 LIMIT(size + 1) 용도로만 사용하고 정렬은 쿼리에 고정한다.
+     * status가 null이면 상태 조건을 적용하지 않는다.
+     * 인덱스 순서로 정렬을 처리하도록 (:status IS NULL OR ...)이나 CASE 정렬 대신
+     * 상태 유무와 제목 NULL 구간별로 쿼리를 나누고, default 메서드에서 골라 호출한다.
+     */
+
+    String CURSOR_WHERE = "WHERE i.workspace.workspaceId = :workspaceId AND i.isDeleted = false ";
+    String CURSOR_STATUS = "AND i.status = :status ";
+    String LATEST_SEEK = "AND i.updatedAt <= :cursorUpdatedAt " +
+            "AND (i.updatedAt < :cursorUpdatedAt OR i.individualTemplateId < :cursorId) ";
+    String LATEST_ORDER = "ORDER BY i.updatedAt DESC, i.individualTemplateId DESC";
+    String TITLE_SEEK = "AND i.individualTemplateTitle >= :cursorTitle " +
+            "AND (i.individualTemplateTitle > :cursorTitle OR i.individualTemplateId < :cursorId) ";
+    String TITLE_ORDER = "ORDER BY i.individualTemplateTitle ASC, i.individualTemplateId DESC";
+    String NULL_TITLE_ORDER = "ORDER BY i.individualTemplateId DESC";
+
+    // 최신순 첫 페이지
+    default List<IndividualTemplateSummaryResponse> findLatestFirstPage(Integer workspaceId,
+                                                                        IndividualTemplate.Status status,
+                                                                        Pageable pageable) {
+        return status == null
+                ? findLatestFirstPageAllStatus(workspaceId, pageable)
+                : findLatestFirstPageByStatus(workspaceId, status, pageable);
+    }
+
+    // 최신순 다음 페이지: (updatedAt, id) < (커서)
+    default List<IndividualTemplateSummaryResponse> findLatestAfter(Integer workspaceId,
+                                                                    IndividualTemplate.Status status,
+                                                                    LocalDateTime cursorUpdatedAt,
+                                                                    Integer cursorId,
+                                                                    Pageable pageable) {
+        return status == null
+                ? findLatestAfterAllStatus(workspaceId, cursorUpdatedAt, cursorId, pageable)
+                : findLatestAfterByStatus(workspaceId, status, cursorUpdatedAt, cursorId, pageable);
+    }
+
+    // 제목순 첫 페이지: 제목이 있는 구간을 먼저 채우고, 모자라면 NULL 구간 앞부분으로 이어간다
+    default List<IndividualTemplateSummaryResponse> findTitleFirstPage(Integer workspaceId,
+                                                                       IndividualTemplate.Status status,
+                                                                       Pageable pageable) {
+        List<IndividualTemplateSummaryResponse> titled = status == null
+                ? findTitledFirstPageAllStatus(workspaceId, pageable)
+                : findTitledFirstPageByStatus(workspaceId, status, pageable);
+        return appendNullTitleSection(workspaceId, status, titled, pageable);
+    }
+
+    // 제목순 다음 페이지: 커서가 제목이 있는 구간이면 더 뒤의 제목, 모자라면 NULL 구간 앞부분으로 이어간다
+    default List<IndividualTemplateSummaryResponse> findTitleAfter(Integer workspaceId,
+                                                                   IndividualTemplate.Status status,
+                                                                   String cursorTitle,
+                                                                   Integer cursorId,
+                                                                   Pageable pageable) {
+        List<IndividualTemplateSummaryResponse> titled = status == null
+                ? findTitledAfterAllStatus(workspaceId, cursorTitle, cursorId, pageable)
+                : findTitledAfterByStatus(workspaceId, status, cursorTitle, cursorId, pageable);
+        return appendNullTitleSection(workspaceId, status, titled, pageable);
+    }
+
+    // 제목순 다음 페이지: 커서가 이미 제목 NULL 구간이면 id만으로 이어서 조회
+    default List<IndividualTemplateSummaryResponse> findNullTitleAfter(Integer workspaceId,
+                                                                       IndividualTemplate.Status status,
+                                                                       Integer cursorId,
+                                                                       Pageable pageable) {
+        return status == null
+                ? findNullTitleAfterAllStatus(workspaceId, cursorId, pageable)
+                : findNullTitleAfterByStatus(workspaceId, status, cursorId, pageable);
+    }
+
+    // 제목 구간 결과가 한 페이지에 모자라면 제목 NULL 구간의 앞부분을 이어 붙인다
+    // (Spring Data가 쿼리 메서드로 해석하지 않도록 private 대신 default로 둔다)
+    default List<IndividualTemplateSummaryResponse> appendNullTitleSection(Integer workspaceId,
+                                                                           IndividualTemplate.Status status,
+                                                                           List<IndividualTemplateSummaryResponse> titled,
+                                                                           Pageable pageable) {
+        int remaining = pageable.getPageSize() - titled.size();
+        if (remaining <= 0) {
+            return titled;
+        }
+        Pageable rest = PageRequest.of(0, remaining);
+        List<IndividualTemplateSummaryResponse> nullTitled = status == null
+                ? findNullTitleFirstPageAllStatus(workspaceId, rest)
+                : findNullTitleFirstPageByStatus(workspaceId, status, rest);
+        if (nullTitled.isEmpty()) {
+            return titled;
+        }
+        List<IndividualTemplateSummaryResponse> page = new ArrayList<>(titled);
+        page.addAll(nullTitled);
+        return page;
+    }
+
+    @Query(SUMMARY_SELECT + CURSOR_WHERE + LATEST_ORDER)
+    List<IndividualTemplateSummaryResponse> findLatestFirstPageAllStatus(
+            @Param("workspaceId") Integer workspaceId,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + CURSOR_WHERE + CURSOR_STATUS + LATEST_ORDER)
+    List<IndividualTemplateSummaryResponse> findLatestFirstPageByStatus(
+            @Param("workspaceId") Integer workspaceId,
+            @Param("status") IndividualTemplate.Status status,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + CURSOR_WHERE + LATEST_SEEK + LATEST_ORDER)
+    List<IndividualTemplateSummaryResponse> findLatestAfterAllStatus(
+            @Param("workspaceId") Integer workspaceId,
+            @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+            @Param("cursorId") Integer cursorId,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + CURSOR_WHERE + CURSOR_STATUS + LATEST_SEEK + LATEST_ORDER)
+    List<IndividualTemplateSummaryResponse> findLatestAfterByStatus(
+            @Param("workspaceId") Integer workspaceId,
+            @Param("status") IndividualTemplate.Status status,
+            @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+            @Param("cursorId") Integer cursorId,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + CURSOR_WHERE + "AND i.individualTemplateTitle IS NOT NULL " + TITLE_ORDER)
+    List<IndividualTemplateSummaryResponse> findTitledFirstPageAllStatus(
+            @Param("workspaceId") Integer workspaceId,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + CURSOR_WHERE + CURSOR_STATUS + "AND i.individualTemplateTitle IS NOT NULL " + TITLE_ORDER)
+    List<IndividualTemplateSummaryResponse> findTitledFirstPageByStatus(
+            @Param("workspaceId") Integer workspaceId,
+            @Param("status") IndividualTemplate.Status status,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + CURSOR_WHERE + TITLE_SEEK + TITLE_ORDER)
+    List<IndividualTemplateSummaryResponse> findTitledAfterAllStatus(
+            @Param("workspaceId") Integer workspaceId,
+            @Param("cursorTitle") String cursorTitle,
+            @Param("cursorId") Integer cursorId,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + CURSOR_WHERE + CURSOR_STATUS + TITLE_SEEK + TITLE_ORDER)
+    List<IndividualTemplateSummaryResponse> findTitledAfterByStatus(
+            @Param("workspaceId") Integer workspaceId,
+            @Param("status") IndividualTemplate.Status status,
+            @Param("cursorTitle") String cursorTitle,
+            @Param("cursorId") Integer cursorId,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + CURSOR_WHERE + "AND i.individualTemplateTitle IS NULL " + NULL_TITLE_ORDER)
+    List<IndividualTemplateSummaryResponse> findNullTitleFirstPageAllStatus(
+            @Param("workspaceId") Integer workspaceId,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + CURSOR_WHERE + CURSOR_STATUS + "AND i.individualTemplateTitle IS NULL " + NULL_TITLE_ORDER)
+    List<IndividualTemplateSummaryResponse> findNullTitleFirstPageByStatus(
+            @Param("workspaceId") Integer workspaceId,
+            @Param("status") IndividualTemplate.Status status,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + CURSOR_WHERE + "AND i.individualTemplateTitle IS NULL AND i.individualTemplateId < :cursorId " +
+            NULL_TITLE_ORDER)
+    List<IndividualTemplateSummaryResponse> findNullTitleAfterAllStatus(
+            @Param("workspaceId") Integer workspaceId,
+            @Param("cursorId") Integer cursorId,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + CURSOR_WHERE + CURSOR_STATUS +
+            "AND i.individualTemplateTitle IS NULL AND i.individualTemplateId < :cursorId " + NULL_TITLE_ORDER)
+    List<IndividualTemplateSummaryResponse> findNullTitleAfterByStatus(
             @Param("workspaceId") Integer workspaceId,
             @Param("status") IndividualTemplate.Status status,
+            @Param("cursorId") Integer cursorId,
             Pageable pageable);
 }
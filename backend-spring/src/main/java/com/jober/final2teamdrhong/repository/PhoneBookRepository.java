@@ -1,5 +1,6 @@
 package com.jober.final2teamdrhong.repository;
 
+import com.jober.final2teamdrhong.dto.phonebook.PhoneBookResponse;
 import com.jober.final2teamdrhong.entity.PhoneBook;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -24,6 +25,25 @@ public interface PhoneBookRepository extends JpaRepository<PhoneBook, Integer> {
      */
     Optional<PhoneBook> findByPhoneBookIdAndWorkspace_WorkspaceId(Integer phoneBookId, Integer workspaceId);
 
+    /**
+     * 사용자가 소유한 워크스페이스에 속한 주소록을 조회합니다.
+     * <p>
+     * 워크스페이스 권한 검증과 주소록 소속 검증을 한 번의 조인 쿼리로 처리합니다.
+     *
+     * @param phoneBookId 조회할 주소록의 고유 ID
+     * @param workspaceId 주소록이 속한 워크스페이스의 ID
+     * @param userId      워크스페이스의 소유자 ID
+     * @return 주소록 엔티티를 담은 Optional 객체. 주소록이 없거나 워크스페이스 소유자가 아니면 Optional.empty()를 반환합니다.
+     */
+    @Query("""
+            SELECT p FROM PhoneBook p JOIN FETCH p.workspace w
+            WHERE p.phoneBookId = :phoneBookId
+              AND w.workspaceId = :workspaceId
+              AND w.user.userId = :userId""")
+    Optional<PhoneBook> findAccessiblePhoneBook(@Param("phoneBookId") Integer phoneBookId,
+                                                @Param("workspaceId") Integer workspaceId,
+                                                @Param("userId") Integer userId);
+
     /**
      * 특정 워크스페이스 ID에 속한 모든 주소록 목록을 조회합니다.
      *
@@ -32,6 +52,28 @@ public interface PhoneBookRepository extends JpaRepository<PhoneBook, Integer> {
      */
     List<PhoneBook> findAllByWorkspace_WorkspaceId(Integer workspaceId);
 
+    /**
+     * 특정 워크스페이스의 주소록 목록을 주소록별 수신자 수와 함께 조회합니다.
+     * <p>
+     * 매핑과 수신자를 LEFT JOIN 후 GROUP BY로 집계하므로, 주소록마다 매핑 컬렉션을 로딩하지 않고
+     * 한 번의 쿼리로 수신자 수를 계산합니다. 삭제된 매핑과 삭제된 수신자는 세지 않으며,
+     * 수신자가 없는 주소록은 0으로 조회됩니다.
+     *
+     * @param workspaceId 주소록을 조회할 워크스페이스의 ID
+     * @return 주소록 ID 순으로 정렬된 주소록 정보(수신자 수 포함) 리스트
+     */
+    @Query("""
+            SELECT new com.jober.final2teamdrhong.dto.phonebook.PhoneBookResponse$SimpleDTO(
+                p.phoneBookId, p.phoneBookName, p.phoneBookMemo, p.createdAt, p.updatedAt, p.deletedAt,
+                COUNT(r.recipientId))
+            FROM PhoneBook p
+            LEFT JOIN GroupMapping gm ON gm.phoneBook = p AND gm.isDeleted = false
+            LEFT JOIN Recipient r ON r = gm.recipient AND r.isDeleted = false
+            WHERE p.workspace.workspaceId = :workspaceId
+            GROUP BY p.phoneBookId, p.phoneBookName, p.phoneBookMemo, p.createdAt, p.updatedAt, p.deletedAt
+            ORDER BY p.phoneBookId""")
+    List<PhoneBookResponse.SimpleDTO> findSummariesWithRecipientCount(@Param("workspaceId") Integer workspaceId);
+
     /**
      * ID를 기준으로 주소록(PhoneBook) 엔티티를 조회합니다.
      * <p>
@@ -50,4 +92,23 @@ public interface PhoneBookRepository extends JpaRepository<PhoneBook, Integer> {
                     WHERE phone_book_id = :phoneBookId""",
                     nativeQuery = true)
     Optional<PhoneBook> findByIdIncludingDeleted(@Param("phoneBookId") Integer phoneBookId);
+
+    /**
+     * 삭제되지 않은 주소록인지 확인하면서 주소록 행을 잠급니다. (SELECT ... FOR UPDATE)
+     * <p>
+     * 비동기 추가 작업이 청크마다 주소록이 살아 있는지 확인하는 용도로 사용됩니다.
+     * 락은 트랜잭션이 끝날 때까지 유지되므로, 그 사이 주소록 삭제가 커밋되어 삭제된 주소록에 매핑이 추가되는 일이 없습니다.
+     * 주소록 삭제가 먼저 진행 중이면 그 트랜잭션이 끝날 때까지 기다린 뒤 삭제 여부를 반영합니다.
+     *
+     * @param phoneBookId 확인할 주소록의 ID
+     * @return 삭제되지 않은 주소록이면 주소록 ID, 없거나 삭제되었으면 빈 Optional
+     */
+    @Query(value = """
+                    SELECT phone_book_id
+                    FROM phone_book
+                    WHERE phone_book_id = :phoneBookId
+                    AND is_deleted = false
+                    FOR UPDATE""",
+                    nativeQuery = true)
+    Optional<Integer> lockLivePhoneBookId(@Param("phoneBookId") Integer phoneBookId);
 }
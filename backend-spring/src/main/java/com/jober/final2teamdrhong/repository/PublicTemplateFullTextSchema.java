@@ -0,0 +1,49 @@
+package com.jober.final2teamdrhong.repository;
+
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateSearchRequest.SearchTarget;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공용 템플릿 FULLTEXT(ngram) 인덱스의 이름과 컬럼 정의.
+ * <p>
+ * MySQL의 MATCH(...)는 컬럼 목록이 인덱스 정의와 정확히 일치해야 하므로
+ * 검색 대상(TITLE/CONTENT/ALL)마다 별도의 인덱스를 둔다.
+ * JPA의 {@code @Index}로는 FULLTEXT 인덱스를 선언할 수 없고, 첫 FULLTEXT 인덱스 추가는 테이블을 재구성하며
+ * 그동안 쓰기를 막으므로 기동 시점이 아니라 {@code db/migration/public_template_fulltext_ngram.sql}로 한 번 생성한다.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PublicTemplateFullTextSchema {
+
+    public static final String TABLE = "public_template";
+
+    /**
+     * 검색 대상별 FULLTEXT 인덱스 이름
+     */
+    public static String indexName(SearchTarget target) {
+        return switch (target) {
+            case TITLE -> "ft_public_template_title";
+            case CONTENT -> "ft_public_template_content";
+            case ALL -> "ft_public_template_title_content";
+        };
+    }
+
+    /**
+     * 검색 대상별 FULLTEXT 인덱스 컬럼 목록 (MATCH 절과 동일해야 함)
+     */
+    public static String columns(SearchTarget target) {
+        return switch (target) {
+            case TITLE -> "public_template_title";
+            case CONTENT -> "public_template_content";
+            case ALL -> "public_template_title, public_template_content";
+        };
+    }
+
+    /**
+     * 검색 대상에 맞는 불리언 모드 MATCH 식. 검색어는 {@code :query} 파라미터로 바인딩한다.
+     */
+    static String match(SearchTarget target) {
+        return "MATCH(" + columns(target) + ") AGAINST(:query IN BOOLEAN MODE)";
+    }
+}
@@ -1,17 +1,34 @@
 package com.jober.final2teamdrhong.repository;
 
+import com.jober.final2teamdrhong.dto.individualtemplate.SourcePublicTemplateStats;
 import com.jober.final2teamdrhong.entity.PublicTemplate;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface PublicTemplateRepository
     extends JpaRepository<PublicTemplate, Integer>,
-            JpaSpecificationExecutor<PublicTemplate> {
+            JpaSpecificationExecutor<PublicTemplate>,
+            PublicTemplateRepositoryCustom {
     default PublicTemplate findByIdOrThrow(Integer templateId) {
         return findById(templateId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 공용 템플릿을 찾을 수 없습니다."));
     }
+
+    /**
+     * 개인 템플릿의 원본 공용 템플릿 통계를 조회한다.
+     * 공용 템플릿을 복사해 만든 템플릿이 아니거나 원본이 삭제되었으면 빈 값을 반환한다.
+     */
+    @Query("SELECT new com.jober.final2teamdrhong.dto.individualtemplate.SourcePublicTemplateStats("
+            + "p.publicTemplateId, p.publicTemplateTitle, p.viewCount, p.shareCount) "
+            + "FROM IndividualTemplate t, public_template p "
+            + "WHERE t.individualTemplateId = :individualTemplateId "
+            + "AND p.publicTemplateId = t.sourcePublicTemplateId")
+    Optional<SourcePublicTemplateStats> findSourceStats(@Param("individualTemplateId") Integer individualTemplateId);
 }
@@ -0,0 +1,41 @@
+package com.jober.final2teamdrhong.repository;
+
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateSearchRequest.SearchTarget;
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateSummaryResponse;
+import com.jober.final2teamdrhong.entity.PublicTemplate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface PublicTemplateRepositoryCustom {
+
+    /**
+     * 검색 조건에 맞는 공용 템플릿 목록을 본문 미리보기 프로젝션으로 페이징 조회한다.
+     *
+     * @param spec 검색 조건 ({@link PublicTemplateSpecification#withSearch})
+     * @param pageable 페이징 및 정렬 정보
+     * @return 페이징된 {@link PublicTemplateSummaryResponse} 목록
+     */
+    Page<PublicTemplateSummaryResponse> findSummaries(Specification<PublicTemplate> spec, Pageable pageable);
+
+    /**
+     * FULLTEXT(ngram) 인덱스로 공용 템플릿을 검색하고 본문 미리보기 프로젝션으로 페이징 조회한다.
+     * MySQL 전용 네이티브 쿼리를 사용하므로 인덱스가 준비된 경우에만 호출해야 한다.
+     *
+     * @param booleanQuery 불리언 모드 검색식 (예: {@code +"회의" +"안내"})
+     * @param target 검색 대상 필드
+     * @param pageable 페이징 및 정렬 정보 (정렬 필드 {@code relevance}는 검색 관련도 순)
+     * @return 페이징된 {@link PublicTemplateSummaryResponse} 목록
+     */
+    Page<PublicTemplateSummaryResponse> searchSummariesByFullText(String booleanQuery, SearchTarget target, Pageable pageable);
+
+    /**
+     * 지정한 ID 순서대로 공용 템플릿 요약을 조회한다. 삭제되었거나 없는 ID는 결과에서 빠진다.
+     *
+     * @param ids 조회할 공용 템플릿 ID 목록 (결과 순서)
+     * @return {@link PublicTemplateSummaryResponse} 목록
+     */
+    List<PublicTemplateSummaryResponse> findSummariesByIds(List<Integer> ids);
+}
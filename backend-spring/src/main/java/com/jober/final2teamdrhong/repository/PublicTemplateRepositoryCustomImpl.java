@@ -0,0 +1,129 @@
+package com.jober.final2teamdrhong.repository;
+
+import com.jober.final2teamdrhong.dto.common.ContentPreview;
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplatePageableRequest;
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateSearchRequest.SearchTarget;
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateSummaryResponse;
+import com.jober.final2teamdrhong.entity.PublicTemplate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@RequiredArgsConstructor
+public class PublicTemplateRepositoryCustomImpl implements PublicTemplateRepositoryCustom {
+
+    /**
+     * 정렬 가능한 필드와 실제 컬럼의 매핑 (네이티브 쿼리에 그대로 이어 붙이므로 화이트리스트로 제한)
+     */
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "createdAt", "created_at",
+            "shareCount", "share_count",
+            "viewCount", "view_count",
+            "publicTemplateTitle", "public_template_title"
+    );
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<PublicTemplateSummaryResponse> findSummaries(Specification<PublicTemplate> spec, Pageable pageable) {
+        return SpecificationProjectionQuery.findPage(
+                entityManager,
+                PublicTemplate.class,
+                PublicTemplateSummaryResponse.class,
+                spec,
+                pageable,
+                PublicTemplateRepositoryCustomImpl::summarySelections);
+    }
+
+    @Override
+    public Page<PublicTemplateSummaryResponse> searchSummariesByFullText(String booleanQuery,
+                                                                         SearchTarget target,
+                                                                         Pageable pageable) {
+        String match = PublicTemplateFullTextSchema.match(target);
+        String where = " FROM " + PublicTemplateFullTextSchema.TABLE + " p WHERE p.is_deleted = false AND " + match;
+
+        // 1) 인덱스만으로 현재 페이지의 ID를 관련도/정렬 순서대로 조회
+        Query idQuery = entityManager.createNativeQuery(
+                "SELECT p.public_template_id" + where + " ORDER BY " + orderBy(pageable.getSort(), match));
+        idQuery.setParameter("query", booleanQuery);
+        if (pageable.isPaged()) {
+            idQuery.setFirstResult((int) pageable.getOffset());
+            idQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<Integer> ids = ((List<?>) idQuery.getResultList()).stream()
+                .map(id -> ((Number) id).intValue())
+                .toList();
+
+        // 2) 해당 ID만 프로젝션으로 읽고 1)의 순서를 유지
+        List<PublicTemplateSummaryResponse> content = findSummariesByIds(ids);
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Query countQuery = entityManager.createNativeQuery("SELECT COUNT(*)" + where);
+            countQuery.setParameter("query", booleanQuery);
+            return ((Number) countQuery.getSingleResult()).longValue();
+        });
+    }
+
+    @Override
+    public List<PublicTemplateSummaryResponse> findSummariesByIds(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PublicTemplateSummaryResponse> query = cb.createQuery(PublicTemplateSummaryResponse.class);
+        Root<PublicTemplate> root = query.from(PublicTemplate.class);
+        query.select(cb.construct(PublicTemplateSummaryResponse.class, summarySelections(root, cb)))
+                .where(root.get("publicTemplateId").in(ids));
+
+        Map<Integer, Integer> order = IntStream.range(0, ids.size()).boxed()
+                .collect(Collectors.toMap(ids::get, Function.identity()));
+        return entityManager.createQuery(query).getResultList().stream()
+                .sorted(Comparator.comparing(summary -> order.get(summary.publicTemplateId())))
+                .toList();
+    }
+
+    /**
+     * 요청 정렬을 ORDER BY 절로 변환한다. 동일 점수/값에서도 페이지 경계가 흔들리지 않도록 ID를 마지막에 둔다.
+     */
+    private static String orderBy(Sort sort, String match) {
+        StringBuilder orderBy = new StringBuilder();
+        for (Sort.Order order : sort) {
+            String expression = PublicTemplatePageableRequest.RELEVANCE_SORT.equals(order.getProperty())
+                    ? match
+                    : SORT_COLUMNS.get(order.getProperty());
+            if (expression == null) {
+                throw new IllegalArgumentException("지원하지 않는 정렬 필드입니다: " + order.getProperty());
+            }
+            orderBy.append(expression).append(order.isAscending() ? " ASC, " : " DESC, ");
+        }
+        return orderBy.append("p.public_template_id DESC").toString();
+    }
+
+    private static Selection<?>[] summarySelections(Root<PublicTemplate> root, CriteriaBuilder cb) {
+        return new Selection<?>[]{
+                root.get("publicTemplateId"),
+                root.get("publicTemplateTitle"),
+                cb.substring(root.<String>get("publicTemplateContent"), 1, ContentPreview.LENGTH),
+                root.get("buttonTitle"),
+                root.get("viewCount"),
+                root.get("shareCount"),
+                root.get("createdAt")
+        };
+    }
+}
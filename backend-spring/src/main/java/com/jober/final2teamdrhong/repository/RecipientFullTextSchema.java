@@ -0,0 +1,33 @@
+package com.jober.final2teamdrhong.repository;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 수신자 메모 FULLTEXT(ngram) 인덱스의 이름과 컬럼 정의.
+ * <p>
+ * JPA의 {@code @Index}로는 FULLTEXT 인덱스를 선언할 수 없고, 첫 FULLTEXT 인덱스 추가는 테이블을 재구성하며
+ * 그동안 쓰기를 막으므로 기동 시점이 아니라 {@code db/migration/recipient_memo_fulltext_ngram.sql}로 한 번 생성한다.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RecipientFullTextSchema {
+
+    public static final String TABLE = "recipient";
+
+    public static final String INDEX_NAME = "ft_recipient_memo";
+
+    /**
+     * FULLTEXT 인덱스 컬럼 (MATCH 절과 동일해야 함)
+     */
+    public static final String COLUMNS = "recipient_memo";
+
+    /**
+     * 불리언 모드 MATCH 식. 검색어는 {@code :memoQuery} 파라미터로 바인딩한다.
+     *
+     * @param alias 테이블 별칭
+     */
+    static String match(String alias) {
+        return "MATCH(" + alias + "." + COLUMNS + ") AGAINST(:memoQuery IN BOOLEAN MODE)";
+    }
+}
@@ -1,5 +1,7 @@
 package com.jober.final2teamdrhong.repository;
 
+import com.jober.final2teamdrhong.dto.recipient.RecipientContact;
+import com.jober.final2teamdrhong.dto.recipient.RecipientResponse;
 import com.jober.final2teamdrhong.entity.Recipient;
 import com.jober.final2teamdrhong.entity.Workspace;
 import org.springframework.data.domain.Page;
@@ -9,21 +11,24 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface RecipientRepository extends JpaRepository<Recipient, Integer> {
+public interface RecipientRepository extends JpaRepository<Recipient, Integer>, RecipientRepositoryCustom {
 
     /**
-     * 특정 워크스페이스 내에서 동일한 이름과 전화번호를 가진 수신자가 존재하는지 확인합니다.
+     * 특정 워크스페이스 내에서 동일한 이름과 (E.164 형식으로 정규화한) 전화번호를 가진 수신자가 존재하는지 확인합니다.
+     * <p>
+     * 표기와 무관하게 같은 번호를 같은 값으로 비교하며, (workspace_id, recipient_phone_e164) 유니크 키의 선행 컬럼으로 조회합니다.
      *
-     * @param workspace            검사를 수행할 워크스페이스 엔티티
-     * @param recipientName        중복 여부를 확인할 수신자 이름
-     * @param recipientPhoneNumber 중복 여부를 확인할 수신자 전화번호
+     * @param workspace          검사를 수행할 워크스페이스 엔티티
+     * @param recipientName      중복 여부를 확인할 수신자 이름
+     * @param recipientPhoneE164 중복 여부를 확인할 E.164 형식의 전화번호
      * @return 중복되는 수신자가 존재하면 {@code true}, 그렇지 않으면 {@code false}
      */
-    boolean existsByWorkspaceAndRecipientNameAndRecipientPhoneNumber(Workspace workspace, String recipientName, String recipientPhoneNumber);
+    boolean existsByWorkspaceAndRecipientNameAndRecipientPhoneE164(Workspace workspace, String recipientName, String recipientPhoneE164);
 
     /**
      * 특정 워크스페이스 ID에 해당하는 모든 수신자 목록을 조회합니다.
@@ -47,16 +52,35 @@ public interface RecipientRepository extends JpaRepository<Recipient, Integer> {
     Optional<Recipient> findByRecipientIdAndWorkspace_WorkspaceId(Integer recipientId, Integer workspaceId);
 
     /**
-     * 특정 수신자 ID를 제외하고, 워크스페이스 내에서 동일한 이름과 전화번호를 가진 수신자가 존재하는지 확인합니다.
+     * 사용자가 소유한 워크스페이스에 속한 수신자를 조회합니다.
+     * <p>
+     * 워크스페이스 권한 검증과 수신자 소속 검증을 한 번의 조인 쿼리로 처리합니다.
+     *
+     * @param recipientId 조회할 수신자의 고유 ID
+     * @param workspaceId 수신자가 속한 워크스페이스의 ID
+     * @param userId      워크스페이스의 소유자 ID
+     * @return 수신자 엔티티를 담은 Optional 객체. 수신자가 없거나 워크스페이스 소유자가 아니면 Optional.empty()를 반환합니다.
+     */
+    @Query("""
+            SELECT r FROM Recipient r JOIN FETCH r.workspace w
+            WHERE r.recipientId = :recipientId
+              AND w.workspaceId = :workspaceId
+              AND w.user.userId = :userId""")
+    Optional<Recipient> findAccessibleRecipient(@Param("recipientId") Integer recipientId,
+                                                @Param("workspaceId") Integer workspaceId,
+                                                @Param("userId") Integer userId);
+
+    /**
+     * 특정 수신자 ID를 제외하고, 워크스페이스 내에서 동일한 이름과 (E.164 형식으로 정규화한) 전화번호를 가진 수신자가 존재하는지 확인합니다.
      * (수신자 정보 수정 시 중복 검증을 위해 사용)
      *
-     * @param workspace            검사를 수행할 워크스페이스 엔티티
-     * @param recipientName        중복 여부를 확인할 수신자 이름
-     * @param recipientPhoneNumber 중복 여부를 확인할 수신자 전화번호
-     * @param recipientId          검사 대상에서 제외할 수신자의 ID
+     * @param workspace          검사를 수행할 워크스페이스 엔티티
+     * @param recipientName      중복 여부를 확인할 수신자 이름
+     * @param recipientPhoneE164 중복 여부를 확인할 E.164 형식의 전화번호
+     * @param recipientId        검사 대상에서 제외할 수신자의 ID
      * @return 중복되는 수신자가 존재하면 {@code true}, 그렇지 않으면 {@code false}
      */
-    boolean existsByWorkspaceAndRecipientNameAndRecipientPhoneNumberAndRecipientIdNot(Workspace workspace, String recipientName, String recipientPhoneNumber, Integer recipientId);
+    boolean existsByWorkspaceAndRecipientNameAndRecipientPhoneE164AndRecipientIdNot(Workspace workspace, String recipientName, String recipientPhoneE164, Integer recipientId);
 
     /**
      * ID를 기준으로 수신자(Recipient) 엔티티를 조회합니다.
@@ -89,4 +113,58 @@ public interface RecipientRepository extends JpaRepository<Recipient, Integer> {
      * @return 조회 조건에 일치하는 수신자 엔티티의 리스트. 일치하는 수신자가 없으면 빈 리스트를 반환합니다.
      */
     List<Recipient> findAllByWorkspace_WorkspaceIdAndRecipientIdIn(Integer workspaceId, List<Integer> recipientIds);
+
+    /**
+     * 주어진 수신자 ID 중 특정 워크스페이스에 속한 수신자의 ID만 조회합니다.
+     * <p>
+     * 엔티티를 로딩하지 않으므로, 주소록 수신자 비동기 추가 작업에서
+     * 청크마다 수신자 소속을 확인하는 데 사용됩니다.
+     *
+     * @param workspaceId  수신자들이 속한 워크스페이스의 ID
+     * @param recipientIds 확인할 수신자 ID 목록
+     * @return 주어진 ID 중 해당 워크스페이스에 속한 수신자 ID 리스트
+     */
+    @Query("""
+            SELECT r.recipientId
+            FROM Recipient r
+            WHERE r.workspace.workspaceId = :workspaceId
+            AND r.recipientId IN :recipientIds""")
+    List<Integer> findRecipientIdsInWorkspace(@Param("workspaceId") Integer workspaceId,
+                                              @Param("recipientIds") List<Integer> recipientIds);
+
+    /**
+     * 주어진 ID의 수신자 정보를 엔티티 로딩 없이 응답 DTO로 조회합니다.
+     * <p>
+     * 주소록에서 수신자를 일괄 제거한 뒤, 실제로 제거된 수신자만 응답에 담기 위해 사용됩니다.
+     *
+     * @param recipientIds 조회할 수신자 ID 목록 (배치 크기 이하)
+     * @return 주어진 ID에 해당하는 수신자 DTO 리스트
+     */
+    @Query("""
+            SELECT new com.jober.final2teamdrhong.dto.recipient.RecipientResponse$SimpleDTO(
+                r.recipientId, r.recipientName, r.recipientPhoneNumber, r.recipientMemo, r.createdAt, r.updatedAt, r.deletedAt)
+            FROM Recipient r
+            WHERE r.recipientId IN :recipientIds""")
+    List<RecipientResponse.SimpleDTO> findSimpleDTOsByRecipientIdIn(@Param("recipientIds") List<Integer> recipientIds);
+
+    /**
+     * 특정 워크스페이스에서 주어진 E.164 형식 전화번호를 가진 수신자들의 ID, 이름, 전화번호를 조회합니다.
+     * <p>
+     * (workspace_id, recipient_phone_e164) 유니크 키로 IN 조회하므로 수천 개의 번호도 한 번의 쿼리로 확인합니다.
+     * 수신자 파일 가져오기에서 청크 단위로 기존 수신자와의 중복(이름 + 전화번호)을 확인하고 주소록에 추가할 수신자 ID를 찾거나,
+     * 중복 확인 API에서 이미 등록된 번호를 찾는 데 사용됩니다.
+     *
+     * @param workspaceId 수신자들이 속한 워크스페이스의 ID
+     * @param phoneE164s  조회할 E.164 형식의 전화번호 목록
+     * @return 조건에 일치하는 수신자의 ID, 이름, 전화번호 리스트 (수신자 ID 순)
+     */
+    @Query("""
+            SELECT new com.jober.final2teamdrhong.dto.recipient.RecipientContact(
+                r.recipientId, r.recipientName, r.recipientPhoneNumber, r.recipientPhoneE164)
+            FROM Recipient r
+            WHERE r.workspace.workspaceId = :workspaceId
+            AND r.recipientPhoneE164 IN :phoneE164s
+            ORDER BY r.recipientId""")
+    List<RecipientContact> findContactsByPhoneE164s(@Param("workspaceId") Integer workspaceId,
+                                                    @Param("phoneE164s") Collection<String> phoneE164s);
 }
@@ -0,0 +1,39 @@
+package com.jober.final2teamdrhong.repository;
+
+import com.jober.final2teamdrhong.dto.recipient.RecipientExportRow;
+import com.jober.final2teamdrhong.dto.recipient.RecipientSearchRequest;
+import com.jober.final2teamdrhong.entity.Recipient;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface RecipientRepositoryCustom {
+
+    /**
+     * 이름 앞부분, 전화번호 뒷자리, 메모 키워드로 워크스페이스의 수신자를 검색한다. 입력된 조건은 모두 만족해야 한다.
+     * <ul>
+     *     <li>이름: (workspace_id, is_deleted, recipient_name) 인덱스의 접두사 범위 스캔, 이름순 정렬</li>
+     *     <li>전화번호 뒷자리: 뒤집은 번호 컬럼의 접두사 범위 스캔, 이름이 없으면 뒤집은 번호순 정렬</li>
+     *     <li>메모: 메모만 입력되고 검색식이 있으면 FULLTEXT(ngram) 인덱스로 워크스페이스의 후보를 최대
+     *     {@code recipient.search.fulltext.max-candidates}건 모아 관련도순 정렬, 아니면 LIKE 부분 일치</li>
+     * </ul>
+     *
+     * @param workspaceId 검색할 워크스페이스의 ID
+     * @param search 검색 조건과 최대 조회 개수
+     * @param memoBooleanQuery 메모 FULLTEXT 불리언 모드 검색식. FULLTEXT를 사용할 수 없으면 {@code null}
+     * @return 검색된 수신자 목록 (최대 {@code search.size}개)
+     */
+    List<Recipient> searchRecipients(Integer workspaceId, RecipientSearchRequest search, String memoBooleanQuery);
+
+    /**
+     * 특정 워크스페이스의 모든 수신자를 내보내기용 행으로 스트리밍 조회합니다.
+     * <p>
+     * {@code recipient.export.fetch-size}로 읽으므로 수신자 수와 관계없이 메모리 사용량이 일정합니다.
+     * (MySQL은 {@code Integer.MIN_VALUE}일 때 결과를 버퍼링하지 않고 한 행씩 스트리밍합니다.)
+     * 반환된 Stream은 트랜잭션 안에서 소비한 뒤 반드시 닫아야 하며, 닫기 전까지 같은 커넥션으로 다른 조회를 실행할 수 없습니다.
+     *
+     * @param workspaceId 수신자를 내보낼 워크스페이스의 ID
+     * @return 수신자 ID 순으로 정렬된 내보내기 행 스트림
+     */
+    Stream<RecipientExportRow> streamExportRows(Integer workspaceId);
+}
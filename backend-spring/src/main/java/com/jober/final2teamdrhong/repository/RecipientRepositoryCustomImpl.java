@@ -0,0 +1,129 @@
+package com.jober.final2teamdrhong.repository;
+
+import com.jober.final2teamdrhong.dto.recipient.RecipientExportRow;
+import com.jober.final2teamdrhong.dto.recipient.RecipientSearchRequest;
+import com.jober.final2teamdrhong.entity.Recipient;
+import com.jober.final2teamdrhong.util.PhoneNumberNormalizer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class RecipientRepositoryCustomImpl implements RecipientRepositoryCustom {
+
+    /**
+     * LIKE 패턴의 이스케이프 문자 (MySQL과 H2에서 같은 의미로 동작하도록 역슬래시 대신 사용)
+     */
+    private static final char LIKE_ESCAPE = '!';
+
+    private final EntityManager entityManager;
+    private final int exportFetchSize;
+    private final int maxMemoCandidates;
+
+    public RecipientRepositoryCustomImpl(EntityManager entityManager,
+                                         @Value("${recipient.export.fetch-size:1000}") int exportFetchSize,
+                                         @Value("${recipient.search.fulltext.max-candidates:1000}") int maxMemoCandidates) {
+        this.entityManager = entityManager;
+        this.exportFetchSize = exportFetchSize;
+        this.maxMemoCandidates = maxMemoCandidates;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Recipient> searchRecipients(Integer workspaceId, RecipientSearchRequest search, String memoBooleanQuery) {
+        // 이름/뒷자리 조건이 있으면 그 인덱스로 좁힌 뒤 메모를 거르는 편이 FULLTEXT 결과와 교차하는 것보다 싸다
+        if (memoBooleanQuery != null && search.hasMemo() && !search.hasName() && !search.hasPhoneSuffix()) {
+            return searchByMemoFullText(workspaceId, memoBooleanQuery, search.getSize());
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT r.* FROM " + RecipientFullTextSchema.TABLE + " r "
+                + "WHERE r.workspace_id = :workspaceId AND r.is_deleted = false");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("workspaceId", workspaceId);
+
+        if (search.hasName()) {
+            sql.append(" AND r.recipient_name LIKE :namePrefix ESCAPE '").append(LIKE_ESCAPE).append("'");
+            parameters.put("namePrefix", escapeLike(search.getName().trim()) + "%");
+        }
+        if (search.hasPhoneSuffix()) {
+            // 뒷자리 일치를 뒤집은 번호의 접두사 일치로 바꿔 인덱스 범위 스캔 (숫자만 허용하므로 이스케이프 불필요)
+            sql.append(" AND r.recipient_phone_reversed LIKE :phoneReversedPrefix");
+            parameters.put("phoneReversedPrefix", PhoneNumberNormalizer.toReversedDigits(search.getPhoneSuffix()) + "%");
+        }
+        if (search.hasMemo()) {
+            sql.append(" AND r.recipient_memo LIKE :memoPattern ESCAPE '").append(LIKE_ESCAPE).append("'");
+            parameters.put("memoPattern", "%" + escapeLike(search.getMemo().trim()) + "%");
+        }
+        sql.append(" ORDER BY ").append(orderBy(search));
+
+        Query query = entityManager.createNativeQuery(sql.toString(), Recipient.class);
+        parameters.forEach(query::setParameter);
+        query.setMaxResults(search.getSize());
+        return query.getResultList();
+    }
+
+    /**
+     * 메모 키워드만으로 FULLTEXT 인덱스를 검색한다.
+     * FULLTEXT 인덱스는 워크스페이스 구분 없이 일치하는 행을 돌려주므로, 워크스페이스의 일치 행을 최대
+     * {@code max-candidates}건까지만 후보로 모으고(정렬 없이 LIMIT에서 멈춤) 후보를 관련도순으로 정렬한다.
+     * 일치하는 행이 후보 상한보다 많으면 일부만 결과에 포함될 수 있다.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Recipient> searchByMemoFullText(Integer workspaceId, String memoBooleanQuery, int size) {
+        String sql = "SELECT r.* FROM " + RecipientFullTextSchema.TABLE + " r "
+                + "JOIN (SELECT m.recipient_id, " + RecipientFullTextSchema.match("m") + " AS score "
+                + "FROM " + RecipientFullTextSchema.TABLE + " m "
+                + "WHERE m.workspace_id = :workspaceId AND m.is_deleted = false AND " + RecipientFullTextSchema.match("m")
+                + " LIMIT :maxCandidates) c ON c.recipient_id = r.recipient_id "
+                + "ORDER BY c.score DESC, r.recipient_id DESC";
+
+        Query query = entityManager.createNativeQuery(sql, Recipient.class);
+        query.setParameter("workspaceId", workspaceId);
+        query.setParameter("memoQuery", memoBooleanQuery);
+        query.setParameter("maxCandidates", maxMemoCandidates);
+        query.setMaxResults(size);
+        return query.getResultList();
+    }
+
+    @Override
+    public Stream<RecipientExportRow> streamExportRows(Integer workspaceId) {
+        return entityManager.createQuery("""
+                        SELECT new com.jober.final2teamdrhong.dto.recipient.RecipientExportRow(
+                            r.recipientName, r.recipientPhoneNumber, r.recipientMemo, r.createdAt)
+                        FROM Recipient r
+                        WHERE r.workspace.workspaceId = :workspaceId
+                        ORDER BY r.recipientId""", RecipientExportRow.class)
+                .setParameter("workspaceId", workspaceId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+                .getResultStream();
+    }
+
+    /**
+     * 조회에 쓰인 인덱스의 순서를 그대로 따라 정렬 단계 없이 LIMIT에서 멈추도록 한다.
+     */
+    private static String orderBy(RecipientSearchRequest search) {
+        if (search.hasName()) {
+            return "r.recipient_name, r.recipient_id";
+        }
+        if (search.hasPhoneSuffix()) {
+            return "r.recipient_phone_reversed, r.recipient_id";
+        }
+        return "r.recipient_id DESC";
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,79 @@
+package com.jober.final2teamdrhong.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * {@link Specification} 조건을 그대로 재사용하면서, 엔티티 대신 DTO 생성자 선택(construct)으로
+ * 필요한 컬럼만 조회하는 페이지 쿼리 도우미.
+ * <p>
+ * {@link org.springframework.data.jpa.repository.JpaSpecificationExecutor#findAll(Specification, Pageable)}는
+ * TEXT 컬럼을 포함한 엔티티 전체를 읽으므로, 목록 조회용 커스텀 리포지토리 구현에서 사용한다.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class SpecificationProjectionQuery {
+
+    /**
+     * @param selections 루트(필요 시 조인 포함)로부터 생성자 인자 순서대로 선택할 컬럼을 만드는 함수
+     * @return 프로젝션 페이지 (마지막 페이지 등 개수를 알 수 있는 경우 COUNT 쿼리 생략)
+     */
+    static <E, P> Page<P> findPage(EntityManager entityManager,
+                                   Class<E> domainClass,
+                                   Class<P> projectionClass,
+                                   Specification<E> spec,
+                                   Pageable pageable,
+                                   BiFunction<Root<E>, CriteriaBuilder, Selection<?>[]> selections) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<P> query = cb.createQuery(projectionClass);
+        Root<E> root = query.from(domainClass);
+        query.select(cb.construct(projectionClass, selections.apply(root, cb)));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<P> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<P> content = typedQuery.getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(entityManager, domainClass, spec));
+    }
+
+    private static <E> long count(EntityManager entityManager, Class<E> domainClass, Specification<E> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<E> root = query.from(domainClass);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -1,23 +1,99 @@
 package com.jober.final2teamdrhong.repository;
 
+import com.jober.final2teamdrhong.dto.individualtemplate.HistorySummaryResponse;
 import com.jober.final2teamdrhong.entity.IndividualTemplate;
 import com.jober.final2teamdrhong.entity.TemplateModifiedHistory;
+import com.jober.final2teamdrhong.entity.TemplateModifiedHistory.StorageType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TemplateModifiedHistoryRepository extends JpaRepository<TemplateModifiedHistory, Integer> {
+
+    // 목록 조회용 프로젝션: 본문/채팅 컬럼 대신 글자 수만 조회 (이전 방식 행은 저장된 글자 수가 없어 원문 길이로 대체)
+    String SUMMARY_SELECT = "SELECT new com.jober.final2teamdrhong.dto.individualtemplate.HistorySummaryResponse(" +
+            "h.historyId, h.historyTitle, h.buttonTitle, h.status, h.createdAt, h.updatedAt, " +
+            "COALESCE(h.contentLength, LENGTH(h.historyContent)), " +
+            "COALESCE(h.chatAiLength, LENGTH(h.chatAi)), " +
+            "COALESCE(h.chatUserLength, LENGTH(h.chatUser))) " +
+            "FROM TemplateModifiedHistory h ";
+
+    /*
+     * 커서 기반 요약 조회 (COUNT 쿼리 없음, (individual_template_id, created_at) 인덱스 사용)
+     * Pageable은 LIMIT(size + 1) 용도로만 사용하고 정렬은 쿼리에 고정한다.
+     */
+
+    // 최신순 첫 페이지
+    @Query(SUMMARY_SELECT +
+            "WHERE h.individualTemplate.individualTemplateId = :individualTemplateId " +
+            "ORDER BY h.createdAt DESC, h.historyId DESC")
+    List<HistorySummaryResponse> findSummaryFirstPage(
+            @Param("individualTemplateId") Integer individualTemplateId,
+            Pageable pageable);
+
+    // 최신순 다음 페이지: (createdAt, historyId) < (커서)
+    @Query(SUMMARY_SELECT +
+            "WHERE h.individualTemplate.individualTemplateId = :individualTemplateId " +
+            "AND (h.createdAt < :cursorCreatedAt " +
+            "     OR (h.createdAt = :cursorCreatedAt AND h.historyId < :cursorId)) " +
+            "ORDER BY h.createdAt DESC, h.historyId DESC")
+    List<HistorySummaryResponse> findSummaryAfter(
+            @Param("individualTemplateId") Integer individualTemplateId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Integer cursorId,
+            Pageable pageable);
+
     /**
-     * 특정 개인 템플릿에 속한 모든 수정 이력을 생성일자 최신순으로 조회합니다.
+     * 특정 개인 템플릿의 수정 이력 한 건을 조회합니다.
+     * @param historyId 수정 이력 ID
+     * @param individualTemplate 이력이 속해야 하는 개인 템플릿
+     * @return 존재하면 Optional<TemplateModifiedHistory>, 없거나 다른 템플릿의 이력이면 Optional.empty()
+     */
+    Optional<TemplateModifiedHistory> findByHistoryIdAndIndividualTemplate(Integer historyId, IndividualTemplate individualTemplate);
+
+    default TemplateModifiedHistory findByIdOrThrow(Integer historyId, IndividualTemplate individualTemplate) {
+        return findByHistoryIdAndIndividualTemplate(historyId, individualTemplate)
+                .orElseThrow(() -> new IllegalArgumentException("해당 수정 이력을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 특정 개인 템플릿에 속한 수정 이력을 페이징하여 조회합니다.
+     * 델타로 저장된 행의 본문은 기준 스냅샷과 합쳐 복원해야 합니다.
      * @param individualTemplate 조회할 개인 템플릿 엔티티
-     * @return TemplateModifiedHistory 엔티티 리스트
+     * @param pageable 페이징 및 정렬 정보
+     * @return TemplateModifiedHistory 엔티티 페이지
      */
-    List<TemplateModifiedHistory> findAllByIndividualTemplateOrderByCreatedAtDesc(IndividualTemplate individualTemplate);
+    Page<TemplateModifiedHistory> findByIndividualTemplate(IndividualTemplate individualTemplate, Pageable pageable);
+
+    /**
+     * 특정 개인 템플릿의 가장 최근 스냅샷을 조회합니다. 새 이력의 델타 기준으로 사용합니다.
+     */
+    Optional<TemplateModifiedHistory> findFirstByIndividualTemplateAndStorageTypeOrderByHistoryIdDesc(
+            IndividualTemplate individualTemplate, StorageType storageType);
+
+    /**
+     * 주어진 이력 ID 이후에 저장된 이력 수를 조회합니다. (마지막 스냅샷 이후 델타 수)
+     */
+    long countByIndividualTemplateAndHistoryIdGreaterThan(IndividualTemplate individualTemplate, Integer historyId);
+
+    /**
+     * 델타 복원에 필요한 스냅샷 본문만 조회합니다. (채팅 등 다른 컬럼은 읽지 않음)
+     * @param historyIds 스냅샷 이력 ID 목록
+     * @return 이력 ID와 본문 목록
+     */
+    @Query("SELECT h.historyId AS historyId, h.historyContent AS historyContent " +
+            "FROM TemplateModifiedHistory h WHERE h.historyId IN :historyIds")
+    List<SnapshotContent> findSnapshotContents(@Param("historyIds") Collection<Integer> historyIds);
 
     @Modifying(clearAutomatically = true) // 이 쿼리가 SELECT가 아닌 UPDATE, DELETE 임을 명시
     @Query(
@@ -26,4 +102,10 @@ public interface TemplateModifiedHistoryRepository extends JpaRepository<Templat
             "WHERE h.individualTemplate = :individualTemplate"
     )
     void bulkSoftDeleteByTemplate(@Param("individualTemplate") IndividualTemplate individualTemplate);
+
+    interface SnapshotContent {
+        Integer getHistoryId();
+
+        String getHistoryContent();
+    }
 }
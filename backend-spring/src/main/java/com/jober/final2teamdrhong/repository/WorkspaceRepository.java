@@ -28,6 +28,18 @@ public interface WorkspaceRepository extends JpaRepository<Workspace, Integer> {
      */
     List<Workspace> findAllByUser_UserId(Integer userId);
 
+    /**
+     * 특정 사용자 ID에 속한 모든 워크스페이스의 ID만 조회합니다.
+     * <p>
+     * {@link #findAllByUser_UserId(Integer)}와 같은 조건이지만 엔티티를 로딩하지 않으므로,
+     * 워크스페이스 접근 캐시를 채울 때 사용합니다.
+     *
+     * @param userId 워크스페이스를 조회할 사용자의 ID
+     * @return 해당 사용자의 모든 워크스페이스 ID 리스트. 결과가 없으면 빈 리스트를 반환합니다.
+     */
+    @Query("SELECT w.workspaceId FROM Workspace w WHERE w.user.userId = :userId")
+    List<Integer> findWorkspaceIdsByUser_UserId(@Param("userId") Integer userId);
+
     /**
      * 특정 사용자의 워크스페이스 상세 정보를 조회합니다.
      * <p>
@@ -1,14 +1,16 @@
 package com.jober.final2teamdrhong.service;
 
+import com.jober.final2teamdrhong.service.mail.EmailTemplateRenderer;
+import com.jober.final2teamdrhong.service.mail.RenderedEmail;
 import com.jober.final2teamdrhong.service.storage.VerificationStorage;
+import com.jober.final2teamdrhong.util.VerificationCodeGenerator;
+import jakarta.mail.internet.MimeMessage;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
-import java.security.SecureRandom;
-
 @Service
 @Slf4j
 public class EmailService {
@@ -16,16 +18,21 @@ public class EmailService {
     private final JavaMailSender mailSender;
     private final VerificationStorage verificationStorage;
     private final RateLimitService rateLimitService;
+    private final EmailTemplateRenderer emailTemplateRenderer;
+    private final VerificationCodeGenerator verificationCodeGenerator;
     
     public EmailService(VerificationStorage verificationStorage,
                        RateLimitService rateLimitService,
+                       EmailTemplateRenderer emailTemplateRenderer,
+                       VerificationCodeGenerator verificationCodeGenerator,
                        @org.springframework.beans.factory.annotation.Autowired(required = false) JavaMailSender mailSender) {
         this.verificationStorage = verificationStorage;
         this.rateLimitService = rateLimitService;
+        this.emailTemplateRenderer = emailTemplateRenderer;
+        this.verificationCodeGenerator = verificationCodeGenerator;
         this.mailSender = mailSender;
     }
     
-    private static final int CODE_LENGTH = 6;
     private static final int CODE_EXPIRY_MINUTES = 5;
 
     /**
@@ -72,14 +79,17 @@ public class EmailService {
         log.info("인증 코드 전송 시작: email={}, purpose={}", email, purpose);
 
         try {
-            String code = createRandomCode();
+            String code = verificationCodeGenerator.generate();
 
             if (mailSender != null) {
-                // 실제 이메일 발송
-                SimpleMailMessage message = new SimpleMailMessage();
-                message.setTo(email);
-                message.setSubject(purpose.getEmailSubject());
-                message.setText(purpose.getEmailContent(code, CODE_EXPIRY_MINUTES));
+                // 실제 이메일 발송 (사전 컴파일된 템플릿으로 텍스트 + HTML multipart 본문 구성)
+                RenderedEmail rendered = emailTemplateRenderer.render(purpose, code, CODE_EXPIRY_MINUTES);
+
+                MimeMessage message = mailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+                helper.setTo(email);
+                helper.setSubject(rendered.subject());
+                helper.setText(rendered.text(), rendered.html());
 
                 mailSender.send(message);
                 log.info("인증 코드 전송 성공: email={}, purpose={}", email, purpose);
@@ -98,11 +108,4 @@ public class EmailService {
             throw new RuntimeException("인증 코드 전송에 실패했습니다. 다시 시도해주세요.", e);
         }
     }
-
-    private String createRandomCode() {
-        SecureRandom random = new SecureRandom();
-        int min = (int) Math.pow(10, CODE_LENGTH - 1);
-        int max = (int) Math.pow(10, CODE_LENGTH) - 1;
-        return String.valueOf(min + random.nextInt(max - min + 1));
-    }
 }
\ No newline at end of file
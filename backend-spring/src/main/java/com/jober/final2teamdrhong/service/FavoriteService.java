@@ -2,6 +2,7 @@ package com.jober.final2teamdrhong.service;
 
 import com.jober.final2teamdrhong.dto.favorite.FavoritePageRequest;
 import com.jober.final2teamdrhong.dto.favorite.FavoriteResponse;
+import com.jober.final2teamdrhong.dto.favorite.FavoriteSummaryResponse;
 import com.jober.final2teamdrhong.dto.favorite.IndividualTemplateFavoriteRequest;
 import com.jober.final2teamdrhong.dto.favorite.PublicTemplateFavoriteRequest;
 import com.jober.final2teamdrhong.entity.Favorite;
@@ -10,7 +11,6 @@ import com.jober.final2teamdrhong.entity.IndividualTemplate;
 import com.jober.final2teamdrhong.entity.PublicTemplate;
 import com.jober.final2teamdrhong.entity.Workspace;
 import com.jober.final2teamdrhong.repository.FavoriteRepository;
-import com.jober.final2teamdrhong.repository.IndividualTemplateRepository;
 import com.jober.final2teamdrhong.repository.PublicTemplateRepository;
 import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
 import lombok.RequiredArgsConstructor;
@@ -28,7 +28,6 @@ public class FavoriteService {
 
     private final FavoriteRepository favoriteRepository;
     private final WorkspaceValidator workspaceValidator;
-    private final IndividualTemplateRepository individualTemplateRepository;
     private final PublicTemplateRepository publicTemplateRepository;
 
     /**
@@ -38,10 +37,10 @@ public class FavoriteService {
      */
     @Transactional
     public FavoriteResponse createIndividualTemplateFavorite(IndividualTemplateFavoriteRequest request, Integer userId) {
-        Workspace workspace = workspaceValidator.validateAndGetWorkspace(request.getWorkspaceId(), userId);
-        workspaceValidator.validateTemplateOwnership(request.getWorkspaceId(), request.getIndividualTemplateId());
-
-        IndividualTemplate individualTemplate = individualTemplateRepository.findByIdOrThrow(request.getIndividualTemplateId());
+        // 워크스페이스 권한과 템플릿 소속을 한 번에 검증 (템플릿의 워크스페이스도 함께 로딩)
+        IndividualTemplate individualTemplate = workspaceValidator.validateTemplateAccess(
+                request.getWorkspaceId(), request.getIndividualTemplateId(), userId);
+        Workspace workspace = individualTemplate.getWorkspace();
 
         favoriteRepository.validateIndividualTemplateNotExists(workspace, individualTemplate);
 
@@ -85,15 +84,14 @@ public class FavoriteService {
      * @param workspaceId 조회의 기준이 되는 워크스페이스 ID
      * @param templateType 템플릿 유형 (PUBLIC 또는 INDIVIDUAL, optional)
      * @param favoritePageRequest 페이징 정보 (page, size)
-     * @return 해당 워크스페이스의 FavoriteResponse DTO 페이지
+     * @return 해당 워크스페이스의 FavoriteSummaryResponse DTO 페이지 (본문은 미리보기만 포함)
      * @throws IllegalArgumentException 워크스페이스가 존재하지 않거나 사용자에게 권한이 없을 경우 발생
      */
-    public Page<FavoriteResponse> getFavoritesByWorkspace(Integer workspaceId, TemplateType templateType, FavoritePageRequest favoritePageRequest, Integer userId) {
+    public Page<FavoriteSummaryResponse> getFavoritesByWorkspace(Integer workspaceId, TemplateType templateType, FavoritePageRequest favoritePageRequest, Integer userId) {
         Workspace workspace = workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
         Pageable pageable = PageRequest.of(favoritePageRequest.getPage(), favoritePageRequest.getSize(), Sort.by(Sort.Direction.DESC, "favoriteId"));
 
-        Page<Favorite> favorites = favoriteRepository.findFavorites(workspace, templateType, pageable);
-        return favorites.map(FavoriteResponse::convertToFavoriteResponse);
+        return favoriteRepository.findFavoriteSummaries(workspace, templateType, pageable);
     }
 
 
@@ -0,0 +1,118 @@
+package com.jober.final2teamdrhong.service;
+
+import com.jober.final2teamdrhong.dto.individualtemplate.HistorySummaryResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateDetailResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.SourcePublicTemplateStats;
+import com.jober.final2teamdrhong.repository.FavoriteRepository;
+import com.jober.final2teamdrhong.repository.PublicTemplateRepository;
+import com.jober.final2teamdrhong.repository.TemplateModifiedHistoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * 개인 템플릿 상세 화면 조회 서비스
+ * - 템플릿을 먼저 조회해 워크스페이스 권한과 템플릿 소속을 확인한 뒤, 나머지를 가상 스레드에서 동시에 조회
+ * - 템플릿 응답에는 자동 저장 대기 중인 수정 내용이 반영됨 ({@link IndividualTemplateService#getIndividualTemplate})
+ * - 동시 조회는 최근 수정 이력 요약 / 즐겨찾기 여부 + 원본 공용 템플릿 통계의 두 갈래로 나누어,
+ *   요청 하나가 동시에 쥐는 커넥션을 두 개로 제한
+ * - 각 갈래는 별도의 읽기 전용 트랜잭션에서 실행되며, 하나라도 실패하면 나머지를 중단하고 예외를 전달
+ */
+@Service
+public class IndividualTemplateDetailService {
+
+    private final IndividualTemplateService individualTemplateService;
+    private final TemplateModifiedHistoryRepository templateModifiedHistoryRepository;
+    private final FavoriteRepository favoriteRepository;
+    private final PublicTemplateRepository publicTemplateRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int historySize;
+
+    public IndividualTemplateDetailService(IndividualTemplateService individualTemplateService,
+                                           TemplateModifiedHistoryRepository templateModifiedHistoryRepository,
+                                           FavoriteRepository favoriteRepository,
+                                           PublicTemplateRepository publicTemplateRepository,
+                                           PlatformTransactionManager transactionManager,
+                                           @Value("${template.detail.history-size:5}") int historySize) {
+        this.individualTemplateService = individualTemplateService;
+        this.templateModifiedHistoryRepository = templateModifiedHistoryRepository;
+        this.favoriteRepository = favoriteRepository;
+        this.publicTemplateRepository = publicTemplateRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.historySize = historySize;
+    }
+
+    /**
+     * 개인 템플릿 상세 화면에 필요한 정보를 한 번에 조회한다.
+     * 템플릿 조회로 워크스페이스 권한과 템플릿 소속을 먼저 확인하므로, 권한이 없는 요청은 나머지 조회를 실행하지 않는다.
+     *
+     * @throws IllegalArgumentException 워크스페이스 접근 권한이 없거나 템플릿이 워크스페이스에 속해있지 않을 경우
+     */
+    public IndividualTemplateDetailResponse getTemplateDetail(Integer workspaceId,
+                                                              Integer userId,
+                                                              Integer individualTemplateId) {
+        IndividualTemplateResponse template =
+                individualTemplateService.getIndividualTemplate(workspaceId, userId, individualTemplateId);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<List<HistorySummaryResponse>> recentHistories = executor.submit(() ->
+                    inReadOnlyTransaction(() -> templateModifiedHistoryRepository.findSummaryFirstPage(
+                            individualTemplateId, PageRequest.of(0, historySize))));
+            Future<FavoriteAndSource> favoriteAndSource = executor.submit(() ->
+                    inReadOnlyTransaction(() -> new FavoriteAndSource(
+                            favoriteRepository.existsByWorkspace_WorkspaceIdAndIndividualTemplate_IndividualTemplateId(
+                                    workspaceId, individualTemplateId),
+                            publicTemplateRepository.findSourceStats(individualTemplateId))));
+
+            try {
+                FavoriteAndSource favoriteAndSourceResult = await(favoriteAndSource);
+                return new IndividualTemplateDetailResponse(
+                        template,
+                        await(recentHistories),
+                        favoriteAndSourceResult.favorite(),
+                        favoriteAndSourceResult.sourcePublicTemplate().orElse(null));
+            } catch (RuntimeException e) {
+                executor.shutdownNow();
+                throw e;
+            }
+        }
+    }
+
+    private <T> T inReadOnlyTransaction(Supplier<T> query) {
+        return readOnlyTransaction.execute(status -> query.get());
+    }
+
+    /**
+     * 조회 결과를 기다린다. 조회 중 발생한 예외는 원래 예외로 다시 던진다.
+     */
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("템플릿 상세 조회가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("템플릿 상세 조회에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private record FavoriteAndSource(boolean favorite, Optional<SourcePublicTemplateStats> sourcePublicTemplate) {
+    }
+}
@@ -1,14 +1,25 @@
 package com.jober.final2teamdrhong.service;
 
+import com.jober.final2teamdrhong.dto.common.CursorPageResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.HistoryCursor;
+import com.jober.final2teamdrhong.dto.individualtemplate.HistoryCursorRequest;
 import com.jober.final2teamdrhong.dto.individualtemplate.HistoryResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.HistorySummaryResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateCursor;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateCursorRequest;
 import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplatePageableRequest;
 import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateSummaryResponse;
 import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateUpdateRequest;
 import com.jober.final2teamdrhong.entity.*;
-import com.jober.final2teamdrhong.repository.FavoriteRepository;
 import com.jober.final2teamdrhong.repository.IndividualTemplateRepository;
 import com.jober.final2teamdrhong.repository.PublicTemplateRepository;
 import com.jober.final2teamdrhong.repository.TemplateModifiedHistoryRepository;
+import com.jober.final2teamdrhong.service.autosave.PendingTemplateEdit;
+import com.jober.final2teamdrhong.service.autosave.TemplateEditCoalescer;
+import com.jober.final2teamdrhong.service.cascade.FavoriteCascadeDeleter;
+import com.jober.final2teamdrhong.service.counter.PublicTemplateCounter;
+import com.jober.final2teamdrhong.service.history.TemplateHistoryStore;
 import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,7 +32,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 import static com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateResponse.toResponse;
 
@@ -34,7 +45,10 @@ public class IndividualTemplateService {
     private final PublicTemplateRepository publicTemplateRepository;
     private final WorkspaceValidator workspaceValidator;
     private final TemplateModifiedHistoryRepository templateModifiedHistoryRepository;
-    private final FavoriteRepository favoriteRepository;
+    private final FavoriteCascadeDeleter favoriteCascadeDeleter;
+    private final TemplateHistoryStore templateHistoryStore;
+    private final TemplateEditCoalescer templateEditCoalescer;
+    private final PublicTemplateCounter publicTemplateCounter;
 
     @Transactional
     public IndividualTemplateResponse createTemplate(Integer workspaceId, Integer userId) {
@@ -85,10 +99,14 @@ public class IndividualTemplateService {
                 .individualTemplateContent(publicTemplate.getPublicTemplateContent())
                 .buttonTitle(publicTemplate.getButtonTitle())
                 .workspace(workspace)
+                .sourcePublicTemplateId(publicTemplateId)
                 .build();
 
         IndividualTemplate individualTemplate = individualTemplateRepository.save(newIndividualTemplate);
 
+        // 공유수는 커밋 후 카운터에 누적되어 주기적으로 반영됨
+        publicTemplateCounter.recordShare(publicTemplateId);
+
         return toResponse(individualTemplate);
     }
 
@@ -109,9 +127,11 @@ public class IndividualTemplateService {
 
     /**
      * 개인 템플릿 전체 조회
+     * 목록은 프로젝션으로 필요한 컬럼과 본문 미리보기만 조회한다.
+     * 자동 저장 대기 중인 수정 내용은 항목에 덮어써서 보여준다. (정렬은 DB에 반영된 값 기준)
      */
     @Transactional(readOnly = true)
-    public Page<IndividualTemplateResponse> getAllTemplates(
+    public Page<IndividualTemplateSummaryResponse> getAllTemplates(
             Integer workspaceId,
             Integer userId,
             IndividualTemplatePageableRequest pageableRequest) {
@@ -119,19 +139,24 @@ public class IndividualTemplateService {
         // 워크스페이스 검증
         workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
 
+        return findAllTemplates(workspaceId, pageableRequest).map(templateEditCoalescer::overlay);
+    }
+
+    private Page<IndividualTemplateSummaryResponse> findAllTemplates(
+            Integer workspaceId,
+            IndividualTemplatePageableRequest pageableRequest) {
+
         // 최신순은 기존 DTO 정렬(Pageable) 그대로 사용 가능
         if ("latest".equalsIgnoreCase(pageableRequest.getSortType())) {
             Pageable pageable = pageableRequest.toPageable();
 
             if (pageableRequest.getStatus() == null) {
-                return individualTemplateRepository.findByWorkspace_WorkspaceId(workspaceId, pageable)
-                        .map(IndividualTemplateResponse::toResponse);
+                return individualTemplateRepository.findByWorkspace_WorkspaceId(workspaceId, pageable);
             } else {
                 return individualTemplateRepository.findByWorkspace_WorkspaceIdAndStatus(
                                 workspaceId,
                                 pageableRequest.getStatus(),
-                                pageable)
-                        .map(IndividualTemplateResponse::toResponse);
+                                pageable);
             }
         }
 
@@ -139,21 +164,19 @@ public class IndividualTemplateService {
         Pageable pageable = PageRequest.of(pageableRequest.getPage(), pageableRequest.getSize());
 
         if (pageableRequest.getStatus() == null) {
-            return individualTemplateRepository.findAllByWorkspaceOrderByTitleAsc(workspaceId, pageable)
-                    .map(IndividualTemplateResponse::toResponse);
+            return individualTemplateRepository.findAllByWorkspaceOrderByTitleAsc(workspaceId, pageable);
         } else {
             return individualTemplateRepository.findAllByWorkspaceAndStatusOrderByTitleAsc(
                             workspaceId,
                             pageableRequest.getStatus(),
-                            pageable)
-                    .map(IndividualTemplateResponse::toResponse);
+                            pageable);
         }
     }
 
 
     @Async
     @Transactional(readOnly = true)
-    public CompletableFuture<Page<IndividualTemplateResponse>> getAllTemplatesAsync(
+    public CompletableFuture<Page<IndividualTemplateSummaryResponse>> getAllTemplatesAsync(
             Integer workspaceId,
             Integer userId,
             IndividualTemplatePageableRequest pageableRequest) {
@@ -161,6 +184,55 @@ public class IndividualTemplateService {
         return CompletableFuture.completedFuture(getAllTemplates(workspaceId, userId, pageableRequest));
     }
 
+    /**
+     * 개인 템플릿 커서 기반 조회
+     * OFFSET/COUNT 없이 마지막으로 본 행의 정렬 키 이후부터 size + 1개만 읽어 다음 페이지 여부를 판단한다.
+     * 자동 저장 대기 중인 수정 내용은 항목에 덮어써서 보여준다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<IndividualTemplateSummaryResponse> getTemplatesByCursor(
+            Integer workspaceId,
+            Integer userId,
+            IndividualTemplateCursorRequest cursorRequest) {
+
+        // 워크스페이스 검증
+        workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
+
+        String sortType = cursorRequest.getSortType();
+        IndividualTemplate.Status status = cursorRequest.getStatus();
+        int size = cursorRequest.getSize();
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        IndividualTemplateCursor cursor = cursorRequest.getCursor() == null || cursorRequest.getCursor().isBlank()
+                ? null
+                : IndividualTemplateCursor.decode(cursorRequest.getCursor(), sortType);
+
+        List<IndividualTemplateSummaryResponse> fetched;
+        if ("title".equalsIgnoreCase(sortType)) {
+            if (cursor == null) {
+                fetched = individualTemplateRepository.findTitleFirstPage(workspaceId, status, limit);
+            } else if (cursor.titleNull()) {
+                fetched = individualTemplateRepository.findNullTitleAfter(
+                        workspaceId, status, cursor.individualTemplateId(), limit);
+            } else {
+                fetched = individualTemplateRepository.findTitleAfter(
+                        workspaceId, status, cursor.individualTemplateTitle(), cursor.individualTemplateId(), limit);
+            }
+        } else {
+            fetched = cursor == null
+                    ? individualTemplateRepository.findLatestFirstPage(workspaceId, status, limit)
+                    : individualTemplateRepository.findLatestAfter(
+                            workspaceId, status, cursor.updatedAt(), cursor.individualTemplateId(), limit);
+        }
+
+        // 커서는 DB에 반영된 정렬 키로 만들고, 응답 항목에만 대기 중인 수정 내용을 덮어쓴다
+        return CursorPageResponse.of(
+                fetched,
+                size,
+                templateEditCoalescer::overlay,
+                last -> IndividualTemplateCursor.of(last, sortType).encode());
+    }
+
     /**
      * 개인 템플릿 단일 조회
      */
@@ -169,11 +241,11 @@ public class IndividualTemplateService {
                                                             Integer userId,
                                                             Integer individualTemplateId) {
 
-        workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
-
-        IndividualTemplate individualTemplate = workspaceValidator.validateTemplateOwnership(workspaceId, individualTemplateId);
+        // 워크스페이스 권한과 템플릿 소속을 한 번에 검증
+        IndividualTemplate individualTemplate = workspaceValidator.validateTemplateAccess(workspaceId, individualTemplateId, userId);
 
-        return IndividualTemplateResponse.toResponse(individualTemplate);
+        // 자동 저장 대기 중인 수정 내용이 있으면 그 내용을 보여준다
+        return templateEditCoalescer.overlay(IndividualTemplateResponse.toResponse(individualTemplate));
     }
 
     @Async
@@ -185,17 +257,72 @@ public class IndividualTemplateService {
         return CompletableFuture.completedFuture(getIndividualTemplate(workspaceId, userId, individualTemplateId));
     }
 
+    /**
+     * 개인 템플릿 수정 이력을 최신순으로 페이징하여 조회한다.
+     * 델타로 저장된 본문과 압축된 채팅 기록은 복원해서 반환한다.
+     */
     @Transactional(readOnly = true)
-    public List<HistoryResponse> getTemplateModifiedHistories(Integer workspaceId, Integer individualTemplateId, Integer userId) {
-        workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
-        IndividualTemplate individualTemplate = workspaceValidator.validateTemplateOwnership(workspaceId, individualTemplateId);
+    public Page<HistoryResponse> getTemplateModifiedHistories(Integer workspaceId,
+                                                              Integer individualTemplateId,
+                                                              Integer userId,
+                                                              Pageable pageable) {
+        // 자동 저장 대기 중인 수정 내용을 먼저 이력으로 반영한다 (버퍼에 넣을 때 권한을 검증한 수정이며,
+        // 반복 읽기 격리 수준에서 보이도록 이 트랜잭션의 첫 조회보다 먼저 별도 트랜잭션으로 커밋한다)
+        templateEditCoalescer.flushSeparately(individualTemplateId);
+
+        // 워크스페이스 권한과 템플릿 소속을 한 번에 검증
+        IndividualTemplate individualTemplate = workspaceValidator.validateTemplateAccess(workspaceId, individualTemplateId, userId);
+
+        return templateHistoryStore.findPage(individualTemplate, pageable);
+    }
+
+    /**
+     * 개인 템플릿 수정 이력 요약을 최신순 커서 기반으로 조회한다.
+     * 본문/채팅은 읽지 않고 글자 수만 반환하며, 내용은 버전별 상세 조회로 가져온다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<HistorySummaryResponse> getTemplateHistoriesByCursor(Integer workspaceId,
+                                                                                   Integer individualTemplateId,
+                                                                                   Integer userId,
+                                                                                   HistoryCursorRequest cursorRequest) {
+        // 자동 저장 대기 중인 수정 내용을 이 트랜잭션의 첫 조회보다 먼저 이력으로 반영한다
+        templateEditCoalescer.flushSeparately(individualTemplateId);
+
+        // 워크스페이스 권한과 템플릿 소속을 한 번에 검증
+        workspaceValidator.validateTemplateAccess(workspaceId, individualTemplateId, userId);
+
+        int size = cursorRequest.getSize();
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<HistorySummaryResponse> fetched;
+        if (cursorRequest.getCursor() == null || cursorRequest.getCursor().isBlank()) {
+            fetched = templateModifiedHistoryRepository.findSummaryFirstPage(individualTemplateId, limit);
+        } else {
+            HistoryCursor cursor = HistoryCursor.decode(cursorRequest.getCursor());
+            fetched = templateModifiedHistoryRepository.findSummaryAfter(
+                    individualTemplateId, cursor.createdAt(), cursor.historyId(), limit);
+        }
 
-        List<TemplateModifiedHistory> histories = templateModifiedHistoryRepository
-                .findAllByIndividualTemplateOrderByCreatedAtDesc(individualTemplate);
+        return CursorPageResponse.of(
+                fetched,
+                size,
+                Function.identity(),
+                last -> HistoryCursor.of(last).encode());
+    }
 
-        return histories.stream()
-                .map(HistoryResponse::fromEntity)
-                .collect(Collectors.toList());
+    /**
+     * 개인 템플릿 수정 이력 한 건을 조회한다. 본문과 채팅 기록을 복원해서 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public HistoryResponse getTemplateModifiedHistory(Integer workspaceId,
+                                                      Integer individualTemplateId,
+                                                      Integer historyId,
+                                                      Integer userId) {
+        // 워크스페이스 권한과 템플릿 소속을 한 번에 검증
+        IndividualTemplate individualTemplate = workspaceValidator.validateTemplateAccess(workspaceId, individualTemplateId, userId);
+
+        TemplateModifiedHistory history = templateModifiedHistoryRepository.findByIdOrThrow(historyId, individualTemplate);
+        return templateHistoryStore.restore(history);
     }
 
     /**
@@ -208,17 +335,13 @@ public class IndividualTemplateService {
                                Integer workspaceId,
                                Integer userId){
 
-        // 워크스페이스 검증
-        workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
-
-        IndividualTemplate individualTemplate = workspaceValidator.validateTemplateOwnership(workspaceId, individualTemplateId);
+        // 워크스페이스 권한과 템플릿 소속을 한 번에 검증
+        IndividualTemplate individualTemplate = workspaceValidator.validateTemplateAccess(workspaceId, individualTemplateId, userId);
 
+        templateEditCoalescer.discard(individualTemplateId);
         templateModifiedHistoryRepository.bulkSoftDeleteByTemplate(individualTemplate);
 
-        List<Favorite> favorites = favoriteRepository.findAllByIndividualTemplate_individualTemplateId(individualTemplateId);
-
-        individualTemplate.deleteFavorites();
-        favoriteRepository.deleteAll(favorites);
+        favoriteCascadeDeleter.deleteFavoritesOf(Favorite.TemplateType.INDIVIDUAL, individualTemplateId);
 
         individualTemplate.softDelete();
         individualTemplateRepository.save(individualTemplate);
@@ -232,10 +355,18 @@ public class IndividualTemplateService {
             IndividualTemplateUpdateRequest request,
             Integer userId) {
 
-        // 워크스페이스 검증
-        workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
+        // 워크스페이스 권한과 템플릿 소속을 한 번에 검증
+        IndividualTemplate individualTemplate = workspaceValidator.validateTemplateAccess(workspaceId, individualTemplateId, userId);
 
-        IndividualTemplate individualTemplate = workspaceValidator.validateTemplateOwnership(workspaceId, individualTemplateId);
+        // 편집 중 연속 저장은 모아 두었다가 마지막 상태만 반영한다
+        // 상태는 지금 DRAFT로 바꿔 두어, 반영 전에 들어온 상태 변경이 나중에 덮이지 않게 한다
+        if (templateEditCoalescer.isEnabled()) {
+            if (individualTemplate.getStatus() != IndividualTemplate.Status.DRAFT) {
+                individualTemplate.updateStatus(IndividualTemplate.Status.DRAFT);
+            }
+            PendingTemplateEdit edit = templateEditCoalescer.buffer(individualTemplateId, request);
+            return edit.overlay(IndividualTemplateResponse.toResponse(individualTemplate));
+        }
 
         individualTemplate.update(
                 request.getIndividualTemplateTitle(),
@@ -244,17 +375,15 @@ public class IndividualTemplateService {
                 IndividualTemplate.Status.DRAFT
         );
 
-        TemplateModifiedHistory history = TemplateModifiedHistory.builder()
-                .historyTitle(request.getIndividualTemplateTitle())
-                .historyContent(request.getIndividualTemplateContent())
-                .buttonTitle(request.getButtonTitle())
-                .chatAi(request.getChatAi())
-                .chatUser(request.getChatUser())
-                .status(IndividualTemplate.Status.DRAFT)
-                .individualTemplate(individualTemplate)
-                .build();
-
-        templateModifiedHistoryRepository.save(history);
+        templateHistoryStore.append(
+                individualTemplate,
+                request.getIndividualTemplateTitle(),
+                request.getIndividualTemplateContent(),
+                request.getButtonTitle(),
+                request.getChatAi(),
+                request.getChatUser(),
+                IndividualTemplate.Status.DRAFT
+        );
 
         return IndividualTemplateResponse.toResponse(individualTemplate);
     }
@@ -266,10 +395,11 @@ public class IndividualTemplateService {
             Integer userId,
             IndividualTemplate.Status status
     ) {
-        // 워크스페이스 검증
-        workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
+        // 워크스페이스 권한과 템플릿 소속을 한 번에 검증
+        IndividualTemplate individualTemplate = workspaceValidator.validateTemplateAccess(workspaceId, individualTemplateId, userId);
 
-        IndividualTemplate individualTemplate = workspaceValidator.validateTemplateOwnership(workspaceId, individualTemplateId);
+        // 상태 변경 전에 대기 중인 편집 내용을 먼저 반영한다
+        templateEditCoalescer.flush(individualTemplateId);
         individualTemplate.updateStatus(status);
 
         return IndividualTemplateResponse.toResponse(individualTemplate);
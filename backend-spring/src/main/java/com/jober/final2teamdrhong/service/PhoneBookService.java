@@ -1,20 +1,28 @@
 package com.jober.final2teamdrhong.service;
 
+import com.jober.final2teamdrhong.dto.common.CursorPageResponse;
+import com.jober.final2teamdrhong.dto.phonebook.PhoneBookMemberCursor;
+import com.jober.final2teamdrhong.dto.phonebook.PhoneBookMemberCursorRequest;
 import com.jober.final2teamdrhong.dto.phonebook.PhoneBookRequest;
 import com.jober.final2teamdrhong.dto.phonebook.PhoneBookResponse;
 import com.jober.final2teamdrhong.dto.recipient.RecipientResponse;
-import com.jober.final2teamdrhong.entity.GroupMapping;
+import com.jober.final2teamdrhong.entity.GroupMappingCascadeTask;
 import com.jober.final2teamdrhong.entity.PhoneBook;
 import com.jober.final2teamdrhong.entity.Recipient;
 import com.jober.final2teamdrhong.entity.Workspace;
 import com.jober.final2teamdrhong.repository.GroupMappingRepository;
 import com.jober.final2teamdrhong.repository.PhoneBookRepository;
+import com.jober.final2teamdrhong.service.cascade.GroupMappingCascadeDeleter;
+import com.jober.final2teamdrhong.service.phonebook.GroupMappingBulkDeleter;
+import com.jober.final2teamdrhong.service.phonebook.GroupMappingBulkInserter;
 import com.jober.final2teamdrhong.service.validator.PhoneBookValidator;
 import com.jober.final2teamdrhong.service.validator.RecipientValidator;
 import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,8 +30,13 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * 주소록(PhoneBook) 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -38,6 +51,9 @@ public class PhoneBookService {
     private final PhoneBookValidator phoneBookValidator;
     private final WorkspaceValidator workspaceValidator;
     private final RecipientValidator recipientValidator;
+    private final GroupMappingBulkInserter groupMappingBulkInserter;
+    private final GroupMappingBulkDeleter groupMappingBulkDeleter;
+    private final GroupMappingCascadeDeleter groupMappingCascadeDeleter;
     private final EntityManager entityManager;
 
     /**
@@ -64,7 +80,7 @@ public class PhoneBookService {
         // 3. 엔티티 저장 및 DTO 변환 후 반환
         PhoneBook createdPhoneBook = phoneBookRepository.save(phoneBook);
 
-        return new PhoneBookResponse.SimpleDTO(createdPhoneBook);
+        return new PhoneBookResponse.SimpleDTO(createdPhoneBook, 0L);
     }
 
     /**
@@ -72,13 +88,19 @@ public class PhoneBookService {
      * <p>
      * 전체 로직은 하나의 트랜잭션으로 처리됩니다:
      * <ol>
-     *     <li>요청된 워크스페이스, 주소록, 수신자 ID 목록의 유효성을 검증합니다.</li>
-     *     <li>요청된 수신자 중 이미 주소록에 존재하는 멤버를 필터링하여 중복 추가를 방지합니다.</li>
+     *     <li>요청 크기가 동기 추가 한도를 넘지 않는지 확인하고,
+     *         워크스페이스, 주소록, 수신자 ID 목록의 유효성을 검증합니다.</li>
+     *     <li>요청된 수신자 중 이미 주소록에 존재하는 멤버만 조회하여 중복 추가를 방지합니다.
+     *         주소록 전체 멤버를 읽지 않으므로 비용은 요청 크기에 비례합니다.</li>
      *     <li>실제로 추가할 신규 수신자가 없는 경우, 빈 목록을 포함한 DTO를 반환합니다.</li>
-     *     <li>서울 시간대로 통일된 타임스탬프를 생성하고, 네이티브 쿼리를 사용하여
-     *         신규 수신자들을 주소록에 일괄 추가합니다 (Bulk Insert).</li>
-     *     <li>벌크 INSERT 후 실제 DB에 저장된 GroupMapping 엔티티들을 재조회하여
-     *         {@link PhoneBookResponse.ModifiedRecipientsDTO#ofAddition(PhoneBook, List)}
+     *     <li>서울 시간대로 통일된 타임스탬프를 생성하고, {@link GroupMappingBulkInserter}로
+     *         신규 수신자들을 배치 크기 단위의 청크로 나누어 주소록에 일괄 추가합니다
+     *         (Bulk Insert, 이미 있는 멤버는 DB에서 다시 한 번 걸러짐).</li>
+     *     <li>추가된 매핑 수가 요청과 다르면 그 사이 다른 요청이 먼저 추가한 것이므로,
+     *         이번에 기록한 생성 시간으로 실제로 추가된 수신자만 다시 가려냅니다.
+     *         동시 요청이 유니크 제약에 걸리면 다시 시도하도록 안내합니다.</li>
+     *     <li>실제로 추가한 수신자와 기록한 시간으로
+     *         {@link PhoneBookResponse.ModifiedRecipientsDTO#ofAddition(PhoneBook, List, LocalDateTime)}
      *         팩토리 메소드를 호출하여 결과 DTO를 생성하고 반환합니다.</li>
      * </ol>
      *
@@ -88,51 +110,84 @@ public class PhoneBookService {
      * @param userId           요청을 보낸 사용자의 ID (인가에 사용)
      * @return '추가' 이벤트의 결과로 생성된 {@link PhoneBookResponse.ModifiedRecipientsDTO}.
      *         실제로 추가된 수신자 목록과 DB에 기록된 작업 시간을 포함합니다.
-     * @throws IllegalArgumentException 유효하지 않은 ID(워크스페이스, 주소록, 수신자)로 요청했을 경우 발생
+     * @throws IllegalArgumentException 수신자 ID 목록이 없거나, 유효하지 않은 ID(워크스페이스, 주소록, 수신자)로 요청했거나,
+     *         동기 추가 한도를 넘는 수신자를 요청했거나, 같은 수신자를 추가하는 요청과 동시에 실행되었을 경우 발생
      */
     @Transactional
     public PhoneBookResponse.ModifiedRecipientsDTO addRecipientsToPhoneBook(PhoneBookRequest.RecipientIdListDTO recipientIdListDTO, Integer workspaceId, Integer phoneBookId, Integer userId) {
-        // 1. 폰북과 워크스페이스 권한 검증
-        workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
-        PhoneBook phoneBook = phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId);
+        // 1. 요청 크기 확인 후 폰북과 워크스페이스 권한 검증 (한도를 넘는 요청은 비동기 추가 작업으로 처리)
+        if (recipientIdListDTO.recipientIds() == null) {
+            throw new IllegalArgumentException("추가할 수신자 ID 목록이 비어 있습니다.");
+        }
+        groupMappingBulkInserter.validateSyncSize(recipientIdListDTO.recipientIds().size());
+        PhoneBook phoneBook = phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId);
         List<Recipient> allRequestedRecipients = recipientValidator.validateAndGetRecipients(workspaceId, recipientIdListDTO.recipientIds());
 
-        // 2. 중복 방지를 위해 이미 존재하는 수신자 필터링
-        List<Integer> existingRecipientIds = groupMappingRepository.findRecipientIdsByPhoneBook(phoneBook);
+        // 2. 요청된 수신자 중 이미 주소록에 있는 수신자만 조회 (주소록 전체 멤버는 읽지 않음)
+        List<Integer> requestedRecipientIds = allRequestedRecipients.stream()
+                .map(Recipient::getRecipientId)
+                .toList();
+        Set<Integer> existingRecipientIds = new HashSet<>(
+                groupMappingRepository.findRecipientIdsInPhoneBook(phoneBook.getPhoneBookId(), requestedRecipientIds));
 
         // 2-1. 요청된 수신자 중, 실제로 새로 추가해야 할 수신자만 필터링합니다.
         List<Recipient> recipientsToActuallyAdd = allRequestedRecipients.stream()
                 .filter(recipient -> !existingRecipientIds.contains(recipient.getRecipientId()))
                 .toList();
 
-        // 3. 새로 추가할 수신자가 없는 경우, 빈 목록으로 응답
+        // 3. 서울 시간대로 생성 시간을 설정 (DB의 TIMESTAMP 정밀도에 맞춰 초 단위로 절삭하여 응답 시간과 일치시킴)
+        LocalDateTime creationTimestamp = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDateTime().truncatedTo(ChronoUnit.SECONDS);
+
+        // 4. 새로 추가할 수신자가 없는 경우, 빈 목록으로 응답
         if (recipientsToActuallyAdd.isEmpty()) {
-            // ofAddition 팩토리 메소드에 빈 GroupMapping 리스트를 전달하여
-            // '추가된 멤버 없음'을 나타내는 DTO를 생성합니다.
-            return PhoneBookResponse.ModifiedRecipientsDTO.ofAddition(phoneBook, new ArrayList<>());
+            return PhoneBookResponse.ModifiedRecipientsDTO.ofAddition(phoneBook, new ArrayList<>(), creationTimestamp);
         }
 
-        // 4. 서울 시간대로 생성 시간을 설정
-        LocalDateTime creationTimestamp = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDateTime();
-
         // 5. 추가할 수신자 ID 목록 추출
         List<Integer> recipientIdsToAdd = recipientsToActuallyAdd.stream()
                 .map(Recipient::getRecipientId)
                 .toList();
 
-        // 6. 벌크 INSERT 실행 (단일 쿼리로 모든 매핑 생성, 동일한 시간 적용)
-        groupMappingRepository.bulkInsertMappings(phoneBook.getPhoneBookId(), recipientIdsToAdd, creationTimestamp);
+        // 6. 청크 단위 벌크 INSERT 실행 (동일한 시간 적용, 그 사이 추가된 멤버는 NOT EXISTS로 건너뜀)
+        // 같은 초에 같은 수신자를 추가한 다른 요청과 구분할 수 있도록 매핑에 이번 요청의 식별자를 기록
+        String insertToken = UUID.randomUUID().toString();
+        int insertedCount;
+        try {
+            insertedCount = groupMappingBulkInserter.insert(phoneBook.getPhoneBookId(), recipientIdsToAdd, creationTimestamp, insertToken);
+        } catch (DataIntegrityViolationException e) {
+            // NOT EXISTS 확인과 INSERT 사이에 같은 수신자가 추가되어 유니크 제약(uk_group_mapping_live)에 걸린 경우
+            throw new IllegalArgumentException("같은 수신자를 추가하는 다른 요청과 겹쳤습니다. 잠시 후 다시 시도해주세요.", e);
+        }
 
-        // 7. 벌크 INSERT 후 실제 DB에서 생성된 매핑들을 재조회
-        List<GroupMapping> savedMappings =
-                groupMappingRepository.findAllByPhoneBook_PhoneBookIdAndRecipient_RecipientIdIn(phoneBook.getPhoneBookId(), recipientIdsToAdd);
+        // 7. 일부가 건너뛰어졌다면 이번에 실제로 추가된 수신자만 남깁니다.
+        List<Recipient> addedRecipients = insertedCount == recipientsToActuallyAdd.size()
+                ? recipientsToActuallyAdd
+                : filterInsertedBy(phoneBook.getPhoneBookId(), recipientsToActuallyAdd, insertToken);
 
-        // 8. '추가'용 팩토리 메소드를 호출하여 최종 DTO를 반환합니다.
-        return PhoneBookResponse.ModifiedRecipientsDTO.ofAddition(phoneBook, savedMappings);
+        // 8. 추가한 수신자와 기록한 시간으로 최종 DTO를 반환합니다.
+        return PhoneBookResponse.ModifiedRecipientsDTO.ofAddition(phoneBook, addedRecipients, creationTimestamp);
+    }
+
+    /**
+     * 수신자 중 주어진 요청 식별자로 주소록에 추가된 수신자만 남깁니다. (벌크 INSERT와 같은 청크 단위로 조회)
+     */
+    private List<Recipient> filterInsertedBy(Integer phoneBookId, List<Recipient> recipients, String insertToken) {
+        List<Integer> recipientIds = recipients.stream()
+                .map(Recipient::getRecipientId)
+                .toList();
+        Set<Integer> addedRecipientIds = new HashSet<>();
+        for (List<Integer> chunk : groupMappingBulkInserter.partition(recipientIds)) {
+            addedRecipientIds.addAll(groupMappingRepository.findRecipientIdsInsertedBy(phoneBookId, chunk, insertToken));
+        }
+        return recipients.stream()
+                .filter(recipient -> addedRecipientIds.contains(recipient.getRecipientId()))
+                .toList();
     }
 
     /**
      * 특정 워크스페이스에 속한 모든 주소록 목록을 조회합니다.
+     * <p>
+     * 각 주소록의 수신자 수는 주소록별 매핑을 로딩하지 않고 GROUP BY 집계 쿼리로 함께 조회합니다.
      *
      * @param workspaceId 주소록을 조회할 워크스페이스의 ID
      * @param userId      요청을 보낸 사용자의 ID (인가에 사용)
@@ -143,13 +198,8 @@ public class PhoneBookService {
         // 1. 인가: 사용자가 워크스페이스에 접근 권한이 있는지 검증합니다.
         workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
 
-        // 2. 데이터 조회: Repository를 통해 해당 워크스페이스의 모든 주소록을 조회합니다.
-        List<PhoneBook> phoneBookList = phoneBookRepository.findAllByWorkspace_WorkspaceId(workspaceId);
-
-        // 3. DTO 변환: 조회된 엔티티 목록을 DTO 목록으로 변환하여 반환합니다.
-        return phoneBookList.stream()
-                .map(PhoneBookResponse.SimpleDTO::new)
-                .toList();
+        // 2. 데이터 조회: 워크스페이스의 모든 주소록을 수신자 수와 함께 한 번의 집계 쿼리로 조회합니다.
+        return phoneBookRepository.findSummariesWithRecipientCount(workspaceId);
     }
 
     /**
@@ -157,6 +207,7 @@ public class PhoneBookService {
      * <p>
      * 수신자의 생성 시간(createdAt) 내림차순으로 정렬되어 반환됩니다.
      * 최신에 생성된 수신자가 목록의 상단에 표시됩니다.
+     * 매핑과 수신자를 조인해 수신자 컬럼만 조회하므로 행마다 수신자를 지연 로딩하지 않습니다.
      *
      * @param workspaceId 주소록이 속한 워크스페이스의 ID
      * @param phoneBookId 수신자 목록을 조회할 주소록의 ID
@@ -167,15 +218,51 @@ public class PhoneBookService {
      */
     public Page<RecipientResponse.SimpleDTO> readRecipientsInPhoneBook(Integer workspaceId, Integer phoneBookId, Integer userId, Pageable pageable) {
         // 1. 인가: 사용자가 워크스페이스와 주소록에 접근 권한이 있는지 검증
-        workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
-        PhoneBook phoneBook = phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId);
+        phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId);
 
-        // 2. Repository를 통해 해당 주소록의 GroupMapping 목록을 페이징 조회합니다. (Recipient의 createdAt 내림차순 정렬)
-        Page<GroupMapping> recipientsInPhoneBookPage = groupMappingRepository.findByPhoneBookOrderByRecipient_CreatedAtDescRecipient_RecipientIdDesc(phoneBook, pageable);
+        // 2. 수신자 컬럼을 프로젝션하여 페이징 조회합니다. (정렬은 쿼리에 고정되어 있으므로 요청의 정렬 조건은 제외)
+        return groupMappingRepository.findMemberPage(workspaceId, phoneBookId,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    }
+
+    /**
+     * 특정 주소록에 포함된 수신자 목록을 커서 기반으로 조회합니다.
+     * <p>
+     * 수신자 생성 시간 내림차순(같으면 수신자 ID 내림차순)으로 정렬되며, OFFSET과 COUNT 쿼리 없이
+     * 마지막으로 본 수신자 이후의 범위만 읽으므로 주소록이 커져도 페이지마다 조회 비용이 일정합니다.
+     *
+     * @param workspaceId   주소록이 속한 워크스페이스의 ID
+     * @param phoneBookId   수신자 목록을 조회할 주소록의 ID
+     * @param userId        요청을 보낸 사용자의 ID (인가에 사용)
+     * @param cursorRequest 이전 응답의 커서와 페이지 크기
+     * @return 수신자 정보 목록과 다음 페이지 커서
+     * @throws IllegalArgumentException 유효하지 않은 ID(워크스페이스, 주소록)나 커서로 요청했을 경우 발생
+     */
+    public CursorPageResponse<RecipientResponse.SimpleDTO> readRecipientsInPhoneBookByCursor(Integer workspaceId,
+                                                                                        Integer phoneBookId,
+                                                                                        Integer userId,
+                                                                                        PhoneBookMemberCursorRequest cursorRequest) {
+        // 1. 인가: 사용자가 워크스페이스와 주소록에 접근 권한이 있는지 검증
+        phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId);
+
+        // 2. 다음 페이지 존재 여부를 알기 위해 size + 1개를 조회합니다.
+        int size = cursorRequest.getSize();
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<RecipientResponse.SimpleDTO> fetched;
+        if (cursorRequest.getCursor() == null || cursorRequest.getCursor().isBlank()) {
+            fetched = groupMappingRepository.findMemberFirstPage(workspaceId, phoneBookId, limit);
+        } else {
+            PhoneBookMemberCursor cursor = PhoneBookMemberCursor.decode(cursorRequest.getCursor());
+            fetched = groupMappingRepository.findMembersAfter(
+                    workspaceId, phoneBookId, cursor.createdAt(), cursor.recipientId(), limit);
+        }
 
-        // 3. GroupMapping에서 Recipient를 추출하여 RecipientResponse.SimpleDTO로 변환한 후 Page 형태로 반환합니다.
-        return recipientsInPhoneBookPage
-                .map(groupMapping -> new RecipientResponse.SimpleDTO(groupMapping.getRecipient()));
+        return CursorPageResponse.of(
+                fetched,
+                size,
+                Function.identity(),
+                last -> PhoneBookMemberCursor.of(last).encode());
     }
 
     /**
@@ -191,17 +278,14 @@ public class PhoneBookService {
     @Transactional
     public PhoneBookResponse.SimpleDTO updatePhoneBook(PhoneBookRequest.UpdateDTO updateDTO, Integer workspaceId, Integer phoneBookId, Integer userId) {
         // 1. 인가: 사용자가 워크스페이스와 주소록에 접근 권한이 있는지 검증
-        workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
-
-        // 2. 주소록 조회 (워크스페이스 소속인지 함께 검증)
-        PhoneBook existingPhoneBook = phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId);
+        PhoneBook existingPhoneBook = phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId);
 
-        // 3. 정보 업데이트
+        // 2. 정보 업데이트
         existingPhoneBook.setPhoneBookName(updateDTO.newPhoneBookName());
         existingPhoneBook.setPhoneBookMemo(updateDTO.newPhoneBookMemo());
         existingPhoneBook.update();
 
-        return new PhoneBookResponse.SimpleDTO(existingPhoneBook);
+        return new PhoneBookResponse.SimpleDTO(existingPhoneBook, groupMappingRepository.countMembers(phoneBookId));
     }
 
     /**
@@ -219,6 +303,8 @@ public class PhoneBookService {
      *         DB에 실제로 기록된 최종 상태를 다시 조회합니다.</li>
      *     <li>재조회된 엔티티를 DTO로 변환하여 반환함으로써, 응답 시간과 DB 시간의 일관성을 보장합니다.</li>
      * </ol>
+     * 주소록의 매핑은 이 트랜잭션에서 삭제하지 않고 연쇄 삭제 작업으로 등록하여,
+     * 커밋 후 {@link GroupMappingCascadeDeleter}가 청크 단위로 정리합니다.
      *
      * @param workspaceId 주소록이 속한 워크스페이스의 ID
      * @param phoneBookId 소프트 딜리트할 주소록의 ID
@@ -230,19 +316,17 @@ public class PhoneBookService {
     @Transactional
     public PhoneBookResponse.SimpleDTO deletePhoneBook(Integer workspaceId, Integer phoneBookId, Integer userId) {
         // 1. 인가: 사용자가 워크스페이스와 주소록에 접근 권한이 있는지 검증
-        workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
-
-        // 2. 주소록 조회 (워크스페이스 소속인지 함께 검증)
-        PhoneBook existingPhoneBook = phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId);
+        PhoneBook existingPhoneBook = phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId);
 
-        // 3. 소프트 딜리트 처리
+        // 2. 소프트 딜리트 처리 (매핑은 커밋 후 연쇄 삭제 작업이 청크 단위로 정리)
         existingPhoneBook.softDelete();
+        groupMappingCascadeDeleter.deleteMappingsOf(GroupMappingCascadeTask.TargetType.PHONE_BOOK, phoneBookId);
 
-        // 4. 즉시 DB에 반영, 및 Hibernate 1차 캐시 비우기 후 변경된 DB를 반환해야 정확한 시간이 응답으로 나옴
+        // 3. 즉시 DB에 반영, 및 Hibernate 1차 캐시 비우기 후 변경된 DB를 반환해야 정확한 시간이 응답으로 나옴
         entityManager.flush();
         entityManager.clear();
 
-        // 5. @SQLRestriction을 우회하는 네이티브 쿼리로 재조회하여 시간 동기화
+        // 4. @SQLRestriction을 우회하는 네이티브 쿼리로 재조회하여 시간 동기화
         PhoneBook deletedPhoneBook = phoneBookRepository.findByIdIncludingDeleted(phoneBookId)
                 .orElseThrow(() -> new IllegalStateException("소프트 딜리트 처리된 주소록을 재조회하는 데 실패했습니다. ID: " + phoneBookId));
 
@@ -252,17 +336,15 @@ public class PhoneBookService {
     /**
      * 주소록에서 다수의 수신자를 일괄 소프트 딜리트 처리합니다.
      * <p>
-     * 전체 로직은 하나의 트랜잭션으로 처리되며, 성능과 데이터 정확성을 모두 보장합니다:
+     * 전체 로직은 하나의 트랜잭션으로 처리되며, 매핑 엔티티를 로딩하거나 재조회하지 않습니다:
      * <ol>
      *     <li>요청된 워크스페이스, 주소록, 수신자 ID 목록의 유효성을 검증합니다.</li>
-     *     <li>요청된 수신자 중 실제로 해당 주소록에 매핑된 {@link GroupMapping} 엔티티만 조회합니다.</li>
-     *     <li>삭제할 매핑이 없는 경우, 빈 목록을 포함한 DTO를 즉시 반환합니다.</li>
-     *     <li>조회된 매핑들을 대상으로 JPQL을 이용한 Bulk Update를 실행하여,
-     *         단일 쿼리로 모든 대상을 효율적으로 소프트 딜리트 처리합니다.</li>
-     *     <li>Bulk 연산은 영속성 컨텍스트를 우회하므로, DB와 메모리 간의 데이터 정합성을 맞추기 위해
-     *         방금 삭제 처리된 {@link GroupMapping} 목록을 DB에서 재조회합니다.</li>
-     *     <li>최종적으로, 재조회된 최신 데이터를 기반으로
-     *         {@link PhoneBookResponse.ModifiedRecipientsDTO#ofDeletion(PhoneBook, List)}
+     *     <li>서울 시간 기준의 삭제 시간을 초 단위로 절삭해 생성합니다.</li>
+     *     <li>{@link GroupMappingBulkDeleter}가 수신자 ID를 청크로 나누어, 청크마다
+     *         주소록에 속한 수신자 ID를 확인한 뒤 {@code UPDATE ... WHERE phone_book_id = ? AND recipient_id IN (...)}
+     *         한 번으로 소프트 딜리트합니다.</li>
+     *     <li>실제로 제거된 수신자 ID와 DB에 기록한 삭제 시간으로
+     *         {@link PhoneBookResponse.ModifiedRecipientsDTO#ofDeletion(PhoneBook, List, LocalDateTime)}
      *         팩토리 메소드를 호출하여 결과 DTO를 생성하고 반환합니다.</li>
      * </ol>
      *
@@ -276,36 +358,21 @@ public class PhoneBookService {
      */
     @Transactional
     public PhoneBookResponse.ModifiedRecipientsDTO deleteRecipientsFromPhoneBook(PhoneBookRequest.RecipientIdListDTO recipientIdListDTO, Integer workspaceId, Integer phoneBookId, Integer userId) {
-        // 1. 폰북과 워크스페이스 권한 검증
-        workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
-        PhoneBook phoneBook = phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId);
-        List<Recipient> allRequestedRecipients = recipientValidator.validateAndGetRecipients(workspaceId, recipientIdListDTO.recipientIds());
-
-        // 2. 삭제할 대상이 될 GroupMapping 엔티티들을 DB에서 조회합니다.
-        List<Integer> existingRecipientIds = allRequestedRecipients.stream()
-                .map(Recipient::getRecipientId)
-                .toList();
-        List<GroupMapping> recipientsToActuallyDelete = groupMappingRepository.findAllByPhoneBookAndRecipient_RecipientIdIn(phoneBook, existingRecipientIds);
-
-        // 3. 실제로 삭제할 매핑이 없는 경우, 즉시 빈 결과를 반환합니다.
-        if (recipientsToActuallyDelete.isEmpty()) {
-            return PhoneBookResponse.ModifiedRecipientsDTO.ofDeletion(phoneBook, new ArrayList<>());
+        // 1. 요청 크기와 폰북, 워크스페이스 권한 검증 (수신자 소속은 삭제하면서 청크마다 ID만 조회해 검증)
+        if (recipientIdListDTO.recipientIds() == null) {
+            throw new IllegalArgumentException("삭제할 수신자 ID 목록이 비어 있습니다.");
         }
+        groupMappingBulkDeleter.validateSize(recipientIdListDTO.recipientIds().size());
+        PhoneBook phoneBook = phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId);
 
-        // 4. "서울 시간"을 명시적으로 생성합니다.
-        LocalDateTime deletionTimestamp = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDateTime();
+        // 2. 서울 시간대로 삭제 시간을 설정 (DB의 TIMESTAMP 정밀도에 맞춰 초 단위로 절삭하여 응답 시간과 일치시킴)
+        LocalDateTime deletionTimestamp = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDateTime().truncatedTo(ChronoUnit.SECONDS);
 
-        // 5. Bulk Update 실행 시, 생성한 시간을 파라미터로 전달합니다.
-        groupMappingRepository.softDeleteAllInBatch(recipientsToActuallyDelete, deletionTimestamp);
-
-        // 6. 재조회 로직은 그대로 유지하여 DB에 반영된 최신 상태를 가져옵니다.
-        List<Integer> mappingIds = recipientsToActuallyDelete.stream()
-                .map(GroupMapping::getGroupMappingId)
-                .toList();
-        List<GroupMapping> deletedMappings =
-                groupMappingRepository.findAllByIdIncludingDeleted(mappingIds);
+        // 3. 청크 단위 벌크 UPDATE 실행 (주소록에 속하지 않은 수신자와 이미 삭제된 매핑은 건너뜀)
+        List<RecipientResponse.SimpleDTO> removedRecipients = groupMappingBulkDeleter.delete(
+                workspaceId, phoneBook.getPhoneBookId(), recipientIdListDTO.recipientIds(), deletionTimestamp);
 
-        // 7. 재조회한 최신 데이터로 DTO를 생성하고 반환합니다.
-        return PhoneBookResponse.ModifiedRecipientsDTO.ofDeletion(phoneBook, deletedMappings);
+        // 4. 재조회 없이 실제로 제거된 수신자와 기록한 시간으로 최종 DTO를 반환합니다.
+        return PhoneBookResponse.ModifiedRecipientsDTO.ofDeletion(phoneBook, removedRecipients, deletionTimestamp);
     }
 }
@@ -3,24 +3,34 @@ package com.jober.final2teamdrhong.service;
 import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateCreateRequest;
 import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplatePageableRequest;
 import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateResponse;
-import com.jober.final2teamdrhong.entity.Favorite;
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateSearchRequest;
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateSummaryResponse;
+import com.jober.final2teamdrhong.entity.Favorite.TemplateType;
 import com.jober.final2teamdrhong.entity.IndividualTemplate;
 import com.jober.final2teamdrhong.entity.PublicTemplate;
-import com.jober.final2teamdrhong.repository.FavoriteRepository;
 import com.jober.final2teamdrhong.repository.IndividualTemplateRepository;
 import com.jober.final2teamdrhong.repository.PublicTemplateRepository;
 import com.jober.final2teamdrhong.repository.PublicTemplateSpecification;
+import com.jober.final2teamdrhong.service.autosave.TemplateEditCoalescer;
+import com.jober.final2teamdrhong.service.cascade.FavoriteCascadeDeleter;
+import com.jober.final2teamdrhong.service.catalogue.PublicTemplateCatalogueCache;
+import com.jober.final2teamdrhong.service.catalogue.PublicTemplateCataloguePage;
+import com.jober.final2teamdrhong.service.catalogue.PublicTemplateChangedEvent;
+import com.jober.final2teamdrhong.service.catalogue.PublicTemplatePopularityRanking;
+import com.jober.final2teamdrhong.service.counter.PublicTemplateCounter;
+import com.jober.final2teamdrhong.service.search.PublicTemplateFullTextIndex;
 import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -30,23 +40,65 @@ public class PublicTemplateService {
     private final PublicTemplateRepository publicTemplateRepository;
     private final IndividualTemplateRepository individualTemplateRepository;
     private final WorkspaceValidator workspaceValidator;
-    private final FavoriteRepository favoriteRepository;
+    private final FavoriteCascadeDeleter favoriteCascadeDeleter;
+    private final TemplateEditCoalescer templateEditCoalescer;
+    private final PublicTemplateFullTextIndex publicTemplateFullTextIndex;
+    private final PublicTemplateCounter publicTemplateCounter;
+    private final PublicTemplateCatalogueCache publicTemplateCatalogueCache;
+    private final PublicTemplatePopularityRanking publicTemplatePopularityRanking;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 삭제되지 않은 공용 템플릿 목록을 페이징하여 조회한다.
+     * 목록에는 필요한 컬럼과 본문 미리보기만 조회한다.
+     * - 키워드가 있고 FULLTEXT 인덱스를 사용할 수 있으면 인덱스 검색(관련도 정렬 지원)
+     * - 키워드가 있지만 FULLTEXT를 사용할 수 없으면 LIKE 검색
+     * - 키워드가 없으면 카탈로그 캐시를 거치며, 조회수/공유수 정렬은 인기 순위(ZSET)에서 조회
      *
      * @param request 요청으로부터 바인딩된 페이징/정렬/검색 정보
-     * @return 페이징된 PublicTemplateResponse 목록
+     * @return 페이징된 PublicTemplateSummaryResponse 목록
      */
     @Transactional(readOnly = true)
-    public Page<PublicTemplateResponse> getTemplates(PublicTemplatePageableRequest request) {
-        Pageable pageable = request.toPageable();
-        Specification<PublicTemplate> spec = PublicTemplateSpecification.withSearch(request.getSearch());
+    public Page<PublicTemplateSummaryResponse> getTemplates(PublicTemplatePageableRequest request) {
+        PublicTemplateSearchRequest search = request.getSearch();
+
+        Optional<String> fullTextQuery = publicTemplateFullTextIndex.toBooleanQuery(search);
+        if (fullTextQuery.isPresent()) {
+            return publicTemplateRepository.searchSummariesByFullText(
+                    fullTextQuery.get(), search.getSearchTarget(), request.toPageable());
+        }
+
+        Pageable pageable = request.toPageableWithoutRelevance();
+        Specification<PublicTemplate> spec = PublicTemplateSpecification.withSearch(search);
+
+        if (search == null || !search.hasKeyword()) {
+            return publicTemplateCatalogueCache.getPage(request, () -> PublicTemplateCataloguePage.from(
+                    publicTemplatePopularityRanking.findPage(pageable, publicTemplateRepository::findSummariesByIds)
+                            .orElseGet(() -> publicTemplateRepository.findSummaries(spec, pageable))))
+                    .toPage(pageable);
+        }
         
-        return publicTemplateRepository.findAll(spec, pageable)
-            .map(PublicTemplateResponse::from);
+        return publicTemplateRepository.findSummaries(spec, pageable);
     }   
 
+    /**
+     * 공용 템플릿 단건을 조회하고 조회수를 기록한다.
+     * 조회수는 {@link PublicTemplateCounter}에 누적되었다가 주기적으로 반영된다.
+     *
+     * @param publicTemplateId 조회할 공용 템플릿 ID
+     * @return 공용 템플릿 정보 {@link PublicTemplateResponse}
+     * @throws IllegalArgumentException 지정한 ID의 템플릿이 존재하지 않는 경우 발생
+     */
+    @Transactional(readOnly = true)
+    public PublicTemplateResponse getTemplate(Integer publicTemplateId) {
+        PublicTemplateResponse response = publicTemplateCatalogueCache.getDetail(publicTemplateId,
+                () -> PublicTemplateResponse.from(publicTemplateRepository.findByIdOrThrow(publicTemplateId)));
+
+        publicTemplateCounter.recordView(publicTemplateId);
+
+        return response;
+    }
+
     /**
      * 개인 템플릿을 기반으로 공용 템플릿을 생성하고, 생성된 공용 템플릿 정보를 반환한다.
      *
@@ -60,6 +112,9 @@ public class PublicTemplateService {
         // IndividualTemplate의 Workspace가 현재 User의 소유인지 검증
         workspaceValidator.validateAndGetWorkspace(individualTemplate.getWorkspace().getWorkspaceId(), userId);
 
+        // 자동 저장 대기 중인 편집 내용을 먼저 반영해 최신 내용으로 등록한다
+        templateEditCoalescer.flush(request.individualTemplateId());
+
         // 개인 템플릿 값을 복사해서 PublicTemplate 생성
         PublicTemplate publicTemplate = PublicTemplate.builder()
             .publicTemplateTitle(individualTemplate.getIndividualTemplateTitle())
@@ -68,6 +123,7 @@ public class PublicTemplateService {
             .build();
 
         PublicTemplate savedPublicTemplate = publicTemplateRepository.save(publicTemplate);
+        eventPublisher.publishEvent(PublicTemplateChangedEvent.created(savedPublicTemplate.getPublicTemplateId()));
 
         return PublicTemplateResponse.from(savedPublicTemplate);
     }
@@ -81,11 +137,9 @@ public class PublicTemplateService {
     public void deletePublicTemplate(Integer publicTemplateId) {
         PublicTemplate publicTemplate = publicTemplateRepository.findByIdOrThrow(publicTemplateId);
 
-        List<Favorite> favorites = favoriteRepository.findAllByPublicTemplate_publicTemplateId(publicTemplateId);
-
-        publicTemplate.deleteFavorites();
-        favoriteRepository.deleteAll(favorites);
-
         publicTemplate.softDelete();
+        favoriteCascadeDeleter.deleteFavoritesOf(TemplateType.PUBLIC, publicTemplateId);
+
+        eventPublisher.publishEvent(PublicTemplateChangedEvent.deleted(publicTemplateId));
     }
 } 
\ No newline at end of file
@@ -1,19 +1,32 @@
 package com.jober.final2teamdrhong.service;
 
+import com.jober.final2teamdrhong.dto.recipient.RecipientContact;
 import com.jober.final2teamdrhong.dto.recipient.RecipientRequest;
 import com.jober.final2teamdrhong.dto.recipient.RecipientResponse;
+import com.jober.final2teamdrhong.dto.recipient.RecipientSearchRequest;
+import com.jober.final2teamdrhong.entity.GroupMappingCascadeTask;
 import com.jober.final2teamdrhong.entity.Recipient;
 import com.jober.final2teamdrhong.entity.Workspace;
 import com.jober.final2teamdrhong.repository.RecipientRepository;
+import com.jober.final2teamdrhong.service.cascade.GroupMappingCascadeDeleter;
+import com.jober.final2teamdrhong.service.search.RecipientMemoFullTextIndex;
 import com.jober.final2teamdrhong.service.validator.RecipientValidator;
 import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
+import com.jober.final2teamdrhong.util.PhoneNumberNormalizer;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 /**
  * 수신자(Recipient) 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
  */
@@ -22,22 +35,28 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class RecipientService {
 
+    private static final String DUPLICATE_RECIPIENT_CONFLICT_MESSAGE =
+            "같은 이름과 번호의 수신자를 저장하는 다른 요청과 겹쳤습니다. 중복된 수신자가 없는지 확인 후 다시 시도해주세요.";
+
     private final RecipientRepository recipientRepository;
     private final RecipientValidator recipientValidator;
     private final WorkspaceValidator workspaceValidator;
+    private final GroupMappingCascadeDeleter groupMappingCascadeDeleter;
+    private final RecipientMemoFullTextIndex recipientMemoFullTextIndex;
     private final EntityManager entityManager;
 
     /**
      * 특정 워크스페이스에 새로운 수신자를 생성합니다.
      * <p>
      * 수신자를 생성하기 전에, 해당 워크스페이스에 동일한 이름과 전화번호를 가진 수신자가 이미 존재하는지 확인합니다.
+     * 전화번호는 수신자 파일 가져오기와 같은 국내 표기(010-1234-5678)로 정규화하여 저장합니다.
      *
      * @param createDTO   수신자 생성을 위한 요청 데이터
      * @param workspaceId 수신자를 추가할 워크스페이스의 ID
      * @param userId      요청을 보낸 사용자의 ID (인가에 사용)
      * @return 생성된 수신자의 정보({@link RecipientResponse.SimpleDTO})
      * @throws IllegalArgumentException 해당 워크스페이스가 존재하지 않거나, 사용자가 접근 권한이 없을 경우,
-     *                                  또는 동일한 이름과 번호의 수신자가 이미 존재할 경우 발생
+     *                                  전화번호 형식이 올바르지 않거나, 동일한 이름과 번호의 수신자가 이미 존재할 경우 발생
      */
     @Transactional
     public RecipientResponse.SimpleDTO createRecipient(RecipientRequest.CreateDTO createDTO, Integer workspaceId, Integer userId) {
@@ -50,13 +69,19 @@ public class RecipientService {
         // 3. 엔티티 생성: DTO의 데이터를 기반으로 Recipient 엔티티를 생성합니다.
         Recipient recipient = Recipient.builder()
                 .recipientName(createDTO.recipientName())
-                .recipientPhoneNumber(createDTO.recipientPhoneNumber())
+                .recipientPhoneNumber(PhoneNumberNormalizer.normalize(createDTO.recipientPhoneNumber()))
                 .recipientMemo(createDTO.recipientMemo())
                 .workspace(workspace)
                 .build();
 
-        // 4. 엔티티 저장 및 DTO 변환 후 반환
-        Recipient savedRecipient = recipientRepository.save(recipient);
+        // 4. 엔티티 저장 및 DTO 변환 후 반환 (유니크 키 위반을 여기서 확인하도록 즉시 flush)
+        Recipient savedRecipient;
+        try {
+            savedRecipient = recipientRepository.saveAndFlush(recipient);
+        } catch (DataIntegrityViolationException e) {
+            // 중복 확인과 INSERT 사이에 같은 이름과 번호의 수신자가 생성되어 유니크 제약(uk_recipient_ws_phone_e164_live)에 걸린 경우
+            throw new IllegalArgumentException(DUPLICATE_RECIPIENT_CONFLICT_MESSAGE, e);
+        }
 
         return new RecipientResponse.SimpleDTO(savedRecipient);
     }
@@ -81,6 +106,76 @@ public class RecipientService {
         return recipientPage.map(RecipientResponse.SimpleDTO::new);
     }
 
+    /**
+     * 이름 앞부분, 전화번호 뒷자리, 메모 키워드로 워크스페이스의 수신자를 검색합니다. (입력 중 자동완성용)
+     * <p>
+     * 입력된 조건은 모두 만족해야 하며, 이름과 뒷자리는 접두사 인덱스로, 메모는 사용 가능하면 FULLTEXT(ngram) 인덱스로 찾습니다.
+     * 메모만으로 FULLTEXT 검색하면 후보 수에 상한을 두고 관련도순으로 반환합니다.
+     * 전체 개수를 세지 않고 최대 {@code size}개만 반환합니다.
+     *
+     * @param workspaceId 수신자를 검색할 워크스페이스의 ID
+     * @param userId      요청을 보낸 사용자의 ID (인가에 사용)
+     * @param search      검색 조건
+     * @return 검색된 수신자 정보 목록
+     * @throws IllegalArgumentException 해당 워크스페이스가 존재하지 않거나, 사용자가 접근 권한이 없거나, 검색 조건이 없을 경우 발생
+     */
+    public List<RecipientResponse.SimpleDTO> searchRecipients(Integer workspaceId, Integer userId, RecipientSearchRequest search) {
+        workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
+
+        if (!search.hasCondition()) {
+            throw new IllegalArgumentException("검색 조건을 하나 이상 입력해주세요.");
+        }
+        String memoBooleanQuery = recipientMemoFullTextIndex.toBooleanQuery(search.getMemo()).orElse(null);
+
+        return recipientRepository.searchRecipients(workspaceId, search, memoBooleanQuery).stream()
+                .map(RecipientResponse.SimpleDTO::new)
+                .toList();
+    }
+
+    /**
+     * 여러 전화번호가 워크스페이스에 이미 수신자로 등록되어 있는지 한 번에 확인합니다.
+     * <p>
+     * 요청한 번호를 E.164 형식으로 정규화한 뒤, (workspace_id, recipient_phone_e164) 유니크 키에 대한 한 번의 IN 조회로
+     * 기존 수신자를 찾습니다. 표기가 달라도 같은 번호면 같은 수신자로 판단합니다.
+     *
+     * @param checkDTO    중복 확인할 전화번호 목록
+     * @param workspaceId 중복을 확인할 워크스페이스의 ID
+     * @param userId      요청을 보낸 사용자의 ID (인가에 사용)
+     * @return 이미 수신자가 있는 번호와 해당 수신자, 전화번호로 볼 수 없는 값이 담긴 {@link RecipientResponse.DuplicateCheckResultDTO}
+     * @throws IllegalArgumentException 해당 워크스페이스가 존재하지 않거나, 사용자가 접근 권한이 없을 경우 발생
+     */
+    public RecipientResponse.DuplicateCheckResultDTO checkDuplicatePhoneNumbers(RecipientRequest.DuplicateCheckDTO checkDTO,
+                                                                               Integer workspaceId, Integer userId) {
+        workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
+
+        // 1. 요청 순서를 유지하며 정규화 (같은 번호의 여러 표기는 처음 입력한 표기로 한 번만 응답)
+        Map<String, String> phoneNumberByE164 = new LinkedHashMap<>();
+        List<String> invalidPhoneNumbers = new ArrayList<>();
+        for (String phoneNumber : checkDTO.phoneNumbers()) {
+            String phoneE164 = PhoneNumberNormalizer.toE164(phoneNumber);
+            if (phoneE164 == null) {
+                invalidPhoneNumbers.add(phoneNumber);
+            } else {
+                phoneNumberByE164.putIfAbsent(phoneE164, phoneNumber);
+            }
+        }
+        if (phoneNumberByE164.isEmpty()) {
+            return new RecipientResponse.DuplicateCheckResultDTO(checkDTO.phoneNumbers().size(), List.of(), invalidPhoneNumbers);
+        }
+
+        // 2. 한 번의 IN 조회로 기존 수신자를 찾아 번호별로 묶음
+        Map<String, List<RecipientContact>> contactsByE164 = recipientRepository
+                .findContactsByPhoneE164s(workspaceId, phoneNumberByE164.keySet()).stream()
+                .collect(Collectors.groupingBy(RecipientContact::recipientPhoneE164));
+
+        List<RecipientResponse.DuplicateDTO> duplicates = phoneNumberByE164.entrySet().stream()
+                .filter(entry -> contactsByE164.containsKey(entry.getKey()))
+                .map(entry -> new RecipientResponse.DuplicateDTO(
+                        entry.getValue(), entry.getKey(), contactsByE164.get(entry.getKey())))
+                .toList();
+        return new RecipientResponse.DuplicateCheckResultDTO(checkDTO.phoneNumbers().size(), duplicates, invalidPhoneNumbers);
+    }
+
     /**
      * 특정 수신자의 정보를 수정합니다.
      * <p>
@@ -89,10 +184,11 @@ public class RecipientService {
      *     <li>요청한 사용자가 대상 워크스페이스에 대한 접근 권한이 있는지 확인합니다.</li>
      *     <li>수정하려는 수신자가 해당 워크스페이스에 실제로 속해 있는지 검증합니다.</li>
      *     <li>변경하려는 이름과 전화번호가 (자기 자신을 제외한) 다른 수신자와 중복되지 않는지 검증합니다.</li>
-     *     <li>검증이 완료되면, DTO로부터 받은 새로운 정보로 수신자 엔티티의 상태를 변경합니다.</li>
+     *     <li>검증이 완료되면, DTO로부터 받은 새로운 정보로 수신자 엔티티의 상태를 변경합니다. (바꾼 전화번호만 정규화하여 저장)</li>
      * </ol>
      * 메소드에 {@link Transactional} 어노테이션이 적용되어 있어,
      * 메소드 종료 시 변경된 엔티티 정보(Dirty Checking)가 데이터베이스에 자동으로 반영됩니다.
+     * 검증 후 동시에 같은 정보로 수정·생성된 수신자가 있으면 즉시 flush할 때 유니크 키 위반이 확인되어 {@link IllegalArgumentException}이 발생합니다.
      *
      * @param updateDTO   수신자 수정을 위한 새로운 데이터
      * @param workspaceId 수정할 수신자가 속한 워크스페이스의 ID
@@ -100,25 +196,30 @@ public class RecipientService {
      * @param userId      요청을 보낸 사용자의 ID (인가에 사용)
      * @return 수정된 수신자의 정보가 담긴 {@link RecipientResponse.SimpleDTO}
      * @throws IllegalArgumentException 워크스페이스나 수신자를 찾을 수 없거나, 사용자가 접근 권한이 없거나,
-     *                                  변경하려는 정보가 다른 수신자와 중복될 경우 발생
+     *                                  바꾼 전화번호의 형식이 올바르지 않거나, 변경하려는 정보가 다른 수신자와 중복될 경우 발생
      */
     @Transactional
     public RecipientResponse.SimpleDTO updateRecipient(RecipientRequest.UpdateDTO updateDTO,
                                                        Integer workspaceId, Integer recipientId, Integer userId) {
-        // 1. 워크스페이스 접근 권한 확인
-        workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
-
-        // 2. 수신자 조회 (워크스페이스 소속인지 함께 검증)
-        Recipient existingRecipient = recipientValidator.validateAndGetRecipient(workspaceId, recipientId);
+        // 1. 워크스페이스 접근 권한 확인 및 수신자 조회 (워크스페이스 소속인지 함께 검증)
+        Recipient existingRecipient = recipientValidator.validateAndGetRecipient(workspaceId, recipientId, userId);
 
-        // 3. 수정하려는 정보가 다른 수신자와 중복되는지 검증
-        recipientValidator.validateNoDuplicateRecipientExistsOnUpdate(existingRecipient.getWorkspace(), updateDTO.newRecipientName(), updateDTO.newRecipientPhoneNumber(), recipientId);
+        // 2. 수정하려는 정보가 다른 수신자와 중복되는지 검증
+        recipientValidator.validateNoDuplicateRecipientExistsOnUpdate(existingRecipient, updateDTO.newRecipientName(), updateDTO.newRecipientPhoneNumber());
 
-        // 4. 정보 업데이트
+        // 3. 정보 업데이트 (전화번호는 바뀐 경우에만 정규화하여 저장하므로 정규화할 수 없는 기존 번호는 그대로 유지)
         existingRecipient.setRecipientName(updateDTO.newRecipientName());
-        existingRecipient.setRecipientPhoneNumber(updateDTO.newRecipientPhoneNumber());
+        if (!existingRecipient.hasPhoneNumber(updateDTO.newRecipientPhoneNumber())) {
+            existingRecipient.setRecipientPhoneNumber(PhoneNumberNormalizer.normalize(updateDTO.newRecipientPhoneNumber()));
+        }
         existingRecipient.setRecipientMemo(updateDTO.newRecipientMemo());
         existingRecipient.update();
+        try {
+            recipientRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            // 중복 확인과 UPDATE 사이에 같은 이름과 번호의 수신자가 생성·수정되어 유니크 제약(uk_recipient_ws_phone_e164_live)에 걸린 경우
+            throw new IllegalArgumentException(DUPLICATE_RECIPIENT_CONFLICT_MESSAGE, e);
+        }
 
         return new RecipientResponse.SimpleDTO(existingRecipient);
     }
@@ -132,6 +233,9 @@ public class RecipientService {
      * 소프트 딜리트 처리 후, EntityManager의 flush()와 clear()를 통해 즉시 DB에 반영하고
      * 1차 캐시를 비운 다음, 네이티브 쿼리를 사용하여 삭제된 엔티티를 재조회합니다.
      * 이를 통해 정확한 삭제 시간(deletedAt)이 포함된 응답을 반환할 수 있습니다.
+     * <p>
+     * 수신자가 속한 주소록 매핑은 이 트랜잭션에서 삭제하지 않고 연쇄 삭제 작업으로 등록하여,
+     * 커밋 후 {@link GroupMappingCascadeDeleter}가 청크 단위로 정리합니다.
      *
      * @param workspaceId 삭제할 수신자가 속한 워크스페이스의 ID
      * @param recipientId 삭제할 수신자의 ID
@@ -143,20 +247,18 @@ public class RecipientService {
      */
     @Transactional
     public RecipientResponse.SimpleDTO deleteRecipient(Integer workspaceId, Integer recipientId, Integer userId) {
-        // 1. 워크스페이스 접근 권한 확인
-        workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
-
-        // 2. 수신자 조회 (워크스페이스 소속인지 함께 검증)
-        Recipient existingRecipient = recipientValidator.validateAndGetRecipient(workspaceId, recipientId);
+        // 1. 워크스페이스 접근 권한 확인 및 수신자 조회 (워크스페이스 소속인지 함께 검증)
+        Recipient existingRecipient = recipientValidator.validateAndGetRecipient(workspaceId, recipientId, userId);
 
-        // 3. 소프트 딜리트 처리
+        // 2. 소프트 딜리트 처리 (주소록 매핑은 커밋 후 연쇄 삭제 작업이 청크 단위로 정리)
         existingRecipient.softDelete();
+        groupMappingCascadeDeleter.deleteMappingsOf(GroupMappingCascadeTask.TargetType.RECIPIENT, recipientId);
 
-        // 4. 즉시 DB에 반영, 및 Hibernate 1차 캐시 비우기 후 변경된 DB를 반환해야 정확한 시간이 응답으로 나옴
+        // 3. 즉시 DB에 반영, 및 Hibernate 1차 캐시 비우기 후 변경된 DB를 반환해야 정확한 시간이 응답으로 나옴
         entityManager.flush();
         entityManager.clear();
 
-        // 5. @SQLRestriction을 우회하는 네이티브 쿼리로 재조회하여 시간 동기화
+        // 4. @SQLRestriction을 우회하는 네이티브 쿼리로 재조회하여 시간 동기화
         Recipient deletedRecipient = recipientRepository.findByIdIncludingDeleted(recipientId)
                 .orElseThrow(() -> new IllegalStateException("소프트 딜리트 처리된 수신자를 재조회하는 데 실패했습니다. ID: " + recipientId));
 
@@ -6,9 +6,11 @@ import com.jober.final2teamdrhong.entity.User;
 import com.jober.final2teamdrhong.entity.Workspace;
 import com.jober.final2teamdrhong.repository.WorkspaceRepository;
 import com.jober.final2teamdrhong.service.validator.UserValidator;
+import com.jober.final2teamdrhong.service.validator.WorkspaceChangedEvent;
 import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +28,7 @@ public class WorkspaceService {
     private final UserValidator userValidator;
     private final WorkspaceValidator workspaceValidator;
     private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 인증된 사용자를 위해 새로운 워크스페이스를 생성합니다.
@@ -60,6 +63,7 @@ public class WorkspaceService {
                 .build();
 
         Workspace savedWorkspace = workspaceRepository.save(workspace);
+        eventPublisher.publishEvent(WorkspaceChangedEvent.created(savedWorkspace.getWorkspaceId(), userId));
 
         return new WorkspaceResponse.SimpleDTO(savedWorkspace);
     }
@@ -138,6 +142,7 @@ public class WorkspaceService {
         existingWorkspace.setCompanyName(updateDTO.newCompanyName());
         existingWorkspace.setCompanyRegisterNumber(updateDTO.newCompanyRegisterNumber());
         existingWorkspace.update();
+        eventPublisher.publishEvent(WorkspaceChangedEvent.updated(workspaceId, userId));
 
         return new WorkspaceResponse.DetailDTO(existingWorkspace);
     }
@@ -169,8 +174,9 @@ public class WorkspaceService {
         // 1. 기존 워크스페이스 조회 (소유권 검증 포함)
         Workspace existingWorkspace = workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
 
-        // 2. 소프트 딜리트 처리
+        // 2. 소프트 딜리트 처리 (커밋 후 워크스페이스 접근 캐시에서 제거됨)
         existingWorkspace.softDelete();
+        eventPublisher.publishEvent(WorkspaceChangedEvent.deleted(workspaceId, userId));
 
         // 3. 즉시 DB에 반영, 및 Hibernate 1차 캐시 비우기 후 변경된 DB를 반환해야 정확한 시간이 응답으로 나옴
         entityManager.flush();
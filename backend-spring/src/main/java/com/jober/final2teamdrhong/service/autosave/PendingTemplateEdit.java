@@ -0,0 +1,109 @@
+package com.jober.final2teamdrhong.service.autosave;
+
+import com.jober.final2teamdrhong.dto.common.ContentPreview;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateSummaryResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateUpdateRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 아직 DB에 반영되지 않은 개인 템플릿 수정 내용
+ * 제목/본문/버튼은 마지막 요청 값을, 채팅 기록은 병합된 요청들의 기록을 순서대로 이어 붙인 값을 가진다.
+ */
+public record PendingTemplateEdit(
+        Integer individualTemplateId,
+        String title,
+        String content,
+        String buttonTitle,
+        String chatAi,
+        String chatUser,
+        int mergedCount,
+        Instant firstReceivedAt,
+        Instant lastReceivedAt
+) {
+    private static final String CHAT_SEPARATOR = "\n";
+
+    public static PendingTemplateEdit of(Integer individualTemplateId, IndividualTemplateUpdateRequest request, Instant receivedAt) {
+        return new PendingTemplateEdit(
+                individualTemplateId,
+                request.getIndividualTemplateTitle(),
+                request.getIndividualTemplateContent(),
+                request.getButtonTitle(),
+                request.getChatAi(),
+                request.getChatUser(),
+                1,
+                receivedAt,
+                receivedAt
+        );
+    }
+
+    /**
+     * 이후에 들어온 수정 내용을 합친다.
+     */
+    public PendingTemplateEdit merge(PendingTemplateEdit newer) {
+        return new PendingTemplateEdit(
+                individualTemplateId,
+                newer.title,
+                newer.content,
+                newer.buttonTitle,
+                joinChat(chatAi, newer.chatAi),
+                joinChat(chatUser, newer.chatUser),
+                mergedCount + newer.mergedCount,
+                firstReceivedAt,
+                newer.lastReceivedAt
+        );
+    }
+
+    /**
+     * 마지막 수정 후 quietPeriod 동안 추가 수정이 없었거나, 첫 수정 후 maxDelay가 지났으면 반영할 때가 된 것이다.
+     */
+    public boolean isDue(Instant now, Duration quietPeriod, Duration maxDelay) {
+        return !now.isBefore(lastReceivedAt.plus(quietPeriod)) || !now.isBefore(firstReceivedAt.plus(maxDelay));
+    }
+
+    /**
+     * DB 기준 응답에 아직 반영되지 않은 수정 내용을 덮어쓴다.
+     * 상태는 수정 요청 시점에 이미 DB에 반영되므로 저장된 값을 그대로 사용한다.
+     */
+    public IndividualTemplateResponse overlay(IndividualTemplateResponse saved) {
+        return new IndividualTemplateResponse(
+                saved.getIndividualTemplateId(),
+                title,
+                content,
+                buttonTitle,
+                saved.getWorkspaceId(),
+                saved.getCreatedAt(),
+                saved.getUpdatedAt(),
+                saved.getIsDeleted(),
+                saved.getStatus()
+        );
+    }
+
+    /**
+     * 목록 항목에 아직 반영되지 않은 수정 내용을 덮어쓴다.
+     */
+    public IndividualTemplateSummaryResponse overlay(IndividualTemplateSummaryResponse saved) {
+        return new IndividualTemplateSummaryResponse(
+                saved.individualTemplateId(),
+                title,
+                ContentPreview.of(content),
+                buttonTitle,
+                saved.workspaceId(),
+                saved.createdAt(),
+                saved.updatedAt(),
+                saved.status()
+        );
+    }
+
+    private static String joinChat(String older, String newer) {
+        if (newer == null || newer.isBlank() || newer.equals(older)) {
+            return older;
+        }
+        if (older == null || older.isBlank()) {
+            return newer;
+        }
+        return older + CHAT_SEPARATOR + newer;
+    }
+}
@@ -0,0 +1,260 @@
+package com.jober.final2teamdrhong.service.autosave;
+
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateSummaryResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateUpdateRequest;
+import com.jober.final2teamdrhong.entity.IndividualTemplate;
+import com.jober.final2teamdrhong.repository.IndividualTemplateRepository;
+import com.jober.final2teamdrhong.service.history.TemplateHistoryStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 개인 템플릿 자동 저장 병합기
+ * - 편집 중 연속으로 들어오는 수정 요청을 템플릿별로 메모리에 모아 두고, 마지막 상태만 한 번에 반영
+ *   (UPDATE 1회 + 채팅 기록을 합친 수정 이력 1건)
+ * - 마지막 수정 후 {@code quiet-period-ms} 동안 추가 수정이 없거나, 첫 수정 후 {@code max-delay-ms}가 지나면 반영
+ * - 상태 변경/공용 템플릿 등록 전에는 {@link #flush(Integer)}로 즉시 반영하고, 삭제 시에는 버린다
+ *   (호출한 쪽의 트랜잭션이 롤백되면 반영하거나 버린 수정 내용을 버퍼로 되돌린다)
+ * - 수정 요청은 그 요청의 트랜잭션(DRAFT 전환 등)이 커밋된 뒤에 버퍼에 합친다
+ * - 템플릿 상태는 수정 요청 시점에 바로 DRAFT로 바꾸므로, 반영할 때는 제목/본문/버튼 컬럼만 UPDATE한다
+ * 버퍼는 인스턴스 메모리에 있으므로 같은 템플릿의 수정이 여러 인스턴스로 나뉘면 인스턴스별로 반영되고,
+ * 비정상 종료 시 최대 max-delay 동안의 수정이 유실될 수 있다. 그래서 기본값은 비활성화이다.
+ */
+@Component
+@Slf4j
+public class TemplateEditCoalescer {
+
+    private final IndividualTemplateRepository individualTemplateRepository;
+    private final TemplateHistoryStore templateHistoryStore;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate separateTransactionTemplate;
+    private final boolean enabled;
+    private final Duration quietPeriod;
+    private final Duration maxDelay;
+    private final Clock clock;
+
+    private final ConcurrentMap<Integer, PendingTemplateEdit> pending = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TemplateEditCoalescer(IndividualTemplateRepository individualTemplateRepository,
+                                 TemplateHistoryStore templateHistoryStore,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${template.autosave.enabled:false}") boolean enabled,
+                                 @Value("${template.autosave.quiet-period-ms:2000}") long quietPeriodMs,
+                                 @Value("${template.autosave.max-delay-ms:10000}") long maxDelayMs) {
+        this(individualTemplateRepository, templateHistoryStore, transactionManager, enabled,
+                quietPeriodMs, maxDelayMs, Clock.systemDefaultZone());
+    }
+
+    TemplateEditCoalescer(IndividualTemplateRepository individualTemplateRepository,
+                          TemplateHistoryStore templateHistoryStore,
+                          PlatformTransactionManager transactionManager,
+                          boolean enabled,
+                          long quietPeriodMs,
+                          long maxDelayMs,
+                          Clock clock) {
+        this.individualTemplateRepository = individualTemplateRepository;
+        this.templateHistoryStore = templateHistoryStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.separateTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.separateTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.quietPeriod = Duration.ofMillis(quietPeriodMs);
+        this.maxDelay = Duration.ofMillis(maxDelayMs);
+        this.clock = clock;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 수정 요청을 버퍼에 합친다. 호출 전에 템플릿 접근 권한을 검증해야 한다.
+     * 호출한 쪽의 트랜잭션이 있으면 커밋된 뒤에 합치며, 롤백되면 버리므로 실패한 요청의 수정 내용이 반영되지 않는다.
+     *
+     * @return 지금까지 병합된, 아직 반영되지 않은 수정 내용 (트랜잭션 안에서는 커밋 후 합쳐질 내용의 미리보기)
+     */
+    public PendingTemplateEdit buffer(Integer individualTemplateId, IndividualTemplateUpdateRequest request) {
+        PendingTemplateEdit edit = PendingTemplateEdit.of(individualTemplateId, request, clock.instant());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return pending.merge(individualTemplateId, edit, PendingTemplateEdit::merge);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pending.merge(individualTemplateId, edit, PendingTemplateEdit::merge);
+            }
+        });
+        PendingTemplateEdit current = pending.get(individualTemplateId);
+        return current == null ? edit : current.merge(edit);
+    }
+
+    /**
+     * 아직 반영되지 않은 수정 내용을 조회한다.
+     */
+    public Optional<PendingTemplateEdit> pendingEdit(Integer individualTemplateId) {
+        return Optional.ofNullable(pending.get(individualTemplateId));
+    }
+
+    /**
+     * 단건 응답에 아직 반영되지 않은 수정 내용을 덮어쓴다. 대기 중인 수정이 없으면 그대로 반환한다.
+     */
+    public IndividualTemplateResponse overlay(IndividualTemplateResponse saved) {
+        PendingTemplateEdit edit = pending.get(saved.getIndividualTemplateId());
+        return edit == null ? saved : edit.overlay(saved);
+    }
+
+    /**
+     * 목록 항목에 아직 반영되지 않은 수정 내용을 덮어쓴다. 대기 중인 수정이 없으면 그대로 반환한다.
+     */
+    public IndividualTemplateSummaryResponse overlay(IndividualTemplateSummaryResponse saved) {
+        PendingTemplateEdit edit = pending.get(saved.individualTemplateId());
+        return edit == null ? saved : edit.overlay(saved);
+    }
+
+    /**
+     * 반영할 때가 된 수정 내용을 템플릿마다 별도 트랜잭션으로 반영한다.
+     */
+    @Scheduled(
+            fixedDelayString = "${template.autosave.flush-interval-ms:500}",
+            initialDelayString = "${template.autosave.flush-interval-ms:500}")
+    public void flushDue() {
+        pending.forEach((individualTemplateId, edit) -> {
+            if (edit.isDue(clock.instant(), quietPeriod, maxDelay)) {
+                flushIfUnchanged(edit);
+            }
+        });
+    }
+
+    /**
+     * 템플릿의 수정 내용을 즉시 반영한다. 호출한 쪽의 트랜잭션이 있으면 그 트랜잭션에 참여하며,
+     * 그 트랜잭션이 롤백되면 수정 내용을 버퍼로 되돌린다.
+     */
+    public void flush(Integer individualTemplateId) {
+        PendingTemplateEdit edit = pending.remove(individualTemplateId);
+        if (edit == null) {
+            return;
+        }
+        try {
+            persist(edit, transactionTemplate);
+        } catch (RuntimeException e) {
+            rebuffer(edit);
+            throw e;
+        }
+        rebufferOnRollback(edit);
+    }
+
+    /**
+     * 템플릿의 수정 내용을 별도 트랜잭션으로 즉시 반영한다.
+     * 읽기 전용 조회(수정 이력 등)에서 대기 중인 수정까지 보이도록 조회 전에 호출하며, 실패하면 버퍼에 남겨 두고 조회를 계속한다.
+     */
+    public void flushSeparately(Integer individualTemplateId) {
+        PendingTemplateEdit edit = pending.remove(individualTemplateId);
+        if (edit == null) {
+            return;
+        }
+        try {
+            persist(edit, separateTransactionTemplate);
+        } catch (RuntimeException e) {
+            rebuffer(edit);
+            log.warn("개인 템플릿 자동 저장 실패, 다음 주기에 재시도합니다: id = {}, error = {}",
+                    individualTemplateId, e.getMessage());
+        }
+    }
+
+    /**
+     * 템플릿의 반영되지 않은 수정 내용을 버린다. (템플릿 삭제 시)
+     * 호출한 쪽의 트랜잭션이 롤백되면 버린 수정 내용을 버퍼로 되돌린다.
+     */
+    public void discard(Integer individualTemplateId) {
+        PendingTemplateEdit edit = pending.remove(individualTemplateId);
+        if (edit != null) {
+            rebufferOnRollback(edit);
+        }
+    }
+
+    /**
+     * 종료 시 남은 수정 내용을 모두 반영한다.
+     */
+    @PreDestroy
+    public void flushAll() {
+        pending.values().forEach(this::flushIfUnchanged);
+    }
+
+    private void flushIfUnchanged(PendingTemplateEdit edit) {
+        // 확인과 제거 사이에 새 수정이 합쳐졌으면 제거하지 않고 다음 주기에 반영한다
+        if (!pending.remove(edit.individualTemplateId(), edit)) {
+            return;
+        }
+        try {
+            persist(edit, transactionTemplate);
+        } catch (RuntimeException e) {
+            rebuffer(edit);
+            log.warn("개인 템플릿 자동 저장 실패, 다음 주기에 재시도합니다: id = {}, error = {}",
+                    edit.individualTemplateId(), e.getMessage());
+        }
+    }
+
+    private void rebuffer(PendingTemplateEdit failed) {
+        // 실패한 수정이 더 오래된 것이므로 그 뒤에 들어온 수정을 합친다
+        pending.merge(failed.individualTemplateId(), failed, (current, older) -> older.merge(current));
+    }
+
+    /**
+     * 호출한 쪽의 트랜잭션이 커밋되지 않고 끝나면 수정 내용을 버퍼로 되돌린다.
+     */
+    private void rebufferOnRollback(PendingTemplateEdit edit) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    rebuffer(edit);
+                    log.info("트랜잭션이 롤백되어 개인 템플릿 수정 내용을 다시 대기시킵니다: id = {}", edit.individualTemplateId());
+                }
+            }
+        });
+    }
+
+    private void persist(PendingTemplateEdit edit, TransactionTemplate transaction) {
+        transaction.executeWithoutResult(status -> {
+            Optional<IndividualTemplate> found = individualTemplateRepository.findById(edit.individualTemplateId());
+            if (found.isEmpty()) {
+                log.info("삭제된 개인 템플릿의 자동 저장을 건너뜁니다: id = {}", edit.individualTemplateId());
+                return;
+            }
+            IndividualTemplate individualTemplate = found.get();
+            // 상태는 수정 요청 시점에 DRAFT로 바뀌었으므로 상태 컬럼은 쓰지 않는다
+            // (@DynamicUpdate로 변경된 컬럼만 UPDATE하므로, 조회 후 커밋된 다른 요청의 상태 변경을 덮어쓰지 않는다)
+            individualTemplate.updateContent(edit.title(), edit.content(), edit.buttonTitle());
+            templateHistoryStore.append(
+                    individualTemplate,
+                    edit.title(),
+                    edit.content(),
+                    edit.buttonTitle(),
+                    edit.chatAi(),
+                    edit.chatUser(),
+                    individualTemplate.getStatus()
+            );
+        });
+        log.debug("개인 템플릿 자동 저장: id = {}, 병합된 요청 {}건", edit.individualTemplateId(), edit.mergedCount());
+    }
+}
@@ -0,0 +1,153 @@
+package com.jober.final2teamdrhong.service.cascade;
+
+import com.jober.final2teamdrhong.entity.Favorite.TemplateType;
+import com.jober.final2teamdrhong.entity.FavoriteCascadeTask;
+import com.jober.final2teamdrhong.repository.FavoriteCascadeTaskRepository;
+import com.jober.final2teamdrhong.repository.FavoriteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 템플릿 삭제 시 연결된 즐겨찾기를 소프트 삭제
+ * - 즐겨찾기가 임계값 이하이면 템플릿 삭제 트랜잭션 안에서 UPDATE 한 번으로 삭제
+ * - 임계값을 넘으면 템플릿 삭제 트랜잭션에서는 연쇄 삭제 작업(아웃박스) 행만 저장하고,
+ *   커밋 후 비동기로 청크(ID 조회 + UPDATE)마다 짧은 트랜잭션으로 나누어 삭제하여 수많은 행의 락을 오래 잡지 않음
+ * - 중간에 실패하거나 서버가 재시작되어도 작업 행이 남아 있으므로 주기적인 재개 작업이 이어서 처리함
+ * 비동기 삭제가 끝나기 전까지는 삭제된 템플릿의 즐겨찾기가 남아 있을 수 있다.
+ */
+@Component
+@Slf4j
+public class FavoriteCascadeDeleter {
+
+    private final FavoriteCascadeTaskRepository taskRepository;
+    private final FavoriteRepository favoriteRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate chunkTransaction;
+    private final long asyncThreshold;
+    private final int chunkSize;
+    private final Duration resumeDelay;
+    private final Clock clock;
+
+    @Autowired
+    public FavoriteCascadeDeleter(FavoriteCascadeTaskRepository taskRepository,
+                                  FavoriteRepository favoriteRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${favorite.cascade.async-threshold:1000}") long asyncThreshold,
+                                  @Value("${favorite.cascade.chunk-size:500}") int chunkSize,
+                                  @Value("${favorite.cascade.resume-delay-ms:60000}") long resumeDelayMs) {
+        this(taskRepository, favoriteRepository, eventPublisher, transactionManager, asyncThreshold, chunkSize,
+                resumeDelayMs, Clock.system(ZoneId.of("Asia/Seoul")));
+    }
+
+    FavoriteCascadeDeleter(FavoriteCascadeTaskRepository taskRepository,
+                           FavoriteRepository favoriteRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager,
+                           long asyncThreshold,
+                           int chunkSize,
+                           long resumeDelayMs,
+                           Clock clock) {
+        this.taskRepository = taskRepository;
+        this.favoriteRepository = favoriteRepository;
+        this.eventPublisher = eventPublisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.asyncThreshold = asyncThreshold;
+        this.chunkSize = chunkSize;
+        this.resumeDelay = Duration.ofMillis(resumeDelayMs);
+        this.clock = clock;
+    }
+
+    /**
+     * 템플릿의 즐겨찾기를 삭제한다. 템플릿 삭제 트랜잭션 안에서 호출해야 한다.
+     *
+     * @param templateType 템플릿 유형
+     * @param templateId 삭제하는 템플릿 ID
+     */
+    public void deleteFavoritesOf(TemplateType templateType, Integer templateId) {
+        long count = favoriteRepository.countByTemplate(templateType, templateId);
+        if (count == 0) {
+            return;
+        }
+        if (count <= asyncThreshold) {
+            favoriteRepository.softDeleteAllByTemplate(templateType, templateId);
+            return;
+        }
+        FavoriteCascadeTask task = taskRepository.save(FavoriteCascadeTask.builder()
+                .templateType(templateType)
+                .templateId(templateId)
+                .build());
+        eventPublisher.publishEvent(new FavoriteCascadeEvent(task.getTaskId()));
+        log.info("즐겨찾기 {}건은 커밋 후 비동기로 삭제합니다: 작업 id = {}, {} 템플릿 id = {}",
+                count, task.getTaskId(), templateType, templateId);
+    }
+
+    /**
+     * 템플릿 삭제가 커밋되면 남은 즐겨찾기를 청크 단위로 삭제한다.
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFavoriteCascade(FavoriteCascadeEvent event) {
+        process(event.taskId());
+    }
+
+    /**
+     * 등록된 지 재개 대기 시간이 지나도록 끝나지 않은 작업을 이어서 처리한다.
+     * 커밋 직후의 비동기 처리가 실패했거나 처리 도중 서버가 재시작된 경우를 복구한다.
+     */
+    @Scheduled(
+            fixedDelayString = "${favorite.cascade.resume-interval-ms:60000}",
+            initialDelayString = "${favorite.cascade.resume-interval-ms:60000}")
+    public void resumePendingTasks() {
+        List<Integer> taskIds = taskRepository.findPendingTaskIds(now().minus(resumeDelay), PageRequest.of(0, 100));
+        for (Integer taskId : taskIds) {
+            process(taskId);
+        }
+    }
+
+    /**
+     * 작업 하나를 끝까지 처리한다. 청크마다 별도 트랜잭션으로 커밋되므로 중간에 실패해도 이미 삭제된 청크는 유지되며,
+     * 작업 행은 남은 즐겨찾기가 없을 때에만 완료 처리된다.
+     */
+    void process(Integer taskId) {
+        FavoriteCascadeTask task = taskRepository.findById(taskId).orElse(null);
+        if (task == null) {
+            // 이미 완료된 작업
+            return;
+        }
+        int deleted = 0;
+        try {
+            List<Integer> favoriteIds;
+            while (!(favoriteIds = favoriteRepository.findIdsByTemplate(
+                    task.getTemplateType(), task.getTemplateId(), chunkSize)).isEmpty()) {
+                deleted += favoriteRepository.softDeleteAllByIdIn(favoriteIds);
+            }
+
+            chunkTransaction.executeWithoutResult(status -> taskRepository.markCompleted(taskId, now()));
+            log.info("즐겨찾기 비동기 삭제 완료: 작업 id = {}, {} 템플릿 id = {}, {}건",
+                    taskId, task.getTemplateType(), task.getTemplateId(), deleted);
+        } catch (RuntimeException e) {
+            log.warn("즐겨찾기 비동기 삭제 중단: 작업 id = {}, {}건 삭제 후 실패, 재개 작업이 이어서 처리합니다.", taskId, deleted, e);
+        }
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+}
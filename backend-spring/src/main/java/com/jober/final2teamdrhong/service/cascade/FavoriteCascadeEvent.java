@@ -0,0 +1,8 @@
+package com.jober.final2teamdrhong.service.cascade;
+
+/**
+ * 삭제된 템플릿의 즐겨찾기를 비동기로 정리하라는 이벤트
+ * 템플릿 삭제 트랜잭션이 커밋된 뒤에 처리된다.
+ */
+public record FavoriteCascadeEvent(Integer taskId) {
+}
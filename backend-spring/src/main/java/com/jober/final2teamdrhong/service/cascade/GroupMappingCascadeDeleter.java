@@ -0,0 +1,149 @@
+package com.jober.final2teamdrhong.service.cascade;
+
+import com.jober.final2teamdrhong.entity.GroupMappingCascadeTask;
+import com.jober.final2teamdrhong.entity.GroupMappingCascadeTask.TargetType;
+import com.jober.final2teamdrhong.repository.GroupMappingCascadeTaskRepository;
+import com.jober.final2teamdrhong.repository.GroupMappingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 주소록 또는 수신자 삭제 시 연결된 매핑(GroupMapping)을 소프트 삭제
+ * - 부모 삭제 트랜잭션에서는 연쇄 삭제 작업(아웃박스) 행만 저장하므로, 매핑 수와 관계없이 삭제 API의 지연 시간이 일정함
+ * - 커밋 후 비동기로 청크(ID 조회 + UPDATE)마다 짧은 트랜잭션으로 나누어 삭제하여 수많은 행의 락을 오래 잡지 않음
+ * - 중간에 실패하거나 서버가 재시작되어도 작업 행이 남아 있으므로 주기적인 재개 작업이 이어서 처리함
+ * - 이미 삭제된 매핑은 다시 갱신하지 않으므로 같은 작업을 여러 번 처리해도 결과가 같음
+ * 비동기 삭제가 끝나기 전까지는 삭제된 부모의 매핑이 남아 있을 수 있다. (주소록 멤버 조회는 삭제된 수신자를 따로 제외함)
+ */
+@Component
+@Slf4j
+public class GroupMappingCascadeDeleter {
+
+    private final GroupMappingCascadeTaskRepository taskRepository;
+    private final GroupMappingRepository groupMappingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+    private final Duration resumeDelay;
+    private final Clock clock;
+
+    @Autowired
+    public GroupMappingCascadeDeleter(GroupMappingCascadeTaskRepository taskRepository,
+                                      GroupMappingRepository groupMappingRepository,
+                                      ApplicationEventPublisher eventPublisher,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${phonebook.cascade.chunk-size:1000}") int chunkSize,
+                                      @Value("${phonebook.cascade.resume-delay-ms:60000}") long resumeDelayMs) {
+        this(taskRepository, groupMappingRepository, eventPublisher, transactionManager, chunkSize, resumeDelayMs,
+                Clock.system(ZoneId.of("Asia/Seoul")));
+    }
+
+    GroupMappingCascadeDeleter(GroupMappingCascadeTaskRepository taskRepository,
+                               GroupMappingRepository groupMappingRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               int chunkSize,
+                               long resumeDelayMs,
+                               Clock clock) {
+        this.taskRepository = taskRepository;
+        this.groupMappingRepository = groupMappingRepository;
+        this.eventPublisher = eventPublisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.resumeDelay = Duration.ofMillis(resumeDelayMs);
+        this.clock = clock;
+    }
+
+    /**
+     * 삭제된 부모의 매핑 연쇄 삭제 작업을 등록한다. 부모 삭제 트랜잭션 안에서 호출해야 한다.
+     *
+     * @param targetType 삭제된 부모의 유형 (주소록 또는 수신자)
+     * @param targetId   삭제된 부모의 ID
+     */
+    public void deleteMappingsOf(TargetType targetType, Integer targetId) {
+        GroupMappingCascadeTask task = taskRepository.save(GroupMappingCascadeTask.builder()
+                .targetType(targetType)
+                .targetId(targetId)
+                .build());
+        eventPublisher.publishEvent(new GroupMappingCascadeEvent(task.getTaskId()));
+    }
+
+    /**
+     * 부모 삭제가 커밋되면 남은 매핑을 청크 단위로 삭제한다.
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGroupMappingCascade(GroupMappingCascadeEvent event) {
+        process(event.taskId());
+    }
+
+    /**
+     * 등록된 지 재개 대기 시간이 지나도록 끝나지 않은 작업을 이어서 처리한다.
+     * 커밋 직후의 비동기 처리가 실패했거나 처리 도중 서버가 재시작된 경우를 복구한다.
+     */
+    @Scheduled(
+            fixedDelayString = "${phonebook.cascade.resume-interval-ms:60000}",
+            initialDelayString = "${phonebook.cascade.resume-interval-ms:60000}")
+    public void resumePendingTasks() {
+        List<Integer> taskIds = taskRepository.findPendingTaskIds(now().minus(resumeDelay), PageRequest.of(0, 100));
+        for (Integer taskId : taskIds) {
+            process(taskId);
+        }
+    }
+
+    /**
+     * 작업 하나를 끝까지 처리한다. 청크마다 별도 트랜잭션으로 커밋되므로 중간에 실패해도 이미 삭제된 청크는 유지되며,
+     * 작업 행은 남은 매핑이 없을 때에만 완료 처리된다.
+     */
+    void process(Integer taskId) {
+        GroupMappingCascadeTask task = taskRepository.findById(taskId).orElse(null);
+        if (task == null) {
+            // 이미 완료된 작업
+            return;
+        }
+        // 한 작업의 모든 청크에 같은 삭제 시간을 사용 (DB의 TIMESTAMP 정밀도에 맞춰 초 단위로 절삭)
+        LocalDateTime deletionTimestamp = now().truncatedTo(ChronoUnit.SECONDS);
+        int deleted = 0;
+        try {
+            ChunkResult result;
+            do {
+                result = chunkTransaction.execute(status -> {
+                    List<Integer> mappingIds = groupMappingRepository.findIdsByTarget(
+                            task.getTargetType(), task.getTargetId(), chunkSize);
+                    return mappingIds.isEmpty() ? new ChunkResult(0, 0)
+                            : new ChunkResult(mappingIds.size(), groupMappingRepository.softDeleteAllByIdIn(mappingIds, deletionTimestamp));
+                });
+                deleted += result.deleted();
+            } while (result.found() > 0);
+
+            chunkTransaction.executeWithoutResult(status -> taskRepository.markCompleted(taskId, deletionTimestamp));
+            log.info("매핑 연쇄 삭제 완료: 작업 id = {}, {} id = {}, {}건", taskId, task.getTargetType(), task.getTargetId(), deleted);
+        } catch (RuntimeException e) {
+            log.warn("매핑 연쇄 삭제 중단: 작업 id = {}, {}건 삭제 후 실패, 재개 작업이 이어서 처리합니다.", taskId, deleted, e);
+        }
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private record ChunkResult(int found, int deleted) {
+    }
+}
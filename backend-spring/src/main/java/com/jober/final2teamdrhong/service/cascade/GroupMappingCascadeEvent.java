@@ -0,0 +1,8 @@
+package com.jober.final2teamdrhong.service.cascade;
+
+/**
+ * 삭제된 주소록 또는 수신자의 매핑을 비동기로 정리하라는 이벤트
+ * 부모 삭제 트랜잭션이 커밋된 뒤에 처리된다.
+ */
+public record GroupMappingCascadeEvent(Integer taskId) {
+}
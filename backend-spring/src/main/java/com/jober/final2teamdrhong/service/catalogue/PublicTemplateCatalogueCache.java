@@ -0,0 +1,84 @@
+package com.jober.final2teamdrhong.service.catalogue;
+
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplatePageableRequest;
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Supplier;
+
+/**
+ * 공용 템플릿 카탈로그 read-through 캐시 (Spring Cache)
+ * - 검색어 없는 목록의 앞쪽 N 페이지(정렬/방향/페이지/크기별)와 단건 상세를 캐시
+ * - 생성/삭제가 커밋되면 목록 캐시 전체와 삭제된 템플릿의 상세 캐시를 비움
+ * - 캐시 TTL과 직렬화는 {@code CacheConfig}에서 설정하며, 캐시 장애 시에는 DB에서 조회
+ * 조회수/공유수는 TTL 동안 이전 값이 보일 수 있다.
+ */
+@Component
+@Slf4j
+public class PublicTemplateCatalogueCache {
+
+    public static final String PAGE_CACHE = "publicTemplatePage";
+    public static final String DETAIL_CACHE = "publicTemplateDetail";
+
+    private final boolean enabled;
+    private final int maxCachedPage;
+
+    public PublicTemplateCatalogueCache(@Value("${public-template.catalogue.cache.enabled:true}") boolean enabled,
+                                        @Value("${public-template.catalogue.cache.max-page:5}") int maxCachedPage) {
+        this.enabled = enabled;
+        this.maxCachedPage = maxCachedPage;
+    }
+
+    /**
+     * 검색어 없는 목록 페이지를 캐시에서 읽고, 없으면 loader로 조회해 저장한다.
+     * 앞쪽 {@code max-page} 페이지까지만 캐시한다.
+     */
+    @Cacheable(
+            cacheNames = PAGE_CACHE,
+            key = "#request.sort + ':' + #request.direction + ':' + #request.page + ':' + #request.size",
+            condition = "#root.target.isCacheablePage(#request)")
+    public PublicTemplateCataloguePage getPage(PublicTemplatePageableRequest request,
+                                               Supplier<PublicTemplateCataloguePage> loader) {
+        return loader.get();
+    }
+
+    /**
+     * 공용 템플릿 상세를 캐시에서 읽고, 없으면 loader로 조회해 저장한다.
+     */
+    @Cacheable(cacheNames = DETAIL_CACHE, key = "#publicTemplateId", condition = "#root.target.enabled")
+    public PublicTemplateResponse getDetail(Integer publicTemplateId, Supplier<PublicTemplateResponse> loader) {
+        return loader.get();
+    }
+
+    /**
+     * 공용 템플릿 생성/삭제가 커밋되면 목록 캐시를 비우고, 삭제된 템플릿의 상세 캐시를 지운다.
+     * 커밋 이후에 실행되므로 트랜잭션 종료까지 미루지 않도록 즉시(beforeInvocation) 지운다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = PAGE_CACHE, allEntries = true, beforeInvocation = true),
+            @CacheEvict(cacheNames = DETAIL_CACHE, key = "#event.publicTemplateId()", beforeInvocation = true,
+                    condition = "#event.type() == T(com.jober.final2teamdrhong.service.catalogue.PublicTemplateChangedEvent.Type).DELETED")
+    })
+    public void onPublicTemplateChanged(PublicTemplateChangedEvent event) {
+        log.debug("공용 템플릿 카탈로그 캐시 무효화: id={}, type={}", event.publicTemplateId(), event.type());
+    }
+
+    /**
+     * 캐시 대상 페이지인지 확인한다. (캐시 조건식에서 사용)
+     */
+    public boolean isCacheablePage(PublicTemplatePageableRequest request) {
+        return enabled && request.getPage() < maxCachedPage;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
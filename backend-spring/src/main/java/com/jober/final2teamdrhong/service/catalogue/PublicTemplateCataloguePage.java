@@ -0,0 +1,22 @@
+package com.jober.final2teamdrhong.service.catalogue;
+
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateSummaryResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 카탈로그 캐시에 저장하는 목록 페이지 (PageImpl은 역직렬화할 수 없으므로 내용과 전체 건수만 저장)
+ */
+public record PublicTemplateCataloguePage(List<PublicTemplateSummaryResponse> content, long totalElements) {
+
+    public static PublicTemplateCataloguePage from(Page<PublicTemplateSummaryResponse> page) {
+        return new PublicTemplateCataloguePage(page.getContent(), page.getTotalElements());
+    }
+
+    public Page<PublicTemplateSummaryResponse> toPage(Pageable pageable) {
+        return new PageImpl<>(content, pageable, totalElements);
+    }
+}
@@ -0,0 +1,20 @@
+package com.jober.final2teamdrhong.service.catalogue;
+
+/**
+ * 공용 템플릿 목록이 바뀌었음을 알리는 이벤트
+ * 커밋 이후 카탈로그 캐시 무효화와 인기 순위 갱신에 사용된다.
+ */
+public record PublicTemplateChangedEvent(Integer publicTemplateId, Type type) {
+
+    public enum Type {
+        CREATED, DELETED
+    }
+
+    public static PublicTemplateChangedEvent created(Integer publicTemplateId) {
+        return new PublicTemplateChangedEvent(publicTemplateId, Type.CREATED);
+    }
+
+    public static PublicTemplateChangedEvent deleted(Integer publicTemplateId) {
+        return new PublicTemplateChangedEvent(publicTemplateId, Type.DELETED);
+    }
+}
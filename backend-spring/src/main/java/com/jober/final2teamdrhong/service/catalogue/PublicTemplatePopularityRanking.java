@@ -0,0 +1,304 @@
+package com.jober.final2teamdrhong.service.catalogue;
+
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateSummaryResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 공용 템플릿 인기 순위 (Redis Sorted Set)
+ * - 조회수/공유수 정렬을 테이블 ORDER BY 대신 ZSET 범위 조회로 처리
+ * - 기동 시와 주기적으로 DB 값과 맞추고, 그 사이에는 카운터 반영분(ZINCRBY)과 생성/삭제 이벤트(ZADD/ZREM)로 따라간다
+ * - 순위가 준비되지 않았거나 Redis 장애 시에는 빈 값을 반환하여 DB 정렬을 사용하게 한다
+ */
+@Component
+@Slf4j
+public class PublicTemplatePopularityRanking {
+
+    static final String VIEW_KEY = "public_template:rank:view";
+    static final String SHARE_KEY = "public_template:rank:share";
+    static final String REBUILD_LOCK_KEY = "public_template:rank:rebuild-lock";
+
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(5);
+    private static final int MERGE_CHUNK_SIZE = 1000;
+
+    /**
+     * 이미 순위에 있는 템플릿만 증가시킨다. (삭제된 템플릿이 카운터 반영으로 다시 들어오지 않도록)
+     * ARGV: id1, delta1, id2, delta2, ...
+     */
+    private static final RedisScript<Long> INCREMENT_EXISTING = RedisScript.of("""
+            for i = 1, #ARGV, 2 do
+                if redis.call('ZSCORE', KEYS[1], ARGV[i]) then
+                    redis.call('ZINCRBY', KEYS[1], ARGV[i + 1], ARGV[i])
+                end
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 순위가 만들어져 있을 때만 새 템플릿을 0점으로 추가한다. (재구성 전 순위가 한 건짜리로 만들어지지 않도록)
+     */
+    private static final RedisScript<Long> ADD_IF_RANKED = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return redis.call('ZADD', KEYS[1], 'NX', 0, ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * DB 값을 현재 점수보다 클 때만 반영하고, 순위에 없던 템플릿 ID 목록을 반환한다.
+     * 조회수/공유수는 줄지 않으므로, DB를 읽은 뒤 반영된 ZINCRBY가 더 작은 DB 값으로 덮이지 않는다.
+     * ARGV: id1, score1, id2, score2, ...
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> MERGE_MAX = RedisScript.of("""
+            local added = {}
+            for i = 1, #ARGV, 2 do
+                local current = redis.call('ZSCORE', KEYS[1], ARGV[i])
+                if not current then
+                    redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i])
+                    added[#added + 1] = ARGV[i]
+                elseif tonumber(current) < tonumber(ARGV[i + 1]) then
+                    redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i])
+                end
+            end
+            return added
+            """, List.class);
+
+    /**
+     * 잠금을 잡은 실행의 토큰일 때만 잠금을 해제한다.
+     */
+    private static final RedisScript<Long> RELEASE_LOCK = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private volatile boolean ready;
+
+    public PublicTemplatePopularityRanking(@Autowired(required = false) StringRedisTemplate redisTemplate,
+                                           JdbcTemplate jdbcTemplate,
+                                           @Value("${public-template.catalogue.ranking.enabled:true}") boolean enabled) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled && redisTemplate != null;
+    }
+
+    /**
+     * DB의 조회수/공유수로 순위를 맞춘다.
+     * - Redis 잠금으로 한 인스턴스만 실행하고, 잠금을 얻지 못한 인스턴스는 이미 만들어진 순위를 사용한다
+     * - 키를 교체하지 않고 제자리에서 병합하므로, 재구성 중에도 기존 순위로 조회할 수 있고 그 사이의 증가분도 유지된다
+     * - DB를 읽은 시점 이후 생성된 템플릿(읽은 최대 ID보다 큰 ID)은 지우지 않는다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${public-template.catalogue.ranking.rebuild-interval-ms:600000}",
+            initialDelayString = "${public-template.catalogue.ranking.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        String token = UUID.randomUUID().toString();
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, token, REBUILD_LOCK_TTL))) {
+                ready = Boolean.TRUE.equals(redisTemplate.hasKey(VIEW_KEY));
+                log.debug("다른 인스턴스가 공용 템플릿 인기 순위를 재구성 중입니다");
+                return;
+            }
+            try {
+                Map<String, Long> views = new HashMap<>();
+                Map<String, Long> shares = new HashMap<>();
+                jdbcTemplate.query(
+                        "SELECT public_template_id, view_count, share_count FROM public_template WHERE is_deleted = false",
+                        rs -> {
+                            String id = String.valueOf(rs.getInt("public_template_id"));
+                            views.put(id, rs.getLong("view_count"));
+                            shares.put(id, rs.getLong("share_count"));
+                        });
+                int maxId = views.keySet().stream().mapToInt(Integer::parseInt).max().orElse(0);
+
+                merge(VIEW_KEY, views, maxId);
+                merge(SHARE_KEY, shares, maxId);
+            } finally {
+                redisTemplate.execute(RELEASE_LOCK, List.of(REBUILD_LOCK_KEY), token);
+            }
+            ready = true;
+            log.info("공용 템플릿 인기 순위 재구성 완료");
+        } catch (DataAccessException e) {
+            ready = false;
+            log.warn("공용 템플릿 인기 순위 재구성 실패, DB 정렬을 사용합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 조회수/공유수 정렬 페이지를 순위에서 조회한다.
+     *
+     * @param pageable 정렬 필드가 viewCount 또는 shareCount인 페이지 요청
+     * @param loader 순위 순서대로 ID 목록을 받아 요약을 조회하는 함수
+     * @return 순위로 처리할 수 없는 정렬이거나 순위가 준비되지 않았으면 빈 값
+     */
+    public Optional<Page<PublicTemplateSummaryResponse>> findPage(
+            Pageable pageable,
+            Function<List<Integer>, List<PublicTemplateSummaryResponse>> loader) {
+        if (!ready || pageable.isUnpaged()) {
+            return Optional.empty();
+        }
+        Sort.Order order = pageable.getSort().stream().findFirst().orElse(null);
+        String key = order == null ? null : keyOf(order.getProperty());
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        try {
+            long start = pageable.getOffset();
+            long end = start + pageable.getPageSize() - 1;
+            Set<String> members = order.isAscending()
+                    ? redisTemplate.opsForZSet().range(key, start, end)
+                    : redisTemplate.opsForZSet().reverseRange(key, start, end);
+            Long total = redisTemplate.opsForZSet().zCard(key);
+            if (members == null || total == null) {
+                return Optional.empty();
+            }
+
+            List<Integer> ids = members.stream().map(Integer::valueOf).toList();
+            List<PublicTemplateSummaryResponse> content = ids.isEmpty() ? List.of() : loader.apply(ids);
+            return Optional.of(new PageImpl<>(content, pageable, total));
+        } catch (DataAccessException e) {
+            log.warn("공용 템플릿 인기 순위 조회 실패, DB 정렬을 사용합니다: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 카운터가 DB에 반영한 증가분을 순위에도 반영한다.
+     */
+    public void increment(Map<Integer, Long> viewDeltas, Map<Integer, Long> shareDeltas) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            incrementExisting(VIEW_KEY, viewDeltas);
+            incrementExisting(SHARE_KEY, shareDeltas);
+        } catch (DataAccessException e) {
+            // 다음 재구성 때 DB 값으로 맞춰진다
+            log.warn("공용 템플릿 인기 순위 증가 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 공용 템플릿 생성/삭제가 커밋되면 순위에 추가하거나 제거한다.
+     * 다른 인스턴스가 만든 순위도 맞춰야 하므로 이 인스턴스의 준비 여부와 관계없이 반영한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPublicTemplateChanged(PublicTemplateChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        String member = String.valueOf(event.publicTemplateId());
+        try {
+            if (event.type() == PublicTemplateChangedEvent.Type.CREATED) {
+                redisTemplate.execute(ADD_IF_RANKED, List.of(VIEW_KEY), member);
+                redisTemplate.execute(ADD_IF_RANKED, List.of(SHARE_KEY), member);
+            } else {
+                redisTemplate.opsForZSet().remove(VIEW_KEY, member);
+                redisTemplate.opsForZSet().remove(SHARE_KEY, member);
+            }
+        } catch (DataAccessException e) {
+            log.warn("공용 템플릿 인기 순위 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private void incrementExisting(String key, Map<Integer, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(deltas.size() * 2);
+        deltas.forEach((id, delta) -> {
+            args.add(String.valueOf(id));
+            args.add(String.valueOf(delta));
+        });
+        redisTemplate.execute(INCREMENT_EXISTING, List.of(key), args.toArray());
+    }
+
+    /**
+     * DB 값을 순위에 병합하고, DB에 없는 템플릿을 제거한다.
+     * 병합으로 새로 추가된 템플릿은 DB를 읽은 뒤 삭제되었을 수 있으므로 삭제 여부를 다시 확인한다.
+     * (그 이후의 삭제는 커밋 후 이벤트의 ZREM이 병합보다 늦게 실행된다)
+     */
+    private void merge(String key, Map<String, Long> scores, int maxId) {
+        List<String> added = new ArrayList<>();
+        List<String> args = new ArrayList<>(MERGE_CHUNK_SIZE * 2);
+        for (Map.Entry<String, Long> entry : scores.entrySet()) {
+            args.add(entry.getKey());
+            args.add(String.valueOf(entry.getValue()));
+            if (args.size() == MERGE_CHUNK_SIZE * 2) {
+                added.addAll(mergeChunk(key, args));
+                args.clear();
+            }
+        }
+        if (!args.isEmpty()) {
+            added.addAll(mergeChunk(key, args));
+        }
+
+        List<Object> stale = new ArrayList<>();
+        Set<String> members = redisTemplate.opsForZSet().range(key, 0, -1);
+        if (members != null) {
+            for (String member : members) {
+                if (!scores.containsKey(member) && Integer.parseInt(member) <= maxId) {
+                    stale.add(member);
+                }
+            }
+        }
+        if (!added.isEmpty()) {
+            stale.addAll(jdbcTemplate.queryForList(
+                    "SELECT public_template_id FROM public_template WHERE is_deleted = true AND public_template_id IN ("
+                            + String.join(",", added) + ")",
+                    String.class));
+        }
+        if (!stale.isEmpty()) {
+            redisTemplate.opsForZSet().remove(key, stale.toArray());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> mergeChunk(String key, List<String> args) {
+        List<String> added = redisTemplate.execute(MERGE_MAX, List.of(key), args.toArray());
+        return added == null ? List.of() : added;
+    }
+
+    private static String keyOf(String property) {
+        return switch (property) {
+            case "viewCount" -> VIEW_KEY;
+            case "shareCount" -> SHARE_KEY;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,151 @@
+package com.jober.final2teamdrhong.service.counter;
+
+import com.jober.final2teamdrhong.service.catalogue.PublicTemplatePopularityRanking;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 공용 템플릿 조회수/공유수 쓰기 지연(write-behind) 카운터
+ * - 요청 스레드는 메모리의 템플릿별 증가분만 합산하므로 인기 템플릿 행에 락 경합이 생기지 않음
+ * - 주기적으로 누적된 증가분을 한 번의 JDBC 배치 UPDATE(컬럼 = 컬럼 + 증가분)로 반영
+ * - 증가분을 더하는 방식이라 여러 인스턴스가 각자 flush해도 값이 덮어써지지 않음
+ * - DB 반영에 성공한 증가분은 인기 순위(ZSET)에도 반영
+ * - 반영 전 프로세스가 비정상 종료되면 최대 한 주기분의 증가분이 유실될 수 있음
+ */
+@Component
+@Slf4j
+public class PublicTemplateCounter {
+
+    static final String FLUSH_SQL = "UPDATE public_template "
+            + "SET view_count = view_count + ?, share_count = share_count + ? "
+            + "WHERE public_template_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PublicTemplatePopularityRanking popularityRanking;
+
+    /**
+     * 템플릿 ID별 미반영 증가분.
+     * 증가(merge)와 flush 시 꺼내기(remove)가 모두 키 단위로 원자적이므로, 동시에 들어온 증가분은
+     * 꺼낸 값에 포함되거나 새 항목으로 남고 유실되지 않는다. 꺼낸 항목은 맵에서 빠지므로
+     * 삭제된 템플릿처럼 더 이상 증가하지 않는 항목도 남지 않는다.
+     */
+    private final ConcurrentMap<Integer, PendingCounts> pending = new ConcurrentHashMap<>();
+
+    public PublicTemplateCounter(JdbcTemplate jdbcTemplate, PublicTemplatePopularityRanking popularityRanking) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.popularityRanking = popularityRanking;
+    }
+
+    /**
+     * 조회 1회를 기록한다. 트랜잭션 안에서 호출되면 커밋된 경우에만 반영한다.
+     */
+    public void recordView(Integer publicTemplateId) {
+        afterCommit(() -> add(publicTemplateId, PendingCounts.ONE_VIEW));
+    }
+
+    /**
+     * 공유(가져오기) 1회를 기록한다. 트랜잭션 안에서 호출되면 커밋된 경우에만 반영한다.
+     */
+    public void recordShare(Integer publicTemplateId) {
+        afterCommit(() -> add(publicTemplateId, PendingCounts.ONE_SHARE));
+    }
+
+    /**
+     * 누적된 증가분을 DB에 반영한다.
+     * 반영에 실패하면 증가분을 되돌려 다음 주기에 다시 시도한다.
+     */
+    @Scheduled(
+            fixedDelayString = "${public-template.counter.flush-interval-ms:5000}",
+            initialDelayString = "${public-template.counter.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        Map<Integer, Long> viewDeltas = new HashMap<>();
+        Map<Integer, Long> shareDeltas = new HashMap<>();
+        for (Integer publicTemplateId : pending.keySet()) {
+            PendingCounts counts = pending.remove(publicTemplateId);
+            if (counts == null) {
+                continue;
+            }
+            batch.add(new Object[]{counts.views(), counts.shares(), publicTemplateId});
+            if (counts.views() != 0) {
+                viewDeltas.put(publicTemplateId, counts.views());
+            }
+            if (counts.shares() != 0) {
+                shareDeltas.put(publicTemplateId, counts.shares());
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            log.debug("공용 템플릿 카운터 반영: {}건", batch.size());
+        } catch (DataAccessException e) {
+            for (Object[] row : batch) {
+                add((Integer) row[2], new PendingCounts((long) row[0], (long) row[1]));
+            }
+            log.warn("공용 템플릿 카운터 반영 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+            return;
+        }
+        popularityRanking.increment(viewDeltas, shareDeltas);
+    }
+
+    /**
+     * 종료 시 남은 증가분을 반영한다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    long pendingViews(Integer publicTemplateId) {
+        PendingCounts counts = pending.get(publicTemplateId);
+        return counts == null ? 0 : counts.views();
+    }
+
+    long pendingShares(Integer publicTemplateId) {
+        PendingCounts counts = pending.get(publicTemplateId);
+        return counts == null ? 0 : counts.shares();
+    }
+
+    private void add(Integer publicTemplateId, PendingCounts delta) {
+        pending.merge(publicTemplateId, delta, PendingCounts::plus);
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private record PendingCounts(long views, long shares) {
+
+        static final PendingCounts ONE_VIEW = new PendingCounts(1, 0);
+        static final PendingCounts ONE_SHARE = new PendingCounts(0, 1);
+
+        PendingCounts plus(PendingCounts other) {
+            return new PendingCounts(views + other.views, shares + other.shares);
+        }
+    }
+}
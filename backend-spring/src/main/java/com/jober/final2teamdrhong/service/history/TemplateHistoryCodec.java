@@ -0,0 +1,126 @@
+package com.jober.final2teamdrhong.service.history;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 템플릿 수정 이력 본문 인코딩
+ * - 델타: 기준 스냅샷과의 공통 접두/접미 길이 + 바뀐 가운데 구간만 저장한 뒤 Deflate 압축
+ *   (AI 보조 편집처럼 일부 문장만 바뀌는 수정은 수십 바이트로 줄어듦)
+ * - 채팅 기록: 원문 전체를 Deflate 압축
+ */
+public final class TemplateHistoryCodec {
+
+    private static final int DELTA_FORMAT_VERSION = 1;
+
+    private TemplateHistoryCodec() {
+    }
+
+    /**
+     * base를 target으로 바꾸는 압축된 델타를 만든다.
+     */
+    public static byte[] diff(String base, String target) {
+        int prefix = commonPrefixLength(base, target);
+        int suffix = commonSuffixLength(base, target, prefix);
+        byte[] middle = target.substring(prefix, target.length() - suffix).getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeByte(DELTA_FORMAT_VERSION);
+            out.writeInt(prefix);
+            out.writeInt(suffix);
+            out.writeInt(middle.length);
+            out.write(middle);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * base에 델타를 적용해 원래 본문을 복원한다.
+     *
+     * @throws IllegalStateException 델타가 손상되었거나 다른 기준 본문으로 만든 델타인 경우
+     */
+    public static String apply(String base, byte[] delta) {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(delta)))) {
+            int version = in.readUnsignedByte();
+            if (version != DELTA_FORMAT_VERSION) {
+                throw new IllegalStateException("지원하지 않는 이력 델타 형식입니다: " + version);
+            }
+            int prefix = in.readInt();
+            int suffix = in.readInt();
+            byte[] middle = in.readNBytes(in.readInt());
+            if (prefix < 0 || suffix < 0 || prefix + suffix > base.length()) {
+                throw new IllegalStateException("이력 델타가 기준 스냅샷과 맞지 않습니다.");
+            }
+            return base.substring(0, prefix)
+                    + new String(middle, StandardCharsets.UTF_8)
+                    + base.substring(base.length() - suffix);
+        } catch (IOException e) {
+            throw new IllegalStateException("이력 델타를 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 문자열을 압축한다. null은 null로 둔다.
+     */
+    public static byte[] compress(String text) {
+        if (text == null) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * {@link #compress(String)}로 압축한 문자열을 복원한다. null은 null로 둔다.
+     */
+    public static String decompress(byte[] compressed) {
+        if (compressed == null) {
+            return null;
+        }
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("압축된 이력을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        // 서로게이트 쌍 중간에서 자르면 가운데 구간을 UTF-8로 인코딩할 때 문자가 깨짐
+        if (i > 0 && Character.isHighSurrogate(a.charAt(i - 1))) {
+            i--;
+        }
+        return i;
+    }
+
+    private static int commonSuffixLength(String a, String b, int prefix) {
+        int max = Math.min(a.length(), b.length()) - prefix;
+        int i = 0;
+        while (i < max && a.charAt(a.length() - 1 - i) == b.charAt(b.length() - 1 - i)) {
+            i++;
+        }
+        if (i > 0 && Character.isLowSurrogate(a.charAt(a.length() - i))) {
+            i--;
+        }
+        return i;
+    }
+}
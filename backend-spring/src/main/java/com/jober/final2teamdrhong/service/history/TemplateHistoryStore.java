@@ -0,0 +1,169 @@
+package com.jober.final2teamdrhong.service.history;
+
+import com.jober.final2teamdrhong.dto.individualtemplate.HistoryResponse;
+import com.jober.final2teamdrhong.entity.IndividualTemplate;
+import com.jober.final2teamdrhong.entity.TemplateModifiedHistory;
+import com.jober.final2teamdrhong.entity.TemplateModifiedHistory.StorageType;
+import com.jober.final2teamdrhong.repository.TemplateModifiedHistoryRepository;
+import com.jober.final2teamdrhong.repository.TemplateModifiedHistoryRepository.SnapshotContent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 개인 템플릿 수정 이력 저장소
+ * - 본문은 주기적으로 전체 스냅샷을 저장하고, 그 사이에는 마지막 스냅샷 대비 압축 델타만 저장
+ *   (델타는 항상 스냅샷 하나를 기준으로 하므로 어떤 버전이든 스냅샷 1개 + 델타 1개로 복원)
+ * - 스냅샷 이후 {@code snapshot-interval}번째 이력이거나 델타가 본문 크기의 절반을 넘으면 새 스냅샷을 저장
+ * - 채팅 기록은 압축해서 저장
+ */
+@Component
+public class TemplateHistoryStore {
+
+    private final TemplateModifiedHistoryRepository templateModifiedHistoryRepository;
+    private final int snapshotInterval;
+
+    public TemplateHistoryStore(TemplateModifiedHistoryRepository templateModifiedHistoryRepository,
+                                @Value("${template.history.snapshot-interval:20}") int snapshotInterval) {
+        this.templateModifiedHistoryRepository = templateModifiedHistoryRepository;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * 수정 이력 한 건을 저장한다.
+     */
+    public TemplateModifiedHistory append(IndividualTemplate individualTemplate,
+                                          String title,
+                                          String content,
+                                          String buttonTitle,
+                                          String chatAi,
+                                          String chatUser,
+                                          IndividualTemplate.Status status) {
+        // 엔티티 저장 시 문자열 앞뒤 공백이 제거되므로, 스냅샷과 같은 기준으로 델타를 만든다
+        String normalized = trim(content);
+        String normalizedChatAi = trim(chatAi);
+        String normalizedChatUser = trim(chatUser);
+
+        TemplateModifiedHistory.TemplateModifiedHistoryBuilder<?, ?> builder = TemplateModifiedHistory.builder()
+                .historyTitle(title)
+                .buttonTitle(buttonTitle)
+                .chatAiCompressed(TemplateHistoryCodec.compress(normalizedChatAi))
+                .chatUserCompressed(TemplateHistoryCodec.compress(normalizedChatUser))
+                .contentLength(lengthOf(normalized))
+                .chatAiLength(lengthOf(normalizedChatAi))
+                .chatUserLength(lengthOf(normalizedChatUser))
+                .status(status)
+                .individualTemplate(individualTemplate);
+
+        TemplateModifiedHistory snapshot = normalized == null ? null : templateModifiedHistoryRepository
+                .findFirstByIndividualTemplateAndStorageTypeOrderByHistoryIdDesc(individualTemplate, StorageType.SNAPSHOT)
+                .orElse(null);
+        byte[] delta = deltaFrom(snapshot, individualTemplate, normalized);
+
+        if (delta == null) {
+            builder.storageType(StorageType.SNAPSHOT).historyContent(normalized);
+        } else {
+            builder.storageType(StorageType.DELTA).baseHistoryId(snapshot.getHistoryId()).contentDelta(delta);
+        }
+        return templateModifiedHistoryRepository.save(builder.build());
+    }
+
+    /**
+     * 수정 이력 페이지를 조회하고 본문/채팅을 복원한다.
+     */
+    public Page<HistoryResponse> findPage(IndividualTemplate individualTemplate, Pageable pageable) {
+        Page<TemplateModifiedHistory> page = templateModifiedHistoryRepository.findByIndividualTemplate(individualTemplate, pageable);
+        Map<Integer, String> snapshotContents = loadSnapshotContents(page.getContent());
+        return page.map(history -> restore(history, snapshotContents));
+    }
+
+    /**
+     * 이력 한 건의 본문/채팅을 복원한다.
+     */
+    public HistoryResponse restore(TemplateModifiedHistory history) {
+        return restore(List.of(history)).get(0);
+    }
+
+    /**
+     * 이력 목록의 본문/채팅을 복원한다. 필요한 기준 스냅샷은 한 번에 조회한다.
+     */
+    public List<HistoryResponse> restore(List<TemplateModifiedHistory> histories) {
+        Map<Integer, String> snapshotContents = loadSnapshotContents(histories);
+        return histories.stream()
+                .map(history -> restore(history, snapshotContents))
+                .toList();
+    }
+
+    /**
+     * 마지막 스냅샷 대비 델타를 만든다. 새 스냅샷을 저장해야 하면 null을 반환한다.
+     */
+    private byte[] deltaFrom(TemplateModifiedHistory snapshot, IndividualTemplate individualTemplate, String content) {
+        if (snapshot == null || snapshot.getHistoryContent() == null) {
+            return null;
+        }
+        long sinceSnapshot = templateModifiedHistoryRepository
+                .countByIndividualTemplateAndHistoryIdGreaterThan(individualTemplate, snapshot.getHistoryId());
+        if (sinceSnapshot + 1 >= snapshotInterval) {
+            return null;
+        }
+        byte[] delta = TemplateHistoryCodec.diff(snapshot.getHistoryContent(), content);
+        if (delta.length * 2L > content.getBytes(StandardCharsets.UTF_8).length) {
+            return null;
+        }
+        return delta;
+    }
+
+    private Map<Integer, String> loadSnapshotContents(List<TemplateModifiedHistory> histories) {
+        Map<Integer, String> snapshotContents = new HashMap<>();
+        for (TemplateModifiedHistory history : histories) {
+            if (!history.isDelta()) {
+                snapshotContents.put(history.getHistoryId(), history.getHistoryContent());
+            }
+        }
+        Set<Integer> missing = histories.stream()
+                .filter(TemplateModifiedHistory::isDelta)
+                .map(TemplateModifiedHistory::getBaseHistoryId)
+                .filter(id -> !snapshotContents.containsKey(id))
+                .collect(Collectors.toSet());
+        if (!missing.isEmpty()) {
+            for (SnapshotContent snapshot : templateModifiedHistoryRepository.findSnapshotContents(missing)) {
+                snapshotContents.put(snapshot.getHistoryId(), snapshot.getHistoryContent());
+            }
+        }
+        return snapshotContents;
+    }
+
+    private static String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    private static Integer lengthOf(String value) {
+        return value == null ? null : value.length();
+    }
+
+    private static HistoryResponse restore(TemplateModifiedHistory history, Map<Integer, String> snapshotContents) {
+        String content = history.getHistoryContent();
+        if (history.isDelta()) {
+            String base = snapshotContents.get(history.getBaseHistoryId());
+            if (base == null) {
+                throw new IllegalStateException("수정 이력의 기준 스냅샷을 찾을 수 없습니다. historyId = " + history.getHistoryId());
+            }
+            content = TemplateHistoryCodec.apply(base, history.getContentDelta());
+        }
+        String chatUser = history.getChatUserCompressed() != null
+                ? TemplateHistoryCodec.decompress(history.getChatUserCompressed())
+                : history.getChatUser();
+        String chatAi = history.getChatAiCompressed() != null
+                ? TemplateHistoryCodec.decompress(history.getChatAiCompressed())
+                : history.getChatAi();
+        return HistoryResponse.of(history, content, chatUser, chatAi);
+    }
+}
@@ -0,0 +1,83 @@
+package com.jober.final2teamdrhong.service.mail;
+
+import com.jober.final2teamdrhong.service.EmailPurpose;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * {@link EmailPurpose}별 이메일 본문을 Thymeleaf 템플릿으로 렌더링하는 컴포넌트입니다.
+ * <p>
+ * MVC 뷰용 템플릿 엔진과 설정이 섞이지 않도록 메일 전용 {@link TemplateEngine}을 별도로 보유하며,
+ * 템플릿은 classpath의 templates/mail/ 하위에 .html(HTML 모드)과 .txt(TEXT 모드) 한 쌍으로 존재합니다.
+ * 파싱된 템플릿은 엔진 캐시에 보관되고, 빈 생성 시점에 모든 용도를 한 번씩 렌더링해 두므로
+ * 요청 처리 중에는 파싱 없이 변수 치환만 수행합니다.
+ */
+@Component
+@Slf4j
+public class EmailTemplateRenderer {
+
+    private static final String TEMPLATE_PREFIX = "templates/mail/";
+    private static final String HTML_SUFFIX = ".html";
+    private static final String TEXT_SUFFIX = ".txt";
+
+    private final TemplateEngine templateEngine;
+
+    public EmailTemplateRenderer() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix(TEMPLATE_PREFIX);
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setTextTemplateModePatterns(Set.of("*" + TEXT_SUFFIX));
+        resolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        resolver.setCacheable(true);
+        resolver.setCheckExistence(true);
+
+        // 표준 TemplateEngine은 OGNL이 필요하므로 SpEL로 식을 평가하는 SpringTemplateEngine을 사용
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        this.templateEngine = engine;
+
+        warmUp();
+    }
+
+    /**
+     * 인증 코드 이메일의 제목과 텍스트/HTML 본문을 렌더링합니다.
+     *
+     * @param purpose       이메일 용도
+     * @param code          인증 코드
+     * @param expiryMinutes 만료 시간(분)
+     * @return 렌더링된 이메일
+     */
+    public RenderedEmail render(EmailPurpose purpose, String code, int expiryMinutes) {
+        String subject = purpose.getEmailSubject();
+
+        Context context = new Context();
+        context.setVariable("subject", subject);
+        context.setVariable("description", purpose.getDescription());
+        context.setVariable("code", code);
+        context.setVariable("expiryMinutes", expiryMinutes);
+
+        String text = templateEngine.process(purpose.getTemplateName() + TEXT_SUFFIX, context);
+        String html = templateEngine.process(purpose.getTemplateName() + HTML_SUFFIX, context);
+
+        return new RenderedEmail(subject, text, html);
+    }
+
+    /**
+     * 모든 용도의 템플릿을 미리 렌더링하여 파싱 결과를 캐시에 적재합니다.
+     * 템플릿 누락이나 문법 오류는 첫 발송이 아닌 애플리케이션 기동 시점에 드러납니다.
+     */
+    private void warmUp() {
+        for (EmailPurpose purpose : EmailPurpose.values()) {
+            render(purpose, "000000", 0);
+        }
+        log.info("이메일 템플릿 사전 컴파일 완료: purposes={}", EmailPurpose.values().length);
+    }
+}
@@ -0,0 +1,14 @@
+package com.jober.final2teamdrhong.service.mail;
+
+/**
+ * 템플릿 렌더링이 끝난 이메일 한 통의 제목과 본문(텍스트/HTML)을 담는 값 객체입니다.
+ *
+ * @param subject 이메일 제목
+ * @param text    text/plain 본문 (HTML을 표시하지 못하는 클라이언트용)
+ * @param html    text/html 본문
+ */
+public record RenderedEmail(
+        String subject,
+        String text,
+        String html
+) {}
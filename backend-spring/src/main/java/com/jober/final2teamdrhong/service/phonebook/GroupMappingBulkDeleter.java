@@ -0,0 +1,92 @@
+package com.jober.final2teamdrhong.service.phonebook;
+
+import com.jober.final2teamdrhong.dto.recipient.RecipientResponse;
+import com.jober.final2teamdrhong.repository.GroupMappingRepository;
+import com.jober.final2teamdrhong.repository.RecipientRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주소록 멤버(GroupMapping) 청크 단위 벌크 소프트 딜리트
+ * - 수신자 ID 목록을 배치 크기만큼 나누어 청크마다 (주소록 ID, 수신자 ID IN) 조건의 UPDATE 한 번으로 삭제
+ * - 수신자의 워크스페이스 소속은 청크마다 ID만 조회해 확인하고, 하나라도 어긋나면 예외를 던져 트랜잭션 전체를 롤백
+ * - 매핑·수신자 엔티티를 로딩하지 않고, 응답용 수신자 정보는 실제로 제거된 수신자만 DTO 프로젝션으로 조회
+ * - 삭제 전 청크의 수신자 중 주소록에 속한 매핑을 잠금 읽기(FOR UPDATE)로 확인해, 실제로 제거된 수신자 ID를 결과로 돌려줌 (RETURNING 대용)
+ *   잠금 읽기는 최신 커밋 값을 보므로 동시에 같은 매핑을 삭제한 요청이 있으면 먼저 커밋된 쪽만 그 ID를 돌려줌
+ * - 트랜잭션은 호출 측이 정함 (행 락을 위해 트랜잭션 안에서 호출해야 함)
+ */
+@Component
+@Slf4j
+public class GroupMappingBulkDeleter {
+
+    private final GroupMappingRepository groupMappingRepository;
+    private final RecipientRepository recipientRepository;
+    private final int batchSize;
+    private final int maxSize;
+
+    public GroupMappingBulkDeleter(GroupMappingRepository groupMappingRepository,
+                                   RecipientRepository recipientRepository,
+                                   @Value("${phonebook.bulk-delete.batch-size:1000}") int batchSize,
+                                   @Value("${phonebook.bulk-delete.max-size:10000}") int maxSize) {
+        this.groupMappingRepository = groupMappingRepository;
+        this.recipientRepository = recipientRepository;
+        this.batchSize = batchSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 한 요청에서 주소록에서 제거할 수 있는 수신자 수를 넘지 않는지 검증합니다.
+     *
+     * @param requestedCount 요청된 수신자 수
+     * @throws IllegalArgumentException 삭제 한도를 넘는 경우
+     */
+    public void validateSize(int requestedCount) {
+        if (requestedCount > maxSize) {
+            throw new IllegalArgumentException("한 번에 주소록에서 제거할 수 있는 수신자는 최대 " + maxSize + "명입니다.");
+        }
+    }
+
+    /**
+     * 수신자들을 주소록에서 청크 단위로 제거합니다.
+     *
+     * @param workspaceId  수신자들이 속해야 하는 워크스페이스의 ID
+     * @param phoneBookId  매핑을 삭제할 주소록의 ID
+     * @param recipientIds 제거할 수신자 ID 목록
+     * @param now          삭제 시간으로 기록할 현재 시간
+     * @return 주소록에 속해 있다가 실제로 제거된 수신자 목록
+     * @throws IllegalArgumentException 워크스페이스에 속하지 않거나 존재하지 않는 수신자 ID가 포함된 경우
+     */
+    public List<RecipientResponse.SimpleDTO> delete(Integer workspaceId, Integer phoneBookId, List<Integer> recipientIds, LocalDateTime now) {
+        List<RecipientResponse.SimpleDTO> removedRecipients = new ArrayList<>();
+        int deletedCount = 0;
+        for (int from = 0; from < recipientIds.size(); from += batchSize) {
+            List<Integer> chunk = recipientIds.subList(from, Math.min(from + batchSize, recipientIds.size()));
+
+            // 청크의 수신자가 모두 워크스페이스 소속인지 ID만 조회해 확인 (앞 청크의 UPDATE는 예외로 롤백됨)
+            if (recipientRepository.findRecipientIdsInWorkspace(workspaceId, chunk).size() != chunk.size()) {
+                throw new IllegalArgumentException("요청된 수신자 목록에 유효하지 않거나 권한이 없는 ID가 포함되어 있습니다.");
+            }
+
+            // 청크 중 주소록에 속한 매핑만 잠그고 골라 UPDATE (속하지 않은 청크는 UPDATE를 생략)
+            List<Integer> mappedIds = groupMappingRepository.lockRecipientIdsInPhoneBook(phoneBookId, chunk);
+            if (mappedIds.isEmpty()) {
+                continue;
+            }
+            deletedCount += groupMappingRepository.bulkSoftDeleteMappings(phoneBookId, mappedIds, now);
+            removedRecipients.addAll(recipientRepository.findSimpleDTOsByRecipientIdIn(mappedIds));
+        }
+        if (deletedCount != removedRecipients.size()) {
+            // 확인한 매핑은 잠겨 있으므로 정상적으로는 일어나지 않음
+            log.warn("주소록 멤버 삭제 수 불일치: 주소록 id = {}, 확인 {}건, 삭제 {}건", phoneBookId, removedRecipients.size(), deletedCount);
+        }
+        if (recipientIds.size() > batchSize) {
+            log.info("주소록 멤버 청크 삭제 완료: 주소록 id = {}, 요청 {}건, 삭제 {}건", phoneBookId, recipientIds.size(), deletedCount);
+        }
+        return removedRecipients;
+    }
+}
@@ -0,0 +1,121 @@
+package com.jober.final2teamdrhong.service.phonebook;
+
+import com.jober.final2teamdrhong.repository.GroupMappingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주소록 멤버(GroupMapping) 청크 단위 벌크 INSERT
+ * - 수신자 ID 목록을 배치 크기만큼 나누어 청크마다 INSERT ... SELECT 한 번으로 추가
+ * - IN 절과 패킷 크기가 배치 크기로 제한되므로 수만 건을 요청해도 쿼리 하나가 커지지 않음
+ * - 이미 주소록에 속한 수신자는 쿼리의 NOT EXISTS 조건으로 건너뜀
+ * - 트랜잭션은 호출 측이 정함 (동기 추가는 요청 트랜잭션 하나, 비동기 작업은 청크마다 커밋)
+ */
+@Component
+@Slf4j
+public class GroupMappingBulkInserter {
+
+    private static final ProgressListener NO_PROGRESS = (processedCount, insertedCount) -> {
+    };
+
+    private final GroupMappingRepository groupMappingRepository;
+    private final int batchSize;
+    private final int syncMaxSize;
+
+    public GroupMappingBulkInserter(GroupMappingRepository groupMappingRepository,
+                                    @Value("${phonebook.bulk-insert.batch-size:1000}") int batchSize,
+                                    @Value("${phonebook.bulk-insert.sync-max-size:10000}") int syncMaxSize) {
+        this.groupMappingRepository = groupMappingRepository;
+        this.batchSize = batchSize;
+        this.syncMaxSize = syncMaxSize;
+    }
+
+    /**
+     * 한 요청에서 동기로 추가할 수 있는 수신자 수를 넘지 않는지 검증합니다.
+     *
+     * @param requestedCount 요청된 수신자 수
+     * @throws IllegalArgumentException 동기 추가 한도를 넘는 경우
+     */
+    public void validateSyncSize(int requestedCount) {
+        if (requestedCount > syncMaxSize) {
+            throw new IllegalArgumentException("한 번에 추가할 수 있는 수신자는 최대 " + syncMaxSize
+                    + "명입니다. 더 많은 수신자는 비동기 추가 작업을 사용해주세요.");
+        }
+    }
+
+    /**
+     * 수신자들을 주소록에 청크 단위로 추가합니다.
+     *
+     * @return 실제로 추가된 매핑 수
+     */
+    public int insert(Integer phoneBookId, List<Integer> recipientIds, LocalDateTime now) {
+        return insert(phoneBookId, recipientIds, now, null, NO_PROGRESS);
+    }
+
+    /**
+     * 수신자들을 주소록에 청크 단위로 추가하고, 추가한 매핑에 요청 식별자를 기록합니다.
+     * 일부가 건너뛰어졌을 때 {@link GroupMappingRepository#findRecipientIdsInsertedBy}로 실제로 추가된 수신자를 가려낼 수 있습니다.
+     *
+     * @return 실제로 추가된 매핑 수
+     */
+    public int insert(Integer phoneBookId, List<Integer> recipientIds, LocalDateTime now, String insertToken) {
+        return insert(phoneBookId, recipientIds, now, insertToken, NO_PROGRESS);
+    }
+
+    /**
+     * 수신자들을 주소록에 청크 단위로 추가하고, 청크가 끝날 때마다 진행 상황을 알립니다.
+     *
+     * @param phoneBookId  매핑을 추가할 주소록의 ID
+     * @param recipientIds 추가할 수신자 ID 목록 (워크스페이스 소속이 검증된 ID)
+     * @param now          생성 시간으로 사용할 현재 시간
+     * @param listener     청크마다 누적 처리 수와 누적 추가 수를 전달받는 리스너
+     * @return 실제로 추가된 매핑 수
+     */
+    public int insert(Integer phoneBookId, List<Integer> recipientIds, LocalDateTime now, ProgressListener listener) {
+        return insert(phoneBookId, recipientIds, now, null, listener);
+    }
+
+    private int insert(Integer phoneBookId, List<Integer> recipientIds, LocalDateTime now,
+                       String insertToken, ProgressListener listener) {
+        int processedCount = 0;
+        int insertedCount = 0;
+        for (List<Integer> chunk : partition(recipientIds)) {
+            insertedCount += groupMappingRepository.bulkInsertMappings(phoneBookId, chunk, now, insertToken);
+            processedCount += chunk.size();
+            listener.onChunk(processedCount, insertedCount);
+        }
+        if (recipientIds.size() > batchSize) {
+            log.info("주소록 멤버 청크 추가 완료: 주소록 id = {}, 요청 {}건, 추가 {}건", phoneBookId, processedCount, insertedCount);
+        }
+        return insertedCount;
+    }
+
+    /**
+     * ID 목록을 배치 크기 단위의 청크로 나눕니다.
+     */
+    public List<List<Integer>> partition(List<Integer> ids) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            chunks.add(ids.subList(from, Math.min(from + batchSize, ids.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * 청크 단위 진행 상황 리스너
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        /**
+         * @param processedCount 지금까지 처리한 수신자 수
+         * @param insertedCount  지금까지 실제로 추가된 매핑 수
+         */
+        void onChunk(int processedCount, int insertedCount);
+    }
+}
@@ -0,0 +1,98 @@
+package com.jober.final2teamdrhong.service.phonebook;
+
+import com.jober.final2teamdrhong.dto.phonebook.PhoneBookResponse;
+import com.jober.final2teamdrhong.dto.phonebook.PhoneBookResponse.BulkAddJobStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주소록 수신자 비동기 추가 작업의 진행 상태
+ * 작업 스레드만 상태를 변경하고, 조회 요청은 {@link #toDTO()}로 스냅샷을 읽는다.
+ */
+class PhoneBookBulkAddJob {
+
+    private final String jobId;
+    private final Integer workspaceId;
+    private final Integer phoneBookId;
+    private final Integer userId;
+    private final int totalCount;
+    private final LocalDateTime startedAt;
+
+    private BulkAddJobStatus status = BulkAddJobStatus.RUNNING;
+    private int processedCount;
+    private int addedCount;
+    private int invalidCount;
+    private LocalDateTime finishedAt;
+    private String errorMessage;
+
+    PhoneBookBulkAddJob(String jobId, Integer workspaceId, Integer phoneBookId, Integer userId,
+                        int totalCount, LocalDateTime startedAt) {
+        this.jobId = jobId;
+        this.workspaceId = workspaceId;
+        this.phoneBookId = phoneBookId;
+        this.userId = userId;
+        this.totalCount = totalCount;
+        this.startedAt = startedAt;
+    }
+
+    String jobId() {
+        return jobId;
+    }
+
+    Integer workspaceId() {
+        return workspaceId;
+    }
+
+    Integer phoneBookId() {
+        return phoneBookId;
+    }
+
+    boolean isOwnedBy(Integer workspaceId, Integer phoneBookId, Integer userId) {
+        return this.workspaceId.equals(workspaceId)
+                && this.phoneBookId.equals(phoneBookId)
+                && this.userId.equals(userId);
+    }
+
+    /**
+     * 커밋된 청크 하나의 결과를 누적한다.
+     *
+     * @param chunkSize 청크의 수신자 수
+     * @param invalid   워크스페이스에 없어 건너뛴 수신자 수
+     * @param added     실제로 추가된 매핑 수
+     */
+    synchronized void recordChunk(int chunkSize, int invalid, int added) {
+        processedCount += chunkSize;
+        invalidCount += invalid;
+        addedCount += added;
+    }
+
+    synchronized void complete(LocalDateTime now) {
+        status = BulkAddJobStatus.COMPLETED;
+        finishedAt = now;
+    }
+
+    synchronized void fail(String message, LocalDateTime now) {
+        status = BulkAddJobStatus.FAILED;
+        errorMessage = message;
+        finishedAt = now;
+    }
+
+    synchronized boolean finishedBefore(LocalDateTime threshold) {
+        return finishedAt != null && finishedAt.isBefore(threshold);
+    }
+
+    synchronized PhoneBookResponse.BulkAddJobDTO toDTO() {
+        return new PhoneBookResponse.BulkAddJobDTO(
+                jobId,
+                phoneBookId,
+                status,
+                totalCount,
+                processedCount,
+                addedCount,
+                processedCount - invalidCount - addedCount,
+                invalidCount,
+                startedAt,
+                finishedAt,
+                errorMessage);
+    }
+}
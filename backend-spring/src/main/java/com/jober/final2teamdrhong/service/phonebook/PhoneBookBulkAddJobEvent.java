@@ -0,0 +1,12 @@
+package com.jober.final2teamdrhong.service.phonebook;
+
+import java.util.List;
+
+/**
+ * 접수된 주소록 수신자 추가 작업을 백그라운드에서 실행하라는 이벤트
+ *
+ * @param jobId        접수된 작업 ID
+ * @param recipientIds 추가할 수신자 ID 목록 (중복 제거됨)
+ */
+public record PhoneBookBulkAddJobEvent(String jobId, List<Integer> recipientIds) {
+}
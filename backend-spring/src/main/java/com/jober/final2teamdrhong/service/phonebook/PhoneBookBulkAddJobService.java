@@ -0,0 +1,190 @@
+package com.jober.final2teamdrhong.service.phonebook;
+
+import com.jober.final2teamdrhong.dto.phonebook.PhoneBookRequest;
+import com.jober.final2teamdrhong.dto.phonebook.PhoneBookResponse;
+import com.jober.final2teamdrhong.repository.PhoneBookRepository;
+import com.jober.final2teamdrhong.repository.RecipientRepository;
+import com.jober.final2teamdrhong.service.validator.PhoneBookValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 주소록 수신자 비동기 추가 작업
+ * - 동기 추가 한도를 넘는 대량 요청을 작업 ID로 접수하고, {@link PhoneBookBulkAddJobEvent}를 받아
+ *   공용 비동기 실행기({@code @Async})에서 청크 단위로 추가
+ * - 청크마다 (수신자 소속 확인 + 벌크 INSERT)를 별도 트랜잭션으로 커밋하므로 긴 락을 잡지 않으며,
+ *   중간에 실패해도 이미 커밋된 청크는 유지됨
+ * - 워크스페이스에 없는 수신자는 작업 전체를 실패시키지 않고 건너뛴 뒤 invalidCount로 알림
+ * - 청크마다 주소록 행을 잠금 조회해 삭제되지 않았는지 확인하고, 작업 중 주소록이 삭제되면 작업을 실패로 끝냄
+ * - 작업 상태는 이 인스턴스의 메모리에만 있으므로, 작업을 접수한 인스턴스에서만 조회 가능하며
+ *   끝난 작업은 보관 기간이 지나면 제거됨
+ */
+@Service
+@Slf4j
+public class PhoneBookBulkAddJobService {
+
+    private final PhoneBookValidator phoneBookValidator;
+    private final PhoneBookRepository phoneBookRepository;
+    private final RecipientRepository recipientRepository;
+    private final GroupMappingBulkInserter groupMappingBulkInserter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate chunkTransaction;
+    private final Duration retention;
+    private final Clock clock;
+
+    private final ConcurrentMap<String, PhoneBookBulkAddJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PhoneBookBulkAddJobService(PhoneBookValidator phoneBookValidator,
+                                      PhoneBookRepository phoneBookRepository,
+                                      RecipientRepository recipientRepository,
+                                      GroupMappingBulkInserter groupMappingBulkInserter,
+                                      ApplicationEventPublisher eventPublisher,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${phonebook.bulk-add-job.retention-ms:3600000}") long retentionMs) {
+        this(phoneBookValidator, phoneBookRepository, recipientRepository, groupMappingBulkInserter, eventPublisher, transactionManager,
+                retentionMs, Clock.system(ZoneId.of("Asia/Seoul")));
+    }
+
+    PhoneBookBulkAddJobService(PhoneBookValidator phoneBookValidator,
+                               PhoneBookRepository phoneBookRepository,
+                               RecipientRepository recipientRepository,
+                               GroupMappingBulkInserter groupMappingBulkInserter,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               long retentionMs,
+                               Clock clock) {
+        this.phoneBookValidator = phoneBookValidator;
+        this.phoneBookRepository = phoneBookRepository;
+        this.recipientRepository = recipientRepository;
+        this.groupMappingBulkInserter = groupMappingBulkInserter;
+        this.eventPublisher = eventPublisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.retention = Duration.ofMillis(retentionMs);
+        this.clock = clock;
+    }
+
+    /**
+     * 주소록 수신자 추가 작업을 접수하고 바로 반환합니다.
+     * 권한 검증은 접수 시점에 수행하며, 실제 추가는 백그라운드에서 청크 단위로 진행됩니다.
+     *
+     * @param recipientIdListDTO 추가할 수신자 ID 목록을 담은 DTO (중복 ID는 한 번만 처리)
+     * @param workspaceId        주소록이 속한 워크스페이스의 ID
+     * @param phoneBookId        수신자를 추가할 주소록의 ID
+     * @param userId             요청을 보낸 사용자의 ID (인가에 사용)
+     * @return 접수된 작업의 초기 상태({@link PhoneBookResponse.BulkAddJobDTO})
+     * @throws IllegalArgumentException 수신자 ID 목록이 비어 있거나, 유효하지 않은 ID(워크스페이스, 주소록)로 요청했을 경우 발생
+     */
+    public PhoneBookResponse.BulkAddJobDTO startJob(PhoneBookRequest.RecipientIdListDTO recipientIdListDTO,
+                                                    Integer workspaceId, Integer phoneBookId, Integer userId) {
+        if (recipientIdListDTO.recipientIds() == null || recipientIdListDTO.recipientIds().isEmpty()) {
+            throw new IllegalArgumentException("추가할 수신자 ID 목록이 비어 있습니다.");
+        }
+        phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId);
+
+        List<Integer> recipientIds = recipientIdListDTO.recipientIds().stream().distinct().toList();
+        PhoneBookBulkAddJob job = new PhoneBookBulkAddJob(
+                UUID.randomUUID().toString(), workspaceId, phoneBookId, userId, recipientIds.size(), now());
+        jobs.put(job.jobId(), job);
+        eventPublisher.publishEvent(new PhoneBookBulkAddJobEvent(job.jobId(), recipientIds));
+
+        log.info("주소록 수신자 추가 작업 접수: 작업 id = {}, 주소록 id = {}, {}건", job.jobId(), phoneBookId, recipientIds.size());
+        return job.toDTO();
+    }
+
+    /**
+     * 주소록 수신자 추가 작업의 진행 상황을 조회합니다.
+     *
+     * @throws IllegalArgumentException 작업이 없거나, 요청한 사용자의 주소록 작업이 아닌 경우
+     */
+    public PhoneBookResponse.BulkAddJobDTO getJob(Integer workspaceId, Integer phoneBookId, Integer userId, String jobId) {
+        PhoneBookBulkAddJob job = jobs.get(jobId);
+        if (job == null || !job.isOwnedBy(workspaceId, phoneBookId, userId)) {
+            throw new IllegalArgumentException("존재하지 않는 수신자 추가 작업입니다. ID: " + jobId);
+        }
+        return job.toDTO();
+    }
+
+    /**
+     * 보관 기간이 지난 끝난 작업을 제거합니다.
+     */
+    @Scheduled(
+            fixedDelayString = "${phonebook.bulk-add-job.cleanup-interval-ms:600000}",
+            initialDelayString = "${phonebook.bulk-add-job.cleanup-interval-ms:600000}")
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedBefore(threshold));
+    }
+
+    /**
+     * 접수된 작업을 백그라운드에서 청크 단위로 실행합니다.
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBulkAddJobStarted(PhoneBookBulkAddJobEvent event) {
+        PhoneBookBulkAddJob job = jobs.get(event.jobId());
+        if (job == null) {
+            return;
+        }
+        run(job, job.workspaceId(), job.phoneBookId(), event.recipientIds());
+    }
+
+    private void run(PhoneBookBulkAddJob job, Integer workspaceId, Integer phoneBookId, List<Integer> recipientIds) {
+        // 모든 청크에 같은 생성 시간을 사용 (DB의 TIMESTAMP 정밀도에 맞춰 초 단위로 절삭)
+        LocalDateTime creationTimestamp = now().truncatedTo(ChronoUnit.SECONDS);
+        try {
+            for (List<Integer> chunk : groupMappingBulkInserter.partition(recipientIds)) {
+                ChunkResult result = chunkTransaction.execute(status -> {
+                    // 청크를 커밋할 때까지 주소록 행을 잠가, 그 사이 삭제된 주소록에 매핑을 추가하지 않도록 함
+                    if (phoneBookRepository.lockLivePhoneBookId(phoneBookId).isEmpty()) {
+                        return ChunkResult.PHONE_BOOK_DELETED;
+                    }
+                    List<Integer> validIds = recipientRepository.findRecipientIdsInWorkspace(workspaceId, chunk);
+                    int added = validIds.isEmpty() ? 0
+                            : groupMappingBulkInserter.insert(phoneBookId, validIds, creationTimestamp);
+                    return new ChunkResult(chunk.size() - validIds.size(), added, false);
+                });
+                if (result.phoneBookDeleted()) {
+                    job.fail("작업 중 주소록이 삭제되어 수신자 추가를 중단했습니다.", now());
+                    log.info("주소록이 삭제되어 수신자 추가 작업을 중단합니다: 작업 id = {}, 주소록 id = {}", job.jobId(), phoneBookId);
+                    return;
+                }
+                // 커밋된 청크만 진행 상황에 반영
+                job.recordChunk(chunk.size(), result.invalid(), result.added());
+            }
+            job.complete(now());
+            log.info("주소록 수신자 추가 작업 완료: {}", job.toDTO());
+        } catch (RuntimeException e) {
+            job.fail("수신자 추가 중 오류가 발생했습니다. 이미 처리된 수신자는 추가된 상태로 유지됩니다.", now());
+            log.warn("주소록 수신자 추가 작업 실패: 작업 id = {}", job.jobId(), e);
+        }
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private record ChunkResult(int invalid, int added, boolean phoneBookDeleted) {
+
+        static final ChunkResult PHONE_BOOK_DELETED = new ChunkResult(0, 0, true);
+    }
+}
@@ -0,0 +1,195 @@
+package com.jober.final2teamdrhong.service.recipient;
+
+import com.jober.final2teamdrhong.dto.recipient.RecipientExportRow;
+import com.jober.final2teamdrhong.repository.GroupMappingRepository;
+import com.jober.final2teamdrhong.repository.RecipientRepository;
+import com.jober.final2teamdrhong.service.validator.PhoneBookValidator;
+import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 수신자 CSV 내보내기 서비스
+ * - 권한 검증은 요청 스레드에서 먼저 수행하고, 본문은 {@link StreamingResponseBody}로 응답에 직접 기록
+ * - 리포지토리의 Stream 조회(전진 전용 커서 + fetch size)를 한 행씩 CSV로 변환하므로 행 수와 관계없이 메모리 사용량이 일정
+ * - 클라이언트가 gzip을 허용하면 응답 본문을 gzip으로 압축
+ * 클라이언트 연결이 끊기면 쓰기 예외로 트랜잭션과 커서가 바로 정리된다.
+ */
+@Service
+@Slf4j
+public class RecipientExportService {
+
+    static final String CSV_HEADER = "이름,전화번호,메모,생성일시";
+
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final RecipientRepository recipientRepository;
+    private final GroupMappingRepository groupMappingRepository;
+    private final WorkspaceValidator workspaceValidator;
+    private final PhoneBookValidator phoneBookValidator;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public RecipientExportService(RecipientRepository recipientRepository,
+                                  GroupMappingRepository groupMappingRepository,
+                                  WorkspaceValidator workspaceValidator,
+                                  PhoneBookValidator phoneBookValidator,
+                                  PlatformTransactionManager transactionManager) {
+        this.recipientRepository = recipientRepository;
+        this.groupMappingRepository = groupMappingRepository;
+        this.workspaceValidator = workspaceValidator;
+        this.phoneBookValidator = phoneBookValidator;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 워크스페이스의 모든 수신자를 CSV로 내보냅니다.
+     *
+     * @param workspaceId 수신자를 내보낼 워크스페이스의 ID
+     * @param userId      요청을 보낸 사용자의 ID (인가에 사용)
+     * @param gzip        응답 본문을 gzip으로 압축할지 여부
+     * @return 응답에 CSV를 기록하는 본문
+     * @throws IllegalArgumentException 워크스페이스 접근 권한이 없는 경우
+     */
+    public StreamingResponseBody exportRecipients(Integer workspaceId, Integer userId, boolean gzip) {
+        workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
+        return out -> writeCsv(out, gzip, () -> recipientRepository.streamExportRows(workspaceId),
+                "워크스페이스 id = " + workspaceId);
+    }
+
+    /**
+     * 주소록에 속한 수신자를 CSV로 내보냅니다.
+     *
+     * @param workspaceId 주소록이 속한 워크스페이스의 ID
+     * @param phoneBookId 수신자를 내보낼 주소록의 ID
+     * @param userId      요청을 보낸 사용자의 ID (인가에 사용)
+     * @param gzip        응답 본문을 gzip으로 압축할지 여부
+     * @return 응답에 CSV를 기록하는 본문
+     * @throws IllegalArgumentException 워크스페이스 접근 권한이 없거나 주소록이 워크스페이스에 속하지 않는 경우
+     */
+    public StreamingResponseBody exportRecipientsInPhoneBook(Integer workspaceId, Integer phoneBookId,
+                                                             Integer userId, boolean gzip) {
+        phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId);
+        return out -> writeCsv(out, gzip, () -> groupMappingRepository.streamExportRowsByPhoneBook(phoneBookId),
+                "주소록 id = " + phoneBookId);
+    }
+
+    /**
+     * Accept-Encoding 헤더가 gzip을 허용하는지 확인합니다. (q=0으로 거부한 경우 제외)
+     *
+     * @param acceptEncoding 요청의 Accept-Encoding 헤더 값 (없으면 null)
+     * @return gzip으로 압축해 응답해도 되면 {@code true}
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            if (!parts[0].strip().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].strip().toLowerCase(Locale.ROOT);
+                if (param.startsWith("q=") && param.substring(2).strip().matches("0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 읽기 전용 트랜잭션 안에서 스트림을 열어 CSV로 기록한다.
+     * Excel에서 한글이 깨지지 않도록 UTF-8 BOM을 먼저 기록한다.
+     */
+    private void writeCsv(OutputStream out, boolean gzip, Supplier<Stream<RecipientExportRow>> query,
+                          String target) throws IOException {
+        GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(gzipOut != null ? gzipOut : out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write('\uFEFF');
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+
+        long rowCount;
+        try {
+            rowCount = readOnlyTransaction.execute(status -> {
+                try (Stream<RecipientExportRow> rows = query.get()) {
+                    long count = 0;
+                    for (RecipientExportRow row : (Iterable<RecipientExportRow>) rows::iterator) {
+                        writeRow(writer, row);
+                        count++;
+                    }
+                    return count;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.info("수신자 내보내기 중단: {}, 사유 = {}", target, e.getCause().getMessage());
+            throw e.getCause();
+        }
+
+        writer.flush();
+        if (gzipOut != null) {
+            gzipOut.finish();
+        }
+        log.info("수신자 내보내기 완료: {}, {}건", target, rowCount);
+    }
+
+    private static void writeRow(Writer writer, RecipientExportRow row) throws IOException {
+        writeField(writer, row.recipientName());
+        writer.write(',');
+        writeField(writer, row.recipientPhoneNumber());
+        writer.write(',');
+        writeField(writer, row.recipientMemo());
+        writer.write(',');
+        writeField(writer, row.createdAt() == null ? null : CREATED_AT_FORMAT.format(row.createdAt()));
+        writer.write("\r\n");
+    }
+
+    /**
+     * 쉼표, 큰따옴표, 줄바꿈이 있는 값은 큰따옴표로 감싸고 내부의 큰따옴표는 두 번 쓴다. (RFC 4180)
+     * 스프레드시트가 수식으로 실행하지 않도록 =, +, -, @, 탭, CR로 시작하는 값은 앞에 '를 붙여 큰따옴표로 감싼다.
+     */
+    private static void writeField(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        boolean formula = isFormulaPrefix(value.charAt(0));
+        if (!formula && value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        if (formula) {
+            writer.write('\'');
+        }
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean isFormulaPrefix(char c) {
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+    }
+}
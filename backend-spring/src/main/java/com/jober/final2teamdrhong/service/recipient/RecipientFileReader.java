@@ -0,0 +1,271 @@
+package com.jober.final2teamdrhong.service.recipient;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 업로드된 CSV/XLSX 파일을 한 행씩 읽는 스트리밍 리더
+ * - 파일 전체를 메모리에 올리지 않고, 행을 읽을 때마다 핸들러에 전달
+ * - 업로드 파일은 먼저 임시 파일로 옮긴 뒤({@link #store}) 경로로 읽으므로 요청이 끝난 뒤에도 읽을 수 있음
+ * - CSV는 BOM으로 인코딩을 판단하고, BOM이 없으면 UTF-8이 아닐 때 MS949(CP949)로 읽음
+ * - CSV는 큰따옴표로 감싼 필드(쉼표, 줄바꿈, "" 이스케이프 포함)를 지원
+ * - XLSX는 첫 번째 시트만 SAX 이벤트 방식으로 읽음 (공유 문자열 표는 메모리에 적재됨)
+ */
+@Component
+public class RecipientFileReader {
+
+    static final Charset MS949 = Charset.forName("MS949");
+
+    /**
+     * 업로드된 파일을 임시 파일로 옮깁니다. 요청이 끝나면 업로드 파일이 지워지므로, 백그라운드에서 읽을 파일은 먼저 옮겨 둡니다.
+     * 지원하지 않는 형식은 옮기기 전에 거부합니다.
+     *
+     * @param file 업로드된 파일 (.csv 또는 .xlsx)
+     * @return 임시 파일 경로 (다 읽은 뒤 호출 측에서 지워야 함)
+     * @throws IllegalArgumentException 지원하지 않는 형식이거나 파일을 옮길 수 없는 경우
+     */
+    public Path store(MultipartFile file) {
+        String extension = extensionOf(file.getOriginalFilename());
+        try {
+            Path tempFile = Files.createTempFile("recipient-import-", extension);
+            try {
+                file.transferTo(tempFile);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(tempFile);
+                throw e;
+            }
+            return tempFile;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("업로드된 파일을 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 파일 확장자에 맞는 방식으로 모든 행을 읽습니다.
+     *
+     * @param path     읽을 파일 경로
+     * @param fileName 업로드된 원래 파일 이름 (형식 판단에 사용)
+     * @param handler  행마다 호출되는 핸들러
+     * @throws IllegalArgumentException 지원하지 않는 형식이거나 파일을 읽을 수 없는 경우
+     */
+    public void read(Path path, String fileName, RowHandler handler) {
+        String extension = extensionOf(fileName);
+        try {
+            if (extension.equals(".csv")) {
+                try (InputStream in = Files.newInputStream(path)) {
+                    readCsv(new InputStreamReader(in, detectCharset(path)), handler);
+                }
+            } else {
+                readXlsx(path, handler);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            throw new IllegalArgumentException("업로드된 파일을 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * CSV 파일의 문자 인코딩을 판단합니다.
+     * BOM이 있으면 BOM의 인코딩을, 없으면 파일 전체가 올바른 UTF-8인지 확인해 UTF-8 또는 MS949(엑셀 한글 기본 저장 형식)로 판단합니다.
+     */
+    Charset detectCharset(Path path) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            in.mark(3);
+            byte[] bom = in.readNBytes(3);
+            if (bom.length >= 2 && (bom[0] & 0xFF) == 0xFE && (bom[1] & 0xFF) == 0xFF) {
+                return StandardCharsets.UTF_16BE;
+            }
+            if (bom.length >= 2 && (bom[0] & 0xFF) == 0xFF && (bom[1] & 0xFF) == 0xFE) {
+                return StandardCharsets.UTF_16LE;
+            }
+            if (bom.length == 3 && (bom[0] & 0xFF) == 0xEF && (bom[1] & 0xFF) == 0xBB && (bom[2] & 0xFF) == 0xBF) {
+                return StandardCharsets.UTF_8;
+            }
+            in.reset();
+            return isUtf8(in) ? StandardCharsets.UTF_8 : MS949;
+        }
+    }
+
+    private static boolean isUtf8(InputStream in) throws IOException {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        try (Reader reader = new InputStreamReader(in, decoder)) {
+            char[] buffer = new char[8192];
+            while (reader.read(buffer) != -1) {
+                // 끝까지 디코딩되면 UTF-8
+            }
+            return true;
+        } catch (CharacterCodingException e) {
+            return false;
+        }
+    }
+
+    private static String extensionOf(String fileName) {
+        String lowerCase = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+        if (lowerCase.endsWith(".csv")) {
+            return ".csv";
+        }
+        if (lowerCase.endsWith(".xlsx")) {
+            return ".xlsx";
+        }
+        throw new IllegalArgumentException("지원하지 않는 파일 형식입니다. CSV 또는 XLSX 파일을 업로드해주세요.");
+    }
+
+    /**
+     * CSV를 한 레코드씩 읽습니다. 행 번호는 1부터 시작하는 레코드 순번입니다.
+     */
+    void readCsv(Reader source, RowHandler handler) throws IOException {
+        BufferedReader reader = new BufferedReader(source);
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+
+        List<String> cells = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean pendingRecord = false;
+        int rowNumber = 0;
+        int c;
+        while ((c = reader.read()) != -1) {
+            char ch = (char) c;
+            pendingRecord = true;
+            if (quoted) {
+                if (ch != '"') {
+                    field.append(ch);
+                    continue;
+                }
+                reader.mark(1);
+                if (reader.read() == '"') {
+                    field.append('"');
+                } else {
+                    reader.reset();
+                    quoted = false;
+                }
+            } else if (ch == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (ch == ',') {
+                cells.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n' || ch == '\r') {
+                if (ch == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                cells.add(field.toString());
+                field.setLength(0);
+                handler.onRow(++rowNumber, cells);
+                cells = new ArrayList<>();
+                pendingRecord = false;
+            } else {
+                field.append(ch);
+            }
+        }
+        if (pendingRecord) {
+            cells.add(field.toString());
+            handler.onRow(++rowNumber, cells);
+        }
+    }
+
+    /**
+     * XLSX의 첫 번째 시트를 SAX 이벤트로 읽습니다. 행 번호는 시트의 행 번호(1부터)입니다.
+     * OPC 패키지는 파일 경로로 열어야 전체를 메모리에 올리지 않습니다.
+     */
+    void readXlsx(Path path, RowHandler handler) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(path.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        reader.getStylesTable(), strings, new SheetRowCollector(handler), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IllegalArgumentException("XLSX 파일 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    /**
+     * 셀 이벤트를 모아 행 단위로 핸들러에 전달합니다. 비어 있는 셀은 빈 문자열로 채웁니다.
+     */
+    private static final class SheetRowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final RowHandler handler;
+        private List<String> cells = new ArrayList<>();
+
+        private SheetRowCollector(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells = new ArrayList<>();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            handler.onRow(rowNum + 1, cells);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference == null ? cells.size() : new CellReference(cellReference).getCol();
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(formattedValue == null ? "" : formattedValue);
+        }
+    }
+
+    /**
+     * 읽은 행을 전달받는 핸들러
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+
+        /**
+         * @param rowNumber 파일의 행 번호 (1부터)
+         * @param cells     행의 셀 값 목록
+         */
+        void onRow(int rowNumber, List<String> cells);
+    }
+}
@@ -0,0 +1,77 @@
+package com.jober.final2teamdrhong.service.recipient;
+
+import com.jober.final2teamdrhong.dto.recipient.RecipientResponse;
+import com.jober.final2teamdrhong.dto.recipient.RecipientResponse.ImportJobStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수신자 파일 가져오기 작업의 진행 상태
+ * 작업 스레드만 상태를 변경하고, 조회 요청은 {@link #toDTO()}로 스냅샷을 읽는다.
+ */
+class RecipientImportJob {
+
+    private final String jobId;
+    private final Integer workspaceId;
+    private final Integer userId;
+    private final String fileName;
+    private final LocalDateTime startedAt;
+
+    private ImportJobStatus status = ImportJobStatus.RUNNING;
+    private int processedRows;
+    private RecipientResponse.ImportResultDTO result;
+    private LocalDateTime finishedAt;
+    private String errorMessage;
+
+    RecipientImportJob(String jobId, Integer workspaceId, Integer userId, String fileName, LocalDateTime startedAt) {
+        this.jobId = jobId;
+        this.workspaceId = workspaceId;
+        this.userId = userId;
+        this.fileName = fileName;
+        this.startedAt = startedAt;
+    }
+
+    String jobId() {
+        return jobId;
+    }
+
+    boolean isOwnedBy(Integer workspaceId, Integer userId) {
+        return this.workspaceId.equals(workspaceId) && this.userId.equals(userId);
+    }
+
+    /**
+     * 커밋된 청크까지 읽은 데이터 행 수를 기록한다.
+     */
+    synchronized void recordProgress(int processedRows) {
+        this.processedRows = processedRows;
+    }
+
+    synchronized void complete(RecipientResponse.ImportResultDTO result, LocalDateTime now) {
+        status = ImportJobStatus.COMPLETED;
+        processedRows = result.totalRows();
+        this.result = result;
+        finishedAt = now;
+    }
+
+    synchronized void fail(String message, LocalDateTime now) {
+        status = ImportJobStatus.FAILED;
+        errorMessage = message;
+        finishedAt = now;
+    }
+
+    synchronized boolean finishedBefore(LocalDateTime threshold) {
+        return finishedAt != null && finishedAt.isBefore(threshold);
+    }
+
+    synchronized RecipientResponse.ImportJobDTO toDTO() {
+        return new RecipientResponse.ImportJobDTO(
+                jobId,
+                fileName,
+                status,
+                processedRows,
+                startedAt,
+                finishedAt,
+                result,
+                errorMessage);
+    }
+}
@@ -0,0 +1,15 @@
+package com.jober.final2teamdrhong.service.recipient;
+
+import java.nio.file.Path;
+
+/**
+ * 접수된 수신자 파일 가져오기 작업을 백그라운드에서 실행하라는 이벤트
+ *
+ * @param jobId       접수된 작업 ID
+ * @param file        업로드 파일을 옮겨 둔 임시 파일 경로 (작업이 끝나면 지움)
+ * @param fileName    업로드된 원래 파일 이름
+ * @param workspaceId 수신자를 가져올 워크스페이스의 ID
+ * @param phoneBookId 가져온 수신자를 추가할 주소록의 ID (선택)
+ */
+public record RecipientImportJobEvent(String jobId, Path file, String fileName, Integer workspaceId, Integer phoneBookId) {
+}
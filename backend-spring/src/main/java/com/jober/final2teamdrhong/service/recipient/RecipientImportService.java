@@ -0,0 +1,452 @@
+package com.jober.final2teamdrhong.service.recipient;
+
+import com.jober.final2teamdrhong.dto.recipient.RecipientContact;
+import com.jober.final2teamdrhong.dto.recipient.RecipientResponse;
+import com.jober.final2teamdrhong.repository.RecipientRepository;
+import com.jober.final2teamdrhong.service.phonebook.GroupMappingBulkInserter;
+import com.jober.final2teamdrhong.service.validator.PhoneBookValidator;
+import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
+import com.jober.final2teamdrhong.util.PhoneNumberNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * 수신자 파일(CSV/XLSX) 가져오기 서비스
+ * - 업로드를 임시 파일로 옮기고 작업 ID로 접수한 뒤, {@link RecipientImportJobEvent}를 받아
+ *   공용 비동기 실행기({@code @Async})에서 가져오기를 실행 (수십만 행 파일도 요청 스레드를 잡지 않음)
+ * - 파일을 한 행씩 읽어 검증/정규화하고, 배치 크기만큼 모이면 청크 하나를 처리
+ * - 청크마다 (기존 수신자 조회 + JDBC 배치 INSERT + 주소록 추가)를 별도 트랜잭션으로 커밋
+ * - 중복(이름 + E.164 형식으로 정규화한 전화번호)은 청크 안에서는 해시 집합으로, 앞선 청크와 DB의 기존 수신자와는
+ *   청크 단위 IN 조회로 걸러내므로 메모리 사용량이 파일 크기가 아닌 배치 크기에 비례
+ * - 잘못된 행은 건너뛰고 행 번호와 사유를 결과에 담음 (보고하는 오류 수는 제한)
+ * - 기존 수신자 조회 후 다른 요청이 같은 수신자를 먼저 저장해 유니크 키 위반이 나면, 그 청크만 롤백하고 다시 조회해 중복으로 처리
+ * - 작업 상태는 이 인스턴스의 메모리에만 있으므로, 작업을 접수한 인스턴스에서만 조회 가능하며
+ *   끝난 작업은 보관 기간이 지나면 제거됨
+ * 처리 도중 오류로 중단되면 이미 커밋된 청크는 유지된다.
+ */
+@Service
+@Slf4j
+public class RecipientImportService {
+
+    static final String INSERT_SQL = "INSERT INTO recipient "
+            + "(recipient_name, recipient_phone_number, recipient_phone_e164, recipient_phone_reversed, recipient_memo, "
+            + "workspace_id, created_at, updated_at, deleted_at, is_deleted) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, NULL, FALSE)";
+
+    private static final Set<String> NAME_HEADERS = Set.of("이름", "수신자 이름", "수신인 이름", "name", "recipientname");
+    private static final Set<String> PHONE_HEADERS = Set.of("전화번호", "연락처", "휴대폰", "휴대폰 번호", "phone", "phonenumber", "recipientphonenumber");
+    private static final Set<String> MEMO_HEADERS = Set.of("메모", "memo", "recipientmemo");
+
+    /**
+     * 청크 저장이 다른 요청과 겹쳐 유니크 키 위반으로 롤백될 때 다시 시도하는 최대 횟수 (첫 시도 포함)
+     */
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+
+    private final RecipientFileReader recipientFileReader;
+    private final RecipientRepository recipientRepository;
+    private final WorkspaceValidator workspaceValidator;
+    private final PhoneBookValidator phoneBookValidator;
+    private final GroupMappingBulkInserter groupMappingBulkInserter;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate chunkTransaction;
+    private final int batchSize;
+    private final int maxReportedErrors;
+    private final Duration retention;
+    private final Clock clock;
+
+    private final ConcurrentMap<String, RecipientImportJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RecipientImportService(RecipientFileReader recipientFileReader,
+                                  RecipientRepository recipientRepository,
+                                  WorkspaceValidator workspaceValidator,
+                                  PhoneBookValidator phoneBookValidator,
+                                  GroupMappingBulkInserter groupMappingBulkInserter,
+                                  JdbcTemplate jdbcTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${recipient.import.batch-size:1000}") int batchSize,
+                                  @Value("${recipient.import.max-reported-errors:1000}") int maxReportedErrors,
+                                  @Value("${recipient.import.job.retention-ms:3600000}") long retentionMs) {
+        this(recipientFileReader, recipientRepository, workspaceValidator, phoneBookValidator, groupMappingBulkInserter,
+                jdbcTemplate, eventPublisher, transactionManager, batchSize, maxReportedErrors, retentionMs,
+                Clock.system(ZoneId.of("Asia/Seoul")));
+    }
+
+    RecipientImportService(RecipientFileReader recipientFileReader,
+                           RecipientRepository recipientRepository,
+                           WorkspaceValidator workspaceValidator,
+                           PhoneBookValidator phoneBookValidator,
+                           GroupMappingBulkInserter groupMappingBulkInserter,
+                           JdbcTemplate jdbcTemplate,
+                           ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager,
+                           int batchSize,
+                           int maxReportedErrors,
+                           long retentionMs,
+                           Clock clock) {
+        this.recipientFileReader = recipientFileReader;
+        this.recipientRepository = recipientRepository;
+        this.workspaceValidator = workspaceValidator;
+        this.phoneBookValidator = phoneBookValidator;
+        this.groupMappingBulkInserter = groupMappingBulkInserter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+        this.retention = Duration.ofMillis(retentionMs);
+        this.clock = clock;
+    }
+
+    /**
+     * 업로드된 파일의 수신자 가져오기 작업을 접수하고 바로 반환합니다.
+     * <p>
+     * 파일의 첫 행은 헤더이며 '이름', '전화번호' 열이 필요합니다('메모' 열은 선택).
+     * 이미 워크스페이스에 같은 이름과 전화번호의 수신자가 있으면 새로 만들지 않고 중복으로 집계합니다.
+     * 주소록 ID가 주어지면 새로 만든 수신자와 중복으로 집계된 기존 수신자를 모두 주소록에 추가합니다.
+     * 권한과 파일 형식은 접수 시점에 검증하며, 헤더와 행 검증 결과는 작업 조회로 확인합니다.
+     *
+     * @param file        업로드된 CSV 또는 XLSX 파일
+     * @param workspaceId 수신자를 가져올 워크스페이스의 ID
+     * @param phoneBookId 가져온 수신자를 추가할 주소록의 ID (선택)
+     * @param userId      요청을 보낸 사용자의 ID (인가에 사용)
+     * @return 접수된 작업의 초기 상태({@link RecipientResponse.ImportJobDTO})
+     * @throws IllegalArgumentException 파일이 비어 있거나 지원하지 않는 형식인 경우,
+     *                                  또는 워크스페이스/주소록 접근 권한이 없는 경우
+     */
+    public RecipientResponse.ImportJobDTO startImport(MultipartFile file, Integer workspaceId,
+                                                      Integer phoneBookId, Integer userId) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("업로드된 파일이 비어 있습니다.");
+        }
+        workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
+        if (phoneBookId != null) {
+            phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId);
+        }
+
+        Path stored = recipientFileReader.store(file);
+        RecipientImportJob job = new RecipientImportJob(
+                UUID.randomUUID().toString(), workspaceId, userId, file.getOriginalFilename(), now());
+        jobs.put(job.jobId(), job);
+        eventPublisher.publishEvent(new RecipientImportJobEvent(
+                job.jobId(), stored, file.getOriginalFilename(), workspaceId, phoneBookId));
+
+        log.info("수신자 가져오기 작업 접수: 작업 id = {}, 워크스페이스 id = {}, 파일 = {} ({}바이트)",
+                job.jobId(), workspaceId, file.getOriginalFilename(), file.getSize());
+        return job.toDTO();
+    }
+
+    /**
+     * 수신자 가져오기 작업의 진행 상황과 결과를 조회합니다.
+     *
+     * @throws IllegalArgumentException 작업이 없거나, 요청한 사용자의 워크스페이스 작업이 아닌 경우
+     */
+    public RecipientResponse.ImportJobDTO getImportJob(Integer workspaceId, Integer userId, String jobId) {
+        RecipientImportJob job = jobs.get(jobId);
+        if (job == null || !job.isOwnedBy(workspaceId, userId)) {
+            throw new IllegalArgumentException("존재하지 않는 수신자 가져오기 작업입니다. ID: " + jobId);
+        }
+        return job.toDTO();
+    }
+
+    /**
+     * 접수된 가져오기 작업을 백그라운드에서 실행하고, 끝나면 임시 파일을 지웁니다.
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onImportJobStarted(RecipientImportJobEvent event) {
+        RecipientImportJob job = jobs.get(event.jobId());
+        try {
+            if (job == null) {
+                return;
+            }
+            RecipientResponse.ImportResultDTO result = importFile(event.file(), event.fileName(),
+                    event.workspaceId(), event.phoneBookId(), job::recordProgress);
+            job.complete(result, now());
+            log.info("수신자 가져오기 완료: 작업 id = {}, 워크스페이스 id = {}, 행 {}건, 생성 {}건, 중복 {}건, 주소록 추가 {}건, 오류 {}건",
+                    job.jobId(), event.workspaceId(), result.totalRows(), result.importedCount(), result.duplicateCount(),
+                    result.addedToPhoneBookCount(), result.errorCount());
+        } catch (IllegalArgumentException e) {
+            // 헤더 누락, 형식 오류 등 파일 자체의 문제
+            job.fail(e.getMessage(), now());
+        } catch (RuntimeException e) {
+            job.fail("수신자 가져오기 중 오류가 발생했습니다. 이미 처리된 행은 저장된 상태로 유지됩니다.", now());
+            log.warn("수신자 가져오기 작업 실패: 작업 id = {}", event.jobId(), e);
+        } finally {
+            deleteQuietly(event.file());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 끝난 작업을 제거합니다.
+     */
+    @Scheduled(
+            fixedDelayString = "${recipient.import.job.cleanup-interval-ms:600000}",
+            initialDelayString = "${recipient.import.job.cleanup-interval-ms:600000}")
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedBefore(threshold));
+    }
+
+    /**
+     * 파일의 수신자들을 워크스페이스에 가져옵니다. 청크가 커밋될 때마다 지금까지 읽은 데이터 행 수를 알립니다.
+     *
+     * @throws IllegalArgumentException 파일 형식이 올바르지 않거나 헤더가 없는 경우
+     */
+    RecipientResponse.ImportResultDTO importFile(Path file, String fileName, Integer workspaceId, Integer phoneBookId,
+                                                 IntConsumer progressListener) {
+        ImportRun run = new ImportRun(workspaceId, phoneBookId, now().truncatedTo(ChronoUnit.SECONDS), progressListener);
+        recipientFileReader.read(file, fileName, run::onRow);
+        if (run.columns == null) {
+            throw new IllegalArgumentException("파일에 헤더 행이 없습니다.");
+        }
+        run.flush();
+        return run.result();
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("수신자 가져오기 임시 파일을 지우지 못했습니다: {}", file, e);
+        }
+    }
+
+    /**
+     * 파일 하나를 가져오는 동안의 상태. 현재 청크와 집계 값만 메모리에 둔다.
+     */
+    private final class ImportRun {
+
+        private final Integer workspaceId;
+        private final Integer phoneBookId;
+        private final LocalDateTime now;
+        private final IntConsumer progressListener;
+
+        private Columns columns;
+        private final List<ImportRow> batch = new ArrayList<>();
+        private final Set<String> batchKeys = new HashSet<>();
+
+        private int totalRows;
+        private int importedCount;
+        private int duplicateCount;
+        private int addedToPhoneBookCount;
+        private int errorCount;
+        private final List<RecipientResponse.RowErrorDTO> errors = new ArrayList<>();
+
+        private ImportRun(Integer workspaceId, Integer phoneBookId, LocalDateTime now, IntConsumer progressListener) {
+            this.workspaceId = workspaceId;
+            this.phoneBookId = phoneBookId;
+            this.now = now;
+            this.progressListener = progressListener;
+        }
+
+        private void onRow(int rowNumber, List<String> cells) {
+            if (cells.stream().allMatch(String::isBlank)) {
+                return;
+            }
+            if (columns == null) {
+                columns = Columns.from(cells);
+                return;
+            }
+            totalRows++;
+
+            String name = cell(cells, columns.name());
+            String phoneNumber = PhoneNumberNormalizer.normalize(cell(cells, columns.phone()));
+            String memo = cell(cells, columns.memo());
+            if (name.isEmpty()) {
+                reject(rowNumber, "이름이 비어 있습니다.");
+                return;
+            }
+            if (name.length() < 2 || name.length() > 10) {
+                reject(rowNumber, "이름은 2자 이상 10자 이하로 입력해주세요.");
+                return;
+            }
+            if (phoneNumber == null) {
+                reject(rowNumber, "전화번호 형식이 올바르지 않습니다.");
+                return;
+            }
+            if (memo.length() > 1000) {
+                reject(rowNumber, "메모는 1000자 이하로 입력해주세요.");
+                return;
+            }
+
+            ImportRow row = new ImportRow(name, phoneNumber, PhoneNumberNormalizer.toE164(phoneNumber), memo.isEmpty() ? null : memo);
+            if (!batchKeys.add(row.key())) {
+                duplicateCount++;
+                return;
+            }
+            batch.add(row);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        /**
+         * 모인 청크를 한 트랜잭션으로 저장한다.
+         */
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            ChunkResult chunk = saveChunkWithRetry();
+            importedCount += chunk.imported();
+            duplicateCount += batch.size() - chunk.imported();
+            addedToPhoneBookCount += chunk.addedToPhoneBook();
+            batch.clear();
+            batchKeys.clear();
+            // 커밋된 청크까지 반영 (앞서 건너뛴 행 포함)
+            progressListener.accept(totalRows);
+        }
+
+        /**
+         * 청크를 한 트랜잭션으로 저장한다.
+         * 기존 수신자 조회와 INSERT 사이에 수신자 생성/수정이나 다른 가져오기가 같은 수신자를 먼저 커밋하면 유니크 키 위반으로
+         * 청크가 롤백되므로, 다시 조회해 그 수신자를 중복으로 건너뛰고 저장한다.
+         */
+        private ChunkResult saveChunkWithRetry() {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return chunkTransaction.execute(status -> saveChunk(batch));
+                } catch (DataIntegrityViolationException e) {
+                    if (attempt >= MAX_CHUNK_ATTEMPTS) {
+                        throw e;
+                    }
+                    log.info("수신자 가져오기 청크가 다른 요청과 겹쳐 다시 저장합니다: 워크스페이스 id = {}, {}번째 시도 실패",
+                            workspaceId, attempt);
+                }
+            }
+        }
+
+        private ChunkResult saveChunk(List<ImportRow> rows) {
+            Set<String> phoneE164s = rows.stream().map(ImportRow::phoneE164).collect(Collectors.toSet());
+            Map<String, Integer> existing = findExisting(phoneE164s);
+
+            List<Object[]> inserts = new ArrayList<>();
+            for (ImportRow row : rows) {
+                if (!existing.containsKey(row.key())) {
+                    inserts.add(new Object[]{row.name(), row.phoneNumber(), row.phoneE164(),
+                            PhoneNumberNormalizer.toReversedDigits(row.phoneNumber()), row.memo(), workspaceId, now, now});
+                }
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+            }
+
+            int addedToPhoneBook = 0;
+            if (phoneBookId != null) {
+                Map<String, Integer> saved = inserts.isEmpty() ? existing : findExisting(phoneE164s);
+                List<Integer> recipientIds = rows.stream()
+                        .map(row -> saved.get(row.key()))
+                        .filter(Objects::nonNull)
+                        .toList();
+                addedToPhoneBook = groupMappingBulkInserter.insert(phoneBookId, recipientIds, now);
+            }
+            return new ChunkResult(inserts.size(), addedToPhoneBook);
+        }
+
+        private Map<String, Integer> findExisting(Set<String> phoneE164s) {
+            Map<String, Integer> idsByKey = new HashMap<>();
+            for (RecipientContact contact : recipientRepository.findContactsByPhoneE164s(workspaceId, phoneE164s)) {
+                idsByKey.putIfAbsent(ImportRow.key(contact.recipientName(), contact.recipientPhoneE164()),
+                        contact.recipientId());
+            }
+            return idsByKey;
+        }
+
+        private void reject(int rowNumber, String message) {
+            errorCount++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new RecipientResponse.RowErrorDTO(rowNumber, message));
+            }
+        }
+
+        private RecipientResponse.ImportResultDTO result() {
+            return new RecipientResponse.ImportResultDTO(
+                    totalRows, importedCount, duplicateCount, addedToPhoneBookCount, errorCount, List.copyOf(errors));
+        }
+
+        private static String cell(List<String> cells, int column) {
+            return column < 0 || column >= cells.size() ? "" : cells.get(column).strip();
+        }
+    }
+
+    /**
+     * 헤더 행에서 찾은 열 위치 (메모 열이 없으면 -1)
+     */
+    private record Columns(int name, int phone, int memo) {
+
+        private static Columns from(List<String> header) {
+            int name = -1;
+            int phone = -1;
+            int memo = -1;
+            for (int i = 0; i < header.size(); i++) {
+                String title = header.get(i).strip().toLowerCase(Locale.ROOT);
+                if (name < 0 && NAME_HEADERS.contains(title)) {
+                    name = i;
+                } else if (phone < 0 && PHONE_HEADERS.contains(title)) {
+                    phone = i;
+                } else if (memo < 0 && MEMO_HEADERS.contains(title)) {
+                    memo = i;
+                }
+            }
+            if (name < 0 || phone < 0) {
+                throw new IllegalArgumentException("파일 첫 행에 '이름'과 '전화번호' 열이 있어야 합니다.");
+            }
+            return new Columns(name, phone, memo);
+        }
+    }
+
+    private record ImportRow(String name, String phoneNumber, String phoneE164, String memo) {
+
+        private String key() {
+            return key(name, phoneE164);
+        }
+
+        private static String key(String name, String phoneE164) {
+            return name + '\n' + phoneE164;
+        }
+    }
+
+    private record ChunkResult(int imported, int addedToPhoneBook) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.jober.final2teamdrhong.service.recipient;
+
+import com.jober.final2teamdrhong.util.PhoneNumberNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기존 수신자의 전화번호 파생 컬럼(recipient_phone_e164, recipient_phone_reversed) 채우기
+ * - 컬럼 추가 전에 저장된 수신자는 값이 NULL이라 중복 확인과 뒷자리 검색에서 보이지 않으므로, 기동 시 한 번 채움
+ * - 수신자 ID 기준 키셋으로 청크를 읽고 JDBC 배치 UPDATE로 갱신 (청크마다 자동 커밋)
+ * - 전화번호로 볼 수 없는 값은 E.164 형식만 NULL로 둠
+ * - 표기만 다른 같은 번호의 수신자가 이미 있어 유니크 키와 충돌하는 행은 E.164 형식을 NULL로 두고 경고 로그를 남김
+ * 뒤집은 번호가 채워진 행은 읽지 않으므로 기동할 때마다 실행해도 남은 행만 처리한다.
+ */
+@Component
+@Slf4j
+public class RecipientPhoneColumnBackfill {
+
+    static final String SELECT_SQL = "SELECT recipient_id, recipient_phone_number FROM recipient "
+            + "WHERE recipient_id > ? AND recipient_phone_reversed IS NULL ORDER BY recipient_id LIMIT ?";
+
+    static final String UPDATE_SQL = "UPDATE recipient SET recipient_phone_e164 = ?, recipient_phone_reversed = ? "
+            + "WHERE recipient_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+
+    public RecipientPhoneColumnBackfill(JdbcTemplate jdbcTemplate,
+                                        @Value("${recipient.phone-backfill.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 애플리케이션 기동 후(ddl-auto로 컬럼이 준비된 뒤) 전화번호 파생 컬럼이 비어 있는 수신자를 채운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int lastRecipientId = 0;
+        int updated = 0;
+        try {
+            List<PendingRow> rows;
+            do {
+                rows = jdbcTemplate.query(SELECT_SQL,
+                        (rs, rowNum) -> new PendingRow(rs.getInt("recipient_id"), rs.getString("recipient_phone_number")),
+                        lastRecipientId, chunkSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                lastRecipientId = rows.get(rows.size() - 1).recipientId();
+
+                List<Object[]> updates = new ArrayList<>();
+                for (PendingRow row : rows) {
+                    updates.add(new Object[]{
+                            PhoneNumberNormalizer.toE164(row.phoneNumber()),
+                            PhoneNumberNormalizer.toReversedDigits(row.phoneNumber()),
+                            row.recipientId()});
+                }
+                updated += update(updates);
+            } while (rows.size() == chunkSize);
+        } catch (DataAccessException e) {
+            log.warn("수신자 전화번호 파생 컬럼 채우기 중단: 수신자 id {} 이후 미처리, 다음 기동 시 이어서 처리합니다: {}",
+                    lastRecipientId, e.getMessage());
+            return;
+        }
+        if (updated > 0) {
+            log.info("수신자 전화번호 파생 컬럼 채우기 완료: {}건", updated);
+        }
+    }
+
+    /**
+     * 청크 하나를 배치로 갱신한다. 유니크 키와 충돌하는 행이 있으면 한 행씩 다시 갱신하며,
+     * 충돌한 행은 E.164 형식 없이 뒤집은 번호만 채운다.
+     */
+    private int update(List<Object[]> updates) {
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+            return updates.size();
+        } catch (DataIntegrityViolationException e) {
+            int updated = 0;
+            for (Object[] args : updates) {
+                try {
+                    updated += jdbcTemplate.update(UPDATE_SQL, args);
+                } catch (DataIntegrityViolationException conflict) {
+                    log.warn("수신자 E.164 전화번호 중복으로 건너뜀: 수신자 id = {}, 전화번호 = {}", args[2], args[0]);
+                    updated += jdbcTemplate.update(UPDATE_SQL, null, args[1], args[2]);
+                }
+            }
+            return updated;
+        }
+    }
+
+    private record PendingRow(int recipientId, String phoneNumber) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.jober.final2teamdrhong.service.search;
+
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateSearchRequest;
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateSearchRequest.SearchTarget;
+import com.jober.final2teamdrhong.repository.PublicTemplateFullTextSchema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 공용 템플릿 FULLTEXT(ngram) 검색 인덱스 확인
+ * - 인덱스는 db/migration/public_template_fulltext_ngram.sql로 한 번 생성하며, 기동 시에는 존재 여부만 확인
+ *   (DDL을 기동마다 실행하면 테이블 재구성 동안 쓰기가 막히고 여러 인스턴스가 동시에 실행할 수 있음)
+ * - 인덱스는 MySQL이 INSERT/UPDATE마다 갱신하고, 소프트 삭제 행은 쿼리에서 is_deleted로 제외
+ * - MySQL이 아니거나(H2) 검색 대상별 인덱스가 모두 있지 않으면 사용 불가로 두어 기존 LIKE 검색을 사용
+ */
+@Component
+@Slf4j
+public class PublicTemplateFullTextIndex {
+
+    /**
+     * 기본 ngram_token_size. 이보다 짧은 검색어는 FULLTEXT로 찾을 수 없다.
+     */
+    static final int MIN_TOKEN_LENGTH = 2;
+
+    /**
+     * 불리언 모드에서 연산자로 해석되는 문자
+     */
+    private static final String BOOLEAN_OPERATORS = "[+\\-<>()~*\"@]";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private volatile boolean available;
+
+    public PublicTemplateFullTextIndex(JdbcTemplate jdbcTemplate,
+                                       @Value("${public-template.search.fulltext.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 애플리케이션 기동 후 검색 대상별 FULLTEXT 인덱스가 모두 있는지 확인한다. 인덱스를 만들지는 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            log.info("공용 템플릿 FULLTEXT 검색 비활성화: LIKE 검색을 사용합니다.");
+            return;
+        }
+        try {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            if (!"MySQL".equalsIgnoreCase(product)) {
+                log.info("공용 템플릿 FULLTEXT 검색 미지원 DB({}): LIKE 검색을 사용합니다.", product);
+                return;
+            }
+
+            List<String> existing = jdbcTemplate.queryForList(
+                    "SELECT DISTINCT INDEX_NAME FROM information_schema.STATISTICS "
+                            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_TYPE = 'FULLTEXT'",
+                    String.class, PublicTemplateFullTextSchema.TABLE);
+            List<String> missing = new ArrayList<>();
+            for (SearchTarget target : SearchTarget.values()) {
+                if (!existing.contains(PublicTemplateFullTextSchema.indexName(target))) {
+                    missing.add(PublicTemplateFullTextSchema.indexName(target));
+                }
+            }
+            if (!missing.isEmpty()) {
+                log.warn("공용 템플릿 FULLTEXT 인덱스 없음 {}: db/migration/public_template_fulltext_ngram.sql 적용 전까지 LIKE 검색을 사용합니다.",
+                        missing);
+                return;
+            }
+            available = true;
+            log.info("공용 템플릿 FULLTEXT 검색 사용");
+        } catch (DataAccessException e) {
+            log.warn("공용 템플릿 FULLTEXT 인덱스 확인 실패, LIKE 검색을 사용합니다: {}", e.getMessage());
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * 검색 요청을 FULLTEXT 불리언 모드 검색식으로 변환한다.
+     * 공백으로 구분된 각 단어를 모두 포함(+)하는 구문 검색으로 만든다.
+     *
+     * @param search 검색 요청
+     * @return 검색식. 인덱스를 사용할 수 없거나, 키워드가 없거나,
+     *         ngram 토큰보다 짧은 단어가 있어 FULLTEXT로 찾을 수 없으면 빈 값
+     */
+    public Optional<String> toBooleanQuery(PublicTemplateSearchRequest search) {
+        if (!available || search == null || search.getKeyword() == null || search.getKeyword().isBlank()) {
+            return Optional.empty();
+        }
+        return buildBooleanQuery(search.getKeyword());
+    }
+
+    static Optional<String> buildBooleanQuery(String keyword) {
+        List<String> terms = new ArrayList<>();
+        for (String word : keyword.trim().split("\\s+")) {
+            String term = word.replaceAll(BOOLEAN_OPERATORS, "");
+            if (term.length() < MIN_TOKEN_LENGTH) {
+                // 한 글자 단어가 섞이면 결과가 LIKE와 달라지므로 LIKE 검색에 맡긴다
+                return Optional.empty();
+            }
+            terms.add("+\"" + term + "\"");
+        }
+        return Optional.of(String.join(" ", terms));
+    }
+}
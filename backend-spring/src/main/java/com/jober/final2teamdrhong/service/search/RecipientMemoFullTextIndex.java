@@ -0,0 +1,85 @@
+package com.jober.final2teamdrhong.service.search;
+
+import com.jober.final2teamdrhong.repository.RecipientFullTextSchema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 수신자 메모 FULLTEXT(ngram) 검색 인덱스 확인
+ * - 인덱스는 db/migration/recipient_memo_fulltext_ngram.sql로 한 번 생성하며, 기동 시에는 존재 여부만 확인
+ * - MySQL이 아니거나(H2) 인덱스가 없으면 사용 불가로 두어 LIKE 검색을 사용
+ */
+@Component
+@Slf4j
+public class RecipientMemoFullTextIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private volatile boolean available;
+
+    public RecipientMemoFullTextIndex(JdbcTemplate jdbcTemplate,
+                                      @Value("${recipient.search.fulltext.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 애플리케이션 기동 후 메모 FULLTEXT 인덱스가 있는지 확인한다. 인덱스를 만들지는 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            log.info("수신자 메모 FULLTEXT 검색 비활성화: LIKE 검색을 사용합니다.");
+            return;
+        }
+        try {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            if (!"MySQL".equalsIgnoreCase(product)) {
+                log.info("수신자 메모 FULLTEXT 검색 미지원 DB({}): LIKE 검색을 사용합니다.", product);
+                return;
+            }
+
+            List<String> existing = jdbcTemplate.queryForList(
+                    "SELECT DISTINCT INDEX_NAME FROM information_schema.STATISTICS "
+                            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_TYPE = 'FULLTEXT'",
+                    String.class, RecipientFullTextSchema.TABLE);
+            if (!existing.contains(RecipientFullTextSchema.INDEX_NAME)) {
+                log.warn("수신자 메모 FULLTEXT 인덱스 없음 {}: db/migration/recipient_memo_fulltext_ngram.sql 적용 전까지 LIKE 검색을 사용합니다.",
+                        RecipientFullTextSchema.INDEX_NAME);
+                return;
+            }
+            available = true;
+            log.info("수신자 메모 FULLTEXT 검색 사용");
+        } catch (DataAccessException e) {
+            log.warn("수신자 메모 FULLTEXT 인덱스 확인 실패, LIKE 검색을 사용합니다: {}", e.getMessage());
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * 메모 키워드를 FULLTEXT 불리언 모드 검색식으로 변환한다. (공용 템플릿 검색과 같은 규칙)
+     *
+     * @param memoKeyword 메모 검색 키워드
+     * @return 검색식. 인덱스를 사용할 수 없거나, 키워드가 없거나,
+     *         ngram 토큰보다 짧은 단어가 있어 FULLTEXT로 찾을 수 없으면 빈 값
+     */
+    public Optional<String> toBooleanQuery(String memoKeyword) {
+        if (!available || memoKeyword == null || memoKeyword.isBlank()) {
+            return Optional.empty();
+        }
+        return PublicTemplateFullTextIndex.buildBooleanQuery(memoKeyword);
+    }
+}
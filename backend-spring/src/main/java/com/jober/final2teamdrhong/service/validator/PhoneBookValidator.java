@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 public class PhoneBookValidator {
 
     private final PhoneBookRepository phoneBookRepository;
+    private final WorkspaceValidator workspaceValidator;
 
     /**
      * 특정 워크스페이스에 해당 주소록이 존재하는지 검증합니다.
@@ -24,4 +25,20 @@ public class PhoneBookValidator {
         return phoneBookRepository.findByPhoneBookIdAndWorkspace_WorkspaceId(phoneBookId, workspaceId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 워크스페이스에 존재하지 않는 주소록입니다. ID: " + phoneBookId));
     }
+
+    /**
+     * 사용자의 워크스페이스 접근 권한과 주소록 소속을 한 번의 조인 쿼리로 검증합니다.
+     * {@link WorkspaceValidator#validateAndGetWorkspace}와 {@link #validateAndGetPhoneBook(Integer, Integer)}를 차례로 호출하는 것과 같습니다.
+     *
+     * @param workspaceId 주소록이 속한 워크스페이스의 ID
+     * @param phoneBookId 검증할 주소록의 ID
+     * @param userId      접근을 시도하는 사용자의 ID
+     * @return 검증에 성공한 PhoneBook 엔티티 (워크스페이스 포함)
+     * @throws IllegalArgumentException 워크스페이스 접근 권한이 없거나 해당 워크스페이스에 주소록이 존재하지 않을 경우
+     */
+    public PhoneBook validateAndGetPhoneBook(Integer workspaceId, Integer phoneBookId, Integer userId) {
+        return workspaceValidator.confirmAccess(
+                phoneBookRepository.findAccessiblePhoneBook(phoneBookId, workspaceId, userId),
+                workspaceId, userId, "해당 워크스페이스에 존재하지 않는 주소록입니다. ID: " + phoneBookId);
+    }
 }
@@ -3,6 +3,7 @@ package com.jober.final2teamdrhong.service.validator;
 import com.jober.final2teamdrhong.entity.Recipient;
 import com.jober.final2teamdrhong.entity.Workspace;
 import com.jober.final2teamdrhong.repository.RecipientRepository;
+import com.jober.final2teamdrhong.util.PhoneNumberNormalizer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -13,18 +14,21 @@ import java.util.List;
 public class RecipientValidator {
 
     private final RecipientRepository recipientRepository;
+    private final WorkspaceValidator workspaceValidator;
 
     /**
      * 특정 워크스페이스에 동일한 이름과 전화번호를 가진 수신자가 이미 존재하는지 검증합니다.
+     * 전화번호는 E.164 형식으로 정규화하여 비교하므로 010-1234-5678과 01012345678을 같은 번호로 봅니다.
      * 중복이 발견되면 예외를 발생시킵니다.
      *
      * @param workspace            검사를 수행할 워크스페이스 엔티티
      * @param recipientName        중복 여부를 확인할 수신자 이름
      * @param recipientPhoneNumber 중복 여부를 확인할 수신자 전화번호
-     * @throws IllegalArgumentException 동일한 이름과 번호의 수신자가 이미 존재할 경우
+     * @throws IllegalArgumentException 전화번호 형식이 올바르지 않거나, 동일한 이름과 번호의 수신자가 이미 존재할 경우
      */
     public void validateNoDuplicateRecipientExists(Workspace workspace, String recipientName, String recipientPhoneNumber) {
-        if (recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneNumber(workspace, recipientName, recipientPhoneNumber)) {
+        String phoneE164 = validateAndGetPhoneE164(recipientPhoneNumber);
+        if (recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneE164(workspace, recipientName, phoneE164)) {
             throw new IllegalArgumentException("해당 워크스페이스에 동일한 이름과 번호의 수신자가 이미 존재합니다.");
         }
     }
@@ -43,22 +47,61 @@ public class RecipientValidator {
                 .orElseThrow(() -> new IllegalArgumentException("해당 워크스페이스에 존재하지 않는 수신자입니다. ID: " + recipientId));
     }
 
+    /**
+     * 사용자의 워크스페이스 접근 권한과 수신자 소속을 한 번의 조인 쿼리로 검증합니다.
+     * {@link WorkspaceValidator#validateAndGetWorkspace}와 {@link #validateAndGetRecipient(Integer, Integer)}를 차례로 호출하는 것과 같습니다.
+     *
+     * @param workspaceId 수신자가 속한 워크스페이스의 ID
+     * @param recipientId 검증할 수신자의 ID
+     * @param userId      접근을 시도하는 사용자의 ID
+     * @return 검증에 성공한 Recipient 엔티티 (워크스페이스 포함)
+     * @throws IllegalArgumentException 워크스페이스 접근 권한이 없거나 해당 워크스페이스에 수신자가 존재하지 않을 경우
+     */
+    public Recipient validateAndGetRecipient(Integer workspaceId, Integer recipientId, Integer userId) {
+        return workspaceValidator.confirmAccess(
+                recipientRepository.findAccessibleRecipient(recipientId, workspaceId, userId),
+                workspaceId, userId, "해당 워크스페이스에 존재하지 않는 수신자입니다. ID: " + recipientId);
+    }
+
     /**
      * 수신자 정보 수정 시, 변경하려는 이름과 전화번호가 다른 수신자와 중복되는지 검증합니다.
-     * 자기 자신은 중복 검사 대상에서 제외합니다.
+     * 자기 자신은 중복 검사 대상에서 제외하며, 전화번호는 E.164 형식으로 정규화하여 비교합니다.
+     * 전화번호를 바꾸지 않으면 형식을 다시 검증하지 않으므로, 정규화할 수 없는 기존 번호(대표번호, 해외 번호 등)를 가진
+     * 수신자도 이름과 메모를 수정할 수 있습니다. 이런 번호는 E.164 값이 없어 유니크 키로도 중복을 판단하지 않습니다.
      *
-     * @param workspace            검사를 수행할 워크스페이스 엔티티
+     * @param recipient            현재 수정 중인 수신자 (검사 대상에서 제외됨)
      * @param recipientName        중복 여부를 확인할 수신자 이름
      * @param recipientPhoneNumber 중복 여부를 확인할 수신자 전화번호
-     * @param recipientId          현재 수정 중인 수신자의 ID (검사 대상에서 제외됨)
-     * @throws IllegalArgumentException 변경하려는 정보가 다른 수신자와 중복될 경우
+     * @throws IllegalArgumentException 바꾼 전화번호의 형식이 올바르지 않거나, 변경하려는 정보가 다른 수신자와 중복될 경우
      */
-    public void validateNoDuplicateRecipientExistsOnUpdate(Workspace workspace, String recipientName, String recipientPhoneNumber, Integer recipientId) {
-        if (recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneNumberAndRecipientIdNot(workspace, recipientName, recipientPhoneNumber, recipientId)) {
+    public void validateNoDuplicateRecipientExistsOnUpdate(Recipient recipient, String recipientName, String recipientPhoneNumber) {
+        String phoneE164 = recipient.hasPhoneNumber(recipientPhoneNumber)
+                ? PhoneNumberNormalizer.toE164(recipient.getRecipientPhoneNumber())
+                : validateAndGetPhoneE164(recipientPhoneNumber);
+        if (phoneE164 == null) {
+            return;
+        }
+        if (recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneE164AndRecipientIdNot(
+                recipient.getWorkspace(), recipientName, phoneE164, recipient.getRecipientId())) {
             throw new IllegalArgumentException("해당 정보와 동일한 다른 수신자가 이미 존재합니다.");
         }
     }
 
+    /**
+     * 전화번호를 E.164 형식으로 정규화합니다.
+     *
+     * @param recipientPhoneNumber 정규화할 수신자 전화번호
+     * @return E.164 형식의 전화번호
+     * @throws IllegalArgumentException 전화번호로 볼 수 없는 값일 경우
+     */
+    private String validateAndGetPhoneE164(String recipientPhoneNumber) {
+        String phoneE164 = PhoneNumberNormalizer.toE164(recipientPhoneNumber);
+        if (phoneE164 == null) {
+            throw new IllegalArgumentException("전화번호 형식이 올바르지 않습니다.");
+        }
+        return phoneE164;
+    }
+
     /**
      * 요청받은 수신자 ID 리스트가 모두 해당 워크스페이스에 존재하는지 검증합니다.
      * 검증에 성공하면 수신자 엔티티 리스트를 반환하고, 실패하면 예외를 발생시킵니다.
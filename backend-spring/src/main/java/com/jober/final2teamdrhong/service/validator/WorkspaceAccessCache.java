@@ -0,0 +1,200 @@
+package com.jober.final2teamdrhong.service.validator;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.jober.final2teamdrhong.repository.WorkspaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자별 소유 워크스페이스 ID 집합의 로컬 캐시(near-cache)
+ * - 사용자의 첫 검증에서 소유 워크스페이스 ID를 한 번에 읽어 두고, 이후 검증은 DB 조회 없이 메모리의 집합으로 처리
+ * - 워크스페이스 생성/수정/삭제가 커밋되면 {@link WorkspaceChangedEvent}로 소유자의 항목을 즉시 제거하고,
+ *   Redis 채널({@link #INVALIDATION_CHANNEL})로 알려 다른 인스턴스의 항목도 제거
+ * - Redis 발행이 실패하면 다른 인스턴스의 항목은 TTL이 지나야 갱신됨
+ * - 캐시된 집합에 없는 워크스페이스는 호출 측에서 DB로 다시 확인하므로 권한이 잘못 거부되지는 않음
+ */
+@Component
+@Slf4j
+public class WorkspaceAccessCache implements MessageListener {
+
+    /**
+     * 인스턴스 간 무효화 채널. 메시지 본문은 항목을 제거할 사용자 ID
+     */
+    public static final String INVALIDATION_CHANNEL = "workspace:access-cache:invalidate";
+
+    private final WorkspaceRepository workspaceRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration ttl;
+    private final int maxUsers;
+    private final Clock clock;
+
+    private final ConcurrentMap<Integer, OwnedWorkspaces> ownedByUser = new ConcurrentHashMap<>();
+
+    /**
+     * 무효화가 일어날 때마다 증가하는 세대 번호.
+     * 조회 도중 무효화된 경우 읽어 온 (이전 상태일 수 있는) 집합을 캐시에 남기지 않기 위해 사용한다.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Autowired
+    public WorkspaceAccessCache(WorkspaceRepository workspaceRepository,
+                                StringRedisTemplate stringRedisTemplate,
+                                @Value("${workspace.access-cache.ttl-ms:60000}") long ttlMs,
+                                @Value("${workspace.access-cache.max-users:10000}") int maxUsers) {
+        this(workspaceRepository, stringRedisTemplate, ttlMs, maxUsers, Clock.systemDefaultZone());
+    }
+
+    WorkspaceAccessCache(WorkspaceRepository workspaceRepository, StringRedisTemplate stringRedisTemplate,
+                         long ttlMs, int maxUsers, Clock clock) {
+        this.workspaceRepository = workspaceRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.maxUsers = maxUsers;
+        this.clock = clock;
+    }
+
+    /**
+     * 사용자가 워크스페이스를 소유하고 있는지 캐시된 집합으로 확인합니다.
+     * 사용자의 항목이 없거나 만료되었으면 DB에서 소유 워크스페이스 ID를 읽어 채웁니다.
+     *
+     * @return 소유 집합에 포함되어 있으면 true, 방금 DB에서 읽은 집합에 없으면 false.
+     *         캐시된 집합에 없어 그 사이 생성되었을 수 있거나 캐시를 사용하지 않으면 빈 값 (호출 측에서 DB로 확인)
+     */
+    public Optional<Boolean> findOwnership(Integer userId, Integer workspaceId) {
+        if (ttl.isZero()) {
+            return Optional.empty();
+        }
+        Instant now = clock.instant();
+        OwnedWorkspaces owned = ownedByUser.get(userId);
+        if (owned != null && !now.isBefore(owned.expiresAt())) {
+            ownedByUser.remove(userId, owned);
+            owned = null;
+        }
+        if (owned == null) {
+            misses.increment();
+            return Optional.of(load(userId, now).workspaceIds().contains(workspaceId));
+        }
+        hits.increment();
+        return owned.workspaceIds().contains(workspaceId) ? Optional.of(true) : Optional.empty();
+    }
+
+    /**
+     * 사용자의 항목을 제거합니다. 다음 검증에서 DB로부터 다시 채워집니다.
+     */
+    public void evictUser(Integer userId) {
+        generation.incrementAndGet();
+        ownedByUser.remove(userId);
+    }
+
+    /**
+     * 워크스페이스 생성/수정/삭제가 커밋되면 소유자의 항목을 제거하고 다른 인스턴스에도 알립니다.
+     * 삭제된 워크스페이스는 이 시점부터 바로 접근할 수 없습니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWorkspaceChanged(WorkspaceChangedEvent event) {
+        evictUser(event.userId());
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(event.userId()));
+        } catch (DataAccessException e) {
+            log.warn("워크스페이스 접근 캐시 무효화 발행 실패, 다른 인스턴스는 TTL 이후 갱신됩니다: userId={}, error={}",
+                    event.userId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스(또는 자신)가 발행한 무효화 메시지를 받아 사용자의 항목을 제거합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evictUser(Integer.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 워크스페이스 접근 캐시 무효화 메시지: {}", body);
+        }
+    }
+
+    /**
+     * 지금까지의 캐시 적중/미스 횟수를 반환합니다.
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), ownedByUser.size());
+    }
+
+    /**
+     * 주기적으로 캐시 적중률을 기록합니다.
+     */
+    @Scheduled(
+            fixedDelayString = "${workspace.access-cache.stats-log-interval-ms:300000}",
+            initialDelayString = "${workspace.access-cache.stats-log-interval-ms:300000}")
+    public void logStats() {
+        Stats stats = stats();
+        if (stats.hits() + stats.misses() == 0) {
+            return;
+        }
+        log.info("워크스페이스 접근 캐시: 적중 {}회, 미스 {}회, 적중률 {}%, 사용자 {}명",
+                stats.hits(), stats.misses(), String.format("%.1f", stats.hitRatio() * 100), stats.cachedUsers());
+    }
+
+    private OwnedWorkspaces load(Integer userId, Instant now) {
+        long seen = generation.get();
+        OwnedWorkspaces loaded = new OwnedWorkspaces(
+                Set.copyOf(workspaceRepository.findWorkspaceIdsByUser_UserId(userId)), now.plus(ttl));
+
+        if (ownedByUser.size() >= maxUsers) {
+            ownedByUser.values().removeIf(entry -> !now.isBefore(entry.expiresAt()));
+            if (ownedByUser.size() >= maxUsers) {
+                // 만료된 항목을 지워도 가득 차 있으면 전체를 비운다 (다음 검증부터 DB에서 다시 채워짐)
+                ownedByUser.clear();
+            }
+        }
+        ownedByUser.put(userId, loaded);
+        if (generation.get() != seen) {
+            // 조회와 저장 사이에 무효화가 있었다면 이전 상태일 수 있으므로 남기지 않는다
+            ownedByUser.remove(userId, loaded);
+        }
+        return loaded;
+    }
+
+    private record OwnedWorkspaces(Set<Integer> workspaceIds, Instant expiresAt) {
+    }
+
+    /**
+     * 캐시 적중 통계
+     *
+     * @param hits        캐시된 집합으로 응답한 횟수
+     * @param misses      DB에서 집합을 읽어 온 횟수
+     * @param cachedUsers 현재 캐시된 사용자 수
+     */
+    public record Stats(long hits, long misses, int cachedUsers) {
+
+        @JsonProperty("hitRatio")
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+}
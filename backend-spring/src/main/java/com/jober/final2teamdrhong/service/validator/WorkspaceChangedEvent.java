@@ -0,0 +1,24 @@
+package com.jober.final2teamdrhong.service.validator;
+
+/**
+ * 워크스페이스가 생성/수정/삭제되었음을 알리는 이벤트
+ * 커밋 이후 워크스페이스 접근 캐시에서 소유자의 항목을 무효화하는 데 사용된다.
+ */
+public record WorkspaceChangedEvent(Integer workspaceId, Integer userId, Type type) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static WorkspaceChangedEvent created(Integer workspaceId, Integer userId) {
+        return new WorkspaceChangedEvent(workspaceId, userId, Type.CREATED);
+    }
+
+    public static WorkspaceChangedEvent updated(Integer workspaceId, Integer userId) {
+        return new WorkspaceChangedEvent(workspaceId, userId, Type.UPDATED);
+    }
+
+    public static WorkspaceChangedEvent deleted(Integer workspaceId, Integer userId) {
+        return new WorkspaceChangedEvent(workspaceId, userId, Type.DELETED);
+    }
+}
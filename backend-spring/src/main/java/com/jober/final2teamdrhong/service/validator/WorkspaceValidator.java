@@ -7,12 +7,15 @@ import com.jober.final2teamdrhong.repository.WorkspaceRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 @Component
 @RequiredArgsConstructor
 public class WorkspaceValidator {
 
     private final WorkspaceRepository workspaceRepository;
     private final IndividualTemplateRepository individualTemplateRepository;
+    private final WorkspaceAccessCache workspaceAccessCache;
 
     /**
      * 워크스페이스 '생성' 시 URL이 중복되는지 검증합니다.
@@ -29,15 +32,67 @@ public class WorkspaceValidator {
     /**
      * 워크스페이스의 존재 여부와 사용자의 접근 권한을 검증합니다.
      * 검증에 성공하면 워크스페이스 엔티티를 반환하고, 실패하면 예외를 발생시킵니다.
+     * <p>
+     * 사용자의 소유 워크스페이스 캐시에 포함되어 있으면 DB를 조회하지 않고 지연 로딩 참조를 반환합니다.
+     * (삭제는 커밋 시 모든 인스턴스의 캐시에서 제거되므로 캐시된 워크스페이스는 살아 있다고 봅니다)
+     * 방금 DB에서 읽은 소유 집합에 없으면 바로 거부하고, 캐시된 집합에 없으면 그 사이 생성되었을 수 있으므로
+     * DB로 다시 확인합니다. 이때 소유 관계가 확인되면 캐시가 오래된 것이므로 사용자의 항목을 비웁니다.
      *
      * @param workspaceId 검증할 워크스페이스의 ID
      * @param userId      접근을 시도하는 사용자의 ID
-     * @return 검증에 성공한 Workspace 엔티티
+     * @return 검증에 성공한 Workspace 엔티티 (캐시 적중 시 지연 로딩 참조)
      * @throws IllegalArgumentException 워크스페이스가 존재하지 않거나 사용자에게 접근 권한이 없을 경우
      */
     public Workspace validateAndGetWorkspace(Integer workspaceId, Integer userId) {
-        return workspaceRepository.findByWorkspaceIdAndUser_UserId(workspaceId, userId)
+        Optional<Boolean> cached = workspaceAccessCache.findOwnership(userId, workspaceId);
+        if (cached.isPresent()) {
+            if (!cached.get()) {
+                throw new IllegalArgumentException("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: " + workspaceId);
+            }
+            return workspaceRepository.getReferenceById(workspaceId);
+        }
+        Workspace workspace = workspaceRepository.findByWorkspaceIdAndUser_UserId(workspaceId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: " + workspaceId));
+        workspaceAccessCache.evictUser(userId);
+        return workspace;
+    }
+
+    /**
+     * 사용자가 소유한 워크스페이스에 특정 개인 템플릿이 속해 있는지 한 번의 조인 쿼리로 검증합니다.
+     * <p>
+     * {@link #validateAndGetWorkspace}와 {@link #validateTemplateOwnership}를 차례로 호출하는 것과 같지만,
+     * 성공 시 조회가 한 번이며 템플릿의 워크스페이스도 함께 로딩됩니다.
+     * 실패 시에는 원인에 맞는 메시지를 위해 워크스페이스 권한을 한 번 더 확인합니다.
+     *
+     * @param workspaceId          검증의 기준이 되는 워크스페이스 ID
+     * @param individualTemplateId 검증할 개인 템플릿 ID
+     * @param userId               접근을 시도하는 사용자의 ID
+     * @return 검증에 성공한 IndividualTemplate 엔티티
+     * @throws IllegalArgumentException 워크스페이스 접근 권한이 없거나 템플릿이 워크스페이스에 속해있지 않을 경우
+     */
+    public IndividualTemplate validateTemplateAccess(Integer workspaceId, Integer individualTemplateId, Integer userId) {
+        return confirmAccess(
+                individualTemplateRepository.findAccessibleTemplate(individualTemplateId, workspaceId, userId),
+                workspaceId, userId, "해당 워크스페이스에 존재하지 않는 템플릿입니다.");
+    }
+
+    /**
+     * 워크스페이스 소유자 조건이 포함된 조회 결과를 검증합니다.
+     * 결과가 있으면 그대로 반환하고, 없으면 워크스페이스 권한 문제인지 확인한 뒤 예외를 발생시킵니다.
+     *
+     * @param found           워크스페이스 소유자 조건으로 조회한 결과
+     * @param workspaceId     검증의 기준이 되는 워크스페이스 ID
+     * @param userId          접근을 시도하는 사용자의 ID
+     * @param notFoundMessage 워크스페이스 권한은 있지만 대상이 없을 때의 예외 메시지
+     * @return 조회된 엔티티
+     * @throws IllegalArgumentException 워크스페이스 접근 권한이 없거나 대상이 워크스페이스에 속해있지 않을 경우
+     */
+    public <T> T confirmAccess(Optional<T> found, Integer workspaceId, Integer userId, String notFoundMessage) {
+        if (found.isPresent()) {
+            return found.get();
+        }
+        validateAndGetWorkspace(workspaceId, userId);
+        throw new IllegalArgumentException(notFoundMessage);
     }
 
     /**
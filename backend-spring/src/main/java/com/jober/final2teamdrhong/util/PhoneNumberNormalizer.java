@@ -0,0 +1,92 @@
+package com.jober.final2teamdrhong.util;
+
+/**
+ * 전화번호 정규화 유틸리티 클래스
+ * 하이픈, 공백, 괄호, 국가번호(+82) 등 다양한 입력 형식을 국내 표기(010-1234-5678, 02-123-4567)로 통일
+ * 중복 판단과 인덱스 조회에는 표기와 무관한 E.164 형식(+821012345678)을 사용
+ */
+public class PhoneNumberNormalizer {
+
+    /**
+     * 뒤집은 번호의 최대 길이 (recipient_phone_reversed 컬럼 길이)
+     */
+    public static final int MAX_REVERSED_LENGTH = 20;
+
+    private PhoneNumberNormalizer() {
+    }
+
+    /**
+     * 전화번호를 하이픈이 포함된 국내 표기로 정규화합니다.
+     * 예: +82 10-1234-5678 → 010-1234-5678, 0212345678 → 02-1234-5678
+     * 엑셀 숫자 셀에서 앞자리 0이 빠진 휴대폰 번호(1012345678)도 복원합니다.
+     *
+     * @param phoneNumber 정규화할 전화번호
+     * @return 정규화된 전화번호. 전화번호로 볼 수 없으면 null
+     */
+    public static String normalize(String phoneNumber) {
+        if (phoneNumber == null) {
+            return null;
+        }
+        String digits = phoneNumber.replaceAll("\\D", "");
+        if (phoneNumber.strip().startsWith("+")) {
+            if (!digits.startsWith("82")) {
+                return null;
+            }
+            digits = "0" + digits.substring(2);
+        } else if (digits.startsWith("1") && digits.length() == 10 && digits.charAt(1) == '0') {
+            digits = "0" + digits;
+        }
+
+        if (digits.startsWith("02")) {
+            return switch (digits.length()) {
+                case 9 -> format(digits, 2, 5);
+                case 10 -> format(digits, 2, 6);
+                default -> null;
+            };
+        }
+        if (!digits.startsWith("0")) {
+            return null;
+        }
+        return switch (digits.length()) {
+            case 10 -> format(digits, 3, 6);
+            case 11 -> format(digits, 3, 7);
+            default -> null;
+        };
+    }
+
+    /**
+     * 전화번호를 E.164 형식(+국가번호와 숫자만)으로 정규화합니다.
+     * 예: 010-1234-5678, 01012345678, +82 10 1234 5678 → +821012345678
+     * 같은 번호의 여러 표기가 하나의 값이 되므로 수신자 중복 판단의 기준으로 사용합니다.
+     *
+     * @param phoneNumber 정규화할 전화번호
+     * @return E.164 형식의 전화번호. 전화번호로 볼 수 없으면 null
+     */
+    public static String toE164(String phoneNumber) {
+        String normalized = normalize(phoneNumber);
+        if (normalized == null) {
+            return null;
+        }
+        return "+82" + normalized.replace("-", "").substring(1);
+    }
+
+    /**
+     * 전화번호의 숫자만 뒤집은 값을 반환합니다. 전화번호 뒷자리 검색을 접두사 검색으로 바꾸는 데 사용합니다.
+     * 예: 010-1234-5678 → 87654321010 (뒷자리 5678 검색은 8765로 시작하는 값을 찾음)
+     * 뒷자리가 보존되도록 뒤집은 뒤 최대 {@value #MAX_REVERSED_LENGTH}자리까지만 남깁니다.
+     *
+     * @param phoneNumber 뒤집을 전화번호
+     * @return 숫자를 뒤집은 값. 입력이 null이면 null
+     */
+    public static String toReversedDigits(String phoneNumber) {
+        if (phoneNumber == null) {
+            return null;
+        }
+        String reversed = new StringBuilder(phoneNumber.replaceAll("\\D", "")).reverse().toString();
+        return reversed.length() > MAX_REVERSED_LENGTH ? reversed.substring(0, MAX_REVERSED_LENGTH) : reversed;
+    }
+
+    private static String format(String digits, int first, int second) {
+        return digits.substring(0, first) + "-" + digits.substring(first, second) + "-" + digits.substring(second);
+    }
+}
@@ -0,0 +1,82 @@
+package com.jober.final2teamdrhong.util;
+
+import com.jober.final2teamdrhong.config.AuthProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 인증 코드(OTP) 생성기
+ * 애플리케이션 시작 시 시드된 SecureRandom 풀을 재사용하여 요청마다 SecureRandom을 생성하지 않음
+ * 가상 스레드는 요청마다 새로 만들어지므로 ThreadLocal 대신 스트라이프 풀로 경합을 분산
+ */
+@Component
+@Slf4j
+public class VerificationCodeGenerator {
+
+    private final SecureRandom[] randoms;
+    private final int defaultLength;
+    private final String defaultAlphabet;
+
+    @Autowired
+    public VerificationCodeGenerator(AuthProperties authProperties) {
+        this(authProperties.getVerificationCode().getLength(),
+                authProperties.getVerificationCode().getAlphabet(),
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    VerificationCodeGenerator(int defaultLength, String defaultAlphabet, int poolSize) {
+        validate(defaultLength, defaultAlphabet);
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("SecureRandom 풀 크기는 1 이상이어야 합니다.");
+        }
+        this.defaultLength = defaultLength;
+        this.defaultAlphabet = defaultAlphabet;
+        this.randoms = new SecureRandom[poolSize];
+        for (int i = 0; i < poolSize; i++) {
+            SecureRandom random = new SecureRandom();
+            // 첫 호출 시 발생하는 시드 초기화를 기동 시점에 미리 수행
+            random.nextInt();
+            randoms[i] = random;
+        }
+        log.info("인증 코드 생성기 초기화 완료: poolSize={}, length={}", poolSize, defaultLength);
+    }
+
+    /**
+     * 설정된 기본 길이와 문자 집합으로 인증 코드 생성
+     */
+    public String generate() {
+        return generate(defaultLength, defaultAlphabet);
+    }
+
+    /**
+     * 지정한 길이와 문자 집합으로 인증 코드 생성
+     * 각 자리는 문자 집합에서 균등하게 선택됨
+     *
+     * @param length 코드 길이
+     * @param alphabet 사용할 문자 집합
+     * @return 생성된 인증 코드
+     */
+    public String generate(int length, String alphabet) {
+        validate(length, alphabet);
+
+        SecureRandom random = randoms[ThreadLocalRandom.current().nextInt(randoms.length)];
+        char[] code = new char[length];
+        for (int i = 0; i < length; i++) {
+            code[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+        }
+        return new String(code);
+    }
+
+    private static void validate(int length, String alphabet) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("인증 코드 길이는 1 이상이어야 합니다.");
+        }
+        if (alphabet == null || alphabet.length() < 2) {
+            throw new IllegalArgumentException("인증 코드 문자 집합은 2자 이상이어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+-- 공용 템플릿 FULLTEXT(ngram) 검색 인덱스 (한 번만 실행)
+--
+-- 애플리케이션은 기동 시 이 인덱스가 모두 있는지만 확인하고, 없으면 LIKE 검색을 사용합니다.
+-- MATCH(...)의 컬럼 목록이 인덱스와 정확히 일치해야 하므로 검색 대상(TITLE/CONTENT/ALL)마다 인덱스를 둡니다.
+--
+-- 주의
+-- - 테이블의 첫 FULLTEXT 인덱스는 테이블을 재구성하며 그동안 public_template 쓰기가 막힙니다.
+--   사용량이 적은 시간에 실행하거나 pt-online-schema-change 등 온라인 스키마 변경 도구로 적용하세요.
+-- - InnoDB는 FULLTEXT 인덱스를 한 문장에 하나씩만 추가할 수 있어 문장을 나눕니다.
+-- - 검색 대상별 인덱스 이름과 컬럼은 PublicTemplateFullTextSchema와 같아야 합니다.
+
+ALTER TABLE public_template
+    ADD FULLTEXT INDEX ft_public_template_title (public_template_title) WITH PARSER ngram;
+
+ALTER TABLE public_template
+    ADD FULLTEXT INDEX ft_public_template_content (public_template_content) WITH PARSER ngram;
+
+ALTER TABLE public_template
+    ADD FULLTEXT INDEX ft_public_template_title_content (public_template_title, public_template_content) WITH PARSER ngram;
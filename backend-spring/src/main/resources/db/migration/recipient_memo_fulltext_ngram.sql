@@ -0,0 +1,11 @@
+-- 수신자 메모 FULLTEXT(ngram) 검색 인덱스 (한 번만 실행)
+--
+-- 애플리케이션은 기동 시 이 인덱스가 있는지만 확인하고, 없으면 메모를 LIKE로 검색합니다.
+--
+-- 주의
+-- - 테이블의 첫 FULLTEXT 인덱스는 테이블을 재구성하며 그동안 recipient 쓰기(수신자 생성/수정/가져오기)가 막힙니다.
+--   사용량이 적은 시간에 실행하거나 pt-online-schema-change 등 온라인 스키마 변경 도구로 적용하세요.
+-- - 인덱스 이름과 컬럼은 RecipientFullTextSchema와 같아야 합니다.
+
+ALTER TABLE recipient
+    ADD FULLTEXT INDEX ft_recipient_memo (recipient_memo) WITH PARSER ngram;
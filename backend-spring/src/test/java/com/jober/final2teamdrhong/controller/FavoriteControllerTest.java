@@ -232,6 +232,7 @@ class FavoriteControllerTest {
                 .andExpect(jsonPath("$.content").isArray())
                 .andExpect(jsonPath("$.content.length()").value(1))
                 .andExpect(jsonPath("$.content[0].templateType").value("PUBLIC"))
+                .andExpect(jsonPath("$.content[0].contentPreview").value("테스트 내용입니다."))
                 .andExpect(jsonPath("$.totalElements").value(1));
     }
 
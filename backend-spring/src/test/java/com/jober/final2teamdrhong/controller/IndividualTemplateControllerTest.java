@@ -1,11 +1,17 @@
 package com.jober.final2teamdrhong.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jober.final2teamdrhong.dto.common.CursorPageResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateCursorRequest;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateDetailResponse;
 import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplatePageableRequest;
 import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateSummaryResponse;
 import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateUpdateRequest;
+import com.jober.final2teamdrhong.dto.individualtemplate.SourcePublicTemplateStats;
 import com.jober.final2teamdrhong.entity.IndividualTemplate;
 import com.jober.final2teamdrhong.entity.Workspace;
+import com.jober.final2teamdrhong.service.IndividualTemplateDetailService;
 import com.jober.final2teamdrhong.service.IndividualTemplateService;
 import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
 import com.jober.final2teamdrhong.util.test.WithMockJwtClaims;
@@ -19,6 +25,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -48,6 +55,9 @@ class IndividualTemplateControllerTest {
     @MockitoBean
     private WorkspaceValidator workspaceValidator;
 
+    @MockitoBean
+    private IndividualTemplateDetailService individualTemplateDetailService;
+
 
     private IndividualTemplateResponse makeResponse(
             Integer id,
@@ -72,6 +82,20 @@ class IndividualTemplateControllerTest {
         );
     }
 
+    private IndividualTemplateSummaryResponse makeSummary(Integer id, String title, Integer workspaceId) {
+        LocalDateTime now = LocalDateTime.now();
+        return new IndividualTemplateSummaryResponse(
+                id,
+                title,
+                null,
+                null,
+                workspaceId,
+                now.minusMinutes(1),
+                now,
+                IndividualTemplate.Status.DRAFT
+        );
+    }
+
     // ============================
     // CREATE
     // ============================
@@ -111,8 +135,12 @@ class IndividualTemplateControllerTest {
         given(individualTemplateService.createTemplateAsync(workspaceId, userId))
                 .willReturn(CompletableFuture.completedFuture(expected));
 
-        mockMvc.perform(post("/templates/{workspaceId}/async", workspaceId)
+        MvcResult asyncResult = mockMvc.perform(post("/templates/{workspaceId}/async", workspaceId)
                         .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.individualTemplateId").value(2))
                 .andExpect(jsonPath("$.workspaceId").value(workspaceId));
@@ -148,7 +176,11 @@ class IndividualTemplateControllerTest {
         given(individualTemplateService.createIndividualTemplateFromPublicAsync(20, 44, 1))
                 .willReturn(CompletableFuture.completedFuture(expected));
 
-        mockMvc.perform(post("/templates/{workspaceId}/from-public/{publicTemplateId}/async", 44, 20))
+        MvcResult asyncResult = mockMvc.perform(post("/templates/{workspaceId}/from-public/{publicTemplateId}/async", 44, 20))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.individualTemplateId").value(4))
                 .andExpect(jsonPath("$.workspaceId").value(44));
@@ -171,8 +203,7 @@ class IndividualTemplateControllerTest {
                 .willReturn(mock(Workspace.class));
 
         // service mock 설정
-        IndividualTemplateResponse row =
-                makeResponse(1, "Test", null, null, workspaceId, false, IndividualTemplate.Status.DRAFT);
+        IndividualTemplateSummaryResponse row = makeSummary(1, "Test", workspaceId);
 
         given(individualTemplateService.getAllTemplates(eq(workspaceId), eq(1), any(IndividualTemplatePageableRequest.class)))
                 .willReturn(new PageImpl<>(List.of(row), PageRequest.of(0, 10), 1));
@@ -194,19 +225,42 @@ class IndividualTemplateControllerTest {
     @DisplayName("전체 템플릿 비동기 조회 성공")
     void getAllTemplatesAsync_success() throws Exception {
         Integer workspaceId = 2;
-        IndividualTemplateResponse row = makeResponse(
-                2, "AsyncTest", null, null, workspaceId, false, IndividualTemplate.Status.DRAFT);
+        IndividualTemplateSummaryResponse row = makeSummary(2, "AsyncTest", workspaceId);
 
         given(individualTemplateService.getAllTemplatesAsync(
                 eq(workspaceId), eq(1), any(IndividualTemplatePageableRequest.class)))
                 .willReturn(CompletableFuture.completedFuture(
                         new PageImpl<>(List.of(row), PageRequest.of(0, 10), 1)));
 
-        mockMvc.perform(get("/{workspaceId}/templates/async", workspaceId))
+        MvcResult asyncResult = mockMvc.perform(get("/{workspaceId}/templates/async", workspaceId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content[0].workspaceId").value(workspaceId));
     }
 
+    @Test
+    @WithMockJwtClaims
+    @DisplayName("커서 기반 템플릿 조회 성공")
+    void getTemplatesByCursor_success() throws Exception {
+        Integer workspaceId = 3;
+        IndividualTemplateSummaryResponse row = makeSummary(3, "CursorTest", workspaceId);
+
+        given(individualTemplateService.getTemplatesByCursor(
+                eq(workspaceId), eq(1), any(IndividualTemplateCursorRequest.class)))
+                .willReturn(new CursorPageResponse<>(List.of(row), "next-cursor", true, 1));
+
+        mockMvc.perform(get("/{workspaceId}/templates/cursor", workspaceId)
+                        .param("size", "1")
+                        .param("sortType", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].individualTemplateId").value(3))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
     @Test
     @WithMockJwtClaims
     @DisplayName("단일 템플릿 조회 성공")
@@ -234,7 +288,11 @@ class IndividualTemplateControllerTest {
         given(individualTemplateService.getIndividualTemplateAsync(workspaceId, 1, templateId))
                 .willReturn(CompletableFuture.completedFuture(response));
 
-        mockMvc.perform(get("/{workspaceId}/templates/{id}/async", workspaceId, templateId))
+        MvcResult asyncResult = mockMvc.perform(get("/{workspaceId}/templates/{id}/async", workspaceId, templateId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.individualTemplateId").value(templateId))
                 .andExpect(jsonPath("$.status").value("APPROVED"));
@@ -242,6 +300,44 @@ class IndividualTemplateControllerTest {
         verify(individualTemplateService).getIndividualTemplateAsync(workspaceId, 1, templateId);
     }
 
+    @Test
+    @WithMockJwtClaims
+    @DisplayName("템플릿 상세 화면 조회 성공")
+    void getTemplateDetail_success() throws Exception {
+        Integer workspaceId = 9, templateId = 13;
+        IndividualTemplateResponse template = makeResponse(templateId, "detail", "c", null, workspaceId, false, IndividualTemplate.Status.DRAFT);
+
+        given(individualTemplateDetailService.getTemplateDetail(workspaceId, 1, templateId))
+                .willReturn(new IndividualTemplateDetailResponse(
+                        template, List.of(), true, new SourcePublicTemplateStats(5, "공용", 120, 8)));
+
+        mockMvc.perform(get("/{workspaceId}/templates/{id}/detail", workspaceId, templateId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.template.individualTemplateId").value(templateId))
+                .andExpect(jsonPath("$.favorite").value(true))
+                .andExpect(jsonPath("$.sourcePublicTemplate.viewCount").value(120));
+
+        verify(individualTemplateDetailService).getTemplateDetail(workspaceId, 1, templateId);
+    }
+
+    @Test
+    @WithMockJwtClaims
+    @DisplayName("단일 템플릿 비동기 조회 실패 - 비동기 작업의 예외는 400으로 응답")
+    void getTemplateAsync_failure() throws Exception {
+        Integer workspaceId = 8, templateId = 12;
+
+        given(individualTemplateService.getIndividualTemplateAsync(workspaceId, 1, templateId))
+                .willReturn(CompletableFuture.failedFuture(
+                        new IllegalArgumentException("해당 워크스페이스에 존재하지 않는 템플릿입니다.")));
+
+        MvcResult asyncResult = mockMvc.perform(get("/{workspaceId}/templates/{id}/async", workspaceId, templateId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isBadRequest());
+    }
+
     // ============================
     // DELETE
     // ============================
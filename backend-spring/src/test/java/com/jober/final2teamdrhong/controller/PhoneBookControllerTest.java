@@ -19,17 +19,20 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -216,6 +219,31 @@ class PhoneBookControllerTest {
         resultActions.andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("주소록 수신자 CSV 내보내기 타임아웃 테스트 - 스트리밍 응답은 내보내기 전용 타임아웃을 사용")
+    @WithMockJwtClaims(userId = 1)
+    void exportRecipientsInPhoneBook_StreamingTimeout_Test() throws Exception {
+        // given
+        PhoneBook phoneBook = phoneBookRepository.save(PhoneBook.builder()
+                .phoneBookName("테스트 주소록")
+                .workspace(testWorkspace)
+                .build());
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(
+                get("/workspaces/{workspaceId}/phonebooks/{phoneBookId}/recipients/export",
+                        testWorkspace.getWorkspaceId(), phoneBook.getPhoneBookId())
+        )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        // 1. 비동기 요청 타임아웃이 streaming-response.request-timeout-ms 기본값(30분)으로 지정되어야 합니다.
+        assertThat(mvcResult.getRequest().getAsyncContext().getTimeout()).isEqualTo(1_800_000L);
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+    }
+
     @Test
     @DisplayName("주소록에 수신자 일괄 추가 성공 테스트")
     @WithMockJwtClaims(userId = 1)
@@ -298,6 +326,56 @@ class PhoneBookControllerTest {
         resultActions.andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("주소록 수신자 비동기 추가 작업 접수 실패 테스트 - 존재하지 않는 주소록")
+    @WithMockJwtClaims(userId = 1)
+    void startAddRecipientsJob_Fail_PhoneBookNotFound_Test() throws Exception {
+        // given
+        // 1. 존재하지 않는 주소록 ID와 요청 본문을 준비합니다.
+        Integer nonExistentPhoneBookId = 999;
+        PhoneBookRequest.RecipientIdListDTO requestDTO = new PhoneBookRequest.RecipientIdListDTO(
+                List.of(recipient1.getRecipientId())
+        );
+        String requestBody = objectMapper.writeValueAsString(requestDTO);
+
+        // when
+        // 1. 존재하지 않는 주소록으로 작업 접수 API를 호출합니다.
+        ResultActions resultActions = mockMvc.perform(
+                post("/workspaces/{workspaceId}/phonebooks/{phoneBookId}/recipients/jobs",
+                        testWorkspace.getWorkspaceId(), nonExistentPhoneBookId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody)
+        );
+
+        // then
+        // 1. 접수 시점의 권한 검증에서 예외가 발생하여 400 Bad Request가 반환되는지 확인합니다.
+        resultActions.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("주소록 수신자 비동기 추가 작업 조회 실패 테스트 - 존재하지 않는 작업")
+    @WithMockJwtClaims(userId = 1)
+    void getAddRecipientsJob_Fail_JobNotFound_Test() throws Exception {
+        // given
+        // 1. 테스트용 주소록을 생성합니다.
+        PhoneBook phoneBook = PhoneBook.builder()
+                .phoneBookName("테스트 주소록")
+                .workspace(testWorkspace)
+                .build();
+        phoneBookRepository.save(phoneBook);
+
+        // when
+        // 1. 접수된 적 없는 작업 ID로 조회 API를 호출합니다.
+        ResultActions resultActions = mockMvc.perform(
+                get("/workspaces/{workspaceId}/phonebooks/{phoneBookId}/recipients/jobs/{jobId}",
+                        testWorkspace.getWorkspaceId(), phoneBook.getPhoneBookId(), "unknown-job")
+        );
+
+        // then
+        // 1. 400 Bad Request가 반환되는지 확인합니다.
+        resultActions.andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("워크스페이스별 주소록 목록 조회 성공 테스트")
     @WithMockJwtClaims(userId = 1)
@@ -336,7 +414,10 @@ class PhoneBookControllerTest {
                 // 1-4. 첫 번째 주소록의 이름이 예상과 일치하는지 확인합니다.
                 .andExpect(jsonPath("$[0].phoneBookName").value("영업팀 주소록"))
                 // 1-5. 두 번째 주소록의 이름이 예상과 일치하는지 확인합니다.
-                .andExpect(jsonPath("$[1].phoneBookName").value("개발팀 주소록"));
+                .andExpect(jsonPath("$[1].phoneBookName").value("개발팀 주소록"))
+                // 1-6. 수신자가 없는 주소록의 수신자 수는 0으로 집계됩니다.
+                .andExpect(jsonPath("$[0].recipientCount").value(0))
+                .andExpect(jsonPath("$[1].recipientCount").value(0));
     }
 
     @Test
@@ -408,6 +489,62 @@ class PhoneBookControllerTest {
                 .andExpect(jsonPath("$.content[0].recipientPhoneNumber").exists());
     }
 
+    @Test
+    @DisplayName("주소록별 수신자 목록 커서 조회 성공 테스트")
+    @WithMockJwtClaims(userId = 1)
+    void readRecipientsInPhoneBookByCursor_Success_Test() throws Exception {
+        // given
+        // 1. 테스트용 주소록에 수신자 두 명을 추가합니다.
+        PhoneBook phoneBook = PhoneBook.builder()
+                .phoneBookName("테스트 주소록")
+                .workspace(testWorkspace)
+                .build();
+        phoneBookRepository.save(phoneBook);
+        entityManager.persist(GroupMapping.builder().phoneBook(phoneBook).recipient(recipient1).build());
+        entityManager.persist(GroupMapping.builder().phoneBook(phoneBook).recipient(recipient2).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        // 1. 페이지 크기 1로 첫 페이지를 조회합니다.
+        ResultActions resultActions = mockMvc.perform(
+                get("/workspaces/{workspaceId}/phonebooks/{phoneBookId}/recipients/cursor",
+                        testWorkspace.getWorkspaceId(), phoneBook.getPhoneBookId())
+                        .param("size", "1")
+        );
+
+        // then
+        // 1. 한 명만 반환되고, 다음 페이지 커서가 포함되어 있는지 확인합니다.
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].recipientName").exists())
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andExpect(jsonPath("$.size").value(1));
+    }
+
+    @Test
+    @DisplayName("주소록별 수신자 목록 커서 조회 실패 테스트 - 유효하지 않은 커서")
+    @WithMockJwtClaims(userId = 1)
+    void readRecipientsInPhoneBookByCursor_Fail_InvalidCursor_Test() throws Exception {
+        // given
+        PhoneBook phoneBook = phoneBookRepository.save(PhoneBook.builder()
+                .phoneBookName("테스트 주소록")
+                .workspace(testWorkspace)
+                .build());
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                get("/workspaces/{workspaceId}/phonebooks/{phoneBookId}/recipients/cursor",
+                        testWorkspace.getWorkspaceId(), phoneBook.getPhoneBookId())
+                        .param("cursor", "not-a-cursor")
+        );
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("주소록별 수신자 목록 페이징 조회 실패 테스트 - 존재하지 않는 주소록")
     @WithMockJwtClaims(userId = 1)
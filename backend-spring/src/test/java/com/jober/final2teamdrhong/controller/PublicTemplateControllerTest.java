@@ -12,9 +12,11 @@ import org.springframework.http.MediaType;
 
 import com.jober.final2teamdrhong.entity.PublicTemplate;
 import com.jober.final2teamdrhong.repository.PublicTemplateRepository;
+import com.jober.final2teamdrhong.service.counter.PublicTemplateCounter;
 
 import java.time.LocalDateTime;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -35,6 +37,9 @@ class PublicTemplateControllerTest {
     @Autowired
     private IndividualTemplateRepository individualTemplateRepository;
 
+    @Autowired
+    private PublicTemplateCounter publicTemplateCounter;
+
     @BeforeEach
     void setUp() {
         // 매 테스트마다 DB 초기화
@@ -112,6 +117,36 @@ class PublicTemplateControllerTest {
                     .value(org.hamcrest.Matchers.containsInAnyOrder("가나다", "나다라", "다라마", "라마바")));
     }
 
+    @Test
+    @DisplayName("공용 템플릿 단건 조회 시 조회수가 누적되었다가 반영되어야 함")
+    void testGetPublicTemplate_recordsView() throws Exception {
+        PublicTemplate target = repository.findAll().stream()
+                .filter(t -> "가나다".equals(t.getPublicTemplateTitle()))
+                .findFirst()
+                .orElseThrow();
+
+        mockMvc.perform(get("/public-templates/{id}", target.getPublicTemplateId())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.publicTemplateTitle").value("가나다"))
+                .andExpect(jsonPath("$.publicTemplateContent").value("Content1"));
+        mockMvc.perform(get("/public-templates/{id}", target.getPublicTemplateId())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        publicTemplateCounter.flush();
+
+        assertThat(repository.findById(target.getPublicTemplateId()).orElseThrow().getViewCount()).isEqualTo(22);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 공용 템플릿 단건 조회 - 400 에러 반환")
+    void testGetPublicTemplate_notFound() throws Exception {
+        mockMvc.perform(get("/public-templates/{id}", 999999)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("공유순 정렬 API 테스트")
     void testGetTemplatesByShareCount() throws Exception {
@@ -16,15 +16,25 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.hamcrest.Matchers.*;
 
@@ -224,6 +234,117 @@ class RecipientControllerTest {
         resultActions.andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("수신자 생성 실패 테스트 - 표기만 다른 같은 번호의 수신자 존재")
+    @WithMockJwtClaims(userId = 1)
+    void createRecipient_Fail_DuplicateRecipient_DifferentFormat_Test() throws Exception {
+        // given
+        // 1. DB에 하이픈이 포함된 번호로 기존 수신자를 미리 저장합니다.
+        recipientRepository.save(Recipient.builder()
+                .recipientName("김철수")
+                .recipientPhoneNumber("010-1111-1111")
+                .workspace(testWorkspace)
+                .build());
+
+        // 2. 같은 이름에 국가번호 형식의 같은 번호로 수신자 생성을 시도하는 DTO를 준비합니다.
+        RecipientRequest.CreateDTO createDTO = new RecipientRequest.CreateDTO(
+                "김철수",
+                "+82 10 1111 1111",
+                null
+        );
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                post("/workspaces/" + testWorkspace.getWorkspaceId() + "/recipients")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDTO))
+        );
+
+        // then
+        // 1. E.164 형식으로 비교하므로 중복으로 판단되어 400 Bad Request가 반환되는지 확인합니다.
+        resultActions
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("해당 워크스페이스에 동일한 이름과 번호의 수신자가 이미 존재합니다."));
+    }
+
+    @Test
+    @DisplayName("수신자 생성 실패 테스트 - 전화번호 형식 오류")
+    @WithMockJwtClaims(userId = 1)
+    void createRecipient_Fail_InvalidPhoneNumber_Test() throws Exception {
+        // given
+        RecipientRequest.CreateDTO createDTO = new RecipientRequest.CreateDTO("김철수", "12345", null);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                post("/workspaces/" + testWorkspace.getWorkspaceId() + "/recipients")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDTO))
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("전화번호 형식이 올바르지 않습니다."));
+    }
+
+    @Test
+    @DisplayName("전화번호 일괄 중복 확인 성공 테스트 - 표기가 달라도 같은 번호는 한 번만 응답")
+    @WithMockJwtClaims(userId = 1)
+    void checkDuplicatePhoneNumbers_Success_Test() throws Exception {
+        // given
+        // 1. 같은 번호를 서로 다른 표기로 가진 수신자 2명을 저장합니다.
+        Recipient hong = recipientRepository.save(Recipient.builder()
+                .recipientName("홍길동")
+                .recipientPhoneNumber("010-1234-5678")
+                .workspace(testWorkspace)
+                .build());
+        Recipient kim = recipientRepository.save(Recipient.builder()
+                .recipientName("김철수")
+                .recipientPhoneNumber("01012345678")
+                .workspace(testWorkspace)
+                .build());
+
+        // 2. 등록된 번호(두 가지 표기), 등록되지 않은 번호, 잘못된 값으로 요청을 준비합니다.
+        RecipientRequest.DuplicateCheckDTO checkDTO = new RecipientRequest.DuplicateCheckDTO(
+                List.of("01012345678", "010-9999-0000", "+82 10-1234-5678", "abc"));
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                post("/workspaces/{workspaceId}/recipients/duplicates", testWorkspace.getWorkspaceId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(checkDTO))
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requestedCount").value(4))
+                .andExpect(jsonPath("$.duplicates.length()").value(1))
+                .andExpect(jsonPath("$.duplicates[0].phoneNumber").value("01012345678"))
+                .andExpect(jsonPath("$.duplicates[0].normalizedPhoneNumber").value("+821012345678"))
+                .andExpect(jsonPath("$.duplicates[0].recipients[*].recipientId")
+                        .value(contains(hong.getRecipientId(), kim.getRecipientId())))
+                .andExpect(jsonPath("$.invalidPhoneNumbers", contains("abc")));
+    }
+
+    @Test
+    @DisplayName("전화번호 일괄 중복 확인 실패 테스트 - 빈 목록")
+    @WithMockJwtClaims(userId = 1)
+    void checkDuplicatePhoneNumbers_Fail_Validation_Test() throws Exception {
+        // given
+        RecipientRequest.DuplicateCheckDTO checkDTO = new RecipientRequest.DuplicateCheckDTO(List.of());
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                post("/workspaces/{workspaceId}/recipients/duplicates", testWorkspace.getWorkspaceId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(checkDTO))
+        );
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("수신자 목록 페이징 조회 성공 테스트")
     @WithMockJwtClaims(userId = 1)
@@ -267,6 +388,58 @@ class RecipientControllerTest {
                 .andExpect(jsonPath("$.content[1].recipientName").value("홍길동"));
     }
 
+    @Test
+    @DisplayName("수신자 검색 성공 테스트 - 이름 앞부분과 전화번호 뒷자리")
+    @WithMockJwtClaims(userId = 1)
+    void searchRecipients_Success_Test() throws Exception {
+        // given
+        Recipient hong = recipientRepository.save(Recipient.builder()
+                .recipientName("홍길동")
+                .recipientPhoneNumber("010-1111-5678")
+                .workspace(testWorkspace)
+                .build());
+        recipientRepository.save(Recipient.builder()
+                .recipientName("홍길순")
+                .recipientPhoneNumber("010-2222-1234")
+                .workspace(testWorkspace)
+                .build());
+        recipientRepository.save(Recipient.builder()
+                .recipientName("임꺽정")
+                .recipientPhoneNumber("010-3333-5678")
+                .workspace(testWorkspace)
+                .build());
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                get("/workspaces/{workspaceId}/recipients/search", testWorkspace.getWorkspaceId())
+                        .param("name", "홍")
+                        .param("phoneSuffix", "5678")
+                        .accept(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].recipientId").value(hong.getRecipientId()))
+                .andExpect(jsonPath("$[0].recipientName").value("홍길동"));
+    }
+
+    @Test
+    @DisplayName("수신자 검색 실패 테스트 - 검색 조건 누락과 숫자가 아닌 뒷자리")
+    @WithMockJwtClaims(userId = 1)
+    void searchRecipients_Fail_Validation_Test() throws Exception {
+        // when & then
+        // 1. 검색 조건이 없으면 400을 반환합니다.
+        mockMvc.perform(get("/workspaces/{workspaceId}/recipients/search", testWorkspace.getWorkspaceId()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("검색 조건을 하나 이상 입력해주세요."));
+        // 2. 전화번호 뒷자리에 숫자가 아닌 값이 있으면 400을 반환합니다.
+        mockMvc.perform(get("/workspaces/{workspaceId}/recipients/search", testWorkspace.getWorkspaceId())
+                        .param("phoneSuffix", "56-78"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("수신자 목록 페이징 조회 실패 테스트 - 권한 없음")
     @WithMockJwtClaims(userId = 1)
@@ -483,4 +656,129 @@ class RecipientControllerTest {
         //    최종적으로 HTTP 상태 코드 400 Bad Request가 반환되는지 확인합니다.
         resultActions.andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("수신자 파일 가져오기 성공 테스트 - 작업을 접수하고 작업 ID로 진행 상황을 조회")
+    @WithMockJwtClaims(userId = 1)
+    void importRecipients_Success_Test() throws Exception {
+        // given
+        // 1. 헤더와 수신자 2행으로 구성된 CSV를 준비합니다.
+        String csv = """
+                이름,전화번호,메모
+                홍길동,010-1234-5678,"VIP, 단골"
+                김철수,01098765432,
+                """;
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "recipients.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+        // when
+        // 1. 가져오기 작업을 접수합니다. (행 처리 결과는 RecipientImportServiceTest에서 검증합니다.)
+        MvcResult mvcResult = mockMvc.perform(
+                multipart("/workspaces/{workspaceId}/recipients/import", testWorkspace.getWorkspaceId())
+                        .file(file)
+        )
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobId").isNotEmpty())
+                .andExpect(jsonPath("$.fileName").value("recipients.csv"))
+                .andReturn();
+        String jobId = objectMapper.readTree(mvcResult.getResponse().getContentAsString()).get("jobId").asText();
+
+        // then
+        // 1. 접수한 워크스페이스에서 작업 ID로 조회할 수 있어야 합니다.
+        mockMvc.perform(get("/workspaces/{workspaceId}/recipients/import/jobs/{jobId}", testWorkspace.getWorkspaceId(), jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobId").value(jobId));
+    }
+
+    @Test
+    @DisplayName("수신자 파일 가져오기 실패 테스트 - 지원하지 않는 파일 형식")
+    @WithMockJwtClaims(userId = 1)
+    void importRecipients_Fail_UnsupportedFormat_Test() throws Exception {
+        // given
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "recipients.txt", "text/plain", "이름,전화번호".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                multipart("/workspaces/{workspaceId}/recipients/import", testWorkspace.getWorkspaceId())
+                        .file(file)
+        );
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("수신자 CSV 내보내기 성공 테스트")
+    @WithMockJwtClaims(userId = 1)
+    void exportRecipients_Success_Test() throws Exception {
+        // when
+        // 1. 권한 검증은 요청 스레드에서 끝나고, CSV 본문은 비동기로 스트리밍됩니다.
+        MvcResult mvcResult = mockMvc.perform(
+                get("/workspaces/{workspaceId}/recipients/export", testWorkspace.getWorkspaceId())
+        )
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("recipients-" + testWorkspace.getWorkspaceId() + ".csv")))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn();
+
+        // then
+        // 1. 본문은 헤더 행으로 시작합니다. (테스트 트랜잭션의 데이터는 스트리밍 스레드에서 보이지 않으므로,
+        //    행 내용은 RecipientExportServiceTest에서 검증합니다.)
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string(startsWith("\uFEFF이름,전화번호,메모,생성일시\r\n")));
+    }
+
+    @Test
+    @DisplayName("수신자 CSV 내보내기 타임아웃 테스트 - 스트리밍 응답은 일반 비동기 요청 타임아웃 대신 내보내기 전용 타임아웃을 사용")
+    @WithMockJwtClaims(userId = 1)
+    void exportRecipients_StreamingTimeout_Test() throws Exception {
+        // when
+        MvcResult mvcResult = mockMvc.perform(
+                get("/workspaces/{workspaceId}/recipients/export", testWorkspace.getWorkspaceId())
+        )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        // 1. 비동기 요청 타임아웃이 streaming-response.request-timeout-ms 기본값(30분)으로 지정되어야 합니다.
+        assertThat(mvcResult.getRequest().getAsyncContext().getTimeout()).isEqualTo(1_800_000L);
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("수신자 CSV 내보내기 gzip 응답 테스트")
+    @WithMockJwtClaims(userId = 1)
+    void exportRecipients_Gzip_Test() throws Exception {
+        // when & then
+        MvcResult mvcResult = mockMvc.perform(
+                get("/workspaces/{workspaceId}/recipients/export", testWorkspace.getWorkspaceId())
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br")
+        )
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("수신자 CSV 내보내기 실패 테스트 - 권한 없음")
+    @WithMockJwtClaims(userId = 1)
+    void exportRecipients_Fail_UnauthorizedWorkspace_Test() throws Exception {
+        // given
+        Integer unauthorizedWorkspaceId = 999;
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                get("/workspaces/{workspaceId}/recipients/export", unauthorizedWorkspaceId)
+        );
+
+        // then
+        // 1. 스트리밍을 시작하기 전에 권한 검증에서 실패하므로 400 Bad Request가 반환됩니다.
+        resultActions.andExpect(status().isBadRequest());
+    }
 }
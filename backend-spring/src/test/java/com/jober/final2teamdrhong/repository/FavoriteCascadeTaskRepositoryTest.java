@@ -0,0 +1,60 @@
+package com.jober.final2teamdrhong.repository;
+
+import com.jober.final2teamdrhong.entity.Favorite.TemplateType;
+import com.jober.final2teamdrhong.entity.FavoriteCascadeTask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class FavoriteCascadeTaskRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private FavoriteCascadeTaskRepository taskRepository;
+
+    @Test
+    @DisplayName("완료 처리된 작업은 재개 대상에서 제외되고, 완료 처리는 한 번만 적용되는 테스트")
+    void findPendingTaskIds_And_markCompleted_Test() {
+        // given
+        // 1. 공용 템플릿과 개인 템플릿의 즐겨찾기 연쇄 삭제 작업을 하나씩 저장합니다.
+        FavoriteCascadeTask publicTask = entityManager.persist(FavoriteCascadeTask.builder()
+                .templateType(TemplateType.PUBLIC)
+                .templateId(1)
+                .build());
+        FavoriteCascadeTask individualTask = entityManager.persist(FavoriteCascadeTask.builder()
+                .templateType(TemplateType.INDIVIDUAL)
+                .templateId(2)
+                .build());
+        entityManager.flush();
+        LocalDateTime later = LocalDateTime.now().plusDays(1);
+
+        // when
+        // 1. 공용 템플릿 작업을 완료 처리합니다.
+        int completed = taskRepository.markCompleted(publicTask.getTaskId(), later);
+        int completedAgain = taskRepository.markCompleted(publicTask.getTaskId(), later);
+
+        // then
+        // 1. 완료 처리는 한 번만 적용됩니다.
+        assertThat(completed).isEqualTo(1);
+        assertThat(completedAgain).isZero();
+        // 2. 재개 대상에는 완료되지 않은 개인 템플릿 작업만 남습니다.
+        assertThat(taskRepository.findPendingTaskIds(later, PageRequest.of(0, 10)))
+                .containsExactly(individualTask.getTaskId());
+        // 3. 기준 시간 이후에 생성된 작업은 재개 대상이 아닙니다.
+        assertThat(taskRepository.findPendingTaskIds(LocalDateTime.now().minusDays(1), PageRequest.of(0, 10)))
+                .isEmpty();
+        // 4. 완료된 작업은 일반 조회에서 보이지 않습니다.
+        assertThat(taskRepository.findById(publicTask.getTaskId())).isEmpty();
+    }
+}
@@ -0,0 +1,116 @@
+package com.jober.final2teamdrhong.repository;
+
+import com.jober.final2teamdrhong.entity.Favorite;
+import com.jober.final2teamdrhong.entity.Favorite.TemplateType;
+import com.jober.final2teamdrhong.entity.PublicTemplate;
+import com.jober.final2teamdrhong.entity.User;
+import com.jober.final2teamdrhong.entity.Workspace;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class FavoriteRepositoryTest {
+
+    private static final int FAVORITE_COUNT = 30;
+
+    @Autowired
+    private FavoriteRepository favoriteRepository;
+
+    @Autowired
+    private PublicTemplateRepository publicTemplateRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private PublicTemplate publicTemplate;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .userName("테스터")
+                .userEmail("tester@example.com")
+                .userNumber("010-1111-2222")
+                .build());
+
+        publicTemplate = publicTemplateRepository.save(PublicTemplate.builder()
+                .publicTemplateTitle("인기 템플릿")
+                .publicTemplateContent("내용")
+                .build());
+
+        // (workspace, public_template) 조합이 유일해야 하므로 워크스페이스마다 즐겨찾기 1건
+        for (int i = 0; i < FAVORITE_COUNT; i++) {
+            Workspace workspace = workspaceRepository.save(Workspace.builder()
+                    .workspaceName("워크스페이스" + i)
+                    .workspaceUrl("http://test" + i + ".com")
+                    .representerName("홍길동")
+                    .representerPhoneNumber("010-9999-8888")
+                    .companyName("테스트회사")
+                    .user(user)
+                    .build());
+            favoriteRepository.save(Favorite.builder()
+                    .workspace(workspace)
+                    .publicTemplate(publicTemplate)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("softDeleteAllByTemplate - 즐겨찾기 수와 관계없이 UPDATE 한 문장으로 소프트 삭제")
+    void softDeleteAllByTemplate_singleStatement() {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        int deleted = favoriteRepository.softDeleteAllByTemplate(TemplateType.PUBLIC, publicTemplate.getPublicTemplateId());
+
+        // then
+        assertThat(deleted).isEqualTo(FAVORITE_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(favoriteRepository.countByTemplate(TemplateType.PUBLIC, publicTemplate.getPublicTemplateId())).isZero();
+    }
+
+    @Test
+    @DisplayName("findIdsByTemplate/softDeleteAllByIdIn - 청크마다 ID 조회와 UPDATE 두 문장으로 삭제")
+    void deleteInChunks() {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Integer publicTemplateId = publicTemplate.getPublicTemplateId();
+
+        // when
+        int chunks = 0;
+        List<Integer> favoriteIds;
+        while (!(favoriteIds = favoriteRepository.findIdsByTemplate(TemplateType.PUBLIC, publicTemplateId, 10)).isEmpty()) {
+            assertThat(favoriteRepository.softDeleteAllByIdIn(favoriteIds)).isEqualTo(favoriteIds.size());
+            chunks++;
+        }
+
+        // then: 3개 청크(조회+UPDATE) + 마지막 빈 조회
+        assertThat(chunks).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3 * 2 + 1);
+        assertThat(favoriteRepository.countByTemplate(TemplateType.PUBLIC, publicTemplateId)).isZero();
+    }
+}
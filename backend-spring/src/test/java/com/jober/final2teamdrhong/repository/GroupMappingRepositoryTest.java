@@ -1,5 +1,6 @@
 package com.jober.final2teamdrhong.repository;
 
+import com.jober.final2teamdrhong.dto.recipient.RecipientResponse;
 import com.jober.final2teamdrhong.entity.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -8,19 +9,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 class GroupMappingRepositoryTest {
@@ -171,7 +173,7 @@ class GroupMappingRepositoryTest {
 
         // when
         // 1. 벌크 INSERT를 실행합니다.
-        groupMappingRepository.bulkInsertMappings(testPhoneBook.getPhoneBookId(), recipientIds, timestamp);
+        groupMappingRepository.bulkInsertMappings(testPhoneBook.getPhoneBookId(), recipientIds, timestamp, null);
         testEntityManager.flush();
         testEntityManager.clear();
 
@@ -182,6 +184,111 @@ class GroupMappingRepositoryTest {
         assertThat(allRecipientIds).contains(newRecipient1.getRecipientId(), newRecipient2.getRecipientId());
     }
 
+    @Test
+    @DisplayName("요청된 수신자 중 주소록에 이미 속한 수신자 ID만 조회하는 테스트")
+    void findRecipientIdsInPhoneBook_Test() {
+        // when
+        // 1. testPhoneBook에는 recipient1, recipient2가 있으므로, recipient1과 recipient3을 확인하면 recipient1만 반환되어야 합니다.
+        List<Integer> recipientIds = groupMappingRepository.findRecipientIdsInPhoneBook(
+                testPhoneBook.getPhoneBookId(), List.of(recipient1.getRecipientId(), recipient3.getRecipientId()));
+
+        // then
+        assertThat(recipientIds).containsExactly(recipient1.getRecipientId());
+    }
+
+    @Test
+    @DisplayName("수신자 ID를 잠금 조회하면 주소록에 속한 매핑 중 삭제되지 않은 매핑의 수신자 ID만 반환하는 테스트")
+    void lockRecipientIdsInPhoneBook_Test() {
+        // given
+        // 1. recipient2의 매핑을 소프트 딜리트합니다.
+        LocalDateTime timestamp = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDateTime();
+        groupMappingRepository.bulkSoftDeleteMappings(testPhoneBook.getPhoneBookId(), List.of(recipient2.getRecipientId()), timestamp);
+
+        // when
+        List<Integer> recipientIds = groupMappingRepository.lockRecipientIdsInPhoneBook(testPhoneBook.getPhoneBookId(),
+                List.of(recipient1.getRecipientId(), recipient2.getRecipientId(), recipient3.getRecipientId()));
+
+        // then
+        // 1. 삭제된 recipient2와 주소록에 없는 recipient3은 제외되어야 합니다.
+        assertThat(recipientIds).containsExactly(recipient1.getRecipientId());
+    }
+
+    @Test
+    @DisplayName("벌크 INSERT는 이미 주소록에 속한 수신자를 건너뛰고, 삭제된 매핑의 수신자는 다시 추가하는 테스트")
+    void bulkInsertMappings_SkipsExistingMembers_Test() {
+        // given
+        // 1. recipient2의 매핑을 소프트 딜리트합니다.
+        LocalDateTime timestamp = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDateTime();
+        groupMappingRepository.bulkSoftDeleteMappings(testPhoneBook.getPhoneBookId(), List.of(recipient2.getRecipientId()), timestamp);
+
+        // when
+        // 1. 이미 속한 recipient1과, 삭제된 recipient2, 신규 recipient3을 함께 추가합니다.
+        int inserted = groupMappingRepository.bulkInsertMappings(testPhoneBook.getPhoneBookId(),
+                List.of(recipient1.getRecipientId(), recipient2.getRecipientId(), recipient3.getRecipientId()), timestamp, null);
+
+        // then
+        // 1. recipient1은 건너뛰고 recipient2, recipient3만 추가되어야 합니다.
+        assertThat(inserted).isEqualTo(2);
+        assertThat(groupMappingRepository.findRecipientIdsByPhoneBook(testPhoneBook))
+                .containsExactlyInAnyOrder(recipient1.getRecipientId(), recipient2.getRecipientId(), recipient3.getRecipientId());
+    }
+
+    @Test
+    @DisplayName("벌크 INSERT는 삭제된 주소록에 매핑을 추가하지 않는 테스트")
+    void bulkInsertMappings_SkipsDeletedPhoneBook_Test() {
+        // given
+        // 1. testPhoneBook을 소프트 딜리트합니다.
+        PhoneBook phoneBook = testEntityManager.find(PhoneBook.class, testPhoneBook.getPhoneBookId());
+        phoneBook.softDelete();
+        testEntityManager.flush();
+
+        // when
+        int inserted = groupMappingRepository.bulkInsertMappings(testPhoneBook.getPhoneBookId(),
+                List.of(recipient3.getRecipientId()), LocalDateTime.now(), null);
+
+        // then
+        assertThat(inserted).isZero();
+        assertThat(groupMappingRepository.findRecipientIdsInPhoneBook(testPhoneBook.getPhoneBookId(),
+                List.of(recipient3.getRecipientId()))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주어진 요청 식별자로 추가된 수신자 ID만 조회하는 테스트 - 기존 멤버와 같은 초에 다른 요청이 추가한 수신자는 제외")
+    void findRecipientIdsInsertedBy_Test() {
+        // given
+        // 1. 다른 요청이 recipient2를 다시 추가하고, 같은 초에 이번 요청이 recipient1, recipient2, recipient3을 추가합니다.
+        //    (recipient1은 기존 멤버, recipient2는 다른 요청이 먼저 추가했으므로 건너뜀)
+        LocalDateTime timestamp = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDateTime().plusMinutes(1)
+                .truncatedTo(ChronoUnit.SECONDS);
+        groupMappingRepository.bulkSoftDeleteMappings(testPhoneBook.getPhoneBookId(), List.of(recipient2.getRecipientId()), timestamp);
+        groupMappingRepository.bulkInsertMappings(testPhoneBook.getPhoneBookId(),
+                List.of(recipient2.getRecipientId()), timestamp, "other-request");
+        List<Integer> requested = List.of(recipient1.getRecipientId(), recipient2.getRecipientId(), recipient3.getRecipientId());
+        int inserted = groupMappingRepository.bulkInsertMappings(testPhoneBook.getPhoneBookId(), requested, timestamp, "this-request");
+
+        // when
+        List<Integer> addedRecipientIds = groupMappingRepository.findRecipientIdsInsertedBy(testPhoneBook.getPhoneBookId(),
+                requested, "this-request");
+
+        // then
+        // 1. 생성 시간이 같아도 이번 INSERT에서 추가된 recipient3만 반환되어야 합니다.
+        assertThat(inserted).isEqualTo(1);
+        assertThat(addedRecipientIds).containsExactly(recipient3.getRecipientId());
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 같은 (주소록, 수신자) 매핑은 유니크 제약으로 저장할 수 없는 테스트")
+    void uniqueLiveMapping_Test() {
+        // given
+        PhoneBook phoneBook = testEntityManager.find(PhoneBook.class, testPhoneBook.getPhoneBookId());
+        Recipient recipient = testEntityManager.find(Recipient.class, recipient1.getRecipientId());
+
+        // when & then
+        assertThatThrownBy(() -> testEntityManager.persistAndFlush(
+                GroupMapping.builder().phoneBook(phoneBook).recipient(recipient).build()))
+                .isInstanceOf(PersistenceException.class);
+    }
+
     @Test
     @DisplayName("벌크 INSERT 후 생성된 매핑들을 JPA 쿼리 메서드로 조회하는 테스트")
     void findAllByPhoneBook_PhoneBookIdAndRecipient_RecipientIdIn_Test() {
@@ -208,7 +315,7 @@ class GroupMappingRepositoryTest {
         // 2. 벌크 INSERT로 매핑을 생성합니다.
         List<Integer> recipientIds = List.of(newRecipient1.getRecipientId(), newRecipient2.getRecipientId());
         LocalDateTime timestamp = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDateTime();
-        groupMappingRepository.bulkInsertMappings(testPhoneBook.getPhoneBookId(), recipientIds, timestamp);
+        groupMappingRepository.bulkInsertMappings(testPhoneBook.getPhoneBookId(), recipientIds, timestamp, null);
         testEntityManager.flush();
         testEntityManager.clear();
 
@@ -232,36 +339,35 @@ class GroupMappingRepositoryTest {
     }
 
     @Test
-    @DisplayName("특정 주소록의 GroupMapping 페이징 조회 테스트 - 수신자 생성 시간 내림차순 정렬")
-    void findByPhoneBookOrderByRecipient_CreatedAtDescRecipient_RecipientIdDesc_Pageable_Test() {
+    @DisplayName("특정 주소록의 수신자 페이징 조회 테스트 - 수신자 컬럼 프로젝션")
+    void findMemberPage_Pageable_Test() {
         // given
         // 1. @BeforeEach에서 testPhoneBook에 recipient1, recipient2가 매핑된 상태입니다.
         // 2. 페이징 정보를 설정합니다. (페이지 크기 10, 첫 번째 페이지)
         Pageable pageable = PageRequest.of(0, 10);
 
         // when
-        // 1. 테스트 대상 메서드를 호출하여 특정 주소록의 GroupMapping을 페이징 조회합니다.
-        Page<GroupMapping> groupMappingPage = groupMappingRepository.findByPhoneBookOrderByRecipient_CreatedAtDescRecipient_RecipientIdDesc(testPhoneBook, pageable);
+        // 1. 테스트 대상 메서드를 호출하여 특정 주소록의 수신자를 페이징 조회합니다.
+        Page<RecipientResponse.SimpleDTO> memberPage = groupMappingRepository.findMemberPage(
+                testPhoneBook.getWorkspace().getWorkspaceId(), testPhoneBook.getPhoneBookId(), pageable);
 
         // then
-        // 1. 페이지 객체가 null이 아닌지 확인합니다.
-        assertThat(groupMappingPage).isNotNull();
-        // 2. 전체 요소 개수가 2개인지 확인합니다.
-        assertThat(groupMappingPage.getTotalElements()).isEqualTo(2);
-        // 3. 현재 페이지의 요소 개수가 2개인지 확인합니다.
-        assertThat(groupMappingPage.getNumberOfElements()).isEqualTo(2);
-        // 4. 조회된 GroupMapping들이 올바른 주소록에 속하는지 확인합니다.
-        assertThat(groupMappingPage.getContent())
-                .allMatch(gm -> gm.getPhoneBook().getPhoneBookId().equals(testPhoneBook.getPhoneBookId()));
-        // 5. 조회된 GroupMapping들의 수신자가 recipient1, recipient2인지 확인합니다.
-        assertThat(groupMappingPage.getContent())
-                .extracting(gm -> gm.getRecipient().getRecipientId())
+        // 1. 전체 요소 개수와 현재 페이지의 요소 개수가 2개인지 확인합니다.
+        assertThat(memberPage.getTotalElements()).isEqualTo(2);
+        assertThat(memberPage.getNumberOfElements()).isEqualTo(2);
+        // 2. 조회된 수신자가 recipient1, recipient2인지 확인합니다.
+        assertThat(memberPage.getContent())
+                .extracting(RecipientResponse.SimpleDTO::recipientId)
                 .containsExactlyInAnyOrder(recipient1.getRecipientId(), recipient2.getRecipientId());
+        // 3. 수신자 컬럼이 함께 조회되었는지 확인합니다.
+        assertThat(memberPage.getContent())
+                .extracting(RecipientResponse.SimpleDTO::recipientName)
+                .containsExactlyInAnyOrder("recipient1", "recipient2");
     }
 
     @Test
-    @DisplayName("특정 주소록의 GroupMapping 페이징 조회 테스트 - 수신자 생성 시간 정렬 확인")
-    void findByPhoneBookOrderByRecipient_CreatedAtDescRecipient_RecipientIdDesc_SortByRecipientCreatedAt_Test() {
+    @DisplayName("특정 주소록의 수신자 페이징 조회 테스트 - 수신자 생성 시간 정렬 확인")
+    void findMemberPage_SortByRecipientCreatedAt_Test() {
         // given
         // 1. Detached 상태인 testPhoneBook을 DB에서 다시 조회하여 Managed 상태로 만듭니다.
         PhoneBook managedTestPhoneBook = testEntityManager.find(PhoneBook.class, testPhoneBook.getPhoneBookId());
@@ -274,19 +380,20 @@ class GroupMappingRepositoryTest {
 
         // when
         // 1. 테스트 대상 메서드를 호출합니다.
-        Page<GroupMapping> groupMappingPage = groupMappingRepository.findByPhoneBookOrderByRecipient_CreatedAtDescRecipient_RecipientIdDesc(managedTestPhoneBook, pageable);
+        Page<RecipientResponse.SimpleDTO> memberPage = groupMappingRepository.findMemberPage(
+                managedTestPhoneBook.getWorkspace().getWorkspaceId(), managedTestPhoneBook.getPhoneBookId(), pageable);
 
         // then
         // 1. 전체 요소 개수가 3개인지 확인합니다.
-        assertThat(groupMappingPage.getTotalElements()).isEqualTo(3);
+        assertThat(memberPage.getTotalElements()).isEqualTo(3);
         // 2. 첫 번째 요소가 가장 최신에 생성된 recipient3인지 확인합니다.
-        assertThat(groupMappingPage.getContent().getFirst().getRecipient().getRecipientId())
+        assertThat(memberPage.getContent().getFirst().recipientId())
                 .isEqualTo(recipient3.getRecipientId());
     }
 
     @Test
-    @DisplayName("GroupMapping이 없는 주소록 페이징 조회 시 빈 페이지 반환 테스트")
-    void findByPhoneBookOrderByRecipient_CreatedAtDescRecipient_RecipientIdDesc_EmptyPage_Test() {
+    @DisplayName("수신자가 없는 주소록 페이징 조회 시 빈 페이지 반환 테스트")
+    void findMemberPage_EmptyPage_Test() {
         // given
         // 1. 테스트용 워크스페이스를 조회합니다.
         Workspace workspace = testEntityManager.find(Workspace.class, testPhoneBook.getWorkspace().getWorkspaceId());
@@ -298,150 +405,153 @@ class GroupMappingRepositoryTest {
 
         // when
         // 1. 비어있는 주소록을 대상으로 메서드를 호출합니다.
-        Page<GroupMapping> groupMappingPage = groupMappingRepository.findByPhoneBookOrderByRecipient_CreatedAtDescRecipient_RecipientIdDesc(emptyPhoneBook, pageable);
+        Page<RecipientResponse.SimpleDTO> memberPage = groupMappingRepository.findMemberPage(
+                workspace.getWorkspaceId(), emptyPhoneBook.getPhoneBookId(), pageable);
 
         // then
-        // 1. 페이지 객체가 null이 아닌지 확인합니다.
-        assertThat(groupMappingPage).isNotNull();
-        // 2. 전체 요소 개수가 0개인지 확인합니다.
-        assertThat(groupMappingPage.getTotalElements()).isEqualTo(0);
-        // 3. 현재 페이지의 요소 개수가 0개인지 확인합니다.
-        assertThat(groupMappingPage.getNumberOfElements()).isEqualTo(0);
-        // 4. 콘텐츠가 비어있는지 확인합니다.
-        assertThat(groupMappingPage.getContent()).isEmpty();
+        // 1. 전체 요소 개수가 0개이고 콘텐츠가 비어있는지 확인합니다.
+        assertThat(memberPage.getTotalElements()).isEqualTo(0);
+        assertThat(memberPage.getContent()).isEmpty();
     }
 
     @Test
-    @DisplayName("GroupMapping 일괄 소프트 딜리트 성공 테스트")
-    void softDeleteAllInBatch_Success_Test() {
+    @DisplayName("주소록 수신자 커서 조회 테스트 - 생성 시간이 같으면 수신자 ID 내림차순으로 이어서 조회")
+    void findMembersAfter_Keyset_Test() {
         // given
-        // 1. 테스트용 GroupMapping들을 생성하고 저장합니다.
-        GroupMapping mapping1 = testEntityManager.persistAndFlush(GroupMapping.builder()
-                .phoneBook(testPhoneBook)
-                .recipient(recipient1)
-                .build());
-        GroupMapping mapping2 = testEntityManager.persistAndFlush(GroupMapping.builder()
-                .phoneBook(testPhoneBook)
-                .recipient(recipient2)
-                .build());
-
-        List<GroupMapping> mappingsToDelete = List.of(mapping1, mapping2);
-        LocalDateTime deletionTime = LocalDateTime.of(2025, 9, 22, 15, 30, 0);
+        // 1. recipient3도 testPhoneBook에 추가하고, 세 수신자의 생성 시간을 같게 맞춥니다.
+        PhoneBook managedTestPhoneBook = testEntityManager.find(PhoneBook.class, testPhoneBook.getPhoneBookId());
+        testEntityManager.persist(GroupMapping.builder().phoneBook(managedTestPhoneBook).recipient(recipient3).build());
+        testEntityManager.flush();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+        entityManager.createNativeQuery("UPDATE recipient SET created_at = ?1")
+                .setParameter(1, createdAt)
+                .executeUpdate();
+        testEntityManager.clear();
+        Integer workspaceId = managedTestPhoneBook.getWorkspace().getWorkspaceId();
 
         // when
-        // 1. 일괄 소프트 딜리트를 실행합니다.
-        groupMappingRepository.softDeleteAllInBatch(mappingsToDelete, deletionTime);
+        // 1. 첫 페이지(2개)를 조회한 뒤, 마지막 항목 이후를 조회합니다.
+        List<RecipientResponse.SimpleDTO> firstPage = groupMappingRepository.findMemberFirstPage(
+                workspaceId, testPhoneBook.getPhoneBookId(), PageRequest.of(0, 2));
+        RecipientResponse.SimpleDTO last = firstPage.getLast();
+        List<RecipientResponse.SimpleDTO> nextPage = groupMappingRepository.findMembersAfter(
+                workspaceId, testPhoneBook.getPhoneBookId(), last.createdAt(), last.recipientId(), PageRequest.of(0, 2));
 
         // then
-        // 1. 네이티브 쿼리를 사용하여 소프트 딜리트 상태를 확인합니다.
-        List<Object[]> results = entityManager.createNativeQuery(
-                "SELECT group_mapping_id, is_deleted, deleted_at FROM group_mapping WHERE group_mapping_id IN (?1, ?2)"
-        ).setParameter(1, mapping1.getGroupMappingId())
-         .setParameter(2, mapping2.getGroupMappingId())
-         .getResultList();
-
-        // 2. 두 매핑 모두 조회되는지 확인합니다.
-        assertThat(results).hasSize(2);
-
-        // 3. 각 매핑이 소프트 딜리트 상태인지 확인합니다.
-        for (Object[] result : results) {
-            Integer groupMappingId = (Integer) result[0];
-            Boolean isDeleted = (Boolean) result[1];
-            Object deletedAtObj = result[2];
-
-            assertThat(isDeleted).isTrue();
-            assertThat(deletedAtObj).isNotNull();
-
-            // deletedAt 시간이 설정한 시간과 일치하는지 확인 (초 단위까지)
-            if (deletedAtObj instanceof java.sql.Timestamp) {
-                LocalDateTime deletedAt = ((java.sql.Timestamp) deletedAtObj).toLocalDateTime();
-                assertThat(deletedAt).isEqualToIgnoringNanos(deletionTime);
-            }
-        }
+        // 1. 두 페이지를 이으면 수신자 ID 내림차순으로 빠짐없이, 중복 없이 조회됩니다.
+        assertThat(firstPage).extracting(RecipientResponse.SimpleDTO::recipientId)
+                .containsExactly(recipient3.getRecipientId(), recipient2.getRecipientId());
+        assertThat(nextPage).extracting(RecipientResponse.SimpleDTO::recipientId)
+                .containsExactly(recipient1.getRecipientId());
     }
 
     @Test
-    @DisplayName("GroupMapping 일괄 소프트 딜리트 테스트 - 빈 리스트")
-    void softDeleteAllInBatch_EmptyList_Test() {
+    @DisplayName("주소록 수신자 조회 시 삭제된 수신자는 제외하는 테스트")
+    void findMemberFirstPage_ExcludesDeletedRecipients_Test() {
         // given
-        // 1. 빈 매핑 리스트와 삭제 시간을 준비합니다.
-        List<GroupMapping> emptyMappings = List.of();
-        LocalDateTime deletionTime = LocalDateTime.now();
+        // 1. recipient2를 소프트 딜리트합니다. (매핑은 남아 있음)
+        entityManager.createNativeQuery("UPDATE recipient SET is_deleted = TRUE WHERE recipient_id = ?1")
+                .setParameter(1, recipient2.getRecipientId())
+                .executeUpdate();
+        testEntityManager.clear();
 
-        // when & then
-        // 1. 빈 리스트로 메서드를 호출해도 예외가 발생하지 않는지 확인합니다.
-        assertDoesNotThrow(() -> {
-            groupMappingRepository.softDeleteAllInBatch(emptyMappings, deletionTime);
-        });
+        // when
+        List<RecipientResponse.SimpleDTO> members = groupMappingRepository.findMemberFirstPage(
+                testPhoneBook.getWorkspace().getWorkspaceId(), testPhoneBook.getPhoneBookId(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(members).extracting(RecipientResponse.SimpleDTO::recipientId)
+                .containsExactly(recipient1.getRecipientId());
     }
 
     @Test
-    @DisplayName("소프트 딜리트된 매핑 포함 조회 성공 테스트")
-    void findAllByIdIncludingDeleted_Success_Test() {
+    @DisplayName("벌크 소프트 딜리트 성공 테스트 - 주소록에 속한 수신자의 매핑만 삭제")
+    void bulkSoftDeleteMappings_Success_Test() {
         // given
-        // 1. 테스트용 GroupMapping을 생성하고 저장합니다.
-        GroupMapping mapping1 = testEntityManager.persistAndFlush(GroupMapping.builder()
-                .phoneBook(testPhoneBook)
-                .recipient(recipient1)
-                .build());
-        GroupMapping mapping2 = testEntityManager.persistAndFlush(GroupMapping.builder()
-                .phoneBook(testPhoneBook)
-                .recipient(recipient2)
-                .build());
-
-        // 2. 첫 번째 매핑을 소프트 딜리트합니다.
-        LocalDateTime deletionTime = LocalDateTime.now();
-        groupMappingRepository.softDeleteAllInBatch(List.of(mapping1), deletionTime);
-
-        List<Integer> mappingIds = List.of(mapping1.getGroupMappingId(), mapping2.getGroupMappingId());
+        // 1. testPhoneBook에는 recipient1, recipient2가, anotherPhoneBook에는 recipient3이 매핑되어 있습니다.
+        LocalDateTime deletionTime = LocalDateTime.of(2025, 9, 22, 15, 30, 0);
 
         // when
-        // 1. 소프트 딜리트된 매핑도 포함하여 조회합니다.
-        List<GroupMapping> foundMappings = groupMappingRepository.findAllByIdIncludingDeleted(mappingIds);
+        // 1. testPhoneBook에서 recipient1과 (주소록에 속하지 않은) recipient3을 제거합니다.
+        int deleted = groupMappingRepository.bulkSoftDeleteMappings(testPhoneBook.getPhoneBookId(),
+                List.of(recipient1.getRecipientId(), recipient3.getRecipientId()), deletionTime);
 
         // then
-        // 1. 두 매핑 모두 조회되는지 확인합니다.
-        assertThat(foundMappings).hasSize(2);
-
-        // 2. 매핑 ID들이 올바르게 조회되었는지 확인합니다.
-        List<Integer> foundIds = foundMappings.stream()
-                .map(GroupMapping::getGroupMappingId)
-                .toList();
-        assertThat(foundIds).containsExactlyInAnyOrder(
-                mapping1.getGroupMappingId(),
-                mapping2.getGroupMappingId()
-        );
-
-        // 3. 소프트 딜리트된 매핑과 일반 매핑을 구분할 수 있는지 확인합니다.
-        Optional<GroupMapping> deletedMapping = foundMappings.stream()
-                .filter(m -> m.getGroupMappingId().equals(mapping1.getGroupMappingId()))
-                .findFirst();
-        Optional<GroupMapping> normalMapping = foundMappings.stream()
-                .filter(m -> m.getGroupMappingId().equals(mapping2.getGroupMappingId()))
-                .findFirst();
-
-        assertThat(deletedMapping).isPresent();
-        assertThat(deletedMapping.get().getIsDeleted()).isTrue();
-        assertThat(deletedMapping.get().getDeletedAt()).isNotNull();
-
-        assertThat(normalMapping).isPresent();
-        assertThat(normalMapping.get().getIsDeleted()).isFalse();
-        assertThat(normalMapping.get().getDeletedAt()).isNull();
+        // 1. recipient1의 매핑 하나만 삭제됩니다.
+        assertThat(deleted).isEqualTo(1);
+        assertThat(groupMappingRepository.findRecipientIdsByPhoneBook(testPhoneBook))
+                .containsExactly(recipient2.getRecipientId());
+        // 2. 다른 주소록의 recipient3 매핑은 그대로 남아 있습니다.
+        assertThat(groupMappingRepository.findRecipientIdsByPhoneBook(anotherPhoneBook))
+                .containsExactly(recipient3.getRecipientId());
+
+        // 3. 네이티브 쿼리로 삭제된 매핑의 삭제 시간이 전달한 시간과 같은지 확인합니다.
+        Object[] row = (Object[]) entityManager.createNativeQuery(
+                "SELECT is_deleted, deleted_at, updated_at FROM group_mapping WHERE phone_book_id = ?1 AND recipient_id = ?2")
+                .setParameter(1, testPhoneBook.getPhoneBookId())
+                .setParameter(2, recipient1.getRecipientId())
+                .getSingleResult();
+        assertThat((Boolean) row[0]).isTrue();
+        assertThat(toLocalDateTime(row[1])).isEqualTo(deletionTime);
+        assertThat(toLocalDateTime(row[2])).isEqualTo(deletionTime);
     }
 
     @Test
-    @DisplayName("소프트 딜리트된 매핑 포함 조회 테스트 - 존재하지 않는 ID")
-    void findAllByIdIncludingDeleted_NonExistentIds_Test() {
+    @DisplayName("벌크 소프트 딜리트 테스트 - 이미 삭제된 매핑은 다시 갱신하지 않음")
+    void bulkSoftDeleteMappings_SkipsDeletedMappings_Test() {
         // given
-        // 1. 존재하지 않는 매핑 ID들을 준비합니다.
-        List<Integer> nonExistentIds = List.of(-1, -2);
+        // 1. recipient1의 매핑을 먼저 삭제합니다.
+        LocalDateTime firstDeletion = LocalDateTime.of(2025, 9, 22, 15, 30, 0);
+        groupMappingRepository.bulkSoftDeleteMappings(testPhoneBook.getPhoneBookId(),
+                List.of(recipient1.getRecipientId()), firstDeletion);
 
         // when
-        // 1. 존재하지 않는 ID로 조회합니다.
-        List<GroupMapping> foundMappings = groupMappingRepository.findAllByIdIncludingDeleted(nonExistentIds);
+        // 1. 같은 수신자를 다른 시간으로 다시 삭제합니다.
+        int deleted = groupMappingRepository.bulkSoftDeleteMappings(testPhoneBook.getPhoneBookId(),
+                List.of(recipient1.getRecipientId()), firstDeletion.plusHours(1));
 
         // then
-        // 1. 빈 리스트가 반환되는지 확인합니다.
-        assertThat(foundMappings).isEmpty();
+        // 1. 갱신된 매핑이 없고, 처음 기록한 삭제 시간이 유지됩니다.
+        assertThat(deleted).isZero();
+        Object deletedAt = entityManager.createNativeQuery(
+                "SELECT deleted_at FROM group_mapping WHERE phone_book_id = ?1 AND recipient_id = ?2")
+                .setParameter(1, testPhoneBook.getPhoneBookId())
+                .setParameter(2, recipient1.getRecipientId())
+                .getSingleResult();
+        assertThat(toLocalDateTime(deletedAt)).isEqualTo(firstDeletion);
+    }
+
+    @Test
+    @DisplayName("연쇄 삭제 청크 테스트 - 삭제된 부모의 매핑 ID를 청크 크기만큼 조회해 소프트 딜리트")
+    void findIdsByTarget_And_softDeleteAllByIdIn_Test() {
+        // given
+        LocalDateTime deletionTime = LocalDateTime.of(2025, 9, 22, 15, 30, 0);
+
+        // when
+        // 1. testPhoneBook의 매핑(recipient1, recipient2)을 청크 크기 1로 나누어 삭제합니다.
+        List<Integer> firstChunk = groupMappingRepository.findIdsByTarget(
+                GroupMappingCascadeTask.TargetType.PHONE_BOOK, testPhoneBook.getPhoneBookId(), 1);
+        int firstDeleted = groupMappingRepository.softDeleteAllByIdIn(firstChunk, deletionTime);
+        List<Integer> secondChunk = groupMappingRepository.findIdsByTarget(
+                GroupMappingCascadeTask.TargetType.PHONE_BOOK, testPhoneBook.getPhoneBookId(), 1);
+        int secondDeleted = groupMappingRepository.softDeleteAllByIdIn(secondChunk, deletionTime);
+
+        // then
+        // 1. 청크마다 하나씩, 서로 다른 매핑이 삭제됩니다.
+        assertThat(firstChunk).hasSize(1);
+        assertThat(secondChunk).hasSize(1).doesNotContainAnyElementsOf(firstChunk);
+        assertThat(firstDeleted + secondDeleted).isEqualTo(2);
+        // 2. 더 이상 남은 매핑이 없고, 같은 청크를 다시 처리해도 갱신되지 않습니다.
+        assertThat(groupMappingRepository.findIdsByTarget(
+                GroupMappingCascadeTask.TargetType.PHONE_BOOK, testPhoneBook.getPhoneBookId(), 1)).isEmpty();
+        assertThat(groupMappingRepository.softDeleteAllByIdIn(firstChunk, deletionTime.plusHours(1))).isZero();
+        // 3. 수신자 기준으로도 조회할 수 있으며, 다른 주소록의 매핑은 그대로 남아 있습니다.
+        assertThat(groupMappingRepository.findIdsByTarget(
+                GroupMappingCascadeTask.TargetType.RECIPIENT, recipient3.getRecipientId(), 10)).hasSize(1);
+    }
+
+    // 네이티브 쿼리의 TIMESTAMP 컬럼 값을 LocalDateTime으로 변환 (드라이버에 따라 Timestamp 또는 LocalDateTime으로 반환됨)
+    private LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof java.sql.Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
     }
 }
@@ -1,16 +1,22 @@
 package com.jober.final2teamdrhong.repository;
 
+import com.jober.final2teamdrhong.dto.common.ContentPreview;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateSummaryResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.SourcePublicTemplateStats;
 import com.jober.final2teamdrhong.entity.IndividualTemplate;
+import com.jober.final2teamdrhong.entity.PublicTemplate;
 import com.jober.final2teamdrhong.entity.User;
 import com.jober.final2teamdrhong.entity.Workspace;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +34,12 @@ class IndividualTemplateRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PublicTemplateRepository publicTemplateRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     @DisplayName("findByIdOrThrow - 존재하는 ID 조회 성공")
     void findByIdOrThrow_success() {
@@ -91,14 +103,14 @@ class IndividualTemplateRepositoryTest {
                 .build());
 
         // when
-        Page<IndividualTemplate> page = individualTemplateRepository.findByWorkspace_WorkspaceId(
+        Page<IndividualTemplateSummaryResponse> page = individualTemplateRepository.findByWorkspace_WorkspaceId(
                 workspace.getWorkspaceId(),
                 PageRequest.of(0, 10)
         );
 
         // then
         assertThat(page).hasSize(1);
-        assertThat(page.getContent().get(0).getIndividualTemplateTitle()).isEqualTo("템플릿A");
+        assertThat(page.getContent().get(0).individualTemplateTitle()).isEqualTo("템플릿A");
     }
 
     @Test
@@ -127,7 +139,7 @@ class IndividualTemplateRepositoryTest {
                 .build());
 
         // when
-        Page<IndividualTemplate> page = individualTemplateRepository.findByWorkspace_WorkspaceIdAndStatus(
+        Page<IndividualTemplateSummaryResponse> page = individualTemplateRepository.findByWorkspace_WorkspaceIdAndStatus(
                 workspace.getWorkspaceId(),
                 IndividualTemplate.Status.APPROVED,
                 PageRequest.of(0, 10)
@@ -135,7 +147,7 @@ class IndividualTemplateRepositoryTest {
 
         // then
         assertThat(page).hasSize(1);
-        assertThat(page.getContent().get(0).getStatus()).isEqualTo(IndividualTemplate.Status.APPROVED);
+        assertThat(page.getContent().get(0).status()).isEqualTo(IndividualTemplate.Status.APPROVED);
     }
 
     @Test
@@ -220,16 +232,16 @@ class IndividualTemplateRepositoryTest {
         );
 
         // when
-        Page<IndividualTemplate> page = individualTemplateRepository
+        Page<IndividualTemplateSummaryResponse> page = individualTemplateRepository
                 .findAllByWorkspaceOrderByTitleAsc(workspace.getWorkspaceId(), PageRequest.of(0, 10));
 
-        List<IndividualTemplate> result = page.getContent();
+        List<IndividualTemplateSummaryResponse> result = page.getContent();
 
         // then
         assertThat(result).hasSize(3);
-        assertThat(result.get(0).getIndividualTemplateTitle()).isEqualTo("가나다");
-        assertThat(result.get(1).getIndividualTemplateTitle()).isEqualTo("다라마");
-        assertThat(result.get(2).getIndividualTemplateTitle()).isNull(); // NULL 값은 마지막
+        assertThat(result.get(0).individualTemplateTitle()).isEqualTo("가나다");
+        assertThat(result.get(1).individualTemplateTitle()).isEqualTo("다라마");
+        assertThat(result.get(2).individualTemplateTitle()).isNull(); // NULL 값은 마지막
     }
 
     @Test
@@ -273,17 +285,203 @@ class IndividualTemplateRepositoryTest {
         );
 
         // when
-        Page<IndividualTemplate> page = individualTemplateRepository
+        Page<IndividualTemplateSummaryResponse> page = individualTemplateRepository
                 .findAllByWorkspaceAndStatusOrderByTitleAsc(
                         workspace.getWorkspaceId(),
                         IndividualTemplate.Status.DRAFT,
                         PageRequest.of(0, 10));
 
-        List<IndividualTemplate> result = page.getContent();
+        List<IndividualTemplateSummaryResponse> result = page.getContent();
 
         // then
         assertThat(result).hasSize(1);
-        assertThat(result.get(0).getStatus()).isEqualTo(IndividualTemplate.Status.DRAFT);
-        assertThat(result.get(0).getIndividualTemplateTitle()).isEqualTo("가나다");
+        assertThat(result.get(0).status()).isEqualTo(IndividualTemplate.Status.DRAFT);
+        assertThat(result.get(0).individualTemplateTitle()).isEqualTo("가나다");
+    }
+
+    @Test
+    @DisplayName("커서 기반 제목순 조회 - 페이지를 이어가도 누락/중복 없이 NULL 제목이 마지막에 온다")
+    void findTitleByCursor_walksAllPages() {
+        // given
+        Workspace workspace = saveWorkspace("cursor-title@test.com");
+        IndividualTemplate nullA = saveTemplate(workspace, null);
+        saveTemplate(workspace, "다라마");
+        IndividualTemplate nullB = saveTemplate(workspace, null);
+        saveTemplate(workspace, "가나다");
+        saveTemplate(workspace, "나다라");
+
+        Integer workspaceId = workspace.getWorkspaceId();
+        PageRequest limit = PageRequest.of(0, 2);
+
+        // when
+        List<IndividualTemplateSummaryResponse> visited = new ArrayList<>();
+        List<IndividualTemplateSummaryResponse> page = individualTemplateRepository.findTitleFirstPage(workspaceId, null, limit);
+        while (!page.isEmpty()) {
+            visited.addAll(page);
+            IndividualTemplateSummaryResponse last = page.get(page.size() - 1);
+            page = last.individualTemplateTitle() == null
+                    ? individualTemplateRepository.findNullTitleAfter(
+                            workspaceId, null, last.individualTemplateId(), limit)
+                    : individualTemplateRepository.findTitleAfter(
+                            workspaceId, null, last.individualTemplateTitle(), last.individualTemplateId(), limit);
+        }
+
+        // then
+        assertThat(visited).extracting(IndividualTemplateSummaryResponse::individualTemplateTitle)
+                .containsExactly("가나다", "나다라", "다라마", null, null);
+        // NULL 구간은 id 내림차순
+        assertThat(visited.subList(3, 5)).extracting(IndividualTemplateSummaryResponse::individualTemplateId)
+                .containsExactly(nullB.getIndividualTemplateId(), nullA.getIndividualTemplateId());
+    }
+
+    @Test
+    @DisplayName("커서 기반 제목순 조회 - 상태 필터가 있어도 한 페이지 안에서 제목 구간에서 NULL 구간으로 이어진다")
+    void findTitleByCursor_withStatus_crossesIntoNullSection() {
+        // given
+        Workspace workspace = saveWorkspace("cursor-title-status@test.com");
+        IndividualTemplate nullDraft = saveTemplate(workspace, null);
+        IndividualTemplate titledDraft = saveTemplate(workspace, "가나다");
+        individualTemplateRepository.save(IndividualTemplate.builder()
+                .workspace(workspace)
+                .individualTemplateTitle("승인됨")
+                .status(IndividualTemplate.Status.APPROVED)
+                .build());
+
+        // when
+        List<IndividualTemplateSummaryResponse> page = individualTemplateRepository.findTitleFirstPage(
+                workspace.getWorkspaceId(), IndividualTemplate.Status.DRAFT, PageRequest.of(0, 3));
+
+        // then
+        assertThat(page).extracting(IndividualTemplateSummaryResponse::individualTemplateId)
+                .containsExactly(titledDraft.getIndividualTemplateId(), nullDraft.getIndividualTemplateId());
+    }
+
+    @Test
+    @DisplayName("커서 기반 최신순 조회 - 상태 필터와 (updatedAt, id) 커서로 다음 페이지를 조회한다")
+    void findLatestByCursor_withStatus() {
+        // given
+        Workspace workspace = saveWorkspace("cursor-latest@test.com");
+        IndividualTemplate first = saveTemplate(workspace, "첫번째");
+        IndividualTemplate second = saveTemplate(workspace, "두번째");
+        IndividualTemplate third = saveTemplate(workspace, "세번째");
+        individualTemplateRepository.save(IndividualTemplate.builder()
+                .workspace(workspace)
+                .individualTemplateTitle("승인됨")
+                .status(IndividualTemplate.Status.APPROVED)
+                .build());
+
+        Integer workspaceId = workspace.getWorkspaceId();
+        PageRequest limit = PageRequest.of(0, 2);
+
+        // when
+        List<IndividualTemplateSummaryResponse> firstPage = individualTemplateRepository
+                .findLatestFirstPage(workspaceId, IndividualTemplate.Status.DRAFT, limit);
+        IndividualTemplateSummaryResponse last = firstPage.get(firstPage.size() - 1);
+        List<IndividualTemplateSummaryResponse> nextPage = individualTemplateRepository.findLatestAfter(
+                workspaceId, IndividualTemplate.Status.DRAFT, last.updatedAt(), last.individualTemplateId(), limit);
+
+        // then
+        assertThat(firstPage).extracting(IndividualTemplateSummaryResponse::individualTemplateId)
+                .containsExactly(third.getIndividualTemplateId(), second.getIndividualTemplateId());
+        assertThat(nextPage).extracting(IndividualTemplateSummaryResponse::individualTemplateId)
+                .containsExactly(first.getIndividualTemplateId());
+    }
+
+    @Test
+    @DisplayName("목록 프로젝션은 본문을 SQL에서 잘라 미리보기만 조회한다")
+    void findByWorkspaceId_contentPreviewIsTruncated() {
+        // given
+        Workspace workspace = saveWorkspace("preview@test.com");
+        individualTemplateRepository.save(IndividualTemplate.builder()
+                .workspace(workspace)
+                .individualTemplateTitle("긴 본문")
+                .individualTemplateContent("가".repeat(ContentPreview.LENGTH + 300))
+                .build());
+
+        // when
+        Page<IndividualTemplateSummaryResponse> page = individualTemplateRepository.findByWorkspace_WorkspaceId(
+                workspace.getWorkspaceId(),
+                PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.getContent().get(0).contentPreview()).hasSize(ContentPreview.LENGTH);
+        assertThat(page.getContent().get(0).workspaceId()).isEqualTo(workspace.getWorkspaceId());
+    }
+
+    @Test
+    @DisplayName("findSourceStats - 공용 템플릿에서 복사한 템플릿만 원본 통계를 조회")
+    void findSourceStats() {
+        // given
+        Workspace workspace = saveWorkspace("source@example.com");
+        PublicTemplate publicTemplate = publicTemplateRepository.save(PublicTemplate.builder()
+                .publicTemplateTitle("공용 제목")
+                .publicTemplateContent("공용 내용")
+                .build());
+        IndividualTemplate copied = individualTemplateRepository.save(IndividualTemplate.builder()
+                .workspace(workspace)
+                .individualTemplateTitle("복사본")
+                .sourcePublicTemplateId(publicTemplate.getPublicTemplateId())
+                .build());
+        IndividualTemplate own = saveTemplate(workspace, "직접 작성");
+
+        // when
+        Optional<SourcePublicTemplateStats> copiedStats = publicTemplateRepository.findSourceStats(copied.getIndividualTemplateId());
+        Optional<SourcePublicTemplateStats> ownStats = publicTemplateRepository.findSourceStats(own.getIndividualTemplateId());
+
+        // then
+        assertThat(copiedStats).isPresent();
+        assertThat(copiedStats.get().publicTemplateId()).isEqualTo(publicTemplate.getPublicTemplateId());
+        assertThat(copiedStats.get().publicTemplateTitle()).isEqualTo("공용 제목");
+        assertThat(copiedStats.get().viewCount()).isZero();
+        assertThat(ownStats).isEmpty();
+    }
+
+    @Test
+    @DisplayName("updateContent - 제목/본문/버튼 컬럼만 UPDATE하여 조회 후 바뀐 상태를 덮어쓰지 않는다")
+    void updateContent_doesNotOverwriteStatus() {
+        // given: 템플릿을 읽은 뒤 다른 요청이 상태를 APPROVED로 바꿈 (영속성 컨텍스트의 엔티티는 DRAFT 그대로)
+        Workspace workspace = saveWorkspace("dynamic-update@test.com");
+        IndividualTemplate template = saveTemplate(workspace, "수정 전");
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE individual_template SET status = 'APPROVED' WHERE individual_template_id = ?")
+                .setParameter(1, template.getIndividualTemplateId())
+                .executeUpdate();
+
+        // when
+        template.updateContent("수정 후", "본문", "버튼");
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        IndividualTemplate found = individualTemplateRepository.findByIdOrThrow(template.getIndividualTemplateId());
+        assertThat(found.getIndividualTemplateTitle()).isEqualTo("수정 후");
+        assertThat(found.getButtonTitle()).isEqualTo("버튼");
+        assertThat(found.getStatus()).isEqualTo(IndividualTemplate.Status.APPROVED);
+    }
+
+    private Workspace saveWorkspace(String email) {
+        User user = userRepository.save(User.builder()
+                .userName("테스터")
+                .userEmail(email)
+                .userNumber("010-1111-2222")
+                .build());
+
+        return workspaceRepository.save(Workspace.builder()
+                .workspaceName("테스트 워크스페이스")
+                .workspaceUrl("http://test.com")
+                .representerName("홍길동")
+                .representerPhoneNumber("010-9999-8888")
+                .companyName("테스트회사")
+                .user(user)
+                .build());
+    }
+
+    private IndividualTemplate saveTemplate(Workspace workspace, String title) {
+        return individualTemplateRepository.save(IndividualTemplate.builder()
+                .workspace(workspace)
+                .individualTemplateTitle(title)
+                .status(IndividualTemplate.Status.DRAFT)
+                .build());
     }
 }
@@ -0,0 +1,238 @@
+package com.jober.final2teamdrhong.repository;
+
+import com.jober.final2teamdrhong.dto.phonebook.PhoneBookMemberCursor;
+import com.jober.final2teamdrhong.dto.recipient.RecipientResponse;
+import com.jober.final2teamdrhong.entity.PhoneBook;
+import com.jober.final2teamdrhong.entity.User;
+import com.jober.final2teamdrhong.entity.Workspace;
+import com.jober.final2teamdrhong.util.PhoneNumberNormalizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주소록 수신자 목록 조회 지연 시간 벤치마크: OFFSET 페이징 vs 커서(keyset) 페이징 (MySQL 전용, 기본 빌드에서는 실행되지 않음)
+ * <p>
+ * 수신자 50만 명이 속한 주소록을 만든 뒤, 목록의 앞/중간/끝 부분 페이지를 OFFSET 페이지 조회(전체 개수 포함, 기존 API)와
+ * 커서 기반 조회(다음 페이지 확인용 1건 포함)로 각각 읽어 p50/p99 지연 시간을 깊이별로 기록한다.
+ * 지연 시간은 하드웨어와 데이터 분포에 따라 달라지므로 합격 기준을 두지 않으며,
+ * {@code PHONE_BOOK_BENCHMARK_P99_LIMIT_MS}를 지정한 경우에만 커서 기반 조회의 p99가 그 값 미만인지 확인한다.
+ * 데이터셋은 재실행 시 부족한 수신자와 매핑만 추가한다.
+ * <pre>
+ * PHONE_BOOK_BENCHMARK_JDBC_URL='jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true' \
+ * PHONE_BOOK_BENCHMARK_USERNAME=root PHONE_BOOK_BENCHMARK_PASSWORD=... PHONE_BOOK_BENCHMARK_MEMBERS=500000 \
+ * PHONE_BOOK_BENCHMARK_P99_LIMIT_MS=20 \
+ * ./gradlew test --tests '*PhoneBookMemberPagingBenchmarkTest'
+ * </pre>
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "PHONE_BOOK_BENCHMARK_JDBC_URL", matches = ".+")
+class PhoneBookMemberPagingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PhoneBookMemberPagingBenchmarkTest.class);
+
+    private static final String BENCHMARK_EMAIL = "phonebook-benchmark@example.com";
+    private static final int INSERT_CHUNK_SIZE = 5000;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_QUERIES = 20;
+    private static final int MEASURED_QUERIES = 100;
+    // 측정할 페이지 위치 (전체 페이지 중 비율)
+    private static final double[] DEPTHS = {0.0, 0.1, 0.5, 0.9, 0.99};
+
+    private static final String INSERT_RECIPIENT_SQL = "INSERT INTO recipient "
+            + "(recipient_name, recipient_phone_number, recipient_phone_e164, recipient_phone_reversed, recipient_memo, "
+            + "workspace_id, created_at, updated_at, deleted_at, is_deleted) "
+            + "VALUES (?, ?, ?, ?, NULL, ?, ?, ?, NULL, FALSE)";
+
+    private static final String INSERT_MAPPING_SQL = "INSERT INTO group_mapping "
+            + "(phone_book_id, recipient_id, created_at, updated_at, deleted_at, is_deleted) "
+            + "SELECT ?, r.recipient_id, r.created_at, r.created_at, NULL, FALSE "
+            + "FROM recipient r "
+            + "WHERE r.workspace_id = ? "
+            + "AND NOT EXISTS (SELECT 1 FROM group_mapping gm "
+            + "WHERE gm.phone_book_id = ? AND gm.recipient_id = r.recipient_id AND gm.is_deleted = FALSE)";
+
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권", "황"};
+    private static final String[] GIVEN_SYLLABLES = {"민", "서", "지", "현", "준", "우", "수", "영", "하", "진",
+            "은", "도", "윤", "예", "주", "성", "연", "재", "시", "원", "채", "유", "태", "경"};
+
+    @Autowired
+    private GroupMappingRepository groupMappingRepository;
+
+    @Autowired
+    private PhoneBookRepository phoneBookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("PHONE_BOOK_BENCHMARK_JDBC_URL"));
+        registry.add("spring.datasource.username", () -> env("PHONE_BOOK_BENCHMARK_USERNAME", "root"));
+        registry.add("spring.datasource.password", () -> env("PHONE_BOOK_BENCHMARK_PASSWORD", ""));
+        registry.add("spring.datasource.driverClassName", () -> "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.MySQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "update");
+    }
+
+    @Test
+    @DisplayName("수신자 50만 명 주소록에서 OFFSET 페이징과 커서 페이징의 깊이별 p50/p99 지연 시간 비교")
+    void readMembers_offsetVersusKeyset() {
+        // given
+        // 1. 벤치마크 주소록에 수신자와 매핑을 채웁니다.
+        int members = Integer.parseInt(env("PHONE_BOOK_BENCHMARK_MEMBERS", "500000"));
+        Workspace workspace = benchmarkWorkspace();
+        Integer workspaceId = workspace.getWorkspaceId();
+        Integer phoneBookId = benchmarkPhoneBook(workspace).getPhoneBookId();
+        generateDataset(workspaceId, phoneBookId, members);
+        int lastPage = (int) (groupMappingRepository.countMembers(phoneBookId) - 1) / PAGE_SIZE;
+
+        // when & then
+        log.info("주소록 수신자 목록 벤치마크 ({}명, 페이지 크기 {})", members, PAGE_SIZE);
+        String p99LimitMs = System.getenv("PHONE_BOOK_BENCHMARK_P99_LIMIT_MS");
+        for (double depth : DEPTHS) {
+            int page = (int) (lastPage * depth);
+            PhoneBookMemberCursor cursor = cursorBefore(workspaceId, phoneBookId, page);
+
+            long[] offset = measure(() -> groupMappingRepository.findMemberPage(
+                    workspaceId, phoneBookId, PageRequest.of(page, PAGE_SIZE)));
+            long[] keyset = measure(() -> {
+                if (cursor == null) {
+                    groupMappingRepository.findMemberFirstPage(workspaceId, phoneBookId, PageRequest.of(0, PAGE_SIZE + 1));
+                } else {
+                    groupMappingRepository.findMembersAfter(workspaceId, phoneBookId,
+                            cursor.createdAt(), cursor.recipientId(), PageRequest.of(0, PAGE_SIZE + 1));
+                }
+            });
+
+            report(page + "페이지 OFFSET", offset);
+            report(page + "페이지 커서", keyset);
+            if (p99LimitMs != null && !p99LimitMs.isBlank()) {
+                assertThat(percentile(keyset, 99)).isLessThan(Long.parseLong(p99LimitMs) * 1_000_000L);
+            }
+        }
+    }
+
+    private Workspace benchmarkWorkspace() {
+        User user = userRepository.findByUserEmail(BENCHMARK_EMAIL)
+                .orElseGet(() -> userRepository.save(User.builder()
+                        .userName("벤치마크")
+                        .userEmail(BENCHMARK_EMAIL)
+                        .userNumber("010-0000-0000")
+                        .build()));
+        return workspaceRepository.findAllByUser_UserId(user.getUserId()).stream()
+                .findFirst()
+                .orElseGet(() -> workspaceRepository.save(Workspace.builder()
+                        .workspaceName("주소록 수신자 목록 벤치마크")
+                        .workspaceUrl("phonebook-member-benchmark")
+                        .representerName("벤치마크")
+                        .representerPhoneNumber("010-0000-0000")
+                        .companyName("벤치마크")
+                        .user(user)
+                        .build()));
+    }
+
+    private PhoneBook benchmarkPhoneBook(Workspace workspace) {
+        return phoneBookRepository.findAllByWorkspace_WorkspaceId(workspace.getWorkspaceId()).stream()
+                .findFirst()
+                .orElseGet(() -> phoneBookRepository.save(PhoneBook.builder()
+                        .phoneBookName("벤치마크 주소록")
+                        .workspace(workspace)
+                        .build()));
+    }
+
+    /**
+     * 워크스페이스의 수신자가 {@code members}명이 될 때까지 JDBC 배치로 추가한 뒤, 아직 주소록에 없는 수신자를 모두 매핑한다.
+     * 생성 시간은 순번마다 1초씩 달라 커서 페이징의 정렬 키가 고르게 분포하도록 하고, 전화번호는 순번을 섞어 겹치지 않게 만든다.
+     */
+    private void generateDataset(Integer workspaceId, Integer phoneBookId, int members) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM recipient WHERE workspace_id = ?", Integer.class, workspaceId);
+        Random random = new Random(existing);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(INSERT_CHUNK_SIZE);
+        for (int i = existing; i < members; i++) {
+            // 7919는 10^8과 서로소이므로 순번마다 다른 번호가 나온다
+            long number = (i * 7919L + 12_345L) % 100_000_000L;
+            String phoneNumber = String.format("010-%04d-%04d", number / 10_000, number % 10_000);
+            LocalDateTime createdAt = now.minusSeconds(members - i);
+            batch.add(new Object[]{randomName(random), phoneNumber, PhoneNumberNormalizer.toE164(phoneNumber),
+                    PhoneNumberNormalizer.toReversedDigits(phoneNumber), workspaceId, createdAt, createdAt});
+            if (batch.size() == INSERT_CHUNK_SIZE || i == members - 1) {
+                jdbcTemplate.batchUpdate(INSERT_RECIPIENT_SQL, batch);
+                batch.clear();
+            }
+        }
+        int mapped = jdbcTemplate.update(INSERT_MAPPING_SQL, phoneBookId, workspaceId, phoneBookId);
+        log.info("주소록 수신자 목록 벤치마크 데이터셋 준비: 기존 수신자 {}명, 목표 {}명, 매핑 추가 {}건", existing, members, mapped);
+    }
+
+    /**
+     * 주어진 페이지 바로 앞 행의 커서를 구한다. (첫 페이지면 null)
+     * 측정 대상이 아니므로 OFFSET 조회로 한 번만 구한다.
+     */
+    private PhoneBookMemberCursor cursorBefore(Integer workspaceId, Integer phoneBookId, int page) {
+        if (page == 0) {
+            return null;
+        }
+        List<RecipientResponse.SimpleDTO> previous = groupMappingRepository.findMemberFirstPage(
+                workspaceId, phoneBookId, PageRequest.of(page - 1, PAGE_SIZE));
+        return PhoneBookMemberCursor.of(previous.get(previous.size() - 1));
+    }
+
+    private long[] measure(Runnable query) {
+        long[] elapsed = new long[MEASURED_QUERIES];
+        for (int i = 0; i < WARMUP_QUERIES + MEASURED_QUERIES; i++) {
+            long start = System.nanoTime();
+            query.run();
+            if (i >= WARMUP_QUERIES) {
+                elapsed[i - WARMUP_QUERIES] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(elapsed);
+        return elapsed;
+    }
+
+    private static void report(String label, long[] sortedNanos) {
+        log.info("{}: p50 = {}ms, p99 = {}ms", label,
+                percentile(sortedNanos, 50) / 1_000_000.0, percentile(sortedNanos, 99) / 1_000_000.0);
+    }
+
+    private static long percentile(long[] sortedNanos, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)];
+    }
+
+    private static String randomName(Random random) {
+        return SURNAMES[random.nextInt(SURNAMES.length)]
+                + GIVEN_SYLLABLES[random.nextInt(GIVEN_SYLLABLES.length)]
+                + GIVEN_SYLLABLES[random.nextInt(GIVEN_SYLLABLES.length)];
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
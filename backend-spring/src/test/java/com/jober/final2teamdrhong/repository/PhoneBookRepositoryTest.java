@@ -1,6 +1,9 @@
 package com.jober.final2teamdrhong.repository;
 
+import com.jober.final2teamdrhong.dto.phonebook.PhoneBookResponse;
+import com.jober.final2teamdrhong.entity.GroupMapping;
 import com.jober.final2teamdrhong.entity.PhoneBook;
+import com.jober.final2teamdrhong.entity.Recipient;
 import com.jober.final2teamdrhong.entity.User;
 import com.jober.final2teamdrhong.entity.Workspace;
 import org.junit.jupiter.api.BeforeEach;
@@ -192,6 +195,52 @@ class PhoneBookRepositoryTest {
         assertThat(phoneBookList).isEmpty();
     }
 
+    @Test
+    @DisplayName("주소록 목록 수신자 수 집계 조회 테스트 - 삭제된 매핑과 삭제된 수신자 제외")
+    void findSummariesWithRecipientCount_Test() {
+        // given
+        // 1. testPhoneBook에 수신자 3명을 매핑하고, 그중 하나는 매핑을, 하나는 수신자를 소프트 딜리트합니다.
+        PhoneBook phoneBook = entityManager.find(PhoneBook.class, testPhoneBook.getPhoneBookId());
+        Workspace workspace = entityManager.find(Workspace.class, testWorkspace.getWorkspaceId());
+        Recipient live = persistRecipient("수신자1", workspace);
+        Recipient removedFromBook = persistRecipient("수신자2", workspace);
+        Recipient deletedRecipient = persistRecipient("수신자3", workspace);
+
+        entityManager.persist(GroupMapping.builder().phoneBook(phoneBook).recipient(live).build());
+        GroupMapping deletedMapping = GroupMapping.builder().phoneBook(phoneBook).recipient(removedFromBook).build();
+        entityManager.persist(deletedMapping);
+        entityManager.persist(GroupMapping.builder().phoneBook(phoneBook).recipient(deletedRecipient).build());
+        deletedMapping.softDelete();
+        deletedRecipient.softDelete();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<PhoneBookResponse.SimpleDTO> summaries =
+                phoneBookRepository.findSummariesWithRecipientCount(testWorkspace.getWorkspaceId());
+
+        // then
+        // 1. 워크스페이스의 주소록 2개가 ID 순으로 조회됩니다.
+        assertThat(summaries)
+                .extracting(PhoneBookResponse.SimpleDTO::phoneBookId)
+                .containsExactly(testPhoneBook.getPhoneBookId(), testPhoneBook2.getPhoneBookId());
+        // 2. 살아 있는 매핑만 세고, 수신자가 없는 주소록은 0으로 조회됩니다.
+        assertThat(summaries)
+                .extracting(PhoneBookResponse.SimpleDTO::recipientCount)
+                .containsExactly(1L, 0L);
+        assertThat(summaries.getFirst().phoneBookName()).isEqualTo("test-phonebook");
+    }
+
+    private Recipient persistRecipient(String name, Workspace workspace) {
+        Recipient recipient = Recipient.builder()
+                .recipientName(name)
+                .recipientPhoneNumber("010-1111-1111")
+                .workspace(workspace)
+                .build();
+        entityManager.persist(recipient);
+        return recipient;
+    }
+
     @Test
     @DisplayName("소프트 딜리트된 주소록 포함 조회 성공 테스트 - 정상 상태 주소록")
     void findByIdIncludingDeleted_Success_NormalPhoneBook_Test() {
@@ -256,4 +305,23 @@ class PhoneBookRepositoryTest {
         // 1. Optional 객체가 비어있는지(조회 실패) 확인합니다.
         assertThat(foundPhoneBookOpt).isNotPresent();
     }
+
+    @Test
+    @DisplayName("삭제되지 않은 주소록 잠금 조회 테스트 - 삭제된 주소록은 빈 결과")
+    void lockLivePhoneBookId_Test() {
+        // given
+        // 1. testPhoneBook2를 소프트 딜리트 처리합니다.
+        PhoneBook phoneBookToDelete = entityManager.find(PhoneBook.class, testPhoneBook2.getPhoneBookId());
+        phoneBookToDelete.softDelete();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Optional<Integer> live = phoneBookRepository.lockLivePhoneBookId(testPhoneBook.getPhoneBookId());
+        Optional<Integer> deleted = phoneBookRepository.lockLivePhoneBookId(testPhoneBook2.getPhoneBookId());
+
+        // then
+        assertThat(live).contains(testPhoneBook.getPhoneBookId());
+        assertThat(deleted).isEmpty();
+    }
 }
@@ -0,0 +1,170 @@
+package com.jober.final2teamdrhong.repository;
+
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateSearchRequest;
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateSearchRequest.SearchTarget;
+import com.jober.final2teamdrhong.service.search.PublicTemplateFullTextIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공용 템플릿 키워드 검색 지연 시간 벤치마크: FULLTEXT(ngram) vs LIKE (MySQL 전용, 기본 빌드에서는 실행되지 않음)
+ * <p>
+ * 공용 템플릿 데이터셋(기본 100만 건)을 생성한 뒤 같은 키워드로 FULLTEXT 검색과 기존 LIKE 검색의
+ * 첫 페이지(전체 건수 포함) p50/p99 지연 시간을 검색 대상(제목/본문/전체)별로 측정해 기록한다.
+ * 지연 시간은 하드웨어와 데이터 분포에 따라 달라지므로 합격 기준을 두지 않으며,
+ * {@code PUBLIC_TEMPLATE_BENCHMARK_P99_LIMIT_MS}를 지정한 경우에만 FULLTEXT 검색의 p99가 그 값 미만인지 확인한다.
+ * 먼저 db/migration/public_template_fulltext_ngram.sql을 적용해야 하며, 데이터셋은 재실행 시 부족한 행만 추가한다.
+ * <pre>
+ * PUBLIC_TEMPLATE_BENCHMARK_JDBC_URL='jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true' \
+ * PUBLIC_TEMPLATE_BENCHMARK_USERNAME=root PUBLIC_TEMPLATE_BENCHMARK_PASSWORD=... PUBLIC_TEMPLATE_BENCHMARK_ROWS=1000000 \
+ * PUBLIC_TEMPLATE_BENCHMARK_P99_LIMIT_MS=100 \
+ * ./gradlew test --tests '*PublicTemplateSearchBenchmarkTest'
+ * </pre>
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "PUBLIC_TEMPLATE_BENCHMARK_JDBC_URL", matches = ".+")
+class PublicTemplateSearchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicTemplateSearchBenchmarkTest.class);
+
+    private static final int INSERT_CHUNK_SIZE = 5000;
+    private static final int WARMUP_QUERIES = 20;
+    private static final int MEASURED_QUERIES = 100;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    private static final String INSERT_SQL = "INSERT INTO public_template "
+            + "(public_template_title, public_template_content, button_title, share_count, view_count, "
+            + "created_at, updated_at, deleted_at, is_deleted) "
+            + "VALUES (?, ?, NULL, 0, 0, ?, ?, NULL, FALSE)";
+
+    private static final String[] KEYWORDS = {"회의", "안내", "예약", "배송", "결제", "쿠폰", "이벤트", "출석",
+            "상담", "공지", "점검", "행사", "초대", "설문", "할인", "가입", "환불", "교육", "모집", "방문"};
+    private static final String[] FILLER_WORDS = {"고객님", "안녕하세요", "확인", "부탁드립니다", "일정", "변경",
+            "감사합니다", "문의", "바랍니다", "진행", "완료", "요청", "관련", "내용", "다음", "참고"};
+
+    @Autowired
+    private PublicTemplateRepository publicTemplateRepository;
+
+    @Autowired
+    private PublicTemplateFullTextIndex publicTemplateFullTextIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("PUBLIC_TEMPLATE_BENCHMARK_JDBC_URL"));
+        registry.add("spring.datasource.username", () -> env("PUBLIC_TEMPLATE_BENCHMARK_USERNAME", "root"));
+        registry.add("spring.datasource.password", () -> env("PUBLIC_TEMPLATE_BENCHMARK_PASSWORD", ""));
+        registry.add("spring.datasource.driverClassName", () -> "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.MySQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "update");
+    }
+
+    @Test
+    @DisplayName("공용 템플릿 100만 건에서 FULLTEXT 검색과 LIKE 검색의 p50/p99 지연 시간 비교")
+    void searchPublicTemplates_fullTextVersusLike() {
+        // given
+        // 1. 데이터셋을 채우고, 적재 후 FULLTEXT 인덱스가 모두 있는지 확인합니다.
+        int rows = Integer.parseInt(env("PUBLIC_TEMPLATE_BENCHMARK_ROWS", "1000000"));
+        generateDataset(rows);
+        publicTemplateFullTextIndex.initialize();
+        assertThat(publicTemplateFullTextIndex.isAvailable())
+                .as("db/migration/public_template_fulltext_ngram.sql을 먼저 적용해야 합니다")
+                .isTrue();
+
+        // when & then
+        log.info("공용 템플릿 검색 벤치마크 ({}건)", rows);
+        String p99LimitMs = System.getenv("PUBLIC_TEMPLATE_BENCHMARK_P99_LIMIT_MS");
+        for (SearchTarget target : SearchTarget.values()) {
+            long[] fullText = measure(new Random(11), search -> publicTemplateRepository.searchSummariesByFullText(
+                    publicTemplateFullTextIndex.toBooleanQuery(search).orElseThrow(), target, FIRST_PAGE), target);
+            long[] like = measure(new Random(11), search -> publicTemplateRepository.findSummaries(
+                    PublicTemplateSpecification.withSearch(search), FIRST_PAGE), target);
+
+            report(target + " FULLTEXT", fullText);
+            report(target + " LIKE", like);
+            if (p99LimitMs != null && !p99LimitMs.isBlank()) {
+                assertThat(percentile(fullText, 99)).isLessThan(Long.parseLong(p99LimitMs) * 1_000_000L);
+            }
+        }
+    }
+
+    /**
+     * 공용 템플릿이 {@code rows}건이 될 때까지 JDBC 배치로 추가한다.
+     * 제목과 본문은 고정 시드로 키워드와 일반 단어를 섞어 만든다.
+     */
+    private void generateDataset(int rows) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM public_template WHERE is_deleted = FALSE", Integer.class);
+        Random random = new Random(existing);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(INSERT_CHUNK_SIZE);
+        for (int i = existing; i < rows; i++) {
+            String title = KEYWORDS[random.nextInt(KEYWORDS.length)] + " " + FILLER_WORDS[random.nextInt(FILLER_WORDS.length)];
+            StringBuilder content = new StringBuilder();
+            for (int word = 0; word < 30; word++) {
+                String[] words = random.nextInt(10) == 0 ? KEYWORDS : FILLER_WORDS;
+                content.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            LocalDateTime createdAt = now.minusSeconds(rows - i);
+            batch.add(new Object[]{title, content.toString().trim(), createdAt, createdAt});
+            if (batch.size() == INSERT_CHUNK_SIZE || i == rows - 1) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+        log.info("공용 템플릿 검색 벤치마크 데이터셋 준비: 기존 {}건, 목표 {}건", existing, rows);
+    }
+
+    private long[] measure(Random random, Consumer<PublicTemplateSearchRequest> searchQuery, SearchTarget target) {
+        long[] elapsed = new long[MEASURED_QUERIES];
+        for (int i = 0; i < WARMUP_QUERIES + MEASURED_QUERIES; i++) {
+            PublicTemplateSearchRequest search = new PublicTemplateSearchRequest();
+            search.setKeyword(KEYWORDS[random.nextInt(KEYWORDS.length)]);
+            search.setSearchTarget(target);
+            long start = System.nanoTime();
+            searchQuery.accept(search);
+            if (i >= WARMUP_QUERIES) {
+                elapsed[i - WARMUP_QUERIES] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(elapsed);
+        return elapsed;
+    }
+
+    private static void report(String label, long[] sortedNanos) {
+        log.info("{}: p50 = {}ms, p99 = {}ms", label,
+                percentile(sortedNanos, 50) / 1_000_000.0, percentile(sortedNanos, 99) / 1_000_000.0);
+    }
+
+    private static long percentile(long[] sortedNanos, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)];
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -1,8 +1,12 @@
 package com.jober.final2teamdrhong.repository;
 
+import com.jober.final2teamdrhong.dto.recipient.RecipientContact;
+import com.jober.final2teamdrhong.dto.recipient.RecipientResponse;
+import com.jober.final2teamdrhong.dto.recipient.RecipientSearchRequest;
 import com.jober.final2teamdrhong.entity.Recipient;
 import com.jober.final2teamdrhong.entity.User;
 import com.jober.final2teamdrhong.entity.Workspace;
+import jakarta.persistence.PersistenceException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,9 +18,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 class RecipientRepositoryTest {
@@ -163,14 +170,14 @@ class RecipientRepositoryTest {
 
     @Test
     @DisplayName("워크스페이스, 이름, 전화번호로 수신자 존재 여부 확인 성공 테스트")
-    void existsByWorkspaceAndRecipientNameAndRecipientPhoneNumber_Success_Test() {
+    void existsByWorkspaceAndRecipientNameAndRecipientPhoneE164_Success_Test() {
         // given
         // 1. 테스트 데이터는 @BeforeEach 에서 이미 설정됨 ("홍길동", "010-1111-2222", testWorkspace)
 
         // when
-        // 1. 존재하는 데이터로 존재 여부를 확인하는 메소드를 호출합니다.
-        boolean exists = recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneNumber(
-                testWorkspace, "홍길동", "010-1111-2222");
+        // 1. 저장 시 계산된 E.164 형식의 전화번호로 존재 여부를 확인하는 메소드를 호출합니다.
+        boolean exists = recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneE164(
+                testWorkspace, "홍길동", "+821011112222");
 
         // then
         // 1. 결과가 true인지 검증합니다.
@@ -179,20 +186,20 @@ class RecipientRepositoryTest {
 
     @Test
     @DisplayName("워크스페이스, 이름, 전화번호로 수신자 존재 여부 확인 실패 테스트")
-    void existsByWorkspaceAndRecipientNameAndRecipientPhoneNumber_Fail_Test() {
+    void existsByWorkspaceAndRecipientNameAndRecipientPhoneE164_Fail_Test() {
         // given
         // 1. 테스트 데이터는 @BeforeEach 에서 이미 설정됨
 
         // when
         // 1. 존재하지 않는 이름으로 조회
-        boolean existsByName = recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneNumber(
-                testWorkspace, "없는이름", "010-1111-2222");
+        boolean existsByName = recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneE164(
+                testWorkspace, "없는이름", "+821011112222");
         // 2. 존재하지 않는 전화번호로 조회
-        boolean existsByPhoneNumber = recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneNumber(
-                testWorkspace, "홍길동", "010-9999-9999");
+        boolean existsByPhoneNumber = recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneE164(
+                testWorkspace, "홍길동", "+821099999999");
         // 3. 다른 워크스페이스로 조회
-        boolean existsByWorkspace = recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneNumber(
-                anotherWorkspace, "홍길동", "010-1111-2222");
+        boolean existsByWorkspace = recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneE164(
+                anotherWorkspace, "홍길동", "+821011112222");
 
         // then
         // 1. 모든 결과가 false인지 검증합니다.
@@ -203,7 +210,7 @@ class RecipientRepositoryTest {
 
     @Test
     @DisplayName("수정 시 자기 자신을 제외한 중복 수신자 존재 여부 확인 성공 테스트")
-    void existsByWorkspaceAndRecipientNameAndRecipientPhoneNumberAndRecipientIdNot_Success_NoDuplicate_Test() {
+    void existsByWorkspaceAndRecipientNameAndRecipientPhoneE164AndRecipientIdNot_Success_NoDuplicate_Test() {
         // given
         // 1. 테스트 데이터는 @BeforeEach 에서 이미 설정됨 ("홍길동", "010-1111-2222", testWorkspace)
         // 2. 추가로 다른 수신자를 저장합니다.
@@ -215,8 +222,8 @@ class RecipientRepositoryTest {
 
         // when
         // 1. 자기 자신(recipient1)을 제외하고, 존재하지 않는 이름과 번호 조합으로 중복 확인
-        boolean exists = recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneNumberAndRecipientIdNot(
-                testWorkspace, "박영수", "010-4444-4444", recipient1.getRecipientId());
+        boolean exists = recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneE164AndRecipientIdNot(
+                testWorkspace, "박영수", "+821044444444", recipient1.getRecipientId());
 
         // then
         // 1. 결과가 false인지 검증합니다. (중복이 없음)
@@ -225,7 +232,7 @@ class RecipientRepositoryTest {
 
     @Test
     @DisplayName("수정 시 자기 자신을 제외한 중복 수신자 존재 여부 확인 실패 테스트 - 다른 수신자와 중복")
-    void existsByWorkspaceAndRecipientNameAndRecipientPhoneNumberAndRecipientIdNot_Fail_DuplicateWithOther_Test() {
+    void existsByWorkspaceAndRecipientNameAndRecipientPhoneE164AndRecipientIdNot_Fail_DuplicateWithOther_Test() {
         // given
         // 1. 테스트 데이터는 @BeforeEach 에서 이미 설정됨 ("홍길동", "010-1111-2222", testWorkspace)
         // 2. 추가로 다른 수신자를 저장합니다.
@@ -237,8 +244,8 @@ class RecipientRepositoryTest {
 
         // when
         // 1. 자기 자신(recipient1)을 제외하고, 다른 수신자(anotherRecipient)와 동일한 이름과 번호로 중복 확인
-        boolean exists = recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneNumberAndRecipientIdNot(
-                testWorkspace, "김철수", "010-3333-3333", recipient1.getRecipientId());
+        boolean exists = recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneE164AndRecipientIdNot(
+                testWorkspace, "김철수", "+821033333333", recipient1.getRecipientId());
 
         // then
         // 1. 결과가 true인지 검증합니다. (다른 수신자와 중복됨)
@@ -247,14 +254,14 @@ class RecipientRepositoryTest {
 
     @Test
     @DisplayName("수정 시 자기 자신을 제외한 중복 수신자 존재 여부 확인 성공 테스트 - 자기 자신과는 중복 허용")
-    void existsByWorkspaceAndRecipientNameAndRecipientPhoneNumberAndRecipientIdNot_Success_SelfExcluded_Test() {
+    void existsByWorkspaceAndRecipientNameAndRecipientPhoneE164AndRecipientIdNot_Success_SelfExcluded_Test() {
         // given
         // 1. 테스트 데이터는 @BeforeEach 에서 이미 설정됨 ("홍길동", "010-1111-2222", testWorkspace)
 
         // when
         // 1. 자기 자신(recipient1)을 제외하고, 자기 자신과 동일한 이름과 번호로 중복 확인
-        boolean exists = recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneNumberAndRecipientIdNot(
-                testWorkspace, "홍길동", "010-1111-2222", recipient1.getRecipientId());
+        boolean exists = recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneE164AndRecipientIdNot(
+                testWorkspace, "홍길동", "+821011112222", recipient1.getRecipientId());
 
         // then
         // 1. 결과가 false인지 검증합니다. (자기 자신은 제외되므로 중복이 아님)
@@ -320,4 +327,174 @@ class RecipientRepositoryTest {
         // 1. Optional 객체가 비어있는지 확인합니다. (조회 실패)
         assertThat(foundRecipientOpt).isNotPresent();
     }
+
+    @Test
+    @DisplayName("워크스페이스 소속 수신자 ID 조회 테스트 - 다른 워크스페이스와 존재하지 않는 ID는 제외")
+    void findRecipientIdsInWorkspace_Test() {
+        // given
+        // 1. 워크스페이스 소속(1, 2), 다른 워크스페이스 소속(3), 존재하지 않는 ID를 섞어서 준비합니다.
+        List<Integer> requestedIds = List.of(
+                recipient1.getRecipientId(), recipient2.getRecipientId(), recipient3.getRecipientId(), 9999);
+
+        // when
+        List<Integer> foundIds = recipientRepository.findRecipientIdsInWorkspace(testWorkspace.getWorkspaceId(), requestedIds);
+
+        // then
+        // 1. 해당 워크스페이스에 속한 수신자 ID만 반환되는지 확인합니다.
+        assertThat(foundIds).containsExactlyInAnyOrder(recipient1.getRecipientId(), recipient2.getRecipientId());
+    }
+
+    @Test
+    @DisplayName("수신자 ID 목록으로 응답 DTO를 조회하는 테스트 - 엔티티 없이 수신자 정보를 프로젝션")
+    void findSimpleDTOsByRecipientIdIn_Test() {
+        // when
+        List<RecipientResponse.SimpleDTO> found = recipientRepository.findSimpleDTOsByRecipientIdIn(
+                List.of(recipient1.getRecipientId(), recipient2.getRecipientId()));
+
+        // then
+        // 1. 요청한 수신자들의 정보가 DTO로 반환되는지 확인합니다.
+        assertThat(found)
+                .extracting(RecipientResponse.SimpleDTO::recipientId, RecipientResponse.SimpleDTO::recipientName)
+                .containsExactlyInAnyOrder(
+                        tuple(recipient1.getRecipientId(), recipient1.getRecipientName()),
+                        tuple(recipient2.getRecipientId(), recipient2.getRecipientName()));
+    }
+
+    @Test
+    @DisplayName("E.164 전화번호로 워크스페이스의 수신자 연락처를 한 번에 조회하는 테스트 - 표기가 달라도 같은 번호로 조회")
+    void findContactsByPhoneE164s_Test() {
+        // given
+        // 1. 하이픈 없이 저장한 수신자를 추가합니다. (저장 시 E.164 형식이 계산됨)
+        Recipient withoutHyphen = recipientRepository.saveAndFlush(Recipient.builder()
+                .recipientName("이몽룡")
+                .recipientPhoneNumber("01011112222")
+                .workspace(testWorkspace)
+                .build());
+
+        // when
+        // 1. recipient1, withoutHyphen(같은 번호), recipient3(다른 워크스페이스)의 번호로 조회합니다.
+        List<RecipientContact> contacts = recipientRepository.findContactsByPhoneE164s(
+                testWorkspace.getWorkspaceId(), List.of("+821011112222", "+821033334444"));
+
+        // then
+        // 1. 같은 워크스페이스에서 같은 번호를 가진 수신자만 수신자 ID 순으로 반환됩니다.
+        assertThat(contacts).containsExactly(
+                new RecipientContact(recipient1.getRecipientId(), "홍길동", "010-1111-2222", "+821011112222"),
+                new RecipientContact(withoutHyphen.getRecipientId(), "이몽룡", "01011112222", "+821011112222"));
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 수신자 중 같은 워크스페이스, 이름, E.164 전화번호는 유니크 제약으로 저장할 수 없는 테스트")
+    void uniqueLivePhoneE164_Test() {
+        // given
+        // 1. recipient1과 표기만 다른 같은 번호, 같은 이름의 수신자를 준비합니다.
+        Recipient duplicate = Recipient.builder()
+                .recipientName("홍길동")
+                .recipientPhoneNumber("+82 10-1111-2222")
+                .workspace(testWorkspace)
+                .build();
+
+        // when & then
+        // 1. 저장 시 유니크 제약 위반이 발생합니다.
+        assertThatThrownBy(() -> entityManager.persistAndFlush(duplicate))
+                .isInstanceOf(PersistenceException.class);
+    }
+
+    @Test
+    @DisplayName("소프트 딜리트된 수신자와 같은 이름, 전화번호의 수신자는 다시 저장할 수 있는 테스트")
+    void uniqueLivePhoneE164_AllowsAfterSoftDelete_Test() {
+        // given
+        // 1. recipient1을 소프트 딜리트합니다.
+        entityManager.find(Recipient.class, recipient1.getRecipientId()).softDelete();
+        entityManager.flush();
+
+        // when
+        // 1. 같은 이름과 번호의 수신자를 다시 저장합니다.
+        Recipient recreated = entityManager.persistAndFlush(Recipient.builder()
+                .recipientName("홍길동")
+                .recipientPhoneNumber("010-1111-2222")
+                .workspace(testWorkspace)
+                .build());
+
+        // then
+        assertThat(recreated.getRecipientPhoneE164()).isEqualTo("+821011112222");
+    }
+
+    @Test
+    @DisplayName("이름 앞부분과 전화번호 뒷자리로 수신자를 검색하는 테스트")
+    void searchRecipients_NamePrefixAndPhoneSuffix_Test() {
+        // given
+        // 1. 이름 앞부분과 뒷자리가 같은 수신자를 추가합니다.
+        Recipient sameSuffix = entityManager.persistAndFlush(Recipient.builder()
+                .recipientName("홍민수")
+                .recipientPhoneNumber("010-5555-2222")
+                .workspace(testWorkspace)
+                .build());
+
+        // when
+        List<Recipient> byName = recipientRepository.searchRecipients(
+                testWorkspace.getWorkspaceId(), search("홍", null, null), null);
+        List<Recipient> bySuffix = recipientRepository.searchRecipients(
+                testWorkspace.getWorkspaceId(), search(null, "2222", null), null);
+        List<Recipient> byOtherSuffix = recipientRepository.searchRecipients(
+                testWorkspace.getWorkspaceId(), search(null, "4444", null), null);
+
+        // then
+        // 1. 이름 검색은 이름순, 뒷자리 검색은 뒤집은 번호순으로 반환됩니다.
+        assertThat(byName).extracting(Recipient::getRecipientId)
+                .containsExactly(recipient1.getRecipientId(), sameSuffix.getRecipientId());
+        assertThat(bySuffix).extracting(Recipient::getRecipientId)
+                .containsExactly(recipient1.getRecipientId(), sameSuffix.getRecipientId());
+        // 2. 다른 워크스페이스의 수신자(recipient3)는 검색되지 않습니다.
+        assertThat(byOtherSuffix).isEmpty();
+    }
+
+    @Test
+    @DisplayName("메모 키워드 검색은 LIKE로 동작하고 와일드카드 문자를 그대로 비교하며, 삭제된 수신자는 제외하는 테스트")
+    void searchRecipients_MemoAndEscape_Test() {
+        // given
+        Recipient percent = entityManager.persist(Recipient.builder()
+                .recipientName("홍_수")
+                .recipientPhoneNumber("010-7777-8888")
+                .recipientMemo("할인율 100% 적용")
+                .workspace(testWorkspace)
+                .build());
+        entityManager.persist(Recipient.builder()
+                .recipientName("박문수")
+                .recipientPhoneNumber("010-7777-9999")
+                .recipientMemo("할인율 1000원 적용")
+                .workspace(testWorkspace)
+                .build());
+        Recipient deleted = entityManager.persist(Recipient.builder()
+                .recipientName("최영")
+                .recipientPhoneNumber("010-7777-0000")
+                .recipientMemo("할인율 100% 적용")
+                .workspace(testWorkspace)
+                .build());
+        deleted.softDelete();
+        entityManager.flush();
+
+        // when
+        List<Recipient> byMemo = recipientRepository.searchRecipients(
+                testWorkspace.getWorkspaceId(), search(null, null, "100%"), null);
+        List<Recipient> byName = recipientRepository.searchRecipients(
+                testWorkspace.getWorkspaceId(), search("홍_", null, null), null);
+        List<Recipient> byNameAndMemo = recipientRepository.searchRecipients(
+                testWorkspace.getWorkspaceId(), search("홍", null, "적용"), null);
+
+        // then
+        // 1. %와 _는 와일드카드가 아닌 문자로 비교되고, 삭제된 수신자는 제외됩니다.
+        assertThat(byMemo).extracting(Recipient::getRecipientId).containsExactly(percent.getRecipientId());
+        assertThat(byName).extracting(Recipient::getRecipientId).containsExactly(percent.getRecipientId());
+        // 2. 여러 조건은 모두 만족해야 합니다.
+        assertThat(byNameAndMemo).extracting(Recipient::getRecipientId).containsExactly(percent.getRecipientId());
+    }
+
+    private static RecipientSearchRequest search(String name, String phoneSuffix, String memo) {
+        RecipientSearchRequest search = new RecipientSearchRequest();
+        search.setName(name);
+        search.setPhoneSuffix(phoneSuffix);
+        search.setMemo(memo);
+        return search;
+    }
 }
@@ -0,0 +1,208 @@
+package com.jober.final2teamdrhong.repository;
+
+import com.jober.final2teamdrhong.dto.recipient.RecipientSearchRequest;
+import com.jober.final2teamdrhong.entity.User;
+import com.jober.final2teamdrhong.entity.Workspace;
+import com.jober.final2teamdrhong.service.search.RecipientMemoFullTextIndex;
+import com.jober.final2teamdrhong.util.PhoneNumberNormalizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수신자 검색 지연 시간 벤치마크 (MySQL 전용, 기본 빌드에서는 실행되지 않음)
+ * <p>
+ * 한 워크스페이스에 수신자 데이터셋(기본 100만 건)을 생성한 뒤 이름 앞부분, 전화번호 뒷자리 4자리, 메모 키워드 검색의
+ * p50/p99 지연 시간을 측정해 기록한다. 지연 시간은 하드웨어와 데이터 분포에 따라 달라지므로 합격 기준을 두지 않으며,
+ * {@code RECIPIENT_BENCHMARK_P99_LIMIT_MS}를 지정한 경우에만 p99가 그 값 미만인지 확인한다.
+ * 메모 FULLTEXT 검색을 측정하려면 먼저 db/migration/recipient_memo_fulltext_ngram.sql을 적용한다.
+ * 데이터셋은 재실행 시 부족한 행만 추가한다.
+ * <pre>
+ * RECIPIENT_BENCHMARK_JDBC_URL='jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true' \
+ * RECIPIENT_BENCHMARK_USERNAME=root RECIPIENT_BENCHMARK_PASSWORD=... RECIPIENT_BENCHMARK_ROWS=1000000 \
+ * RECIPIENT_BENCHMARK_P99_LIMIT_MS=50 \
+ * ./gradlew test --tests '*RecipientSearchBenchmarkTest'
+ * </pre>
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "RECIPIENT_BENCHMARK_JDBC_URL", matches = ".+")
+class RecipientSearchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RecipientSearchBenchmarkTest.class);
+
+    private static final String BENCHMARK_EMAIL = "recipient-benchmark@example.com";
+    private static final int INSERT_CHUNK_SIZE = 5000;
+    private static final int WARMUP_QUERIES = 200;
+    private static final int MEASURED_QUERIES = 1000;
+
+    private static final String INSERT_SQL = "INSERT INTO recipient "
+            + "(recipient_name, recipient_phone_number, recipient_phone_e164, recipient_phone_reversed, recipient_memo, "
+            + "workspace_id, created_at, updated_at, deleted_at, is_deleted) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, NULL, FALSE)";
+
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권", "황"};
+    private static final String[] GIVEN_SYLLABLES = {"민", "서", "지", "현", "준", "우", "수", "영", "하", "진",
+            "은", "도", "윤", "예", "주", "성", "연", "재", "시", "원", "채", "유", "태", "경"};
+    private static final String[] MEMO_WORDS = {"단골", "고객", "신규", "휴면", "VIP", "이벤트", "쿠폰", "예약",
+            "상담", "배송", "서울", "부산", "대구", "인천", "광주", "대전", "매장", "온라인", "재구매", "문의"};
+
+    @Autowired
+    private RecipientRepository recipientRepository;
+
+    @Autowired
+    private RecipientMemoFullTextIndex recipientMemoFullTextIndex;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("RECIPIENT_BENCHMARK_JDBC_URL"));
+        registry.add("spring.datasource.username", () -> env("RECIPIENT_BENCHMARK_USERNAME", "root"));
+        registry.add("spring.datasource.password", () -> env("RECIPIENT_BENCHMARK_PASSWORD", ""));
+        registry.add("spring.datasource.driverClassName", () -> "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.MySQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "update");
+    }
+
+    @Test
+    @DisplayName("수신자 100만 건 워크스페이스에서 이름 앞부분, 전화번호 뒷자리, 메모 검색의 p50/p99 지연 시간 측정")
+    void searchRecipients_latency() {
+        // given
+        // 1. 벤치마크 워크스페이스에 데이터셋을 채우고, 적재 후 FULLTEXT 인덱스가 적용되어 있는지 확인합니다.
+        int rows = Integer.parseInt(env("RECIPIENT_BENCHMARK_ROWS", "1000000"));
+        Integer workspaceId = benchmarkWorkspace().getWorkspaceId();
+        generateDataset(workspaceId, rows);
+        recipientMemoFullTextIndex.initialize();
+        Random random = new Random(7);
+
+        // when
+        long[] byName = measure(() -> search(randomName(random).substring(0, 2), null, null), workspaceId);
+        long[] byPhoneSuffix = measure(() -> search(null, String.format("%04d", random.nextInt(10_000)), null), workspaceId);
+        long[] byMemo = measure(() -> search(null, null, MEMO_WORDS[random.nextInt(MEMO_WORDS.length)]), workspaceId);
+
+        // then
+        log.info("수신자 검색 벤치마크 ({}건, FULLTEXT 사용 = {})", rows, recipientMemoFullTextIndex.isAvailable());
+        report("이름 앞부분", byName);
+        report("전화번호 뒷자리", byPhoneSuffix);
+        report("메모 키워드", byMemo);
+        String p99LimitMs = System.getenv("RECIPIENT_BENCHMARK_P99_LIMIT_MS");
+        if (p99LimitMs != null && !p99LimitMs.isBlank()) {
+            long p99LimitNanos = Long.parseLong(p99LimitMs) * 1_000_000L;
+            assertThat(percentile(byName, 99)).isLessThan(p99LimitNanos);
+            assertThat(percentile(byPhoneSuffix, 99)).isLessThan(p99LimitNanos);
+            assertThat(percentile(byMemo, 99)).isLessThan(p99LimitNanos);
+        }
+    }
+
+    private Workspace benchmarkWorkspace() {
+        User user = userRepository.findByUserEmail(BENCHMARK_EMAIL)
+                .orElseGet(() -> userRepository.save(User.builder()
+                        .userName("벤치마크")
+                        .userEmail(BENCHMARK_EMAIL)
+                        .userNumber("010-0000-0000")
+                        .build()));
+        return workspaceRepository.findAllByUser_UserId(user.getUserId()).stream()
+                .findFirst()
+                .orElseGet(() -> workspaceRepository.save(Workspace.builder()
+                        .workspaceName("수신자 검색 벤치마크")
+                        .workspaceUrl("recipient-search-benchmark")
+                        .representerName("벤치마크")
+                        .representerPhoneNumber("010-0000-0000")
+                        .companyName("벤치마크")
+                        .user(user)
+                        .build()));
+    }
+
+    /**
+     * 워크스페이스의 수신자가 {@code rows}건이 될 때까지 JDBC 배치로 추가한다.
+     * 전화번호는 순번을 10^8 범위에서 섞어 겹치지 않게 만들고, 이름과 메모는 고정 시드로 생성한다.
+     */
+    private void generateDataset(Integer workspaceId, int rows) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM recipient WHERE workspace_id = ?", Integer.class, workspaceId);
+        Random random = new Random(existing);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(INSERT_CHUNK_SIZE);
+        for (int i = existing; i < rows; i++) {
+            // 7919는 10^8과 서로소이므로 순번마다 다른 번호가 나온다
+            long number = (i * 7919L + 12_345L) % 100_000_000L;
+            String phoneNumber = String.format("010-%04d-%04d", number / 10_000, number % 10_000);
+            String memo = random.nextInt(10) < 3 ? null
+                    : MEMO_WORDS[random.nextInt(MEMO_WORDS.length)] + " " + MEMO_WORDS[random.nextInt(MEMO_WORDS.length)];
+            batch.add(new Object[]{randomName(random), phoneNumber, PhoneNumberNormalizer.toE164(phoneNumber),
+                    PhoneNumberNormalizer.toReversedDigits(phoneNumber), memo, workspaceId, now, now});
+            if (batch.size() == INSERT_CHUNK_SIZE || i == rows - 1) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+        log.info("수신자 검색 벤치마크 데이터셋 준비: 기존 {}건, 목표 {}건", existing, rows);
+    }
+
+    private long[] measure(Supplier<RecipientSearchRequest> searches, Integer workspaceId) {
+        long[] elapsed = new long[MEASURED_QUERIES];
+        for (int i = 0; i < WARMUP_QUERIES + MEASURED_QUERIES; i++) {
+            RecipientSearchRequest search = searches.get();
+            String memoBooleanQuery = recipientMemoFullTextIndex.toBooleanQuery(search.getMemo()).orElse(null);
+            long start = System.nanoTime();
+            recipientRepository.searchRecipients(workspaceId, search, memoBooleanQuery);
+            if (i >= WARMUP_QUERIES) {
+                elapsed[i - WARMUP_QUERIES] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(elapsed);
+        return elapsed;
+    }
+
+    private static void report(String label, long[] sortedNanos) {
+        log.info("{}: p50 = {}ms, p99 = {}ms", label,
+                percentile(sortedNanos, 50) / 1_000_000.0, percentile(sortedNanos, 99) / 1_000_000.0);
+    }
+
+    private static long percentile(long[] sortedNanos, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)];
+    }
+
+    private static RecipientSearchRequest search(String name, String phoneSuffix, String memo) {
+        RecipientSearchRequest search = new RecipientSearchRequest();
+        search.setName(name);
+        search.setPhoneSuffix(phoneSuffix);
+        search.setMemo(memo);
+        return search;
+    }
+
+    private static String randomName(Random random) {
+        return SURNAMES[random.nextInt(SURNAMES.length)]
+                + GIVEN_SYLLABLES[random.nextInt(GIVEN_SYLLABLES.length)]
+                + GIVEN_SYLLABLES[random.nextInt(GIVEN_SYLLABLES.length)];
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
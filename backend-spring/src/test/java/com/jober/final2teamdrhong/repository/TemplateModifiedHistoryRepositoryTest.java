@@ -0,0 +1,145 @@
+package com.jober.final2teamdrhong.repository;
+
+import com.jober.final2teamdrhong.dto.individualtemplate.HistoryResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.HistorySummaryResponse;
+import com.jober.final2teamdrhong.entity.IndividualTemplate;
+import com.jober.final2teamdrhong.entity.TemplateModifiedHistory;
+import com.jober.final2teamdrhong.entity.TemplateModifiedHistory.StorageType;
+import com.jober.final2teamdrhong.entity.User;
+import com.jober.final2teamdrhong.entity.Workspace;
+import com.jober.final2teamdrhong.service.history.TemplateHistoryStore;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+class TemplateModifiedHistoryRepositoryTest {
+
+    private static final String CONTENT = "#{고객명}님, 예약하신 일정을 안내드립니다.\n".repeat(20).trim();
+
+    @Autowired
+    private TemplateModifiedHistoryRepository templateModifiedHistoryRepository;
+
+    @Autowired
+    private IndividualTemplateRepository individualTemplateRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private TemplateHistoryStore templateHistoryStore;
+
+    private IndividualTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        templateHistoryStore = new TemplateHistoryStore(templateModifiedHistoryRepository, 20);
+
+        User user = userRepository.save(User.builder()
+                .userName("테스터")
+                .userEmail("tester@example.com")
+                .userNumber("010-1111-2222")
+                .build());
+
+        Workspace workspace = workspaceRepository.save(Workspace.builder()
+                .workspaceName("테스트 워크스페이스")
+                .workspaceUrl("http://test.com")
+                .representerName("홍길동")
+                .representerPhoneNumber("010-9999-8888")
+                .companyName("테스트회사")
+                .user(user)
+                .build());
+
+        template = individualTemplateRepository.save(IndividualTemplate.builder()
+                .workspace(workspace)
+                .individualTemplateTitle("예약 안내")
+                .individualTemplateContent(CONTENT)
+                .build());
+    }
+
+    @Test
+    @DisplayName("findSummaryFirstPage/findSummaryAfter - 최신순 커서 조회, 이전 방식 행은 원문 길이로 크기 표시")
+    void findSummaries() {
+        // given: 이전 방식 행 1건 + 스냅샷 1건 + 델타 1건
+        TemplateModifiedHistory legacy = templateModifiedHistoryRepository.save(TemplateModifiedHistory.builder()
+                .historyTitle("이전")
+                .historyContent("이전 본문")
+                .chatAi("이전 AI")
+                .status(IndividualTemplate.Status.DRAFT)
+                .individualTemplate(template)
+                .build());
+        templateHistoryStore.append(template, "스냅샷", CONTENT, null, "AI 응답", "요청", IndividualTemplate.Status.DRAFT);
+        TemplateModifiedHistory delta = templateHistoryStore.append(
+                template, "델타", CONTENT + " 감사합니다.", null, "AI 응답2", "요청2", IndividualTemplate.Status.DRAFT);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<HistorySummaryResponse> first = templateModifiedHistoryRepository.findSummaryFirstPage(
+                template.getIndividualTemplateId(), PageRequest.of(0, 2));
+        HistorySummaryResponse last = first.get(first.size() - 1);
+        List<HistorySummaryResponse> next = templateModifiedHistoryRepository.findSummaryAfter(
+                template.getIndividualTemplateId(), last.createdAt(), last.historyId(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(delta.getStorageType()).isEqualTo(StorageType.DELTA);
+        assertThat(first).extracting(HistorySummaryResponse::individualTemplateTitle).containsExactly("델타", "스냅샷");
+        assertThat(first.get(0).contentLength()).isEqualTo((CONTENT + " 감사합니다.").length());
+        assertThat(first.get(0).chatAiLength()).isEqualTo("AI 응답2".length());
+        assertThat(next).extracting(HistorySummaryResponse::historyId).containsExactly(legacy.getHistoryId());
+        assertThat(next.get(0).contentLength()).isEqualTo("이전 본문".length());
+        assertThat(next.get(0).chatUserLength()).isNull();
+    }
+
+    @Test
+    @DisplayName("findByIdOrThrow - 저장된 델타와 압축 채팅을 DB에서 읽어 복원한다")
+    void findByIdOrThrow_restore() {
+        // given
+        templateHistoryStore.append(template, "스냅샷", CONTENT, null, "AI 응답", "요청", IndividualTemplate.Status.DRAFT);
+        TemplateModifiedHistory delta = templateHistoryStore.append(
+                template, "델타", "머리말 " + CONTENT, null, "AI 응답2", "요청2", IndividualTemplate.Status.DRAFT);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        HistoryResponse restored = templateHistoryStore.restore(
+                templateModifiedHistoryRepository.findByIdOrThrow(delta.getHistoryId(), template));
+
+        // then
+        assertThat(restored.getIndividualTemplateContent()).isEqualTo("머리말 " + CONTENT);
+        assertThat(restored.getChatAi()).isEqualTo("AI 응답2");
+        assertThat(restored.getChatUser()).isEqualTo("요청2");
+    }
+
+    @Test
+    @DisplayName("findByIdOrThrow - 다른 템플릿의 이력이면 예외 발생")
+    void findByIdOrThrow_otherTemplate() {
+        // given
+        TemplateModifiedHistory history = templateHistoryStore.append(
+                template, "스냅샷", CONTENT, null, "AI", "요청", IndividualTemplate.Status.DRAFT);
+        IndividualTemplate other = individualTemplateRepository.save(IndividualTemplate.builder()
+                .workspace(template.getWorkspace())
+                .build());
+
+        // when & then
+        // 리포지토리 프록시가 IllegalArgumentException을 InvalidDataAccessApiUsageException으로 변환한다
+        assertThatThrownBy(() -> templateModifiedHistoryRepository.findByIdOrThrow(history.getHistoryId(), other))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasMessage("해당 수정 이력을 찾을 수 없습니다.");
+    }
+}
@@ -1,6 +1,16 @@
 package com.jober.final2teamdrhong.service;
 
+import com.jober.final2teamdrhong.service.mail.EmailTemplateRenderer;
+import com.jober.final2teamdrhong.config.AuthProperties;
 import com.jober.final2teamdrhong.service.storage.VerificationStorage;
+import com.jober.final2teamdrhong.util.VerificationCodeGenerator;
+import jakarta.mail.Address;
+import jakarta.mail.BodyPart;
+import jakarta.mail.Multipart;
+import jakarta.mail.Part;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -8,8 +18,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,9 +38,44 @@ class EmailServiceTest {
     @Mock
     private JavaMailSender mailSender;
 
+    @Spy
+    private EmailTemplateRenderer emailTemplateRenderer = new EmailTemplateRenderer();
+
+    @Spy
+    private VerificationCodeGenerator verificationCodeGenerator = new VerificationCodeGenerator(new AuthProperties());
+
     @InjectMocks
     private EmailService emailService;
 
+    @BeforeEach
+    void setUp() {
+        // Mock JavaMailSender는 MimeMessage를 만들지 못하므로 빈 메시지를 반환하도록 설정합니다.
+        lenient().when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+    }
+
+    /**
+     * multipart 메시지에서 지정한 MIME 타입의 본문을 찾아 반환합니다.
+     * Mock 발송으로 헤더가 갱신되지 않으므로 DataHandler의 content type을 기준으로 판별합니다.
+     */
+    private static String bodyOf(Part part, String mimeType) throws Exception {
+        Object content = part.getContent();
+        if (content instanceof Multipart multipart) {
+            for (int i = 0; i < multipart.getCount(); i++) {
+                BodyPart bodyPart = multipart.getBodyPart(i);
+                String body = bodyOf(bodyPart, mimeType);
+                if (body != null) {
+                    return body;
+                }
+            }
+            return null;
+        }
+        String contentType = part.getDataHandler().getContentType();
+        if (contentType != null && contentType.toLowerCase().startsWith(mimeType)) {
+            return (String) content;
+        }
+        return null;
+    }
+
     @Nested
     @DisplayName("Rate Limit과 함께 인증 코드 발송 테스트")
     class SendVerificationCodeWithRateLimitTest {
@@ -53,7 +98,7 @@ class EmailServiceTest {
             // 1. Rate limit 검사가 수행되었는지 확인합니다.
             then(rateLimitService).should(times(1)).checkEmailSendRateLimit(clientIp, email);
             // 2. 메일이 발송되었는지 확인합니다.
-            then(mailSender).should(times(1)).send(any(SimpleMailMessage.class));
+            then(mailSender).should(times(1)).send(any(MimeMessage.class));
             // 3. 인증 코드가 저장소에 저장되었는지 확인합니다.
             then(verificationStorage).should(times(1)).save(eq(email), anyString());
         }
@@ -78,7 +123,7 @@ class EmailServiceTest {
             // 2. Rate limit 검사가 수행되었는지 확인합니다.
             then(rateLimitService).should(times(1)).checkEmailSendRateLimit(clientIp, email);
             // 3. 메일 발송은 시도되지 않았는지 확인합니다.
-            then(mailSender).should(never()).send(any(SimpleMailMessage.class));
+            then(mailSender).should(never()).send(any(MimeMessage.class));
         }
     }
 
@@ -88,12 +133,12 @@ class EmailServiceTest {
 
         @Test
         @DisplayName("유효한 이메일로 인증 코드 발송 성공 테스트")
-        void shouldSendVerificationCodeWhenValidEmail() {
+        void shouldSendVerificationCodeWhenValidEmail() throws Exception {
             // given
             // 1. 유효한 이메일을 준비합니다.
             String email = "test@example.com";
             // 2. 메일 발송이 성공하도록 설정합니다.
-            willDoNothing().given(mailSender).send(any(SimpleMailMessage.class));
+            willDoNothing().given(mailSender).send(any(MimeMessage.class));
 
             // when
             // 1. 인증 코드를 발송합니다.
@@ -101,16 +146,16 @@ class EmailServiceTest {
 
             // then
             // 1. 메일이 발송되었는지 확인합니다.
-            ArgumentCaptor<SimpleMailMessage> messageCaptor = ArgumentCaptor.forClass(SimpleMailMessage.class);
+            ArgumentCaptor<MimeMessage> messageCaptor = ArgumentCaptor.forClass(MimeMessage.class);
             then(mailSender).should(times(1)).send(messageCaptor.capture());
 
             // 2. 발송된 메일의 내용이 올바른지 확인합니다.
-            SimpleMailMessage sentMessage = messageCaptor.getValue();
-            assertThat(sentMessage.getTo()).containsExactly(email);
+            MimeMessage sentMessage = messageCaptor.getValue();
+            assertThat(sentMessage.getAllRecipients()).extracting(Address::toString).containsExactly(email);
             assertThat(sentMessage.getSubject()).isEqualTo("[notimo] 회원가입 인증 코드입니다.");
-            assertThat(sentMessage.getText()).contains("회원가입을 위해 아래 인증 코드를 입력해주세요.");
-            assertThat(sentMessage.getText()).contains("인증 코드:");
-            assertThat(sentMessage.getText()).contains("5분 후에 만료됩니다");
+            assertThat(bodyOf(sentMessage, "text/plain")).contains("회원가입을 위해 아래 인증 코드를 입력해주세요.");
+            assertThat(bodyOf(sentMessage, "text/plain")).contains("인증 코드:");
+            assertThat(bodyOf(sentMessage, "text/plain")).contains("5분 후에 만료됩니다");
 
             // 3. 인증 코드가 저장소에 저장되었는지 확인합니다.
             then(verificationStorage).should(times(1)).save(eq(email), anyString());
@@ -130,7 +175,7 @@ class EmailServiceTest {
                     .hasMessage("이메일을 입력해주세요.");
 
             // 2. 메일 발송은 시도되지 않았는지 확인합니다.
-            then(mailSender).should(never()).send(any(SimpleMailMessage.class));
+            then(mailSender).should(never()).send(any(MimeMessage.class));
             // 3. 저장소에 저장되지 않았는지 확인합니다.
             then(verificationStorage).should(never()).save(anyString(), anyString());
         }
@@ -149,7 +194,7 @@ class EmailServiceTest {
                     .hasMessage("이메일을 입력해주세요.");
 
             // 2. 메일 발송은 시도되지 않았는지 확인합니다.
-            then(mailSender).should(never()).send(any(SimpleMailMessage.class));
+            then(mailSender).should(never()).send(any(MimeMessage.class));
             // 3. 저장소에 저장되지 않았는지 확인합니다.
             then(verificationStorage).should(never()).save(anyString(), anyString());
         }
@@ -162,7 +207,7 @@ class EmailServiceTest {
             String email = "test@example.com";
             // 2. 메일 발송 시 예외가 발생하도록 설정합니다.
             RuntimeException mailException = new RuntimeException("Mail server error");
-            willThrow(mailException).given(mailSender).send(any(SimpleMailMessage.class));
+            willThrow(mailException).given(mailSender).send(any(MimeMessage.class));
 
             // when & then
             // 1. 메일 발송 실패로 인한 예외가 발생하는지 확인합니다.
@@ -172,7 +217,7 @@ class EmailServiceTest {
                     .hasCause(mailException);
 
             // 2. 메일 발송이 시도되었는지 확인합니다.
-            then(mailSender).should(times(1)).send(any(SimpleMailMessage.class));
+            then(mailSender).should(times(1)).send(any(MimeMessage.class));
             // 3. 발송 실패로 인해 저장소에 저장되지 않았는지 확인합니다.
             then(verificationStorage).should(never()).save(anyString(), anyString());
         }
@@ -182,7 +227,7 @@ class EmailServiceTest {
         void shouldHandleNullMailSenderInDevelopment() {
             // given
             // 1. MailSender가 null인 EmailService를 생성합니다.
-            EmailService emailServiceWithNullSender = new EmailService(verificationStorage, rateLimitService, null);
+            EmailService emailServiceWithNullSender = new EmailService(verificationStorage, rateLimitService, emailTemplateRenderer, verificationCodeGenerator, null);
             String email = "test@example.com";
 
             // when
@@ -201,12 +246,12 @@ class EmailServiceTest {
 
         @Test
         @DisplayName("회원가입용 인증 코드 발송 테스트")
-        void shouldSendSignupVerificationCode() {
+        void shouldSendSignupVerificationCode() throws Exception {
             // given
             // 1. 유효한 이메일을 준비합니다.
             String email = "test@example.com";
             // 2. 메일 발송이 성공하도록 설정합니다.
-            willDoNothing().given(mailSender).send(any(SimpleMailMessage.class));
+            willDoNothing().given(mailSender).send(any(MimeMessage.class));
 
             // when
             // 1. 회원가입용 인증 코드를 발송합니다.
@@ -214,24 +259,24 @@ class EmailServiceTest {
 
             // then
             // 1. 메일이 발송되었는지 확인합니다.
-            ArgumentCaptor<SimpleMailMessage> messageCaptor = ArgumentCaptor.forClass(SimpleMailMessage.class);
+            ArgumentCaptor<MimeMessage> messageCaptor = ArgumentCaptor.forClass(MimeMessage.class);
             then(mailSender).should(times(1)).send(messageCaptor.capture());
 
             // 2. 발송된 메일의 내용이 회원가입용인지 확인합니다.
-            SimpleMailMessage sentMessage = messageCaptor.getValue();
-            assertThat(sentMessage.getTo()).containsExactly(email);
+            MimeMessage sentMessage = messageCaptor.getValue();
+            assertThat(sentMessage.getAllRecipients()).extracting(Address::toString).containsExactly(email);
             assertThat(sentMessage.getSubject()).isEqualTo("[notimo] 회원가입 인증 코드입니다.");
-            assertThat(sentMessage.getText()).contains("회원가입을 위해 아래 인증 코드를 입력해주세요.");
+            assertThat(bodyOf(sentMessage, "text/plain")).contains("회원가입을 위해 아래 인증 코드를 입력해주세요.");
         }
 
         @Test
         @DisplayName("비밀번호 재설정용 인증 코드 발송 테스트")
-        void shouldSendPasswordResetVerificationCode() {
+        void shouldSendPasswordResetVerificationCode() throws Exception {
             // given
             // 1. 유효한 이메일을 준비합니다.
             String email = "test@example.com";
             // 2. 메일 발송이 성공하도록 설정합니다.
-            willDoNothing().given(mailSender).send(any(SimpleMailMessage.class));
+            willDoNothing().given(mailSender).send(any(MimeMessage.class));
 
             // when
             // 1. 비밀번호 재설정용 인증 코드를 발송합니다.
@@ -239,24 +284,24 @@ class EmailServiceTest {
 
             // then
             // 1. 메일이 발송되었는지 확인합니다.
-            ArgumentCaptor<SimpleMailMessage> messageCaptor = ArgumentCaptor.forClass(SimpleMailMessage.class);
+            ArgumentCaptor<MimeMessage> messageCaptor = ArgumentCaptor.forClass(MimeMessage.class);
             then(mailSender).should(times(1)).send(messageCaptor.capture());
 
             // 2. 발송된 메일의 내용이 비밀번호 재설정용인지 확인합니다.
-            SimpleMailMessage sentMessage = messageCaptor.getValue();
-            assertThat(sentMessage.getTo()).containsExactly(email);
+            MimeMessage sentMessage = messageCaptor.getValue();
+            assertThat(sentMessage.getAllRecipients()).extracting(Address::toString).containsExactly(email);
             assertThat(sentMessage.getSubject()).isEqualTo("[notimo] 비밀번호 재설정 인증 코드입니다.");
-            assertThat(sentMessage.getText()).contains("비밀번호 재설정을 위해 아래 인증 코드를 입력해주세요.");
+            assertThat(bodyOf(sentMessage, "text/plain")).contains("비밀번호 재설정을 위해 아래 인증 코드를 입력해주세요.");
         }
 
         @Test
         @DisplayName("계정 통합용 인증 코드 발송 테스트")
-        void shouldSendAccountMergeVerificationCode() {
+        void shouldSendAccountMergeVerificationCode() throws Exception {
             // given
             // 1. 유효한 이메일을 준비합니다.
             String email = "test@example.com";
             // 2. 메일 발송이 성공하도록 설정합니다.
-            willDoNothing().given(mailSender).send(any(SimpleMailMessage.class));
+            willDoNothing().given(mailSender).send(any(MimeMessage.class));
 
             // when
             // 1. 계정 통합용 인증 코드를 발송합니다.
@@ -264,19 +309,19 @@ class EmailServiceTest {
 
             // then
             // 1. 메일이 발송되었는지 확인합니다.
-            ArgumentCaptor<SimpleMailMessage> messageCaptor = ArgumentCaptor.forClass(SimpleMailMessage.class);
+            ArgumentCaptor<MimeMessage> messageCaptor = ArgumentCaptor.forClass(MimeMessage.class);
             then(mailSender).should(times(1)).send(messageCaptor.capture());
 
             // 2. 발송된 메일의 내용이 계정 통합용인지 확인합니다.
-            SimpleMailMessage sentMessage = messageCaptor.getValue();
-            assertThat(sentMessage.getTo()).containsExactly(email);
+            MimeMessage sentMessage = messageCaptor.getValue();
+            assertThat(sentMessage.getAllRecipients()).extracting(Address::toString).containsExactly(email);
             assertThat(sentMessage.getSubject()).isEqualTo("[notimo] 계정 통합 인증 코드입니다.");
-            assertThat(sentMessage.getText()).contains("계정 통합을 위해 아래 인증 코드를 입력해주세요.");
+            assertThat(bodyOf(sentMessage, "text/plain")).contains("계정 통합을 위해 아래 인증 코드를 입력해주세요.");
         }
 
         @Test
         @DisplayName("Rate Limit과 함께 비밀번호 재설정용 인증 코드 발송 테스트")
-        void shouldSendPasswordResetVerificationCodeWithRateLimit() {
+        void shouldSendPasswordResetVerificationCodeWithRateLimit() throws Exception {
             // given
             // 1. 테스트용 이메일과 클라이언트 IP를 준비합니다.
             String email = "test@example.com";
@@ -284,7 +329,7 @@ class EmailServiceTest {
             // 2. Rate limit이 통과하도록 설정합니다.
             willDoNothing().given(rateLimitService).checkEmailSendRateLimit(clientIp, email);
             // 3. 메일 발송이 성공하도록 설정합니다.
-            willDoNothing().given(mailSender).send(any(SimpleMailMessage.class));
+            willDoNothing().given(mailSender).send(any(MimeMessage.class));
 
             // when
             // 1. Rate limit과 함께 비밀번호 재설정용 인증 코드를 발송합니다.
@@ -295,13 +340,13 @@ class EmailServiceTest {
             then(rateLimitService).should(times(1)).checkEmailSendRateLimit(clientIp, email);
 
             // 2. 메일이 발송되었는지 확인합니다.
-            ArgumentCaptor<SimpleMailMessage> messageCaptor = ArgumentCaptor.forClass(SimpleMailMessage.class);
+            ArgumentCaptor<MimeMessage> messageCaptor = ArgumentCaptor.forClass(MimeMessage.class);
             then(mailSender).should(times(1)).send(messageCaptor.capture());
 
             // 3. 발송된 메일의 내용이 비밀번호 재설정용인지 확인합니다.
-            SimpleMailMessage sentMessage = messageCaptor.getValue();
+            MimeMessage sentMessage = messageCaptor.getValue();
             assertThat(sentMessage.getSubject()).isEqualTo("[notimo] 비밀번호 재설정 인증 코드입니다.");
-            assertThat(sentMessage.getText()).contains("비밀번호 재설정을 위해 아래 인증 코드를 입력해주세요.");
+            assertThat(bodyOf(sentMessage, "text/plain")).contains("비밀번호 재설정을 위해 아래 인증 코드를 입력해주세요.");
         }
     }
 }
\ No newline at end of file
@@ -2,12 +2,12 @@ package com.jober.final2teamdrhong.service;
 
 import com.jober.final2teamdrhong.dto.favorite.FavoritePageRequest;
 import com.jober.final2teamdrhong.dto.favorite.FavoriteResponse;
+import com.jober.final2teamdrhong.dto.favorite.FavoriteSummaryResponse;
 import com.jober.final2teamdrhong.dto.favorite.IndividualTemplateFavoriteRequest;
 import com.jober.final2teamdrhong.dto.favorite.PublicTemplateFavoriteRequest;
 import com.jober.final2teamdrhong.dto.jwtClaims.JwtClaims;
 import com.jober.final2teamdrhong.entity.*;
 import com.jober.final2teamdrhong.repository.FavoriteRepository;
-import com.jober.final2teamdrhong.repository.IndividualTemplateRepository;
 import com.jober.final2teamdrhong.repository.PublicTemplateRepository;
 import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,8 +39,6 @@ class  FavoriteServiceTest {
     @Mock
     private WorkspaceValidator workspaceValidator;
     @Mock
-    private IndividualTemplateRepository individualTemplateRepository;
-    @Mock
     private PublicTemplateRepository publicTemplateRepository;
 
     private JwtClaims mockJwtClaims;
@@ -61,7 +59,7 @@ class  FavoriteServiceTest {
                 .representerPhoneNumber("010-1234-5678")
                 .companyName("테스트 회사")
                 .build();
-        mockIndividualTemplate = IndividualTemplate.builder().individualTemplateId(10).individualTemplateTitle("개인 템플릿").build();
+        mockIndividualTemplate = IndividualTemplate.builder().individualTemplateId(10).individualTemplateTitle("개인 템플릿").workspace(mockWorkspace).build();
         mockPublicTemplate = PublicTemplate.builder().publicTemplateId(100).publicTemplateTitle("공용 템플릿").build();
     }
 
@@ -72,8 +70,7 @@ class  FavoriteServiceTest {
         IndividualTemplateFavoriteRequest request = new IndividualTemplateFavoriteRequest(1, 10);
         Favorite savedFavorite = Favorite.builder().favoriteId(99).workspace(mockWorkspace).individualTemplate(mockIndividualTemplate).build();
 
-        when(workspaceValidator.validateAndGetWorkspace(request.getWorkspaceId(), mockJwtClaims.getUserId())).thenReturn(mockWorkspace);
-        when(individualTemplateRepository.findByIdOrThrow(10)).thenReturn(mockIndividualTemplate);
+        when(workspaceValidator.validateTemplateAccess(request.getWorkspaceId(), 10, mockJwtClaims.getUserId())).thenReturn(mockIndividualTemplate);
         doNothing().when(favoriteRepository).validateIndividualTemplateNotExists(mockWorkspace, mockIndividualTemplate);
         when(favoriteRepository.save(any(Favorite.class))).thenReturn(savedFavorite);
 
@@ -84,7 +81,7 @@ class  FavoriteServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getFavoriteId()).isEqualTo(99);
         assertThat(response.getTemplateType()).isEqualTo("INDIVIDUAL");
-        verify(workspaceValidator).validateAndGetWorkspace(request.getWorkspaceId(), mockJwtClaims.getUserId());
+        verify(workspaceValidator).validateTemplateAccess(request.getWorkspaceId(), 10, mockJwtClaims.getUserId());
         verify(favoriteRepository).save(any(Favorite.class));
     }
 
@@ -93,8 +90,7 @@ class  FavoriteServiceTest {
     void createIndividualTemplateFavorite_Fail_AlreadyExists() {
         // given
         IndividualTemplateFavoriteRequest request = new IndividualTemplateFavoriteRequest(1, 10);
-        when(workspaceValidator.validateAndGetWorkspace(request.getWorkspaceId(), mockJwtClaims.getUserId())).thenReturn(mockWorkspace);
-        when(individualTemplateRepository.findByIdOrThrow(10)).thenReturn(mockIndividualTemplate);
+        when(workspaceValidator.validateTemplateAccess(request.getWorkspaceId(), 10, mockJwtClaims.getUserId())).thenReturn(mockIndividualTemplate);
         doThrow(new IllegalArgumentException("이미 즐겨찾기된 개인 템플릿입니다."))
                 .when(favoriteRepository).validateIndividualTemplateNotExists(mockWorkspace, mockIndividualTemplate);
 
@@ -153,21 +149,22 @@ class  FavoriteServiceTest {
         Integer workspaceId = 1;
         FavoritePageRequest pageRequest = new FavoritePageRequest();
 
-        Favorite publicFavorite = Favorite.builder().workspace(mockWorkspace).publicTemplate(mockPublicTemplate).build();
-        Page<Favorite> mockPage = new PageImpl<>(List.of(publicFavorite));
+        FavoriteSummaryResponse publicFavorite = new FavoriteSummaryResponse(
+                1, "PUBLIC", 10, "공용 템플릿", "미리보기", "버튼", 0, 0);
+        Page<FavoriteSummaryResponse> mockPage = new PageImpl<>(List.of(publicFavorite));
 
         when(workspaceValidator.validateAndGetWorkspace(workspaceId, mockJwtClaims.getUserId())).thenReturn(mockWorkspace);
-        when(favoriteRepository.findFavorites(eq(mockWorkspace), any(), any(Pageable.class))).thenReturn(mockPage);
+        when(favoriteRepository.findFavoriteSummaries(eq(mockWorkspace), any(), any(Pageable.class))).thenReturn(mockPage);
 
         // when
-        Page<FavoriteResponse> result = favoriteService.getFavoritesByWorkspace(workspaceId, Favorite.TemplateType.PUBLIC, pageRequest, mockJwtClaims.getUserId());
+        Page<FavoriteSummaryResponse> result = favoriteService.getFavoritesByWorkspace(workspaceId, Favorite.TemplateType.PUBLIC, pageRequest, mockJwtClaims.getUserId());
 
         // then
         assertThat(result).isNotNull();
         assertThat(result.getTotalElements()).isEqualTo(1);
-        assertThat(result.getContent().get(0).getTemplateType()).isEqualTo("PUBLIC");
+        assertThat(result.getContent().get(0).templateType()).isEqualTo("PUBLIC");
         verify(workspaceValidator).validateAndGetWorkspace(workspaceId, mockJwtClaims.getUserId());
-        verify(favoriteRepository).findFavorites(eq(mockWorkspace), eq(Favorite.TemplateType.PUBLIC), any(Pageable.class));
+        verify(favoriteRepository).findFavoriteSummaries(eq(mockWorkspace), eq(Favorite.TemplateType.PUBLIC), any(Pageable.class));
     }
 
     @Test
@@ -184,7 +181,7 @@ class  FavoriteServiceTest {
         assertThrows(IllegalArgumentException.class, () -> favoriteService.getFavoritesByWorkspace(workspaceId, null, pageRequest, mockJwtClaims.getUserId()));
 
         verify(workspaceValidator).validateAndGetWorkspace(workspaceId, mockJwtClaims.getUserId());
-        verify(favoriteRepository, never()).findFavorites(any(), any(), any());
+        verify(favoriteRepository, never()).findFavoriteSummaries(any(), any(), any());
     }
 
 
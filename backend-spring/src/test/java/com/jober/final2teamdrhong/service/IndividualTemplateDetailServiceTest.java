@@ -0,0 +1,118 @@
+package com.jober.final2teamdrhong.service;
+
+import com.jober.final2teamdrhong.dto.individualtemplate.HistorySummaryResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateDetailResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.SourcePublicTemplateStats;
+import com.jober.final2teamdrhong.entity.IndividualTemplate;
+import com.jober.final2teamdrhong.repository.FavoriteRepository;
+import com.jober.final2teamdrhong.repository.PublicTemplateRepository;
+import com.jober.final2teamdrhong.repository.TemplateModifiedHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IndividualTemplateDetailServiceTest {
+
+    @Mock
+    private IndividualTemplateService individualTemplateService;
+
+    @Mock
+    private TemplateModifiedHistoryRepository templateModifiedHistoryRepository;
+
+    @Mock
+    private FavoriteRepository favoriteRepository;
+
+    @Mock
+    private PublicTemplateRepository publicTemplateRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IndividualTemplateDetailService individualTemplateDetailService;
+
+    @BeforeEach
+    void setUp() {
+        individualTemplateDetailService = new IndividualTemplateDetailService(
+                individualTemplateService, templateModifiedHistoryRepository, favoriteRepository,
+                publicTemplateRepository, transactionManager, 5);
+    }
+
+    @Test
+    @DisplayName("템플릿, 최근 이력, 즐겨찾기 여부, 원본 공용 템플릿 통계를 하나의 응답으로 조합한다")
+    void getTemplateDetail_success() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        IndividualTemplateResponse template = new IndividualTemplateResponse(
+                10, "제목", "내용", "버튼", 1, now, now, false, IndividualTemplate.Status.DRAFT);
+        HistorySummaryResponse history = new HistorySummaryResponse(
+                3, "제목", "버튼", IndividualTemplate.Status.DRAFT, now, now, 2, null, null);
+        SourcePublicTemplateStats stats = new SourcePublicTemplateStats(5, "공용 제목", 120, 8);
+
+        when(individualTemplateService.getIndividualTemplate(1, 7, 10)).thenReturn(template);
+        when(templateModifiedHistoryRepository.findSummaryFirstPage(10, PageRequest.of(0, 5))).thenReturn(List.of(history));
+        when(favoriteRepository.existsByWorkspace_WorkspaceIdAndIndividualTemplate_IndividualTemplateId(1, 10)).thenReturn(true);
+        when(publicTemplateRepository.findSourceStats(10)).thenReturn(Optional.of(stats));
+
+        // when
+        IndividualTemplateDetailResponse result = individualTemplateDetailService.getTemplateDetail(1, 7, 10);
+
+        // then
+        assertThat(result.template()).isSameAs(template);
+        assertThat(result.recentHistories()).containsExactly(history);
+        assertThat(result.favorite()).isTrue();
+        assertThat(result.sourcePublicTemplate()).isEqualTo(stats);
+    }
+
+    @Test
+    @DisplayName("템플릿 소속 검증에 실패하면 나머지 조회 없이 원래 예외를 그대로 전달한다")
+    void getTemplateDetail_templateNotInWorkspace() {
+        // given
+        when(individualTemplateService.getIndividualTemplate(1, 7, 99))
+                .thenThrow(new IllegalArgumentException("해당 워크스페이스에 존재하지 않는 템플릿입니다."));
+
+        // when
+        Throwable thrown = catchThrowable(() -> individualTemplateDetailService.getTemplateDetail(1, 7, 99));
+
+        // then
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("해당 워크스페이스에 존재하지 않는 템플릿입니다.");
+        verify(templateModifiedHistoryRepository, never()).findSummaryFirstPage(anyInt(), any());
+        verify(favoriteRepository, never()).existsByWorkspace_WorkspaceIdAndIndividualTemplate_IndividualTemplateId(anyInt(), anyInt());
+        verify(publicTemplateRepository, never()).findSourceStats(anyInt());
+    }
+
+    @Test
+    @DisplayName("워크스페이스 접근 권한이 없으면 나머지 조회를 실행하지 않는다")
+    void getTemplateDetail_noWorkspaceAccess() {
+        // given
+        when(individualTemplateService.getIndividualTemplate(2, 7, 10))
+                .thenThrow(new IllegalArgumentException("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: 2"));
+
+        // when
+        Throwable thrown = catchThrowable(() -> individualTemplateDetailService.getTemplateDetail(2, 7, 10));
+
+        // then
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+        verify(favoriteRepository, never()).existsByWorkspace_WorkspaceIdAndIndividualTemplate_IndividualTemplateId(anyInt(), anyInt());
+        verify(publicTemplateRepository, never()).findSourceStats(anyInt());
+    }
+}
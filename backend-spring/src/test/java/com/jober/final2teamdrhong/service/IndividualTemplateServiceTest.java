@@ -1,15 +1,29 @@
 package com.jober.final2teamdrhong.service;
 
+import com.jober.final2teamdrhong.dto.common.CursorPageResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.HistoryCursor;
+import com.jober.final2teamdrhong.dto.individualtemplate.HistoryCursorRequest;
+import com.jober.final2teamdrhong.dto.individualtemplate.HistoryResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.HistorySummaryResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateCursor;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateCursorRequest;
 import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplatePageableRequest;
 import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateResponse;
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateSummaryResponse;
 import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateUpdateRequest;
+import com.jober.final2teamdrhong.entity.Favorite;
 import com.jober.final2teamdrhong.entity.IndividualTemplate;
 import com.jober.final2teamdrhong.entity.PublicTemplate;
+import com.jober.final2teamdrhong.entity.TemplateModifiedHistory;
 import com.jober.final2teamdrhong.entity.Workspace;
-import com.jober.final2teamdrhong.repository.FavoriteRepository;
 import com.jober.final2teamdrhong.repository.IndividualTemplateRepository;
 import com.jober.final2teamdrhong.repository.PublicTemplateRepository;
 import com.jober.final2teamdrhong.repository.TemplateModifiedHistoryRepository;
+import com.jober.final2teamdrhong.service.autosave.PendingTemplateEdit;
+import com.jober.final2teamdrhong.service.autosave.TemplateEditCoalescer;
+import com.jober.final2teamdrhong.service.cascade.FavoriteCascadeDeleter;
+import com.jober.final2teamdrhong.service.counter.PublicTemplateCounter;
+import com.jober.final2teamdrhong.service.history.TemplateHistoryStore;
 import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +34,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -32,6 +47,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 import org.springframework.data.domain.*;
@@ -53,7 +69,16 @@ class IndividualTemplateServiceTest {
     private TemplateModifiedHistoryRepository templateModifiedHistoryRepo;
 
     @Mock
-    private FavoriteRepository favoriteRepository;
+    private FavoriteCascadeDeleter favoriteCascadeDeleter;
+
+    @Mock
+    private TemplateHistoryStore templateHistoryStore;
+
+    @Mock
+    private PublicTemplateCounter publicTemplateCounter;
+
+    @Mock
+    private TemplateEditCoalescer templateEditCoalescer;
 
     @InjectMocks
     private IndividualTemplateService service;
@@ -63,6 +88,11 @@ class IndividualTemplateServiceTest {
     @BeforeEach
     void setUp() {
         workspaceMock = mock(Workspace.class);
+        // 자동 저장 대기 중인 수정이 없는 상태
+        lenient().when(templateEditCoalescer.overlay(any(IndividualTemplateSummaryResponse.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(templateEditCoalescer.overlay(any(IndividualTemplateResponse.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     @Nested
@@ -213,6 +243,7 @@ class IndividualTemplateServiceTest {
             verify(publicTemplateRepo).findByIdOrThrow(99);
             verify(workspaceValidator).validateAndGetWorkspace(10, 7);
             verify(individualTemplateRepo).save(any(IndividualTemplate.class));
+            verify(publicTemplateCounter).recordShare(99);
         }
     }
 
@@ -272,13 +303,11 @@ class IndividualTemplateServiceTest {
         @DisplayName("최신순 조회 - 워크스페이스별 삭제되지 않은 템플릿 Page를 반환한다")
         void getAllTemplates_latest_success() {
             // given
-            when(workspaceMock.getWorkspaceId()).thenReturn(5);
-
             LocalDateTime now = LocalDateTime.now();
-            IndividualTemplate e1 = createMockTemplate(10, "t1", "c1", "b1", workspaceMock, now, false);
-            IndividualTemplate e2 = createMockTemplate(11, "t2", "c2", "b2", workspaceMock, now, false);
+            IndividualTemplateSummaryResponse e1 = createSummary(10, "t1", 5, now);
+            IndividualTemplateSummaryResponse e2 = createSummary(11, "t2", 5, now);
 
-            Page<IndividualTemplate> repoPage = new PageImpl<>(List.of(e1, e2));
+            Page<IndividualTemplateSummaryResponse> repoPage = new PageImpl<>(List.of(e1, e2));
             when(individualTemplateRepo.findByWorkspace_WorkspaceId(anyInt(), any(Pageable.class)))
                     .thenReturn(repoPage);
 
@@ -288,13 +317,13 @@ class IndividualTemplateServiceTest {
             ReflectionTestUtils.setField(request, "sortType", "latest");
 
             // when
-            Page<IndividualTemplateResponse> page = service.getAllTemplates(5, 100, request);
+            Page<IndividualTemplateSummaryResponse> page = service.getAllTemplates(5, 100, request);
 
             // then
             assertThat(page.getContent()).hasSize(2);
-            assertThat(page.getContent().get(0).getIndividualTemplateId()).isEqualTo(10);
-            assertThat(page.getContent().get(0).getWorkspaceId()).isEqualTo(5);
-            assertThat(page.getContent().get(1).getIndividualTemplateId()).isEqualTo(11);
+            assertThat(page.getContent().get(0).individualTemplateId()).isEqualTo(10);
+            assertThat(page.getContent().get(0).workspaceId()).isEqualTo(5);
+            assertThat(page.getContent().get(1).individualTemplateId()).isEqualTo(11);
 
             verify(individualTemplateRepo).findByWorkspace_WorkspaceId(eq(5), any(Pageable.class));
         }
@@ -303,13 +332,11 @@ class IndividualTemplateServiceTest {
         @DisplayName("제목순 조회 - 워크스페이스별 삭제되지 않은 템플릿 Page를 반환한다 (NULL 뒤로)")
         void getAllTemplates_title_success() {
             // given
-            when(workspaceMock.getWorkspaceId()).thenReturn(5);
-
             LocalDateTime now = LocalDateTime.now();
-            IndividualTemplate e1 = createMockTemplate(10, "가나다", "c1", "b1", workspaceMock, now, false);
-            IndividualTemplate e2 = createMockTemplate(11, null, "c2", "b2", workspaceMock, now, false);
+            IndividualTemplateSummaryResponse e1 = createSummary(10, "가나다", 5, now);
+            IndividualTemplateSummaryResponse e2 = createSummary(11, null, 5, now);
 
-            Page<IndividualTemplate> repoPage = new PageImpl<>(List.of(e1, e2));
+            Page<IndividualTemplateSummaryResponse> repoPage = new PageImpl<>(List.of(e1, e2));
             when(individualTemplateRepo.findAllByWorkspaceOrderByTitleAsc(anyInt(), any(Pageable.class)))
                     .thenReturn(repoPage);
 
@@ -319,18 +346,122 @@ class IndividualTemplateServiceTest {
             ReflectionTestUtils.setField(request, "sortType", "title");
 
             // when
-            Page<IndividualTemplateResponse> page = service.getAllTemplates(5, 100, request);
+            Page<IndividualTemplateSummaryResponse> page = service.getAllTemplates(5, 100, request);
 
             // then
             assertThat(page.getContent()).hasSize(2);
-            assertThat(page.getContent().get(0).getIndividualTemplateTitle()).isEqualTo("가나다");
-            assertThat(page.getContent().get(1).getIndividualTemplateTitle()).isNull(); // NULL은 뒤로 간다
+            assertThat(page.getContent().get(0).individualTemplateTitle()).isEqualTo("가나다");
+            assertThat(page.getContent().get(1).individualTemplateTitle()).isNull(); // NULL은 뒤로 간다
 
             verify(individualTemplateRepo).findAllByWorkspaceOrderByTitleAsc(eq(5), any(Pageable.class));
         }
     }
 
 
+    @Nested
+    @DisplayName("getTemplatesByCursor")
+    class GetTemplatesByCursor {
+
+        @Test
+        @DisplayName("최신순 첫 페이지 - size + 1개가 조회되면 size개만 반환하고 다음 커서를 만든다")
+        void getTemplatesByCursor_latest_firstPage() {
+            // given
+            LocalDateTime now = LocalDateTime.now().withNano(0);
+            IndividualTemplateSummaryResponse e1 = createSummary(12, "t1", 5, now);
+            IndividualTemplateSummaryResponse e2 = createSummary(11, "t2", 5, now.minusMinutes(1));
+            IndividualTemplateSummaryResponse extra = createSummary(10, "t3", 5, now.minusMinutes(2));
+
+            when(individualTemplateRepo.findLatestFirstPage(eq(5), isNull(), any(Pageable.class)))
+                    .thenReturn(List.of(e1, e2, extra));
+
+            IndividualTemplateCursorRequest request = new IndividualTemplateCursorRequest();
+            request.setSize(2);
+
+            // when
+            CursorPageResponse<IndividualTemplateSummaryResponse> page = service.getTemplatesByCursor(5, 100, request);
+
+            // then
+            assertThat(page.content()).extracting(IndividualTemplateSummaryResponse::individualTemplateId)
+                    .containsExactly(12, 11);
+            assertThat(page.hasNext()).isTrue();
+
+            IndividualTemplateCursor next = IndividualTemplateCursor.decode(page.nextCursor(), "latest");
+            assertThat(next.individualTemplateId()).isEqualTo(11);
+            assertThat(next.updatedAt()).isEqualTo(now.minusMinutes(1));
+
+            verify(workspaceValidator).validateAndGetWorkspace(5, 100);
+            verify(individualTemplateRepo).findLatestFirstPage(eq(5), isNull(), eq(PageRequest.of(0, 3)));
+        }
+
+        @Test
+        @DisplayName("최신순 다음 페이지 - 커서의 (updatedAt, id) 이후를 조회하고 마지막 페이지면 커서가 없다")
+        void getTemplatesByCursor_latest_afterCursor() {
+            // given
+            LocalDateTime cursorTime = LocalDateTime.of(2025, 1, 1, 10, 0, 0);
+            String cursor = IndividualTemplateCursor.of(createSummary(9, "t9", 5, cursorTime), "latest").encode();
+
+            IndividualTemplateSummaryResponse e2 = createSummary(8, "t8", 5, cursorTime);
+            when(individualTemplateRepo.findLatestAfter(eq(5), eq(IndividualTemplate.Status.DRAFT),
+                    eq(cursorTime), eq(9), any(Pageable.class)))
+                    .thenReturn(List.of(e2));
+
+            IndividualTemplateCursorRequest request = new IndividualTemplateCursorRequest();
+            request.setCursor(cursor);
+            request.setStatus(IndividualTemplate.Status.DRAFT);
+
+            // when
+            CursorPageResponse<IndividualTemplateSummaryResponse> page = service.getTemplatesByCursor(5, 100, request);
+
+            // then
+            assertThat(page.content()).hasSize(1);
+            assertThat(page.hasNext()).isFalse();
+            assertThat(page.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("제목순 - 커서가 제목 NULL 구간이면 NULL 제목만 id로 이어서 조회한다")
+        void getTemplatesByCursor_title_nullSection() {
+            // given
+            String cursor = IndividualTemplateCursor.of(createSummary(7, null, 5, LocalDateTime.now()), "title").encode();
+
+            when(individualTemplateRepo.findNullTitleAfter(eq(5), isNull(), eq(7), any(Pageable.class)))
+                    .thenReturn(Collections.emptyList());
+
+            IndividualTemplateCursorRequest request = new IndividualTemplateCursorRequest();
+            request.setSortType("title");
+            request.setCursor(cursor);
+
+            // when
+            CursorPageResponse<IndividualTemplateSummaryResponse> page = service.getTemplatesByCursor(5, 100, request);
+
+            // then
+            assertThat(page.content()).isEmpty();
+            verify(individualTemplateRepo, never()).findTitleAfter(anyInt(), any(), any(), anyInt(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("정렬 타입과 맞지 않거나 손상된 커서면 IllegalArgumentException 발생")
+        void getTemplatesByCursor_invalidCursor() {
+            // given
+            String titleCursor = IndividualTemplateCursor.of(createSummary(7, "가나다", 5, LocalDateTime.now()), "title").encode();
+
+            IndividualTemplateCursorRequest mismatched = new IndividualTemplateCursorRequest();
+            mismatched.setCursor(titleCursor);
+
+            IndividualTemplateCursorRequest broken = new IndividualTemplateCursorRequest();
+            broken.setCursor("not-a-cursor");
+
+            // when & then
+            assertThatThrownBy(() -> service.getTemplatesByCursor(5, 100, mismatched))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("유효하지 않은 커서입니다.");
+            assertThatThrownBy(() -> service.getTemplatesByCursor(5, 100, broken))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(individualTemplateRepo);
+        }
+    }
+
+
     @Nested
     @DisplayName("getAllTemplatesAsync")
     class GetAllTemplatesAsync {
@@ -344,12 +475,11 @@ class IndividualTemplateServiceTest {
 
             when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
                     .thenReturn(workspaceMock);
-            when(workspaceMock.getWorkspaceId()).thenReturn(workspaceId);
 
             LocalDateTime now = LocalDateTime.now();
-            IndividualTemplate e1 = createMockTemplate(20, null, null, null, workspaceMock, now, false);
+            IndividualTemplateSummaryResponse e1 = createSummary(20, null, workspaceId, now);
 
-            Page<IndividualTemplate> repoPage = new PageImpl<>(List.of(e1));
+            Page<IndividualTemplateSummaryResponse> repoPage = new PageImpl<>(List.of(e1));
             when(individualTemplateRepo.findByWorkspace_WorkspaceId(eq(workspaceId), any(Pageable.class)))
                     .thenReturn(repoPage);
 
@@ -358,16 +488,15 @@ class IndividualTemplateServiceTest {
             ReflectionTestUtils.setField(request, "size", 10);
 
             // when
-            CompletableFuture<Page<IndividualTemplateResponse>> future =
+            CompletableFuture<Page<IndividualTemplateSummaryResponse>> future =
                     service.getAllTemplatesAsync(workspaceId, userId, request);
 
             // then
-            Page<IndividualTemplateResponse> page = future.get(2, TimeUnit.SECONDS);
+            Page<IndividualTemplateSummaryResponse> page = future.get(2, TimeUnit.SECONDS);
 
             assertThat(page.getContent()).hasSize(1);
-            assertThat(page.getContent().get(0).getIndividualTemplateId()).isEqualTo(20);
-            assertThat(page.getContent().get(0).getWorkspaceId()).isEqualTo(workspaceId);
-            assertThat(page.getContent().get(0).getIsDeleted()).isFalse();
+            assertThat(page.getContent().get(0).individualTemplateId()).isEqualTo(20);
+            assertThat(page.getContent().get(0).workspaceId()).isEqualTo(workspaceId);
 
             verify(workspaceValidator).validateAndGetWorkspace(workspaceId, userId);
             verify(individualTemplateRepo).findByWorkspace_WorkspaceId(eq(workspaceId), any(Pageable.class));
@@ -387,8 +516,7 @@ class IndividualTemplateServiceTest {
             LocalDateTime now = LocalDateTime.now();
             IndividualTemplate e = createMockTemplate(33, "title-33", "content-33", "button-33", workspaceMock, now, false);
 
-            when(workspaceValidator.validateAndGetWorkspace(3, 100)).thenReturn(workspaceMock);
-            when(workspaceValidator.validateTemplateOwnership(3, 33)).thenReturn(e);
+            when(workspaceValidator.validateTemplateAccess(3, 33, 100)).thenReturn(e);
 
             // when
             IndividualTemplateResponse res = service.getIndividualTemplate(3, 100, 33);
@@ -401,8 +529,7 @@ class IndividualTemplateServiceTest {
             assertThat(res.getButtonTitle()).isEqualTo("button-33");
             assertThat(res.getIsDeleted()).isFalse();
 
-            verify(workspaceValidator).validateAndGetWorkspace(3, 100);
-            verify(workspaceValidator).validateTemplateOwnership(3, 33);
+            verify(workspaceValidator).validateTemplateAccess(3, 33, 100);
         }
 
         @Test
@@ -413,8 +540,7 @@ class IndividualTemplateServiceTest {
             Integer userId = 100;
             Integer templateId = 99;
 
-            when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId)).thenReturn(workspaceMock);
-            when(workspaceValidator.validateTemplateOwnership(workspaceId, templateId))
+            when(workspaceValidator.validateTemplateAccess(workspaceId, templateId, userId))
                     .thenThrow(new IllegalArgumentException("해당 템플릿이 존재하지 않습니다"));
 
             // when & then
@@ -422,8 +548,7 @@ class IndividualTemplateServiceTest {
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("해당 템플릿이 존재하지 않습니다");
 
-            verify(workspaceValidator).validateAndGetWorkspace(workspaceId, userId);
-            verify(workspaceValidator).validateTemplateOwnership(workspaceId, templateId);
+            verify(workspaceValidator).validateTemplateAccess(workspaceId, templateId, userId);
         }
     }
 
@@ -439,14 +564,12 @@ class IndividualTemplateServiceTest {
             Integer userId = 100;
             Integer templateId = 44;
 
-            when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                    .thenReturn(workspaceMock);
             when(workspaceMock.getWorkspaceId()).thenReturn(workspaceId);
 
             LocalDateTime now = LocalDateTime.now();
             IndividualTemplate e = createMockTemplate(templateId, "title", "content", "button", workspaceMock, now, false);
 
-            when(workspaceValidator.validateTemplateOwnership(workspaceId, templateId))
+            when(workspaceValidator.validateTemplateAccess(workspaceId, templateId, userId))
                     .thenReturn(e);   // ✅ null 대신 mock 엔티티 반환
 
             // when
@@ -460,8 +583,7 @@ class IndividualTemplateServiceTest {
             assertThat(res.getWorkspaceId()).isEqualTo(workspaceId);
             assertThat(res.getIsDeleted()).isFalse();
 
-            verify(workspaceValidator).validateAndGetWorkspace(workspaceId, userId);
-            verify(workspaceValidator).validateTemplateOwnership(workspaceId, templateId);
+            verify(workspaceValidator).validateTemplateAccess(workspaceId, templateId, userId);
         }
 
         @Test
@@ -472,9 +594,7 @@ class IndividualTemplateServiceTest {
             Integer userId = 200;
             Integer templateId = 100;
 
-            when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                    .thenReturn(workspaceMock);
-            when(workspaceValidator.validateTemplateOwnership(workspaceId, templateId))
+            when(workspaceValidator.validateTemplateAccess(workspaceId, templateId, userId))
                     .thenThrow(new IllegalArgumentException("해당 템플릿이 존재하지 않습니다"));
 
             // when & then
@@ -482,12 +602,16 @@ class IndividualTemplateServiceTest {
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("해당 템플릿이 존재하지 않습니다");
 
-            verify(workspaceValidator).validateAndGetWorkspace(workspaceId, userId);
-            verify(workspaceValidator).validateTemplateOwnership(workspaceId, templateId);
+            verify(workspaceValidator).validateTemplateAccess(workspaceId, templateId, userId);
         }
     }
 
     // Helper
+    private IndividualTemplateSummaryResponse createSummary(Integer id, String title, Integer workspaceId, LocalDateTime dateTime) {
+        return new IndividualTemplateSummaryResponse(
+                id, title, null, null, workspaceId, dateTime, dateTime, IndividualTemplate.Status.DRAFT);
+    }
+
     private IndividualTemplate createMockTemplate(Integer id, String title, String content, String buttonTitle,
                                                   Workspace workspace, LocalDateTime dateTime, boolean isDeleted) {
         IndividualTemplate mockEntity = mock(IndividualTemplate.class);
@@ -502,6 +626,91 @@ class IndividualTemplateServiceTest {
         return mockEntity;
     }
 
+    @Nested
+    @DisplayName("getTemplateHistoriesByCursor")
+    class GetTemplateHistoriesByCursor {
+
+        @Test
+        @DisplayName("첫 페이지 - size + 1개가 조회되면 size개만 반환하고 (createdAt, historyId) 커서를 만든다")
+        void getTemplateHistoriesByCursor_firstPage() {
+            // given
+            LocalDateTime now = LocalDateTime.now().withNano(0);
+            when(workspaceValidator.validateTemplateAccess(5, 1, 100)).thenReturn(mock(IndividualTemplate.class));
+            when(templateModifiedHistoryRepo.findSummaryFirstPage(eq(1), any(Pageable.class)))
+                    .thenReturn(List.of(historySummary(30, now), historySummary(29, now), historySummary(28, now.minusMinutes(1))));
+
+            HistoryCursorRequest request = new HistoryCursorRequest();
+            request.setSize(2);
+
+            // when
+            CursorPageResponse<HistorySummaryResponse> page = service.getTemplateHistoriesByCursor(5, 1, 100, request);
+
+            // then
+            assertThat(page.content()).extracting(HistorySummaryResponse::historyId).containsExactly(30, 29);
+            assertThat(page.hasNext()).isTrue();
+            assertThat(HistoryCursor.decode(page.nextCursor())).isEqualTo(new HistoryCursor(now, 29));
+            verify(templateModifiedHistoryRepo).findSummaryFirstPage(1, PageRequest.of(0, 3));
+        }
+
+        @Test
+        @DisplayName("다음 페이지 - 커서 이후를 조회하고 마지막 페이지면 커서가 없다")
+        void getTemplateHistoriesByCursor_afterCursor() {
+            // given
+            LocalDateTime cursorTime = LocalDateTime.of(2025, 1, 1, 10, 0, 0);
+            when(workspaceValidator.validateTemplateAccess(5, 1, 100)).thenReturn(mock(IndividualTemplate.class));
+            when(templateModifiedHistoryRepo.findSummaryAfter(eq(1), eq(cursorTime), eq(29), any(Pageable.class)))
+                    .thenReturn(List.of(historySummary(28, cursorTime)));
+
+            HistoryCursorRequest request = new HistoryCursorRequest();
+            request.setCursor(new HistoryCursor(cursorTime, 29).encode());
+
+            // when
+            CursorPageResponse<HistorySummaryResponse> page = service.getTemplateHistoriesByCursor(5, 1, 100, request);
+
+            // then
+            assertThat(page.content()).hasSize(1);
+            assertThat(page.hasNext()).isFalse();
+            assertThat(page.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 커서면 IllegalArgumentException 발생")
+        void getTemplateHistoriesByCursor_invalidCursor_throw400() {
+            // given
+            when(workspaceValidator.validateTemplateAccess(5, 1, 100)).thenReturn(mock(IndividualTemplate.class));
+            HistoryCursorRequest request = new HistoryCursorRequest();
+            request.setCursor("not-a-cursor");
+
+            // when & then
+            assertThrows(IllegalArgumentException.class,
+                    () -> service.getTemplateHistoriesByCursor(5, 1, 100, request));
+        }
+
+        @Test
+        @DisplayName("상세 조회 - 템플릿에 속한 이력을 복원해 반환한다")
+        void getTemplateModifiedHistory_success() {
+            // given
+            IndividualTemplate templateMock = mock(IndividualTemplate.class);
+            TemplateModifiedHistory history = mock(TemplateModifiedHistory.class);
+            HistoryResponse restored = mock(HistoryResponse.class);
+            when(workspaceValidator.validateTemplateAccess(5, 1, 100)).thenReturn(templateMock);
+            when(templateModifiedHistoryRepo.findByIdOrThrow(15, templateMock)).thenReturn(history);
+            when(templateHistoryStore.restore(history)).thenReturn(restored);
+
+            // when
+            HistoryResponse response = service.getTemplateModifiedHistory(5, 1, 15, 100);
+
+            // then
+            assertThat(response).isSameAs(restored);
+            verify(workspaceValidator).validateTemplateAccess(5, 1, 100);
+        }
+
+        private HistorySummaryResponse historySummary(Integer historyId, LocalDateTime createdAt) {
+            return new HistorySummaryResponse(historyId, "제목", "버튼", IndividualTemplate.Status.DRAFT,
+                    createdAt, createdAt, 100, 20, 10);
+        }
+    }
+
     // SoftDelete
     @Nested
     @DisplayName("deleteTemplate")
@@ -517,15 +726,14 @@ class IndividualTemplateServiceTest {
 
             IndividualTemplate templateMock = mock(IndividualTemplate.class);
 
-            when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId)).thenReturn(workspaceMock);
-            when(workspaceValidator.validateTemplateOwnership(workspaceId, id)).thenReturn(templateMock);
+            when(workspaceValidator.validateTemplateAccess(workspaceId, id, userId)).thenReturn(templateMock);
 
             // when
             assertDoesNotThrow(() -> service.deleteTemplate(id, workspaceId, userId));
 
             // then
-            verify(workspaceValidator).validateAndGetWorkspace(workspaceId, userId);
-            verify(workspaceValidator).validateTemplateOwnership(workspaceId, id);
+            verify(workspaceValidator).validateTemplateAccess(workspaceId, id, userId);
+            verify(favoriteCascadeDeleter).deleteFavoritesOf(Favorite.TemplateType.INDIVIDUAL, id);
             verify(templateMock).softDelete();
             verify(individualTemplateRepo).save(templateMock);
         }
@@ -538,17 +746,14 @@ class IndividualTemplateServiceTest {
             Integer userId = 100;
             Integer missingId = 999;
 
-            when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                    .thenReturn(workspaceMock);
-            when(workspaceValidator.validateTemplateOwnership(workspaceId, missingId))
+            when(workspaceValidator.validateTemplateAccess(workspaceId, missingId, userId))
                     .thenThrow(new IllegalArgumentException("해당 템플릿이 존재하지 않습니다"));
 
             // when & then
             assertThrows(IllegalArgumentException.class,
                     () -> service.deleteTemplate(missingId, workspaceId, userId));
 
-            verify(workspaceValidator).validateAndGetWorkspace(workspaceId, userId);
-            verify(workspaceValidator).validateTemplateOwnership(workspaceId, missingId);
+            verify(workspaceValidator).validateTemplateAccess(workspaceId, missingId, userId);
             verifyNoInteractions(individualTemplateRepo);
         }
 
@@ -560,14 +765,14 @@ class IndividualTemplateServiceTest {
             Integer userId = 200;
             Integer id = 5;
 
-            when(workspaceValidator.validateAndGetWorkspace(wrongWorkspaceId, userId))
+            when(workspaceValidator.validateTemplateAccess(wrongWorkspaceId, id, userId))
                     .thenThrow(new IllegalArgumentException("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: " + wrongWorkspaceId));
 
             // when & then
             assertThrows(IllegalArgumentException.class,
                     () -> service.deleteTemplate(id, wrongWorkspaceId, userId));
 
-            verify(workspaceValidator).validateAndGetWorkspace(wrongWorkspaceId, userId);
+            verify(workspaceValidator).validateTemplateAccess(wrongWorkspaceId, id, userId);
             verifyNoMoreInteractions(individualTemplateRepo);
         }
     }
@@ -589,20 +794,53 @@ class IndividualTemplateServiceTest {
 
             IndividualTemplate templateMock = mock(IndividualTemplate.class);
 
-            when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId)).thenReturn(workspaceMock);
-            when(workspaceValidator.validateTemplateOwnership(workspaceId, templateId)).thenReturn(templateMock);
+            when(workspaceValidator.validateTemplateAccess(workspaceId, templateId, userId)).thenReturn(templateMock);
             when(templateMock.getWorkspace()).thenReturn(workspaceMock);
             when(workspaceMock.getWorkspaceId()).thenReturn(workspaceId);
+            when(templateEditCoalescer.isEnabled()).thenReturn(false);
 
             // when
             assertDoesNotThrow(() -> service.updateTemplate(workspaceId, templateId, request, userId));
 
             // then
-            verify(workspaceValidator).validateAndGetWorkspace(workspaceId, userId);
-            verify(workspaceValidator).validateTemplateOwnership(workspaceId, templateId);
+            verify(workspaceValidator).validateTemplateAccess(workspaceId, templateId, userId);
             verify(templateMock).update("제목", "내용", "버튼", IndividualTemplate.Status.DRAFT);
+            verify(templateHistoryStore).append(templateMock, "제목", "내용", "버튼", "AI채팅", "사용자채팅",
+                    IndividualTemplate.Status.DRAFT);
         }
 
+        @Test
+        @DisplayName("자동 저장 병합이 켜져 있으면 DB에 바로 쓰지 않고 버퍼에 합친 내용을 응답한다")
+        void updateTemplate_buffered() {
+            // given
+            Integer workspaceId = 10;
+            Integer templateId = 1;
+            Integer userId = 100;
+
+            IndividualTemplateUpdateRequest request =
+                    new IndividualTemplateUpdateRequest("제목", "내용", "버튼", "AI채팅", "사용자채팅");
+
+            IndividualTemplate templateMock = mock(IndividualTemplate.class);
+            when(workspaceValidator.validateTemplateAccess(workspaceId, templateId, userId)).thenReturn(templateMock);
+            when(templateMock.getIndividualTemplateId()).thenReturn(templateId);
+            when(templateMock.getWorkspace()).thenReturn(workspaceMock);
+            when(workspaceMock.getWorkspaceId()).thenReturn(workspaceId);
+            when(templateMock.getStatus()).thenReturn(IndividualTemplate.Status.APPROVED, IndividualTemplate.Status.DRAFT);
+            when(templateEditCoalescer.isEnabled()).thenReturn(true);
+            when(templateEditCoalescer.buffer(templateId, request))
+                    .thenReturn(PendingTemplateEdit.of(templateId, request, Instant.now()));
+
+            // when
+            IndividualTemplateResponse res = service.updateTemplate(workspaceId, templateId, request, userId);
+
+            // then
+            assertThat(res.getIndividualTemplateTitle()).isEqualTo("제목");
+            assertThat(res.getIndividualTemplateContent()).isEqualTo("내용");
+            assertThat(res.getStatus()).isEqualTo(IndividualTemplate.Status.DRAFT);
+            verify(templateMock).updateStatus(IndividualTemplate.Status.DRAFT);
+            verify(templateMock, never()).update(any(), any(), any(), any());
+            verifyNoInteractions(templateHistoryStore);
+        }
 
         @Test
         @DisplayName("없는 템플릿 ID면 IllegalArgumentException 발생")
@@ -614,17 +852,14 @@ class IndividualTemplateServiceTest {
             IndividualTemplateUpdateRequest request =
                     new IndividualTemplateUpdateRequest("제목", "내용", "버튼", "AI채팅", "사용자채팅");
 
-            when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                    .thenReturn(workspaceMock);
-            when(workspaceValidator.validateTemplateOwnership(workspaceId, missingId))
+            when(workspaceValidator.validateTemplateAccess(workspaceId, missingId, userId))
                     .thenThrow(new IllegalArgumentException("해당 템플릿이 존재하지 않습니다"));
 
             // when & then
             assertThrows(IllegalArgumentException.class,
                     () -> service.updateTemplate(workspaceId, missingId, request, userId));
 
-            verify(workspaceValidator).validateAndGetWorkspace(workspaceId, userId);
-            verify(workspaceValidator).validateTemplateOwnership(workspaceId, missingId);
+            verify(workspaceValidator).validateTemplateAccess(workspaceId, missingId, userId);
             verifyNoMoreInteractions(individualTemplateRepo);
         }
 
@@ -639,14 +874,14 @@ class IndividualTemplateServiceTest {
             IndividualTemplateUpdateRequest request =
                     new IndividualTemplateUpdateRequest("제목", "내용", "버튼", "AI채팅", "사용자채팅");
 
-            when(workspaceValidator.validateAndGetWorkspace(wrongWorkspaceId, userId))
+            when(workspaceValidator.validateTemplateAccess(wrongWorkspaceId, templateId, userId))
                     .thenThrow(new IllegalArgumentException("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: " + wrongWorkspaceId));
 
             // when & then
             assertThrows(IllegalArgumentException.class,
                     () -> service.updateTemplate(wrongWorkspaceId, templateId, request, userId));
 
-            verify(workspaceValidator).validateAndGetWorkspace(wrongWorkspaceId, userId);
+            verify(workspaceValidator).validateTemplateAccess(wrongWorkspaceId, templateId, userId);
             verifyNoMoreInteractions(individualTemplateRepo);
         }
 
@@ -663,8 +898,7 @@ class IndividualTemplateServiceTest {
                 Integer userId = 100;
 
                 IndividualTemplate templateMock = mock(IndividualTemplate.class);
-                when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId)).thenReturn(workspaceMock);
-                when(workspaceValidator.validateTemplateOwnership(workspaceId, templateId)).thenReturn(templateMock);
+                when(workspaceValidator.validateTemplateAccess(workspaceId, templateId, userId)).thenReturn(templateMock);
 
                 // 핵심: getWorkspace() stubbing 추가
                 when(templateMock.getWorkspace()).thenReturn(workspaceMock);
@@ -675,8 +909,8 @@ class IndividualTemplateServiceTest {
                         service.updateTemplateStatus(workspaceId, templateId, userId, IndividualTemplate.Status.APPROVED));
 
                 // then
-                verify(workspaceValidator).validateAndGetWorkspace(workspaceId, userId);
-                verify(workspaceValidator).validateTemplateOwnership(workspaceId, templateId);
+                verify(workspaceValidator).validateTemplateAccess(workspaceId, templateId, userId);
+                verify(templateEditCoalescer).flush(templateId);
                 verify(templateMock).updateStatus(IndividualTemplate.Status.APPROVED);
             }
 
@@ -688,17 +922,14 @@ class IndividualTemplateServiceTest {
                 Integer templateId = 999;
                 Integer userId = 100;
 
-                when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                        .thenReturn(workspaceMock);
-                when(workspaceValidator.validateTemplateOwnership(workspaceId, templateId))
+                when(workspaceValidator.validateTemplateAccess(workspaceId, templateId, userId))
                         .thenThrow(new IllegalArgumentException("해당 템플릿이 존재하지 않습니다"));
 
                 // when & then
                 assertThrows(IllegalArgumentException.class,
                         () -> service.updateTemplateStatus(workspaceId, templateId, userId, IndividualTemplate.Status.REJECTED));
 
-                verify(workspaceValidator).validateAndGetWorkspace(workspaceId, userId);
-                verify(workspaceValidator).validateTemplateOwnership(workspaceId, templateId);
+                verify(workspaceValidator).validateTemplateAccess(workspaceId, templateId, userId);
                 verifyNoInteractions(individualTemplateRepo); // Repo는 안 쓰이므로
             }
 
@@ -710,14 +941,14 @@ class IndividualTemplateServiceTest {
                 Integer templateId = 5;
                 Integer userId = 200;
 
-                when(workspaceValidator.validateAndGetWorkspace(wrongWorkspaceId, userId))
+                when(workspaceValidator.validateTemplateAccess(wrongWorkspaceId, templateId, userId))
                         .thenThrow(new IllegalArgumentException("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: " + wrongWorkspaceId));
 
                 // when & then
                 assertThrows(IllegalArgumentException.class,
                         () -> service.updateTemplateStatus(wrongWorkspaceId, templateId, userId, IndividualTemplate.Status.PENDING));
 
-                verify(workspaceValidator).validateAndGetWorkspace(wrongWorkspaceId, userId);
+                verify(workspaceValidator).validateTemplateAccess(wrongWorkspaceId, templateId, userId);
                 verifyNoInteractions(individualTemplateRepo);
             }
         }
@@ -1,14 +1,20 @@
 package com.jober.final2teamdrhong.service;
 
+import com.jober.final2teamdrhong.dto.common.CursorPageResponse;
+import com.jober.final2teamdrhong.dto.phonebook.PhoneBookMemberCursor;
+import com.jober.final2teamdrhong.dto.phonebook.PhoneBookMemberCursorRequest;
 import com.jober.final2teamdrhong.dto.phonebook.PhoneBookRequest;
 import com.jober.final2teamdrhong.dto.phonebook.PhoneBookResponse;
 import com.jober.final2teamdrhong.dto.recipient.RecipientResponse;
-import com.jober.final2teamdrhong.entity.GroupMapping;
+import com.jober.final2teamdrhong.entity.GroupMappingCascadeTask;
 import com.jober.final2teamdrhong.entity.PhoneBook;
 import com.jober.final2teamdrhong.entity.Recipient;
 import com.jober.final2teamdrhong.entity.Workspace;
 import com.jober.final2teamdrhong.repository.GroupMappingRepository;
 import com.jober.final2teamdrhong.repository.PhoneBookRepository;
+import com.jober.final2teamdrhong.service.cascade.GroupMappingCascadeDeleter;
+import com.jober.final2teamdrhong.service.phonebook.GroupMappingBulkDeleter;
+import com.jober.final2teamdrhong.service.phonebook.GroupMappingBulkInserter;
 import com.jober.final2teamdrhong.service.validator.PhoneBookValidator;
 import com.jober.final2teamdrhong.service.validator.RecipientValidator;
 import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
@@ -16,6 +22,7 @@ import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -23,6 +30,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -53,6 +61,15 @@ class PhoneBookServiceTest {
     @Mock
     private RecipientValidator recipientValidator;
 
+    @Mock
+    private GroupMappingBulkInserter groupMappingBulkInserter;
+
+    @Mock
+    private GroupMappingBulkDeleter groupMappingBulkDeleter;
+
+    @Mock
+    private GroupMappingCascadeDeleter groupMappingCascadeDeleter;
+
     @Mock
     private EntityManager entityManager;
 
@@ -98,6 +115,7 @@ class PhoneBookServiceTest {
         assertEquals(1, result.phoneBookId());
         assertEquals("테스트 주소록", result.phoneBookName());
         assertEquals("테스트 메모입니다.", result.phoneBookMemo());
+        assertThat(result.recipientCount()).isEqualTo(0L);
 
         // 2. Validator와 Repository의 메소드가 각각 정확히 1번씩 호출되었는지 검증합니다.
         verify(workspaceValidator, times(1)).validateAndGetWorkspace(workspaceId, userId);
@@ -163,34 +181,19 @@ class PhoneBookServiceTest {
                         .workspace(mockWorkspace)
                         .build()
         );
-        List<Integer> existingRecipientIds = List.of(1); // 기존에는 1번 수신자만 존재한다고 가정
+        List<Integer> existingRecipientIds = List.of(); // 요청된 2, 3번 수신자 중 주소록에 이미 있는 수신자는 없음
 
         // 3. Mock Validator들의 동작을 정의합니다.
-        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                .thenReturn(mockWorkspace); // 워크스페이스 검증 통과
-        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId))
+        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId))
                 .thenReturn(mockPhoneBook); // 주소록 검증 통과
         when(recipientValidator.validateAndGetRecipients(workspaceId, requestDTO.recipientIds()))
                 .thenReturn(mockRecipients); // 수신자 검증 통과
 
         // 4. Mock Repository들의 동작을 정의합니다.
-        when(groupMappingRepository.findRecipientIdsByPhoneBook(mockPhoneBook))
-                .thenReturn(existingRecipientIds); // 기존 수신자 ID 목록 반환
-
-        // 벌크 INSERT 후 생성된 매핑들을 모방합니다.
-        List<GroupMapping> savedMappings = List.of(
-                GroupMapping.builder()
-                        .phoneBook(mockPhoneBook)
-                        .recipient(mockRecipients.get(0))
-                        .build(),
-                GroupMapping.builder()
-                        .phoneBook(mockPhoneBook)
-                        .recipient(mockRecipients.get(1))
-                        .build()
-        );
-        when(groupMappingRepository.findAllByPhoneBook_PhoneBookIdAndRecipient_RecipientIdIn(
-                eq(phoneBookId), eq(List.of(2, 3))))
-                .thenReturn(savedMappings);
+        when(groupMappingRepository.findRecipientIdsInPhoneBook(phoneBookId, List.of(2, 3)))
+                .thenReturn(existingRecipientIds); // 요청된 수신자 중 기존 멤버 ID 목록 반환
+        when(groupMappingBulkInserter.insert(eq(phoneBookId), eq(List.of(2, 3)), any(LocalDateTime.class), anyString()))
+                .thenReturn(2); // 요청한 2건이 모두 추가됨
 
         // when
         // 1. 테스트 대상 서비스 메서드를 호출합니다.
@@ -205,9 +208,11 @@ class PhoneBookServiceTest {
         assertThat(result.recipientList().size()).isEqualTo(2);
         // 4. 추가된 수신자들의 ID가 2와 3인지 확인합니다.
         assertThat(result.recipientList()).extracting("recipientId").containsExactlyInAnyOrder(2, 3);
-        // 5. bulkInsertMappings와 findAllByPhoneBook_PhoneBookIdAndRecipient_RecipientIdIn가 정확히 1번씩 호출되었는지 검증합니다.
-        verify(groupMappingRepository, times(1)).bulkInsertMappings(eq(phoneBookId), eq(List.of(2, 3)), any(LocalDateTime.class));
-        verify(groupMappingRepository, times(1)).findAllByPhoneBook_PhoneBookIdAndRecipient_RecipientIdIn(eq(phoneBookId), eq(List.of(2, 3)));
+        // 5. 벌크 INSERT가 정확히 1번 호출되고, 주소록 전체 멤버 조회나 추가 후 재조회는 하지 않았는지 검증합니다.
+        verify(groupMappingBulkInserter, times(1)).insert(eq(phoneBookId), eq(List.of(2, 3)), any(LocalDateTime.class), anyString());
+        verify(groupMappingRepository, never()).findRecipientIdsByPhoneBook(any());
+        verify(groupMappingRepository, never()).findAllByPhoneBook_PhoneBookIdAndRecipient_RecipientIdIn(any(), any());
+        verify(groupMappingRepository, never()).findRecipientIdsInsertedBy(any(), any(), any());
     }
 
     @Test
@@ -242,25 +247,14 @@ class PhoneBookServiceTest {
         List<Integer> existingRecipientIds = List.of(1); // 기존에 1번 수신자가 이미 존재
 
         // 3. Mock 객체들의 동작을 정의합니다.
-        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                .thenReturn(mockWorkspace);
-        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId))
+        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId))
                 .thenReturn(mockPhoneBook);
         when(recipientValidator.validateAndGetRecipients(workspaceId, requestDTO.recipientIds()))
                 .thenReturn(mockRecipients);
-        when(groupMappingRepository.findRecipientIdsByPhoneBook(mockPhoneBook))
+        when(groupMappingRepository.findRecipientIdsInPhoneBook(phoneBookId, List.of(1, 2)))
                 .thenReturn(existingRecipientIds);
-
-        // 새로 추가될 수신자(ID=2)에 대한 매핑을 모방합니다.
-        List<GroupMapping> savedMappings = List.of(
-                GroupMapping.builder()
-                        .phoneBook(mockPhoneBook)
-                        .recipient(mockRecipients.get(1)) // ID=2인 수신자
-                        .build()
-        );
-        when(groupMappingRepository.findAllByPhoneBook_PhoneBookIdAndRecipient_RecipientIdIn(
-                eq(phoneBookId), eq(List.of(2))))
-                .thenReturn(savedMappings);
+        when(groupMappingBulkInserter.insert(eq(phoneBookId), eq(List.of(2)), any(LocalDateTime.class), anyString()))
+                .thenReturn(1);
 
         // when
         // 1. 테스트 대상 서비스 메서드를 호출합니다.
@@ -273,9 +267,8 @@ class PhoneBookServiceTest {
         assertThat(result.recipientList().size()).isEqualTo(1);
         // 3. 추가된 수신자의 ID가 2번인지 확인합니다.
         assertThat(result.recipientList().getFirst().recipientId()).isEqualTo(2);
-        // 4. bulkInsertMappings와 findAllByPhoneBook_PhoneBookIdAndRecipient_RecipientIdIn가 정확히 1번씩 호출되었는지 검증합니다.
-        verify(groupMappingRepository, times(1)).bulkInsertMappings(eq(phoneBookId), eq(List.of(2)), any(LocalDateTime.class));
-        verify(groupMappingRepository, times(1)).findAllByPhoneBook_PhoneBookIdAndRecipient_RecipientIdIn(eq(phoneBookId), eq(List.of(2)));
+        // 4. 신규 수신자(2번)만으로 벌크 INSERT가 정확히 1번 호출되었는지 검증합니다.
+        verify(groupMappingBulkInserter, times(1)).insert(eq(phoneBookId), eq(List.of(2)), any(LocalDateTime.class), anyString());
     }
 
     @Test
@@ -302,13 +295,11 @@ class PhoneBookServiceTest {
         List<Integer> existingRecipientIds = List.of(1);
 
         // 3. Mock 객체들의 동작을 정의합니다.
-        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                .thenReturn(mockWorkspace);
-        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId))
+        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId))
                 .thenReturn(mockPhoneBook);
         when(recipientValidator.validateAndGetRecipients(workspaceId, requestDTO.recipientIds()))
                 .thenReturn(mockRecipients);
-        when(groupMappingRepository.findRecipientIdsByPhoneBook(mockPhoneBook))
+        when(groupMappingRepository.findRecipientIdsInPhoneBook(phoneBookId, List.of(1)))
                 .thenReturn(existingRecipientIds);
 
         // when
@@ -320,9 +311,106 @@ class PhoneBookServiceTest {
         assertThat(result).isNotNull();
         // 2. 추가된 수신자 목록이 비어있는지 확인합니다.
         assertThat(result.recipientList()).isEmpty();
-        // 3. (중요) 신규 추가할 수신자가 없으므로 bulkInsertMappings와 findAllByPhoneBook_PhoneBookIdAndRecipient_RecipientIdIn 메서드가 호출되지 않아야 합니다.
-        verify(groupMappingRepository, never()).bulkInsertMappings(any(), any(), any());
-        verify(groupMappingRepository, never()).findAllByPhoneBook_PhoneBookIdAndRecipient_RecipientIdIn(any(), any());
+        // 3. (중요) 신규 추가할 수신자가 없으므로 벌크 INSERT가 호출되지 않아야 합니다.
+        verify(groupMappingBulkInserter, never()).insert(any(), any(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("주소록에 수신자 일괄 추가 테스트 - 그 사이 다른 요청이 먼저 추가한 수신자는 결과에서 제외")
+    void addRecipientsToPhoneBook_ConcurrentlyAdded_Test() {
+        // given
+        // 1. 2, 3번 수신자를 요청했지만, 확인 이후 다른 요청이 3번을 먼저 추가해 INSERT는 1건만 추가한 상황입니다.
+        Integer workspaceId = 1, phoneBookId = 1, userId = 1;
+        PhoneBookRequest.RecipientIdListDTO requestDTO = new PhoneBookRequest.RecipientIdListDTO(List.of(2, 3));
+        Workspace mockWorkspace = mock(Workspace.class);
+        PhoneBook mockPhoneBook = PhoneBook.builder()
+                .phoneBookId(phoneBookId)
+                .phoneBookName("테스트 주소록")
+                .workspace(mockWorkspace)
+                .build();
+        List<Recipient> mockRecipients = List.of(
+                Recipient.builder().recipientId(2).recipientName("홍길동").recipientPhoneNumber("010-1111-1111").workspace(mockWorkspace).build(),
+                Recipient.builder().recipientId(3).recipientName("임꺽정").recipientPhoneNumber("010-1111-2222").workspace(mockWorkspace).build());
+
+        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId)).thenReturn(mockPhoneBook);
+        when(recipientValidator.validateAndGetRecipients(workspaceId, requestDTO.recipientIds())).thenReturn(mockRecipients);
+        when(groupMappingRepository.findRecipientIdsInPhoneBook(phoneBookId, List.of(2, 3))).thenReturn(List.of());
+        when(groupMappingBulkInserter.insert(eq(phoneBookId), eq(List.of(2, 3)), any(LocalDateTime.class), anyString())).thenReturn(1);
+        when(groupMappingBulkInserter.partition(List.of(2, 3))).thenReturn(List.of(List.of(2, 3)));
+        when(groupMappingRepository.findRecipientIdsInsertedBy(eq(phoneBookId), eq(List.of(2, 3)), anyString()))
+                .thenReturn(List.of(2));
+
+        // when
+        PhoneBookResponse.ModifiedRecipientsDTO result = phoneBookService.addRecipientsToPhoneBook(requestDTO, workspaceId, phoneBookId, userId);
+
+        // then
+        // 1. 이번 요청에서 실제로 추가된 2번 수신자만 응답에 포함되어야 합니다.
+        assertThat(result.recipientList()).extracting("recipientId").containsExactly(2);
+        // 2. 생성 시간이 아니라 INSERT에 기록한 이번 요청의 식별자로 추가된 수신자를 가려내야 합니다.
+        ArgumentCaptor<String> insertToken = ArgumentCaptor.forClass(String.class);
+        verify(groupMappingBulkInserter).insert(eq(phoneBookId), eq(List.of(2, 3)), any(LocalDateTime.class), insertToken.capture());
+        verify(groupMappingRepository).findRecipientIdsInsertedBy(phoneBookId, List.of(2, 3), insertToken.getValue());
+    }
+
+    @Test
+    @DisplayName("주소록에 수신자 일괄 추가 실패 테스트 - 동시 요청과 겹쳐 유니크 제약에 걸리면 400으로 안내")
+    void addRecipientsToPhoneBook_Fail_UniqueViolation_Test() {
+        // given
+        // 1. INSERT가 유니크 제약(uk_group_mapping_live) 위반으로 실패하는 상황입니다.
+        Integer workspaceId = 1, phoneBookId = 1, userId = 1;
+        PhoneBookRequest.RecipientIdListDTO requestDTO = new PhoneBookRequest.RecipientIdListDTO(List.of(2));
+        Workspace mockWorkspace = mock(Workspace.class);
+        PhoneBook mockPhoneBook = PhoneBook.builder()
+                .phoneBookId(phoneBookId)
+                .phoneBookName("테스트 주소록")
+                .workspace(mockWorkspace)
+                .build();
+        List<Recipient> mockRecipients = List.of(
+                Recipient.builder().recipientId(2).recipientName("홍길동").recipientPhoneNumber("010-1111-1111").workspace(mockWorkspace).build());
+
+        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId)).thenReturn(mockPhoneBook);
+        when(recipientValidator.validateAndGetRecipients(workspaceId, requestDTO.recipientIds())).thenReturn(mockRecipients);
+        when(groupMappingRepository.findRecipientIdsInPhoneBook(phoneBookId, List.of(2))).thenReturn(List.of());
+        when(groupMappingBulkInserter.insert(eq(phoneBookId), eq(List.of(2)), any(LocalDateTime.class), anyString()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry for key 'uk_group_mapping_live'"));
+
+        // when & then
+        // 1. 500이 아닌 IllegalArgumentException으로 다시 시도를 안내해야 합니다.
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> phoneBookService.addRecipientsToPhoneBook(requestDTO, workspaceId, phoneBookId, userId));
+        assertThat(thrown.getMessage()).contains("다시 시도해주세요");
+    }
+
+    @Test
+    @DisplayName("주소록에 수신자 일괄 추가 실패 테스트 - 수신자 ID 목록이 없는 경우")
+    void addRecipientsToPhoneBook_Fail_NullRecipientIds_Test() {
+        // given
+        PhoneBookRequest.RecipientIdListDTO requestDTO = new PhoneBookRequest.RecipientIdListDTO(null);
+
+        // when & then
+        // 1. NullPointerException이 아닌 IllegalArgumentException으로 거부하고, 아무 조회도 실행하지 않아야 합니다.
+        assertThrows(IllegalArgumentException.class,
+                () -> phoneBookService.addRecipientsToPhoneBook(requestDTO, 1, 1, 1));
+        verify(phoneBookValidator, never()).validateAndGetPhoneBook(anyInt(), anyInt(), anyInt());
+        verify(groupMappingBulkInserter, never()).insert(any(), any(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("주소록에 수신자 일괄 추가 테스트 - 동기 추가 한도 초과")
+    void addRecipientsToPhoneBook_Fail_ExceedsSyncLimit_Test() {
+        // given
+        // 1. 동기 추가 한도를 넘는 요청을 준비합니다.
+        Integer workspaceId = 1, phoneBookId = 1, userId = 1;
+        PhoneBookRequest.RecipientIdListDTO requestDTO = new PhoneBookRequest.RecipientIdListDTO(List.of(1, 2, 3));
+        doThrow(new IllegalArgumentException("한 번에 추가할 수 있는 수신자는 최대 2명입니다. 더 많은 수신자는 비동기 추가 작업을 사용해주세요."))
+                .when(groupMappingBulkInserter).validateSyncSize(3);
+
+        // when & then
+        // 1. 예외가 발생하고, 수신자 엔티티 조회나 INSERT는 실행되지 않아야 합니다.
+        assertThrows(IllegalArgumentException.class,
+                () -> phoneBookService.addRecipientsToPhoneBook(requestDTO, workspaceId, phoneBookId, userId));
+        verify(recipientValidator, never()).validateAndGetRecipients(anyInt(), anyList());
+        verify(groupMappingBulkInserter, never()).insert(any(), any(), any(), anyString());
     }
 
     @Test
@@ -333,26 +421,18 @@ class PhoneBookServiceTest {
         Integer workspaceId = 1;
         Integer userId = 1;
 
-        // 2. Mock 객체들을 준비합니다.
+        // 2. Mock 객체들을 준비합니다. (집계 쿼리가 수신자 수를 포함한 DTO를 반환)
         Workspace mockWorkspace = mock(Workspace.class);
-        List<PhoneBook> mockPhoneBookList = List.of(
-                PhoneBook.builder()
-                        .phoneBookId(1)
-                        .phoneBookName("주소록1")
-                        .workspace(mockWorkspace)
-                        .build(),
-                PhoneBook.builder()
-                        .phoneBookId(2)
-                        .phoneBookName("주소록2")
-                        .workspace(mockWorkspace)
-                        .build()
+        List<PhoneBookResponse.SimpleDTO> summaries = List.of(
+                new PhoneBookResponse.SimpleDTO(1, "주소록1", null, null, null, null, 3L),
+                new PhoneBookResponse.SimpleDTO(2, "주소록2", null, null, null, null, 0L)
         );
 
         // 3. Mockito 행동 정의
         when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
                 .thenReturn(mockWorkspace);
-        when(phoneBookRepository.findAllByWorkspace_WorkspaceId(workspaceId))
-                .thenReturn(mockPhoneBookList);
+        when(phoneBookRepository.findSummariesWithRecipientCount(workspaceId))
+                .thenReturn(summaries);
 
         // when
         // 1. 실제 테스트 대상인 서비스 메소드를 호출합니다.
@@ -363,17 +443,20 @@ class PhoneBookServiceTest {
         assertThat(result).isNotNull();
         // 2. 반환된 주소록 목록의 크기가 2개인지 확인합니다.
         assertThat(result).hasSize(2);
-        // 3. 반환된 주소록들의 ID와 이름이 예상과 일치하는지 확인합니다.
+        // 3. 반환된 주소록들의 ID, 이름, 수신자 수가 예상과 일치하는지 확인합니다.
         assertThat(result)
                 .extracting(PhoneBookResponse.SimpleDTO::phoneBookId)
                 .containsExactly(1, 2);
         assertThat(result)
                 .extracting(PhoneBookResponse.SimpleDTO::phoneBookName)
                 .containsExactly("주소록1", "주소록2");
+        assertThat(result)
+                .extracting(PhoneBookResponse.SimpleDTO::recipientCount)
+                .containsExactly(3L, 0L);
 
         // 4. Validator와 Repository의 메소드가 각각 정확히 1번씩 호출되었는지 검증합니다.
         verify(workspaceValidator, times(1)).validateAndGetWorkspace(workspaceId, userId);
-        verify(phoneBookRepository, times(1)).findAllByWorkspace_WorkspaceId(workspaceId);
+        verify(phoneBookRepository, times(1)).findSummariesWithRecipientCount(workspaceId);
     }
 
     @Test
@@ -399,7 +482,7 @@ class PhoneBookServiceTest {
                 thrown.getMessage());
 
         // 2. (중요) 로직이 초반에 중단되었으므로, Repository 조회 로직은 절대 호출되면 안됩니다.
-        verify(phoneBookRepository, never()).findAllByWorkspace_WorkspaceId(anyInt());
+        verify(phoneBookRepository, never()).findSummariesWithRecipientCount(anyInt());
     }
 
     @Test
@@ -420,35 +503,17 @@ class PhoneBookServiceTest {
                 .workspace(mockWorkspace)
                 .build();
 
-        List<GroupMapping> mockGroupMappings = List.of(
-                GroupMapping.builder()
-                        .phoneBook(mockPhoneBook)
-                        .recipient(Recipient.builder()
-                                .recipientId(1)
-                                .recipientName("수신자1")
-                                .recipientPhoneNumber("010-1111-1111")
-                                .workspace(mockWorkspace)
-                                .build())
-                        .build(),
-                GroupMapping.builder()
-                        .phoneBook(mockPhoneBook)
-                        .recipient(Recipient.builder()
-                                .recipientId(2)
-                                .recipientName("수신자2")
-                                .recipientPhoneNumber("010-2222-2222")
-                                .workspace(mockWorkspace)
-                                .build())
-                        .build()
+        List<RecipientResponse.SimpleDTO> mockMembers = List.of(
+                new RecipientResponse.SimpleDTO(1, "수신자1", "010-1111-1111", null, null, null, null),
+                new RecipientResponse.SimpleDTO(2, "수신자2", "010-2222-2222", null, null, null, null)
         );
-        Page<GroupMapping> mockGroupMappingPage = new PageImpl<>(mockGroupMappings, pageable, 2);
+        Page<RecipientResponse.SimpleDTO> mockMemberPage = new PageImpl<>(mockMembers, pageable, 2);
 
         // 3. Mockito 행동 정의
-        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                .thenReturn(mockWorkspace);
-        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId))
+        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId))
                 .thenReturn(mockPhoneBook);
-        when(groupMappingRepository.findByPhoneBookOrderByRecipient_CreatedAtDescRecipient_RecipientIdDesc(mockPhoneBook, pageable))
-                .thenReturn(mockGroupMappingPage);
+        when(groupMappingRepository.findMemberPage(workspaceId, phoneBookId, pageable))
+                .thenReturn(mockMemberPage);
 
         // when
         // 1. 실제 테스트 대상인 서비스 메소드를 호출합니다.
@@ -471,9 +536,8 @@ class PhoneBookServiceTest {
                 .containsExactly("수신자1", "수신자2");
 
         // 6. Validator와 Repository의 메소드가 각각 정확히 1번씩 호출되었는지 검증합니다.
-        verify(workspaceValidator, times(1)).validateAndGetWorkspace(workspaceId, userId);
-        verify(phoneBookValidator, times(1)).validateAndGetPhoneBook(workspaceId, phoneBookId);
-        verify(groupMappingRepository, times(1)).findByPhoneBookOrderByRecipient_CreatedAtDescRecipient_RecipientIdDesc(mockPhoneBook, pageable);
+        verify(phoneBookValidator, times(1)).validateAndGetPhoneBook(workspaceId, phoneBookId, userId);
+        verify(groupMappingRepository, times(1)).findMemberPage(workspaceId, phoneBookId, pageable);
     }
 
     @Test
@@ -490,9 +554,7 @@ class PhoneBookServiceTest {
         Workspace mockWorkspace = mock(Workspace.class);
 
         // 3. Mockito 행동 정의
-        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                .thenReturn(mockWorkspace);
-        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, nonExistentPhoneBookId))
+        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, nonExistentPhoneBookId, userId))
                 .thenThrow(new IllegalArgumentException("주소록을 찾을 수 없습니다. ID: " + nonExistentPhoneBookId));
 
         // when
@@ -506,7 +568,67 @@ class PhoneBookServiceTest {
                 thrown.getMessage());
 
         // 2. (중요) 로직이 초반에 중단되었으므로, GroupMapping 조회 로직은 절대 호출되면 안됩니다.
-        verify(groupMappingRepository, never()).findByPhoneBookOrderByRecipient_CreatedAtDescRecipient_RecipientIdDesc(any(PhoneBook.class), any(Pageable.class));
+        verify(groupMappingRepository, never()).findMemberPage(anyInt(), anyInt(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("주소록별 수신자 목록 커서 조회 테스트 - 첫 페이지는 size + 1개를 조회해 다음 페이지 커서를 만든다")
+    void readRecipientsInPhoneBookByCursor_FirstPage_Test() {
+        // given
+        // 1. 페이지 크기 2로 요청하고, 저장소는 size + 1개인 3개를 반환합니다.
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+        PhoneBookMemberCursorRequest cursorRequest = new PhoneBookMemberCursorRequest();
+        cursorRequest.setSize(2);
+        when(groupMappingRepository.findMemberFirstPage(1, 1, PageRequest.of(0, 3))).thenReturn(List.of(
+                new RecipientResponse.SimpleDTO(3, "수신자3", "010-3333-3333", null, createdAt, createdAt, null),
+                new RecipientResponse.SimpleDTO(2, "수신자2", "010-2222-2222", null, createdAt, createdAt, null),
+                new RecipientResponse.SimpleDTO(1, "수신자1", "010-1111-1111", null, createdAt, createdAt, null)));
+
+        // when
+        CursorPageResponse<RecipientResponse.SimpleDTO> result =
+                phoneBookService.readRecipientsInPhoneBookByCursor(1, 1, 1, cursorRequest);
+
+        // then
+        // 1. 요청한 크기만큼만 반환하고, 마지막 항목(수신자2)을 가리키는 커서를 만듭니다.
+        assertThat(result.content()).extracting(RecipientResponse.SimpleDTO::recipientId).containsExactly(3, 2);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(PhoneBookMemberCursor.decode(result.nextCursor())).isEqualTo(new PhoneBookMemberCursor(createdAt, 2));
+        verify(phoneBookValidator).validateAndGetPhoneBook(1, 1, 1);
+    }
+
+    @Test
+    @DisplayName("주소록별 수신자 목록 커서 조회 테스트 - 커서 이후 범위를 조회하고 마지막 페이지면 커서가 없다")
+    void readRecipientsInPhoneBookByCursor_NextPage_Test() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+        PhoneBookMemberCursorRequest cursorRequest = new PhoneBookMemberCursorRequest();
+        cursorRequest.setSize(2);
+        cursorRequest.setCursor(new PhoneBookMemberCursor(createdAt, 2).encode());
+        when(groupMappingRepository.findMembersAfter(1, 1, createdAt, 2, PageRequest.of(0, 3))).thenReturn(List.of(
+                new RecipientResponse.SimpleDTO(1, "수신자1", "010-1111-1111", null, createdAt, createdAt, null)));
+
+        // when
+        CursorPageResponse<RecipientResponse.SimpleDTO> result =
+                phoneBookService.readRecipientsInPhoneBookByCursor(1, 1, 1, cursorRequest);
+
+        // then
+        assertThat(result.content()).extracting(RecipientResponse.SimpleDTO::recipientId).containsExactly(1);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("주소록별 수신자 목록 커서 조회 실패 테스트 - 유효하지 않은 커서")
+    void readRecipientsInPhoneBookByCursor_Fail_InvalidCursor_Test() {
+        // given
+        PhoneBookMemberCursorRequest cursorRequest = new PhoneBookMemberCursorRequest();
+        cursorRequest.setCursor("not-a-cursor");
+
+        // when & then
+        Throwable thrown = assertThrows(IllegalArgumentException.class, () ->
+                phoneBookService.readRecipientsInPhoneBookByCursor(1, 1, 1, cursorRequest));
+        assertEquals("유효하지 않은 커서입니다.", thrown.getMessage());
+        verify(groupMappingRepository, never()).findMembersAfter(anyInt(), anyInt(), any(), anyInt(), any(Pageable.class));
     }
 
     @Test
@@ -532,12 +654,10 @@ class PhoneBookServiceTest {
                 .build());
 
         // 3. Mockito 행동 정의
-        //    - workspaceValidator.validateAndGetWorkspace 호출 시, mockWorkspace를 반환하여 권한 검증을 통과시킵니다.
-        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                .thenReturn(mockWorkspace);
         //    - phoneBookValidator.validateAndGetPhoneBook 호출 시, existingPhoneBook를 반환합니다.
-        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId))
+        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId))
                 .thenReturn(existingPhoneBook);
+        when(groupMappingRepository.countMembers(phoneBookId)).thenReturn(5L);
 
         // when
         // 1. 실제 테스트 대상인 서비스 메소드를 호출합니다.
@@ -549,6 +669,7 @@ class PhoneBookServiceTest {
         assertEquals(phoneBookId, result.phoneBookId());
         assertEquals("수정된 주소록명", result.phoneBookName());
         assertEquals("수정된 메모입니다.", result.phoneBookMemo());
+        assertThat(result.recipientCount()).isEqualTo(5L);
 
         // 2. 엔티티의 필드가 실제로 업데이트되었는지 검증합니다.
         assertEquals("수정된 주소록명", existingPhoneBook.getPhoneBookName());
@@ -558,8 +679,7 @@ class PhoneBookServiceTest {
         verify(existingPhoneBook, times(1)).update();
 
         // 4. Validator들이 각각 정확히 1번씩 호출되었는지 검증합니다.
-        verify(workspaceValidator, times(1)).validateAndGetWorkspace(workspaceId, userId);
-        verify(phoneBookValidator, times(1)).validateAndGetPhoneBook(workspaceId, phoneBookId);
+        verify(phoneBookValidator, times(1)).validateAndGetPhoneBook(workspaceId, phoneBookId, userId);
     }
 
     @Test
@@ -575,8 +695,8 @@ class PhoneBookServiceTest {
                 "수정된 메모입니다."
         );
 
-        // 2. Mockito 행동 정의: workspaceValidator가 예외를 던지도록 설정합니다.
-        when(workspaceValidator.validateAndGetWorkspace(unauthorizedWorkspaceId, userId))
+        // 2. Mockito 행동 정의: 주소록 검증(워크스페이스 권한 포함)에서 예외를 던지도록 설정합니다.
+        when(phoneBookValidator.validateAndGetPhoneBook(unauthorizedWorkspaceId, phoneBookId, userId))
                 .thenThrow(new IllegalArgumentException("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: " + unauthorizedWorkspaceId));
 
         // when
@@ -589,8 +709,8 @@ class PhoneBookServiceTest {
         assertEquals("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: " + unauthorizedWorkspaceId,
                 thrown.getMessage());
 
-        // 2. (중요) 로직이 초반에 중단되었으므로, 주소록 검증 로직은 절대 호출되면 안됩니다.
-        verify(phoneBookValidator, never()).validateAndGetPhoneBook(anyInt(), anyInt());
+        // 2. (중요) 워크스페이스 권한은 주소록 조회 쿼리에서 함께 검증되므로, 별도의 워크스페이스 검증은 호출되지 않습니다.
+        verify(workspaceValidator, never()).validateAndGetWorkspace(anyInt(), anyInt());
     }
 
     @Test
@@ -610,9 +730,7 @@ class PhoneBookServiceTest {
         Workspace mockWorkspace = mock(Workspace.class);
 
         // 3. Mockito 행동 정의
-        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                .thenReturn(mockWorkspace);
-        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, nonExistentPhoneBookId))
+        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, nonExistentPhoneBookId, userId))
                 .thenThrow(new IllegalArgumentException("주소록을 찾을 수 없습니다. ID: " + nonExistentPhoneBookId));
 
         // when
@@ -626,8 +744,7 @@ class PhoneBookServiceTest {
                 thrown.getMessage());
 
         // 2. Validator들이 각각 정확히 1번씩 호출되었는지 검증합니다.
-        verify(workspaceValidator, times(1)).validateAndGetWorkspace(workspaceId, userId);
-        verify(phoneBookValidator, times(1)).validateAndGetPhoneBook(workspaceId, nonExistentPhoneBookId);
+        verify(phoneBookValidator, times(1)).validateAndGetPhoneBook(workspaceId, nonExistentPhoneBookId, userId);
     }
 
     @Test
@@ -649,11 +766,8 @@ class PhoneBookServiceTest {
                 .build());
 
         // 3. Mockito 행동 정의
-        //    - workspaceValidator.validateAndGetWorkspace 호출 시, mockWorkspace를 반환하여 권한 검증을 통과시킵니다.
-        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                .thenReturn(mockWorkspace);
         //    - phoneBookValidator.validateAndGetPhoneBook 호출 시, existingPhoneBook를 반환합니다.
-        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId))
+        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId))
                 .thenReturn(existingPhoneBook);
         //    - phoneBookRepository.findByIdIncludingDeleted 호출 시, 소프트 딜리트된 주소록을 반환합니다.
         when(phoneBookRepository.findByIdIncludingDeleted(phoneBookId))
@@ -672,6 +786,8 @@ class PhoneBookServiceTest {
 
         // 2. 엔티티의 softDelete() 메서드가 호출되었는지 검증합니다.
         verify(existingPhoneBook, times(1)).softDelete();
+        // 2-1. 매핑은 이 트랜잭션에서 삭제하지 않고 연쇄 삭제 작업으로 등록되었는지 검증합니다.
+        verify(groupMappingCascadeDeleter, times(1)).deleteMappingsOf(GroupMappingCascadeTask.TargetType.PHONE_BOOK, phoneBookId);
 
         // 3. EntityManager flush/clear가 호출되었는지 검증합니다.
         verify(entityManager, times(1)).flush();
@@ -681,8 +797,7 @@ class PhoneBookServiceTest {
         verify(phoneBookRepository, times(1)).findByIdIncludingDeleted(phoneBookId);
 
         // 5. Validator들이 각각 정확히 1번씩 호출되었는지 검증합니다.
-        verify(workspaceValidator, times(1)).validateAndGetWorkspace(workspaceId, userId);
-        verify(phoneBookValidator, times(1)).validateAndGetPhoneBook(workspaceId, phoneBookId);
+        verify(phoneBookValidator, times(1)).validateAndGetPhoneBook(workspaceId, phoneBookId, userId);
     }
 
     @Test
@@ -694,8 +809,8 @@ class PhoneBookServiceTest {
         Integer phoneBookId = 1;
         Integer userId = 1;
 
-        // 2. Mockito 행동 정의: workspaceValidator가 예외를 던지도록 설정합니다.
-        when(workspaceValidator.validateAndGetWorkspace(unauthorizedWorkspaceId, userId))
+        // 2. Mockito 행동 정의: 주소록 검증(워크스페이스 권한 포함)에서 예외를 던지도록 설정합니다.
+        when(phoneBookValidator.validateAndGetPhoneBook(unauthorizedWorkspaceId, phoneBookId, userId))
                 .thenThrow(new IllegalArgumentException("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: " + unauthorizedWorkspaceId));
 
         // when
@@ -708,8 +823,8 @@ class PhoneBookServiceTest {
         assertEquals("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: " + unauthorizedWorkspaceId,
                 thrown.getMessage());
 
-        // 2. (중요) 로직이 초반에 중단되었으므로, 주소록 검증 로직은 절대 호출되면 안됩니다.
-        verify(phoneBookValidator, never()).validateAndGetPhoneBook(anyInt(), anyInt());
+        // 2. (중요) 워크스페이스 권한은 주소록 조회 쿼리에서 함께 검증되므로, 별도의 워크스페이스 검증은 호출되지 않습니다.
+        verify(workspaceValidator, never()).validateAndGetWorkspace(anyInt(), anyInt());
         verify(entityManager, never()).flush();
         verify(entityManager, never()).clear();
         verify(phoneBookRepository, never()).findByIdIncludingDeleted(anyInt());
@@ -728,9 +843,7 @@ class PhoneBookServiceTest {
         Workspace mockWorkspace = mock(Workspace.class);
 
         // 3. Mockito 행동 정의
-        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                .thenReturn(mockWorkspace);
-        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, nonExistentPhoneBookId))
+        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, nonExistentPhoneBookId, userId))
                 .thenThrow(new IllegalArgumentException("주소록을 찾을 수 없습니다. ID: " + nonExistentPhoneBookId));
 
         // when
@@ -744,8 +857,7 @@ class PhoneBookServiceTest {
                 thrown.getMessage());
 
         // 2. Validator들이 각각 정확히 1번씩 호출되었는지 검증합니다.
-        verify(workspaceValidator, times(1)).validateAndGetWorkspace(workspaceId, userId);
-        verify(phoneBookValidator, times(1)).validateAndGetPhoneBook(workspaceId, nonExistentPhoneBookId);
+        verify(phoneBookValidator, times(1)).validateAndGetPhoneBook(workspaceId, nonExistentPhoneBookId, userId);
 
         // 3. (중요) 삭제 로직은 호출되면 안됩니다.
         verify(entityManager, never()).flush();
@@ -772,9 +884,7 @@ class PhoneBookServiceTest {
                 .build());
 
         // 3. Mockito 행동 정의
-        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                .thenReturn(mockWorkspace);
-        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId))
+        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId))
                 .thenReturn(existingPhoneBook);
         // 소프트 딜리트 후 재조회가 실패하는 상황을 시뮬레이트합니다.
         when(phoneBookRepository.findByIdIncludingDeleted(phoneBookId))
@@ -815,56 +925,14 @@ class PhoneBookServiceTest {
                 .workspace(mockWorkspace)
                 .build();
 
-        Recipient recipient1 = Recipient.builder()
-                .recipientId(1)
-                .recipientName("홍길동")
-                .recipientPhoneNumber("010-1111-1111")
-                .workspace(mockWorkspace)
-                .build();
-        Recipient recipient2 = Recipient.builder()
-                .recipientId(2)
-                .recipientName("임꺽정")
-                .recipientPhoneNumber("010-2222-2222")
-                .workspace(mockWorkspace)
-                .build();
-
-        GroupMapping mapping1 = GroupMapping.builder()
-                .groupMappingId(1)
-                .phoneBook(mockPhoneBook)
-                .recipient(recipient1)
-                .build();
-        GroupMapping mapping2 = GroupMapping.builder()
-                .groupMappingId(2)
-                .phoneBook(mockPhoneBook)
-                .recipient(recipient2)
-                .build();
-
-        List<GroupMapping> mappingsToDelete = List.of(mapping1, mapping2);
-
-        // 소프트 딜리트된 매핑들 (deletedAt과 updatedAt이 설정된 상태)
-        GroupMapping deletedMapping1 = spy(GroupMapping.builder()
-                .groupMappingId(1)
-                .phoneBook(mockPhoneBook)
-                .recipient(recipient1)
-                .build());
-        GroupMapping deletedMapping2 = spy(GroupMapping.builder()
-                .groupMappingId(2)
-                .phoneBook(mockPhoneBook)
-                .recipient(recipient2)
-                .build());
-        List<GroupMapping> deletedMappings = List.of(deletedMapping1, deletedMapping2);
+        RecipientResponse.SimpleDTO recipient1 = new RecipientResponse.SimpleDTO(1, "홍길동", "010-1111-1111", null, null, null, null);
+        RecipientResponse.SimpleDTO recipient2 = new RecipientResponse.SimpleDTO(2, "임꺽정", "010-2222-2222", null, null, null, null);
 
         // 3. Mock 객체들의 동작을 정의합니다.
-        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                .thenReturn(mockWorkspace);
-        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId))
+        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId))
                 .thenReturn(mockPhoneBook);
-        when(recipientValidator.validateAndGetRecipients(workspaceId, requestDTO.recipientIds()))
-                .thenReturn(List.of(recipient1, recipient2)); // 유효한 수신자 반환
-        when(groupMappingRepository.findAllByPhoneBookAndRecipient_RecipientIdIn(mockPhoneBook, List.of(1, 2)))
-                .thenReturn(mappingsToDelete);
-        when(groupMappingRepository.findAllByIdIncludingDeleted(List.of(mapping1.getGroupMappingId(), mapping2.getGroupMappingId())))
-                .thenReturn(deletedMappings);
+        when(groupMappingBulkDeleter.delete(eq(workspaceId), eq(phoneBookId), eq(List.of(1, 2)), any(LocalDateTime.class)))
+                .thenReturn(List.of(recipient1, recipient2)); // 두 수신자 모두 주소록에서 제거됨
 
         // when
         // 1. 테스트 대상 서비스 메서드를 호출합니다.
@@ -875,15 +943,53 @@ class PhoneBookServiceTest {
         assertThat(result).isNotNull();
         // 2. 결과 DTO의 주소록 ID가 올바른지 확인합니다.
         assertThat(result.phoneBookId()).isEqualTo(phoneBookId);
-        // 3. 삭제된 수신자 목록의 크기가 2인지 확인합니다.
-        assertThat(result.recipientList().size()).isEqualTo(2);
-        // 4. 삭제된 수신자들의 ID가 1과 2인지 확인합니다.
+        // 3. 삭제된 수신자들의 ID가 1과 2인지 확인합니다.
         assertThat(result.recipientList()).extracting("recipientId").containsExactlyInAnyOrder(1, 2);
 
-        // 5. groupMappingRepository.softDeleteAllInBatch가 정확히 1번 호출되었는지 검증합니다.
-        verify(groupMappingRepository, times(1)).softDeleteAllInBatch(eq(mappingsToDelete), any(LocalDateTime.class));
-        // 6. 소프트 딜리트된 매핑들을 다시 조회했는지 검증합니다.
-        verify(groupMappingRepository, times(1)).findAllByIdIncludingDeleted(List.of(mapping1.getGroupMappingId(), mapping2.getGroupMappingId()));
+        // 4. 응답의 삭제 시간은 벌크 UPDATE에 전달한 시간과 같습니다. (재조회 없음)
+        ArgumentCaptor<LocalDateTime> timestampCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(groupMappingBulkDeleter, times(1)).validateSize(2);
+        verify(groupMappingBulkDeleter, times(1)).delete(eq(workspaceId), eq(phoneBookId), eq(List.of(1, 2)), timestampCaptor.capture());
+        assertThat(result.deletedAt()).isEqualTo(timestampCaptor.getValue());
+        assertThat(result.updatedAt()).isEqualTo(timestampCaptor.getValue());
+        assertThat(result.createdAt()).isNull();
+
+        // 5. 수신자 엔티티를 한꺼번에 로딩하는 검증은 호출되지 않습니다.
+        verify(recipientValidator, never()).validateAndGetRecipients(anyInt(), anyList());
+    }
+
+    @Test
+    @DisplayName("주소록에서 수신자 일괄 삭제 테스트 - 일부 수신자만 주소록에 속한 경우")
+    void deleteRecipientsFromPhoneBook_PartiallyMapped_Test() {
+        // given
+        // 1. 테스트에 사용할 ID와 요청 DTO를 준비합니다.
+        Integer workspaceId = 1;
+        Integer phoneBookId = 1;
+        Integer userId = 1;
+        PhoneBookRequest.RecipientIdListDTO requestDTO = new PhoneBookRequest.RecipientIdListDTO(List.of(1, 2));
+
+        // 2. Mock 객체들을 준비합니다.
+        Workspace mockWorkspace = mock(Workspace.class);
+        PhoneBook mockPhoneBook = PhoneBook.builder()
+                .phoneBookId(phoneBookId)
+                .phoneBookName("테스트 주소록")
+                .workspace(mockWorkspace)
+                .build();
+
+        // 3. Mock 객체들의 동작을 정의합니다.
+        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId))
+                .thenReturn(mockPhoneBook);
+        when(groupMappingBulkDeleter.delete(eq(workspaceId), eq(phoneBookId), eq(List.of(1, 2)), any(LocalDateTime.class)))
+                .thenReturn(List.of(new RecipientResponse.SimpleDTO(1, "홍길동", "010-1111-1111", null, null, null, null))); // 주소록에 속해 있던 수신자 1만 제거됨
+
+        // when
+        // 1. 서비스 메서드를 호출합니다.
+        PhoneBookResponse.ModifiedRecipientsDTO result = phoneBookService.deleteRecipientsFromPhoneBook(requestDTO, workspaceId, phoneBookId, userId);
+
+        // then
+        // 1. 실제로 제거된 수신자만 응답에 포함됩니다.
+        assertThat(result.recipientList()).extracting("recipientId").containsExactly(1);
+        assertThat(result.recipientList()).extracting("recipientName").containsExactly("홍길동");
     }
 
     @Test
@@ -904,30 +1010,10 @@ class PhoneBookServiceTest {
                 .workspace(mockWorkspace)
                 .build();
 
-        // 유효한 수신자들 (워크스페이스에는 존재하지만 주소록에는 매핑되지 않음)
-        List<Recipient> validRecipients = List.of(
-                Recipient.builder()
-                        .recipientId(1)
-                        .recipientName("홍길동")
-                        .recipientPhoneNumber("010-1111-1111")
-                        .workspace(mockWorkspace)
-                        .build(),
-                Recipient.builder()
-                        .recipientId(2)
-                        .recipientName("임꺽정")
-                        .recipientPhoneNumber("010-2222-2222")
-                        .workspace(mockWorkspace)
-                        .build()
-        );
-
         // 3. Mock 객체들의 동작을 정의합니다.
-        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                .thenReturn(mockWorkspace);
-        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId))
+        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId, userId))
                 .thenReturn(mockPhoneBook);
-        when(recipientValidator.validateAndGetRecipients(workspaceId, requestDTO.recipientIds()))
-                .thenReturn(validRecipients); // 유효한 수신자 반환
-        when(groupMappingRepository.findAllByPhoneBookAndRecipient_RecipientIdIn(mockPhoneBook, List.of(1, 2)))
+        when(groupMappingBulkDeleter.delete(eq(workspaceId), eq(phoneBookId), eq(List.of(1, 2)), any(LocalDateTime.class)))
                 .thenReturn(List.of()); // 삭제할 매핑이 없음
 
         // when
@@ -941,11 +1027,32 @@ class PhoneBookServiceTest {
         assertThat(result.phoneBookId()).isEqualTo(phoneBookId);
         // 3. 삭제된 수신자 목록이 비어있는지 확인합니다.
         assertThat(result.recipientList()).isEmpty();
+    }
 
-        // 4. 삭제할 매핑이 없으므로 softDeleteAllInBatch가 호출되지 않았는지 검증합니다.
-        verify(groupMappingRepository, never()).softDeleteAllInBatch(anyList(), any(LocalDateTime.class));
-        // 5. 재조회도 호출되지 않았는지 검증합니다.
-        verify(groupMappingRepository, never()).findAllByIdIncludingDeleted(anyList());
+    @Test
+    @DisplayName("주소록에서 수신자 일괄 삭제 실패 테스트 - 삭제 한도를 넘는 요청")
+    void deleteRecipientsFromPhoneBook_Fail_OverMaxSize_Test() {
+        // given
+        // 1. 테스트에 사용할 ID와 요청 DTO를 준비합니다.
+        Integer workspaceId = 1;
+        Integer phoneBookId = 1;
+        Integer userId = 1;
+        PhoneBookRequest.RecipientIdListDTO requestDTO = new PhoneBookRequest.RecipientIdListDTO(List.of(1, 2));
+
+        // 2. Mockito 행동 정의: 요청 크기 검증에서 예외를 던지도록 설정합니다.
+        doThrow(new IllegalArgumentException("한 번에 주소록에서 제거할 수 있는 수신자는 최대 1명입니다."))
+                .when(groupMappingBulkDeleter).validateSize(2);
+
+        // when
+        // 1. 서비스 메서드를 호출했을 때 특정 예외가 발생하는지 검증합니다.
+        Throwable thrown = assertThrows(IllegalArgumentException.class, () ->
+                phoneBookService.deleteRecipientsFromPhoneBook(requestDTO, workspaceId, phoneBookId, userId));
+
+        // then
+        // 1. 주소록 조회와 삭제 로직은 호출되면 안됩니다.
+        assertEquals("한 번에 주소록에서 제거할 수 있는 수신자는 최대 1명입니다.", thrown.getMessage());
+        verify(phoneBookValidator, never()).validateAndGetPhoneBook(anyInt(), anyInt(), anyInt());
+        verify(groupMappingBulkDeleter, never()).delete(any(), any(), anyList(), any());
     }
 
     @Test
@@ -958,8 +1065,8 @@ class PhoneBookServiceTest {
         Integer userId = 1;
         PhoneBookRequest.RecipientIdListDTO requestDTO = new PhoneBookRequest.RecipientIdListDTO(List.of(1, 2));
 
-        // 2. Mockito 행동 정의: workspaceValidator가 예외를 던지도록 설정합니다.
-        when(workspaceValidator.validateAndGetWorkspace(unauthorizedWorkspaceId, userId))
+        // 2. Mockito 행동 정의: 주소록 검증(워크스페이스 권한 포함)에서 예외를 던지도록 설정합니다.
+        when(phoneBookValidator.validateAndGetPhoneBook(unauthorizedWorkspaceId, phoneBookId, userId))
                 .thenThrow(new IllegalArgumentException("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: " + unauthorizedWorkspaceId));
 
         // when
@@ -972,10 +1079,9 @@ class PhoneBookServiceTest {
         assertEquals("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: " + unauthorizedWorkspaceId,
                 thrown.getMessage());
 
-        // 2. (중요) 로직이 초반에 중단되었으므로, 다른 검증 로직들은 절대 호출되면 안됩니다.
-        verify(phoneBookValidator, never()).validateAndGetPhoneBook(anyInt(), anyInt());
-        verify(groupMappingRepository, never()).findAllByPhoneBookAndRecipient_RecipientIdIn(any(PhoneBook.class), anyList());
-        verify(groupMappingRepository, never()).softDeleteAllInBatch(anyList(), any(LocalDateTime.class));
+        // 2. (중요) 워크스페이스 권한은 주소록 조회 쿼리에서 함께 검증되므로, 별도의 워크스페이스 검증은 호출되지 않습니다.
+        verify(workspaceValidator, never()).validateAndGetWorkspace(anyInt(), anyInt());
+        verify(groupMappingBulkDeleter, never()).delete(any(), any(), anyList(), any());
     }
 
     @Test
@@ -988,13 +1094,8 @@ class PhoneBookServiceTest {
         Integer userId = 1;
         PhoneBookRequest.RecipientIdListDTO requestDTO = new PhoneBookRequest.RecipientIdListDTO(List.of(1, 2));
 
-        // 2. Mock 객체를 준비합니다.
-        Workspace mockWorkspace = mock(Workspace.class);
-
-        // 3. Mockito 행동 정의
-        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                .thenReturn(mockWorkspace);
-        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, nonExistentPhoneBookId))
+        // 2. Mockito 행동 정의
+        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, nonExistentPhoneBookId, userId))
                 .thenThrow(new IllegalArgumentException("주소록을 찾을 수 없습니다. ID: " + nonExistentPhoneBookId));
 
         // when
@@ -1008,84 +1109,9 @@ class PhoneBookServiceTest {
                 thrown.getMessage());
 
         // 2. Validator들이 각각 정확히 1번씩 호출되었는지 검증합니다.
-        verify(workspaceValidator, times(1)).validateAndGetWorkspace(workspaceId, userId);
-        verify(phoneBookValidator, times(1)).validateAndGetPhoneBook(workspaceId, nonExistentPhoneBookId);
+        verify(phoneBookValidator, times(1)).validateAndGetPhoneBook(workspaceId, nonExistentPhoneBookId, userId);
 
         // 3. (중요) 삭제 로직은 호출되면 안됩니다.
-        verify(groupMappingRepository, never()).findAllByPhoneBookAndRecipient_RecipientIdIn(any(PhoneBook.class), anyList());
-        verify(groupMappingRepository, never()).softDeleteAllInBatch(anyList(), any(LocalDateTime.class));
-    }
-
-    @Test
-    @DisplayName("주소록에서 수신자 일괄 삭제 테스트 - 소프트 딜리트 후 재조회 시 빈 결과")
-    void deleteRecipientsFromPhoneBook_EmptyResultAfterSoftDelete_Test() {
-        // given
-        // 1. 테스트에 사용할 ID와 요청 DTO를 준비합니다.
-        Integer workspaceId = 1;
-        Integer phoneBookId = 1;
-        Integer userId = 1;
-        PhoneBookRequest.RecipientIdListDTO requestDTO = new PhoneBookRequest.RecipientIdListDTO(List.of(1, 2));
-
-        // 2. Mock 객체들을 준비합니다.
-        Workspace mockWorkspace = mock(Workspace.class);
-        PhoneBook mockPhoneBook = PhoneBook.builder()
-                .phoneBookId(phoneBookId)
-                .phoneBookName("테스트 주소록")
-                .workspace(mockWorkspace)
-                .build();
-
-        GroupMapping mapping1 = GroupMapping.builder()
-                .groupMappingId(1)
-                .phoneBook(mockPhoneBook)
-                .recipient(Recipient.builder()
-                        .recipientId(1)
-                        .recipientName("홍길동")
-                        .recipientPhoneNumber("010-1111-1111")
-                        .workspace(mockWorkspace)
-                        .build())
-                .build();
-        List<GroupMapping> mappingsToDelete = List.of(mapping1);
-
-        Recipient validRecipient1 = Recipient.builder()
-                .recipientId(1)
-                .recipientName("홍길동")
-                .recipientPhoneNumber("010-1111-1111")
-                .workspace(mockWorkspace)
-                .build();
-        Recipient validRecipient2 = Recipient.builder()
-                .recipientId(2)
-                .recipientName("임꺽정")
-                .recipientPhoneNumber("010-2222-2222")
-                .workspace(mockWorkspace)
-                .build();
-
-        // 3. Mock 객체들의 동작을 정의합니다.
-        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                .thenReturn(mockWorkspace);
-        when(phoneBookValidator.validateAndGetPhoneBook(workspaceId, phoneBookId))
-                .thenReturn(mockPhoneBook);
-        when(recipientValidator.validateAndGetRecipients(workspaceId, requestDTO.recipientIds()))
-                .thenReturn(List.of(validRecipient1, validRecipient2)); // 유효한 수신자 반환
-        when(groupMappingRepository.findAllByPhoneBookAndRecipient_RecipientIdIn(mockPhoneBook, List.of(1, 2)))
-                .thenReturn(mappingsToDelete);
-        // 소프트 딜리트 후 재조회 시 빈 리스트 반환 (실제로는 발생하지 않지만 테스트용)
-        when(groupMappingRepository.findAllByIdIncludingDeleted(List.of(mapping1.getGroupMappingId())))
-                .thenReturn(List.of()); // 빈 리스트 반환
-
-        // when
-        // 1. 서비스 메서드를 호출합니다.
-        PhoneBookResponse.ModifiedRecipientsDTO result = phoneBookService.deleteRecipientsFromPhoneBook(requestDTO, workspaceId, phoneBookId, userId);
-
-        // then
-        // 1. 결과 DTO가 null이 아닌지 확인합니다.
-        assertThat(result).isNotNull();
-        // 2. 결과 DTO의 주소록 ID가 올바른지 확인합니다.
-        assertThat(result.phoneBookId()).isEqualTo(phoneBookId);
-        // 3. 재조회 결과가 빈 리스트이므로 수신자 목록도 빈 것으로 반환됩니다.
-        assertThat(result.recipientList()).isEmpty();
-
-        // 4. 소프트 딜리트는 실행되었는지 검증합니다.
-        verify(groupMappingRepository, times(1)).softDeleteAllInBatch(eq(mappingsToDelete), any(LocalDateTime.class));
-        verify(groupMappingRepository, times(1)).findAllByIdIncludingDeleted(List.of(mapping1.getGroupMappingId()));
+        verify(groupMappingBulkDeleter, never()).delete(any(), any(), anyList(), any());
     }
 }
@@ -10,12 +10,23 @@ import static org.mockito.Mockito.never;
 import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateCreateRequest;
 import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateResponse;
 import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplatePageableRequest;
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateSearchRequest;
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateSummaryResponse;
+import com.jober.final2teamdrhong.entity.Favorite;
 import com.jober.final2teamdrhong.entity.IndividualTemplate;
 import com.jober.final2teamdrhong.entity.PublicTemplate;
 import com.jober.final2teamdrhong.entity.User;
 import com.jober.final2teamdrhong.entity.Workspace;
 import com.jober.final2teamdrhong.repository.IndividualTemplateRepository;
 import com.jober.final2teamdrhong.repository.PublicTemplateRepository;
+import com.jober.final2teamdrhong.service.autosave.TemplateEditCoalescer;
+import com.jober.final2teamdrhong.service.cascade.FavoriteCascadeDeleter;
+import com.jober.final2teamdrhong.service.catalogue.PublicTemplateCatalogueCache;
+import com.jober.final2teamdrhong.service.catalogue.PublicTemplateCataloguePage;
+import com.jober.final2teamdrhong.service.catalogue.PublicTemplateChangedEvent;
+import com.jober.final2teamdrhong.service.catalogue.PublicTemplatePopularityRanking;
+import com.jober.final2teamdrhong.service.counter.PublicTemplateCounter;
+import com.jober.final2teamdrhong.service.search.PublicTemplateFullTextIndex;
 import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +35,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -31,7 +43,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @ExtendWith(MockitoExtension.class)
 class PublicTemplateServiceTest {
@@ -48,33 +63,171 @@ class PublicTemplateServiceTest {
     @Mock
     private WorkspaceValidator workspaceValidator;
 
+    @Mock
+    private PublicTemplateFullTextIndex publicTemplateFullTextIndex;
+
+    @Mock
+    private PublicTemplateCounter publicTemplateCounter;
+
+    @Mock
+    private PublicTemplateCatalogueCache publicTemplateCatalogueCache;
+
+    @Mock
+    private PublicTemplatePopularityRanking publicTemplatePopularityRanking;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private FavoriteCascadeDeleter favoriteCascadeDeleter;
+
+    @Mock
+    private TemplateEditCoalescer templateEditCoalescer;
+
     @Test
-    @DisplayName("getTemplates는 Repository에서 조회한 페이지를 그대로 매핑해 반환한다")
+    @DisplayName("getTemplates는 Repository에서 프로젝션으로 조회한 페이지를 그대로 반환한다")
     void getTemplates_ReturnsMappedPage() {
         // given
-        PublicTemplate e1 = PublicTemplate.builder()
-                .publicTemplateTitle("가나다")
-                .publicTemplateContent("Content1")
-                .buttonTitle("버튼1")
-                .build();
-        PublicTemplate e2 = PublicTemplate.builder()
-                .publicTemplateTitle("나다라")
-                .publicTemplateContent("Content2")
-                .buttonTitle("버튼2")
-                .build();
+        PublicTemplateSummaryResponse e1 = new PublicTemplateSummaryResponse(
+                1, "가나다", "Content1", "버튼1", 0, 0, LocalDateTime.now());
+        PublicTemplateSummaryResponse e2 = new PublicTemplateSummaryResponse(
+                2, "나다라", "Content2", "버튼2", 0, 0, LocalDateTime.now());
 
-        Page<PublicTemplate> page = new PageImpl<>(List.of(e1, e2), PageRequest.of(0, 10, Sort.by("createdAt").descending()), 2);
-        when(publicTemplateRepository.findAll(org.mockito.ArgumentMatchers.<Specification<PublicTemplate>>any(), any(Pageable.class))).thenReturn(page);
+        Page<PublicTemplateSummaryResponse> page = new PageImpl<>(List.of(e1, e2), PageRequest.of(0, 10, Sort.by("createdAt").descending()), 2);
+        passThroughPageCache();
+        when(publicTemplateRepository.findSummaries(org.mockito.ArgumentMatchers.<Specification<PublicTemplate>>any(), any(Pageable.class))).thenReturn(page);
 
         // when
         PublicTemplatePageableRequest request = new PublicTemplatePageableRequest();
-        Page<PublicTemplateResponse> result = publicTemplateService.getTemplates(request);
+        Page<PublicTemplateSummaryResponse> result = publicTemplateService.getTemplates(request);
 
         // then
         assertThat(result.getTotalElements()).isEqualTo(2);
-        assertThat(result.getContent()).extracting(PublicTemplateResponse::publicTemplateTitle)
+        assertThat(result.getContent()).extracting(PublicTemplateSummaryResponse::publicTemplateTitle)
                 .containsExactly("가나다", "나다라");
-        verify(publicTemplateRepository).findAll(org.mockito.ArgumentMatchers.<Specification<PublicTemplate>>any(), any(Pageable.class));
+        verify(publicTemplateRepository).findSummaries(org.mockito.ArgumentMatchers.<Specification<PublicTemplate>>any(), any(Pageable.class));
+        verify(publicTemplateRepository, never()).findAll(org.mockito.ArgumentMatchers.<Specification<PublicTemplate>>any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("getTemplates는 검색어 없이 조회수 정렬이면 인기 순위에서 조회하고 DB 정렬을 사용하지 않는다")
+    void getTemplates_UsesPopularityRanking() {
+        // given
+        PublicTemplatePageableRequest request = new PublicTemplatePageableRequest();
+        request.setSort("viewCount");
+
+        Page<PublicTemplateSummaryResponse> ranked = new PageImpl<>(List.of(
+                new PublicTemplateSummaryResponse(3, "인기", "Content", null, 30, 0, LocalDateTime.now())));
+        passThroughPageCache();
+        when(publicTemplatePopularityRanking.findPage(org.mockito.ArgumentMatchers.eq(request.toPageable()), any()))
+                .thenReturn(Optional.of(ranked));
+
+        // when
+        Page<PublicTemplateSummaryResponse> result = publicTemplateService.getTemplates(request);
+
+        // then
+        assertThat(result.getContent()).isEqualTo(ranked.getContent());
+        verify(publicTemplateCatalogueCache).getPage(org.mockito.ArgumentMatchers.eq(request), any());
+        verify(publicTemplateRepository, never()).findSummaries(org.mockito.ArgumentMatchers.<Specification<PublicTemplate>>any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("getTemplates는 검색어가 있으면 카탈로그 캐시를 사용하지 않는다")
+    void getTemplates_KeywordBypassesCache() {
+        // given
+        PublicTemplatePageableRequest request = new PublicTemplatePageableRequest();
+        request.getSearch().setKeyword("회의");
+        when(publicTemplateRepository.findSummaries(org.mockito.ArgumentMatchers.<Specification<PublicTemplate>>any(), any(Pageable.class)))
+                .thenReturn(Page.empty());
+
+        // when
+        publicTemplateService.getTemplates(request);
+
+        // then
+        verify(publicTemplateCatalogueCache, never()).getPage(any(), any());
+    }
+
+    @Test
+    @DisplayName("getTemplates는 FULLTEXT 검색식이 있으면 인덱스 검색을 관련도 정렬 그대로 사용한다")
+    void getTemplates_UsesFullTextSearch() {
+        // given
+        PublicTemplatePageableRequest request = new PublicTemplatePageableRequest();
+        request.setSort(PublicTemplatePageableRequest.RELEVANCE_SORT);
+        request.getSearch().setKeyword("회의 안내");
+        request.getSearch().setSearchTarget(PublicTemplateSearchRequest.SearchTarget.TITLE);
+
+        Page<PublicTemplateSummaryResponse> page = new PageImpl<>(List.of(
+                new PublicTemplateSummaryResponse(1, "회의 안내", "Content", null, 0, 0, LocalDateTime.now())));
+        when(publicTemplateFullTextIndex.toBooleanQuery(request.getSearch()))
+                .thenReturn(Optional.of("+\"회의\" +\"안내\""));
+        when(publicTemplateRepository.searchSummariesByFullText(
+                "+\"회의\" +\"안내\"", PublicTemplateSearchRequest.SearchTarget.TITLE,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, PublicTemplatePageableRequest.RELEVANCE_SORT))))
+                .thenReturn(page);
+
+        // when
+        Page<PublicTemplateSummaryResponse> result = publicTemplateService.getTemplates(request);
+
+        // then
+        assertThat(result.getContent()).extracting(PublicTemplateSummaryResponse::publicTemplateTitle)
+                .containsExactly("회의 안내");
+        verify(publicTemplateRepository, never()).findSummaries(org.mockito.ArgumentMatchers.<Specification<PublicTemplate>>any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("getTemplates는 FULLTEXT를 사용할 수 없으면 LIKE 검색으로 조회하고 관련도 정렬은 최신순으로 대체한다")
+    void getTemplates_FallsBackToLikeSearch() {
+        // given
+        PublicTemplatePageableRequest request = new PublicTemplatePageableRequest();
+        request.setSort(PublicTemplatePageableRequest.RELEVANCE_SORT);
+        request.getSearch().setKeyword("회");
+
+        when(publicTemplateFullTextIndex.toBooleanQuery(request.getSearch())).thenReturn(Optional.empty());
+        when(publicTemplateRepository.findSummaries(org.mockito.ArgumentMatchers.<Specification<PublicTemplate>>any(), any(Pageable.class)))
+                .thenReturn(Page.empty());
+
+        // when
+        publicTemplateService.getTemplates(request);
+
+        // then
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(publicTemplateRepository).findSummaries(org.mockito.ArgumentMatchers.<Specification<PublicTemplate>>any(), captor.capture());
+        assertThat(captor.getValue().getSort()).isEqualTo(Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+
+    @Test
+    @DisplayName("getTemplate은 공용 템플릿을 반환하고 조회수를 카운터에 기록한다")
+    void getTemplate_RecordsView() {
+        // given
+        PublicTemplate template = PublicTemplate.builder()
+                .publicTemplateId(7)
+                .publicTemplateTitle("제목")
+                .publicTemplateContent("내용")
+                .buttonTitle("버튼")
+                .build();
+        passThroughDetailCache();
+        when(publicTemplateRepository.findByIdOrThrow(7)).thenReturn(template);
+
+        // when
+        PublicTemplateResponse response = publicTemplateService.getTemplate(7);
+
+        // then
+        assertThat(response.publicTemplateTitle()).isEqualTo("제목");
+        verify(publicTemplateCounter).recordView(7);
+    }
+
+    @Test
+    @DisplayName("getTemplate은 템플릿이 없으면 조회수를 기록하지 않는다")
+    void getTemplate_NotFound() {
+        // given
+        passThroughDetailCache();
+        when(publicTemplateRepository.findByIdOrThrow(999))
+                .thenThrow(new IllegalArgumentException("해당 공용 템플릿을 찾을 수 없습니다."));
+
+        // when & then
+        assertThatThrownBy(() -> publicTemplateService.getTemplate(999))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(publicTemplateCounter, never()).recordView(any());
     }
 
     @Test
@@ -125,11 +278,17 @@ class PublicTemplateServiceTest {
         ArgumentCaptor<PublicTemplate> captor = ArgumentCaptor.forClass(PublicTemplate.class);
         verify(individualTemplateRepository).findByIdOrThrow(individualTemplateId);
         verify(workspaceValidator).validateAndGetWorkspace(mockWorkspace.getWorkspaceId(), userId);
+        verify(templateEditCoalescer).flush(individualTemplateId);
         verify(publicTemplateRepository).save(captor.capture());
         PublicTemplate savedEntity = captor.getValue();
         assertThat(savedEntity.getPublicTemplateTitle()).isEqualTo("원본 제목");
         assertThat(savedEntity.getPublicTemplateContent()).isEqualTo("원본 내용");
         assertThat(savedEntity.getButtonTitle()).isEqualTo("원본 버튼");
+
+        // then: 카탈로그 캐시 무효화를 위한 생성 이벤트 발행
+        ArgumentCaptor<PublicTemplateChangedEvent> eventCaptor = ArgumentCaptor.forClass(PublicTemplateChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().type()).isEqualTo(PublicTemplateChangedEvent.Type.CREATED);
     }
 
     @Test
@@ -188,4 +347,36 @@ class PublicTemplateServiceTest {
 
         verify(publicTemplateRepository, never()).save(any(PublicTemplate.class));
     }
+
+    @Test
+    @DisplayName("공용 템플릿 삭제 시 소프트 삭제 후 즐겨찾기를 일괄 삭제하고 삭제 이벤트를 발행한다")
+    void deletePublicTemplate_softDeletesAndCascadesFavorites() {
+        // given
+        PublicTemplate publicTemplate = PublicTemplate.builder()
+                .publicTemplateId(3)
+                .publicTemplateTitle("제목")
+                .publicTemplateContent("내용")
+                .build();
+        when(publicTemplateRepository.findByIdOrThrow(3)).thenReturn(publicTemplate);
+
+        // when
+        publicTemplateService.deletePublicTemplate(3);
+
+        // then
+        assertThat(publicTemplate.getIsDeleted()).isTrue();
+        verify(favoriteCascadeDeleter).deleteFavoritesOf(Favorite.TemplateType.PUBLIC, 3);
+        verify(eventPublisher).publishEvent(PublicTemplateChangedEvent.deleted(3));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void passThroughPageCache() {
+        when(publicTemplateCatalogueCache.getPage(any(PublicTemplatePageableRequest.class), any()))
+                .thenAnswer(invocation -> ((Supplier<PublicTemplateCataloguePage>) invocation.getArgument(1)).get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void passThroughDetailCache() {
+        when(publicTemplateCatalogueCache.getDetail(any(Integer.class), any()))
+                .thenAnswer(invocation -> ((Supplier<PublicTemplateResponse>) invocation.getArgument(1)).get());
+    }
 }
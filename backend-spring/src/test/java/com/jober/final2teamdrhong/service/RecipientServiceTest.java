@@ -1,10 +1,15 @@
 package com.jober.final2teamdrhong.service;
 
+import com.jober.final2teamdrhong.dto.recipient.RecipientContact;
 import com.jober.final2teamdrhong.dto.recipient.RecipientRequest;
 import com.jober.final2teamdrhong.dto.recipient.RecipientResponse;
+import com.jober.final2teamdrhong.dto.recipient.RecipientSearchRequest;
+import com.jober.final2teamdrhong.entity.GroupMappingCascadeTask;
 import com.jober.final2teamdrhong.entity.Recipient;
 import com.jober.final2teamdrhong.entity.Workspace;
 import com.jober.final2teamdrhong.repository.RecipientRepository;
+import com.jober.final2teamdrhong.service.cascade.GroupMappingCascadeDeleter;
+import com.jober.final2teamdrhong.service.search.RecipientMemoFullTextIndex;
 import com.jober.final2teamdrhong.service.validator.RecipientValidator;
 import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
 import jakarta.persistence.EntityManager;
@@ -14,12 +19,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,6 +46,12 @@ class RecipientServiceTest {
     @Mock
     private RecipientValidator recipientValidator;
 
+    @Mock
+    private GroupMappingCascadeDeleter groupMappingCascadeDeleter;
+
+    @Mock
+    private RecipientMemoFullTextIndex recipientMemoFullTextIndex;
+
     @Mock
     private EntityManager entityManager;
 
@@ -70,8 +84,8 @@ class RecipientServiceTest {
         // 3. Mockito 행동 정의
         //    - workspaceValidator.validateAndGetWorkspace 호출 시, mockWorkspace를 반환하여 권한 검증을 통과시킵니다.
         when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId)).thenReturn(mockWorkspace);
-        //    - recipientRepository.save 호출 시, 저장된 것처럼 savedRecipient 객체를 반환합니다.
-        when(recipientRepository.save(any(Recipient.class))).thenReturn(savedRecipient);
+        //    - recipientRepository.saveAndFlush 호출 시, 저장된 것처럼 savedRecipient 객체를 반환합니다.
+        when(recipientRepository.saveAndFlush(any(Recipient.class))).thenReturn(savedRecipient);
 
         // when
         RecipientResponse.SimpleDTO result = recipientService.createRecipient(createDTO, workspaceId, userId);
@@ -86,7 +100,31 @@ class RecipientServiceTest {
 
         // 2. 의존성 객체의 메서드들이 정확히 1번씩 호출되었는지 검증합니다.
         verify(workspaceValidator, times(1)).validateAndGetWorkspace(workspaceId, userId);
-        verify(recipientRepository, times(1)).save(any(Recipient.class));
+        verify(recipientRepository, times(1)).saveAndFlush(any(Recipient.class));
+    }
+
+    @Test
+    @DisplayName("수신자 생성 실패 테스트 - 중복 확인 이후 동시에 생성된 수신자와 유니크 키가 겹친 경우")
+    void createRecipient_Fail_UniqueKeyRace_Test() {
+        // given
+        // 1. 중복 확인은 통과했지만 저장 시 유니크 제약을 위반하는 상황을 준비합니다.
+        Integer workspaceId = 1;
+        Integer userId = 1;
+        RecipientRequest.CreateDTO createDTO = new RecipientRequest.CreateDTO("홍길동", "010-1234-5678", "테스트 메모");
+        Workspace mockWorkspace = mock(Workspace.class);
+        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId)).thenReturn(mockWorkspace);
+        when(recipientRepository.saveAndFlush(any(Recipient.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_recipient_ws_phone_e164_live"));
+
+        // when
+        Throwable thrown = assertThrows(IllegalArgumentException.class, () ->
+                recipientService.createRecipient(createDTO, workspaceId, userId));
+
+        // then
+        // 1. 유니크 키 위반은 서버 오류가 아닌 요청 충돌 메시지로 바뀝니다.
+        assertEquals("같은 이름과 번호의 수신자를 저장하는 다른 요청과 겹쳤습니다. 중복된 수신자가 없는지 확인 후 다시 시도해주세요.",
+                thrown.getMessage());
+        assertInstanceOf(DataIntegrityViolationException.class, thrown.getCause());
     }
 
     @Test
@@ -174,22 +212,18 @@ class RecipientServiceTest {
         );
 
         // 2. Mock 객체를 준비합니다.
-        Workspace mockWorkspace = mock(Workspace.class);
         Recipient mockRecipient = mock(Recipient.class);
 
         // 3. Mockito 행동 정의
         //    - 수신자 검증은 통과시킵니다.
-        when(recipientValidator.validateAndGetRecipient(workspaceId, recipientId)).thenReturn(mockRecipient);
+        when(recipientValidator.validateAndGetRecipient(workspaceId, recipientId, userId)).thenReturn(mockRecipient);
         //    - 수정 시 중복 검증에서 예외를 발생시킵니다.
         doThrow(new IllegalArgumentException("해당 정보와 동일한 다른 수신자가 이미 존재합니다."))
                 .when(recipientValidator).validateNoDuplicateRecipientExistsOnUpdate(
-                        any(Workspace.class),
-                        eq(updateDTO.newRecipientName()),
-                        eq(updateDTO.newRecipientPhoneNumber()),
-                        eq(recipientId)
+                        mockRecipient,
+                        updateDTO.newRecipientName(),
+                        updateDTO.newRecipientPhoneNumber()
                 );
-        //    - mockRecipient의 getWorkspace 메소드 행동 정의
-        when(mockRecipient.getWorkspace()).thenReturn(mockWorkspace);
 
         // when
         // 서비스 메소드를 호출했을 때 예외가 발생하는지 검증합니다.
@@ -294,10 +328,8 @@ class RecipientServiceTest {
                 .build());
 
         // 3. Mockito 행동 정의
-        //    - 워크스페이스 권한 검증을 통과시킵니다.
-        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId)).thenReturn(mockWorkspace);
         //    - 수신자 조회 및 소유권 검증을 통과시키고, 위에서 만든 existingRecipient 객체를 반환합니다.
-        when(recipientValidator.validateAndGetRecipient(recipientId, workspaceId)).thenReturn(existingRecipient);
+        when(recipientValidator.validateAndGetRecipient(recipientId, workspaceId, userId)).thenReturn(existingRecipient);
 
         // when
         // 실제 테스트 대상인 서비스 메소드를 호출합니다.
@@ -305,8 +337,7 @@ class RecipientServiceTest {
 
         // then
         // 1. 각 Validator의 메소드가 정확히 1번씩 호출되었는지 검증합니다.
-        verify(workspaceValidator, times(1)).validateAndGetWorkspace(workspaceId, userId);
-        verify(recipientValidator, times(1)).validateAndGetRecipient(recipientId, workspaceId);
+        verify(recipientValidator, times(1)).validateAndGetRecipient(recipientId, workspaceId, userId);
 
         // 2. (중요) 서비스 계층의 핵심 로직 검증:
         //    Spy 객체의 상태 변경 메서드들이 DTO의 내용대로 실제로 호출되었는지 확인합니다.
@@ -314,6 +345,67 @@ class RecipientServiceTest {
         verify(existingRecipient, times(1)).setRecipientPhoneNumber("010-9999-8888");
         verify(existingRecipient, times(1)).setRecipientMemo("수정된 메모");
         verify(existingRecipient, times(1)).update();
+
+        // 3. 유니크 키 위반을 서비스 안에서 확인하도록 즉시 flush합니다.
+        verify(recipientRepository, times(1)).flush();
+    }
+
+    @Test
+    @DisplayName("수신자 정보 수정 실패 테스트 - 중복 확인 이후 동시에 저장된 수신자와 유니크 키가 겹친 경우")
+    void updateRecipient_Fail_UniqueKeyRace_Test() {
+        // given
+        // 1. 중복 확인은 통과했지만 flush 시 유니크 제약을 위반하는 상황을 준비합니다.
+        Integer userId = 1;
+        Integer workspaceId = 1;
+        Integer recipientId = 1;
+        RecipientRequest.UpdateDTO updateDTO = new RecipientRequest.UpdateDTO("김길동", "010-9999-8888", "수정된 메모");
+        Recipient existingRecipient = Recipient.builder()
+                .recipientName("홍길동")
+                .recipientPhoneNumber("010-1111-1111")
+                .workspace(mock(Workspace.class))
+                .build();
+        when(recipientValidator.validateAndGetRecipient(workspaceId, recipientId, userId)).thenReturn(existingRecipient);
+        doThrow(new DataIntegrityViolationException("uk_recipient_ws_phone_e164_live")).when(recipientRepository).flush();
+
+        // when
+        Throwable thrown = assertThrows(IllegalArgumentException.class, () ->
+                recipientService.updateRecipient(updateDTO, workspaceId, recipientId, userId));
+
+        // then
+        // 1. 유니크 키 위반은 서버 오류가 아닌 요청 충돌 메시지로 바뀝니다.
+        assertEquals("같은 이름과 번호의 수신자를 저장하는 다른 요청과 겹쳤습니다. 중복된 수신자가 없는지 확인 후 다시 시도해주세요.",
+                thrown.getMessage());
+        assertInstanceOf(DataIntegrityViolationException.class, thrown.getCause());
+    }
+
+    @Test
+    @DisplayName("수신자 정보 수정 성공 테스트 - 정규화할 수 없는 기존 번호는 바꾸지 않으면 그대로 유지")
+    void updateRecipient_Success_KeepsUnnormalizablePhoneNumber_Test() {
+        // given
+        // 1. 대표번호(1588-xxxx)를 가진 수신자의 메모만 수정하는 요청을 준비합니다.
+        Integer userId = 1;
+        Integer workspaceId = 1;
+        Integer recipientId = 1;
+        RecipientRequest.UpdateDTO updateDTO = new RecipientRequest.UpdateDTO(
+                "홍길동",
+                "1588-1234",
+                "수정된 메모"
+        );
+        Recipient existingRecipient = spy(Recipient.builder()
+                .recipientName("홍길동")
+                .recipientPhoneNumber("1588-1234")
+                .workspace(mock(Workspace.class))
+                .build());
+        when(recipientValidator.validateAndGetRecipient(workspaceId, recipientId, userId)).thenReturn(existingRecipient);
+
+        // when
+        recipientService.updateRecipient(updateDTO, workspaceId, recipientId, userId);
+
+        // then
+        // 1. 전화번호는 정규화(null)하여 덮어쓰지 않고, 메모만 수정되어야 합니다.
+        verify(existingRecipient, never()).setRecipientPhoneNumber(any());
+        assertThat(existingRecipient.getRecipientPhoneNumber()).isEqualTo("1588-1234");
+        assertThat(existingRecipient.getRecipientMemo()).isEqualTo("수정된 메모");
     }
 
     @Test
@@ -331,11 +423,8 @@ class RecipientServiceTest {
         );
 
         // 2. Mockito 행동 정의
-        //    - 워크스페이스 권한 검증은 통과시킵니다.
-        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                .thenReturn(mock(Workspace.class));
         //    - 수신자 조회 단계에서 예외를 발생시켜 "결과 없음"을 시뮬레이션합니다.
-        when(recipientValidator.validateAndGetRecipient(workspaceId, nonExistingRecipientId))
+        when(recipientValidator.validateAndGetRecipient(workspaceId, nonExistingRecipientId, userId))
                 .thenThrow(new IllegalArgumentException("해당 워크스페이스에 존재하지 않는 수신자입니다. ID: " + nonExistingRecipientId));
 
         // when
@@ -364,7 +453,7 @@ class RecipientServiceTest {
         );
 
         // 2. Mockito 행동 정의: 워크스페이스 권한 검증 단계에서 실패하도록 설정합니다.
-        when(workspaceValidator.validateAndGetWorkspace(unauthorizedWorkspaceId, userId))
+        when(recipientValidator.validateAndGetRecipient(unauthorizedWorkspaceId, recipientId, userId))
                 .thenThrow(new IllegalArgumentException("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: " + unauthorizedWorkspaceId));
 
         // when
@@ -377,8 +466,8 @@ class RecipientServiceTest {
         assertEquals("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: " + unauthorizedWorkspaceId,
                 thrown.getMessage());
 
-        // 2. (중요) 권한 검증에서 실패했으므로, 수신자를 조회하는 로직은 절대 호출되면 안됩니다.
-        verify(recipientValidator, never()).validateAndGetRecipient(anyInt(), anyInt());
+        // 2. (중요) 워크스페이스 권한은 수신자 조회 쿼리에서 함께 검증되므로, 별도의 워크스페이스 검증은 호출되지 않습니다.
+        verify(workspaceValidator, never()).validateAndGetWorkspace(anyInt(), anyInt());
     }
 
     @Test
@@ -408,11 +497,8 @@ class RecipientServiceTest {
         deletedRecipient.softDelete(); // 삭제된 상태로 설정
 
         // 3. Mockito 행동 정의
-        //    - 워크스페이스 권한 검증을 통과시킵니다.
-        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                .thenReturn(mock(Workspace.class));
         //    - 수신자 조회를 통과시키고, 위에서 만든 Spy 객체를 반환합니다.
-        when(recipientValidator.validateAndGetRecipient(workspaceId, recipientId))
+        when(recipientValidator.validateAndGetRecipient(workspaceId, recipientId, userId))
                 .thenReturn(existingRecipient);
         //    - findByIdIncludingDeleted 호출 시 삭제된 상태의 수신자를 반환합니다.
         when(recipientRepository.findByIdIncludingDeleted(recipientId))
@@ -425,6 +511,8 @@ class RecipientServiceTest {
         // then
         // 1. (중요) 서비스 로직에 의해 existingRecipient 객체의 상태 변경 메서드가 호출되었는지 검증합니다.
         verify(existingRecipient, times(1)).softDelete();
+        //    - 주소록 매핑은 연쇄 삭제 작업으로 등록됩니다.
+        verify(groupMappingCascadeDeleter, times(1)).deleteMappingsOf(GroupMappingCascadeTask.TargetType.RECIPIENT, recipientId);
 
         // 2. EntityManager의 flush()와 clear() 메서드가 호출되었는지 검증합니다.
         verify(entityManager, times(1)).flush();
@@ -434,8 +522,7 @@ class RecipientServiceTest {
         verify(recipientRepository, times(1)).findByIdIncludingDeleted(recipientId);
 
         // 4. 각 Validator의 메소드가 정확히 1번씩 호출되었는지 검증합니다.
-        verify(workspaceValidator, times(1)).validateAndGetWorkspace(workspaceId, userId);
-        verify(recipientValidator, times(1)).validateAndGetRecipient(workspaceId, recipientId);
+        verify(recipientValidator, times(1)).validateAndGetRecipient(workspaceId, recipientId, userId);
 
         // 5. 반환된 결과가 null이 아닌지 확인합니다.
         assertThat(result).isNotNull();
@@ -457,9 +544,7 @@ class RecipientServiceTest {
                 .build());
 
         // Mockito 행동 정의
-        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                .thenReturn(mock(Workspace.class));
-        when(recipientValidator.validateAndGetRecipient(workspaceId, recipientId))
+        when(recipientValidator.validateAndGetRecipient(workspaceId, recipientId, userId))
                 .thenReturn(existingRecipient);
         // findByIdIncludingDeleted에서 빈 Optional 반환 (재조회 실패)
         when(recipientRepository.findByIdIncludingDeleted(recipientId))
@@ -488,7 +573,7 @@ class RecipientServiceTest {
         Integer recipientId = 1;
 
         // 2. Mockito 행동 정의: 워크스페이스 권한 검증에서 실패하도록 설정합니다.
-        when(workspaceValidator.validateAndGetWorkspace(unauthorizedWorkspaceId, userId))
+        when(recipientValidator.validateAndGetRecipient(unauthorizedWorkspaceId, recipientId, userId))
                 .thenThrow(new IllegalArgumentException("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: " + unauthorizedWorkspaceId));
 
         // when
@@ -501,8 +586,8 @@ class RecipientServiceTest {
         assertEquals("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: " + unauthorizedWorkspaceId,
                 thrown.getMessage());
 
-        // 2. (중요) 권한 검증에서 실패했으므로, 수신자를 조회하는 로직은 절대 호출되면 안됩니다.
-        verify(recipientValidator, never()).validateAndGetRecipient(anyInt(), anyInt());
+        // 2. (중요) 워크스페이스 권한은 수신자 조회 쿼리에서 함께 검증되므로, 별도의 워크스페이스 검증은 호출되지 않습니다.
+        verify(workspaceValidator, never()).validateAndGetWorkspace(anyInt(), anyInt());
     }
 
     @Test
@@ -515,11 +600,8 @@ class RecipientServiceTest {
         Integer nonExistingRecipientId = 999;
 
         // 2. Mockito 행동 정의
-        //    - 워크스페이스 권한 검증은 통과시킵니다.
-        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId))
-                .thenReturn(mock(Workspace.class));
         //    - 수신자 조회 단계에서 예외를 발생시켜 "결과 없음"을 시뮬레이션합니다.
-        when(recipientValidator.validateAndGetRecipient(workspaceId, nonExistingRecipientId))
+        when(recipientValidator.validateAndGetRecipient(workspaceId, nonExistingRecipientId, userId))
                 .thenThrow(new IllegalArgumentException("해당 워크스페이스에 존재하지 않는 수신자입니다. ID: " + nonExistingRecipientId));
 
         // when
@@ -532,4 +614,90 @@ class RecipientServiceTest {
         assertEquals("해당 워크스페이스에 존재하지 않는 수신자입니다. ID: " + nonExistingRecipientId,
                 thrown.getMessage());
     }
+
+    @Test
+    @DisplayName("전화번호 일괄 중복 확인 성공 테스트 - 정규화한 번호로 한 번에 조회하고 요청 순서대로 응답")
+    void checkDuplicatePhoneNumbers_Success_Test() {
+        // given
+        // 1. 같은 번호의 두 표기, 등록되지 않은 번호, 잘못된 값으로 요청을 준비합니다.
+        Integer userId = 1;
+        Integer workspaceId = 1;
+        RecipientRequest.DuplicateCheckDTO checkDTO = new RecipientRequest.DuplicateCheckDTO(
+                List.of("010-9999-0000", "01012345678", "abc", "+82 10-1234-5678"));
+        RecipientContact contact = new RecipientContact(7, "홍길동", "010-1234-5678", "+821012345678");
+
+        // 2. 중복을 제거한 E.164 번호로 한 번만 조회하도록 설정합니다.
+        when(workspaceValidator.validateAndGetWorkspace(workspaceId, userId)).thenReturn(mock(Workspace.class));
+        when(recipientRepository.findContactsByPhoneE164s(workspaceId, Set.of("+821099990000", "+821012345678")))
+                .thenReturn(List.of(contact));
+
+        // when
+        RecipientResponse.DuplicateCheckResultDTO result =
+                recipientService.checkDuplicatePhoneNumbers(checkDTO, workspaceId, userId);
+
+        // then
+        // 1. 요청 수와 잘못된 값, 처음 입력한 표기 기준의 중복 결과를 검증합니다.
+        assertThat(result.requestedCount()).isEqualTo(4);
+        assertThat(result.invalidPhoneNumbers()).containsExactly("abc");
+        assertThat(result.duplicates()).containsExactly(
+                new RecipientResponse.DuplicateDTO("01012345678", "+821012345678", List.of(contact)));
+    }
+
+    @Test
+    @DisplayName("전화번호 일괄 중복 확인 테스트 - 유효한 번호가 없으면 조회하지 않음")
+    void checkDuplicatePhoneNumbers_NoValidPhoneNumber_Test() {
+        // given
+        RecipientRequest.DuplicateCheckDTO checkDTO = new RecipientRequest.DuplicateCheckDTO(List.of("12345"));
+        when(workspaceValidator.validateAndGetWorkspace(1, 1)).thenReturn(mock(Workspace.class));
+
+        // when
+        RecipientResponse.DuplicateCheckResultDTO result = recipientService.checkDuplicatePhoneNumbers(checkDTO, 1, 1);
+
+        // then
+        assertThat(result.duplicates()).isEmpty();
+        assertThat(result.invalidPhoneNumbers()).containsExactly("12345");
+        verify(recipientRepository, never()).findContactsByPhoneE164s(any(), any());
+    }
+
+    @Test
+    @DisplayName("수신자 검색 성공 테스트 - 메모 FULLTEXT 검색식을 함께 전달")
+    void searchRecipients_Success_Test() {
+        // given
+        RecipientSearchRequest search = new RecipientSearchRequest();
+        search.setMemo("단골 고객");
+        Workspace workspace = mock(Workspace.class);
+        Recipient recipient = Recipient.builder()
+                .recipientId(3)
+                .recipientName("홍길동")
+                .recipientPhoneNumber("010-1234-5678")
+                .recipientMemo("단골 고객")
+                .workspace(workspace)
+                .build();
+
+        when(workspaceValidator.validateAndGetWorkspace(1, 1)).thenReturn(workspace);
+        when(recipientMemoFullTextIndex.toBooleanQuery("단골 고객")).thenReturn(Optional.of("+\"단골\" +\"고객\""));
+        when(recipientRepository.searchRecipients(1, search, "+\"단골\" +\"고객\"")).thenReturn(List.of(recipient));
+
+        // when
+        List<RecipientResponse.SimpleDTO> result = recipientService.searchRecipients(1, 1, search);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).recipientId()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("수신자 검색 실패 테스트 - 검색 조건이 없음")
+    void searchRecipients_NoCondition_Test() {
+        // given
+        RecipientSearchRequest search = new RecipientSearchRequest();
+        search.setName(" ");
+        when(workspaceValidator.validateAndGetWorkspace(1, 1)).thenReturn(mock(Workspace.class));
+
+        // when & then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> recipientService.searchRecipients(1, 1, search));
+        assertThat(exception.getMessage()).isEqualTo("검색 조건을 하나 이상 입력해주세요.");
+        verify(recipientRepository, never()).searchRecipients(any(), any(), any());
+    }
 }
@@ -6,6 +6,7 @@ import com.jober.final2teamdrhong.entity.User;
 import com.jober.final2teamdrhong.entity.Workspace;
 import com.jober.final2teamdrhong.repository.WorkspaceRepository;
 import com.jober.final2teamdrhong.service.validator.UserValidator;
+import com.jober.final2teamdrhong.service.validator.WorkspaceChangedEvent;
 import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -40,6 +42,9 @@ class WorkspaceServiceTest {
     @Mock
     private EntityManager entityManager;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     // @InjectMocks: @Mock으로 생성된 가짜 객체들을 실제 테스트 대상인 클래스에 주입합니다.
     @InjectMocks
     private WorkspaceService workspaceService;
@@ -78,6 +83,7 @@ class WorkspaceServiceTest {
         verify(userValidator, times(1)).validateAndGetUser(userId);
         verify(workspaceValidator, times(1)).validateUrlOnCreate(createDTO.workspaceUrl());
         verify(workspaceRepository, times(1)).save(any(Workspace.class));
+        verify(eventPublisher, times(1)).publishEvent(any(WorkspaceChangedEvent.class));
     }
 
     @Test
@@ -239,6 +245,7 @@ class WorkspaceServiceTest {
         verify(workspaceValidator, times(1)).validateAndGetWorkspace(workspaceId, userId);
         verify(workspaceValidator, times(1)).validateUrlOnUpdate(existingWorkspace, updateDTO.newWorkspaceUrl());
         verify(existingWorkspace, times(1)).update();
+        verify(eventPublisher, times(1)).publishEvent(WorkspaceChangedEvent.updated(workspaceId, userId));
     }
 
     @Test
@@ -331,6 +338,7 @@ class WorkspaceServiceTest {
         verify(entityManager, times(1)).flush();
         verify(entityManager, times(1)).clear();
         verify(workspaceRepository, times(1)).findByIdIncludingDeleted(workspaceId);
+        verify(eventPublisher, times(1)).publishEvent(WorkspaceChangedEvent.deleted(workspaceId, userId));
     }
 
     @Test
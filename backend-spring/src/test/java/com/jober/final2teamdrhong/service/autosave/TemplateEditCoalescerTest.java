@@ -0,0 +1,282 @@
+package com.jober.final2teamdrhong.service.autosave;
+
+import com.jober.final2teamdrhong.dto.individualtemplate.IndividualTemplateUpdateRequest;
+import com.jober.final2teamdrhong.entity.IndividualTemplate;
+import com.jober.final2teamdrhong.repository.IndividualTemplateRepository;
+import com.jober.final2teamdrhong.service.history.TemplateHistoryStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TemplateEditCoalescerTest {
+
+    private static final Integer TEMPLATE_ID = 7;
+
+    @Mock
+    private IndividualTemplateRepository individualTemplateRepository;
+
+    @Mock
+    private TemplateHistoryStore templateHistoryStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MutableClock clock;
+
+    private TemplateEditCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        coalescer = new TemplateEditCoalescer(individualTemplateRepository, templateHistoryStore, transactionManager,
+                true, 2000, 10000, clock);
+    }
+
+    @Test
+    @DisplayName("연속 수정은 마지막 제목/본문/버튼을 남기고 채팅 기록은 순서대로 이어 붙인다")
+    void buffer_mergesEdits() {
+        // when
+        coalescer.buffer(TEMPLATE_ID, new IndividualTemplateUpdateRequest("제목1", "본문1", "버튼1", "AI1", "사용자1"));
+        clock.advance(Duration.ofMillis(500));
+        PendingTemplateEdit merged = coalescer.buffer(TEMPLATE_ID,
+                new IndividualTemplateUpdateRequest("제목2", "본문2", "버튼2", "AI2", "사용자1"));
+
+        // then
+        assertThat(merged.title()).isEqualTo("제목2");
+        assertThat(merged.content()).isEqualTo("본문2");
+        assertThat(merged.buttonTitle()).isEqualTo("버튼2");
+        assertThat(merged.chatAi()).isEqualTo("AI1\nAI2");
+        assertThat(merged.chatUser()).isEqualTo("사용자1");
+        assertThat(merged.mergedCount()).isEqualTo(2);
+        assertThat(coalescer.pendingEdit(TEMPLATE_ID)).contains(merged);
+    }
+
+    @Test
+    @DisplayName("마지막 수정 후 대기 시간이 지나야 UPDATE 1회와 이력 1건으로 반영한다")
+    void flushDue_afterQuietPeriod() {
+        // given
+        IndividualTemplate template = givenTemplate();
+        coalescer.buffer(TEMPLATE_ID, new IndividualTemplateUpdateRequest("제목1", "본문1", "버튼1", "AI1", "사용자1"));
+        clock.advance(Duration.ofMillis(1500));
+        coalescer.buffer(TEMPLATE_ID, new IndividualTemplateUpdateRequest("제목2", "본문2", "버튼2", "AI2", "사용자2"));
+
+        // when: 마지막 수정 후 1.5초 - 아직 반영하지 않는다
+        clock.advance(Duration.ofMillis(1500));
+        coalescer.flushDue();
+
+        // then
+        verifyNoInteractions(individualTemplateRepository, templateHistoryStore);
+
+        // when: 마지막 수정 후 2초
+        clock.advance(Duration.ofMillis(500));
+        coalescer.flushDue();
+
+        // then
+        verify(template, times(1)).updateContent("제목2", "본문2", "버튼2");
+        verify(templateHistoryStore, times(1)).append(template, "제목2", "본문2", "버튼2",
+                "AI1\nAI2", "사용자1\n사용자2", IndividualTemplate.Status.DRAFT);
+        assertThat(coalescer.pendingEdit(TEMPLATE_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("계속 수정 중이어도 첫 수정 후 최대 지연 시간이 지나면 반영한다")
+    void flushDue_afterMaxDelay() {
+        // given
+        IndividualTemplate template = givenTemplate();
+        for (int i = 0; i < 10; i++) {
+            coalescer.buffer(TEMPLATE_ID, new IndividualTemplateUpdateRequest("제목" + i, "본문" + i, null, "AI", "사용자"));
+            clock.advance(Duration.ofMillis(1000));
+        }
+
+        // when
+        coalescer.flushDue();
+
+        // then
+        verify(template).updateContent("제목9", "본문9", null);
+        assertThat(coalescer.pendingEdit(TEMPLATE_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 버퍼로 되돌려 이후 수정과 합쳐 다시 반영한다")
+    void flushDue_failureRebuffers() {
+        // given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(individualTemplateRepository.findById(TEMPLATE_ID)).thenThrow(new QueryTimeoutException("timeout"));
+        coalescer.buffer(TEMPLATE_ID, new IndividualTemplateUpdateRequest("제목1", "본문1", "버튼1", "AI1", "사용자1"));
+        clock.advance(Duration.ofMillis(2000));
+
+        // when
+        coalescer.flushDue();
+        coalescer.buffer(TEMPLATE_ID, new IndividualTemplateUpdateRequest("제목2", "본문2", "버튼2", "AI2", "사용자2"));
+
+        // then
+        PendingTemplateEdit pending = coalescer.pendingEdit(TEMPLATE_ID).orElseThrow();
+        assertThat(pending.title()).isEqualTo("제목2");
+        assertThat(pending.chatAi()).isEqualTo("AI1\nAI2");
+        assertThat(pending.mergedCount()).isEqualTo(2);
+        verify(templateHistoryStore, never()).append(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("즉시 반영을 요청하면 대기 시간과 관계없이 반영하고, 삭제 시에는 버린다")
+    void flushAndDiscard() {
+        // given
+        IndividualTemplate template = givenTemplate();
+        coalescer.buffer(TEMPLATE_ID, new IndividualTemplateUpdateRequest("제목", "본문", "버튼", "AI", "사용자"));
+        coalescer.buffer(8, new IndividualTemplateUpdateRequest("다른 제목", "다른 본문", null, "AI", "사용자"));
+
+        // when
+        coalescer.flush(TEMPLATE_ID);
+        coalescer.discard(8);
+
+        // then
+        verify(template).updateContent("제목", "본문", "버튼");
+        assertThat(coalescer.pendingEdit(TEMPLATE_ID)).isEmpty();
+        assertThat(coalescer.pendingEdit(8)).isEmpty();
+        verify(individualTemplateRepository, never()).findById(8);
+    }
+
+    @Test
+    @DisplayName("반영할 때는 제목/본문/버튼만 바꾸고 상태는 쓰지 않아, 수정 후에 바뀐 상태를 덮어쓰지 않는다")
+    void flush_keepsCurrentStatus() {
+        // given: 수정 요청 후 다른 요청이 상태를 APPROVED로 바꿈
+        IndividualTemplate template = givenTemplate(IndividualTemplate.Status.APPROVED);
+        coalescer.buffer(TEMPLATE_ID, new IndividualTemplateUpdateRequest("제목", "본문", "버튼", "AI", "사용자"));
+
+        // when
+        coalescer.flush(TEMPLATE_ID);
+
+        // then
+        verify(template).updateContent("제목", "본문", "버튼");
+        verify(template, never()).update(any(), any(), any(), any());
+        verify(template, never()).updateStatus(any());
+        verify(templateHistoryStore).append(template, "제목", "본문", "버튼", "AI", "사용자", IndividualTemplate.Status.APPROVED);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 수정 요청은 커밋된 뒤에 버퍼에 합치고, 롤백되면 버린다")
+    void buffer_withinTransaction_afterCommit() {
+        // given
+        coalescer.buffer(TEMPLATE_ID, new IndividualTemplateUpdateRequest("제목1", "본문1", "버튼1", "AI1", "사용자1"));
+
+        // when: 커밋되는 요청
+        TransactionSynchronizationManager.initSynchronization();
+        PendingTemplateEdit preview;
+        try {
+            preview = coalescer.buffer(TEMPLATE_ID,
+                    new IndividualTemplateUpdateRequest("제목2", "본문2", "버튼2", "AI2", "사용자2"));
+            assertThat(coalescer.pendingEdit(TEMPLATE_ID)).map(PendingTemplateEdit::title).contains("제목1");
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(preview.title()).isEqualTo("제목2");
+        assertThat(preview.mergedCount()).isEqualTo(2);
+        assertThat(coalescer.pendingEdit(TEMPLATE_ID)).contains(preview);
+
+        // when: 롤백되는 요청
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            coalescer.buffer(TEMPLATE_ID, new IndividualTemplateUpdateRequest("제목3", "본문3", "버튼3", "AI3", "사용자3"));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(coalescer.pendingEdit(TEMPLATE_ID)).map(PendingTemplateEdit::title).contains("제목2");
+    }
+
+    @Test
+    @DisplayName("즉시 반영하거나 버린 뒤 호출한 쪽의 트랜잭션이 롤백되면 수정 내용을 버퍼로 되돌린다")
+    void flushAndDiscard_rollbackRebuffers() {
+        // given
+        givenTemplate();
+        coalescer.buffer(TEMPLATE_ID, new IndividualTemplateUpdateRequest("제목", "본문", "버튼", "AI", "사용자"));
+        coalescer.buffer(8, new IndividualTemplateUpdateRequest("다른 제목", "다른 본문", null, "AI", "사용자"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            coalescer.flush(TEMPLATE_ID);
+            coalescer.discard(8);
+            assertThat(coalescer.pendingEdit(TEMPLATE_ID)).isEmpty();
+            assertThat(coalescer.pendingEdit(8)).isEmpty();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(coalescer.pendingEdit(TEMPLATE_ID)).map(PendingTemplateEdit::title).contains("제목");
+        assertThat(coalescer.pendingEdit(8)).map(PendingTemplateEdit::title).contains("다른 제목");
+    }
+
+    private IndividualTemplate givenTemplate() {
+        return givenTemplate(IndividualTemplate.Status.DRAFT);
+    }
+
+    private IndividualTemplate givenTemplate(IndividualTemplate.Status status) {
+        IndividualTemplate template = mock(IndividualTemplate.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(individualTemplateRepository.findById(TEMPLATE_ID)).thenReturn(Optional.of(template));
+        when(template.getStatus()).thenReturn(status);
+        return template;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.jober.final2teamdrhong.service.cascade;
+
+import com.jober.final2teamdrhong.entity.Favorite.TemplateType;
+import com.jober.final2teamdrhong.entity.FavoriteCascadeTask;
+import com.jober.final2teamdrhong.repository.FavoriteCascadeTaskRepository;
+import com.jober.final2teamdrhong.repository.FavoriteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FavoriteCascadeDeleterTest {
+
+    // Asia/Seoul 기준 2025-01-01 12:00:00
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+
+    @Mock
+    private FavoriteCascadeTaskRepository taskRepository;
+
+    @Mock
+    private FavoriteRepository favoriteRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FavoriteCascadeDeleter deleter;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T03:00:00Z"), ZoneId.of("Asia/Seoul"));
+        deleter = new FavoriteCascadeDeleter(
+                taskRepository, favoriteRepository, eventPublisher, transactionManager, 100, 2, 60000, clock);
+    }
+
+    @Test
+    @DisplayName("즐겨찾기가 임계값 이하이면 트랜잭션 안에서 일괄 UPDATE로 삭제한다")
+    void deleteFavoritesOf_belowThreshold() {
+        // given
+        when(favoriteRepository.countByTemplate(TemplateType.PUBLIC, 3)).thenReturn(100L);
+
+        // when
+        deleter.deleteFavoritesOf(TemplateType.PUBLIC, 3);
+
+        // then
+        verify(favoriteRepository).softDeleteAllByTemplate(TemplateType.PUBLIC, 3);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("즐겨찾기가 없으면 UPDATE를 실행하지 않는다")
+    void deleteFavoritesOf_none() {
+        // given
+        when(favoriteRepository.countByTemplate(TemplateType.INDIVIDUAL, 3)).thenReturn(0L);
+
+        // when
+        deleter.deleteFavoritesOf(TemplateType.INDIVIDUAL, 3);
+
+        // then
+        verify(favoriteRepository, never()).softDeleteAllByTemplate(any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("즐겨찾기가 임계값을 넘으면 템플릿 삭제 트랜잭션에서는 작업 행만 저장하고 커밋 후 처리 이벤트를 발행한다")
+    void deleteFavoritesOf_aboveThreshold() {
+        // given
+        when(favoriteRepository.countByTemplate(TemplateType.PUBLIC, 3)).thenReturn(101L);
+        when(taskRepository.save(any(FavoriteCascadeTask.class))).thenReturn(task(5, TemplateType.PUBLIC, 3));
+
+        // when
+        deleter.deleteFavoritesOf(TemplateType.PUBLIC, 3);
+
+        // then
+        verify(eventPublisher).publishEvent(new FavoriteCascadeEvent(5));
+        verify(favoriteRepository, never()).softDeleteAllByTemplate(any(), any());
+    }
+
+    @Test
+    @DisplayName("비동기 삭제는 남은 즐겨찾기가 없을 때까지 청크 단위로 삭제하고 작업을 완료 처리한다")
+    void onFavoriteCascade_deletesInChunks() {
+        // given
+        when(taskRepository.findById(5)).thenReturn(Optional.of(task(5, TemplateType.PUBLIC, 3)));
+        when(favoriteRepository.findIdsByTemplate(TemplateType.PUBLIC, 3, 2))
+                .thenReturn(List.of(1, 2), List.of(3), List.of());
+        when(favoriteRepository.softDeleteAllByIdIn(any())).thenReturn(2, 1);
+
+        // when
+        deleter.onFavoriteCascade(new FavoriteCascadeEvent(5));
+
+        // then
+        verify(favoriteRepository).softDeleteAllByIdIn(List.of(1, 2));
+        verify(favoriteRepository).softDeleteAllByIdIn(List.of(3));
+        verify(favoriteRepository, times(3)).findIdsByTemplate(any(), any(), anyInt());
+        verify(taskRepository).markCompleted(5, NOW);
+    }
+
+    @Test
+    @DisplayName("청크 삭제 중 실패하면 작업을 완료 처리하지 않아 재개 대상으로 남긴다")
+    void onFavoriteCascade_failureKeepsTaskPending() {
+        // given
+        when(taskRepository.findById(5)).thenReturn(Optional.of(task(5, TemplateType.INDIVIDUAL, 3)));
+        when(favoriteRepository.findIdsByTemplate(TemplateType.INDIVIDUAL, 3, 2)).thenReturn(List.of(1, 2));
+        when(favoriteRepository.softDeleteAllByIdIn(List.of(1, 2)))
+                .thenThrow(new QueryTimeoutException("lock wait timeout"));
+
+        // when
+        deleter.onFavoriteCascade(new FavoriteCascadeEvent(5));
+
+        // then
+        verify(taskRepository, never()).markCompleted(any(), any());
+    }
+
+    @Test
+    @DisplayName("재개 작업은 재개 대기 시간이 지난 미완료 작업을 이어서 처리한다")
+    void resumePendingTasks_processesStaleTasks() {
+        // given
+        when(taskRepository.findPendingTaskIds(eq(NOW.minusMinutes(1)), any(Pageable.class))).thenReturn(List.of(5));
+        when(taskRepository.findById(5)).thenReturn(Optional.of(task(5, TemplateType.PUBLIC, 3)));
+        when(favoriteRepository.findIdsByTemplate(TemplateType.PUBLIC, 3, 2)).thenReturn(List.of());
+
+        // when
+        deleter.resumePendingTasks();
+
+        // then
+        verify(favoriteRepository, never()).softDeleteAllByIdIn(any());
+        verify(taskRepository).markCompleted(5, NOW);
+    }
+
+    private FavoriteCascadeTask task(Integer taskId, TemplateType templateType, Integer templateId) {
+        return FavoriteCascadeTask.builder()
+                .taskId(taskId)
+                .templateType(templateType)
+                .templateId(templateId)
+                .build();
+    }
+}
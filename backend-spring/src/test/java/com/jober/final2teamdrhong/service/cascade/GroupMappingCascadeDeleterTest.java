@@ -0,0 +1,144 @@
+package com.jober.final2teamdrhong.service.cascade;
+
+import com.jober.final2teamdrhong.entity.GroupMappingCascadeTask;
+import com.jober.final2teamdrhong.entity.GroupMappingCascadeTask.TargetType;
+import com.jober.final2teamdrhong.repository.GroupMappingCascadeTaskRepository;
+import com.jober.final2teamdrhong.repository.GroupMappingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GroupMappingCascadeDeleterTest {
+
+    // Asia/Seoul 기준 2025-01-01 12:00:00
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+
+    @Mock
+    private GroupMappingCascadeTaskRepository taskRepository;
+
+    @Mock
+    private GroupMappingRepository groupMappingRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private GroupMappingCascadeDeleter deleter;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T03:00:00Z"), ZoneId.of("Asia/Seoul"));
+        deleter = new GroupMappingCascadeDeleter(
+                taskRepository, groupMappingRepository, eventPublisher, transactionManager, 2, 60000, clock);
+    }
+
+    @Test
+    @DisplayName("부모 삭제 트랜잭션에서는 작업 행만 저장하고 커밋 후 처리 이벤트를 발행한다")
+    void deleteMappingsOf_savesTaskAndPublishesEvent() {
+        // given
+        when(taskRepository.save(any(GroupMappingCascadeTask.class))).thenReturn(task(5, TargetType.PHONE_BOOK, 7));
+
+        // when
+        deleter.deleteMappingsOf(TargetType.PHONE_BOOK, 7);
+
+        // then
+        verify(eventPublisher).publishEvent(new GroupMappingCascadeEvent(5));
+        verify(groupMappingRepository, never()).softDeleteAllByIdIn(any(), any());
+    }
+
+    @Test
+    @DisplayName("남은 매핑이 없을 때까지 청크마다 삭제하고 작업을 완료 처리한다")
+    void onGroupMappingCascade_deletesInChunksAndCompletes() {
+        // given
+        when(taskRepository.findById(5)).thenReturn(Optional.of(task(5, TargetType.PHONE_BOOK, 7)));
+        when(groupMappingRepository.findIdsByTarget(TargetType.PHONE_BOOK, 7, 2))
+                .thenReturn(List.of(1, 2), List.of(3), List.of());
+        when(groupMappingRepository.softDeleteAllByIdIn(List.of(1, 2), NOW)).thenReturn(2);
+        when(groupMappingRepository.softDeleteAllByIdIn(List.of(3), NOW)).thenReturn(1);
+
+        // when
+        deleter.onGroupMappingCascade(new GroupMappingCascadeEvent(5));
+
+        // then
+        verify(groupMappingRepository).softDeleteAllByIdIn(List.of(3), NOW);
+        verify(taskRepository).markCompleted(5, NOW);
+    }
+
+    @Test
+    @DisplayName("이미 완료된 작업은 다시 처리하지 않는다")
+    void onGroupMappingCascade_skipsCompletedTask() {
+        // given
+        when(taskRepository.findById(5)).thenReturn(Optional.empty());
+
+        // when
+        deleter.onGroupMappingCascade(new GroupMappingCascadeEvent(5));
+
+        // then
+        verify(groupMappingRepository, never()).findIdsByTarget(any(), any(), anyInt());
+        verify(taskRepository, never()).markCompleted(any(), any());
+    }
+
+    @Test
+    @DisplayName("청크 처리 중 실패하면 작업을 완료 처리하지 않아 재개 대상으로 남긴다")
+    void onGroupMappingCascade_failureKeepsTaskPending() {
+        // given
+        when(taskRepository.findById(5)).thenReturn(Optional.of(task(5, TargetType.RECIPIENT, 9)));
+        when(groupMappingRepository.findIdsByTarget(TargetType.RECIPIENT, 9, 2)).thenReturn(List.of(1, 2));
+        when(groupMappingRepository.softDeleteAllByIdIn(List.of(1, 2), NOW))
+                .thenThrow(new QueryTimeoutException("lock wait timeout"));
+
+        // when
+        deleter.onGroupMappingCascade(new GroupMappingCascadeEvent(5));
+
+        // then
+        verify(taskRepository, never()).markCompleted(any(), any());
+    }
+
+    @Test
+    @DisplayName("재개 작업은 재개 대기 시간이 지난 미완료 작업을 이어서 처리한다")
+    void resumePendingTasks_processesStaleTasks() {
+        // given
+        when(taskRepository.findPendingTaskIds(eq(NOW.minusMinutes(1)), any(Pageable.class))).thenReturn(List.of(5));
+        when(taskRepository.findById(5)).thenReturn(Optional.of(task(5, TargetType.RECIPIENT, 9)));
+        when(groupMappingRepository.findIdsByTarget(TargetType.RECIPIENT, 9, 2)).thenReturn(List.of());
+
+        // when
+        deleter.resumePendingTasks();
+
+        // then
+        verify(groupMappingRepository, never()).softDeleteAllByIdIn(any(), any());
+        verify(taskRepository).markCompleted(5, NOW);
+    }
+
+    private GroupMappingCascadeTask task(Integer taskId, TargetType targetType, Integer targetId) {
+        return GroupMappingCascadeTask.builder()
+                .taskId(taskId)
+                .targetType(targetType)
+                .targetId(targetId)
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.jober.final2teamdrhong.service.catalogue;
+
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplatePageableRequest;
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateResponse;
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateSummaryResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringJUnitConfig
+class PublicTemplateCatalogueCacheTest {
+
+    @Configuration
+    @EnableCaching
+    static class CacheTestConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(PublicTemplateCatalogueCache.PAGE_CACHE, PublicTemplateCatalogueCache.DETAIL_CACHE);
+        }
+
+        @Bean
+        PublicTemplateCatalogueCache publicTemplateCatalogueCache() {
+            return new PublicTemplateCatalogueCache(true, 5);
+        }
+    }
+
+    @Autowired
+    private PublicTemplateCatalogueCache cache;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    @DisplayName("목록 캐시 미스면 loader로 조회해 저장하고, 같은 정렬/페이지의 다음 조회는 캐시에서 응답한다")
+    void getPage_readThrough() {
+        // given
+        PublicTemplatePageableRequest request = new PublicTemplatePageableRequest();
+
+        // when
+        PublicTemplateCataloguePage first = cache.getPage(request, this::loadPage);
+        PublicTemplateCataloguePage second = cache.getPage(request, this::loadPage);
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(second).isEqualTo(first);
+        assertThat(second.totalElements()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("캐시 대상 범위를 넘는 페이지는 캐시하지 않는다")
+    void getPage_beyondMaxPage() {
+        // given
+        PublicTemplatePageableRequest request = new PublicTemplatePageableRequest();
+        request.setPage(5);
+
+        // when
+        cache.getPage(request, this::loadPage);
+        cache.getPage(request, this::loadPage);
+
+        // then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("삭제 이벤트가 커밋되면 목록 캐시를 비우고 삭제된 템플릿의 상세 캐시를 지운다")
+    void onPublicTemplateChanged_deleted() {
+        // given
+        PublicTemplatePageableRequest request = new PublicTemplatePageableRequest();
+        cache.getPage(request, this::loadPage);
+        cache.getDetail(7, () -> loadDetail(7));
+        cache.getDetail(8, () -> loadDetail(8));
+
+        // when
+        cache.onPublicTemplateChanged(PublicTemplateChangedEvent.deleted(7));
+        cache.getPage(request, this::loadPage);
+        cache.getDetail(7, () -> loadDetail(7));
+        cache.getDetail(8, () -> loadDetail(8));
+
+        // then: 목록과 7번 상세만 다시 조회
+        assertThat(loads).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("생성 이벤트는 목록 캐시만 비운다")
+    void onPublicTemplateChanged_created() {
+        // given
+        cache.getDetail(7, () -> loadDetail(7));
+
+        // when
+        cache.onPublicTemplateChanged(PublicTemplateChangedEvent.created(8));
+        cache.getDetail(7, () -> loadDetail(7));
+
+        // then
+        assertThat(loads).hasValue(1);
+    }
+
+    private PublicTemplateCataloguePage loadPage() {
+        loads.incrementAndGet();
+        return new PublicTemplateCataloguePage(List.of(
+                new PublicTemplateSummaryResponse(1, "회의 안내", "미리보기", "버튼", 3, 1, LocalDateTime.of(2025, 1, 1, 10, 0))),
+                11);
+    }
+
+    private PublicTemplateResponse loadDetail(Integer publicTemplateId) {
+        loads.incrementAndGet();
+        return new PublicTemplateResponse(publicTemplateId, "제목", "내용", "버튼");
+    }
+}
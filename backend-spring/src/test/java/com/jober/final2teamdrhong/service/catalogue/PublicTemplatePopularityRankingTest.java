@@ -0,0 +1,183 @@
+package com.jober.final2teamdrhong.service.catalogue;
+
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateSummaryResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PublicTemplatePopularityRankingTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private PublicTemplatePopularityRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        ranking = new PublicTemplatePopularityRanking(redisTemplate, jdbcTemplate, true);
+    }
+
+    @Test
+    @DisplayName("재구성 전에는 순위를 사용하지 않고 DB 정렬에 맡긴다")
+    void findPage_notReady() {
+        Optional<Page<PublicTemplateSummaryResponse>> result = ranking.findPage(
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "viewCount")), ids -> List.of());
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회수 내림차순 페이지는 ZSET 역순 범위의 ID 순서대로 요약을 조회한다")
+    void findPage_viewCountDesc() throws Exception {
+        // given
+        rebuildWith();
+        when(zSetOperations.reverseRange(PublicTemplatePopularityRanking.VIEW_KEY, 10, 19))
+                .thenReturn(new LinkedHashSet<>(List.of("5", "2")));
+        when(zSetOperations.zCard(PublicTemplatePopularityRanking.VIEW_KEY)).thenReturn(12L);
+
+        // when
+        Optional<Page<PublicTemplateSummaryResponse>> result = ranking.findPage(
+                PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "viewCount")),
+                ids -> ids.stream()
+                        .map(id -> new PublicTemplateSummaryResponse(id, "템플릿" + id, null, null, 0, 0, LocalDateTime.now()))
+                        .toList());
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getContent()).extracting(PublicTemplateSummaryResponse::publicTemplateId)
+                .containsExactly(5, 2);
+        assertThat(result.get().getTotalElements()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("조회수/공유수가 아닌 정렬은 순위로 처리하지 않는다")
+    void findPage_unsupportedSort() throws Exception {
+        // given
+        rebuildWith();
+
+        // when
+        Optional<Page<PublicTemplateSummaryResponse>> result = ranking.findPage(
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")), ids -> List.of());
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제 이벤트가 커밋되면 두 순위에서 모두 제거한다")
+    void onPublicTemplateChanged_deleted() {
+        // given
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        // when
+        ranking.onPublicTemplateChanged(PublicTemplateChangedEvent.deleted(9));
+
+        // then
+        verify(zSetOperations).remove(PublicTemplatePopularityRanking.VIEW_KEY, "9");
+        verify(zSetOperations).remove(PublicTemplatePopularityRanking.SHARE_KEY, "9");
+    }
+
+    @Test
+    @DisplayName("재구성은 DB 값을 기존 순위에 병합하고, 읽은 최대 ID 이하인데 DB에 없는 템플릿만 제거한다")
+    void rebuild_mergesInPlace() throws Exception {
+        // given: 순위에는 1(유지), 4(삭제됨), 7(DB를 읽은 뒤 생성됨)이 있음
+        when(zSetOperations.range(anyString(), eq(0L), eq(-1L))).thenReturn(new LinkedHashSet<>(List.of("1", "4", "7")));
+
+        // when
+        rebuildWith();
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(PublicTemplatePopularityRanking.VIEW_KEY)),
+                eq("1"), eq("3"), eq("5"), eq("3"));
+        verify(zSetOperations).remove(PublicTemplatePopularityRanking.VIEW_KEY, "4");
+        verify(zSetOperations).remove(PublicTemplatePopularityRanking.SHARE_KEY, "4");
+        verify(redisTemplate, never()).rename(anyString(), anyString());
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(PublicTemplatePopularityRanking.REBUILD_LOCK_KEY)),
+                anyString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 재구성 중이면 DB를 읽지 않고 이미 만들어진 순위를 사용한다")
+    void rebuild_lockedByOtherInstance() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(PublicTemplatePopularityRanking.REBUILD_LOCK_KEY), anyString(), any(Duration.class)))
+                .thenReturn(false);
+        when(redisTemplate.hasKey(PublicTemplatePopularityRanking.VIEW_KEY)).thenReturn(true);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRange(PublicTemplatePopularityRanking.VIEW_KEY, 0, 9)).thenReturn(new LinkedHashSet<>());
+        when(zSetOperations.zCard(PublicTemplatePopularityRanking.VIEW_KEY)).thenReturn(0L);
+
+        // when
+        ranking.rebuild();
+        Optional<Page<PublicTemplateSummaryResponse>> result = ranking.findPage(
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "viewCount")), ids -> List.of());
+
+        // then
+        verify(jdbcTemplate, never()).query(anyString(), any(RowCallbackHandler.class));
+        assertThat(result).isPresent();
+    }
+
+    /**
+     * DB에 템플릿 두 건(ID 5, 1)이 있는 상태로 재구성해 순위를 준비 상태로 만든다.
+     */
+    private void rebuildWith() throws Exception {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(PublicTemplatePopularityRanking.REBUILD_LOCK_KEY), anyString(), any(Duration.class)))
+                .thenReturn(true);
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(resultSet);
+            handler.processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+        when(resultSet.getInt("public_template_id")).thenReturn(5, 1);
+        when(resultSet.getLong("view_count")).thenReturn(3L);
+        when(resultSet.getLong("share_count")).thenReturn(1L);
+
+        ranking.rebuild();
+    }
+}
@@ -0,0 +1,143 @@
+package com.jober.final2teamdrhong.service.counter;
+
+import com.jober.final2teamdrhong.service.catalogue.PublicTemplatePopularityRanking;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PublicTemplateCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PublicTemplatePopularityRanking popularityRanking;
+
+    @Test
+    @DisplayName("누적된 조회/공유 증가분을 템플릿별로 합산해 한 번의 배치 UPDATE로 반영한다")
+    @SuppressWarnings("unchecked")
+    void flush_aggregatesIntoSingleBatch() throws Exception {
+        // given
+        PublicTemplateCounter counter = new PublicTemplateCounter(jdbcTemplate, popularityRanking);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            IntStream.range(0, 1_000).forEach(i -> executor.submit(() -> counter.recordView(1)));
+        }
+        counter.recordShare(1);
+        counter.recordShare(2);
+
+        // when
+        counter.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(eq(PublicTemplateCounter.FLUSH_SQL), captor.capture());
+        assertThat(captor.getValue())
+                .extracting(Arrays::asList)
+                .containsExactlyInAnyOrder(List.of(1_000L, 1L, 1), List.of(0L, 1L, 2));
+        assertThat(counter.pendingViews(1)).isZero();
+        verify(popularityRanking).increment(Map.of(1, 1_000L), Map.of(1, 1L, 2, 1L));
+    }
+
+    @Test
+    @DisplayName("flush와 동시에 들어온 증가분도 유실 없이 이번 또는 다음 배치에 반영된다")
+    @SuppressWarnings("unchecked")
+    void flush_concurrentIncrementsAreNotLost() throws Exception {
+        // given
+        PublicTemplateCounter counter = new PublicTemplateCounter(jdbcTemplate, popularityRanking);
+
+        // when: 증가와 flush를 동시에 반복
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            IntStream.range(0, 10_000).forEach(i -> executor.submit(() -> counter.recordView(1)));
+            IntStream.range(0, 20).forEach(i -> executor.submit(counter::flush));
+        }
+        counter.flush();
+
+        // then: 모든 배치의 조회 증가분 합이 기록한 횟수와 같고, 반영된 항목은 남지 않음
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, atLeastOnce())
+                .batchUpdate(eq(PublicTemplateCounter.FLUSH_SQL), captor.capture());
+        long flushedViews = captor.getAllValues().stream()
+                .flatMap(List::stream)
+                .mapToLong(row -> (long) row[0])
+                .sum();
+        assertThat(flushedViews).isEqualTo(10_000L);
+        assertThat(counter.pendingViews(1)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영할 증가분이 없으면 UPDATE를 실행하지 않는다")
+    void flush_nothingPending() {
+        // given
+        PublicTemplateCounter counter = new PublicTemplateCounter(jdbcTemplate, popularityRanking);
+
+        // when
+        counter.flush();
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증가분을 되돌려 다음 주기에 다시 반영한다")
+    void flush_failureRestoresDeltas() {
+        // given
+        PublicTemplateCounter counter = new PublicTemplateCounter(jdbcTemplate, popularityRanking);
+        counter.recordView(1);
+        counter.recordShare(1);
+        when(jdbcTemplate.batchUpdate(eq(PublicTemplateCounter.FLUSH_SQL), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+
+        // when
+        counter.flush();
+
+        // then
+        assertThat(counter.pendingViews(1)).isEqualTo(1);
+        assertThat(counter.pendingShares(1)).isEqualTo(1);
+        verify(popularityRanking, never()).increment(anyMap(), anyMap());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 기록하면 커밋 이후에만 누적된다")
+    void record_deferredUntilCommit() {
+        // given
+        PublicTemplateCounter counter = new PublicTemplateCounter(jdbcTemplate, popularityRanking);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            counter.recordShare(3);
+
+            // then
+            assertThat(counter.pendingShares(3)).isZero();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(counter.pendingShares(3)).isEqualTo(1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
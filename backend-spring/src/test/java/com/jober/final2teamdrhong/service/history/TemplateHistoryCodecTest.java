@@ -0,0 +1,70 @@
+package com.jober.final2teamdrhong.service.history;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TemplateHistoryCodecTest {
+
+    private static final String BASE = "[#{고객명}님 안녕하세요]\n".repeat(40) + "예약하신 #{날짜} 방문 일정을 안내드립니다.";
+
+    @Test
+    @DisplayName("일부만 바뀐 본문은 델타로 복원되고, 델타 크기는 본문보다 훨씬 작다")
+    void diff_apply_roundTrip() {
+        // given
+        String target = BASE.replace("방문 일정을", "변경된 방문 일정을");
+
+        // when
+        byte[] delta = TemplateHistoryCodec.diff(BASE, target);
+
+        // then
+        assertThat(TemplateHistoryCodec.apply(BASE, delta)).isEqualTo(target);
+        assertThat(delta.length).isLessThan(target.getBytes(StandardCharsets.UTF_8).length / 10);
+    }
+
+    @Test
+    @DisplayName("앞뒤에 추가/삭제된 본문과 빈 본문도 복원된다")
+    void diff_apply_edges() {
+        for (String target : new String[]{"머리말\n" + BASE, BASE + "\n꼬리말", BASE.substring(10), "", BASE}) {
+            assertThat(TemplateHistoryCodec.apply(BASE, TemplateHistoryCodec.diff(BASE, target))).isEqualTo(target);
+        }
+        assertThat(TemplateHistoryCodec.apply("", TemplateHistoryCodec.diff("", BASE))).isEqualTo(BASE);
+    }
+
+    @Test
+    @DisplayName("서로게이트 쌍(이모지)의 일부만 다른 경우에도 문자가 깨지지 않는다")
+    void diff_apply_surrogatePairs() {
+        // given: 😀(U+1F600)와 😃(U+1F603)는 상위 서로게이트가 같다
+        String base = "안내 😀 드립니다";
+        String target = "안내 😃 드립니다";
+
+        // when & then
+        assertThat(TemplateHistoryCodec.apply(base, TemplateHistoryCodec.diff(base, target))).isEqualTo(target);
+    }
+
+    @Test
+    @DisplayName("다른 기준 본문에 델타를 적용하면 예외가 발생한다")
+    void apply_wrongBase() {
+        byte[] delta = TemplateHistoryCodec.diff(BASE, BASE + "!");
+
+        assertThatThrownBy(() -> TemplateHistoryCodec.apply("짧은 본문", delta))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("채팅 기록은 압축 후 그대로 복원되고, null은 null로 유지된다")
+    void compress_decompress() {
+        String chat = "이 문구를 좀 더 친절하게 바꿔줘\n".repeat(50);
+
+        byte[] compressed = TemplateHistoryCodec.compress(chat);
+
+        assertThat(TemplateHistoryCodec.decompress(compressed)).isEqualTo(chat);
+        assertThat(compressed.length).isLessThan(chat.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(TemplateHistoryCodec.compress(null)).isNull();
+        assertThat(TemplateHistoryCodec.decompress(null)).isNull();
+    }
+}
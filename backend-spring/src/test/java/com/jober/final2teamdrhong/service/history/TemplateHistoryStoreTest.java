@@ -0,0 +1,184 @@
+package com.jober.final2teamdrhong.service.history;
+
+import com.jober.final2teamdrhong.dto.individualtemplate.HistoryResponse;
+import com.jober.final2teamdrhong.entity.IndividualTemplate;
+import com.jober.final2teamdrhong.entity.TemplateModifiedHistory;
+import com.jober.final2teamdrhong.entity.TemplateModifiedHistory.StorageType;
+import com.jober.final2teamdrhong.repository.TemplateModifiedHistoryRepository;
+import com.jober.final2teamdrhong.repository.TemplateModifiedHistoryRepository.SnapshotContent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TemplateHistoryStoreTest {
+
+    private static final String CONTENT = "#{고객명}님, 주문하신 상품이 발송되었습니다.\n".repeat(30);
+
+    @Mock
+    private TemplateModifiedHistoryRepository templateModifiedHistoryRepository;
+
+    private TemplateHistoryStore store;
+
+    private final IndividualTemplate template = mock(IndividualTemplate.class);
+
+    @BeforeEach
+    void setUp() {
+        store = new TemplateHistoryStore(templateModifiedHistoryRepository, 5);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 본문 전체를 스냅샷으로 저장하고 채팅은 압축한다")
+    void append_firstSnapshot() {
+        // given
+        when(templateModifiedHistoryRepository.findFirstByIndividualTemplateAndStorageTypeOrderByHistoryIdDesc(template, StorageType.SNAPSHOT))
+                .thenReturn(Optional.empty());
+
+        // when
+        store.append(template, "제목", " " + CONTENT, "버튼", "AI 응답", "사용자 요청", IndividualTemplate.Status.DRAFT);
+
+        // then
+        TemplateModifiedHistory saved = captureSaved();
+        assertThat(saved.getStorageType()).isEqualTo(StorageType.SNAPSHOT);
+        assertThat(saved.getHistoryContent()).isEqualTo(CONTENT.trim());
+        assertThat(saved.getChatAi()).isNull();
+        assertThat(TemplateHistoryCodec.decompress(saved.getChatAiCompressed())).isEqualTo("AI 응답");
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후 주기 안이면 스냅샷 대비 델타만 저장한다")
+    void append_delta() {
+        // given
+        TemplateModifiedHistory snapshot = snapshot(10, CONTENT.trim());
+        when(templateModifiedHistoryRepository.findFirstByIndividualTemplateAndStorageTypeOrderByHistoryIdDesc(template, StorageType.SNAPSHOT))
+                .thenReturn(Optional.of(snapshot));
+        when(templateModifiedHistoryRepository.countByIndividualTemplateAndHistoryIdGreaterThan(template, 10)).thenReturn(3L);
+        String edited = CONTENT.replaceFirst("발송", "배송 시작");
+
+        // when
+        store.append(template, "제목", edited, "버튼", "AI", "사용자", IndividualTemplate.Status.DRAFT);
+
+        // then
+        TemplateModifiedHistory saved = captureSaved();
+        assertThat(saved.getStorageType()).isEqualTo(StorageType.DELTA);
+        assertThat(saved.getBaseHistoryId()).isEqualTo(10);
+        assertThat(saved.getHistoryContent()).isNull();
+        assertThat(TemplateHistoryCodec.apply(CONTENT.trim(), saved.getContentDelta())).isEqualTo(edited.trim());
+    }
+
+    @Test
+    @DisplayName("스냅샷 주기에 도달하면 새 스냅샷을 저장한다")
+    void append_snapshotInterval() {
+        // given
+        when(templateModifiedHistoryRepository.findFirstByIndividualTemplateAndStorageTypeOrderByHistoryIdDesc(template, StorageType.SNAPSHOT))
+                .thenReturn(Optional.of(snapshot(10, CONTENT.trim())));
+        when(templateModifiedHistoryRepository.countByIndividualTemplateAndHistoryIdGreaterThan(template, 10)).thenReturn(4L);
+
+        // when
+        store.append(template, "제목", CONTENT + "추가", "버튼", "AI", "사용자", IndividualTemplate.Status.DRAFT);
+
+        // then
+        TemplateModifiedHistory saved = captureSaved();
+        assertThat(saved.getStorageType()).isEqualTo(StorageType.SNAPSHOT);
+        assertThat(saved.getHistoryContent()).isEqualTo((CONTENT + "추가").trim());
+    }
+
+    @Test
+    @DisplayName("본문이 대부분 바뀌어 델타가 크면 새 스냅샷을 저장한다")
+    void append_largeDelta() {
+        // given
+        when(templateModifiedHistoryRepository.findFirstByIndividualTemplateAndStorageTypeOrderByHistoryIdDesc(template, StorageType.SNAPSHOT))
+                .thenReturn(Optional.of(snapshot(10, "짧은 본문")));
+        when(templateModifiedHistoryRepository.countByIndividualTemplateAndHistoryIdGreaterThan(template, 10)).thenReturn(0L);
+
+        // when
+        store.append(template, "제목", "완전히 다른 새 본문", "버튼", "AI", "사용자", IndividualTemplate.Status.DRAFT);
+
+        // then
+        assertThat(captureSaved().getStorageType()).isEqualTo(StorageType.SNAPSHOT);
+    }
+
+    @Test
+    @DisplayName("복원 시 페이지에 없는 기준 스냅샷만 한 번에 조회하고, 이전 방식 행은 그대로 사용한다")
+    void restore() {
+        // given
+        String edited = CONTENT.trim() + " 감사합니다.";
+        TemplateModifiedHistory delta = TemplateModifiedHistory.builder()
+                .historyId(12)
+                .storageType(StorageType.DELTA)
+                .baseHistoryId(10)
+                .contentDelta(TemplateHistoryCodec.diff(CONTENT.trim(), edited))
+                .chatAiCompressed(TemplateHistoryCodec.compress("AI"))
+                .status(IndividualTemplate.Status.DRAFT)
+                .build();
+        TemplateModifiedHistory legacy = TemplateModifiedHistory.builder()
+                .historyId(3)
+                .historyContent("이전 본문")
+                .chatAi("이전 AI")
+                .status(IndividualTemplate.Status.DRAFT)
+                .build();
+        SnapshotContent snapshotContent = mock(SnapshotContent.class);
+        when(snapshotContent.getHistoryId()).thenReturn(10);
+        when(snapshotContent.getHistoryContent()).thenReturn(CONTENT.trim());
+        when(templateModifiedHistoryRepository.findSnapshotContents(Set.of(10))).thenReturn(List.of(snapshotContent));
+
+        // when
+        List<HistoryResponse> responses = store.restore(List.of(delta, legacy));
+
+        // then
+        assertThat(responses).extracting(HistoryResponse::getIndividualTemplateContent)
+                .containsExactly(edited, "이전 본문");
+        assertThat(responses).extracting(HistoryResponse::getChatAi)
+                .containsExactly("AI", "이전 AI");
+    }
+
+    @Test
+    @DisplayName("기준 스냅샷이 같은 페이지에 있으면 추가 조회하지 않는다")
+    void restore_snapshotInPage() {
+        // given
+        TemplateModifiedHistory delta = TemplateModifiedHistory.builder()
+                .historyId(11)
+                .storageType(StorageType.DELTA)
+                .baseHistoryId(10)
+                .contentDelta(TemplateHistoryCodec.diff(CONTENT.trim(), CONTENT.trim() + "!"))
+                .status(IndividualTemplate.Status.DRAFT)
+                .build();
+
+        // when
+        List<HistoryResponse> responses = store.restore(List.of(delta, snapshot(10, CONTENT.trim())));
+
+        // then
+        assertThat(responses.get(0).getIndividualTemplateContent()).isEqualTo(CONTENT.trim() + "!");
+        verify(templateModifiedHistoryRepository, never()).findSnapshotContents(any());
+    }
+
+    private TemplateModifiedHistory snapshot(Integer historyId, String content) {
+        return TemplateModifiedHistory.builder()
+                .historyId(historyId)
+                .storageType(StorageType.SNAPSHOT)
+                .historyContent(content)
+                .status(IndividualTemplate.Status.DRAFT)
+                .build();
+    }
+
+    private TemplateModifiedHistory captureSaved() {
+        ArgumentCaptor<TemplateModifiedHistory> captor = ArgumentCaptor.forClass(TemplateModifiedHistory.class);
+        verify(templateModifiedHistoryRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,53 @@
+package com.jober.final2teamdrhong.service.mail;
+
+import com.jober.final2teamdrhong.service.EmailPurpose;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailTemplateRendererTest {
+
+    private final EmailTemplateRenderer renderer = new EmailTemplateRenderer();
+
+    @ParameterizedTest
+    @EnumSource(EmailPurpose.class)
+    @DisplayName("모든 용도에 대해 제목, 텍스트, HTML 본문이 렌더링된다")
+    void render_allPurposes(EmailPurpose purpose) {
+        // when
+        RenderedEmail rendered = renderer.render(purpose, "123456", 5);
+
+        // then
+        assertThat(rendered.subject()).isEqualTo(purpose.getEmailSubject());
+        assertThat(rendered.text())
+                .contains(purpose.getDescription() + " 아래 인증 코드를 입력해주세요.")
+                .contains("인증 코드: 123456")
+                .contains("이 코드는 5분 후에 만료됩니다.");
+        assertThat(rendered.html())
+                .contains("<html")
+                .contains("123456")
+                .contains(purpose.getDescription() + " 아래 인증 코드를 입력해주세요.");
+    }
+
+    @Test
+    @DisplayName("텍스트 본문은 HTML 태그 없이 렌더링된다")
+    void render_textBodyHasNoMarkup() {
+        // when
+        RenderedEmail rendered = renderer.render(EmailPurpose.SIGNUP, "654321", 10);
+
+        // then
+        assertThat(rendered.text()).doesNotContain("<").contains("10분 후에 만료됩니다.");
+    }
+
+    @Test
+    @DisplayName("HTML 본문의 변수는 이스케이프되어 렌더링된다")
+    void render_htmlEscapesVariables() {
+        // when
+        RenderedEmail rendered = renderer.render(EmailPurpose.SIGNUP, "<b>1</b>", 5);
+
+        // then
+        assertThat(rendered.html()).contains("&lt;b&gt;1&lt;/b&gt;").doesNotContain("<b>1</b>");
+    }
+}
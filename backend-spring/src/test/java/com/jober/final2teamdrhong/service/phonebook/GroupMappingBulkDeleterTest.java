@@ -0,0 +1,113 @@
+package com.jober.final2teamdrhong.service.phonebook;
+
+import com.jober.final2teamdrhong.dto.recipient.RecipientResponse;
+import com.jober.final2teamdrhong.repository.GroupMappingRepository;
+import com.jober.final2teamdrhong.repository.RecipientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GroupMappingBulkDeleterTest {
+
+    @Mock
+    private GroupMappingRepository groupMappingRepository;
+
+    @Mock
+    private RecipientRepository recipientRepository;
+
+    private GroupMappingBulkDeleter deleter;
+
+    @BeforeEach
+    void setUp() {
+        deleter = new GroupMappingBulkDeleter(groupMappingRepository, recipientRepository, 2, 5);
+    }
+
+    @Test
+    @DisplayName("수신자 ID를 배치 크기 단위로 나누어 청크마다 소속을 확인하고 주소록에 속한 수신자만 UPDATE한 뒤 제거된 수신자를 돌려준다")
+    void delete_chunksAndReturnsRemovedRecipients() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+        when(recipientRepository.findRecipientIdsInWorkspace(1, List.of(10, 11))).thenReturn(List.of(10, 11));
+        when(recipientRepository.findRecipientIdsInWorkspace(1, List.of(12, 13))).thenReturn(List.of(12, 13));
+        when(recipientRepository.findRecipientIdsInWorkspace(1, List.of(14))).thenReturn(List.of(14));
+        when(groupMappingRepository.lockRecipientIdsInPhoneBook(7, List.of(10, 11))).thenReturn(List.of(10, 11));
+        when(groupMappingRepository.lockRecipientIdsInPhoneBook(7, List.of(12, 13))).thenReturn(List.of(13));
+        when(groupMappingRepository.lockRecipientIdsInPhoneBook(7, List.of(14))).thenReturn(List.of(14));
+        when(groupMappingRepository.bulkSoftDeleteMappings(7, List.of(10, 11), now)).thenReturn(2);
+        when(groupMappingRepository.bulkSoftDeleteMappings(7, List.of(13), now)).thenReturn(1);
+        when(groupMappingRepository.bulkSoftDeleteMappings(7, List.of(14), now)).thenReturn(1);
+        when(recipientRepository.findSimpleDTOsByRecipientIdIn(List.of(10, 11))).thenReturn(List.of(recipient(10), recipient(11)));
+        when(recipientRepository.findSimpleDTOsByRecipientIdIn(List.of(13))).thenReturn(List.of(recipient(13)));
+        when(recipientRepository.findSimpleDTOsByRecipientIdIn(List.of(14))).thenReturn(List.of(recipient(14)));
+
+        // when
+        List<RecipientResponse.SimpleDTO> removed = deleter.delete(1, 7, List.of(10, 11, 12, 13, 14), now);
+
+        // then
+        assertThat(removed).extracting(RecipientResponse.SimpleDTO::recipientId).containsExactly(10, 11, 13, 14);
+        verify(groupMappingRepository).bulkSoftDeleteMappings(7, List.of(13), now);
+    }
+
+    @Test
+    @DisplayName("주소록에 속한 수신자가 없는 청크는 UPDATE하지 않는다")
+    void delete_skipsUnmappedChunk() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+        when(recipientRepository.findRecipientIdsInWorkspace(1, List.of(10, 11))).thenReturn(List.of(10, 11));
+        when(groupMappingRepository.lockRecipientIdsInPhoneBook(7, List.of(10, 11))).thenReturn(List.of());
+
+        // when
+        List<RecipientResponse.SimpleDTO> removed = deleter.delete(1, 7, List.of(10, 11), now);
+
+        // then
+        assertThat(removed).isEmpty();
+        verify(groupMappingRepository, never()).bulkSoftDeleteMappings(any(), anyList(), any());
+        verify(recipientRepository, never()).findSimpleDTOsByRecipientIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("워크스페이스에 속하지 않은 수신자가 포함된 청크를 만나면 예외를 던지고 그 청크는 UPDATE하지 않는다")
+    void delete_invalidRecipientInChunk_throws() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+        when(recipientRepository.findRecipientIdsInWorkspace(1, List.of(10, 11))).thenReturn(List.of(10, 11));
+        when(recipientRepository.findRecipientIdsInWorkspace(1, List.of(12, 99))).thenReturn(List.of(12));
+        when(groupMappingRepository.lockRecipientIdsInPhoneBook(7, List.of(10, 11))).thenReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> deleter.delete(1, 7, List.of(10, 11, 12, 99), now))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("요청된 수신자 목록에 유효하지 않거나 권한이 없는 ID가 포함되어 있습니다.");
+        verify(groupMappingRepository, never()).lockRecipientIdsInPhoneBook(7, List.of(12, 99));
+    }
+
+    @Test
+    @DisplayName("삭제 한도를 넘는 요청은 예외를 던진다")
+    void validateSize_overLimit_throws() {
+        // when & then
+        assertThatCode(() -> deleter.validateSize(5)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> deleter.validateSize(6))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("한 번에 주소록에서 제거할 수 있는 수신자는 최대 5명입니다.");
+    }
+
+    private static RecipientResponse.SimpleDTO recipient(Integer recipientId) {
+        return new RecipientResponse.SimpleDTO(recipientId, "수신자" + recipientId, "010-0000-0000", null, null, null, null);
+    }
+}
@@ -0,0 +1,62 @@
+package com.jober.final2teamdrhong.service.phonebook;
+
+import com.jober.final2teamdrhong.repository.GroupMappingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GroupMappingBulkInserterTest {
+
+    @Mock
+    private GroupMappingRepository groupMappingRepository;
+
+    private GroupMappingBulkInserter inserter;
+
+    @BeforeEach
+    void setUp() {
+        inserter = new GroupMappingBulkInserter(groupMappingRepository, 2, 4);
+    }
+
+    @Test
+    @DisplayName("수신자 ID를 배치 크기 단위로 나누어 청크마다 INSERT하고 진행 상황을 알린다")
+    void insert_chunksAndReportsProgress() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+        when(groupMappingRepository.bulkInsertMappings(1, List.of(10, 11), now, null)).thenReturn(2);
+        when(groupMappingRepository.bulkInsertMappings(1, List.of(12, 13), now, null)).thenReturn(1);
+        when(groupMappingRepository.bulkInsertMappings(1, List.of(14), now, null)).thenReturn(1);
+        List<int[]> progress = new ArrayList<>();
+
+        // when
+        int inserted = inserter.insert(1, List.of(10, 11, 12, 13, 14), now,
+                (processedCount, insertedCount) -> progress.add(new int[]{processedCount, insertedCount}));
+
+        // then
+        assertThat(inserted).isEqualTo(4);
+        assertThat(progress).containsExactly(new int[]{2, 2}, new int[]{4, 3}, new int[]{5, 4});
+        verify(groupMappingRepository).bulkInsertMappings(1, List.of(14), now, null);
+    }
+
+    @Test
+    @DisplayName("동기 추가 한도를 넘는 요청은 거부한다")
+    void validateSyncSize_exceedsLimit() {
+        // when & then
+        inserter.validateSyncSize(4);
+        assertThatThrownBy(() -> inserter.validateSyncSize(5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 4명");
+    }
+}
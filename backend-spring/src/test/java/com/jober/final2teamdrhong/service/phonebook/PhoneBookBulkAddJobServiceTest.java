@@ -0,0 +1,166 @@
+package com.jober.final2teamdrhong.service.phonebook;
+
+import com.jober.final2teamdrhong.dto.phonebook.PhoneBookRequest;
+import com.jober.final2teamdrhong.dto.phonebook.PhoneBookResponse;
+import com.jober.final2teamdrhong.dto.phonebook.PhoneBookResponse.BulkAddJobStatus;
+import com.jober.final2teamdrhong.repository.GroupMappingRepository;
+import com.jober.final2teamdrhong.repository.PhoneBookRepository;
+import com.jober.final2teamdrhong.repository.RecipientRepository;
+import com.jober.final2teamdrhong.service.validator.PhoneBookValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PhoneBookBulkAddJobServiceTest {
+
+    @Mock
+    private PhoneBookValidator phoneBookValidator;
+
+    @Mock
+    private PhoneBookRepository phoneBookRepository;
+
+    @Mock
+    private RecipientRepository recipientRepository;
+
+    @Mock
+    private GroupMappingRepository groupMappingRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PhoneBookBulkAddJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        // 작업 이벤트를 호출 스레드에서 바로 처리하여 결과를 결정적으로 검증
+        GroupMappingBulkInserter inserter = new GroupMappingBulkInserter(groupMappingRepository, 2, 10);
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T03:00:00Z"), ZoneId.of("Asia/Seoul"));
+        ApplicationEventPublisher eventPublisher = event -> jobService.onBulkAddJobStarted((PhoneBookBulkAddJobEvent) event);
+        jobService = new PhoneBookBulkAddJobService(phoneBookValidator, phoneBookRepository, recipientRepository,
+                inserter, eventPublisher, transactionManager, 3600000, clock);
+        lenient().when(phoneBookRepository.lockLivePhoneBookId(7)).thenReturn(Optional.of(7));
+    }
+
+    @Test
+    @DisplayName("청크마다 소속을 확인해 추가하고, 추가/기존 멤버/유효하지 않은 수신자 수를 집계한다")
+    void startJob_addsInChunksAndCounts() {
+        // given: 10, 11, 12는 워크스페이스 소속, 99는 다른 워크스페이스, 11은 이미 멤버
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+        when(recipientRepository.findRecipientIdsInWorkspace(1, List.of(10, 11))).thenReturn(List.of(10, 11));
+        when(recipientRepository.findRecipientIdsInWorkspace(1, List.of(12, 99))).thenReturn(List.of(12));
+        when(groupMappingRepository.bulkInsertMappings(7, List.of(10, 11), now, null)).thenReturn(1);
+        when(groupMappingRepository.bulkInsertMappings(7, List.of(12), now, null)).thenReturn(1);
+
+        // when: 중복 ID는 한 번만 처리
+        PhoneBookResponse.BulkAddJobDTO started = jobService.startJob(
+                new PhoneBookRequest.RecipientIdListDTO(List.of(10, 11, 12, 99, 10)), 1, 7, 3);
+
+        // then
+        PhoneBookResponse.BulkAddJobDTO job = jobService.getJob(1, 7, 3, started.jobId());
+        assertThat(job.status()).isEqualTo(BulkAddJobStatus.COMPLETED);
+        assertThat(job.totalCount()).isEqualTo(4);
+        assertThat(job.processedCount()).isEqualTo(4);
+        assertThat(job.addedCount()).isEqualTo(2);
+        assertThat(job.alreadyMemberCount()).isEqualTo(1);
+        assertThat(job.invalidCount()).isEqualTo(1);
+        assertThat(job.finishedAt()).isEqualTo(now);
+        verify(phoneBookValidator).validateAndGetPhoneBook(1, 7, 3);
+    }
+
+    @Test
+    @DisplayName("청크 추가 중 오류가 나면 작업을 실패로 표시하고 이미 커밋된 청크의 진행 상황은 유지한다")
+    void startJob_failureKeepsCommittedProgress() {
+        // given
+        when(recipientRepository.findRecipientIdsInWorkspace(1, List.of(10, 11))).thenReturn(List.of(10, 11));
+        when(recipientRepository.findRecipientIdsInWorkspace(1, List.of(12))).thenReturn(List.of(12));
+        when(groupMappingRepository.bulkInsertMappings(eq(7), eq(List.of(10, 11)), any(LocalDateTime.class), isNull())).thenReturn(2);
+        when(groupMappingRepository.bulkInsertMappings(eq(7), eq(List.of(12)), any(LocalDateTime.class), isNull()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when
+        PhoneBookResponse.BulkAddJobDTO started = jobService.startJob(
+                new PhoneBookRequest.RecipientIdListDTO(List.of(10, 11, 12)), 1, 7, 3);
+
+        // then
+        PhoneBookResponse.BulkAddJobDTO job = jobService.getJob(1, 7, 3, started.jobId());
+        assertThat(job.status()).isEqualTo(BulkAddJobStatus.FAILED);
+        assertThat(job.processedCount()).isEqualTo(2);
+        assertThat(job.addedCount()).isEqualTo(2);
+        assertThat(job.errorMessage()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("작업 중 주소록이 삭제되면 다음 청크를 추가하지 않고 작업을 실패로 표시한다")
+    void startJob_phoneBookDeleted() {
+        // given: 첫 청크를 커밋한 뒤 주소록이 삭제됨
+        when(phoneBookRepository.lockLivePhoneBookId(7)).thenReturn(Optional.of(7), Optional.empty());
+        when(recipientRepository.findRecipientIdsInWorkspace(1, List.of(10, 11))).thenReturn(List.of(10, 11));
+        when(groupMappingRepository.bulkInsertMappings(eq(7), eq(List.of(10, 11)), any(LocalDateTime.class), isNull())).thenReturn(2);
+
+        // when
+        PhoneBookResponse.BulkAddJobDTO started = jobService.startJob(
+                new PhoneBookRequest.RecipientIdListDTO(List.of(10, 11, 12)), 1, 7, 3);
+
+        // then
+        PhoneBookResponse.BulkAddJobDTO job = jobService.getJob(1, 7, 3, started.jobId());
+        assertThat(job.status()).isEqualTo(BulkAddJobStatus.FAILED);
+        assertThat(job.processedCount()).isEqualTo(2);
+        assertThat(job.addedCount()).isEqualTo(2);
+        assertThat(job.errorMessage()).contains("주소록이 삭제");
+        verify(recipientRepository, never()).findRecipientIdsInWorkspace(1, List.of(12));
+        verify(groupMappingRepository, never()).bulkInsertMappings(eq(7), eq(List.of(12)), any(LocalDateTime.class), any());
+    }
+
+    @Test
+    @DisplayName("주소록 접근 권한이 없으면 작업을 접수하지 않는다")
+    void startJob_noAccess() {
+        // given
+        when(phoneBookValidator.validateAndGetPhoneBook(1, 7, 4))
+                .thenThrow(new IllegalArgumentException("해당 워크스페이스에 존재하지 않는 주소록입니다. ID: 7"));
+
+        // when & then
+        assertThatThrownBy(() -> jobService.startJob(new PhoneBookRequest.RecipientIdListDTO(List.of(10)), 1, 7, 4))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(recipientRepository, never()).findRecipientIdsInWorkspace(anyInt(), anyList());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 작업은 조회할 수 없다")
+    void getJob_otherUser() {
+        // given
+        when(recipientRepository.findRecipientIdsInWorkspace(1, List.of(10))).thenReturn(List.of());
+        PhoneBookResponse.BulkAddJobDTO started = jobService.startJob(
+                new PhoneBookRequest.RecipientIdListDTO(List.of(10)), 1, 7, 3);
+
+        // when & then
+        assertThatThrownBy(() -> jobService.getJob(1, 7, 4, started.jobId()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("존재하지 않는 수신자 추가 작업");
+    }
+}
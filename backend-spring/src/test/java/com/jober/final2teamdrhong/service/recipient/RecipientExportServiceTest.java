@@ -0,0 +1,166 @@
+package com.jober.final2teamdrhong.service.recipient;
+
+import com.jober.final2teamdrhong.dto.recipient.RecipientExportRow;
+import com.jober.final2teamdrhong.repository.GroupMappingRepository;
+import com.jober.final2teamdrhong.repository.RecipientRepository;
+import com.jober.final2teamdrhong.service.validator.PhoneBookValidator;
+import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecipientExportServiceTest {
+
+    @Mock
+    private RecipientRepository recipientRepository;
+
+    @Mock
+    private GroupMappingRepository groupMappingRepository;
+
+    @Mock
+    private WorkspaceValidator workspaceValidator;
+
+    @Mock
+    private PhoneBookValidator phoneBookValidator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RecipientExportService recipientExportService;
+
+    @BeforeEach
+    void setUp() {
+        recipientExportService = new RecipientExportService(
+                recipientRepository, groupMappingRepository, workspaceValidator, phoneBookValidator, transactionManager);
+    }
+
+    @Test
+    @DisplayName("워크스페이스 수신자를 BOM과 헤더 행이 있는 CSV로 기록하고, 특수 문자가 있는 값은 큰따옴표로 감싼다")
+    void exportRecipients_writesCsv() throws IOException {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 9, 30, 0);
+        when(recipientRepository.streamExportRows(1)).thenReturn(Stream.of(
+                new RecipientExportRow("홍길동", "010-1234-5678", "VIP, \"단골\"", createdAt),
+                new RecipientExportRow("김철수", "010-9876-5432", null, createdAt)));
+
+        // when
+        StreamingResponseBody body = recipientExportService.exportRecipients(1, 3, false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("\uFEFF이름,전화번호,메모,생성일시\r\n"
+                + "홍길동,010-1234-5678,\"VIP, \"\"단골\"\"\",2025-01-01 09:30:00\r\n"
+                + "김철수,010-9876-5432,,2025-01-01 09:30:00\r\n");
+        verify(workspaceValidator).validateAndGetWorkspace(1, 3);
+    }
+
+    @Test
+    @DisplayName("수식으로 해석될 수 있는 값은 앞에 '를 붙여 큰따옴표로 감싼다")
+    void exportRecipients_escapesFormula() throws IOException {
+        // given
+        when(recipientRepository.streamExportRows(1)).thenReturn(Stream.of(
+                new RecipientExportRow("=HYPERLINK(\"http://evil\")", "010-1234-5678", "@SUM(A1)", null),
+                new RecipientExportRow("+홍길동", "010-9876-5432", "-1+2", null),
+                new RecipientExportRow("\t김철수", "010-1111-2222", "\r메모", null)));
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recipientExportService.exportRecipients(1, 3, false).writeTo(out);
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("\uFEFF이름,전화번호,메모,생성일시\r\n"
+                + "\"'=HYPERLINK(\"\"http://evil\"\")\",010-1234-5678,\"'@SUM(A1)\",\r\n"
+                + "\"'+홍길동\",010-9876-5432,\"'-1+2\",\r\n"
+                + "\"'\t김철수\",010-1111-2222,\"'\r메모\",\r\n");
+    }
+
+    @Test
+    @DisplayName("gzip을 요청하면 주소록 수신자 CSV를 gzip으로 압축해 기록하고 스트림을 닫는다")
+    void exportRecipientsInPhoneBook_gzip() throws IOException {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(groupMappingRepository.streamExportRowsByPhoneBook(7)).thenReturn(Stream.of(
+                new RecipientExportRow("홍길동", "010-1234-5678", "메모", null)).onClose(() -> closed.set(true)));
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recipientExportService.exportRecipientsInPhoneBook(1, 7, 3, true).writeTo(out);
+
+        // then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+                    .isEqualTo("\uFEFF이름,전화번호,메모,생성일시\r\n홍길동,010-1234-5678,메모,\r\n");
+        }
+        assertThat(closed).isTrue();
+        verify(phoneBookValidator).validateAndGetPhoneBook(1, 7, 3);
+    }
+
+    @Test
+    @DisplayName("클라이언트 연결이 끊겨 쓰기에 실패하면 예외를 전달하고 스트림을 닫는다")
+    void exportRecipients_clientDisconnected() {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(recipientRepository.streamExportRows(1)).thenReturn(Stream.generate(
+                () -> new RecipientExportRow("홍길동", "010-1234-5678", null, null)).onClose(() -> closed.set(true)));
+        OutputStream brokenOut = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // when & then
+        StreamingResponseBody body = recipientExportService.exportRecipients(1, 3, false);
+        assertThatThrownBy(() -> body.writeTo(brokenOut))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("워크스페이스 접근 권한이 없으면 스트리밍을 시작하기 전에 실패한다")
+    void exportRecipients_noAccess() {
+        // given
+        when(workspaceValidator.validateAndGetWorkspace(1, 4))
+                .thenThrow(new IllegalArgumentException("해당 워크스페이스에 접근할 권한이 없습니다."));
+
+        // when & then
+        assertThatThrownBy(() -> recipientExportService.exportRecipients(1, 4, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(recipientRepository, never()).streamExportRows(anyInt());
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 헤더에 gzip이 있고 q=0으로 거부하지 않은 경우에만 압축한다")
+    void acceptsGzip() {
+        assertThat(RecipientExportService.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(RecipientExportService.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(RecipientExportService.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(RecipientExportService.acceptsGzip("deflate")).isFalse();
+        assertThat(RecipientExportService.acceptsGzip(null)).isFalse();
+    }
+}
@@ -0,0 +1,123 @@
+package com.jober.final2teamdrhong.service.recipient;
+
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecipientFileReaderTest {
+
+    private final RecipientFileReader reader = new RecipientFileReader();
+
+    @Test
+    @DisplayName("CSV의 BOM을 건너뛰고 따옴표로 감싼 쉼표, 줄바꿈, 이스케이프된 따옴표를 한 필드로 읽는다")
+    void readCsv_quotedFields() throws IOException {
+        // given
+        String csv = "\uFEFF이름,전화번호,메모\r\n"
+                + "홍길동,010-1234-5678,\"VIP, \"\"단골\"\"\"\r\n"
+                + "김철수,010-9876-5432,\"여러\n줄 메모\"\n"
+                + "이몽룡,010-1111-2222,";
+        List<List<String>> rows = new ArrayList<>();
+
+        // when
+        reader.readCsv(new StringReader(csv), (rowNumber, cells) -> rows.add(cells));
+
+        // then
+        assertThat(rows).containsExactly(
+                List.of("이름", "전화번호", "메모"),
+                List.of("홍길동", "010-1234-5678", "VIP, \"단골\""),
+                List.of("김철수", "010-9876-5432", "여러\n줄 메모"),
+                List.of("이몽룡", "010-1111-2222", ""));
+    }
+
+    @Test
+    @DisplayName("XLSX의 첫 번째 시트를 행 번호와 함께 읽고, 비어 있는 셀은 빈 문자열로 채운다")
+    void readXlsx_firstSheet(@TempDir Path tempDir) throws IOException {
+        // given
+        Path xlsx = tempDir.resolve("recipients.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(xlsx)) {
+            XSSFSheet sheet = workbook.createSheet();
+            sheet.createRow(0).createCell(0).setCellValue("이름");
+            sheet.getRow(0).createCell(1).setCellValue("전화번호");
+            sheet.createRow(2).createCell(1).setCellValue(1012345678d);
+            workbook.write(out);
+        }
+        List<Integer> rowNumbers = new ArrayList<>();
+        List<List<String>> rows = new ArrayList<>();
+
+        // when
+        reader.readXlsx(xlsx, (rowNumber, cells) -> {
+            rowNumbers.add(rowNumber);
+            rows.add(cells);
+        });
+
+        // then
+        assertThat(rowNumbers).containsExactly(1, 3);
+        assertThat(rows).containsExactly(List.of("이름", "전화번호"), List.of("", "1012345678"));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 확장자는 거부한다")
+    void read_unsupportedFormat() {
+        // given
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "recipients.txt", "text/plain", "이름".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThatThrownBy(() -> reader.store(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("지원하지 않는 파일 형식");
+    }
+
+    @Test
+    @DisplayName("BOM이 없고 UTF-8이 아닌 CSV는 MS949로 읽는다")
+    void read_ms949Csv(@TempDir Path tempDir) throws IOException {
+        // given: 엑셀에서 'CSV(쉼표로 분리)'로 저장한 파일
+        Path file = tempDir.resolve("recipients.csv");
+        Files.write(file, "이름,전화번호\r\n홍길동,010-1234-5678\r\n".getBytes(RecipientFileReader.MS949));
+        List<List<String>> rows = new ArrayList<>();
+
+        // when
+        reader.read(file, "recipients.csv", (rowNumber, cells) -> rows.add(cells));
+
+        // then
+        assertThat(reader.detectCharset(file)).isEqualTo(RecipientFileReader.MS949);
+        assertThat(rows).containsExactly(List.of("이름", "전화번호"), List.of("홍길동", "010-1234-5678"));
+    }
+
+    @Test
+    @DisplayName("CSV의 BOM으로 인코딩을 판단하고, BOM이 없으면 올바른 UTF-8은 UTF-8로 읽는다")
+    void detectCharset_bomAndUtf8(@TempDir Path tempDir) throws IOException {
+        // given
+        Path utf8Bom = tempDir.resolve("bom.csv");
+        Files.write(utf8Bom, ("\uFEFF이름,전화번호").getBytes(StandardCharsets.UTF_8));
+        Path utf16Le = tempDir.resolve("utf16.csv");
+        Files.write(utf16Le, ("\uFEFF이름,전화번호").getBytes(StandardCharsets.UTF_16LE));
+        Path utf8 = tempDir.resolve("utf8.csv");
+        Files.write(utf8, "이름,전화번호".getBytes(StandardCharsets.UTF_8));
+        List<List<String>> rows = new ArrayList<>();
+
+        // when
+        reader.read(utf16Le, "utf16.csv", (rowNumber, cells) -> rows.add(cells));
+
+        // then
+        assertThat(reader.detectCharset(utf8Bom)).isEqualTo(StandardCharsets.UTF_8);
+        assertThat(reader.detectCharset(utf16Le)).isEqualTo(StandardCharsets.UTF_16LE);
+        assertThat(reader.detectCharset(utf8)).isEqualTo(StandardCharsets.UTF_8);
+        assertThat(rows).containsExactly(List.of("이름", "전화번호"));
+    }
+}
@@ -0,0 +1,230 @@
+package com.jober.final2teamdrhong.service.recipient;
+
+import com.jober.final2teamdrhong.dto.recipient.RecipientContact;
+import com.jober.final2teamdrhong.dto.recipient.RecipientResponse;
+import com.jober.final2teamdrhong.repository.RecipientRepository;
+import com.jober.final2teamdrhong.service.phonebook.GroupMappingBulkInserter;
+import com.jober.final2teamdrhong.service.validator.PhoneBookValidator;
+import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecipientImportServiceTest {
+
+    @Mock
+    private RecipientRepository recipientRepository;
+
+    @Mock
+    private WorkspaceValidator workspaceValidator;
+
+    @Mock
+    private PhoneBookValidator phoneBookValidator;
+
+    @Mock
+    private GroupMappingBulkInserter groupMappingBulkInserter;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RecipientImportService recipientImportService;
+
+    @BeforeEach
+    void setUp() {
+        // 작업 이벤트를 호출 스레드에서 바로 처리하여 결과를 결정적으로 검증
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T03:00:00Z"), ZoneId.of("Asia/Seoul"));
+        ApplicationEventPublisher eventPublisher = event -> recipientImportService.onImportJobStarted((RecipientImportJobEvent) event);
+        recipientImportService = new RecipientImportService(new RecipientFileReader(), recipientRepository,
+                workspaceValidator, phoneBookValidator, groupMappingBulkInserter, jdbcTemplate, eventPublisher,
+                transactionManager, 2, 1, 3600000, clock);
+    }
+
+    @Test
+    @DisplayName("배치 크기 단위로 기존 수신자를 조회해 새 수신자만 INSERT하고, 잘못된 행은 건너뛰며 오류 보고 수를 제한한다")
+    @SuppressWarnings("unchecked")
+    void importRecipients_chunksAndCounts() {
+        // given: 첫 청크의 홍길동은 이미 워크스페이스에 하이픈 없는 표기로 존재 (E.164 형식으로 비교)
+        MockMultipartFile file = csv("""
+                이름,전화번호
+                홍길동,010-1234-5678
+                김철수,01098765432
+                이,010-1111-2222
+                박영희,12345
+                최민수,+82 10-5555-6666
+                """);
+        when(recipientRepository.findContactsByPhoneE164s(eq(1), any()))
+                .thenReturn(List.of(new RecipientContact(100, "홍길동", "01012345678", "+821012345678")))
+                .thenReturn(List.of());
+
+        // when
+        RecipientResponse.ImportResultDTO result = importAndWait(file, 1, null, 3);
+
+        // then
+        assertThat(result.totalRows()).isEqualTo(5);
+        assertThat(result.importedCount()).isEqualTo(2);
+        assertThat(result.duplicateCount()).isEqualTo(1);
+        assertThat(result.errorCount()).isEqualTo(2);
+        assertThat(result.errors()).containsExactly(
+                new RecipientResponse.RowErrorDTO(4, "이름은 2자 이상 10자 이하로 입력해주세요."));
+
+        ArgumentCaptor<List<Object[]>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(RecipientImportService.INSERT_SQL), inserts.capture());
+        assertThat(inserts.getAllValues().get(0)).singleElement()
+                .satisfies(args -> assertThat(args).startsWith("김철수", "010-9876-5432", "+821098765432", "23456789010", null, 1));
+        assertThat(inserts.getAllValues().get(1)).singleElement()
+                .satisfies(args -> assertThat(args).startsWith("최민수", "010-5555-6666", "+821055556666", "66665555010", null, 1));
+        verify(recipientRepository).findContactsByPhoneE164s(1, Set.of("+821012345678", "+821098765432"));
+        verify(groupMappingBulkInserter, never()).insert(any(), anyList(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("주소록 ID가 주어지면 새로 만든 수신자와 기존 수신자를 함께 주소록에 추가한다")
+    void importRecipients_addsToPhoneBook() {
+        // given
+        MockMultipartFile file = csv("""
+                name,phone,memo
+                홍길동,010-1234-5678,VIP
+                김철수,010-9876-5432,
+                """);
+        when(recipientRepository.findContactsByPhoneE164s(eq(1), any()))
+                .thenReturn(List.of(new RecipientContact(100, "홍길동", "010-1234-5678", "+821012345678")))
+                .thenReturn(List.of(new RecipientContact(100, "홍길동", "010-1234-5678", "+821012345678"),
+                        new RecipientContact(101, "김철수", "010-9876-5432", "+821098765432")));
+        when(groupMappingBulkInserter.insert(eq(7), eq(List.of(100, 101)), any(LocalDateTime.class))).thenReturn(2);
+
+        // when
+        RecipientResponse.ImportResultDTO result = importAndWait(file, 1, 7, 3);
+
+        // then
+        assertThat(result.importedCount()).isEqualTo(1);
+        assertThat(result.duplicateCount()).isEqualTo(1);
+        assertThat(result.addedToPhoneBookCount()).isEqualTo(2);
+        verify(phoneBookValidator).validateAndGetPhoneBook(1, 7, 3);
+    }
+
+    @Test
+    @DisplayName("다른 요청이 같은 수신자를 먼저 저장해 청크가 유니크 키 위반으로 롤백되면, 다시 조회해 그 수신자를 중복으로 처리한다")
+    @SuppressWarnings("unchecked")
+    void importRecipients_retriesChunkOnUniqueKeyRace() {
+        // given: 첫 조회 후 홍길동이 다른 요청으로 먼저 저장됨
+        MockMultipartFile file = csv("""
+                이름,전화번호
+                홍길동,010-1234-5678
+                김철수,010-9876-5432
+                """);
+        when(recipientRepository.findContactsByPhoneE164s(eq(1), any()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(new RecipientContact(100, "홍길동", "010-1234-5678", "+821012345678")));
+        when(jdbcTemplate.batchUpdate(eq(RecipientImportService.INSERT_SQL), anyList()))
+                .thenThrow(new DuplicateKeyException("uk_recipient_ws_phone_e164_live"))
+                .thenReturn(new int[]{1});
+
+        // when
+        RecipientResponse.ImportResultDTO result = importAndWait(file, 1, null, 3);
+
+        // then
+        assertThat(result.importedCount()).isEqualTo(1);
+        assertThat(result.duplicateCount()).isEqualTo(1);
+        assertThat(result.errorCount()).isZero();
+
+        ArgumentCaptor<List<Object[]>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(RecipientImportService.INSERT_SQL), inserts.capture());
+        assertThat(inserts.getAllValues().get(1)).singleElement()
+                .satisfies(args -> assertThat(args).startsWith("김철수"));
+    }
+
+    @Test
+    @DisplayName("헤더에 이름 또는 전화번호 열이 없으면 작업을 실패로 표시하고 아무것도 저장하지 않는다")
+    void importRecipients_missingHeader() {
+        // given
+        MockMultipartFile file = csv("""
+                이름,메모
+                홍길동,VIP
+                """);
+
+        // when
+        RecipientResponse.ImportJobDTO started = recipientImportService.startImport(file, 1, null, 3);
+
+        // then
+        RecipientResponse.ImportJobDTO job = recipientImportService.getImportJob(1, 3, started.jobId());
+        assertThat(job.status()).isEqualTo(RecipientResponse.ImportJobStatus.FAILED);
+        assertThat(job.errorMessage()).contains("'이름'과 '전화번호'");
+        assertThat(job.result()).isNull();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("빈 파일은 작업을 접수하지 않는다")
+    void startImport_emptyFile() {
+        // given
+        MockMultipartFile file = csv("");
+
+        // when & then
+        assertThatThrownBy(() -> recipientImportService.startImport(file, 1, null, 3))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("비어 있습니다");
+        verify(workspaceValidator, never()).validateAndGetWorkspace(any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 가져오기 작업은 조회할 수 없다")
+    void getImportJob_otherUser() {
+        // given
+        RecipientResponse.ImportJobDTO started = recipientImportService.startImport(csv("""
+                이름,전화번호
+                """), 1, null, 3);
+
+        // when & then
+        assertThatThrownBy(() -> recipientImportService.getImportJob(1, 4, started.jobId()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("존재하지 않는 수신자 가져오기 작업");
+    }
+
+    /**
+     * 작업을 접수하고(이벤트는 호출 스레드에서 바로 처리됨) 완료된 작업의 결과를 반환한다.
+     */
+    private RecipientResponse.ImportResultDTO importAndWait(MockMultipartFile file, Integer workspaceId,
+                                                           Integer phoneBookId, Integer userId) {
+        RecipientResponse.ImportJobDTO started = recipientImportService.startImport(file, workspaceId, phoneBookId, userId);
+        RecipientResponse.ImportJobDTO job = recipientImportService.getImportJob(workspaceId, userId, started.jobId());
+        assertThat(job.status()).isEqualTo(RecipientResponse.ImportJobStatus.COMPLETED);
+        assertThat(job.processedRows()).isEqualTo(job.result().totalRows());
+        return job.result();
+    }
+
+    private static MockMultipartFile csv(String content) {
+        return new MockMultipartFile("file", "recipients.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
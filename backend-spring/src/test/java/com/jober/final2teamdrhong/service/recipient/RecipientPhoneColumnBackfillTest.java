@@ -0,0 +1,97 @@
+package com.jober.final2teamdrhong.service.recipient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecipientPhoneColumnBackfillTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private RecipientPhoneColumnBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        backfill = new RecipientPhoneColumnBackfill(jdbcTemplate, 2);
+    }
+
+    @Test
+    @DisplayName("수신자 ID 키셋으로 청크를 읽어 E.164 형식과 뒤집은 번호를 배치로 채우고, 전화번호로 볼 수 없는 값은 E.164 형식만 비운다")
+    @SuppressWarnings("unchecked")
+    void backfill_updatesInChunks() {
+        // given: 첫 청크는 가득 차 있고(2행) 두 번째 청크에서 끝남
+        when(jdbcTemplate.query(eq(RecipientPhoneColumnBackfill.SELECT_SQL), any(RowMapper.class), eq(0), eq(2)))
+                .thenAnswer(invocation -> map(invocation.getArgument(1), row(1, "01012345678"), row(2, "12345")));
+        when(jdbcTemplate.query(eq(RecipientPhoneColumnBackfill.SELECT_SQL), any(RowMapper.class), eq(2), eq(2)))
+                .thenAnswer(invocation -> map(invocation.getArgument(1), row(5, "02-123-4567")));
+
+        // when
+        backfill.backfill();
+
+        // then
+        ArgumentCaptor<List<Object[]>> updates = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(RecipientPhoneColumnBackfill.UPDATE_SQL), updates.capture());
+        assertThat(updates.getAllValues().get(0)).containsExactly(
+                new Object[]{"+821012345678", "87654321010", 1},
+                new Object[]{null, "54321", 2});
+        assertThat(updates.getAllValues().get(1)).containsExactly(
+                new Object[]{"+8221234567", "765432120", 5});
+    }
+
+    @Test
+    @DisplayName("유니크 키와 충돌하면 한 행씩 다시 갱신하며, 충돌한 행은 뒤집은 번호만 채운다")
+    @SuppressWarnings("unchecked")
+    void backfill_skipsConflictingE164() {
+        // given
+        when(jdbcTemplate.query(eq(RecipientPhoneColumnBackfill.SELECT_SQL), any(RowMapper.class), eq(0), eq(2)))
+                .thenAnswer(invocation -> map(invocation.getArgument(1), row(1, "010-1234-5678")));
+        when(jdbcTemplate.batchUpdate(eq(RecipientPhoneColumnBackfill.UPDATE_SQL), anyList()))
+                .thenThrow(new DuplicateKeyException("uk_recipient_ws_phone_e164_live"));
+        when(jdbcTemplate.update(RecipientPhoneColumnBackfill.UPDATE_SQL, "+821012345678", "87654321010", 1))
+                .thenThrow(new DuplicateKeyException("uk_recipient_ws_phone_e164_live"));
+
+        // when
+        backfill.backfill();
+
+        // then
+        verify(jdbcTemplate).update(RecipientPhoneColumnBackfill.UPDATE_SQL, null, "87654321010", 1);
+    }
+
+    private static Object[] row(int recipientId, String phoneNumber) {
+        return new Object[]{recipientId, phoneNumber};
+    }
+
+    private static <T> List<T> map(RowMapper<T> rowMapper, Object[]... rows) throws SQLException {
+        List<T> mapped = new ArrayList<>();
+        for (int i = 0; i < rows.length; i++) {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getInt("recipient_id")).thenReturn((Integer) rows[i][0]);
+            when(rs.getString("recipient_phone_number")).thenReturn((String) rows[i][1]);
+            mapped.add(rowMapper.mapRow(rs, i));
+        }
+        return mapped;
+    }
+}
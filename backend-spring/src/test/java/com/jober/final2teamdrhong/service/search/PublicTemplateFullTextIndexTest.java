@@ -0,0 +1,114 @@
+package com.jober.final2teamdrhong.service.search;
+
+import com.jober.final2teamdrhong.dto.publicTemplate.PublicTemplateSearchRequest;
+import com.jober.final2teamdrhong.repository.PublicTemplateFullTextSchema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PublicTemplateFullTextIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("키워드의 각 단어를 모두 포함하는 불리언 검색식으로 변환하고 연산자 문자는 제거한다")
+    void buildBooleanQuery_requiresEveryTerm() {
+        assertThat(PublicTemplateFullTextIndex.buildBooleanQuery("  회의실 \"예약\"-안내 "))
+                .contains("+\"회의실\" +\"예약안내\"");
+    }
+
+    @Test
+    @DisplayName("ngram 토큰보다 짧은 단어가 있으면 FULLTEXT 검색식을 만들지 않는다")
+    void buildBooleanQuery_shortTerm() {
+        assertThat(PublicTemplateFullTextIndex.buildBooleanQuery("회 의")).isEmpty();
+        assertThat(PublicTemplateFullTextIndex.buildBooleanQuery("회의 +")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("MySQL이 아니면 인덱스를 만들지 않고 LIKE 검색을 사용하도록 빈 검색식을 반환한다")
+    void initialize_nonMySql() {
+        // given
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+        PublicTemplateFullTextIndex index = new PublicTemplateFullTextIndex(jdbcTemplate, true);
+
+        // when
+        index.initialize();
+
+        // then
+        assertThat(index.isAvailable()).isFalse();
+        assertThat(index.toBooleanQuery(search("회의"))).isEmpty();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("MySQL에 검색 대상별 FULLTEXT 인덱스가 모두 있으면 DDL 없이 검색식을 반환한다")
+    void initialize_mySqlWithIndexes() {
+        // given
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("MySQL");
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(PublicTemplateFullTextSchema.TABLE)))
+                .thenReturn(List.of("ft_public_template_title", "ft_public_template_content", "ft_public_template_title_content"));
+        PublicTemplateFullTextIndex index = new PublicTemplateFullTextIndex(jdbcTemplate, true);
+
+        // when
+        index.initialize();
+
+        // then
+        assertThat(index.isAvailable()).isTrue();
+        assertThat(index.toBooleanQuery(search("회의"))).contains("+\"회의\"");
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("MySQL이어도 인덱스가 하나라도 없으면 만들지 않고 LIKE 검색을 사용한다")
+    void initialize_mySqlMissingIndex() {
+        // given
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("MySQL");
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(PublicTemplateFullTextSchema.TABLE)))
+                .thenReturn(List.of("ft_public_template_title"));
+        PublicTemplateFullTextIndex index = new PublicTemplateFullTextIndex(jdbcTemplate, true);
+
+        // when
+        index.initialize();
+
+        // then
+        assertThat(index.isAvailable()).isFalse();
+        assertThat(index.toBooleanQuery(search("회의"))).isEmpty();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("설정으로 비활성화하면 DB를 확인하지 않는다")
+    void initialize_disabled() {
+        // given
+        PublicTemplateFullTextIndex index = new PublicTemplateFullTextIndex(jdbcTemplate, false);
+
+        // when
+        index.initialize();
+
+        // then
+        assertThat(index.isAvailable()).isFalse();
+        verify(jdbcTemplate, never()).execute(any(ConnectionCallback.class));
+    }
+
+    private static PublicTemplateSearchRequest search(String keyword) {
+        PublicTemplateSearchRequest search = new PublicTemplateSearchRequest();
+        search.setKeyword(keyword);
+        return search;
+    }
+}
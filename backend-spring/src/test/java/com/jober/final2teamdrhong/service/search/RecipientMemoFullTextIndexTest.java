@@ -0,0 +1,95 @@
+package com.jober.final2teamdrhong.service.search;
+
+import com.jober.final2teamdrhong.repository.RecipientFullTextSchema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecipientMemoFullTextIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("MySQL이 아니면 인덱스를 확인하지 않고 LIKE 검색을 사용하도록 빈 검색식을 반환한다")
+    void initialize_nonMySql() {
+        // given
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+        RecipientMemoFullTextIndex index = new RecipientMemoFullTextIndex(jdbcTemplate, true);
+
+        // when
+        index.initialize();
+
+        // then
+        assertThat(index.isAvailable()).isFalse();
+        assertThat(index.toBooleanQuery("단골 고객")).isEmpty();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("MySQL이어도 인덱스가 없으면 만들지 않고 LIKE 검색을 사용한다")
+    void initialize_mySqlMissingIndex() {
+        // given
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("MySQL");
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(RecipientFullTextSchema.TABLE)))
+                .thenReturn(List.of());
+        RecipientMemoFullTextIndex index = new RecipientMemoFullTextIndex(jdbcTemplate, true);
+
+        // when
+        index.initialize();
+
+        // then
+        assertThat(index.isAvailable()).isFalse();
+        assertThat(index.toBooleanQuery("단골 고객")).isEmpty();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("MySQL에 인덱스가 있으면 사용하고 메모 키워드를 불리언 검색식으로 변환한다")
+    void initialize_mySqlExistingIndex() {
+        // given
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("MySQL");
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(RecipientFullTextSchema.TABLE)))
+                .thenReturn(List.of(RecipientFullTextSchema.INDEX_NAME));
+        RecipientMemoFullTextIndex index = new RecipientMemoFullTextIndex(jdbcTemplate, true);
+
+        // when
+        index.initialize();
+
+        // then
+        assertThat(index.isAvailable()).isTrue();
+        assertThat(index.toBooleanQuery("단골 고객")).contains("+\"단골\" +\"고객\"");
+        assertThat(index.toBooleanQuery("단골 A")).isEmpty();
+        assertThat(index.toBooleanQuery(" ")).isEmpty();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("설정으로 비활성화하면 DB를 확인하지 않는다")
+    void initialize_disabled() {
+        // given
+        RecipientMemoFullTextIndex index = new RecipientMemoFullTextIndex(jdbcTemplate, false);
+
+        // when
+        index.initialize();
+
+        // then
+        assertThat(index.isAvailable()).isFalse();
+        verify(jdbcTemplate, never()).execute(any(ConnectionCallback.class));
+    }
+}
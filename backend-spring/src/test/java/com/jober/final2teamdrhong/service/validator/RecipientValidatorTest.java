@@ -16,6 +16,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -93,8 +94,8 @@ class RecipientValidatorTest {
         String recipientPhoneNumber = "010-2222-2222";
 
         // 2. Mock Repository의 동작을 정의합니다: 중복이 없으므로 false를 반환하도록 설정합니다.
-        when(recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneNumber(
-                mockWorkspace, recipientName, recipientPhoneNumber))
+        when(recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneE164(
+                mockWorkspace, recipientName, "+821022222222"))
                 .thenReturn(false);
 
         // when & then
@@ -105,17 +106,17 @@ class RecipientValidatorTest {
     }
 
     @Test
-    @DisplayName("중복 수신자 검증 실패 테스트 - 중복이 존재하는 경우")
+    @DisplayName("중복 수신자 검증 실패 테스트 - 표기만 다른 같은 번호의 수신자가 존재하는 경우")
     void validateNoDuplicateRecipientExists_Fail_DuplicateExists_Test() {
         // given
-        // 1. 테스트용 워크스페이스를 생성합니다.
+        // 1. 테스트용 워크스페이스를 생성합니다. 전화번호는 하이픈 없이 입력합니다.
         Workspace mockWorkspace = mock(Workspace.class);
         String recipientName = "이영희";
-        String recipientPhoneNumber = "010-3333-3333";
+        String recipientPhoneNumber = "01033333333";
 
-        // 2. Mock Repository의 동작을 정의합니다: 중복이 존재하므로 true를 반환하도록 설정합니다.
-        when(recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneNumber(
-                mockWorkspace, recipientName, recipientPhoneNumber))
+        // 2. Mock Repository의 동작을 정의합니다: E.164 형식으로 조회했을 때 중복이 존재하므로 true를 반환하도록 설정합니다.
+        when(recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneE164(
+                mockWorkspace, recipientName, "+821033333333"))
                 .thenReturn(true);
 
         // when & then
@@ -131,47 +132,103 @@ class RecipientValidatorTest {
     @DisplayName("수정 시 중복 수신자 검증 성공 테스트 - 중복이 없는 경우")
     void validateNoDuplicateRecipientExistsOnUpdate_Success_NoDuplicate_Test() {
         // given
-        // 1. 테스트용 워크스페이스를 생성합니다.
+        // 1. 테스트용 워크스페이스와 수정 중인 수신자를 생성합니다.
         Workspace mockWorkspace = mock(Workspace.class);
         String recipientName = "김철수";
         String recipientPhoneNumber = "010-2222-2222";
         Integer recipientId = 1;
+        Recipient recipient = Recipient.builder()
+                .recipientId(recipientId)
+                .recipientName("홍길동")
+                .recipientPhoneNumber("010-1111-1111")
+                .workspace(mockWorkspace)
+                .build();
 
         // 2. Mock Repository의 동작을 정의합니다: 자기 자신을 제외하고 중복이 없으므로 false를 반환하도록 설정합니다.
-        when(recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneNumberAndRecipientIdNot(
-                mockWorkspace, recipientName, recipientPhoneNumber, recipientId))
+        when(recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneE164AndRecipientIdNot(
+                mockWorkspace, recipientName, "+821022222222", recipientId))
                 .thenReturn(false);
 
         // when & then
         // 1. 중복이 없을 경우 예외가 발생하지 않아야 합니다.
         org.junit.jupiter.api.Assertions.assertDoesNotThrow(() ->
-                recipientValidator.validateNoDuplicateRecipientExistsOnUpdate(mockWorkspace, recipientName, recipientPhoneNumber, recipientId));
+                recipientValidator.validateNoDuplicateRecipientExistsOnUpdate(recipient, recipientName, recipientPhoneNumber));
     }
 
     @Test
     @DisplayName("수정 시 중복 수신자 검증 실패 테스트 - 다른 수신자와 중복")
     void validateNoDuplicateRecipientExistsOnUpdate_Fail_DuplicateWithOther_Test() {
         // given
-        // 1. 테스트용 워크스페이스를 생성합니다.
+        // 1. 테스트용 워크스페이스와 수정 중인 수신자를 생성합니다.
         Workspace mockWorkspace = mock(Workspace.class);
         String recipientName = "이영희";
         String recipientPhoneNumber = "010-3333-3333";
         Integer recipientId = 1;
+        Recipient recipient = Recipient.builder()
+                .recipientId(recipientId)
+                .recipientName("홍길동")
+                .recipientPhoneNumber("010-1111-1111")
+                .workspace(mockWorkspace)
+                .build();
 
         // 2. Mock Repository의 동작을 정의합니다: 자기 자신을 제외하고 중복이 존재하므로 true를 반환하도록 설정합니다.
-        when(recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneNumberAndRecipientIdNot(
-                mockWorkspace, recipientName, recipientPhoneNumber, recipientId))
+        when(recipientRepository.existsByWorkspaceAndRecipientNameAndRecipientPhoneE164AndRecipientIdNot(
+                mockWorkspace, recipientName, "+821033333333", recipientId))
                 .thenReturn(true);
 
         // when & then
         // 1. validator 메서드 호출 시 IllegalArgumentException이 발생하는 것을 검증합니다.
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
-                () -> recipientValidator.validateNoDuplicateRecipientExistsOnUpdate(mockWorkspace, recipientName, recipientPhoneNumber, recipientId));
+                () -> recipientValidator.validateNoDuplicateRecipientExistsOnUpdate(recipient, recipientName, recipientPhoneNumber));
 
         // 2. 발생한 예외의 메시지가 예상과 정확히 일치하는지 확인합니다.
         assertThat(exception.getMessage()).isEqualTo("해당 정보와 동일한 다른 수신자가 이미 존재합니다.");
     }
 
+    @Test
+    @DisplayName("수정 시 중복 수신자 검증 성공 테스트 - 정규화할 수 없는 기존 번호를 바꾸지 않은 경우")
+    void validateNoDuplicateRecipientExistsOnUpdate_Success_UnchangedUnnormalizablePhoneNumber_Test() {
+        // given
+        // 1. 대표번호(1588-xxxx)를 가진 수신자를 준비합니다.
+        Recipient recipient = Recipient.builder()
+                .recipientId(1)
+                .recipientName("홍길동")
+                .recipientPhoneNumber("1588-1234")
+                .workspace(mock(Workspace.class))
+                .build();
+
+        // when & then
+        // 1. 번호를 바꾸지 않으면 형식 검증 없이 통과하고, E.164 값이 없으므로 중복 조회도 하지 않아야 합니다.
+        org.junit.jupiter.api.Assertions.assertDoesNotThrow(() ->
+                recipientValidator.validateNoDuplicateRecipientExistsOnUpdate(recipient, "김길동", "1588-1234"));
+        verifyNoInteractions(recipientRepository);
+    }
+
+    @Test
+    @DisplayName("중복 수신자 검증 실패 테스트 - 전화번호 형식이 올바르지 않은 경우")
+    void validateNoDuplicateRecipientExists_Fail_InvalidPhoneNumber_Test() {
+        // given
+        // 1. 전화번호로 볼 수 없는 값을 준비합니다.
+        Workspace mockWorkspace = mock(Workspace.class);
+
+        // when & then
+        // 1. 생성과 수정 모두 중복 조회 전에 IllegalArgumentException이 발생하는 것을 검증합니다.
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> recipientValidator.validateNoDuplicateRecipientExists(mockWorkspace, "김철수", "12345"));
+        Recipient recipient = Recipient.builder()
+                .recipientId(1)
+                .recipientName("김철수")
+                .recipientPhoneNumber("010-1111-1111")
+                .workspace(mockWorkspace)
+                .build();
+        assertThrows(IllegalArgumentException.class,
+                () -> recipientValidator.validateNoDuplicateRecipientExistsOnUpdate(recipient, "김철수", "12345"));
+
+        // 2. 발생한 예외의 메시지를 확인하고, 저장소는 조회하지 않았는지 검증합니다.
+        assertThat(exception.getMessage()).isEqualTo("전화번호 형식이 올바르지 않습니다.");
+        verifyNoInteractions(recipientRepository);
+    }
+
     @Test
     @DisplayName("수신자 일괄 검증 및 조회 성공 테스트")
     void validateAndGetRecipients_Success_Test() {
@@ -0,0 +1,211 @@
+package com.jober.final2teamdrhong.service.validator;
+
+import com.jober.final2teamdrhong.repository.WorkspaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WorkspaceAccessCacheTest {
+
+    @Mock
+    private WorkspaceRepository workspaceRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private MutableClock clock;
+
+    private WorkspaceAccessCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        cache = new WorkspaceAccessCache(workspaceRepository, stringRedisTemplate, 60000, 2, clock);
+    }
+
+    @Test
+    @DisplayName("사용자의 소유 워크스페이스를 한 번 읽은 뒤에는 메모리 집합으로 검증하고 적중률을 기록한다")
+    void findOwnership_loadsOnceAndCountsHits() {
+        // given
+        when(workspaceRepository.findWorkspaceIdsByUser_UserId(1)).thenReturn(List.of(10, 11));
+
+        // when & then
+        assertThat(cache.findOwnership(1, 10)).contains(true);
+        assertThat(cache.findOwnership(1, 11)).contains(true);
+        // 캐시된 집합에 없으면 그 사이 생성되었을 수 있으므로 판단하지 않는다
+        assertThat(cache.findOwnership(1, 99)).isEmpty();
+        verify(workspaceRepository, times(1)).findWorkspaceIdsByUser_UserId(1);
+
+        WorkspaceAccessCache.Stats stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(2);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hitRatio()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    @DisplayName("워크스페이스 삭제가 커밋되면 다음 검증부터 바로 접근할 수 없다")
+    void onWorkspaceChanged_deletedWorkspaceLosesAccessImmediately() {
+        // given
+        when(workspaceRepository.findWorkspaceIdsByUser_UserId(1))
+                .thenReturn(List.of(10, 11))
+                .thenReturn(List.of(11));
+        assertThat(cache.findOwnership(1, 10)).contains(true);
+
+        // when
+        cache.onWorkspaceChanged(WorkspaceChangedEvent.deleted(10, 1));
+
+        // then: TTL이 남아 있어도 삭제된 워크스페이스는 바로 거부되고, 다른 인스턴스에도 무효화를 알린다
+        assertThat(cache.findOwnership(1, 10)).contains(false);
+        assertThat(cache.findOwnership(1, 11)).contains(true);
+        verify(workspaceRepository, times(2)).findWorkspaceIdsByUser_UserId(1);
+        verify(stringRedisTemplate).convertAndSend(WorkspaceAccessCache.INVALIDATION_CHANNEL, "1");
+    }
+
+    @Test
+    @DisplayName("워크스페이스 생성이 커밋되면 새 워크스페이스를 바로 검증할 수 있다")
+    void onWorkspaceChanged_createdWorkspaceIsVisible() {
+        // given
+        when(workspaceRepository.findWorkspaceIdsByUser_UserId(1))
+                .thenReturn(List.of(10))
+                .thenReturn(List.of(10, 12));
+        assertThat(cache.findOwnership(1, 12)).contains(false);
+
+        // when
+        cache.onWorkspaceChanged(WorkspaceChangedEvent.created(12, 1));
+
+        // then
+        assertThat(cache.findOwnership(1, 12)).contains(true);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화 메시지를 받으면 사용자의 항목을 제거한다")
+    void onMessage_evictsUser() {
+        // given
+        when(workspaceRepository.findWorkspaceIdsByUser_UserId(1))
+                .thenReturn(List.of(10))
+                .thenReturn(List.of());
+        assertThat(cache.findOwnership(1, 10)).contains(true);
+
+        // when
+        cache.onMessage(new DefaultMessage(
+                WorkspaceAccessCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(cache.findOwnership(1, 10)).contains(false);
+        verify(workspaceRepository, times(2)).findWorkspaceIdsByUser_UserId(1);
+    }
+
+    @Test
+    @DisplayName("무효화 발행이 실패해도 이 인스턴스의 항목은 제거된다")
+    void onWorkspaceChanged_publishFailure() {
+        // given
+        when(workspaceRepository.findWorkspaceIdsByUser_UserId(1))
+                .thenReturn(List.of(10))
+                .thenReturn(List.of());
+        cache.findOwnership(1, 10);
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(stringRedisTemplate).convertAndSend(WorkspaceAccessCache.INVALIDATION_CHANNEL, "1");
+
+        // when
+        cache.onWorkspaceChanged(WorkspaceChangedEvent.deleted(10, 1));
+
+        // then
+        assertThat(cache.findOwnership(1, 10)).contains(false);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 읽어 온 집합을 캐시에 남기지 않는다")
+    void findOwnership_invalidatedWhileLoading() {
+        // given: 조회 중 다른 스레드에서 삭제가 커밋된 상황
+        when(workspaceRepository.findWorkspaceIdsByUser_UserId(1))
+                .thenAnswer(invocation -> {
+                    cache.onWorkspaceChanged(WorkspaceChangedEvent.deleted(10, 1));
+                    return List.of(10);
+                })
+                .thenReturn(List.of());
+
+        // when
+        cache.findOwnership(1, 10);
+
+        // then: 다음 검증은 DB에서 다시 읽는다
+        assertThat(cache.findOwnership(1, 10)).contains(false);
+        verify(workspaceRepository, times(2)).findWorkspaceIdsByUser_UserId(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 DB에서 다시 읽는다")
+    void findOwnership_reloadsAfterTtl() {
+        // given
+        when(workspaceRepository.findWorkspaceIdsByUser_UserId(1)).thenReturn(List.of(10));
+        cache.findOwnership(1, 10);
+
+        // when
+        clock.advance(Duration.ofMillis(60000));
+        cache.findOwnership(1, 10);
+
+        // then
+        verify(workspaceRepository, times(2)).findWorkspaceIdsByUser_UserId(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 0이면 캐시를 사용하지 않는다")
+    void disabledWhenTtlIsZero() {
+        // given
+        WorkspaceAccessCache disabled = new WorkspaceAccessCache(workspaceRepository, stringRedisTemplate, 0, 2, clock);
+
+        // when & then
+        assertThat(disabled.findOwnership(1, 10)).isEmpty();
+        verify(workspaceRepository, never()).findWorkspaceIdsByUser_UserId(anyInt());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.jober.final2teamdrhong.service.validator;
 
+import com.jober.final2teamdrhong.entity.IndividualTemplate;
 import com.jober.final2teamdrhong.entity.User;
 import com.jober.final2teamdrhong.entity.Workspace;
+import com.jober.final2teamdrhong.repository.IndividualTemplateRepository;
 import com.jober.final2teamdrhong.repository.WorkspaceRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,7 +16,10 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +28,12 @@ class WorkspaceValidatorTest {
     @Mock
     private WorkspaceRepository workspaceRepository;
 
+    @Mock
+    private IndividualTemplateRepository individualTemplateRepository;
+
+    @Mock
+    private WorkspaceAccessCache workspaceAccessCache;
+
     @InjectMocks
     private WorkspaceValidator workspaceValidator;
 
@@ -102,6 +113,47 @@ class WorkspaceValidatorTest {
         assertThat(result.getWorkspaceName()).isEqualTo("테스트 워크스페이스");
         // 4. 반환된 워크스페이스의 소유자가 예상과 일치하는지 확인합니다.
         assertThat(result.getUser()).isEqualTo(mockUser);
+        // 5. 캐시에 없던 소유 관계가 DB에서 확인되었으므로 사용자의 캐시 항목을 비웠는지 확인합니다.
+        verify(workspaceAccessCache).evictUser(userId);
+    }
+
+    @Test
+    @DisplayName("워크스페이스 검증 성공 테스트 - 캐시된 소유 워크스페이스면 DB를 조회하지 않음")
+    void validateAndGetWorkspace_Success_CachedOwnership_Test() {
+        // given
+        // 1. 사용자의 소유 워크스페이스 캐시에 포함되어 있다고 설정합니다.
+        Integer workspaceId = 1;
+        Integer userId = 1;
+        Workspace workspace = mock(Workspace.class);
+        when(workspaceAccessCache.findOwnership(userId, workspaceId)).thenReturn(Optional.of(true));
+        when(workspaceRepository.getReferenceById(workspaceId)).thenReturn(workspace);
+
+        // when
+        Workspace result = workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
+
+        // then
+        // 1. 지연 로딩 참조를 반환하고, 조회 쿼리는 실행하지 않아야 합니다.
+        assertThat(result).isSameAs(workspace);
+        verify(workspaceRepository, never()).findById(anyInt());
+        verify(workspaceRepository, never()).findByWorkspaceIdAndUser_UserId(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("워크스페이스 검증 실패 테스트 - 방금 읽은 소유 집합에 없으면 DB를 다시 조회하지 않고 거부함")
+    void validateAndGetWorkspace_Fail_NotInLoadedOwnership_Test() {
+        // given
+        // 1. 캐시가 DB에서 방금 읽은 소유 집합에 워크스페이스가 없다고 설정합니다. (삭제되었거나 다른 사용자의 워크스페이스)
+        Integer workspaceId = 1;
+        Integer userId = 1;
+        when(workspaceAccessCache.findOwnership(userId, workspaceId)).thenReturn(Optional.of(false));
+
+        // when
+        Throwable thrown = catchThrowable(() -> workspaceValidator.validateAndGetWorkspace(workspaceId, userId));
+
+        // then
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("워크스페이스를 찾을 수 없거나 접근권한이 없습니다");
+        verify(workspaceRepository, never()).findByWorkspaceIdAndUser_UserId(anyInt(), anyInt());
     }
 
     @Test
@@ -127,6 +179,51 @@ class WorkspaceValidatorTest {
         assertThat(thrown.getMessage()).isEqualTo("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: " + workspaceId);
     }
 
+    @Test
+    @DisplayName("템플릿 접근 검증 성공 테스트 - 한 번의 조인 쿼리로 템플릿을 조회함")
+    void validateTemplateAccess_Success_Test() {
+        // given
+        IndividualTemplate template = mock(IndividualTemplate.class);
+        when(individualTemplateRepository.findAccessibleTemplate(10, 1, 7)).thenReturn(Optional.of(template));
+
+        // when
+        IndividualTemplate result = workspaceValidator.validateTemplateAccess(1, 10, 7);
+
+        // then
+        assertThat(result).isSameAs(template);
+        verify(workspaceRepository, never()).findByWorkspaceIdAndUser_UserId(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("템플릿 접근 검증 실패 테스트 - 워크스페이스 권한이 없으면 워크스페이스 예외 메시지를 반환함")
+    void validateTemplateAccess_Fail_NoWorkspaceAccess_Test() {
+        // given
+        when(individualTemplateRepository.findAccessibleTemplate(10, 99, 7)).thenReturn(Optional.empty());
+        when(workspaceRepository.findByWorkspaceIdAndUser_UserId(99, 7)).thenReturn(Optional.empty());
+
+        // when
+        Throwable thrown = catchThrowable(() -> workspaceValidator.validateTemplateAccess(99, 10, 7));
+
+        // then
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+        assertThat(thrown.getMessage()).isEqualTo("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: " + 99);
+    }
+
+    @Test
+    @DisplayName("템플릿 접근 검증 실패 테스트 - 워크스페이스 권한은 있지만 템플릿이 없으면 템플릿 예외 메시지를 반환함")
+    void validateTemplateAccess_Fail_TemplateNotFound_Test() {
+        // given
+        when(individualTemplateRepository.findAccessibleTemplate(10, 1, 7)).thenReturn(Optional.empty());
+        when(workspaceRepository.findByWorkspaceIdAndUser_UserId(1, 7)).thenReturn(Optional.of(mock(Workspace.class)));
+
+        // when
+        Throwable thrown = catchThrowable(() -> workspaceValidator.validateTemplateAccess(1, 10, 7));
+
+        // then
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+        assertThat(thrown.getMessage()).isEqualTo("해당 워크스페이스에 존재하지 않는 템플릿입니다.");
+    }
+
     @Test
     @DisplayName("워크스페이스 수정 시 URL 중복 검증 성공 테스트 - URL이 변경되지 않음")
     void validateUrlOnUpdate_Success_UrlNotChanged_Test() {
@@ -0,0 +1,55 @@
+package com.jober.final2teamdrhong.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PhoneNumberNormalizerTest {
+
+    @Test
+    @DisplayName("다양한 형식의 휴대폰 번호를 010-1234-5678 형식으로 정규화한다")
+    void normalize_mobileNumbers() {
+        assertThat(PhoneNumberNormalizer.normalize("01012345678")).isEqualTo("010-1234-5678");
+        assertThat(PhoneNumberNormalizer.normalize("010 1234 5678")).isEqualTo("010-1234-5678");
+        assertThat(PhoneNumberNormalizer.normalize("+82 10-1234-5678")).isEqualTo("010-1234-5678");
+        assertThat(PhoneNumberNormalizer.normalize("011-123-4567")).isEqualTo("011-123-4567");
+        // 엑셀 숫자 셀에서 앞자리 0이 빠진 경우
+        assertThat(PhoneNumberNormalizer.normalize("1012345678")).isEqualTo("010-1234-5678");
+    }
+
+    @Test
+    @DisplayName("서울 지역번호는 두 자리로 구분한다")
+    void normalize_seoulNumbers() {
+        assertThat(PhoneNumberNormalizer.normalize("021234567")).isEqualTo("02-123-4567");
+        assertThat(PhoneNumberNormalizer.normalize("(02) 1234-5678")).isEqualTo("02-1234-5678");
+    }
+
+    @Test
+    @DisplayName("전화번호로 볼 수 없는 값은 null을 반환한다")
+    void normalize_invalid() {
+        assertThat(PhoneNumberNormalizer.normalize(null)).isNull();
+        assertThat(PhoneNumberNormalizer.normalize("")).isNull();
+        assertThat(PhoneNumberNormalizer.normalize("12345")).isNull();
+        assertThat(PhoneNumberNormalizer.normalize("+1 415-555-0100")).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 번호의 여러 표기를 하나의 E.164 형식으로 정규화한다")
+    void toE164() {
+        assertThat(PhoneNumberNormalizer.toE164("010-1234-5678")).isEqualTo("+821012345678");
+        assertThat(PhoneNumberNormalizer.toE164("01012345678")).isEqualTo("+821012345678");
+        assertThat(PhoneNumberNormalizer.toE164("+82 10 1234 5678")).isEqualTo("+821012345678");
+        assertThat(PhoneNumberNormalizer.toE164("02-123-4567")).isEqualTo("+8221234567");
+        assertThat(PhoneNumberNormalizer.toE164("12345")).isNull();
+    }
+
+    @Test
+    @DisplayName("뒷자리 검색용으로 숫자만 뒤집고, 길면 뒷자리 쪽만 남긴다")
+    void toReversedDigits() {
+        assertThat(PhoneNumberNormalizer.toReversedDigits("010-1234-5678")).isEqualTo("87654321010");
+        assertThat(PhoneNumberNormalizer.toReversedDigits("+82 10-1234-5678")).isEqualTo("876543210128");
+        assertThat(PhoneNumberNormalizer.toReversedDigits("123456789012345678901234")).isEqualTo("43210987654321098765");
+        assertThat(PhoneNumberNormalizer.toReversedDigits(null)).isNull();
+    }
+}
@@ -0,0 +1,85 @@
+package com.jober.final2teamdrhong.util;
+
+import com.jober.final2teamdrhong.config.AuthProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerificationCodeGeneratorTest {
+
+    @Test
+    @DisplayName("기본 설정으로 6자리 숫자 코드를 생성한다")
+    void generate_defaultSettings() {
+        // given
+        VerificationCodeGenerator generator = new VerificationCodeGenerator(new AuthProperties());
+
+        // when
+        String code = generator.generate();
+
+        // then
+        assertThat(code).matches("^[0-9]{6}$");
+    }
+
+    @Test
+    @DisplayName("지정한 길이와 문자 집합으로 코드를 생성한다")
+    void generate_customLengthAndAlphabet() {
+        // given
+        VerificationCodeGenerator generator = new VerificationCodeGenerator(6, "0123456789", 2);
+
+        // when
+        String code = generator.generate(8, "ABCDEF");
+
+        // then
+        assertThat(code).matches("^[A-F]{8}$");
+    }
+
+    @Test
+    @DisplayName("잘못된 길이나 문자 집합이면 예외가 발생한다")
+    void generate_invalidArguments() {
+        // given
+        VerificationCodeGenerator generator = new VerificationCodeGenerator(6, "0123456789", 1);
+
+        // when & then
+        assertThatThrownBy(() -> generator.generate(0, "0123456789"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> generator.generate(6, "0"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new VerificationCodeGenerator(6, "0123456789", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("가상 스레드에서 동시에 호출해도 형식이 올바른 코드를 생성한다")
+    void generate_concurrentOnVirtualThreads() throws Exception {
+        // given
+        VerificationCodeGenerator generator = new VerificationCodeGenerator(6, "0123456789", 4);
+        int tasks = 10_000;
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> futures = IntStream.range(0, tasks)
+                    .mapToObj(i -> executor.submit(() -> generator.generate()))
+                    .toList();
+            for (Future<String> future : futures) {
+                String code = future.get();
+                assertThat(code).matches("^[0-9]{6}$");
+                codes.add(code);
+            }
+        }
+
+        // then
+        // 10,000개를 100만 가지 공간에서 뽑으면 충돌은 수십 건 수준이므로 대부분 서로 달라야 함
+        assertThat(codes.size()).isGreaterThan(tasks * 9 / 10);
+    }
+}
@@ -13,6 +13,7 @@ export default function TemplateCard({ template, onDelete, onShare, onEdit, onUs
                   template.title?.trim()) || '제목 없음';
     const content = (template.individualTemplateContent?.trim() || 
                     template.publicTemplateContent?.trim() || 
+                    template.contentPreview?.trim() || 
                     template.content?.trim()) || '내용 없음';
     const buttonTitle = template.buttonTitle;
     const userRole = localStorage.getItem('userRole');
@@ -165,12 +165,12 @@ export default function FavoriteTemplatesPage() {
                                         ...(favoriteItem.templateType === 'INDIVIDUAL' && {
                                             individualTemplateId: favoriteItem.templateId,
                                             individualTemplateTitle: favoriteItem.templateTitle,
-                                            individualTemplateContent: favoriteItem.templateContent,
+                                            individualTemplateContent: favoriteItem.contentPreview,
                                         }),
                                         ...(favoriteItem.templateType === 'PUBLIC' && {
                                             publicTemplateId: favoriteItem.templateId,
                                             publicTemplateTitle: favoriteItem.templateTitle,
-                                            publicTemplateContent: favoriteItem.templateContent,
+                                            publicTemplateContent: favoriteItem.contentPreview,
                                             buttonTitle: favoriteItem.buttonTitle,
                                         }),
                                     };
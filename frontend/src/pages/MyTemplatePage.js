@@ -6,7 +6,7 @@ import Sidebar from '../components/layout/Sidebar';
 import SearchInput from "../components/common/SearchInput";
 import Pagination from "../components/common/Pagination";
 import TemplateCard from "../components/template/TemplateCard";
-import { listMyTemplates, deleteMyTemplate, shareMyTemplate, getMyTemplate, getTemplateHistories } from '../services/individualTemplateService';
+import { listMyTemplates, deleteMyTemplate, shareMyTemplate, getMyTemplate, getAllTemplateHistories } from '../services/individualTemplateService';
 import { addIndividualTemplateToFavorites, removeIndividualTemplateFromFavorites, getFavoriteTemplates } from '../services/favoriteService';
 import MainLayout from "../components/layout/MainLayout";
 
@@ -143,13 +143,12 @@ export default function TemplatePage() {
     const handleEdit = async (templateId) => {
         try {
             // 템플릿 기본 정보와 채팅 이력을 동시에 조회
-            const [templateResponse, historiesResponse] = await Promise.all([
+            const [templateResponse, histories] = await Promise.all([
                 getMyTemplate(workspaceId, templateId),
-                getTemplateHistories(workspaceId, templateId)
+                getAllTemplateHistories(workspaceId, templateId)
             ]);
 
             const templateData = templateResponse.data;
-            const histories = historiesResponse.data;
 
             // 템플릿 생성 페이지로 데이터와 함께 이동
             navigate(`/workspace/${workspaceId}/templategenerator/${templateId}`, {
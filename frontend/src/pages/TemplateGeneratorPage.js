@@ -5,7 +5,7 @@ import ChatArea from '../components/TemplateGenerator/ChatArea';
 import TemplatePreviewArea from '../components/TemplateGenerator/TemplatePreviewArea';
 import '../styles/TemplateGenerator.css';
 import apiAi from '../services/apiAi';
-import {getMyTemplate, createMyTemplate, updateMyTemplate, getTemplateHistories} from '../services/individualTemplateService';
+import {getMyTemplate, createMyTemplate, updateMyTemplate, getAllTemplateHistories} from '../services/individualTemplateService';
 
 function TemplateGeneratorPage() {
   const { workspaceId, templateId } = useParams();
@@ -52,21 +52,19 @@ function TemplateGeneratorPage() {
           // 기존 템플릿 불러오기
           console.log('기존 템플릿 불러오기 시작:', { workspaceId, templateId });
           if (!workspaceId || !templateId) return;
-          const [templateRes, historyRes] = await Promise.all([
+          const [templateRes, histories] = await Promise.all([
             getMyTemplate(workspaceId, templateId),
-            getTemplateHistories(workspaceId, templateId),
+            getAllTemplateHistories(workspaceId, templateId),
           ]);
 
           console.log('기존 템플릿 불러오기 응답:', templateRes.data);
           setTemplate(templateRes.data);
           setLatestTemplate(templateRes.data);
 
-          console.log('채팅 이력 불러오기 응답:', historyRes.data);
-          if (historyRes.data && historyRes.data.length > 0) {
-            // Sort by creation date to ensure correct chronological order
-            const sortedHistory = [...historyRes.data].sort((a, b) => new Date(a.createdAt) - new Date(b.createdAt));
-
-            const formattedHistory = sortedHistory.flatMap(turn => {
+          console.log('채팅 이력 불러오기 응답:', histories);
+          if (histories.length > 0) {
+            // 이력은 모든 페이지를 받아 오래된 순으로 정렬되어 있음
+            const formattedHistory = histories.flatMap(turn => {
               const messages = [];
               // User message
               if (turn.chatUser) {
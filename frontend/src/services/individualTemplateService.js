@@ -32,6 +32,26 @@ export const deleteMyTemplate = (workspaceId, templateId) =>
 export const shareMyTemplate = (workspaceId, templateId) =>
     api.post(`/${workspaceId}/templates/${templateId}/share`);
 
-/** 채팅 이력 조회 */
-export const getTemplateHistories = (workspaceId, templateId) =>
-    api.get(`/${workspaceId}/templates/${templateId}/histories`);
+/**
+ * 채팅 이력 조회 (한 페이지, 최신순)
+ * DTO: HistoryPageableRequest → 응답은 Page<HistoryResponse> ({ content, last, totalPages, ... })
+ */
+export const getTemplateHistories = (workspaceId, templateId, { page = 0, size = 100 } = {}) =>
+    api.get(`/${workspaceId}/templates/${templateId}/histories`, { params: { page, size } });
+
+/**
+ * 채팅 이력 전체 조회
+ * 마지막 페이지까지 차례로 받아 오래된 순으로 정렬한 배열을 반환
+ */
+export const getAllTemplateHistories = async (workspaceId, templateId) => {
+    const histories = [];
+    for (let page = 0; ; page++) {
+        const { data } = await getTemplateHistories(workspaceId, templateId, { page });
+        const content = data?.content || [];
+        histories.push(...content);
+        if (content.length === 0 || data.last || page + 1 >= (data.totalPages ?? 0)) {
+            break;
+        }
+    }
+    return histories.sort((a, b) => new Date(a.createdAt) - new Date(b.createdAt));
+};